@@ -242,6 +242,9 @@ public class ErrorGroups {
 
         /** Unsupported partition type. */
         public static final int UNSUPPORTED_PARTITION_TYPE_ERR = TABLE_ERR_GROUP.registerErrorCode((short) 6);
+
+        /** Changes requested by a change stream are not retained anymore. */
+        public static final int CHANGES_NOT_RETAINED_ERR = TABLE_ERR_GROUP.registerErrorCode((short) 7);
     }
 
     /** Client error group. */
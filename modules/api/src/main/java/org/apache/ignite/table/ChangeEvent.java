@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.table;
+
+/**
+ * Change of a table row, published by {@link Table#changes(ChangeStreamOptions)}.
+ */
+public interface ChangeEvent {
+    /**
+     * Gets the type of the change.
+     *
+     * @return Change type.
+     */
+    ChangeEventType type();
+
+    /**
+     * Gets the row: the new row for {@link ChangeEventType#INSERT} and {@link ChangeEventType#UPDATE}, the removed row for
+     * {@link ChangeEventType#DELETE}.
+     *
+     * @return Row.
+     */
+    Tuple row();
+
+    /**
+     * Gets the commit timestamp of the change, which can be passed to {@link ChangeStreamOptions.Builder#startTimestamp(long)} to resume
+     * the stream after this change.
+     *
+     * @return Commit timestamp of the change.
+     */
+    long timestamp();
+
+    /**
+     * Gets the partition of the row. Changes of a partition are published in the order of their commit timestamps.
+     *
+     * @return Partition number.
+     */
+    int partition();
+
+    /**
+     * Creates a new change event.
+     *
+     * @param type Change type.
+     * @param row Row.
+     * @param timestamp Commit timestamp of the change.
+     * @param partition Partition number.
+     * @return Change event.
+     */
+    static ChangeEvent of(ChangeEventType type, Tuple row, long timestamp, int partition) {
+        return new ChangeEvent() {
+            @Override
+            public ChangeEventType type() {
+                return type;
+            }
+
+            @Override
+            public Tuple row() {
+                return row;
+            }
+
+            @Override
+            public long timestamp() {
+                return timestamp;
+            }
+
+            @Override
+            public int partition() {
+                return partition;
+            }
+
+            @Override
+            public String toString() {
+                return "ChangeEvent [type=" + type + ", timestamp=" + timestamp + ", partition=" + partition + ", row=" + row + ']';
+            }
+        };
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.table;
+
+/**
+ * Options of a table change stream. See {@link Table#changes(ChangeStreamOptions)} for more information.
+ */
+public class ChangeStreamOptions {
+    /** Default options. */
+    public static final ChangeStreamOptions DEFAULT = builder().build();
+
+    private final long startTimestamp;
+
+    private final int pageSize;
+
+    private final int pollInterval;
+
+    /**
+     * Constructor.
+     *
+     * @param startTimestamp Start timestamp.
+     * @param pageSize Page size.
+     * @param pollInterval Poll interval.
+     */
+    private ChangeStreamOptions(long startTimestamp, int pageSize, int pollInterval) {
+        this.startTimestamp = startTimestamp;
+        this.pageSize = pageSize;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return Builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the timestamp the stream starts after: only changes committed after this timestamp are published. {@code 0} means that the
+     * stream starts from the changes committed after its subscription.
+     *
+     * @return Start timestamp.
+     */
+    public long startTimestamp() {
+        return startTimestamp;
+    }
+
+    /**
+     * Gets the page size (the maximum number of changes requested from a partition in one network call).
+     *
+     * @return Page size.
+     */
+    public int pageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Gets the poll interval, in milliseconds (the period of time after which the partitions are polled again when the previous poll
+     * returned no changes).
+     *
+     * @return Poll interval.
+     */
+    public int pollInterval() {
+        return pollInterval;
+    }
+
+    /**
+     * Builder.
+     */
+    public static class Builder {
+        private long startTimestamp;
+
+        private int pageSize = 1000;
+
+        private int pollInterval = 100;
+
+        /**
+         * Sets the timestamp the stream starts after. To resume a stream, pass {@link ChangeEvent#timestamp()} of the last processed
+         * change: the stream continues with the changes committed after it. Changes of one transaction share the commit timestamp, so
+         * they are either all published again or all skipped.
+         *
+         * <p>Changes are retained by the cluster until the low watermark passes them, a stream can't start before the low watermark.
+         *
+         * @param startTimestamp Start timestamp, {@code 0} to start from the changes committed after the subscription.
+         * @return This builder instance.
+         */
+        public Builder startTimestamp(long startTimestamp) {
+            if (startTimestamp < 0) {
+                throw new IllegalArgumentException("Start timestamp must not be negative: " + startTimestamp);
+            }
+
+            this.startTimestamp = startTimestamp;
+
+            return this;
+        }
+
+        /**
+         * Sets the page size (the maximum number of changes requested from a partition in one network call).
+         *
+         * @param pageSize Page size.
+         * @return This builder instance.
+         */
+        public Builder pageSize(int pageSize) {
+            if (pageSize <= 0) {
+                throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+            }
+
+            this.pageSize = pageSize;
+
+            return this;
+        }
+
+        /**
+         * Sets the poll interval, in milliseconds (the period of time after which the partitions are polled again when the previous poll
+         * returned no changes).
+         *
+         * @param pollInterval Poll interval, in milliseconds.
+         * @return This builder instance.
+         */
+        public Builder pollInterval(int pollInterval) {
+            if (pollInterval <= 0) {
+                throw new IllegalArgumentException("Poll interval must be positive: " + pollInterval);
+            }
+
+            this.pollInterval = pollInterval;
+
+            return this;
+        }
+
+        /**
+         * Builds the options.
+         *
+         * @return Change stream options.
+         */
+        public ChangeStreamOptions build() {
+            return new ChangeStreamOptions(startTimestamp, pageSize, pollInterval);
+        }
+    }
+}
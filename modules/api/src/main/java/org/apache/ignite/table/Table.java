@@ -17,6 +17,7 @@
 
 package org.apache.ignite.table;
 
+import java.util.concurrent.Flow.Publisher;
 import org.apache.ignite.table.mapper.Mapper;
 import org.apache.ignite.table.partition.PartitionManager;
 
@@ -118,4 +119,27 @@ public interface Table {
     default <K, V> KeyValueView<K, V> keyValueView(Class<K> keyCls, Class<V> valCls) {
         return keyValueView(Mapper.of(keyCls), Mapper.of(valCls));
     }
+
+    /**
+     * Gets a stream of the changes committed to the table.
+     *
+     * <p>Changes of every partition are published in the order of their commit timestamps, changes of different partitions are merged
+     * by their commit timestamps. A change is published once all the changes of its partition with lower commit timestamps are known,
+     * so the stream lags behind the most recent commits by the duration of the transactions in progress. The publisher supports a single
+     * subscriber, partitions are only polled while the subscriber has unfulfilled demand.
+     *
+     * @param options Change stream options.
+     * @return Publisher of the changes.
+     */
+    Publisher<ChangeEvent> changes(ChangeStreamOptions options);
+
+    /**
+     * Gets a stream of the changes committed to the table after the subscription, with the default options. See
+     * {@link #changes(ChangeStreamOptions)}.
+     *
+     * @return Publisher of the changes.
+     */
+    default Publisher<ChangeEvent> changes() {
+        return changes(ChangeStreamOptions.DEFAULT);
+    }
 }
@@ -198,6 +198,9 @@ public class ClientOp {
     /** Response to a server->client operation. */
     public static final int SERVER_OP_RESPONSE = 73;
 
+    /** Poll changes of a table partition. */
+    public static final int TABLE_CHANGES_POLL = 74;
+
     /** Reserved for extensions: min. */
     @SuppressWarnings("unused")
     public static final int RESERVED_EXTENSION_RANGE_START = 1000;
@@ -193,5 +193,10 @@ public enum ClientOperationType {
     /**
      * Get all primary replicas mapping to cluster nodes ({@link PartitionManager#primaryReplicasAsync()}).
      */
-    PRIMARY_REPLICAS_GET
+    PRIMARY_REPLICAS_GET,
+
+    /**
+     * Poll table changes ({@link org.apache.ignite.table.Table#changes}).
+     */
+    TABLE_CHANGES_POLL
 }
@@ -36,6 +36,7 @@ public class RetryReadPolicy extends RetryLimitPolicy {
             case TUPLE_GET:
             case TABLE_GET:
             case CHANNEL_CONNECT:
+            case TABLE_CHANGES_POLL:
                 return true;
 
             case TUPLE_UPSERT:
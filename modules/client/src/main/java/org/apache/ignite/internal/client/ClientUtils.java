@@ -207,6 +207,9 @@ public class ClientUtils {
             case ClientOp.SERVER_OP_RESPONSE:
                 return null;
 
+            case ClientOp.TABLE_CHANGES_POLL:
+                return ClientOperationType.TABLE_CHANGES_POLL;
+
             // Do not return null from default arm intentionally, so we don't forget to update this when new ClientOp values are added.
             default:
                 throw new UnsupportedOperationException("Invalid op code: " + opCode);
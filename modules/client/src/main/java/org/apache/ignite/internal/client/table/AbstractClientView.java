@@ -25,17 +25,23 @@ import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.function.Function;
+import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
+import org.apache.ignite.internal.client.proto.ClientOp;
 import org.apache.ignite.internal.client.sql.ClientSql;
 import org.apache.ignite.internal.sql.StatementBuilderImpl;
+import org.apache.ignite.internal.table.criteria.CriteriaKeyLookupUtil;
 import org.apache.ignite.internal.table.criteria.CursorAdapter;
+import org.apache.ignite.internal.table.criteria.KeyLookupAsyncCursor;
 import org.apache.ignite.internal.table.criteria.QueryCriteriaAsyncCursor;
 import org.apache.ignite.internal.table.criteria.SqlSerializer;
 import org.apache.ignite.lang.AsyncCursor;
 import org.apache.ignite.lang.Cursor;
+import org.apache.ignite.lang.MarshallerException;
 import org.apache.ignite.sql.ResultSetMetadata;
 import org.apache.ignite.sql.SqlRow;
 import org.apache.ignite.sql.Statement;
 import org.apache.ignite.table.QualifiedName;
+import org.apache.ignite.table.Tuple;
 import org.apache.ignite.table.criteria.Criteria;
 import org.apache.ignite.table.criteria.CriteriaQueryOptions;
 import org.apache.ignite.table.criteria.CriteriaQuerySource;
@@ -91,6 +97,15 @@ abstract class AbstractClientView<T> implements CriteriaQuerySource<T> {
         return null;
     }
 
+    /**
+     * Reads a row returned by the primary key lookup, which a criteria query is executed with when the criteria matches a single key.
+     *
+     * @param schema Schema.
+     * @param in Unpacker positioned at the binary tuple of the row.
+     * @return Criteria query object.
+     */
+    protected abstract T readKeyLookupResult(ClientSchema schema, ClientMessageUnpacker in);
+
     /** {@inheritDoc} */
     @Override
     public Cursor<T> query(@Nullable Transaction tx, @Nullable Criteria criteria, @Nullable String indexName,
@@ -110,26 +125,62 @@ abstract class AbstractClientView<T> implements CriteriaQuerySource<T> {
 
         return tbl.getLatestSchema()
                 .thenCompose((schema) -> {
-                    SqlSerializer ser = new SqlSerializer.Builder()
-                            .columns(Arrays.asList(columnNames(schema.columns())))
-                            .tableName(tbl.qualifiedName())
-                            .indexName(indexName != null ? QualifiedName.parse(indexName).objectName() : null)
-                            .where(criteria)
-                            .build();
+                    Tuple key = criteria == null || indexName != null
+                            ? null
+                            : CriteriaKeyLookupUtil.keyTuple(criteria, Arrays.asList(schema.keyColumns()), ClientColumn::name,
+                                    ClientColumn::type);
+
+                    if (key == null) {
+                        return sqlQueryAsync(tx, criteria, indexName, opts0, schema);
+                    }
+
+                    return tbl.<AsyncCursor<T>>doSchemaOutInOpAsync(
+                                    ClientOp.TUPLE_GET,
+                                    (s, w, n) -> new ClientTupleSerializer(tbl.tableId()).writeTuple(tx, key, s, w, n, true),
+                                    (s, r) -> new KeyLookupAsyncCursor<>(readKeyLookupResult(s, r.in())),
+                                    new KeyLookupAsyncCursor<>(null),
+                                    ClientTupleSerializer.getPartitionAwarenessProvider(key),
+                                    tx)
+                            .handle((cursor, th) -> {
+                                if (th == null) {
+                                    return CompletableFuture.completedFuture(cursor);
+                                }
+
+                                // E.g. a string longer than the column, which SQL compares without an error.
+                                return unwrapCause(th) instanceof MarshallerException
+                                        ? sqlQueryAsync(tx, criteria, indexName, opts0, schema)
+                                        : CompletableFuture.<AsyncCursor<T>>failedFuture(th);
+                            })
+                            .thenCompose(Function.identity());
+                })
+                .exceptionally(th -> {
+                    throw new CompletionException(mapToPublicCriteriaException(unwrapCause(th)));
+                });
+    }
 
-                    Statement statement = new StatementBuilderImpl().query(ser.toString()).pageSize(opts0.pageSize()).build();
+    private CompletableFuture<AsyncCursor<T>> sqlQueryAsync(
+            @Nullable Transaction tx,
+            @Nullable Criteria criteria,
+            @Nullable String indexName,
+            CriteriaQueryOptions opts,
+            ClientSchema schema
+    ) {
+        SqlSerializer ser = new SqlSerializer.Builder()
+                .columns(Arrays.asList(columnNames(schema.columns())))
+                .tableName(tbl.qualifiedName())
+                .indexName(indexName != null ? QualifiedName.parse(indexName).objectName() : null)
+                .where(criteria)
+                .build();
 
-                    return sql.executeAsync(tx, statement, ser.getArguments())
-                            .<AsyncCursor<T>>thenApply(resultSet -> {
-                                ResultSetMetadata meta = resultSet.metadata();
+        Statement statement = new StatementBuilderImpl().query(ser.toString()).pageSize(opts.pageSize()).build();
 
-                                assert meta != null : "Metadata can't be null.";
+        return sql.executeAsync(tx, statement, ser.getArguments())
+                .<AsyncCursor<T>>thenApply(resultSet -> {
+                    ResultSetMetadata meta = resultSet.metadata();
 
-                                return new QueryCriteriaAsyncCursor<>(resultSet, queryMapper(meta, schema), () -> {/* NO-OP */});
-                            });
-                })
-                .exceptionally(th -> {
-                    throw new CompletionException(mapToPublicCriteriaException(unwrapCause(th)));
+                    assert meta != null : "Metadata can't be null.";
+
+                    return new QueryCriteriaAsyncCursor<>(resultSet, queryMapper(meta, schema), () -> {/* NO-OP */});
                 });
     }
 }
@@ -34,6 +34,7 @@ import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Publisher;
 import java.util.function.Function;
 import org.apache.ignite.client.RetryLimitPolicy;
+import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.ClientOp;
 import org.apache.ignite.internal.client.sql.ClientSql;
 import org.apache.ignite.internal.lang.IgniteBiTuple;
@@ -567,4 +568,10 @@ public class ClientKeyValueBinaryView extends AbstractClientView<Entry<Tuple, Tu
 
         return (row) -> new IgniteBiTuple<>(new SqlRowProjection(row, meta, keyCols), new SqlRowProjection(row, meta, valCols));
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Entry<Tuple, Tuple> readKeyLookupResult(ClientSchema schema, ClientMessageUnpacker in) {
+        return ClientTupleSerializer.readKvTuple(schema, in);
+    }
 }
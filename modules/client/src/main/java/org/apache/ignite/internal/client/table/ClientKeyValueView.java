@@ -46,6 +46,7 @@ import org.apache.ignite.internal.binarytuple.BinaryTupleReader;
 import org.apache.ignite.internal.client.PayloadInputChannel;
 import org.apache.ignite.internal.client.PayloadOutputChannel;
 import org.apache.ignite.internal.client.WriteContext;
+import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.ClientOp;
 import org.apache.ignite.internal.client.proto.TuplePart;
 import org.apache.ignite.internal.client.sql.ClientSql;
@@ -763,6 +764,19 @@ public class ClientKeyValueView<K, V> extends AbstractClientView<Entry<K, V>> im
         );
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected Entry<K, V> readKeyLookupResult(ClientSchema schema, ClientMessageUnpacker in) {
+        Marshaller keyMarsh = schema.getMarshaller(keySer.mapper(), TuplePart.KEY, false);
+        Marshaller valMarsh = schema.getMarshaller(valSer.mapper(), TuplePart.VAL, false);
+
+        var tupleReader = new BinaryTupleReader(schema.columns().length, in.readBinaryUnsafe());
+        var keyReader = new ClientMarshallerReader(tupleReader, schema.keyColumns(), TuplePart.KEY_AND_VAL);
+        var valReader = new ClientMarshallerReader(tupleReader, schema.valColumns(), TuplePart.KEY_AND_VAL);
+
+        return new IgniteBiTuple<>((K) keyMarsh.readObject(keyReader, null), (V) valMarsh.readObject(valReader, null));
+    }
+
     private static <T> T throwIfNull(T obj, String altMethod) {
         if (obj == null) {
             throw new UnexpectedNullValueException(format("Got unexpected null value: use `{}` sibling method instead.", altMethod));
@@ -33,6 +33,7 @@ import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Publisher;
 import java.util.function.Function;
 import org.apache.ignite.client.RetryLimitPolicy;
+import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.ClientOp;
 import org.apache.ignite.internal.client.sql.ClientSql;
 import org.apache.ignite.internal.streamer.StreamerBatchSender;
@@ -473,4 +474,10 @@ public class ClientRecordBinaryView extends AbstractClientView<Tuple> implements
                 receiver.argumentMarshaller()
         );
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Tuple readKeyLookupResult(ClientSchema schema, ClientMessageUnpacker in) {
+        return ClientTupleSerializer.readTuple(schema, in, false);
+    }
 }
@@ -33,6 +33,7 @@ import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Publisher;
 import java.util.function.Function;
 import org.apache.ignite.client.RetryLimitPolicy;
+import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.ClientOp;
 import org.apache.ignite.internal.client.proto.TuplePart;
 import org.apache.ignite.internal.client.sql.ClientSql;
@@ -484,4 +485,10 @@ public class ClientRecordView<R> extends AbstractClientView<R> implements Record
 
         return (row) -> (R) marsh.readObject(new TupleReader(new SqlRowProjection(row, meta, cols)), null);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected R readKeyLookupResult(ClientSchema schema, ClientMessageUnpacker in) {
+        return ser.readRec(schema, in, TuplePart.KEY_AND_VAL, TuplePart.KEY_AND_VAL);
+    }
 }
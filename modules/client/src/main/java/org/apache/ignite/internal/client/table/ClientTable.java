@@ -31,14 +31,17 @@ import static org.apache.ignite.lang.ErrorGroups.Transactions.TX_ALREADY_FINISHE
 import static org.apache.ignite.lang.ErrorGroups.Transactions.TX_ALREADY_FINISHED_WITH_TIMEOUT_ERR;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow.Publisher;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.apache.ignite.client.RetryPolicy;
+import org.apache.ignite.internal.binarytuple.BinaryTupleReader;
 import org.apache.ignite.internal.client.ClientSchemaVersionMismatchException;
 import org.apache.ignite.internal.client.ClientUtils;
 import org.apache.ignite.internal.client.PartitionMapping;
@@ -49,6 +52,7 @@ import org.apache.ignite.internal.client.WriteContext;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.ClientOp;
 import org.apache.ignite.internal.client.proto.ColumnTypeConverter;
+import org.apache.ignite.internal.client.proto.TuplePart;
 import org.apache.ignite.internal.client.sql.ClientSql;
 import org.apache.ignite.internal.client.table.api.PublicApiClientKeyValueView;
 import org.apache.ignite.internal.client.table.api.PublicApiClientRecordView;
@@ -60,8 +64,13 @@ import org.apache.ignite.internal.lang.IgniteTriConsumer;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.marshaller.MarshallersProvider;
 import org.apache.ignite.internal.marshaller.UnmappedColumnsException;
+import org.apache.ignite.internal.table.changes.ChangesPublisher;
+import org.apache.ignite.internal.table.changes.PartitionChanges;
 import org.apache.ignite.internal.tostring.IgniteToStringBuilder;
 import org.apache.ignite.lang.IgniteException;
+import org.apache.ignite.table.ChangeEvent;
+import org.apache.ignite.table.ChangeEventType;
+import org.apache.ignite.table.ChangeStreamOptions;
 import org.apache.ignite.table.KeyValueView;
 import org.apache.ignite.table.QualifiedName;
 import org.apache.ignite.table.RecordView;
@@ -190,6 +199,80 @@ public class ClientTable implements Table {
         return new PublicApiClientKeyValueView<>(new ClientKeyValueBinaryView(this, sql));
     }
 
+    @Override
+    public Publisher<ChangeEvent> changes(ChangeStreamOptions options) {
+        Objects.requireNonNull(options, "options");
+
+        return new ChangesPublisher(getPartitionAssignment().thenApply(List::size), this::pollChanges, options, ch.streamerFlushExecutor());
+    }
+
+    private CompletableFuture<PartitionChanges> pollChanges(int partition, long fromTimestamp, int limit) {
+        return getPartitionAssignment()
+                .thenCompose(assignment -> ch.serviceAsync(
+                        ClientOp.TABLE_CHANGES_POLL,
+                        w -> {
+                            w.out().packInt(id);
+                            w.out().packInt(partition);
+                            w.out().packLong(fromTimestamp);
+                            w.out().packInt(limit);
+                        },
+                        r -> readChanges(r.in()),
+                        assignment.get(partition),
+                        null,
+                        null,
+                        false
+                ))
+                .thenCompose(changes -> {
+                    // Rows are read before their schemas are loaded: the unpacker is released when the response is read.
+                    int schemaVer = changes.rows.stream().mapToInt(row -> row.schemaVer).max().orElse(-1);
+
+                    if (schemaVer < 0) {
+                        return completedFuture(new PartitionChanges(List.of(), changes.position));
+                    }
+
+                    var schemaFuts = new HashMap<Integer, CompletableFuture<ClientSchema>>();
+
+                    for (RawChange row : changes.rows) {
+                        schemaFuts.computeIfAbsent(row.schemaVer, this::getSchema);
+                    }
+
+                    return CompletableFuture.allOf(schemaFuts.values().toArray(CompletableFuture[]::new)).thenApply(unused -> {
+                        var events = new ArrayList<ChangeEvent>(changes.rows.size());
+
+                        for (RawChange row : changes.rows) {
+                            ClientSchema schema = schemaFuts.get(row.schemaVer).join();
+                            var tuple = new ClientTuple(
+                                    schema,
+                                    TuplePart.KEY_AND_VAL,
+                                    new BinaryTupleReader(schema.columns().length, row.tuple)
+                            );
+
+                            events.add(ChangeEvent.of(row.type, tuple, row.timestamp, partition));
+                        }
+
+                        return new PartitionChanges(events, changes.position);
+                    });
+                });
+    }
+
+    private static RawChanges readChanges(ClientMessageUnpacker in) {
+        ChangeEventType[] types = ChangeEventType.values();
+
+        long position = in.unpackLong();
+        int cnt = in.unpackInt();
+        var rows = new ArrayList<RawChange>(cnt);
+
+        for (int i = 0; i < cnt; i++) {
+            ChangeEventType type = types[in.unpackByte()];
+            long timestamp = in.unpackLong();
+            int schemaVer = in.unpackInt();
+
+            rows.add(new RawChange(type, timestamp, schemaVer, in.readBinary()));
+        }
+
+        return new RawChanges(position, rows);
+    }
+
     CompletableFuture<ClientSchema> getLatestSchema() {
         // latestSchemaVer can be -1 (unknown) or a valid version.
         // In case of unknown version, we request latest from the server and cache it with -1 key
@@ -817,4 +900,32 @@ public class ClientTable implements Table {
 
         CompletableFuture<List<String>> partitionsFut;
     }
+
+    private static class RawChanges {
+        final long position;
+
+        final List<RawChange> rows;
+
+        RawChanges(long position, List<RawChange> rows) {
+            this.position = position;
+            this.rows = rows;
+        }
+    }
+
+    private static class RawChange {
+        final ChangeEventType type;
+
+        final long timestamp;
+
+        final int schemaVer;
+
+        final byte[] tuple;
+
+        RawChange(ChangeEventType type, long timestamp, int schemaVer, byte[] tuple) {
+            this.type = type;
+            this.timestamp = timestamp;
+            this.schemaVer = schemaVer;
+            this.tuple = tuple;
+        }
+    }
 }
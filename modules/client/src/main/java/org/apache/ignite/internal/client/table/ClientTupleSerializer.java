@@ -358,7 +358,7 @@ public class ClientTupleSerializer {
         return new ClientTuple(schema, TuplePart.VAL, binTuple);
     }
 
-    private static IgniteBiTuple<Tuple, Tuple> readKvTuple(ClientSchema schema, ClientMessageUnpacker in) {
+    static IgniteBiTuple<Tuple, Tuple> readKvTuple(ClientSchema schema, ClientMessageUnpacker in) {
         var binTuple = new BinaryTupleReader(schema.columns().length, in.readBinary());
         var keyTuple = new ClientTuple(schema, TuplePart.KEY, binTuple);
         var valTuple = new ClientTuple(schema, TuplePart.VAL, binTuple);
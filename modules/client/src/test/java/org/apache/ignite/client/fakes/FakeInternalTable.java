@@ -54,6 +54,7 @@ import org.apache.ignite.internal.schema.ColumnsExtractor;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.table.StreamerReceiverRunner;
+import org.apache.ignite.internal.table.distributed.changes.RowChangeBatch;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.tx.storage.state.TxStateStorage;
 import org.apache.ignite.internal.util.PendingComparableValuesTracker;
@@ -453,6 +454,24 @@ public class FakeInternalTable implements InternalTable, StreamerReceiverRunner
         return null;
     }
 
+    @Override
+    public Publisher<BinaryRow> scan(
+            int partId,
+            UUID txId,
+            HybridTimestamp readTimestamp,
+            ClusterNode recipientNode,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId,
+            UUID txCoordinatorId
+    ) {
+        throw new IgniteInternalException(new OperationNotSupportedException());
+    }
+
+    @Override
+    public CompletableFuture<List<UUID>> scanSplitPoints(int partId, ClusterNode recipientNode, int splits) {
+        throw new IgniteInternalException(new OperationNotSupportedException());
+    }
+
     @Override
     public Publisher<BinaryRow> lookup(
             int partId,
@@ -538,6 +557,11 @@ public class FakeInternalTable implements InternalTable, StreamerReceiverRunner
         throw new IgniteInternalException(new OperationNotSupportedException());
     }
 
+    @Override
+    public CompletableFuture<RowChangeBatch> readChanges(int partId, @Nullable HybridTimestamp fromTimestamp, int batchSize) {
+        throw new IgniteInternalException(new OperationNotSupportedException());
+    }
+
     @Override
     public StreamerReceiverRunner streamerReceiverRunner() {
         return this;
@@ -25,6 +25,7 @@ import static org.apache.ignite.internal.thread.ThreadOperation.STORAGE_WRITE;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -52,6 +53,8 @@ import org.apache.ignite.internal.compute.task.TaskExecutionInternal;
 import org.apache.ignite.internal.deployunit.DisposableDeploymentUnit;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metrics.MetricManager;
+import org.apache.ignite.internal.metrics.sources.ThreadPoolMetricSource;
 import org.apache.ignite.internal.network.TopologyService;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
 import org.apache.ignite.marshalling.Marshaller;
@@ -63,6 +66,9 @@ import org.jetbrains.annotations.Nullable;
 public class ComputeExecutorImpl implements ComputeExecutor {
     private static final IgniteLogger LOG = Loggers.forClass(ComputeExecutorImpl.class);
 
+    /** Name of the thread pool that executes the jobs. */
+    public static final String POOL_NAME = "compute";
+
     private final Ignite ignite;
 
     private final ComputeConfiguration configuration;
@@ -71,6 +77,8 @@ public class ComputeExecutorImpl implements ComputeExecutor {
 
     private final TopologyService topologyService;
 
+    private final MetricManager metricManager;
+
     private PriorityQueueExecutor executorService;
 
     private @Nullable DotNetComputeExecutor dotNetComputeExecutor;
@@ -82,17 +90,20 @@ public class ComputeExecutorImpl implements ComputeExecutor {
      * @param stateMachine Compute jobs state machine.
      * @param configuration Compute configuration.
      * @param topologyService Topology service.
+     * @param metricManager Metric manager to register the metric source of the job thread pool.
      */
     public ComputeExecutorImpl(
             Ignite ignite,
             ComputeStateMachine stateMachine,
             ComputeConfiguration configuration,
-            TopologyService topologyService
+            TopologyService topologyService,
+            MetricManager metricManager
     ) {
         this.ignite = ignite;
         this.configuration = configuration;
         this.stateMachine = stateMachine;
         this.topologyService = topologyService;
+        this.metricManager = metricManager;
     }
 
     public void setPlatformComputeTransport(PlatformComputeTransport transport) {
@@ -217,13 +228,17 @@ public class ComputeExecutorImpl implements ComputeExecutor {
         stateMachine.start();
         executorService = new PriorityQueueExecutor(
                 configuration,
-                IgniteThreadFactory.create(ignite.name(), "compute", LOG, STORAGE_READ, STORAGE_WRITE),
+                IgniteThreadFactory.create(ignite.name(), POOL_NAME, LOG, STORAGE_READ, STORAGE_WRITE),
                 stateMachine
         );
+
+        metricManager.registerSource(new ThreadPoolMetricSource(POOL_NAME, List.of(executorService.threadPoolExecutor())));
     }
 
     @Override
     public void stop() {
+        metricManager.unregisterSource(ThreadPoolMetricSource.NAME_PREFIX + POOL_NAME);
+
         stateMachine.stop();
         executorService.shutdown();
 
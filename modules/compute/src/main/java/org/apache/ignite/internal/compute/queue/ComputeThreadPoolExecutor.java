@@ -21,6 +21,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.thread.InstrumentedThreadPoolExecutor;
 import org.apache.ignite.internal.util.IgniteUtils;
 
 /**
@@ -39,7 +40,13 @@ public class ComputeThreadPoolExecutor {
             BlockingQueue<Runnable> workQueue,
             ThreadFactory threadFactory) {
         this.workQueue = workQueue;
-        executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory);
+        // Queue entries are ordered by the priority queue, so they can't be wrapped to track the time they spend in the queue.
+        executor = new InstrumentedThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, false);
+    }
+
+    /** Returns the underlying executor. */
+    ThreadPoolExecutor threadPoolExecutor() {
+        return executor;
     }
 
     /**
@@ -23,6 +23,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.compute.configuration.ComputeConfiguration;
 import org.apache.ignite.internal.compute.state.ComputeStateMachine;
@@ -90,6 +91,11 @@ public class PriorityQueueExecutor {
         return submit(job, 0, 0);
     }
 
+    /** Returns the thread pool that executes the jobs. */
+    public ThreadPoolExecutor threadPoolExecutor() {
+        return executor.threadPoolExecutor();
+    }
+
     /**
      * Shutdown executor. After shutdown executor is not usable anymore.
      */
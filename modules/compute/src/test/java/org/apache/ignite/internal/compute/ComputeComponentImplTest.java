@@ -99,6 +99,7 @@ import org.apache.ignite.internal.deployunit.exception.DeploymentUnitUnavailable
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.lang.NodeStoppingException;
 import org.apache.ignite.internal.manager.ComponentContext;
+import org.apache.ignite.internal.metrics.NoOpMetricManager;
 import org.apache.ignite.internal.network.ClusterNodeImpl;
 import org.apache.ignite.internal.network.MessagingService;
 import org.apache.ignite.internal.network.NetworkMessage;
@@ -167,7 +168,13 @@ class ComputeComponentImplTest extends BaseIgniteAbstractTest {
         }).when(messagingService).addMessageHandler(eq(ComputeMessageTypes.class), any());
 
         InMemoryComputeStateMachine stateMachine = new InMemoryComputeStateMachine(computeConfiguration, INSTANCE_NAME);
-        ComputeExecutor computeExecutor = new ComputeExecutorImpl(ignite, stateMachine, computeConfiguration, topologyService);
+        ComputeExecutor computeExecutor = new ComputeExecutorImpl(
+                ignite,
+                stateMachine,
+                computeConfiguration,
+                topologyService,
+                new NoOpMetricManager()
+        );
 
         computeComponent = new ComputeComponentImpl(
                 INSTANCE_NAME,
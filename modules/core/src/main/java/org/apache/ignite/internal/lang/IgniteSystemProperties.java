@@ -82,6 +82,9 @@ public final class IgniteSystemProperties {
     /** Skip storage update in a benchmark. */
     public static final String IGNITE_SKIP_STORAGE_UPDATE_IN_BENCHMARK = "IGNITE_SKIP_STORAGE_UPDATE_IN_BENCHMARK";
 
+    /** Disables bytecode generation of POJO marshallers, falling back to the reflective ones. */
+    public static final String IGNITE_POJO_MARSHALLER_CODEGEN_DISABLED = "IGNITE_POJO_MARSHALLER_CODEGEN_DISABLED";
+
     // TODO https://issues.apache.org/jira/browse/IGNITE-22522 Remove this feature flag.
     /** Enables zone based replication (aka colocation) feature. */
     public static final String COLOCATION_FEATURE_FLAG = "IGNITE_ZONE_BASED_REPLICATION";
@@ -0,0 +1,351 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.changes;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.ignite.internal.util.ExceptionUtils.unwrapCause;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.table.ChangeEvent;
+import org.apache.ignite.table.ChangeStreamOptions;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Publisher of the changes of a table, which polls the partitions through a {@link PartitionChangesSource} and merges their changes by
+ * commit timestamps.
+ *
+ * <p>Partitions are polled in rounds of one request per partition, and only while the subscriber has unfulfilled demand. After a round
+ * every partition is known to have returned all its changes up to its position, so the changes up to the minimal position are merged
+ * and published, the rest are kept until the lagging partitions catch up. A round that makes no changes ready for publishing is
+ * followed by a pause of {@link ChangeStreamOptions#pollInterval()}.
+ */
+public class ChangesPublisher implements Publisher<ChangeEvent> {
+    private static final Comparator<ChangeEvent> EVENT_ORDER = Comparator.comparingLong(ChangeEvent::timestamp)
+            .thenComparingInt(ChangeEvent::partition);
+
+    private final CompletableFuture<Integer> partitions;
+
+    private final PartitionChangesSource source;
+
+    private final ChangeStreamOptions options;
+
+    private final ScheduledExecutorService pollExecutor;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * Constructor.
+     *
+     * @param partitions Future with the number of partitions of the table.
+     * @param source Source of the changes of the partitions.
+     * @param options Change stream options.
+     * @param pollExecutor Executor to schedule the delayed polls.
+     */
+    public ChangesPublisher(
+            CompletableFuture<Integer> partitions,
+            PartitionChangesSource source,
+            ChangeStreamOptions options,
+            ScheduledExecutorService pollExecutor
+    ) {
+        this.partitions = partitions;
+        this.source = source;
+        this.options = options;
+        this.pollExecutor = pollExecutor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ChangeEvent> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    // No-op.
+                }
+
+                @Override
+                public void cancel() {
+                    // No-op.
+                }
+            });
+
+            subscriber.onError(new IllegalStateException("Change stream supports a single subscriber."));
+
+            return;
+        }
+
+        var subscription = new ChangesSubscription(subscriber);
+
+        subscriber.onSubscribe(subscription);
+
+        partitions.whenComplete((count, e) -> {
+            if (e != null) {
+                subscription.onError(e);
+            } else {
+                subscription.init(count);
+            }
+        });
+    }
+
+    /** Poll result of a partition. */
+    private static class PollResult {
+        private final int partition;
+
+        private final PartitionChanges changes;
+
+        private PollResult(int partition, PartitionChanges changes) {
+            this.partition = partition;
+            this.changes = changes;
+        }
+    }
+
+    /**
+     * Subscription, the state of which is only accessed by the drain loop. The loop is entered by one thread at a time, other threads
+     * only increment the work counter, so the loop makes one more pass.
+     */
+    private class ChangesSubscription implements Subscription {
+        private final Subscriber<? super ChangeEvent> subscriber;
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final Queue<PollResult> results = new ConcurrentLinkedQueue<>();
+
+        private final Queue<ChangeEvent> ready = new ArrayDeque<>();
+
+        /** Positions of the partitions, {@code null} until the number of partitions is known. */
+        private @Nullable long[] positions;
+
+        private final List<ArrayDeque<ChangeEvent>> pending = new ArrayList<>();
+
+        private int pollsInFlight;
+
+        private volatile int partitionCount = -1;
+
+        private volatile boolean delayed;
+
+        private volatile boolean cancelled;
+
+        private volatile @Nullable Throwable error;
+
+        private ChangesSubscription(Subscriber<? super ChangeEvent> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                onError(new IllegalArgumentException("Requested number of changes must be positive: " + n));
+
+                return;
+            }
+
+            requested.accumulateAndGet(n, (r, add) -> r + add < 0 ? Long.MAX_VALUE : r + add);
+
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void init(int partitionCount) {
+            this.partitionCount = partitionCount;
+
+            drain();
+        }
+
+        private void onError(Throwable e) {
+            if (error == null) {
+                error = unwrapCause(e);
+            }
+
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+
+            do {
+                if (cancelled) {
+                    return;
+                }
+
+                Throwable e = error;
+
+                if (e != null) {
+                    cancelled = true;
+
+                    subscriber.onError(e);
+
+                    return;
+                }
+
+                int count = partitionCount;
+
+                if (count >= 0) {
+                    if (positions == null) {
+                        start(count);
+                    }
+
+                    applyResults();
+
+                    long r = requested.get();
+                    long emitted = 0;
+
+                    while (emitted != r && !ready.isEmpty()) {
+                        if (cancelled) {
+                            return;
+                        }
+
+                        subscriber.onNext(ready.poll());
+
+                        emitted++;
+                    }
+
+                    if (emitted != 0 && r != Long.MAX_VALUE) {
+                        requested.addAndGet(-emitted);
+                    }
+
+                    if (ready.isEmpty() && pollsInFlight == 0 && !delayed && requested.get() > 0) {
+                        startRound();
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void start(int count) {
+            positions = new long[count];
+
+            for (int p = 0; p < count; p++) {
+                positions[p] = options.startTimestamp();
+
+                pending.add(new ArrayDeque<>());
+            }
+        }
+
+        private void startRound() {
+            assert positions != null;
+
+            int pageSize = options.pageSize();
+
+            for (int p = 0; p < positions.length; p++) {
+                // Changes of a partition that are ahead of the other partitions don't need to be buffered beyond a page.
+                if (pending.get(p).size() >= pageSize) {
+                    continue;
+                }
+
+                pollsInFlight++;
+
+                int partition = p;
+
+                CompletableFuture<PartitionChanges> future;
+
+                try {
+                    future = source.poll(partition, positions[partition], pageSize);
+                } catch (Throwable e) {
+                    future = CompletableFuture.failedFuture(e);
+                }
+
+                future.whenComplete((changes, e) -> {
+                    if (e != null) {
+                        onError(e);
+                    } else {
+                        results.add(new PollResult(partition, changes));
+
+                        drain();
+                    }
+                });
+            }
+        }
+
+        private void applyResults() {
+            assert positions != null;
+
+            PollResult result;
+
+            while ((result = results.poll()) != null) {
+                pollsInFlight--;
+
+                pending.get(result.partition).addAll(result.changes.events());
+
+                positions[result.partition] = Math.max(positions[result.partition], result.changes.position());
+
+                if (pollsInFlight == 0) {
+                    completeRound();
+                }
+            }
+        }
+
+        private void completeRound() {
+            assert positions != null;
+
+            long horizon = Long.MAX_VALUE;
+
+            for (long position : positions) {
+                horizon = Math.min(horizon, position);
+            }
+
+            var merged = new ArrayList<ChangeEvent>();
+
+            for (ArrayDeque<ChangeEvent> events : pending) {
+                while (!events.isEmpty() && events.peek().timestamp() <= horizon) {
+                    merged.add(events.poll());
+                }
+            }
+
+            merged.sort(EVENT_ORDER);
+
+            ready.addAll(merged);
+
+            if (merged.isEmpty()) {
+                delayed = true;
+
+                try {
+                    pollExecutor.schedule(() -> {
+                        delayed = false;
+
+                        drain();
+                    }, options.pollInterval(), MILLISECONDS);
+                } catch (Throwable e) {
+                    onError(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.changes;
+
+import java.util.List;
+import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.table.ChangeEvent;
+
+/**
+ * Changes of a partition returned by a single poll of a {@link PartitionChangesSource}.
+ */
+public class PartitionChanges {
+    private final List<ChangeEvent> events;
+
+    private final long position;
+
+    /**
+     * Constructor.
+     *
+     * @param events Changes in the order of their commit timestamps.
+     * @param position Timestamp up to which (inclusive) all changes of the partition are returned by this and the previous polls.
+     */
+    public PartitionChanges(List<ChangeEvent> events, long position) {
+        this.events = events;
+        this.position = position;
+    }
+
+    /** Returns changes in the order of their commit timestamps. */
+    public List<ChangeEvent> events() {
+        return events;
+    }
+
+    /** Returns timestamp up to which (inclusive) all changes of the partition are returned by this and the previous polls. */
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(PartitionChanges.class, this);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.changes;
+
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+
+/**
+ * Source of the changes of table partitions for a {@link ChangesPublisher}.
+ */
+@FunctionalInterface
+public interface PartitionChangesSource {
+    /**
+     * Polls changes of a partition.
+     *
+     * @param partition Partition.
+     * @param fromTimestamp Timestamp to return the changes committed after, {@link HybridTimestamp#NULL_HYBRID_TIMESTAMP} to only
+     *         return the current position of the partition.
+     * @param limit Maximum number of changes to return. It is exceeded when needed to return all changes with the same commit timestamp.
+     * @return Future with the changes.
+     */
+    CompletableFuture<PartitionChanges> poll(int partition, long fromTimestamp, int limit);
+}
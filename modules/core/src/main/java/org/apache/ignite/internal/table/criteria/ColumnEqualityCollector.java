@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.criteria;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.ignite.table.criteria.Column;
+import org.apache.ignite.table.criteria.Criteria;
+import org.apache.ignite.table.criteria.CriteriaVisitor;
+import org.apache.ignite.table.criteria.Expression;
+import org.apache.ignite.table.criteria.Operator;
+import org.apache.ignite.table.criteria.Parameter;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects the values of the columns a criteria restricts by equality conditions, e.g. {@code columnValue("ID", equalTo(1))}.
+ *
+ * <p>Only a criteria, which is a conjunction of such conditions, restricting each column once, can be collected. When these columns
+ * are the primary key columns, the criteria query is a lookup of a single row by its key and doesn't need the SQL engine.
+ */
+public class ColumnEqualityCollector implements CriteriaVisitor<Map<String, Object>> {
+    private boolean collectable = true;
+
+    private ColumnEqualityCollector() {
+    }
+
+    /**
+     * Collects the values of the columns a criteria restricts by equality conditions.
+     *
+     * @param criteria Criteria.
+     * @return Values by column names or {@code null} if the criteria is not a conjunction of equality conditions.
+     */
+    public static @Nullable Map<String, Object> collect(Criteria criteria) {
+        var collector = new ColumnEqualityCollector();
+        var values = new HashMap<String, Object>();
+
+        criteria.accept(collector, values);
+
+        return collector.collectable ? values : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> void visit(Parameter<T> argument, @Nullable Map<String, Object> context) {
+        collectable = false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> void visit(Column column, @Nullable Map<String, Object> context) {
+        collectable = false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> void visit(Expression expression, @Nullable Map<String, Object> context) {
+        assert context != null;
+
+        Operator operator = expression.getOperator();
+        Criteria[] elements = expression.getElements();
+
+        if (operator == Operator.AND) {
+            for (int i = 0; i < elements.length && collectable; i++) {
+                elements[i].accept(this, context);
+            }
+        } else if (operator == Operator.EQ && elements.length == 2
+                && elements[0] instanceof Column && elements[1] instanceof Parameter) {
+            Object value = ((Parameter<?>) elements[1]).getValue();
+
+            if (value == null || context.putIfAbsent(((Column) elements[0]).getName(), value) != null) {
+                collectable = false;
+            }
+        } else {
+            collectable = false;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> void visit(Criteria criteria, @Nullable Map<String, Object> context) {
+        criteria.accept(this, context);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.criteria;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.ignite.lang.util.IgniteNameUtils;
+import org.apache.ignite.sql.ColumnType;
+import org.apache.ignite.table.Tuple;
+import org.apache.ignite.table.criteria.Criteria;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Utility methods to execute a criteria query, which matches a single primary key, as a key lookup.
+ */
+public final class CriteriaKeyLookupUtil {
+    private CriteriaKeyLookupUtil() {
+    }
+
+    /**
+     * Returns the key to look up, if the criteria restricts each primary key column, and only them, by an equality condition. Such
+     * queries are executed as a get operation instead of an SQL query, which is parsed, validated and planned to find the same row.
+     *
+     * @param criteria Criteria.
+     * @param keyColumns Primary key columns.
+     * @param nameFunc Function returning the name of a column.
+     * @param typeFunc Function returning the type of a column.
+     * @param <C> Column type.
+     * @return Key tuple or {@code null} if the criteria must be executed by an SQL query.
+     */
+    public static <C> @Nullable Tuple keyTuple(
+            Criteria criteria,
+            List<C> keyColumns,
+            Function<C, String> nameFunc,
+            Function<C, ColumnType> typeFunc
+    ) {
+        Map<String, Object> values = ColumnEqualityCollector.collect(criteria);
+
+        if (values == null || values.size() != keyColumns.size()) {
+            return null;
+        }
+
+        Tuple key = Tuple.create(keyColumns.size());
+
+        for (C column : keyColumns) {
+            String name = nameFunc.apply(column);
+            Object value = values.get(name);
+
+            if (value == null || !keyLookupSupported(typeFunc.apply(column), value)) {
+                return null;
+            }
+
+            key.set(IgniteNameUtils.quoteIfNeeded(name), value);
+        }
+
+        return key;
+    }
+
+    /**
+     * Checks whether a key column can be looked up by a value. SQL converts the values of other types to the column type and compares
+     * decimals and temporal values without rounding them to the column precision as the marshaller does.
+     */
+    private static boolean keyLookupSupported(ColumnType type, Object value) {
+        switch (type) {
+            case DECIMAL:
+            case TIME:
+            case DATETIME:
+            case TIMESTAMP:
+                return false;
+
+            default:
+                return type.javaClass() == value.getClass();
+        }
+    }
+}
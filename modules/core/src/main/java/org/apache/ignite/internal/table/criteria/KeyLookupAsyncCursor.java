@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.criteria;
+
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.lang.AsyncCursor;
+import org.apache.ignite.lang.CursorClosedException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cursor over the result of a criteria query executed as a lookup of a single row by its primary key.
+ *
+ * @param <T> The type of elements returned by this cursor.
+ */
+public class KeyLookupAsyncCursor<T> implements AsyncCursor<T> {
+    private final List<T> page;
+
+    /**
+     * Constructor.
+     *
+     * @param row Found row or {@code null} if there is no row with the key.
+     */
+    public KeyLookupAsyncCursor(@Nullable T row) {
+        this.page = row == null ? List.of() : List.of(row);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterable<T> currentPage() {
+        return page;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int currentPageSize() {
+        return page.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<? extends AsyncCursor<T>> fetchNextPage() {
+        return CompletableFuture.failedFuture(new CursorClosedException());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasMorePages() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> closeAsync() {
+        return nullCompletedFuture();
+    }
+}
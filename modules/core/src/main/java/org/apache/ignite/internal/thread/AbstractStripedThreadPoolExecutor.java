@@ -203,6 +203,11 @@ public abstract class AbstractStripedThreadPoolExecutor<E extends ExecutorServic
         return execs[threadId(idx)];
     }
 
+    /** Returns executors of all stripes in the order of their indexes. */
+    public List<E> stripeExecutors() {
+        return List.of(execs);
+    }
+
     /**
      * Sets stripped thread ID.
      *
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.thread;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link ThreadPoolExecutor} that reports the time its tasks spend in the queue and the time of their execution to a
+ * {@link TaskExecutionListener}.
+ *
+ * <p>Tasks are timed only while the listener is {@link TaskExecutionListener#enabled() enabled}, so the pool has no overhead
+ * otherwise. To track the time in the queue, tasks are wrapped before they are queued, so the pool must not be used with a queue that
+ * relies on the type of its elements, like a priority queue, and {@link #remove(Runnable)} does not find the tasks queued while the
+ * listener is enabled. Such pools must be created with {@code trackWaitTime} set to {@code false}.
+ */
+public class InstrumentedThreadPoolExecutor extends ThreadPoolExecutor {
+    /** Start time of the task executed by the current thread, {@link #NOT_STARTED} if the task is not timed. */
+    private static final ThreadLocal<long[]> TASK_START_NANOS = ThreadLocal.withInitial(() -> new long[] {NOT_STARTED});
+
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private final boolean trackWaitTime;
+
+    private volatile @Nullable TaskExecutionListener listener;
+
+    /**
+     * Constructor.
+     *
+     * @param corePoolSize Number of threads to keep in the pool.
+     * @param maximumPoolSize Maximum number of threads to allow in the pool.
+     * @param keepAliveTime Maximum time that excess idle threads will wait for new tasks before terminating.
+     * @param unit Time unit for the {@code keepAliveTime} argument.
+     * @param workQueue Queue to use for holding tasks before they are executed.
+     * @param threadFactory Factory to use when the executor creates a new thread.
+     */
+    public InstrumentedThreadPoolExecutor(
+            int corePoolSize,
+            int maximumPoolSize,
+            long keepAliveTime,
+            TimeUnit unit,
+            BlockingQueue<Runnable> workQueue,
+            ThreadFactory threadFactory
+    ) {
+        this(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param corePoolSize Number of threads to keep in the pool.
+     * @param maximumPoolSize Maximum number of threads to allow in the pool.
+     * @param keepAliveTime Maximum time that excess idle threads will wait for new tasks before terminating.
+     * @param unit Time unit for the {@code keepAliveTime} argument.
+     * @param workQueue Queue to use for holding tasks before they are executed.
+     * @param threadFactory Factory to use when the executor creates a new thread.
+     * @param trackWaitTime Whether the time tasks spend in the queue is tracked.
+     */
+    public InstrumentedThreadPoolExecutor(
+            int corePoolSize,
+            int maximumPoolSize,
+            long keepAliveTime,
+            TimeUnit unit,
+            BlockingQueue<Runnable> workQueue,
+            ThreadFactory threadFactory,
+            boolean trackWaitTime
+    ) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory);
+
+        this.trackWaitTime = trackWaitTime;
+    }
+
+    /**
+     * Sets the listener of the executed tasks.
+     *
+     * @param listener Listener, {@code null} to stop timing the tasks.
+     */
+    public void listener(@Nullable TaskExecutionListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        TaskExecutionListener listener = this.listener;
+
+        if (trackWaitTime && listener != null && listener.enabled()) {
+            super.execute(new TimestampedTask(command, System.nanoTime()));
+        } else {
+            super.execute(command);
+        }
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        super.beforeExecute(t, r);
+
+        TaskExecutionListener listener = this.listener;
+
+        if (listener != null && listener.enabled()) {
+            TASK_START_NANOS.get()[0] = System.nanoTime();
+        }
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        try {
+            super.afterExecute(r, t);
+        } finally {
+            TaskExecutionListener listener = this.listener;
+
+            if (listener != null) {
+                long[] startNanos = TASK_START_NANOS.get();
+
+                if (startNanos[0] != NOT_STARTED) {
+                    long start = startNanos[0];
+
+                    startNanos[0] = NOT_STARTED;
+
+                    long waitNanos = r instanceof TimestampedTask ? start - ((TimestampedTask) r).queuedNanos : -1;
+
+                    listener.onTaskExecuted(waitNanos, System.nanoTime() - start);
+                }
+            }
+        }
+    }
+
+    /** Task with the time it was queued at. */
+    private static class TimestampedTask implements Runnable {
+        private final Runnable task;
+
+        private final long queuedNanos;
+
+        private TimestampedTask(Runnable task, long queuedNanos) {
+            this.task = task;
+            this.queuedNanos = queuedNanos;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+}
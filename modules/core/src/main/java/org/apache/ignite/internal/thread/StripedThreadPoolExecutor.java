@@ -26,7 +26,7 @@ import java.util.concurrent.TimeUnit;
 /**
  * An {@link ExecutorService} that executes submitted tasks using pooled grid threads.
  */
-public class StripedThreadPoolExecutor extends AbstractStripedThreadPoolExecutor<ExecutorService> implements StripedExecutor {
+public class StripedThreadPoolExecutor extends AbstractStripedThreadPoolExecutor<ThreadPoolExecutor> implements StripedExecutor {
     /**
      * Create striped thread pool.
      *
@@ -46,16 +46,16 @@ public class StripedThreadPoolExecutor extends AbstractStripedThreadPoolExecutor
         super(createExecutors(concurrencyLvl, threadFactory, allowCoreThreadTimeOut, keepAliveTime));
     }
 
-    private static ExecutorService[] createExecutors(
+    private static ThreadPoolExecutor[] createExecutors(
             int concurrencyLvl,
             ThreadFactory threadFactory,
             boolean allowCoreThreadTimeOut,
             long keepAliveTime
     ) {
-        ExecutorService[] execs = new ExecutorService[concurrencyLvl];
+        ThreadPoolExecutor[] execs = new ThreadPoolExecutor[concurrencyLvl];
 
         for (int i = 0; i < concurrencyLvl; i++) {
-            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            ThreadPoolExecutor executor = new InstrumentedThreadPoolExecutor(
                     1,
                     1,
                     keepAliveTime,
@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.thread;
+
+/**
+ * Listener of the tasks executed by an {@link InstrumentedThreadPoolExecutor}, which is used to collect statistics of the thread pool.
+ */
+public interface TaskExecutionListener {
+    /** Returns {@code true} if the listener collects statistics, tasks are not timed otherwise. */
+    boolean enabled();
+
+    /**
+     * Called by a thread of the pool after a task is executed.
+     *
+     * @param waitNanos Time the task spent in the queue of the pool in nanoseconds, or {@code -1} if the time is not tracked by the pool.
+     * @param executionNanos Time spent executing the task in nanoseconds.
+     */
+    void onTaskExecuted(long waitNanos, long executionNanos);
+}
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.util;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -27,6 +28,7 @@ import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import org.apache.ignite.internal.util.subscription.ConcatenatedPublisher;
 import org.apache.ignite.internal.util.subscription.IterableToPublisherAdapter;
+import org.apache.ignite.internal.util.subscription.MergedPublisher;
 import org.apache.ignite.internal.util.subscription.OrderedMergePublisher;
 
 /**
@@ -86,6 +88,34 @@ public class SubscriptionUtils {
         return new OrderedMergePublisher<>(comparator, prefetch, sources);
     }
 
+    /**
+     * Unordered composite publisher. Merges multiple concurrent data streams into one, emitting items in the order they are received.
+     *
+     * @param prefetch Prefetch size of every upstream publisher.
+     * @param sources Upstream publishers.
+     * @return The publisher will combine all of the passed sources into a single one.
+     */
+    public static <T> Publisher<T> merge(int prefetch, Collection<? extends Publisher<? extends T>> sources) {
+        return new MergedPublisher<>(prefetch, CompletableFuture.completedFuture(sources));
+    }
+
+    /**
+     * Unordered composite publisher. Merges multiple concurrent data streams into one, emitting items in the order they are received.
+     *
+     * <p>Upstream publishers are subscribed to when the given future completes. If it completes exceptionally, the exception will be
+     * propagated to {@link Subscriber#onError(Throwable)}.
+     *
+     * @param prefetch Prefetch size of every upstream publisher.
+     * @param sourcesFuture Upstream publishers enclosed to a future object.
+     * @return The publisher will combine all of the passed sources into a single one.
+     */
+    public static <T> Publisher<T> merge(
+            int prefetch,
+            CompletableFuture<? extends Collection<? extends Publisher<? extends T>>> sourcesFuture
+    ) {
+        return new MergedPublisher<>(prefetch, sourcesFuture);
+    }
+
     /**
      * Creates a publisher from the given iterable.
      *
@@ -0,0 +1,379 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.subscription;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Unordered composite publisher.
+ *
+ * <p>Subscribes to all upstream publishers at once and requests up to {@code prefetch} items from each of them in advance, so the
+ * upstreams produce their items concurrently. Items are emitted in the order they are received, the merged stream completes when all
+ * upstreams complete and fails as soon as any of them fails.
+ *
+ * <p>Upstream publishers might be unknown at the moment of the subscription: they are subscribed to when the given future completes.
+ */
+public class MergedPublisher<T> implements Publisher<T> {
+    /** Future of upstream publishers. */
+    private final CompletableFuture<? extends Collection<? extends Publisher<? extends T>>> sources;
+
+    /** Prefetch size. */
+    private final int prefetch;
+
+    /**
+     * Constructor.
+     *
+     * @param prefetch Prefetch size.
+     * @param sources Future of upstream publishers. If it completes exceptionally, the exception is propagated to
+     *         {@link Subscriber#onError(Throwable)}.
+     */
+    public MergedPublisher(int prefetch, CompletableFuture<? extends Collection<? extends Publisher<? extends T>>> sources) {
+        assert prefetch > 0 : prefetch;
+
+        this.prefetch = prefetch;
+        this.sources = sources;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe(Subscriber<? super T> downstream) {
+        MergeSubscription<T> subscription = new MergeSubscription<>(downstream, prefetch);
+
+        downstream.onSubscribe(subscription);
+
+        sources.whenComplete((sources0, ex) -> {
+            if (ex != null) {
+                subscription.onError(ex);
+            } else {
+                subscription.subscribe(sources0);
+            }
+        });
+    }
+
+    /** Composite subscription, which passes the items of all upstreams to the downstream subscriber. */
+    static final class MergeSubscription<T> implements Subscription {
+        private final Subscriber<? super T> downstream;
+
+        private final int prefetch;
+
+        /** Counter to prevent concurrent execution of a critical section. */
+        private final AtomicInteger guardCntr = new AtomicInteger();
+
+        /** Number of requested items. */
+        private final AtomicLong requested = new AtomicLong();
+
+        /** First error of an upstream. */
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        /** Subscribers of the upstreams, {@code null} until the upstreams are known. */
+        private volatile @Nullable List<MergeSubscriber<T>> subscribers;
+
+        /** Cancelled flag. */
+        private volatile boolean cancelled;
+
+        /** Number of emitted items, guarded by {@link #guardCntr}. */
+        private long emitted;
+
+        /** Whether a terminal signal is sent to the downstream, guarded by {@link #guardCntr}. */
+        private boolean done;
+
+        MergeSubscription(Subscriber<? super T> downstream, int prefetch) {
+            this.downstream = downstream;
+            this.prefetch = prefetch;
+        }
+
+        /** Subscribes to the upstreams. */
+        void subscribe(Collection<? extends Publisher<? extends T>> sources) {
+            List<MergeSubscriber<T>> subscribers = new ArrayList<>(sources.size());
+
+            for (int i = 0; i < sources.size(); i++) {
+                subscribers.add(new MergeSubscriber<>(this, prefetch));
+            }
+
+            this.subscribers = subscribers;
+
+            int i = 0;
+
+            for (Publisher<? extends T> source : sources) {
+                source.subscribe(subscribers.get(i++));
+            }
+
+            drain();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                onError(new IllegalArgumentException("Invalid number of requested items: " + n));
+
+                return;
+            }
+
+            requested.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+
+            drain();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void cancel() {
+            cancelled = true;
+
+            cancelUpstreams();
+
+            drain();
+        }
+
+        void onError(Throwable ex) {
+            error.compareAndSet(null, ex);
+
+            drain();
+        }
+
+        private void cancelUpstreams() {
+            List<MergeSubscriber<T>> subscribers = this.subscribers;
+
+            if (subscribers != null) {
+                for (MergeSubscriber<T> subscriber : subscribers) {
+                    subscriber.cancel();
+                }
+            }
+        }
+
+        /** Passes the received items to the downstream, only a single thread at a time does it. */
+        void drain() {
+            if (guardCntr.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+
+            do {
+                if (!done) {
+                    drain0();
+                }
+
+                missed = guardCntr.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain0() {
+            List<MergeSubscriber<T>> subscribers = this.subscribers;
+
+            if (cancelled) {
+                clear(subscribers);
+
+                done = true;
+
+                return;
+            }
+
+            Throwable ex = error.get();
+
+            if (ex != null) {
+                cancelUpstreams();
+                clear(subscribers);
+
+                done = true;
+
+                downstream.onError(ex);
+
+                return;
+            }
+
+            if (subscribers == null) {
+                return;
+            }
+
+            long requested = this.requested.get();
+            boolean progress = true;
+            boolean completed = true;
+
+            while (progress) {
+                progress = false;
+                completed = true;
+
+                for (MergeSubscriber<T> subscriber : subscribers) {
+                    // The flag is read before the queue, so that an empty queue of a completed upstream is never missed.
+                    boolean upstreamDone = subscriber.done;
+
+                    if (emitted == requested) {
+                        completed &= upstreamDone && subscriber.queue.isEmpty();
+
+                        continue;
+                    }
+
+                    T item = subscriber.queue.poll();
+
+                    if (item == null) {
+                        completed &= upstreamDone;
+
+                        continue;
+                    }
+
+                    downstream.onNext(item);
+
+                    emitted++;
+                    progress = true;
+                    completed = false;
+
+                    subscriber.consumed();
+
+                    if (cancelled || error.get() != null) {
+                        // Will be handled by the next iteration of the drain loop.
+                        return;
+                    }
+                }
+
+                if (emitted == requested) {
+                    requested = this.requested.get();
+                }
+            }
+
+            if (completed) {
+                done = true;
+
+                downstream.onComplete();
+            }
+        }
+
+        private static <T> void clear(@Nullable List<MergeSubscriber<T>> subscribers) {
+            if (subscribers != null) {
+                for (MergeSubscriber<T> subscriber : subscribers) {
+                    subscriber.queue.clear();
+                }
+            }
+        }
+    }
+
+    /** Subscriber of an upstream, which buffers the received items for the composite subscription. */
+    static final class MergeSubscriber<T> implements Subscriber<T> {
+        private final MergeSubscription<T> parent;
+
+        private final int prefetch;
+
+        /** Number of consumed items, after which more items are requested from the upstream. */
+        private final int limit;
+
+        private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+
+        /** Subscription of the upstream, {@link CancelledSubscription#INSTANCE} once cancelled. */
+        private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+
+        /** Number of items consumed since the last request, guarded by the guard counter of the parent. */
+        private int consumed;
+
+        private volatile boolean done;
+
+        MergeSubscriber(MergeSubscription<T> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (!upstream.compareAndSet(null, subscription)) {
+                // Already cancelled.
+                subscription.cancel();
+
+                return;
+            }
+
+            if (parent.cancelled) {
+                cancel();
+            } else {
+                subscription.request(prefetch);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onNext(T item) {
+            queue.offer(item);
+
+            parent.drain();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onError(Throwable throwable) {
+            done = true;
+
+            parent.onError(throwable);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onComplete() {
+            done = true;
+
+            parent.drain();
+        }
+
+        /** Requests more items from the upstream, once enough of the previously requested ones are consumed. */
+        void consumed() {
+            if (++consumed == limit) {
+                consumed = 0;
+
+                Subscription subscription = upstream.get();
+
+                if (subscription != null && subscription != CancelledSubscription.INSTANCE) {
+                    subscription.request(limit);
+                }
+            }
+        }
+
+        void cancel() {
+            Subscription subscription = upstream.getAndSet(CancelledSubscription.INSTANCE);
+
+            if (subscription != null && subscription != CancelledSubscription.INSTANCE) {
+                subscription.cancel();
+            }
+        }
+    }
+
+    /** Marker of a cancelled upstream subscription. */
+    private enum CancelledSubscription implements Subscription {
+        INSTANCE;
+
+        @Override
+        public void request(long n) {
+            // No-op.
+        }
+
+        @Override
+        public void cancel() {
+            // No-op.
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.changes;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apache.ignite.internal.hlc.HybridTimestamp.NULL_HYBRID_TIMESTAMP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.apache.ignite.table.ChangeEvent;
+import org.apache.ignite.table.ChangeEventType;
+import org.apache.ignite.table.ChangeStreamOptions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ChangesPublisherTest extends BaseIgniteAbstractTest {
+    private static final int PARTITIONS = 3;
+
+    /** Timestamp, up to which the changes of all partitions are final. */
+    private static final long HORIZON = 30;
+
+    private static ScheduledExecutorService pollExecutor;
+
+    @BeforeAll
+    public static void pollExecutorInit() {
+        pollExecutor = Executors.newSingleThreadScheduledExecutor(
+                new NamedThreadFactory("pollExecutor", Loggers.forClass(ChangesPublisherTest.class)));
+    }
+
+    @AfterAll
+    public static void pollExecutorShutdown() {
+        if (pollExecutor != null) {
+            pollExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void testEventsAreMergedInTimestampOrder() throws Exception {
+        var options = ChangeStreamOptions.builder().pageSize(2).pollInterval(10).build();
+        var publisher = new ChangesPublisher(completedFuture(PARTITIONS), ChangesPublisherTest::poll, options, pollExecutor);
+
+        // Partition P has changes at timestamps P + 1, P + 4, P + 7, ..., so the merged stream has a change at each timestamp.
+        int expectedCount = (int) HORIZON - 1;
+        var subscriber = new TestSubscriber(expectedCount);
+
+        publisher.subscribe(subscriber);
+
+        assertTrue(subscriber.received.await(10, TimeUnit.SECONDS));
+
+        List<Long> expected = LongStream.rangeClosed(2, HORIZON).boxed().collect(Collectors.toList());
+        List<Long> actual = subscriber.events.stream().map(ChangeEvent::timestamp).collect(Collectors.toList());
+
+        assertEquals(expected, actual);
+
+        for (ChangeEvent event : subscriber.events) {
+            assertEquals((event.timestamp() - 1) % PARTITIONS, event.partition());
+        }
+
+        subscriber.subscription.cancel();
+    }
+
+    @Test
+    void testSecondSubscriberIsRejected() throws Exception {
+        var publisher = new ChangesPublisher(
+                completedFuture(PARTITIONS),
+                ChangesPublisherTest::poll,
+                ChangeStreamOptions.DEFAULT,
+                pollExecutor
+        );
+
+        var first = new TestSubscriber(1);
+        var second = new TestSubscriber(1);
+
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+
+        assertTrue(second.failed.await(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, second.error);
+
+        first.subscription.cancel();
+    }
+
+    @Test
+    void testPollErrorIsPropagated() throws Exception {
+        var error = new RuntimeException("Test error");
+
+        var publisher = new ChangesPublisher(
+                completedFuture(PARTITIONS),
+                (partition, fromTimestamp, limit) -> CompletableFuture.failedFuture(error),
+                ChangeStreamOptions.DEFAULT,
+                pollExecutor
+        );
+
+        var subscriber = new TestSubscriber(1);
+
+        publisher.subscribe(subscriber);
+
+        assertTrue(subscriber.failed.await(10, TimeUnit.SECONDS));
+        assertEquals(error, subscriber.error);
+    }
+
+    private static CompletableFuture<PartitionChanges> poll(int partition, long fromTimestamp, int limit) {
+        if (fromTimestamp == NULL_HYBRID_TIMESTAMP) {
+            return completedFuture(new PartitionChanges(List.of(), 1));
+        }
+
+        var events = new ArrayList<ChangeEvent>();
+        long position = HORIZON;
+
+        for (long ts = partition + 1; ts <= HORIZON; ts += PARTITIONS) {
+            if (ts <= fromTimestamp) {
+                continue;
+            }
+
+            if (events.size() == limit) {
+                position = events.get(events.size() - 1).timestamp();
+
+                break;
+            }
+
+            events.add(ChangeEvent.of(ChangeEventType.INSERT, null, ts, partition));
+        }
+
+        return CompletableFuture.supplyAsync(() -> new PartitionChanges(events, position));
+    }
+
+    private static class TestSubscriber implements Subscriber<ChangeEvent> {
+        private final List<ChangeEvent> events = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch received;
+
+        private final CountDownLatch failed = new CountDownLatch(1);
+
+        private volatile Subscription subscription;
+
+        private volatile Throwable error;
+
+        private TestSubscriber(int expectedCount) {
+            received = new CountDownLatch(expectedCount);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ChangeEvent item) {
+            events.add(item);
+            received.countDown();
+
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            failed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            // No-op.
+        }
+    }
+}
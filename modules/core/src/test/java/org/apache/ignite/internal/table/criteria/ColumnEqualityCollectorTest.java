@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.criteria;
+
+import static org.apache.ignite.table.criteria.Criteria.and;
+import static org.apache.ignite.table.criteria.Criteria.columnValue;
+import static org.apache.ignite.table.criteria.Criteria.equalTo;
+import static org.apache.ignite.table.criteria.Criteria.greaterThan;
+import static org.apache.ignite.table.criteria.Criteria.in;
+import static org.apache.ignite.table.criteria.Criteria.not;
+import static org.apache.ignite.table.criteria.Criteria.nullValue;
+import static org.apache.ignite.table.criteria.Criteria.or;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Map;
+import java.util.stream.Stream;
+import org.apache.ignite.table.criteria.Criteria;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests for {@link ColumnEqualityCollector}.
+ */
+class ColumnEqualityCollectorTest {
+    @Test
+    void testCollectEquality() {
+        assertEquals(Map.of("ID", 1), ColumnEqualityCollector.collect(columnValue("id", equalTo(1))));
+
+        assertEquals(
+                Map.of("ID", 1, "Name", "a"),
+                ColumnEqualityCollector.collect(and(columnValue("id", equalTo(1)), columnValue("\"Name\"", equalTo("a"))))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("notCollectable")
+    void testNotCollectable(Criteria criteria) {
+        assertNull(ColumnEqualityCollector.collect(criteria));
+    }
+
+    private static Stream<Criteria> notCollectable() {
+        return Stream.of(
+                columnValue("id", greaterThan(1)),
+                columnValue("id", in(1, 2)),
+                columnValue("id", nullValue()),
+                not(columnValue("id", equalTo(1))),
+                or(columnValue("id", equalTo(1)), columnValue("name", equalTo("a"))),
+                and(columnValue("id", equalTo(1)), columnValue("id", equalTo(2))),
+                and(columnValue("id", equalTo(1)), columnValue("name", greaterThan("a")))
+        );
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.criteria;
+
+import static org.apache.ignite.table.criteria.Criteria.and;
+import static org.apache.ignite.table.criteria.Criteria.columnValue;
+import static org.apache.ignite.table.criteria.Criteria.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.ignite.sql.ColumnType;
+import org.apache.ignite.table.Tuple;
+import org.apache.ignite.table.criteria.Criteria;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CriteriaKeyLookupUtil}.
+ */
+class CriteriaKeyLookupUtilTest {
+    private static final Map<String, ColumnType> TYPES = Map.of(
+            "ID", ColumnType.INT32,
+            "Name", ColumnType.STRING,
+            "PRICE", ColumnType.DECIMAL
+    );
+
+    @Test
+    void testKeyTuple() {
+        assertEquals(Tuple.create().set("ID", 1), keyTuple(columnValue("id", equalTo(1)), "ID"));
+
+        assertEquals(
+                Tuple.create().set("ID", 1).set("\"Name\"", "a"),
+                keyTuple(and(columnValue("\"Name\"", equalTo("a")), columnValue("id", equalTo(1))), "ID", "Name")
+        );
+    }
+
+    @Test
+    void testNotKeyLookup() {
+        // Not every key column is restricted.
+        assertNull(keyTuple(columnValue("id", equalTo(1)), "ID", "Name"));
+
+        // A column out of the key is restricted.
+        assertNull(keyTuple(and(columnValue("id", equalTo(1)), columnValue("\"Name\"", equalTo("a"))), "ID"));
+
+        // Value of another type is converted by SQL.
+        assertNull(keyTuple(columnValue("id", equalTo(1L)), "ID"));
+
+        // Decimals are compared by SQL with the precision of the column.
+        assertNull(keyTuple(columnValue("price", equalTo(BigDecimal.ONE)), "PRICE"));
+    }
+
+    private static @Nullable Tuple keyTuple(Criteria criteria, String... keyColumns) {
+        return CriteriaKeyLookupUtil.keyTuple(criteria, List.of(keyColumns), Function.identity(), TYPES::get);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.subscription;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.util.SubscriptionUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MergedPublisher}.
+ */
+public class MergedPublisherTest extends BaseIgniteAbstractTest {
+    @Test
+    public void testMerge() {
+        Publisher<Integer> publisher = SubscriptionUtils.merge(2, List.of(
+                SubscriptionUtils.fromIterable(List.of(1, 2, 3)),
+                SubscriptionUtils.<Integer>fromIterable(List.of()),
+                SubscriptionUtils.fromIterable(List.of(4, 5))
+        ));
+
+        TestSubscriber subscriber = new TestSubscriber();
+
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items, containsInAnyOrder(1, 2, 3, 4, 5));
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void testDemand() {
+        Publisher<Integer> publisher = SubscriptionUtils.merge(4, List.of(
+                SubscriptionUtils.fromIterable(List.of(1, 2, 3)),
+                SubscriptionUtils.fromIterable(List.of(4, 5, 6))
+        ));
+
+        TestSubscriber subscriber = new TestSubscriber();
+
+        publisher.subscribe(subscriber);
+
+        assertThat(subscriber.items, empty());
+
+        subscriber.subscription.request(4);
+
+        assertThat(subscriber.items, hasSize(4));
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(2);
+
+        assertThat(subscriber.items, containsInAnyOrder(1, 2, 3, 4, 5, 6));
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testDeferredSources() {
+        CompletableFuture<List<Publisher<Integer>>> sources = new CompletableFuture<>();
+
+        TestSubscriber subscriber = new TestSubscriber();
+
+        SubscriptionUtils.merge(2, sources).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items, empty());
+        assertFalse(subscriber.completed);
+
+        sources.complete(List.of(SubscriptionUtils.fromIterable(List.of(1, 2)), SubscriptionUtils.fromIterable(List.of(3))));
+
+        assertThat(subscriber.items, containsInAnyOrder(1, 2, 3));
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testSourcesError() {
+        CompletableFuture<List<Publisher<Integer>>> sources = new CompletableFuture<>();
+
+        TestSubscriber subscriber = new TestSubscriber();
+
+        SubscriptionUtils.merge(2, sources).subscribe(subscriber);
+
+        sources.completeExceptionally(new IllegalStateException());
+
+        assertThat(subscriber.error, instanceOf(IllegalStateException.class));
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void testUpstreamErrorCancelsOtherUpstreams() {
+        TestPublisher failing = new TestPublisher();
+        TestPublisher other = new TestPublisher();
+
+        TestSubscriber subscriber = new TestSubscriber();
+
+        SubscriptionUtils.merge(2, List.of(failing, other)).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        failing.subscriber.onError(new IllegalStateException());
+
+        assertThat(subscriber.error, instanceOf(IllegalStateException.class));
+        assertTrue(other.cancelled.get());
+    }
+
+    @Test
+    public void testCancelBeforeSourcesAreKnown() {
+        CompletableFuture<List<Publisher<Integer>>> sources = new CompletableFuture<>();
+
+        TestSubscriber subscriber = new TestSubscriber();
+
+        SubscriptionUtils.merge(2, sources).subscribe(subscriber);
+
+        subscriber.subscription.cancel();
+
+        TestPublisher source = new TestPublisher();
+
+        sources.complete(List.of(source));
+
+        assertTrue(source.cancelled.get());
+        assertFalse(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    private static class TestSubscriber implements Subscriber<Integer> {
+        private final List<Integer> items = new ArrayList<>();
+
+        private Subscription subscription;
+
+        private boolean completed;
+
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    /** Publisher, which lets a test push signals to the subscriber. */
+    private static class TestPublisher implements Publisher<Integer> {
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        private Subscriber<? super Integer> subscriber;
+
+        @Override
+        public void subscribe(Subscriber<? super Integer> subscriber) {
+            this.subscriber = subscriber;
+
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    // No-op.
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled.set(true);
+                }
+            });
+        }
+    }
+}
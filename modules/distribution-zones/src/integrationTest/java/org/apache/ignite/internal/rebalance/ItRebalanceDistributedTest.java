@@ -1335,7 +1335,7 @@ public class ItRebalanceDistributedTest extends BaseIgniteAbstractTest {
 
             placementDriver = new TestPlacementDriver(() -> PRIMARY_FILTER.apply(clusterService.topologyService().allMembers()));
 
-            threadPoolsManager = new ThreadPoolsManager(name);
+            threadPoolsManager = new ThreadPoolsManager(name, new NoOpMetricManager());
 
             LongSupplier partitionIdleSafeTimePropagationPeriodMsSupplier = () -> 10L;
 
@@ -1558,7 +1558,8 @@ public class ItRebalanceDistributedTest extends BaseIgniteAbstractTest {
                     logStorageFactory,
                     replicaLifecycleManager,
                     minTimeCollectorService,
-                    systemDistributedConfiguration
+                    systemDistributedConfiguration,
+                    metricManager
             ) {
                 @Override
                 protected TxStateStorage createTxStateTableStorage(
@@ -30,7 +30,8 @@ public enum IgniteEventType {
     CLIENT_CONNECTION_ESTABLISHED,
     CLIENT_CONNECTION_CLOSED,
     QUERY_STARTED,
-    QUERY_FINISHED;
+    QUERY_FINISHED,
+    QUERY_SLOW;
 
     static {
         // Without the following line, the IgniteEventType enum will not be registered in the EventTypeRegistry
@@ -36,6 +36,7 @@ public final class IgniteEvents implements EventFactory {
     public static final IgniteEvents CLIENT_CONNECTION_CLOSED = new IgniteEvents(IgniteEventType.CLIENT_CONNECTION_CLOSED);
     public static final IgniteEvents QUERY_STARTED = new IgniteEvents(IgniteEventType.QUERY_STARTED);
     public static final IgniteEvents QUERY_FINISHED = new IgniteEvents(IgniteEventType.QUERY_FINISHED);
+    public static final IgniteEvents QUERY_SLOW = new IgniteEvents(IgniteEventType.QUERY_SLOW);
 
     private final IgniteEventType type;
 
@@ -0,0 +1,352 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import com.sun.nio.file.ExtendedOpenOption;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * {@link FileIo} implementation based on a {@link FileChannel} opened with {@link ExtendedOpenOption#DIRECT}, which bypasses the OS page
+ * cache.
+ *
+ * <p>Direct I/O requires the file positions, the sizes and the memory addresses of the buffers to be aligned to the block size of the
+ * file system. Operations satisfying these requirements are passed to the channel as is, other operations go through a thread-local
+ * aligned buffer: reads fetch the enclosing aligned range, writes of whole blocks are copied to the buffer, other writes read, modify and
+ * write back the partially covered blocks and then truncate the padding written beyond the end of the file.
+ *
+ * <p>Writes of partial blocks are serialized for the file, but they are not atomic with respect to other writes of the same blocks. Page
+ * stores never write the same block concurrently, since their headers and pages are aligned to the page size.
+ */
+public class DirectFileIo extends AbstractFileIo {
+    /** Max size of a thread-local aligned buffer kept between operations. */
+    private static final int MAX_CACHED_BUFFER_SIZE = 1024 * 1024;
+
+    /** Thread-local aligned buffer. */
+    private static final ThreadLocal<ByteBuffer> ALIGNED_BUFFER = new ThreadLocal<>();
+
+    /** File channel. */
+    private final FileChannel ch;
+
+    /** Block size of the file system, all direct operations must be aligned to it. */
+    private final int blockSize;
+
+    /** Mutex for the writes of partial blocks. */
+    private final Object unalignedWriteMux = new Object();
+
+    /** Position of the relative operations. */
+    private long position;
+
+    /**
+     * Creates I/O implementation for specified file.
+     *
+     * @param filePath File path.
+     * @param modes Open modes.
+     * @throws IOException If the file could not be opened or the file system does not support direct I/O.
+     * @throws UnsupportedOperationException If the platform does not support direct I/O.
+     */
+    public DirectFileIo(Path filePath, OpenOption... modes) throws IOException {
+        OpenOption[] directModes = Arrays.copyOf(modes, modes.length + 1);
+
+        directModes[modes.length] = ExtendedOpenOption.DIRECT;
+
+        ch = FileChannel.open(filePath, directModes);
+
+        try {
+            long blockSize = Files.getFileStore(filePath).getBlockSize();
+
+            if (blockSize <= 0 || blockSize > MAX_CACHED_BUFFER_SIZE || Long.bitCount(blockSize) != 1) {
+                throw new IOException("Unsupported block size for direct I/O [file=" + filePath + ", blockSize=" + blockSize + ']');
+            }
+
+            this.blockSize = (int) blockSize;
+        } catch (IOException | RuntimeException e) {
+            ch.close();
+
+            throw e;
+        }
+    }
+
+    /** Returns the block size of the file system, to which direct operations are aligned. */
+    public int blockSize() {
+        return blockSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized long position() throws IOException {
+        ensureOpen();
+
+        return position;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void position(long newPosition) throws IOException {
+        ensureOpen();
+
+        position = newPosition;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int read(ByteBuffer destBuf) throws IOException {
+        int read = read(destBuf, position);
+
+        if (read > 0) {
+            position += read;
+        }
+
+        return read;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer destBuf, long position) throws IOException {
+        ensureOpen();
+
+        int len = destBuf.remaining();
+
+        if (len == 0) {
+            return 0;
+        }
+
+        if (isAligned(destBuf, position)) {
+            return ch.read(destBuf, position);
+        }
+
+        long alignedPos = alignDown(position);
+        int offset = (int) (position - alignedPos);
+
+        ByteBuffer buf = alignedBuffer(alignUp(offset + len));
+
+        int read = readAligned(buf, alignedPos) - offset;
+
+        if (read <= 0) {
+            return -1;
+        }
+
+        read = Math.min(read, len);
+
+        destBuf.put(buf.limit(offset + read).position(offset));
+
+        return read;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(byte[] buf, int off, int len) throws IOException {
+        return read(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int write(ByteBuffer srcBuf) throws IOException {
+        int written = write(srcBuf, position);
+
+        position += written;
+
+        return written;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer srcBuf, long position) throws IOException {
+        ensureOpen();
+
+        int len = srcBuf.remaining();
+
+        if (len == 0) {
+            return 0;
+        }
+
+        if (isAligned(srcBuf, position)) {
+            return ch.write(srcBuf, position);
+        }
+
+        if ((position & (blockSize - 1)) == 0 && (len & (blockSize - 1)) == 0) {
+            // Whole blocks are overwritten, so their current content is not needed and nothing is written beyond the end of the data.
+            ByteBuffer buf = alignedBuffer(len);
+
+            buf.put(srcBuf);
+
+            writeAligned(buf.position(0), position);
+
+            return len;
+        }
+
+        long alignedPos = alignDown(position);
+        int offset = (int) (position - alignedPos);
+        int alignedLen = alignUp(offset + len);
+
+        synchronized (unalignedWriteMux) {
+            ByteBuffer buf = alignedBuffer(alignedLen);
+
+            long size = ch.size();
+
+            // Only the partially covered first and last blocks need their current content, but a single read of the whole range is
+            // cheaper than two separate reads.
+            int read = Math.max(readAligned(buf, alignedPos), 0);
+
+            while (read < alignedLen) {
+                buf.put(read++, (byte) 0);
+            }
+
+            buf.limit(offset + len).position(offset);
+
+            buf.put(srcBuf);
+
+            buf.limit(alignedLen).position(0);
+
+            writeAligned(buf, alignedPos);
+
+            long end = position + len;
+
+            if (alignedPos + alignedLen > Math.max(size, end)) {
+                ch.truncate(Math.max(size, end));
+            }
+        }
+
+        return len;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte[] buf, int off, int len) throws IOException {
+        return write(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void force(boolean withMetadata) throws IOException {
+        ch.force(withMetadata);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void force() throws IOException {
+        force(false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long size() throws IOException {
+        return ch.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void clear() throws IOException {
+        ch.truncate(0);
+
+        position = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        ch.close();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MappedByteBuffer map(int sizeBytes) throws IOException {
+        return ch.map(FileChannel.MapMode.READ_WRITE, 0, sizeBytes);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (!ch.isOpen()) {
+            throw new ClosedChannelException();
+        }
+    }
+
+    private boolean isAligned(ByteBuffer buf, long position) {
+        return buf.isDirect()
+                && (position & (blockSize - 1)) == 0
+                && (buf.remaining() & (blockSize - 1)) == 0
+                && buf.alignmentOffset(buf.position(), blockSize) == 0;
+    }
+
+    private long alignDown(long position) {
+        return position & -blockSize;
+    }
+
+    private int alignUp(int len) {
+        return (len + blockSize - 1) & -blockSize;
+    }
+
+    /**
+     * Reads the aligned range of the file into the aligned buffer, stopping at the end of the file.
+     *
+     * @return Number of bytes read, {@code -1} if the position is beyond the end of the file.
+     */
+    private int readAligned(ByteBuffer buf, long position) throws IOException {
+        int read = 0;
+
+        try {
+            while (buf.hasRemaining()) {
+                int n = ch.read(buf, position + read);
+
+                if (n < 0) {
+                    return read == 0 ? -1 : read;
+                }
+
+                read += n;
+
+                // A read that ends at an unaligned offset has reached the end of the file and cannot be continued with direct I/O.
+                if ((n & (blockSize - 1)) != 0) {
+                    break;
+                }
+            }
+
+            return read;
+        } finally {
+            buf.position(0);
+        }
+    }
+
+    private void writeAligned(ByteBuffer buf, long position) throws IOException {
+        int written = 0;
+
+        while (buf.hasRemaining()) {
+            written += ch.write(buf, position + written);
+        }
+    }
+
+    /** Returns the thread-local buffer aligned to the block size, with the position set to zero and the limit set to the given size. */
+    private ByteBuffer alignedBuffer(int size) {
+        ByteBuffer buf = ALIGNED_BUFFER.get();
+
+        if (buf == null || buf.capacity() < size || buf.alignmentOffset(0, blockSize) != 0) {
+            buf = ByteBuffer.allocateDirect(size + blockSize).alignedSlice(blockSize);
+
+            if (size <= MAX_CACHED_BUFFER_SIZE) {
+                ALIGNED_BUFFER.set(buf);
+            }
+        }
+
+        return buf.limit(size).position(0);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+
+/**
+ * {@link DirectFileIo} factory, which falls back to another factory for the files that cannot be opened for direct I/O, e.g. when the
+ * platform or the file system (like tmpfs) does not support it.
+ */
+public class DirectFileIoFactory implements FileIoFactory {
+    private static final IgniteLogger LOG = Loggers.forClass(DirectFileIoFactory.class);
+
+    /** Factory for the files that cannot be opened for direct I/O. */
+    private final FileIoFactory fallbackFactory;
+
+    /** Whether a fallback has already been logged. */
+    private final AtomicBoolean fallbackLogged = new AtomicBoolean();
+
+    /**
+     * Constructor.
+     *
+     * @param fallbackFactory Factory for the files that cannot be opened for direct I/O.
+     */
+    public DirectFileIoFactory(FileIoFactory fallbackFactory) {
+        this.fallbackFactory = fallbackFactory;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FileIo create(Path filePath, OpenOption... modes) throws IOException {
+        try {
+            return new DirectFileIo(filePath, modes);
+        } catch (NoSuchFileException | FileAlreadyExistsException e) {
+            // Not related to direct I/O, the fallback factory would fail the same way.
+            throw e;
+        } catch (IOException | UnsupportedOperationException e) {
+            if (fallbackLogged.compareAndSet(false, true)) {
+                LOG.warn("Direct I/O is not available, falling back to buffered I/O [file={}, fallback={}]", e, filePath,
+                        fallbackFactory.getClass().getSimpleName());
+            }
+
+            try {
+                return fallbackFactory.create(filePath, modes);
+            } catch (IOException fallbackException) {
+                fallbackException.addSuppressed(e);
+
+                throw fallbackException;
+            }
+        }
+    }
+}
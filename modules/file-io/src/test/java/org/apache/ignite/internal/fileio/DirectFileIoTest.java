@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.runMultiThreaded;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link DirectFileIo} testing.
+ */
+public class DirectFileIoTest extends AbstractFileIoTest {
+    @BeforeEach
+    void setUp() {
+        assumeTrue(directIoSupported(), "Direct I/O is not supported by the file system of the work directory");
+
+        fileIoFactory = new DirectFileIoFactory(new RandomAccessFileIoFactory());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Class<? extends FileIo> fileIoClass() {
+        return DirectFileIo.class;
+    }
+
+    @Test
+    void testUnalignedWrite() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        byte[] expected = randomByteArray(3 * 4096);
+
+        Files.write(testFilePath, expected);
+
+        try (FileIo fileIo = fileIoFactory.create(testFilePath)) {
+            byte[] bytes = randomByteArray(5000);
+
+            assertEquals(bytes.length, fileIo.writeFully(ByteBuffer.wrap(bytes), 100));
+
+            System.arraycopy(bytes, 0, expected, 100, bytes.length);
+
+            assertEquals(expected.length, fileIo.size());
+
+            // Extends the file by a size that is not a multiple of the block size, the padding of the last block must be truncated.
+            bytes = randomByteArray(10);
+
+            assertEquals(bytes.length, fileIo.writeFully(ByteBuffer.wrap(bytes), expected.length + 5));
+
+            expected = Arrays.copyOf(expected, expected.length + 15);
+
+            System.arraycopy(bytes, 0, expected, expected.length - 10, bytes.length);
+
+            assertEquals(expected.length, fileIo.size());
+
+            ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+
+            assertEquals(expected.length, fileIo.readFully(buffer, 0));
+            assertArrayEquals(expected, buffer.array());
+        }
+
+        assertArrayEquals(expected, Files.readAllBytes(testFilePath));
+    }
+
+    @Test
+    void testAlignedDirectBuffer() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        try (DirectFileIo fileIo = (DirectFileIo) fileIoFactory.create(testFilePath)) {
+            int blockSize = fileIo.blockSize();
+
+            byte[] bytes = randomByteArray(2 * blockSize);
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(3 * blockSize).alignedSlice(blockSize).limit(2 * blockSize);
+
+            buffer.put(bytes).flip();
+
+            assertEquals(bytes.length, fileIo.writeFully(buffer, blockSize));
+            assertEquals(3 * blockSize, fileIo.size());
+
+            buffer.clear().limit(2 * blockSize);
+
+            assertEquals(bytes.length, fileIo.readFully(buffer, blockSize));
+
+            byte[] read = new byte[bytes.length];
+
+            buffer.flip().get(read);
+
+            assertArrayEquals(bytes, read);
+        }
+    }
+
+    @Test
+    void testConcurrentBlockAlignedWrites() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        try (DirectFileIo fileIo = (DirectFileIo) fileIoFactory.create(testFilePath)) {
+            int blockSize = fileIo.blockSize();
+            int threads = 4;
+            int blocksPerThread = 16;
+
+            byte[] expected = randomByteArray(threads * blocksPerThread * blockSize);
+
+            var threadIndex = new AtomicInteger();
+
+            runMultiThreaded(
+                    () -> {
+                        int thread = threadIndex.getAndIncrement();
+
+                        for (int i = thread; i < threads * blocksPerThread; i += threads) {
+                            // Heap buffers are not aligned in memory, so they are written through the thread-local aligned buffer.
+                            ByteBuffer buffer = ByteBuffer.wrap(expected, i * blockSize, blockSize);
+
+                            assertEquals(blockSize, fileIo.writeFully(buffer, (long) i * blockSize));
+                        }
+
+                        return null;
+                    },
+                    threads,
+                    "direct-write"
+            );
+
+            assertEquals(expected.length, fileIo.size());
+        }
+
+        assertArrayEquals(expected, Files.readAllBytes(testFilePath));
+    }
+
+    @Test
+    void testMissingFile() {
+        assertThrows(NoSuchFileException.class, () -> fileIoFactory.create(workDir.resolve("missing"), READ, WRITE));
+    }
+
+    private boolean directIoSupported() {
+        try (FileIo ignored = new DirectFileIo(workDir.resolve("probe"), CREATE, READ, WRITE)) {
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    private static byte[] randomByteArray(int len) {
+        byte[] bytes = new byte[len];
+
+        ThreadLocalRandom.current().nextBytes(bytes);
+
+        return bytes;
+    }
+}
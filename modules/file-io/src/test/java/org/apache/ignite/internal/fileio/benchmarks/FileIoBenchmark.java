@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.fileio.AsyncFileIoFactory;
+import org.apache.ignite.internal.fileio.DirectFileIoFactory;
+import org.apache.ignite.internal.fileio.FileIo;
+import org.apache.ignite.internal.fileio.FileIoFactory;
+import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the {@link FileIo} implementations on the page store access patterns: checkpoint-like writes of page batches followed by
+ * an fsync, and random page reads.
+ *
+ * <p>Buffered implementations serve repeated reads from the OS page cache, so the read latency should be compared with a data set that
+ * does not fit into the OS page cache to get the cost of a miss, while the direct implementation always reads from the device.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class FileIoBenchmark {
+    private static final int PAGES_PER_CHECKPOINT = 256;
+
+    /** File I/O implementation. */
+    @Param({"RANDOM_ACCESS", "ASYNC", "DIRECT"})
+    public FileIoType fileIoType;
+
+    /** Page size in bytes. */
+    @Param("16384")
+    public int pageSize;
+
+    /** Number of pages in the file. */
+    @Param("65536")
+    public int pages;
+
+    private Path dir;
+
+    private FileIo fileIo;
+
+    /** Page buffer, allocated off-heap like the pages written by checkpoints. */
+    private ByteBuffer page;
+
+    /**
+     * Creates the file and fills it with pages.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("file-io-benchmark");
+
+        fileIo = fileIoType.factory().create(dir.resolve("part-0.bin"));
+
+        page = ByteBuffer.allocateDirect(pageSize);
+
+        byte[] bytes = new byte[pageSize];
+
+        ThreadLocalRandom.current().nextBytes(bytes);
+
+        page.put(bytes);
+
+        for (int i = 0; i < pages; i++) {
+            fileIo.writeFully(page.rewind(), (long) i * pageSize);
+        }
+
+        fileIo.force();
+    }
+
+    /**
+     * Closes and removes the file.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        fileIo.close();
+
+        Files.delete(dir.resolve("part-0.bin"));
+        Files.delete(dir);
+    }
+
+    /** Writes a batch of random pages and syncs the file, like a checkpoint does. */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(PAGES_PER_CHECKPOINT)
+    public void checkpointWrite() throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < PAGES_PER_CHECKPOINT; i++) {
+            fileIo.writeFully(page.rewind(), (long) random.nextInt(pages) * pageSize);
+        }
+
+        fileIo.force();
+    }
+
+    /** Reads a random page. */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ByteBuffer randomRead() throws IOException {
+        fileIo.readFully(page.rewind(), (long) ThreadLocalRandom.current().nextInt(pages) * pageSize);
+
+        return page;
+    }
+
+    /**
+     * Benchmark's entry point.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + FileIoBenchmark.class.getSimpleName() + ".*")
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    /** File I/O implementations. */
+    public enum FileIoType {
+        RANDOM_ACCESS {
+            @Override
+            FileIoFactory factory() {
+                return new RandomAccessFileIoFactory();
+            }
+        },
+
+        ASYNC {
+            @Override
+            FileIoFactory factory() {
+                return new AsyncFileIoFactory();
+            }
+        },
+
+        DIRECT {
+            @Override
+            FileIoFactory factory() {
+                return new DirectFileIoFactory(new RandomAccessFileIoFactory());
+            }
+        };
+
+        abstract FileIoFactory factory();
+    }
+}
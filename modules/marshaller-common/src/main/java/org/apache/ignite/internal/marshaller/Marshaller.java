@@ -112,14 +112,16 @@ public abstract class Marshaller {
      * @param mapper              Mapper.
      * @param requireAllFields    If specified class should contain fields for all columns.
      * @param allowUnmappedFields Whether specified class can contain fields that are not mapped to columns.
-     * @return Pojo marshaller.
+     * @return Pojo marshaller, generated with {@link PojoMarshallerGenerator} when the mapper has no type converters.
      */
-    private static PojoMarshaller pojoMarshaller(
+    private static Marshaller pojoMarshaller(
             MarshallerColumn[] cols,
             PojoMapper<?> mapper,
             boolean requireAllFields,
             boolean allowUnmappedFields) {
         FieldAccessor[] fieldAccessors = new FieldAccessor[cols.length];
+        String[] fieldNames = new String[cols.length];
+        boolean hasConverters = false;
         int usedFields = 0;
 
         // Build handlers.
@@ -140,6 +142,9 @@ public abstract class Marshaller {
 
                 TypeConverter<Object, Object> converter = mapper.converterForColumn(columnName);
 
+                fieldNames[i] = fieldName;
+                hasConverters |= converter != null;
+
                 fieldAccessors[i] = FieldAccessor.create(mapper.targetType(), fieldName, col, i, converter);
             }
         }
@@ -165,7 +170,10 @@ public abstract class Marshaller {
             }
         }
 
-        return new PojoMarshaller(new ObjectFactory<>(mapper.targetType()), fieldAccessors);
+        Factory<?> factory = new ObjectFactory<>(mapper.targetType());
+        PojoMarshaller marshaller = new PojoMarshaller(factory, fieldAccessors);
+
+        return hasConverters ? marshaller : PojoMarshallerGenerator.generate(mapper.targetType(), cols, fieldNames, factory, marshaller);
     }
 
     /**
@@ -0,0 +1,654 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.marshaller;
+
+import static com.facebook.presto.bytecode.expression.BytecodeExpressions.constantInt;
+import static com.facebook.presto.bytecode.expression.BytecodeExpressions.constantLong;
+import static com.facebook.presto.bytecode.expression.BytecodeExpressions.getStatic;
+import static com.facebook.presto.bytecode.expression.BytecodeExpressions.invokeStatic;
+import static com.facebook.presto.bytecode.expression.BytecodeExpressions.isNull;
+import static com.facebook.presto.bytecode.expression.BytecodeExpressions.newInstance;
+import static com.facebook.presto.bytecode.expression.BytecodeExpressions.setStatic;
+
+import com.facebook.presto.bytecode.Access;
+import com.facebook.presto.bytecode.BytecodeBlock;
+import com.facebook.presto.bytecode.BytecodeNode;
+import com.facebook.presto.bytecode.ClassDefinition;
+import com.facebook.presto.bytecode.ClassGenerator;
+import com.facebook.presto.bytecode.FieldDefinition;
+import com.facebook.presto.bytecode.MethodDefinition;
+import com.facebook.presto.bytecode.Parameter;
+import com.facebook.presto.bytecode.ParameterizedType;
+import com.facebook.presto.bytecode.Scope;
+import com.facebook.presto.bytecode.Variable;
+import com.facebook.presto.bytecode.control.IfStatement;
+import com.facebook.presto.bytecode.control.SwitchStatement;
+import com.facebook.presto.bytecode.control.SwitchStatement.SwitchBuilder;
+import com.facebook.presto.bytecode.control.TryCatch;
+import com.facebook.presto.bytecode.expression.BytecodeExpression;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.lang.IgniteSystemProperties;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.util.Factory;
+import org.apache.ignite.lang.MarshallerException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Generates {@link Marshaller} classes for POJOs.
+ *
+ * <p>A generated marshaller reads and writes every column with a dedicated piece of code that calls the matching typed method of
+ * {@link MarshallerReader} or {@link MarshallerWriter} directly. Object fields are accessed through {@code static final}
+ * {@link VarHandle} constants of the generated class, so JIT treats them as constants and compiles every access into a plain field
+ * load or store. The reflective marshaller, by contrast, walks an array of polymorphic {@link FieldAccessor}s and switches over the
+ * column mode for every reference field.
+ *
+ * <p>Only mappers without type converters are supported. {@link Marshaller#value} is delegated to the reflective marshaller, since
+ * it is not used on the per-row path.
+ */
+public final class PojoMarshallerGenerator {
+    /** The logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(PojoMarshallerGenerator.class);
+
+    /** Internal name prefix of the generated classes. */
+    private static final String CLASS_NAME_PREFIX = "org/apache/ignite/internal/marshaller/GeneratedPojoMarshaller";
+
+    /** Maximum number of columns to generate a marshaller for, keeps generated methods well within the JVM limits. */
+    static final int MAX_COLUMNS = 512;
+
+    /** Whether generation is enabled. */
+    private static final boolean ENABLED = !IgniteSystemProperties.getBoolean(
+            IgniteSystemProperties.IGNITE_POJO_MARSHALLER_CODEGEN_DISABLED, false);
+
+    /** Generator of unique class ids. */
+    private static final AtomicLong CLASS_ID_GEN = new AtomicLong();
+
+    /** Field handles waiting to be picked up by the static initializer of the class with the given id. */
+    private static final Map<Long, VarHandle[]> PENDING_FIELD_HANDLES = new ConcurrentHashMap<>();
+
+    /** Name of the handle of the field mapped to the column with the given index. */
+    private static final String FIELD_HANDLE_PREFIX = "FIELD_";
+
+    private PojoMarshallerGenerator() {
+        // No-op.
+    }
+
+    /**
+     * Generates a marshaller for the given POJO class.
+     *
+     * @param type Object class.
+     * @param cols Columns.
+     * @param fieldNames Names of the fields mapped to the columns, {@code null} for unmapped columns.
+     * @param factory Object factory.
+     * @param fallback Reflective marshaller for the same class and columns.
+     * @return Generated marshaller, or {@code fallback} if the generation is disabled or fails.
+     */
+    static Marshaller generate(Class<?> type, MarshallerColumn[] cols, String[] fieldNames, Factory<?> factory, Marshaller fallback) {
+        if (!ENABLED || cols.length > MAX_COLUMNS) {
+            return fallback;
+        }
+
+        long classId = CLASS_ID_GEN.incrementAndGet();
+
+        try {
+            VarHandle[] handles = new VarHandle[cols.length];
+            Class<?>[] fieldTypes = new Class<?>[cols.length];
+
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+
+            for (int i = 0; i < cols.length; i++) {
+                if (fieldNames[i] == null) {
+                    continue;
+                }
+
+                Field field = type.getDeclaredField(fieldNames[i]);
+
+                if (!field.getType().isPrimitive() && !isSupportedReferenceMode(cols[i].type())) {
+                    return fallback;
+                }
+
+                handles[i] = lookup.unreflectVarHandle(field);
+                fieldTypes[i] = field.getType();
+            }
+
+            ClassDefinition classDef = generateClass(CLASS_NAME_PREFIX + classId, classId, cols, fieldTypes);
+
+            Class<? extends Marshaller> cls = ClassGenerator.classGenerator(Marshaller.class.getClassLoader())
+                    .defineClass(classDef, Marshaller.class);
+
+            PENDING_FIELD_HANDLES.put(classId, handles);
+
+            // Instantiation runs the static initializer, which picks up the handles.
+            return cls.getConstructor(Factory.class, Marshaller.class).newInstance(factory, fallback);
+        } catch (Exception | LinkageError e) {
+            LOG.debug("Failed to generate marshaller, falling back to the reflective one [class={}]", e, type.getName());
+
+            return fallback;
+        } finally {
+            PENDING_FIELD_HANDLES.remove(classId);
+        }
+    }
+
+    /**
+     * Returns field handles for the generated class with the given id. Called from the static initializers of the generated classes.
+     *
+     * @param classId Class id.
+     * @return Field handles indexed by column, {@code null} elements for unmapped columns.
+     */
+    public static VarHandle[] fieldHandles(long classId) {
+        VarHandle[] handles = PENDING_FIELD_HANDLES.remove(classId);
+
+        if (handles == null) {
+            throw new IllegalStateException("No field handles for generated marshaller: " + classId);
+        }
+
+        return handles;
+    }
+
+    private static ClassDefinition generateClass(String className, long classId, MarshallerColumn[] cols, Class<?>[] fieldTypes) {
+        ClassDefinition classDef = new ClassDefinition(
+                EnumSet.of(Access.PUBLIC, Access.FINAL, Access.SYNTHETIC),
+                className,
+                ParameterizedType.type(Marshaller.class)
+        );
+
+        FieldDefinition[] handleFields = generateStaticHandles(classDef, classId, fieldTypes);
+
+        generateFieldsAndConstructor(classDef);
+
+        MethodDefinition[] writeMethods = new MethodDefinition[cols.length];
+        MethodDefinition[] readMethods = new MethodDefinition[cols.length];
+
+        for (int i = 0; i < cols.length; i++) {
+            writeMethods[i] = generateWriteColumnMethod(classDef, i, cols[i], fieldTypes[i], handleFields[i]);
+            readMethods[i] = generateReadColumnMethod(classDef, i, cols[i], fieldTypes[i], handleFields[i]);
+        }
+
+        generateWriteObjectMethod(classDef, writeMethods);
+        generateWriteFieldMethod(classDef, writeMethods);
+        generateReadObjectMethod(classDef, readMethods);
+        generateValueMethod(classDef);
+
+        return classDef;
+    }
+
+    private static FieldDefinition[] generateStaticHandles(ClassDefinition classDef, long classId, Class<?>[] fieldTypes) {
+        FieldDefinition[] handleFields = new FieldDefinition[fieldTypes.length];
+
+        MethodDefinition init = classDef.getClassInitializer();
+        Variable handles = init.getScope().createTempVariable(VarHandle[].class);
+
+        BytecodeBlock body = init.getBody()
+                .append(handles.set(invokeStatic(PojoMarshallerGenerator.class, "fieldHandles", VarHandle[].class, constantLong(classId))));
+
+        for (int i = 0; i < fieldTypes.length; i++) {
+            if (fieldTypes[i] == null) {
+                continue;
+            }
+
+            handleFields[i] = classDef.declareField(EnumSet.of(Access.PRIVATE, Access.STATIC, Access.FINAL),
+                    FIELD_HANDLE_PREFIX + i, VarHandle.class);
+
+            body.append(setStatic(handleFields[i], handles.getElement(i)));
+        }
+
+        return handleFields;
+    }
+
+    private static void generateFieldsAndConstructor(ClassDefinition classDef) {
+        classDef.declareField(EnumSet.of(Access.PRIVATE, Access.FINAL), "factory", Factory.class);
+        classDef.declareField(EnumSet.of(Access.PRIVATE, Access.FINAL), "fallback", Marshaller.class);
+
+        MethodDefinition constrDef = classDef.declareConstructor(
+                EnumSet.of(Access.PUBLIC),
+                Parameter.arg("factory", Factory.class),
+                Parameter.arg("fallback", Marshaller.class)
+        );
+
+        constrDef.getBody()
+                .append(constrDef.getThis())
+                .invokeConstructor(classDef.getSuperClass())
+                .append(constrDef.getThis().setField("factory", constrDef.getScope().getVariable("factory")))
+                .append(constrDef.getThis().setField("fallback", constrDef.getScope().getVariable("fallback")))
+                .ret();
+    }
+
+    /**
+     * Generates {@code private static void write<idx>(Object obj, MarshallerWriter writer)} writing a single column.
+     */
+    private static MethodDefinition generateWriteColumnMethod(
+            ClassDefinition classDef,
+            int idx,
+            MarshallerColumn col,
+            @Nullable Class<?> fieldType,
+            @Nullable FieldDefinition handleField
+    ) {
+        Parameter obj = Parameter.arg("obj", Object.class);
+        Parameter writer = Parameter.arg("writer", MarshallerWriter.class);
+
+        MethodDefinition methodDef = classDef.declareMethod(
+                EnumSet.of(Access.PRIVATE, Access.STATIC),
+                "write" + idx,
+                ParameterizedType.type(void.class),
+                obj,
+                writer
+        );
+
+        BytecodeBlock block = new BytecodeBlock();
+
+        if (handleField == null) {
+            block.append(writer.invoke("writeAbsentValue", void.class));
+        } else if (fieldType.isPrimitive()) {
+            BytecodeExpression val = getStatic(handleField).invoke("get", fieldType, List.of(Object.class), obj);
+
+            block.append(writer.invoke(writeMethodName(BinaryMode.forClass(fieldType)), void.class, List.of(fieldType), val));
+        } else {
+            Variable val = methodDef.getScope().declareVariable(Object.class, "val");
+
+            block.append(new IfStatement()
+                    .condition(isNull(obj))
+                    .ifTrue(writer.invoke("writeNull", void.class))
+                    .ifFalse(new BytecodeBlock()
+                            .append(val.set(getStatic(handleField).invoke("get", Object.class, List.of(Object.class), obj)))
+                            .append(new IfStatement()
+                                    .condition(isNull(val))
+                                    .ifTrue(writer.invoke("writeNull", void.class))
+                                    .ifFalse(writeReference(writer, col, val)))));
+        }
+
+        methodDef.getBody()
+                .append(wrapExceptions(methodDef.getScope(), block))
+                .ret();
+
+        return methodDef;
+    }
+
+    /**
+     * Generates {@code private static void read<idx>(MarshallerReader reader, Object obj)} reading a single column.
+     */
+    private static MethodDefinition generateReadColumnMethod(
+            ClassDefinition classDef,
+            int idx,
+            MarshallerColumn col,
+            @Nullable Class<?> fieldType,
+            @Nullable FieldDefinition handleField
+    ) {
+        Parameter reader = Parameter.arg("reader", MarshallerReader.class);
+        Parameter obj = Parameter.arg("obj", Object.class);
+
+        MethodDefinition methodDef = classDef.declareMethod(
+                EnumSet.of(Access.PRIVATE, Access.STATIC),
+                "read" + idx,
+                ParameterizedType.type(void.class),
+                reader,
+                obj
+        );
+
+        BytecodeBlock block = new BytecodeBlock();
+
+        if (handleField == null) {
+            block.append(reader.invoke("skipValue", void.class));
+        } else if (fieldType.isPrimitive()) {
+            BytecodeExpression val = reader.invoke(readMethodName(BinaryMode.forClass(fieldType)), fieldType);
+
+            block.append(getStatic(handleField).invoke("set", void.class, List.of(Object.class, fieldType), obj, val));
+        } else {
+            block.append(getStatic(handleField).invoke("set", void.class, List.of(Object.class, Object.class), obj,
+                    readReference(reader, col)));
+        }
+
+        methodDef.getBody()
+                .append(wrapExceptions(methodDef.getScope(), block))
+                .ret();
+
+        return methodDef;
+    }
+
+    private static void generateWriteObjectMethod(ClassDefinition classDef, MethodDefinition[] writeMethods) {
+        Parameter obj = Parameter.arg("obj", Object.class);
+        Parameter writer = Parameter.arg("writer", MarshallerWriter.class);
+
+        MethodDefinition methodDef = classDef.declareMethod(
+                EnumSet.of(Access.PUBLIC),
+                "writeObject",
+                ParameterizedType.type(void.class),
+                obj,
+                writer
+        ).addException(MarshallerException.class);
+
+        methodDef.declareAnnotation(Override.class);
+
+        for (MethodDefinition writeMethod : writeMethods) {
+            methodDef.getBody().append(invokeStatic(writeMethod, obj, writer));
+        }
+
+        methodDef.getBody().ret();
+    }
+
+    private static void generateWriteFieldMethod(ClassDefinition classDef, MethodDefinition[] writeMethods) {
+        Parameter obj = Parameter.arg("obj", Object.class);
+        Parameter writer = Parameter.arg("writer", MarshallerWriter.class);
+        Parameter fldIdx = Parameter.arg("fldIdx", int.class);
+
+        MethodDefinition methodDef = classDef.declareMethod(
+                EnumSet.of(Access.PUBLIC),
+                "writeField",
+                ParameterizedType.type(void.class),
+                obj,
+                writer,
+                fldIdx
+        ).addException(MarshallerException.class);
+
+        methodDef.declareAnnotation(Override.class);
+
+        SwitchBuilder switchBuilder = SwitchStatement.switchBuilder().expression(fldIdx);
+
+        for (int i = 0; i < writeMethods.length; i++) {
+            switchBuilder.addCase(i, invokeStatic(writeMethods[i], obj, writer));
+        }
+
+        switchBuilder.defaultCase(methodDef.getThis().getField("fallback", Marshaller.class)
+                .invoke("writeField", void.class, obj, writer, fldIdx));
+
+        methodDef.getBody()
+                .append(switchBuilder.build())
+                .ret();
+    }
+
+    private static void generateReadObjectMethod(ClassDefinition classDef, MethodDefinition[] readMethods) {
+        Parameter reader = Parameter.arg("reader", MarshallerReader.class);
+        Parameter target = Parameter.arg("target", Object.class);
+
+        MethodDefinition methodDef = classDef.declareMethod(
+                EnumSet.of(Access.PUBLIC),
+                "readObject",
+                ParameterizedType.type(Object.class),
+                reader,
+                target
+        ).addException(MarshallerException.class);
+
+        methodDef.declareAnnotation(Override.class);
+
+        Variable obj = methodDef.getScope().declareVariable(Object.class, "obj");
+
+        BytecodeBlock body = methodDef.getBody()
+                .append(new IfStatement()
+                        .condition(isNull(target))
+                        .ifTrue(obj.set(methodDef.getThis().getField("factory", Factory.class).invoke("create", Object.class)))
+                        .ifFalse(obj.set(target)));
+
+        for (MethodDefinition readMethod : readMethods) {
+            body.append(invokeStatic(readMethod, reader, obj));
+        }
+
+        body.append(obj.ret());
+    }
+
+    private static void generateValueMethod(ClassDefinition classDef) {
+        Parameter obj = Parameter.arg("obj", Object.class);
+        Parameter fldIdx = Parameter.arg("fldIdx", int.class);
+
+        MethodDefinition methodDef = classDef.declareMethod(
+                EnumSet.of(Access.PUBLIC),
+                "value",
+                ParameterizedType.type(Object.class),
+                obj,
+                fldIdx
+        );
+
+        methodDef.declareAnnotation(Override.class);
+
+        methodDef.getBody().append(methodDef.getThis().getField("fallback", Marshaller.class)
+                .invoke("value", Object.class, obj, fldIdx)
+                .ret());
+    }
+
+    /** Wraps any exception thrown by the given block into {@link MarshallerException}, like {@link FieldAccessor} does. */
+    private static BytecodeNode wrapExceptions(Scope scope, BytecodeNode block) {
+        Variable ex = scope.createTempVariable(Throwable.class);
+
+        return new TryCatch(
+                block,
+                new BytecodeBlock()
+                        .putVariable(ex)
+                        .append(newInstance(MarshallerException.class, ex.invoke("getMessage", String.class), ex))
+                        .throwObject(),
+                ParameterizedType.type(Exception.class)
+        );
+    }
+
+    private static BytecodeExpression writeReference(BytecodeExpression writer, MarshallerColumn col, Variable val) {
+        BinaryMode mode = col.type();
+        String methodName = writeMethodName(mode);
+        Class<?> valType = writeType(mode);
+
+        if (mode == BinaryMode.DECIMAL) {
+            return writer.invoke(methodName, void.class, List.of(valType, int.class), val.cast(valType), constantInt(col.scale()));
+        }
+
+        return writer.invoke(methodName, void.class, List.of(valType), val.cast(valType));
+    }
+
+    private static BytecodeExpression readReference(BytecodeExpression reader, MarshallerColumn col) {
+        BinaryMode mode = col.type();
+
+        if (mode == BinaryMode.DECIMAL) {
+            return reader.invoke("readBigDecimal", BigDecimal.class, constantInt(col.scale()));
+        }
+
+        return reader.invoke(readMethodName(mode), readType(mode));
+    }
+
+    private static boolean isSupportedReferenceMode(BinaryMode mode) {
+        switch (mode) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+            case STRING:
+            case UUID:
+            case BYTE_ARR:
+            case DECIMAL:
+            case DATE:
+            case TIME:
+            case TIMESTAMP:
+            case DATETIME:
+            case POJO:
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    /** Name of the {@link MarshallerWriter} method for the mode, see {@link FieldAccessor#writeRefObject}. */
+    private static String writeMethodName(BinaryMode mode) {
+        switch (mode) {
+            case P_BOOLEAN:
+            case BOOLEAN:
+                return "writeBoolean";
+            case P_BYTE:
+            case BYTE:
+                return "writeByte";
+            case P_SHORT:
+            case SHORT:
+                return "writeShort";
+            case P_INT:
+            case INT:
+                return "writeInt";
+            case P_LONG:
+            case LONG:
+                return "writeLong";
+            case P_FLOAT:
+            case FLOAT:
+                return "writeFloat";
+            case P_DOUBLE:
+            case DOUBLE:
+                return "writeDouble";
+            case STRING:
+                return "writeString";
+            case UUID:
+                return "writeUuid";
+            case BYTE_ARR:
+            case POJO:
+                return "writeBytes";
+            case DECIMAL:
+                return "writeBigDecimal";
+            case DATE:
+                return "writeDate";
+            case TIME:
+                return "writeTime";
+            case TIMESTAMP:
+                return "writeTimestamp";
+            case DATETIME:
+                return "writeDateTime";
+            default:
+                throw new IllegalArgumentException("Invalid mode: " + mode);
+        }
+    }
+
+    /** Parameter type of the {@link MarshallerWriter} method for a reference column of the mode. */
+    private static Class<?> writeType(BinaryMode mode) {
+        switch (mode) {
+            case BOOLEAN:
+                return boolean.class;
+            case BYTE:
+                return byte.class;
+            case SHORT:
+                return short.class;
+            case INT:
+                return int.class;
+            case LONG:
+                return long.class;
+            case FLOAT:
+                return float.class;
+            case DOUBLE:
+                return double.class;
+            default:
+                return readType(mode);
+        }
+    }
+
+    /** Name of the {@link MarshallerReader} method for the mode, see {@link FieldAccessor#readRefValue}. */
+    private static String readMethodName(BinaryMode mode) {
+        switch (mode) {
+            case P_BOOLEAN:
+                return "readBoolean";
+            case P_BYTE:
+                return "readByte";
+            case P_SHORT:
+                return "readShort";
+            case P_INT:
+                return "readInt";
+            case P_LONG:
+                return "readLong";
+            case P_FLOAT:
+                return "readFloat";
+            case P_DOUBLE:
+                return "readDouble";
+            case BOOLEAN:
+                return "readBooleanBoxed";
+            case BYTE:
+                return "readByteBoxed";
+            case SHORT:
+                return "readShortBoxed";
+            case INT:
+                return "readIntBoxed";
+            case LONG:
+                return "readLongBoxed";
+            case FLOAT:
+                return "readFloatBoxed";
+            case DOUBLE:
+                return "readDoubleBoxed";
+            case STRING:
+                return "readString";
+            case UUID:
+                return "readUuid";
+            case BYTE_ARR:
+            case POJO:
+                return "readBytes";
+            case DECIMAL:
+                return "readBigDecimal";
+            case DATE:
+                return "readDate";
+            case TIME:
+                return "readTime";
+            case TIMESTAMP:
+                return "readTimestamp";
+            case DATETIME:
+                return "readDateTime";
+            default:
+                throw new IllegalArgumentException("Invalid mode: " + mode);
+        }
+    }
+
+    /** Return type of the {@link MarshallerReader} method for a reference column of the mode. */
+    private static Class<?> readType(BinaryMode mode) {
+        switch (mode) {
+            case BOOLEAN:
+                return Boolean.class;
+            case BYTE:
+                return Byte.class;
+            case SHORT:
+                return Short.class;
+            case INT:
+                return Integer.class;
+            case LONG:
+                return Long.class;
+            case FLOAT:
+                return Float.class;
+            case DOUBLE:
+                return Double.class;
+            case STRING:
+                return String.class;
+            case UUID:
+                return UUID.class;
+            case BYTE_ARR:
+            case POJO:
+                return byte[].class;
+            case DECIMAL:
+                return BigDecimal.class;
+            case DATE:
+                return LocalDate.class;
+            case TIME:
+                return LocalTime.class;
+            case TIMESTAMP:
+                return Instant.class;
+            case DATETIME:
+                return LocalDateTime.class;
+            default:
+                throw new IllegalArgumentException("Invalid mode: " + mode);
+        }
+    }
+}
@@ -323,7 +323,7 @@ public class FieldAccessorTest extends BaseIgniteAbstractTest {
      *
      * @return Pair of mocks.
      */
-    private static Pair<MarshallerWriter, MarshallerReader> createMocks() {
+    static Pair<MarshallerWriter, MarshallerReader> createMocks() {
         ArrayList<Object> vals = new ArrayList<>();
 
         MarshallerWriter mockedAsm = Mockito.mock(MarshallerWriter.class);
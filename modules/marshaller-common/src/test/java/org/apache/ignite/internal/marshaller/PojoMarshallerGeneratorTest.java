@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.marshaller;
+
+import static org.apache.ignite.internal.marshaller.BinaryMode.BOOLEAN;
+import static org.apache.ignite.internal.marshaller.BinaryMode.BYTE;
+import static org.apache.ignite.internal.marshaller.BinaryMode.BYTE_ARR;
+import static org.apache.ignite.internal.marshaller.BinaryMode.DATE;
+import static org.apache.ignite.internal.marshaller.BinaryMode.DATETIME;
+import static org.apache.ignite.internal.marshaller.BinaryMode.DECIMAL;
+import static org.apache.ignite.internal.marshaller.BinaryMode.DOUBLE;
+import static org.apache.ignite.internal.marshaller.BinaryMode.FLOAT;
+import static org.apache.ignite.internal.marshaller.BinaryMode.INT;
+import static org.apache.ignite.internal.marshaller.BinaryMode.LONG;
+import static org.apache.ignite.internal.marshaller.BinaryMode.SHORT;
+import static org.apache.ignite.internal.marshaller.BinaryMode.STRING;
+import static org.apache.ignite.internal.marshaller.BinaryMode.TIME;
+import static org.apache.ignite.internal.marshaller.BinaryMode.TIMESTAMP;
+import static org.apache.ignite.internal.marshaller.BinaryMode.UUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Locale;
+import java.util.Random;
+import org.apache.ignite.internal.marshaller.testobjects.TestObjectWithAllTypes;
+import org.apache.ignite.internal.marshaller.testobjects.TestSimpleObject;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.util.Pair;
+import org.apache.ignite.lang.MarshallerException;
+import org.apache.ignite.table.mapper.Mapper;
+import org.apache.ignite.table.mapper.PojoMapper;
+import org.apache.ignite.table.mapper.TypeConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for marshallers generated by {@link PojoMarshallerGenerator}.
+ */
+public class PojoMarshallerGeneratorTest extends BaseIgniteAbstractTest {
+    private static final String GENERATED_CLASS_PREFIX = "org.apache.ignite.internal.marshaller.GeneratedPojoMarshaller";
+
+    private Random rnd;
+
+    /**
+     * Init random and print seed before each test.
+     */
+    @BeforeEach
+    public void initRandom() {
+        long seed = System.currentTimeMillis();
+
+        log.info("Using seed: " + seed + "L;");
+
+        rnd = new Random(seed);
+    }
+
+    @Test
+    public void allTypes() throws Exception {
+        MarshallerColumn[] cols = {
+                col("primitiveBooleanCol", BOOLEAN),
+                col("primitiveByteCol", BYTE),
+                col("primitiveShortCol", SHORT),
+                col("primitiveIntCol", INT),
+                col("primitiveLongCol", LONG),
+                col("primitiveFloatCol", FLOAT),
+                col("primitiveDoubleCol", DOUBLE),
+
+                col("booleanCol", BOOLEAN),
+                col("byteCol", BYTE),
+                col("shortCol", SHORT),
+                col("intCol", INT),
+                col("longCol", LONG),
+                col("nullLongCol", LONG),
+                col("floatCol", FLOAT),
+                col("doubleCol", DOUBLE),
+
+                col("dateCol", DATE),
+                col("timeCol", TIME),
+                col("dateTimeCol", DATETIME),
+                col("timestampCol", TIMESTAMP),
+
+                col("uuidCol", UUID),
+                col("stringCol", STRING),
+                col("bytesCol", BYTE_ARR),
+                col("nullBytesCol", BYTE_ARR),
+                col("decimalCol", DECIMAL),
+        };
+
+        Mapper<TestObjectWithAllTypes> mapper = Mapper.of(TestObjectWithAllTypes.class);
+
+        Marshaller marshaller = Marshaller.createMarshaller(cols, mapper, true, true);
+
+        assertTrue(isGenerated(marshaller));
+
+        Pair<MarshallerWriter, MarshallerReader> mocks = FieldAccessorTest.createMocks();
+
+        TestObjectWithAllTypes obj = TestObjectWithAllTypes.randomObject(rnd);
+
+        marshaller.writeObject(obj, mocks.getFirst());
+
+        assertEquals(obj, marshaller.readObject(mocks.getSecond(), null));
+
+        for (int i = 0; i < cols.length; i++) {
+            String fieldName = ((PojoMapper<?>) mapper).fieldForColumn(cols[i].name());
+
+            FieldAccessor accessor = FieldAccessor.create(TestObjectWithAllTypes.class, fieldName, cols[i], i, null);
+
+            assertEquals(accessor.value(obj), marshaller.value(obj, i));
+        }
+    }
+
+    @Test
+    public void nullsAndTargetObject() throws Exception {
+        MarshallerColumn[] cols = {
+                col("intCol", INT),
+                col("longCol", LONG),
+                col("stringCol", STRING),
+                col("bytesCol", BYTE_ARR),
+        };
+
+        Marshaller marshaller = Marshaller.createMarshaller(cols, Mapper.of(TestSimpleObject.class), true, false);
+
+        assertTrue(isGenerated(marshaller));
+
+        Pair<MarshallerWriter, MarshallerReader> mocks = FieldAccessorTest.createMocks();
+
+        // Integer and byte array fields are left null.
+        TestSimpleObject obj = TestSimpleObject.randomObject(rnd);
+
+        for (int i = 0; i < cols.length; i++) {
+            marshaller.writeField(obj, mocks.getFirst(), i);
+        }
+
+        TestSimpleObject target = new TestSimpleObject();
+
+        assertSame(target, marshaller.readObject(mocks.getSecond(), target));
+        assertEquals(obj, target);
+    }
+
+    @Test
+    public void unmappedColumn() throws Exception {
+        MarshallerColumn[] cols = {
+                col("id", LONG),
+                col("unknownCol", STRING),
+        };
+
+        Marshaller marshaller = Marshaller.createMarshaller(cols, Mapper.of(TestPojo.class), false, true);
+
+        assertTrue(isGenerated(marshaller));
+
+        MarshallerWriter writer = Mockito.mock(MarshallerWriter.class);
+        MarshallerReader reader = Mockito.mock(MarshallerReader.class);
+
+        Mockito.when(reader.readLongBoxed()).thenReturn(42L);
+
+        TestPojo obj = new TestPojo();
+        obj.id = rnd.nextLong();
+
+        marshaller.writeObject(obj, writer);
+
+        Mockito.verify(writer).writeLong(obj.id);
+        Mockito.verify(writer).writeAbsentValue();
+
+        TestPojo restored = (TestPojo) marshaller.readObject(reader, null);
+
+        Mockito.verify(reader).skipValue();
+        assertEquals(Long.valueOf(42L), restored.id);
+    }
+
+    @Test
+    public void writeFailureIsWrapped() {
+        MarshallerColumn[] cols = {
+                col("primitiveIntCol", INT),
+        };
+
+        Marshaller marshaller = Marshaller.createMarshaller(cols, Mapper.of(TestObjectWithAllTypes.class), false, true);
+
+        MarshallerWriter writer = Mockito.mock(MarshallerWriter.class);
+
+        Mockito.doThrow(new IllegalStateException("test")).when(writer).writeInt(Mockito.anyInt());
+
+        MarshallerException ex = assertThrows(MarshallerException.class,
+                () -> marshaller.writeObject(TestObjectWithAllTypes.randomObject(rnd), writer));
+
+        assertEquals(IllegalStateException.class, ex.getCause().getClass());
+    }
+
+    @Test
+    public void converterFallsBackToReflectiveMarshaller() {
+        MarshallerColumn[] cols = {
+                col("longCol", STRING),
+        };
+
+        Mapper<TestSimpleObject> mapper = Mapper.builder(TestSimpleObject.class)
+                .map("longCol", "longCol", new TypeConverter<Long, String>() {
+                    @Override
+                    public String toColumnType(Long obj) {
+                        return String.valueOf(obj);
+                    }
+
+                    @Override
+                    public Long toObjectType(String data) {
+                        return Long.valueOf(data);
+                    }
+                })
+                .build();
+
+        Marshaller marshaller = Marshaller.createMarshaller(cols, mapper, false, true);
+
+        assertFalse(isGenerated(marshaller));
+    }
+
+    /** Test object. */
+    static class TestPojo {
+        Long id;
+    }
+
+    private static MarshallerColumn col(String fieldName, BinaryMode mode) {
+        return new MarshallerColumn(fieldName.toUpperCase(Locale.US), mode);
+    }
+
+    private static boolean isGenerated(Marshaller marshaller) {
+        return marshaller.getClass().getName().startsWith(GENERATED_CLASS_PREFIX);
+    }
+}
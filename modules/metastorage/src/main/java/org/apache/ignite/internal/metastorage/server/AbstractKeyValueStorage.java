@@ -32,7 +32,6 @@ import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Predicate;
 import org.apache.ignite.internal.failure.FailureProcessor;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
@@ -120,7 +119,17 @@ public abstract class AbstractKeyValueStorage implements KeyValueStorage {
         this.failureProcessor = failureProcessor;
         this.readOperationForCompactionTracker = readOperationForCompactionTracker;
 
-        watchProcessor = new WatchProcessor(nodeName, this::get, failureProcessor);
+        watchProcessor = new WatchProcessor(nodeName, new WatchProcessor.EntryReader() {
+            @Override
+            public Entry get(byte[] key, long revision) {
+                return AbstractKeyValueStorage.this.get(key, revision);
+            }
+
+            @Override
+            public List<Entry> getAll(List<byte[]> keys, long revision) {
+                return AbstractKeyValueStorage.this.getAll(keys, revision);
+            }
+        }, failureProcessor);
     }
 
     /** Returns the key revisions for operation, an empty array if not found. */
@@ -131,6 +140,34 @@ public abstract class AbstractKeyValueStorage implements KeyValueStorage {
      */
     protected abstract @Nullable Value valueForOperation(byte[] key, long revision);
 
+    /**
+     * Returns the key revisions for operation for each of the keys, an empty array for a key if not found. Storages that support batched
+     * reads are expected to override this method to read the revisions of all keys at once.
+     */
+    protected List<long[]> keyRevisionsForOperation(List<byte[]> keys) {
+        var res = new ArrayList<long[]>(keys.size());
+
+        for (byte[] key : keys) {
+            res.add(keyRevisionsForOperation(key));
+        }
+
+        return res;
+    }
+
+    /**
+     * Returns key values by revisions for operation for each of the keys, {@code null} for a key if there's no value for its revision.
+     * Storages that support batched reads are expected to override this method to read the values of all keys at once.
+     */
+    protected List<@Nullable Value> valuesForOperation(List<byte[]> keys, long[] revisions) {
+        var res = new ArrayList<@Nullable Value>(keys.size());
+
+        for (int i = 0; i < keys.size(); i++) {
+            res.add(valueForOperation(keys.get(i), revisions[i]));
+        }
+
+        return res;
+    }
+
     /**
      * Returns {@code true} if the metastorage is in the recovery state.
      */
@@ -268,11 +305,7 @@ public abstract class AbstractKeyValueStorage implements KeyValueStorage {
     public void watchRange(byte[] keyFrom, byte @Nullable [] keyTo, long rev, WatchListener listener) {
         assert rev > 0 : rev;
 
-        Predicate<byte[]> rangePredicate = keyTo == null
-                ? k -> KEY_COMPARATOR.compare(keyFrom, k) <= 0
-                : k -> KEY_COMPARATOR.compare(keyFrom, k) <= 0 && KEY_COMPARATOR.compare(keyTo, k) > 0;
-
-        watchProcessor.addWatch(new Watch(rev, listener, rangePredicate));
+        watchProcessor.addWatch(Watch.range(rev, listener, keyFrom, keyTo));
     }
 
     @Override
@@ -280,22 +313,14 @@ public abstract class AbstractKeyValueStorage implements KeyValueStorage {
         assert rev > 0 : rev;
         assert !keys.isEmpty();
 
-        TreeSet<byte[]> keySet = new TreeSet<>(KEY_COMPARATOR);
-
-        keySet.addAll(keys);
-
-        Predicate<byte[]> inPredicate = keySet::contains;
-
-        watchProcessor.addWatch(new Watch(rev, listener, inPredicate));
+        watchProcessor.addWatch(Watch.exact(rev, listener, keys));
     }
 
     @Override
     public void watchExact(byte[] key, long rev, WatchListener listener) {
         assert rev > 0 : rev;
 
-        Predicate<byte[]> exactPredicate = k -> KEY_COMPARATOR.compare(k, key) == 0;
-
-        watchProcessor.addWatch(new Watch(rev, listener, exactPredicate));
+        watchProcessor.addWatch(Watch.exact(rev, listener, List.of(key)));
     }
 
     /** Notifies of revision update. */
@@ -318,34 +343,67 @@ public abstract class AbstractKeyValueStorage implements KeyValueStorage {
             return EntryImpl.empty(key);
         }
 
-        long revision = keyRevisions[maxRevisionIndex];
+        Value value = valueForOperation(key, keyRevisions[maxRevisionIndex]);
 
-        Value value = valueForOperation(key, revision);
+        return toEntry(key, keyRevisions, maxRevisionIndex, value, revUpperBound);
+    }
 
-        if (value == null) {
-            CompactedException.throwIfRequestedRevisionLessThanOrEqualToCompacted(revUpperBound, compactionRevision);
+    private List<Entry> doGetAll(List<byte[]> keys, long revUpperBound) {
+        assert !keys.isEmpty();
+        assert revUpperBound >= 0 : revUpperBound;
 
-            return EntryImpl.empty(key);
+        List<long[]> keysRevisions = keyRevisionsForOperation(keys);
+
+        var res = new Entry[keys.size()];
+
+        // Keys that have a revision not greater than the upper bound, their values are read in a single batch.
+        var foundIndexes = new int[keys.size()];
+        var foundKeys = new ArrayList<byte[]>(keys.size());
+        var foundRevisions = new long[keys.size()];
+
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] key = keys.get(i);
+            long[] keyRevisions = keysRevisions.get(i);
+
+            int maxRevisionIndex = maxRevisionIndex(keyRevisions, revUpperBound);
+
+            if (maxRevisionIndex == NOT_FOUND) {
+                CompactedException.throwIfRequestedRevisionLessThanOrEqualToCompacted(revUpperBound, compactionRevision);
+
+                res[i] = EntryImpl.empty(key);
+            } else {
+                foundIndexes[foundKeys.size()] = i;
+                foundRevisions[foundKeys.size()] = keyRevisions[maxRevisionIndex];
+                foundKeys.add(key);
+            }
         }
 
-        if (!isLastIndex(keyRevisions, maxRevisionIndex) || value.tombstone()) {
-            CompactedException.throwIfRequestedRevisionLessThanOrEqualToCompacted(revUpperBound, compactionRevision);
+        if (!foundKeys.isEmpty()) {
+            List<@Nullable Value> values = valuesForOperation(foundKeys, Arrays.copyOf(foundRevisions, foundKeys.size()));
+
+            for (int j = 0; j < foundKeys.size(); j++) {
+                int i = foundIndexes[j];
+                long[] keyRevisions = keysRevisions.get(i);
+
+                res[i] = toEntry(keys.get(i), keyRevisions, maxRevisionIndex(keyRevisions, revUpperBound), values.get(j), revUpperBound);
+            }
         }
 
-        return EntryImpl.toEntry(key, revision, value);
+        return Arrays.asList(res);
     }
 
-    private List<Entry> doGetAll(List<byte[]> keys, long revUpperBound) {
-        assert !keys.isEmpty();
-        assert revUpperBound >= 0 : revUpperBound;
+    private Entry toEntry(byte[] key, long[] keyRevisions, int maxRevisionIndex, @Nullable Value value, long revUpperBound) {
+        if (value == null) {
+            CompactedException.throwIfRequestedRevisionLessThanOrEqualToCompacted(revUpperBound, compactionRevision);
 
-        var res = new ArrayList<Entry>(keys.size());
+            return EntryImpl.empty(key);
+        }
 
-        for (byte[] key : keys) {
-            res.add(doGet(key, revUpperBound));
+        if (!isLastIndex(keyRevisions, maxRevisionIndex) || value.tombstone()) {
+            CompactedException.throwIfRequestedRevisionLessThanOrEqualToCompacted(revUpperBound, compactionRevision);
         }
 
-        return res;
+        return EntryImpl.toEntry(key, keyRevisions[maxRevisionIndex], value);
     }
 
     @Override
@@ -17,13 +17,21 @@
 
 package org.apache.ignite.internal.metastorage.server;
 
+import static org.apache.ignite.internal.metastorage.server.AbstractKeyValueStorage.KEY_COMPARATOR;
+
+import java.util.Collection;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.metastorage.WatchEvent;
 import org.apache.ignite.internal.metastorage.WatchListener;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Subscription on updates of Meta Storage entries corresponding to a subset of keys, starting from a given revision number.
+ *
+ * <p>Watches created by {@link #exact} and {@link #range} also describe their keys, so that {@link WatchIndex} finds them without
+ * testing the predicate against every updated key.
  */
 public class Watch {
     /** Minimum revision of entries that this Watch must be notified of. */
@@ -35,6 +43,15 @@ public class Watch {
     /** Event listener. */
     private final WatchListener listener;
 
+    /** Keys of an exact watch, {@code null} for other watches. */
+    private final @Nullable Collection<byte[]> keys;
+
+    /** Lower bound (inclusive) of the keys of a range watch, {@code null} for other watches. */
+    private final byte @Nullable [] keyFrom;
+
+    /** Upper bound (exclusive) of the keys of a range watch, {@code null} for other watches or for an unbounded range. */
+    private final byte @Nullable [] keyTo;
+
     /**
      * Constructor.
      *
@@ -43,9 +60,56 @@ public class Watch {
      * @param predicate Key predicate.
      */
     public Watch(long startRevision, WatchListener listener, Predicate<byte[]> predicate) {
+        this(startRevision, listener, predicate, null, null, null);
+    }
+
+    private Watch(
+            long startRevision,
+            WatchListener listener,
+            Predicate<byte[]> predicate,
+            @Nullable Collection<byte[]> keys,
+            byte @Nullable [] keyFrom,
+            byte @Nullable [] keyTo
+    ) {
         this.predicate = predicate;
         this.listener = listener;
         this.startRevision = startRevision;
+        this.keys = keys;
+        this.keyFrom = keyFrom;
+        this.keyTo = keyTo;
+    }
+
+    /**
+     * Creates a watch of the given keys.
+     *
+     * @param startRevision Starting revision.
+     * @param listener Event listener.
+     * @param keys Keys.
+     */
+    public static Watch exact(long startRevision, WatchListener listener, Collection<byte[]> keys) {
+        assert !keys.isEmpty();
+
+        TreeSet<byte[]> keySet = new TreeSet<>(KEY_COMPARATOR);
+
+        keySet.addAll(keys);
+
+        return new Watch(startRevision, listener, keySet::contains, keySet, null, null);
+    }
+
+    /**
+     * Creates a watch of a range of keys.
+     *
+     * @param startRevision Starting revision.
+     * @param listener Event listener.
+     * @param keyFrom Lower bound of the keys (inclusive).
+     * @param keyTo Upper bound of the keys (exclusive), {@code null} for an unbounded range.
+     */
+    public static Watch range(long startRevision, WatchListener listener, byte[] keyFrom, byte @Nullable [] keyTo) {
+        Predicate<byte[]> predicate = keyTo == null
+                ? k -> KEY_COMPARATOR.compare(keyFrom, k) <= 0
+                : k -> KEY_COMPARATOR.compare(keyFrom, k) <= 0 && KEY_COMPARATOR.compare(keyTo, k) > 0;
+
+        return new Watch(startRevision, listener, predicate, null, keyFrom, keyTo);
     }
 
     /**
@@ -80,4 +144,19 @@ public class Watch {
     long startRevision() {
         return startRevision;
     }
+
+    /** Returns keys of an exact watch, {@code null} for other watches. */
+    @Nullable Collection<byte[]> keys() {
+        return keys;
+    }
+
+    /** Returns lower bound (inclusive) of the keys of a range watch, {@code null} for other watches. */
+    byte @Nullable [] keyFrom() {
+        return keyFrom;
+    }
+
+    /** Returns upper bound (exclusive) of the keys of a range watch, {@code null} for other watches or for an unbounded range. */
+    byte @Nullable [] keyTo() {
+        return keyTo;
+    }
 }
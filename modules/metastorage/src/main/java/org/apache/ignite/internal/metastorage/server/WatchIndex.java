@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metastorage.server;
+
+import static org.apache.ignite.internal.metastorage.server.AbstractKeyValueStorage.KEY_COMPARATOR;
+import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import org.apache.ignite.internal.lang.ByteArray;
+import org.apache.ignite.internal.rocksdb.RocksUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Index of watches by the keys they are subscribed to, which finds the watches matching an updated key without testing every
+ * registered watch. Exact watches are looked up in a hash map by the key, prefix watches (ranges from a prefix to its
+ * {@link RocksUtils#incrementPrefix increment}) in a byte trie of the prefixes, other ranges in an array sorted by the lower bounds, and
+ * watches with arbitrary key predicates are tested one by one.
+ *
+ * <p>Watches are identified by their positions in the list the index is built from. The index is immutable and is rebuilt when a watch
+ * is added or removed, which is rare compared to the updates of the watched keys.
+ */
+class WatchIndex {
+    static final WatchIndex EMPTY = new WatchIndex(List.of());
+
+    private final List<Watch> watches;
+
+    private final Map<ByteArray, IntArrayList> exactWatches = new HashMap<>();
+
+    private final TrieNode prefixWatches = new TrieNode();
+
+    /** Range watches sorted by the lower bounds of their keys. */
+    private final RangeWatch[] rangeWatches;
+
+    /** Watches with arbitrary key predicates. */
+    private final IntArrayList predicateWatches = new IntArrayList();
+
+    /**
+     * Constructor.
+     *
+     * @param watches Watches in the order of their registration.
+     */
+    WatchIndex(List<Watch> watches) {
+        this.watches = List.copyOf(watches);
+
+        var rangeWatches = new ArrayList<RangeWatch>();
+
+        for (int i = 0; i < watches.size(); i++) {
+            Watch watch = watches.get(i);
+
+            Collection<byte[]> keys = watch.keys();
+            byte[] keyFrom = watch.keyFrom();
+            byte[] keyTo = watch.keyTo();
+
+            if (keys != null) {
+                for (byte[] key : keys) {
+                    exactWatches.computeIfAbsent(new ByteArray(key), k -> new IntArrayList(1)).add(i);
+                }
+            } else if (keyFrom != null && keyTo != null && Arrays.equals(RocksUtils.incrementPrefix(keyFrom), keyTo)) {
+                prefixWatches.add(keyFrom, i);
+            } else if (keyFrom != null) {
+                rangeWatches.add(new RangeWatch(keyFrom, keyTo, i));
+            } else {
+                predicateWatches.add(i);
+            }
+        }
+
+        this.rangeWatches = rangeWatches.stream()
+                .sorted(Comparator.comparing(RangeWatch::keyFrom, KEY_COMPARATOR))
+                .toArray(RangeWatch[]::new);
+    }
+
+    /** Returns indexed watches in the order of their registration. */
+    List<Watch> watches() {
+        return watches;
+    }
+
+    /** Returns {@code true} if the index has no watches. */
+    boolean isEmpty() {
+        return watches.isEmpty();
+    }
+
+    /**
+     * Passes positions of the watches, that must be notified of an update of the key at the given revision, to the consumer. Every
+     * position is passed at most once.
+     *
+     * @param key Updated key.
+     * @param revision Revision of the update.
+     * @param consumer Consumer of the watch positions.
+     */
+    void forEachMatching(byte[] key, long revision, IntConsumer consumer) {
+        IntArrayList exact = exactWatches.get(new ByteArray(key));
+
+        if (exact != null) {
+            forEachStarted(exact, revision, consumer);
+        }
+
+        TrieNode node = prefixWatches;
+
+        for (int i = 0; node != null; i++) {
+            forEachStarted(node.watches, revision, consumer);
+
+            node = i < key.length ? node.child(key[i]) : null;
+        }
+
+        for (int i = 0, end = rangeUpperBound(key); i < end; i++) {
+            RangeWatch range = rangeWatches[i];
+
+            if (range.keyTo == null || KEY_COMPARATOR.compare(range.keyTo, key) > 0) {
+                consumeIfStarted(range.position, revision, consumer);
+            }
+        }
+
+        for (int i = 0; i < predicateWatches.size(); i++) {
+            int position = predicateWatches.getInt(i);
+
+            if (watches.get(position).matches(key, revision)) {
+                consumer.accept(position);
+            }
+        }
+    }
+
+    /** Returns the number of range watches with the lower bounds not greater than the key. */
+    private int rangeUpperBound(byte[] key) {
+        int low = 0;
+        int high = rangeWatches.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (KEY_COMPARATOR.compare(rangeWatches[mid].keyFrom, key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    private void forEachStarted(IntArrayList positions, long revision, IntConsumer consumer) {
+        for (int i = 0; i < positions.size(); i++) {
+            consumeIfStarted(positions.getInt(i), revision, consumer);
+        }
+    }
+
+    private void consumeIfStarted(int position, long revision, IntConsumer consumer) {
+        if (revision >= watches.get(position).startRevision()) {
+            consumer.accept(position);
+        }
+    }
+
+    /** Node of the byte trie of the prefixes of the prefix watches. */
+    private static class TrieNode {
+        /** Bytes of the child nodes in the unsigned order. */
+        private byte[] labels = BYTE_EMPTY_ARRAY;
+
+        private TrieNode[] children = new TrieNode[0];
+
+        /** Watches of the prefix that ends in this node. */
+        private final IntArrayList watches = new IntArrayList(0);
+
+        void add(byte[] prefix, int position) {
+            TrieNode node = this;
+
+            for (byte b : prefix) {
+                node = node.childOrCreate(b);
+            }
+
+            node.watches.add(position);
+        }
+
+        @Nullable TrieNode child(byte b) {
+            int idx = indexOf(b);
+
+            return idx >= 0 ? children[idx] : null;
+        }
+
+        private TrieNode childOrCreate(byte b) {
+            int idx = indexOf(b);
+
+            if (idx >= 0) {
+                return children[idx];
+            }
+
+            int insertionPoint = -idx - 1;
+
+            var child = new TrieNode();
+
+            byte[] newLabels = new byte[labels.length + 1];
+            TrieNode[] newChildren = new TrieNode[children.length + 1];
+
+            System.arraycopy(labels, 0, newLabels, 0, insertionPoint);
+            System.arraycopy(children, 0, newChildren, 0, insertionPoint);
+
+            newLabels[insertionPoint] = b;
+            newChildren[insertionPoint] = child;
+
+            System.arraycopy(labels, insertionPoint, newLabels, insertionPoint + 1, labels.length - insertionPoint);
+            System.arraycopy(children, insertionPoint, newChildren, insertionPoint + 1, children.length - insertionPoint);
+
+            labels = newLabels;
+            children = newChildren;
+
+            return child;
+        }
+
+        /** Binary search of the byte in the labels, returns {@code -(insertion point) - 1} if there is no such label. */
+        private int indexOf(byte b) {
+            int low = 0;
+            int high = labels.length - 1;
+            int key = Byte.toUnsignedInt(b);
+
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int midKey = Byte.toUnsignedInt(labels[mid]);
+
+                if (midKey < key) {
+                    low = mid + 1;
+                } else if (midKey > key) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+
+            return -(low + 1);
+        }
+    }
+
+    private static class RangeWatch {
+        private final byte[] keyFrom;
+
+        private final byte @Nullable [] keyTo;
+
+        private final int position;
+
+        private RangeWatch(byte[] keyFrom, byte @Nullable [] keyTo, int position) {
+            this.keyFrom = keyFrom;
+            this.keyTo = keyTo;
+            this.position = position;
+        }
+
+        byte[] keyFrom() {
+            return keyFrom;
+        }
+    }
+}
@@ -32,6 +32,7 @@ import static org.apache.ignite.internal.util.CompletableFutures.copyStateTo;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.apache.ignite.internal.util.ExceptionUtils.hasCause;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -77,6 +78,17 @@ public class WatchProcessor implements ManuallyCloseable {
     @FunctionalInterface
     public interface EntryReader {
         Entry get(byte[] key, long revision);
+
+        /** Reads entries of the keys at the given revision, storages are expected to read all of them at once. */
+        default List<Entry> getAll(List<byte[]> keys, long revision) {
+            var entries = new ArrayList<Entry>(keys.size());
+
+            for (byte[] key : keys) {
+                entries.add(get(key, revision));
+            }
+
+            return entries;
+        }
     }
 
     private static final IgniteLogger LOG = Loggers.forClass(WatchProcessor.class);
@@ -98,8 +110,8 @@ public class WatchProcessor implements ManuallyCloseable {
             (AtomicReferenceFieldUpdater)
             AtomicReferenceFieldUpdater.newUpdater(WatchProcessor.class, CompletableFuture.class, "notificationFuture");
 
-    /** Map that contains Watches and corresponding Watch notification process (represented as a CompletableFuture). */
-    private final List<Watch> watches = new CopyOnWriteArrayList<>();
+    /** Index of the registered Watches, rebuilt under the monitor of this processor when a Watch is added or removed. */
+    private volatile WatchIndex watchIndex = WatchIndex.EMPTY;
 
     /**
      * Future that represents the process of notifying registered Watches about a Meta Storage revision.
@@ -157,20 +169,28 @@ public class WatchProcessor implements ManuallyCloseable {
     }
 
     /** Adds a watch. */
-    public void addWatch(Watch watch) {
+    public synchronized void addWatch(Watch watch) {
+        var watches = new ArrayList<>(watchIndex.watches());
+
         watches.add(watch);
+
+        watchIndex = new WatchIndex(watches);
     }
 
     /** Removes a watch (identified by its listener). */
-    void removeWatch(WatchListener listener) {
-        watches.removeIf(watch -> watch.listener() == listener);
+    synchronized void removeWatch(WatchListener listener) {
+        var watches = new ArrayList<>(watchIndex.watches());
+
+        if (watches.removeIf(watch -> watch.listener() == listener)) {
+            watchIndex = new WatchIndex(watches);
+        }
     }
 
     /**
      * Returns the minimal target revision of all registered watches.
      */
     public OptionalLong minWatchRevision() {
-        return watches.stream()
+        return watchIndex.watches().stream()
                 .mapToLong(Watch::startRevision)
                 .min();
     }
@@ -331,33 +351,62 @@ public class WatchProcessor implements ManuallyCloseable {
     }
 
     private List<WatchAndEvents> collectWatchesAndEvents(List<Entry> updatedEntries, long revision) {
-        if (watches.isEmpty() || updatedEntries.isEmpty()) {
+        WatchIndex watchIndex = this.watchIndex;
+
+        if (watchIndex.isEmpty() || updatedEntries.isEmpty()) {
             return List.of();
         }
 
-        var watchAndEvents = new ArrayList<WatchAndEvents>();
+        // Updated entries that match at least one watch, along with the positions of the matching watches in the index.
+        var matchedEntries = new ArrayList<Entry>();
+        var matchedWatches = new ArrayList<int[]>();
 
-        for (Watch watch : watches) {
-            List<EntryEvent> events = List.of();
+        var positions = new IntArrayList();
 
-            for (Entry newEntry : updatedEntries) {
-                byte[] newKey = newEntry.key();
+        for (Entry newEntry : updatedEntries) {
+            assert newEntry.revision() == revision;
 
-                assert newEntry.revision() == revision;
+            positions.clear();
 
-                if (watch.matches(newKey, revision)) {
-                    Entry oldEntry = entryReader.get(newKey, revision - 1);
+            watchIndex.forEachMatching(newEntry.key(), revision, positions::add);
 
-                    if (events.isEmpty()) {
-                        events = new ArrayList<>();
-                    }
+            if (!positions.isEmpty()) {
+                matchedEntries.add(newEntry);
+                matchedWatches.add(positions.toIntArray());
+            }
+        }
 
-                    events.add(new EntryEvent(oldEntry, newEntry));
+        if (matchedEntries.isEmpty()) {
+            return List.of();
+        }
+
+        List<byte[]> matchedKeys = matchedEntries.stream().map(Entry::key).collect(toList());
+
+        // Old entries are read once per key, regardless of the number of watches of the key.
+        List<Entry> oldEntries = entryReader.getAll(matchedKeys, revision - 1);
+
+        List<Watch> watches = watchIndex.watches();
+
+        @SuppressWarnings("unchecked")
+        List<EntryEvent>[] eventsByWatch = new List[watches.size()];
+
+        for (int i = 0; i < matchedEntries.size(); i++) {
+            var event = new EntryEvent(oldEntries.get(i), matchedEntries.get(i));
+
+            for (int position : matchedWatches.get(i)) {
+                if (eventsByWatch[position] == null) {
+                    eventsByWatch[position] = new ArrayList<>();
                 }
+
+                eventsByWatch[position].add(event);
             }
+        }
+
+        var watchAndEvents = new ArrayList<WatchAndEvents>();
 
-            if (!events.isEmpty()) {
-                watchAndEvents.add(new WatchAndEvents(watch, events));
+        for (int position = 0; position < eventsByWatch.length; position++) {
+            if (eventsByWatch[position] != null) {
+                watchAndEvents.add(new WatchAndEvents(watches.get(position), eventsByWatch[position]));
             }
         }
 
@@ -64,6 +64,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
@@ -111,6 +112,7 @@ import org.apache.ignite.internal.rocksdb.ColumnFamily;
 import org.apache.ignite.internal.rocksdb.RocksIteratorAdapter;
 import org.apache.ignite.internal.rocksdb.RocksUtils;
 import org.apache.ignite.internal.rocksdb.flush.RocksDbFlusher;
+import org.apache.ignite.internal.rocksdb.metrics.RocksDbMetricSource;
 import org.apache.ignite.internal.rocksdb.snapshot.RocksSnapshotManager;
 import org.apache.ignite.internal.thread.NamedThreadFactory;
 import org.apache.ignite.internal.util.ByteUtils;
@@ -133,6 +135,7 @@ import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.Slice;
+import org.rocksdb.Statistics;
 import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 
@@ -279,6 +282,15 @@ public class RocksDbKeyValueStorage extends AbstractKeyValueStorage {
 
     private volatile RocksDbFlusher flusher;
 
+    /** Database statistics. */
+    private volatile Statistics statistics;
+
+    /** Metric source of the database. */
+    private final RocksDbMetricSource metricSource = new RocksDbMetricSource(
+            RocksDbMetricSource.NAME_PREFIX + "metastorage",
+            List.of("data", "index", "tsToRevision", "revisionToTs", "revisionToChecksum")
+    );
+
     private final IgniteSpinBusyLock busyLock = new IgniteSpinBusyLock();
 
     private final AtomicBoolean closeGuard = new AtomicBoolean();
@@ -380,7 +392,8 @@ public class RocksDbKeyValueStorage extends AbstractKeyValueStorage {
                 .setAtomicFlush(true)
                 .setCreateMissingColumnFamilies(true)
                 .setListeners(List.of(flusher.listener()))
-                .setCreateIfMissing(true);
+                .setCreateIfMissing(true)
+                .setStatistics(statistics);
 
         rocksResources.add(options);
 
@@ -410,6 +423,9 @@ public class RocksDbKeyValueStorage extends AbstractKeyValueStorage {
                 () -> {}
         );
 
+        statistics = RocksDbMetricSource.createStatistics();
+        rocksResources.add(statistics);
+
         options = createDbOptions();
 
         db = RocksDB.open(options, dbPath.toAbsolutePath().toString(), descriptors, handles);
@@ -426,6 +442,14 @@ public class RocksDbKeyValueStorage extends AbstractKeyValueStorage {
 
         revisionToChecksum = ColumnFamily.wrap(db, handles.get(4));
 
+        metricSource.attach(db, statistics, Map.of(
+                "data", data.handle(),
+                "index", index.handle(),
+                "tsToRevision", tsToRevision.handle(),
+                "revisionToTs", revisionToTs.handle(),
+                "revisionToChecksum", revisionToChecksum.handle()
+        ));
+
         snapshotManager = new RocksSnapshotManager(db,
                 List.of(fullRange(data), fullRange(index), fullRange(tsToRevision), fullRange(revisionToTs), fullRange(revisionToChecksum)),
                 executor
@@ -499,11 +523,18 @@ public class RocksDbKeyValueStorage extends AbstractKeyValueStorage {
     }
 
     private void closeRocksResources() {
+        metricSource.detach();
+
         Collections.reverse(rocksResources);
         RocksUtils.closeAll(rocksResources);
         this.rocksResources = new ArrayList<>();
     }
 
+    /** Returns the metric source of the database. */
+    public RocksDbMetricSource metricSource() {
+        return metricSource;
+    }
+
     @Override
     public CompletableFuture<Void> snapshot(Path snapshotPath) {
         return snapshotManager
@@ -1658,11 +1689,51 @@ public class RocksDbKeyValueStorage extends AbstractKeyValueStorage {
         }
     }
 
+    @Override
+    protected List<long[]> keyRevisionsForOperation(List<byte[]> keys) {
+        try {
+            List<byte @Nullable []> revisionsBytes = index.multiGet(keys);
+
+            var res = new ArrayList<long[]>(keys.size());
+
+            for (byte[] revisions : revisionsBytes) {
+                res.add(revisions == null ? LONG_EMPTY_ARRAY : getAsLongs(revisions));
+            }
+
+            return res;
+        } catch (RocksDBException e) {
+            throw new MetaStorageException(OP_EXECUTION_ERR, "Failed to get revisions for the keys: " + keys.size(), e);
+        }
+    }
+
     @Override
     protected @Nullable Value valueForOperation(byte[] key, long revision) {
         return getValueForOperation(key, revision);
     }
 
+    @Override
+    protected List<@Nullable Value> valuesForOperation(List<byte[]> keys, long[] revisions) {
+        var rocksKeys = new ArrayList<byte[]>(keys.size());
+
+        for (int i = 0; i < keys.size(); i++) {
+            rocksKeys.add(keyToRocksKey(revisions[i], keys.get(i)));
+        }
+
+        try {
+            List<byte @Nullable []> valuesBytes = data.multiGet(rocksKeys);
+
+            var res = new ArrayList<@Nullable Value>(keys.size());
+
+            for (byte[] valueBytes : valuesBytes) {
+                res.add(valueBytes == null ? null : bytesToValue(valueBytes));
+            }
+
+            return res;
+        } catch (RocksDBException e) {
+            throw new MetaStorageException(OP_EXECUTION_ERR, "Failed to get values for the keys: " + keys.size(), e);
+        }
+    }
+
     @Override
     protected boolean areWatchesStarted() {
         return recoveryStatus.get() == RecoveryStatus.DONE;
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metastorage.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.List;
+import org.apache.ignite.internal.metastorage.WatchListener;
+import org.apache.ignite.internal.rocksdb.RocksUtils;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link WatchIndex}. */
+public class WatchIndexTest {
+    private static final WatchListener LISTENER = event -> nullCompletedFuture();
+
+    private final WatchIndex index = new WatchIndex(List.of(
+            Watch.exact(1, LISTENER, List.of(key("foo"), key("bar"))),
+            prefixWatch(1, "foo"),
+            prefixWatch(1, "fo"),
+            Watch.range(1, LISTENER, key("b"), key("baz")),
+            Watch.range(1, LISTENER, key("q"), null),
+            new Watch(1, LISTENER, key -> key.length == 3),
+            Watch.exact(5, LISTENER, List.of(key("foo"))),
+            prefixWatch(1, "")
+    ));
+
+    @Test
+    void testExactWatches() {
+        assertThat(matching("bar", 1), contains(0, 3, 5, 7));
+        assertThat(matching("foo", 1), contains(0, 1, 2, 5, 7));
+    }
+
+    @Test
+    void testPrefixWatches() {
+        assertThat(matching("fo", 1), contains(2, 7));
+        assertThat(matching("foobar", 1), contains(1, 2, 7));
+        assertThat(matching("f", 1), contains(7));
+        assertThat(matching("", 1), contains(7));
+    }
+
+    @Test
+    void testRangeWatches() {
+        assertThat(matching("b", 1), contains(3, 7));
+        assertThat(matching("bay", 1), contains(3, 5, 7));
+        assertThat(matching("baz", 1), contains(5, 7));
+        assertThat(matching("q", 1), contains(4, 7));
+        assertThat(matching("zzzz", 1), contains(4, 7));
+    }
+
+    @Test
+    void testStartRevision() {
+        assertThat(matching("foo", 0), empty());
+        assertThat(matching("foo", 5), contains(0, 1, 2, 5, 6, 7));
+    }
+
+    private List<Integer> matching(String key, long revision) {
+        var positions = new IntArrayList();
+
+        index.forEachMatching(key(key), revision, positions::add);
+
+        positions.sort(null);
+
+        return positions;
+    }
+
+    private static Watch prefixWatch(long startRevision, String prefix) {
+        byte[] keyFrom = key(prefix);
+
+        return Watch.range(startRevision, LISTENER, keyFrom, RocksUtils.incrementPrefix(keyFrom));
+    }
+
+    private static byte[] key(String key) {
+        return key.getBytes(UTF_8);
+    }
+}
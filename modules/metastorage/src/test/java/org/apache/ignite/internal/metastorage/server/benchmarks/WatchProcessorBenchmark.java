@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metastorage.server.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.metastorage.Entry;
+import org.apache.ignite.internal.metastorage.WatchListener;
+import org.apache.ignite.internal.metastorage.impl.EntryImpl;
+import org.apache.ignite.internal.metastorage.server.Watch;
+import org.apache.ignite.internal.metastorage.server.WatchEventHandlingCallback;
+import org.apache.ignite.internal.metastorage.server.WatchProcessor;
+import org.apache.ignite.internal.rocksdb.RocksUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the latency of notifying {@link WatchProcessor} watches of a revision, depending on the number of registered watches and
+ * the number of keys updated by the revision. Half of the watches are exact watches of single keys and the other half are prefix watches,
+ * like the watches of assignments and leases.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WatchProcessorBenchmark {
+    private static final WatchListener LISTENER = event -> nullCompletedFuture();
+
+    @Param({"100", "1000", "10000"})
+    public int watchCount;
+
+    @Param({"1", "100", "1000"})
+    public int keyCount;
+
+    private WatchProcessor watchProcessor;
+
+    private byte[][] keys;
+
+    private long revision;
+
+    /** Registers the watches. */
+    @Setup
+    public void setUp() {
+        watchProcessor = new WatchProcessor("test", (key, revision) -> EntryImpl.empty(key), failureCtx -> true);
+
+        watchProcessor.setWatchEventHandlingCallback(new WatchEventHandlingCallback() {});
+
+        for (int i = 0; i < watchCount / 2; i++) {
+            watchProcessor.addWatch(Watch.exact(1, LISTENER, List.of(exactKey(i))));
+
+            byte[] prefix = prefixKey(i, "");
+
+            watchProcessor.addWatch(Watch.range(1, LISTENER, prefix, RocksUtils.incrementPrefix(prefix)));
+        }
+
+        keys = new byte[keyCount][];
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < keyCount; i++) {
+            int watch = random.nextInt(Math.max(watchCount / 2, 1));
+
+            keys[i] = i % 2 == 0 ? exactKey(watch) : prefixKey(watch, "key" + i);
+        }
+    }
+
+    /** Closes the watch processor. */
+    @TearDown
+    public void tearDown() {
+        watchProcessor.close();
+    }
+
+    /** Measures the time from a revision update to the completion of the notifications of the watches. */
+    @Benchmark
+    public void notifyWatches() {
+        long revision = ++this.revision;
+
+        var entries = new ArrayList<Entry>(keys.length);
+
+        for (byte[] key : keys) {
+            entries.add(new EntryImpl(key, key, revision, HybridTimestamp.MIN_VALUE));
+        }
+
+        watchProcessor.notifyWatches(revision, entries, HybridTimestamp.MIN_VALUE).join();
+    }
+
+    private static byte[] exactKey(int i) {
+        return ("stable.assignments." + i).getBytes(UTF_8);
+    }
+
+    private static byte[] prefixKey(int i, String suffix) {
+        return ("zone.partitions." + i + "." + suffix).getBytes(UTF_8);
+    }
+
+    /**
+     * Benchmark's entry point.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + WatchProcessorBenchmark.class.getSimpleName() + ".*")
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metrics.exporters.otlp;
+
+import static io.opentelemetry.sdk.metrics.data.MetricDataType.EXPONENTIAL_HISTOGRAM;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.internal.PrimitiveLongList;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.Data;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.ExponentialHistogramBuckets;
+import io.opentelemetry.sdk.metrics.data.ExponentialHistogramData;
+import io.opentelemetry.sdk.metrics.data.ExponentialHistogramPointData;
+import io.opentelemetry.sdk.metrics.data.MetricDataType;
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.Collection;
+import java.util.List;
+import org.apache.ignite.internal.metrics.HistogramMetric;
+import org.apache.ignite.internal.metrics.HistogramMetric.Snapshot;
+import org.apache.ignite.internal.util.Lazy;
+
+/**
+ * Metric data that holds histogram metric as an exponential histogram.
+ *
+ * <p>The exporter reads the point several times while it serializes it, so the point holds a snapshot of the histogram, which is
+ * refreshed before every report, see {@link #refresh()}.
+ */
+class IgniteExponentialHistogramMetricData extends IgniteMetricData<HistogramMetric> {
+    private final IgniteExponentialHistogramPointData point;
+
+    private final ExponentialHistogramData data;
+
+    IgniteExponentialHistogramMetricData(Lazy<Resource> resource, InstrumentationScopeInfo scope, HistogramMetric metric) {
+        super(resource, scope, metric);
+
+        point = new IgniteExponentialHistogramPointData(metric);
+        data = new IgniteExponentialHistogramData(point);
+    }
+
+    /** Takes a new snapshot of the histogram to report. */
+    void refresh() {
+        point.refresh();
+    }
+
+    @Override
+    public MetricDataType getType() {
+        return EXPONENTIAL_HISTOGRAM;
+    }
+
+    @Override
+    public Data<?> getData() {
+        return data;
+    }
+
+    private static class IgniteExponentialHistogramData implements ExponentialHistogramData {
+        private final Collection<ExponentialHistogramPointData> points;
+
+        IgniteExponentialHistogramData(ExponentialHistogramPointData data) {
+            points = singletonList(data);
+        }
+
+        @Override
+        public AggregationTemporality getAggregationTemporality() {
+            return AggregationTemporality.CUMULATIVE;
+        }
+
+        @Override
+        public Collection<ExponentialHistogramPointData> getPoints() {
+            return points;
+        }
+    }
+
+    private static class IgniteExponentialHistogramPointData extends IgnitePointData implements ExponentialHistogramPointData {
+        private final HistogramMetric metric;
+
+        private volatile Snapshot snapshot;
+
+        private volatile Buckets positiveBuckets;
+
+        private final Buckets negativeBuckets;
+
+        IgniteExponentialHistogramPointData(HistogramMetric metric) {
+            this.metric = metric;
+
+            negativeBuckets = new Buckets(metric.scale(), 0, new long[0]);
+
+            refresh();
+        }
+
+        void refresh() {
+            Snapshot snapshot0 = metric.snapshot();
+
+            positiveBuckets = new Buckets(snapshot0.scale(), snapshot0.offset(), snapshot0.bucketCounts());
+            snapshot = snapshot0;
+        }
+
+        @Override
+        public int getScale() {
+            return snapshot.scale();
+        }
+
+        @Override
+        public double getSum() {
+            return snapshot.sum();
+        }
+
+        @Override
+        public long getCount() {
+            return snapshot.count();
+        }
+
+        @Override
+        public long getZeroCount() {
+            return snapshot.zeroCount();
+        }
+
+        @Override
+        public boolean hasMin() {
+            return false;
+        }
+
+        @Override
+        public double getMin() {
+            return Double.NaN;
+        }
+
+        @Override
+        public boolean hasMax() {
+            return snapshot.count() > 0;
+        }
+
+        @Override
+        public double getMax() {
+            return snapshot.max();
+        }
+
+        @Override
+        public ExponentialHistogramBuckets getPositiveBuckets() {
+            return positiveBuckets;
+        }
+
+        @Override
+        public ExponentialHistogramBuckets getNegativeBuckets() {
+            return negativeBuckets;
+        }
+
+        @Override
+        public List<DoubleExemplarData> getExemplars() {
+            return emptyList();
+        }
+    }
+
+    private static class Buckets implements ExponentialHistogramBuckets {
+        private final int scale;
+
+        private final int offset;
+
+        private final List<Long> counts;
+
+        private final long totalCount;
+
+        Buckets(int scale, int offset, long[] counts) {
+            this.scale = scale;
+            this.offset = offset;
+            this.counts = PrimitiveLongList.wrap(counts);
+
+            long total = 0;
+
+            for (long c : counts) {
+                total += c;
+            }
+
+            totalCount = total;
+        }
+
+        @Override
+        public int getScale() {
+            return scale;
+        }
+
+        @Override
+        public int getOffset() {
+            return offset;
+        }
+
+        @Override
+        public List<Long> getBucketCounts() {
+            return counts;
+        }
+
+        @Override
+        public long getTotalCount() {
+            return totalCount;
+        }
+    }
+}
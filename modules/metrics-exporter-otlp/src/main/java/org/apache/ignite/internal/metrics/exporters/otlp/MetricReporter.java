@@ -52,6 +52,7 @@ import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.metrics.DistributionMetric;
 import org.apache.ignite.internal.metrics.DoubleMetric;
+import org.apache.ignite.internal.metrics.HistogramMetric;
 import org.apache.ignite.internal.metrics.IntMetric;
 import org.apache.ignite.internal.metrics.LongMetric;
 import org.apache.ignite.internal.metrics.Metric;
@@ -109,6 +110,12 @@ class MetricReporter implements AutoCloseable {
 
     void report() {
         if (!metrics.isEmpty()) {
+            for (MetricData metricData : metrics) {
+                if (metricData instanceof IgniteExponentialHistogramMetricData) {
+                    ((IgniteExponentialHistogramMetricData) metricData).refresh();
+                }
+            }
+
             exporter.export(metrics);
         }
     }
@@ -240,6 +247,10 @@ class MetricReporter implements AutoCloseable {
             return new IgniteDistributionMetricData(resource, scope, (DistributionMetric) metric);
         }
 
+        if (metric instanceof HistogramMetric) {
+            return new IgniteExponentialHistogramMetricData(resource, scope, (HistogramMetric) metric);
+        }
+
         LOG.debug("Unknown metric class for export " + metric.getClass());
 
         return null;
@@ -0,0 +1,398 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metrics;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lock-free histogram of non-negative long values with a bounded relative error, which does not require to guess bucket bounds.
+ *
+ * <p>Buckets grow exponentially: a power of two is split into {@code 2^scale} buckets, and a bucket with index {@code i} holds
+ * values from the range {@code (base^i, base^(i+1)]}, where {@code base = 2^(2^-scale)}. Zeros are counted separately. This is the
+ * layout of OpenTelemetry exponential histograms, so the buckets can be exported as they are. All buckets for the whole range of
+ * long values are allocated upfront, which makes {@link #add(long)} a bucket index computation and two counter increments.
+ *
+ * <p>Percentiles are computed from a {@link Snapshot}, either a cumulative one, see {@link #snapshot()}, or one of the values
+ * recorded since the previous interval snapshot, see {@link #intervalSnapshot()}.
+ */
+public class HistogramMetric extends AbstractMetric implements CompositeMetric {
+    /** Updater that atomically updates {@link #scalarMetrics} field. */
+    private static final AtomicReferenceFieldUpdater<HistogramMetric, List> scalarMetricsUpdater =
+            AtomicReferenceFieldUpdater.newUpdater(HistogramMetric.class, List.class, "scalarMetrics");
+
+    /** Default scale, a bucket is about 9% wide, so that the relative error of a percentile value is about 4.5%. */
+    public static final int DEFAULT_SCALE = 3;
+
+    /** Maximum supported scale. */
+    public static final int MAX_SCALE = 6;
+
+    /** Percentiles exposed as scalar metrics. */
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    /** Names of the percentiles exposed as scalar metrics. */
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p999"};
+
+    /** Suffix divider of the scalar metric names. */
+    public static final char SUFFIX_DIVIDER = '_';
+
+    /** Index of the bucket that holds {@code 1}. */
+    private static final int MIN_INDEX = -1;
+
+    /** Scale. */
+    private final int scale;
+
+    /** Multiplier that converts a natural logarithm of a value into a bucket index. */
+    private final double scaleFactor;
+
+    /** Bucket counters, the counter of the bucket with index {@code i} is at position {@code i - MIN_INDEX}. */
+    private final AtomicLongArray counts;
+
+    /** Counter of zeros. */
+    private final LongAdder zeroCount = new LongAdder();
+
+    /** Sum of the values. */
+    private final LongAdder sum = new LongAdder();
+
+    /** Maximum value. */
+    private final AtomicLong max = new AtomicLong();
+
+    /** Maximum value since the previous interval snapshot. */
+    private final AtomicLong intervalMax = new AtomicLong();
+
+    /** Cumulative state at the moment of the previous interval snapshot, guarded by {@code this}. */
+    private @Nullable Snapshot previous;
+
+    /** List of scalar metrics. */
+    private volatile List<Metric> scalarMetrics = null;
+
+    /**
+     * Constructor with the {@link #DEFAULT_SCALE default} scale.
+     *
+     * @param name Name.
+     * @param desc Description.
+     */
+    public HistogramMetric(String name, @Nullable String desc) {
+        this(name, desc, DEFAULT_SCALE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name Name.
+     * @param desc Description.
+     * @param scale Scale, a power of two is split into {@code 2^scale} buckets. The relative error of the values reported by the
+     *      histogram is about {@code (2^(2^-scale) - 1) / 2}. Must be from {@code 0} to {@link #MAX_SCALE}.
+     */
+    public HistogramMetric(String name, @Nullable String desc, int scale) {
+        super(name, desc);
+
+        assert scale >= 0 && scale <= MAX_SCALE : scale;
+
+        this.scale = scale;
+        this.scaleFactor = Math.scalb(1 / Math.log(2), scale);
+
+        // Values up to Long.MAX_VALUE fall into the buckets below 2^63.
+        this.counts = new AtomicLongArray((63 << scale) - MIN_INDEX);
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value Value, must be non-negative.
+     */
+    public void add(long value) {
+        assert value >= 0 : value;
+
+        if (value == 0) {
+            zeroCount.increment();
+        } else {
+            counts.incrementAndGet(index(value) - MIN_INDEX);
+
+            sum.add(value);
+        }
+
+        updateMax(max, value);
+        updateMax(intervalMax, value);
+    }
+
+    /** Returns the scale of the histogram. */
+    public int scale() {
+        return scale;
+    }
+
+    /**
+     * Returns a snapshot of all the values recorded by the histogram.
+     *
+     * @return Snapshot.
+     */
+    public Snapshot snapshot() {
+        return snapshot(max.get());
+    }
+
+    /**
+     * Returns a snapshot of the values recorded since the previous call of this method, or since the creation of the histogram. The
+     * method is meant to be called by a single consumer, like a periodic reporter, because every call starts a new interval.
+     *
+     * @return Snapshot.
+     */
+    public synchronized Snapshot intervalSnapshot() {
+        Snapshot current = snapshot(intervalMax.getAndSet(0));
+
+        Snapshot prev = previous;
+
+        previous = current;
+
+        if (prev == null) {
+            return current;
+        }
+
+        long[] intervalCounts = current.counts.clone();
+
+        for (int i = 0; i < intervalCounts.length; i++) {
+            intervalCounts[i] -= prev.counts[i];
+        }
+
+        return new Snapshot(
+                scale,
+                current.zeroCount - prev.zeroCount,
+                intervalCounts,
+                current.sum - prev.sum,
+                current.max
+        );
+    }
+
+    private Snapshot snapshot(long max) {
+        long[] snapshotCounts = new long[counts.length()];
+
+        for (int i = 0; i < snapshotCounts.length; i++) {
+            snapshotCounts[i] = counts.get(i);
+        }
+
+        return new Snapshot(scale, zeroCount.sum(), snapshotCounts, sum.sum(), max);
+    }
+
+    private int index(long value) {
+        int exp = 63 - Long.numberOfLeadingZeros(value);
+
+        // Powers of two are exact bucket bounds, and they are upper bounds, since the buckets are upper-inclusive.
+        if ((value & (value - 1)) == 0) {
+            return (exp << scale) - 1;
+        }
+
+        int idx = (int) Math.ceil(Math.log(value) * scaleFactor) - 1;
+
+        // Guard against rounding errors of the logarithm: the value is strictly between 2^exp and 2^(exp + 1).
+        return Math.min(Math.max(idx, exp << scale), ((exp + 1) << scale) - 1);
+    }
+
+    private static void updateMax(AtomicLong max, long value) {
+        long cur = max.get();
+
+        while (value > cur && !max.compareAndSet(cur, value)) {
+            cur = max.get();
+        }
+    }
+
+    @Override
+    public String getValueAsString() {
+        Snapshot snapshot = snapshot();
+
+        StringBuilder sb = new StringBuilder("[");
+
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            sb.append(PERCENTILE_NAMES[i])
+                    .append(DistributionMetric.METRIC_DIVIDER)
+                    .append(snapshot.valueAtPercentile(PERCENTILES[i]))
+                    .append(DistributionMetric.BUCKET_DIVIDER);
+        }
+
+        sb.append("max").append(DistributionMetric.METRIC_DIVIDER).append(snapshot.max());
+
+        sb.append(']');
+
+        return sb.toString();
+    }
+
+    /**
+     * Returns the percentiles and the maximum value of all the recorded values, as gauges named {@code <name>_p50},
+     * {@code <name>_p90}, {@code <name>_p99}, {@code <name>_p999} and {@code <name>_max}.
+     */
+    @Override
+    public List<Metric> asScalarMetrics() {
+        if (scalarMetrics == null) {
+            List<Metric> metrics = new ArrayList<>(PERCENTILES.length + 1);
+
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                double percentile = PERCENTILES[i];
+
+                metrics.add(new LongGauge(
+                        name() + SUFFIX_DIVIDER + PERCENTILE_NAMES[i],
+                        PERCENTILE_NAMES[i] + " of " + name(),
+                        () -> snapshot().valueAtPercentile(percentile)
+                ));
+            }
+
+            metrics.add(new LongGauge(name() + SUFFIX_DIVIDER + "max", "Maximum of " + name(), max::get));
+
+            scalarMetricsUpdater.compareAndSet(this, null, unmodifiableList(metrics));
+        }
+
+        return scalarMetrics;
+    }
+
+    /** Immutable state of a histogram. */
+    public static class Snapshot {
+        private final int scale;
+
+        private final long zeroCount;
+
+        /** Counts of the buckets, the count of the bucket with index {@code i} is at position {@code i - MIN_INDEX}. */
+        private final long[] counts;
+
+        private final long count;
+
+        private final long sum;
+
+        private final long max;
+
+        private Snapshot(int scale, long zeroCount, long[] counts, long sum, long max) {
+            this.scale = scale;
+            this.zeroCount = zeroCount;
+            this.counts = counts;
+            this.sum = sum;
+            this.max = max;
+
+            long count = zeroCount;
+
+            for (long c : counts) {
+                count += c;
+            }
+
+            this.count = count;
+        }
+
+        /** Returns the scale of the histogram. */
+        public int scale() {
+            return scale;
+        }
+
+        /** Returns the number of recorded values. */
+        public long count() {
+            return count;
+        }
+
+        /** Returns the number of recorded zeros. */
+        public long zeroCount() {
+            return zeroCount;
+        }
+
+        /** Returns the sum of recorded values. */
+        public long sum() {
+            return sum;
+        }
+
+        /** Returns the maximum recorded value, or {@code 0} if there are no values. */
+        public long max() {
+            return max;
+        }
+
+        /**
+         * Returns the index of the first non-empty bucket, or {@code 0} if all buckets are empty. The bucket with index {@code i}
+         * holds values from the range {@code (base^i, base^(i+1)]}, where {@code base = 2^(2^-scale)}.
+         */
+        public int offset() {
+            int first = firstNonEmpty();
+
+            return first < 0 ? 0 : first + MIN_INDEX;
+        }
+
+        /** Returns counts of the buckets from the {@link #offset() first} to the last non-empty one. */
+        public long[] bucketCounts() {
+            int first = firstNonEmpty();
+
+            if (first < 0) {
+                return new long[0];
+            }
+
+            int last = counts.length - 1;
+
+            while (counts[last] == 0) {
+                last--;
+            }
+
+            return Arrays.copyOfRange(counts, first, last + 1);
+        }
+
+        /**
+         * Returns the value at the given percentile. The value is the middle of the bucket holding the value, so its relative error
+         * is bounded by the half of the bucket width, and it is never bigger than the {@link #max() maximum}.
+         *
+         * @param percentile Percentile from {@code 0} to {@code 100}.
+         * @return Value at the percentile, or {@code 0} if there are no values.
+         */
+        public long valueAtPercentile(double percentile) {
+            assert percentile >= 0 && percentile <= 100 : percentile;
+
+            if (count == 0) {
+                return 0;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+
+            long seen = zeroCount;
+
+            if (seen >= rank) {
+                return 0;
+            }
+
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+
+                if (seen >= rank) {
+                    int index = i + MIN_INDEX;
+
+                    // Geometric middle of the bucket (base^index, base^(index + 1)].
+                    double middle = Math.pow(2, Math.scalb(index + 0.5, -scale));
+
+                    return Math.min(Math.max(1, Math.round(middle)), max);
+                }
+            }
+
+            return max;
+        }
+
+        private int firstNonEmpty() {
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+    }
+}
@@ -216,4 +216,15 @@ public class MetricSetBuilder {
     public DistributionMetric distribution(String name, @Nullable String description, long[] bounds) {
         return register(new DistributionMetric(name, description, bounds));
     }
+
+    /**
+     * Add a histogram metric with the default scale, see {@link HistogramMetric}.
+     *
+     * @param name Name.
+     * @param description Description.
+     * @return Histogram metric.
+     */
+    public HistogramMetric histogram(String name, @Nullable String description) {
+        return register(new HistogramMetric(name, description));
+    }
 }
@@ -19,7 +19,10 @@ package org.apache.ignite.internal.metrics.exporters.jmx;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import javax.management.Attribute;
 import javax.management.AttributeList;
 import javax.management.AttributeNotFoundException;
@@ -31,6 +34,7 @@ import javax.management.ReflectionException;
 import org.apache.ignite.internal.metrics.CompositeMetric;
 import org.apache.ignite.internal.metrics.DistributionMetric;
 import org.apache.ignite.internal.metrics.DoubleMetric;
+import org.apache.ignite.internal.metrics.HistogramMetric;
 import org.apache.ignite.internal.metrics.IntMetric;
 import org.apache.ignite.internal.metrics.LongMetric;
 import org.apache.ignite.internal.metrics.Metric;
@@ -40,6 +44,8 @@ import org.apache.ignite.internal.metrics.MetricSet;
 /**
  * MBean implementation, which produce JMX API representation for {@link MetricSet}.
  * Every {@link Metric} of metric set will be represented by MBean's attribute with the same name.
+ * Percentiles and maximum of a {@link HistogramMetric} are represented by additional attributes, see
+ * {@link HistogramMetric#asScalarMetrics()}.
  */
 public class MetricSetMbean implements DynamicMBean {
     /**
@@ -47,6 +53,9 @@ public class MetricSetMbean implements DynamicMBean {
      */
     private MetricSet metricSet;
 
+    /** Percentile attributes of histogram metrics. */
+    private final Map<String, Metric> histogramAttributes = new LinkedHashMap<>();
+
     /**
      * Constructs new MBean.
      *
@@ -54,6 +63,14 @@ public class MetricSetMbean implements DynamicMBean {
      */
     public MetricSetMbean(MetricSet metricSet) {
         this.metricSet = metricSet;
+
+        for (Metric metric : metricSet) {
+            if (metric instanceof HistogramMetric) {
+                for (Metric scalar : ((HistogramMetric) metric).asScalarMetrics()) {
+                    histogramAttributes.put(scalar.name(), scalar);
+                }
+            }
+        }
     }
 
     /**
@@ -67,6 +84,10 @@ public class MetricSetMbean implements DynamicMBean {
 
         Metric metric = metricSet.get(attribute);
 
+        if (metric == null) {
+            metric = histogramAttributes.get(attribute);
+        }
+
         if (metric instanceof DoubleMetric) {
             return ((DoubleMetric) metric).value();
         } else if (metric instanceof IntMetric) {
@@ -80,7 +101,7 @@ public class MetricSetMbean implements DynamicMBean {
             return value == null ? "" : value;
         }
 
-        throw new AttributeNotFoundException("Unknown metric class " + metric.getClass());
+        throw new AttributeNotFoundException(metric == null ? "Unknown metric " + attribute : "Unknown metric class " + metric.getClass());
     }
 
     /**
@@ -128,7 +149,7 @@ public class MetricSetMbean implements DynamicMBean {
 
         List<MBeanAttributeInfo> attrs = new ArrayList<>();
 
-        iter.forEachRemaining(metric -> {
+        Consumer<Metric> addAttribute = metric -> {
             attrs.add(new MBeanAttributeInfo(
                     metric.name(),
                     metricClass(metric),
@@ -136,7 +157,11 @@ public class MetricSetMbean implements DynamicMBean {
                     true,
                     false,
                     false));
-        });
+        };
+
+        iter.forEachRemaining(addAttribute);
+
+        histogramAttributes.values().forEach(addAttribute);
 
         return new MBeanInfo(
                 MetricManagerImpl.class.getName(),
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metrics.sources;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.HistogramMetric;
+import org.apache.ignite.internal.metrics.IntGauge;
+import org.apache.ignite.internal.metrics.LongGauge;
+import org.apache.ignite.internal.metrics.Metric;
+import org.apache.ignite.internal.thread.InstrumentedThreadPoolExecutor;
+import org.apache.ignite.internal.thread.TaskExecutionListener;
+
+/**
+ * Metric source of a thread pool, which consists of one or more {@link ThreadPoolExecutor}s: stripes of a striped pool or a single
+ * executor of a regular pool. Provides the number of threads, active threads and queued tasks, both for the whole pool and for every
+ * stripe, the number of completed tasks and, for the stripes that are {@link InstrumentedThreadPoolExecutor}s, histograms of the time
+ * tasks spend in the queue and of the task execution time.
+ */
+public class ThreadPoolMetricSource extends AbstractMetricSource<ThreadPoolMetricSource.Holder> implements TaskExecutionListener {
+    /** Prefix of the names of the thread pool metric sources. */
+    public static final String NAME_PREFIX = "thread.pools.";
+
+    private final String poolName;
+
+    private final List<ThreadPoolExecutor> stripes;
+
+    /**
+     * Constructor.
+     *
+     * @param poolName Name of the thread pool.
+     * @param stripes Executors of the pool: stripes of a striped pool in the order of their indexes or a single executor.
+     */
+    public ThreadPoolMetricSource(String poolName, List<? extends ThreadPoolExecutor> stripes) {
+        super(NAME_PREFIX + poolName);
+
+        this.poolName = poolName;
+        this.stripes = List.copyOf(stripes);
+
+        for (ThreadPoolExecutor stripe : this.stripes) {
+            if (stripe instanceof InstrumentedThreadPoolExecutor) {
+                ((InstrumentedThreadPoolExecutor) stripe).listener(this);
+            }
+        }
+    }
+
+    /** Returns name of the thread pool. */
+    public String poolName() {
+        return poolName;
+    }
+
+    /** Returns a snapshot of the state of every stripe of the pool. */
+    public List<StripeState> snapshot() {
+        List<StripeState> states = new ArrayList<>(stripes.size());
+
+        for (int i = 0; i < stripes.size(); i++) {
+            ThreadPoolExecutor stripe = stripes.get(i);
+
+            states.add(new StripeState(
+                    poolName,
+                    i,
+                    stripe.getPoolSize(),
+                    stripe.getActiveCount(),
+                    stripe.getQueue().size(),
+                    stripe.getCompletedTaskCount()
+            ));
+        }
+
+        return states;
+    }
+
+    @Override
+    public void onTaskExecuted(long waitNanos, long executionNanos) {
+        Holder h = holder();
+
+        if (h != null) {
+            if (waitNanos >= 0) {
+                h.taskWaitTime.add(NANOSECONDS.toMicros(waitNanos));
+            }
+
+            h.taskExecutionTime.add(NANOSECONDS.toMicros(Math.max(executionNanos, 0)));
+        }
+    }
+
+    private int poolSize() {
+        int size = 0;
+
+        for (ThreadPoolExecutor stripe : stripes) {
+            size += stripe.getPoolSize();
+        }
+
+        return size;
+    }
+
+    private int activeCount() {
+        int count = 0;
+
+        for (ThreadPoolExecutor stripe : stripes) {
+            count += stripe.getActiveCount();
+        }
+
+        return count;
+    }
+
+    private int queueSize() {
+        int size = 0;
+
+        for (ThreadPoolExecutor stripe : stripes) {
+            size += stripe.getQueue().size();
+        }
+
+        return size;
+    }
+
+    private long completedTaskCount() {
+        long count = 0;
+
+        for (ThreadPoolExecutor stripe : stripes) {
+            count += stripe.getCompletedTaskCount();
+        }
+
+        return count;
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder(this);
+    }
+
+    /** Holder. */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final HistogramMetric taskWaitTime = new HistogramMetric(
+                "TaskWaitTime",
+                "Histogram of the time tasks spend in the queue of the pool in microseconds."
+        );
+
+        private final HistogramMetric taskExecutionTime = new HistogramMetric(
+                "TaskExecutionTime",
+                "Histogram of the task execution time in microseconds."
+        );
+
+        private final List<Metric> metrics;
+
+        private Holder(ThreadPoolMetricSource source) {
+            List<Metric> metrics = new ArrayList<>();
+
+            metrics.add(new IntGauge("PoolSize", "Current number of threads in the pool.", source::poolSize));
+            metrics.add(new IntGauge("ActiveCount", "Number of threads actively executing tasks.", source::activeCount));
+            metrics.add(new IntGauge("QueueSize", "Number of tasks waiting in the queues of the pool.", source::queueSize));
+            metrics.add(new LongGauge("CompletedTaskCount", "Approximate number of completed tasks.", source::completedTaskCount));
+            metrics.add(taskWaitTime);
+            metrics.add(taskExecutionTime);
+
+            if (source.stripes.size() > 1) {
+                for (int i = 0; i < source.stripes.size(); i++) {
+                    ThreadPoolExecutor stripe = source.stripes.get(i);
+                    String prefix = "stripe." + i + ".";
+
+                    metrics.add(new IntGauge(
+                            prefix + "ActiveCount",
+                            "Number of threads of the stripe actively executing tasks.",
+                            stripe::getActiveCount
+                    ));
+                    metrics.add(new IntGauge(
+                            prefix + "QueueSize",
+                            "Number of tasks waiting in the queue of the stripe.",
+                            () -> stripe.getQueue().size()
+                    ));
+                    metrics.add(new LongGauge(
+                            prefix + "CompletedTaskCount",
+                            "Approximate number of tasks completed by the stripe.",
+                            stripe::getCompletedTaskCount
+                    ));
+                }
+            }
+
+            this.metrics = List.copyOf(metrics);
+        }
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return metrics;
+        }
+    }
+
+    /** State of a stripe of the pool at the moment of a {@link #snapshot()}. */
+    public static class StripeState {
+        private final String poolName;
+
+        private final int stripe;
+
+        private final int poolSize;
+
+        private final int activeCount;
+
+        private final int queueSize;
+
+        private final long completedTaskCount;
+
+        private StripeState(String poolName, int stripe, int poolSize, int activeCount, int queueSize, long completedTaskCount) {
+            this.poolName = poolName;
+            this.stripe = stripe;
+            this.poolSize = poolSize;
+            this.activeCount = activeCount;
+            this.queueSize = queueSize;
+            this.completedTaskCount = completedTaskCount;
+        }
+
+        /** Returns name of the thread pool. */
+        public String poolName() {
+            return poolName;
+        }
+
+        /** Returns index of the stripe. */
+        public int stripe() {
+            return stripe;
+        }
+
+        /** Returns the number of threads of the stripe. */
+        public int poolSize() {
+            return poolSize;
+        }
+
+        /** Returns the number of threads of the stripe actively executing tasks. */
+        public int activeCount() {
+            return activeCount;
+        }
+
+        /** Returns the number of tasks waiting in the queue of the stripe. */
+        public int queueSize() {
+            return queueSize;
+        }
+
+        /** Returns the approximate number of tasks completed by the stripe. */
+        public long completedTaskCount() {
+            return completedTaskCount;
+        }
+    }
+}
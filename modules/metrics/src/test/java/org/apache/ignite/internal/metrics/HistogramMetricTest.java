@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.apache.ignite.internal.metrics.HistogramMetric.Snapshot;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link HistogramMetric}.
+ */
+public class HistogramMetricTest {
+    @Test
+    public void testBuckets() {
+        HistogramMetric histogram = new HistogramMetric("histogram", null, 0);
+
+        // With scale 0 a bucket with index i holds values from (2^i, 2^(i+1)].
+        histogram.add(0);
+        histogram.add(1);
+        histogram.add(2);
+        histogram.add(3);
+        histogram.add(4);
+        histogram.add(5);
+        histogram.add(Long.MAX_VALUE);
+
+        Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(7, snapshot.count());
+        assertEquals(1, snapshot.zeroCount());
+        assertEquals(Long.MAX_VALUE, snapshot.max());
+        assertEquals(-1, snapshot.offset());
+
+        long[] counts = snapshot.bucketCounts();
+
+        assertEquals(64, counts.length);
+        assertArrayEquals(new long[] {1, 1, 2, 1}, Arrays.copyOf(counts, 4));
+        assertEquals(1, counts[63]);
+    }
+
+    @Test
+    public void testPercentiles() {
+        HistogramMetric histogram = new HistogramMetric("histogram", null);
+
+        long[] values = new long[10_000];
+
+        Random rnd = new Random();
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1 + rnd.nextInt(1_000_000);
+
+            histogram.add(values[i]);
+        }
+
+        Arrays.sort(values);
+
+        Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(values.length, snapshot.count());
+        assertEquals(values[values.length - 1], snapshot.max());
+        assertEquals(Arrays.stream(values).sum(), snapshot.sum());
+
+        double maxError = (Math.pow(2, Math.pow(2, -HistogramMetric.DEFAULT_SCALE)) - 1) / 2 + 0.01;
+
+        for (double percentile : new double[] {50, 90, 99, 99.9}) {
+            long expected = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long actual = snapshot.valueAtPercentile(percentile);
+
+            assertTrue(Math.abs(actual - expected) <= expected * maxError,
+                    "percentile=" + percentile + ", expected=" + expected + ", actual=" + actual);
+        }
+
+        assertEquals(snapshot.max(), snapshot.valueAtPercentile(100));
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        HistogramMetric histogram = new HistogramMetric("histogram", null);
+
+        for (int i = 1; i <= 10; i++) {
+            histogram.add(i);
+        }
+
+        Snapshot snapshot = histogram.snapshot();
+
+        for (int i = 1; i <= 10; i++) {
+            assertEquals(i, snapshot.valueAtPercentile(i * 10));
+        }
+    }
+
+    @Test
+    public void testIntervalSnapshot() {
+        HistogramMetric histogram = new HistogramMetric("histogram", null);
+
+        histogram.add(100);
+        histogram.add(1_000);
+
+        Snapshot first = histogram.intervalSnapshot();
+
+        assertEquals(2, first.count());
+        assertEquals(1_000, first.max());
+
+        histogram.add(10);
+
+        Snapshot second = histogram.intervalSnapshot();
+
+        assertEquals(1, second.count());
+        assertEquals(10, second.sum());
+        assertEquals(10, second.max());
+        assertEquals(10, second.valueAtPercentile(99));
+
+        Snapshot third = histogram.intervalSnapshot();
+
+        assertEquals(0, third.count());
+        assertEquals(0, third.valueAtPercentile(50));
+
+        assertEquals(3, histogram.snapshot().count());
+    }
+
+    @Test
+    public void testScalarMetrics() {
+        HistogramMetric histogram = new HistogramMetric("histogram", null);
+
+        histogram.add(7);
+
+        List<Metric> scalarMetrics = histogram.asScalarMetrics();
+
+        assertEquals(5, scalarMetrics.size());
+
+        String[] names = {"histogram_p50", "histogram_p90", "histogram_p99", "histogram_p999", "histogram_max"};
+
+        for (int i = 0; i < names.length; i++) {
+            assertEquals(names[i], scalarMetrics.get(i).name());
+            assertEquals(7, ((LongMetric) scalarMetrics.get(i)).value());
+        }
+
+        assertEquals("[p50:7, p90:7, p99:7, p999:7, max:7]", histogram.getValueAsString());
+    }
+}
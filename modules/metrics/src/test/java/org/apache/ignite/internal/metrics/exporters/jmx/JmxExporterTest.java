@@ -55,6 +55,7 @@ import org.apache.ignite.internal.metrics.DistributionMetric;
 import org.apache.ignite.internal.metrics.DoubleAdderMetric;
 import org.apache.ignite.internal.metrics.DoubleGauge;
 import org.apache.ignite.internal.metrics.DoubleMetric;
+import org.apache.ignite.internal.metrics.HistogramMetric;
 import org.apache.ignite.internal.metrics.HitRateMetric;
 import org.apache.ignite.internal.metrics.IntGauge;
 import org.apache.ignite.internal.metrics.IntMetric;
@@ -229,6 +230,27 @@ public class JmxExporterTest extends BaseIgniteAbstractTest {
         assertEquals(42.0, mbean().getAttribute(doubleMetricName));
     }
 
+    @Test
+    public void testHistogramMetric() throws Exception {
+        var metric = new HistogramMetric(MTRC_NAME, "");
+
+        metric.add(10);
+        metric.add(1_000);
+
+        MetricSet metricSet = new MetricSet(SRC_NAME, Map.of(MTRC_NAME, metric));
+
+        when(metricsProvider.metrics()).thenReturn(new IgniteBiTuple<>(Map.of(metricSet.name(), metricSet), 1L));
+
+        jmxExporter.start(metricsProvider, jmxExporterConf, UUID::randomUUID, "nodeName");
+
+        assertEquals(metric.getValueAsString(), mbean().getAttribute(MTRC_NAME));
+        assertEquals(10L, mbean().getAttribute(MTRC_NAME + "_p50"));
+        assertEquals(metric.snapshot().valueAtPercentile(99), mbean().getAttribute(MTRC_NAME + "_p99"));
+        assertEquals(1_000L, mbean().getAttribute(MTRC_NAME + "_max"));
+
+        assertEquals(6, getMbeanInfo().getAttributes().length);
+    }
+
     @Test
     public void testCustomCompositeMetric() throws Exception {
         var metric = new CustomCompositeMetric();
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metrics.sources;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.internal.util.IgniteUtils.shutdownAndAwaitTermination;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import org.apache.ignite.internal.metrics.HistogramMetric;
+import org.apache.ignite.internal.metrics.IntMetric;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.metrics.sources.ThreadPoolMetricSource.StripeState;
+import org.apache.ignite.internal.thread.StripedThreadPoolExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link ThreadPoolMetricSource}. */
+public class ThreadPoolMetricSourceTest {
+    private final StripedThreadPoolExecutor executor = new StripedThreadPoolExecutor(2, Executors.defaultThreadFactory(), false, 0);
+
+    private final ThreadPoolMetricSource metricSource = new ThreadPoolMetricSource("test", executor.stripeExecutors());
+
+    @AfterEach
+    void tearDown() {
+        shutdownAndAwaitTermination(executor, 10, SECONDS);
+    }
+
+    @Test
+    void testTaskTimes() {
+        MetricSet metricSet = metricSource.enable();
+
+        executor.execute(() -> {}, 0);
+        executor.execute(() -> {}, 1);
+
+        HistogramMetric waitTime = metricSet.get("TaskWaitTime");
+        HistogramMetric executionTime = metricSet.get("TaskExecutionTime");
+
+        await().until(() -> executionTime.snapshot().count() == 2);
+
+        assertEquals(2, waitTime.snapshot().count());
+        assertEquals(2, metricSet.<LongMetric>get("CompletedTaskCount").value());
+        assertEquals(1, metricSet.<LongMetric>get("stripe.0.CompletedTaskCount").value());
+        assertEquals(1, metricSet.<LongMetric>get("stripe.1.CompletedTaskCount").value());
+    }
+
+    @Test
+    void testQueue() throws Exception {
+        MetricSet metricSet = metricSource.enable();
+
+        CountDownLatch latch = new CountDownLatch(1);
+
+        CompletableFuture<?> blocking = executor.submit(
+                () -> {
+                    try {
+                        latch.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                },
+                0
+        );
+
+        try {
+            executor.execute(() -> {}, 0);
+
+            await().until(() -> metricSet.<IntMetric>get("ActiveCount").value() == 1);
+
+            assertEquals(1, metricSet.<IntMetric>get("QueueSize").value());
+            assertEquals(1, metricSet.<IntMetric>get("stripe.0.QueueSize").value());
+            assertEquals(0, metricSet.<IntMetric>get("stripe.1.QueueSize").value());
+
+            List<StripeState> snapshot = metricSource.snapshot();
+
+            assertEquals(2, snapshot.size());
+            assertEquals("test", snapshot.get(0).poolName());
+            assertEquals(0, snapshot.get(0).stripe());
+            assertEquals(1, snapshot.get(0).activeCount());
+            assertEquals(1, snapshot.get(0).queueSize());
+            assertEquals(0, snapshot.get(1).queueSize());
+        } finally {
+            latch.countDown();
+        }
+
+        blocking.get(10, SECONDS);
+    }
+
+    @Test
+    void testDisabled() {
+        executor.execute(() -> {}, 0);
+
+        await().until(() -> executor.stripeExecutor(0).getCompletedTaskCount() == 1);
+
+        MetricSet metricSet = metricSource.enable();
+
+        assertEquals(0, metricSet.<HistogramMetric>get("TaskExecutionTime").snapshot().count());
+        assertEquals(1, metricSet.<LongMetric>get("CompletedTaskCount").value());
+    }
+}
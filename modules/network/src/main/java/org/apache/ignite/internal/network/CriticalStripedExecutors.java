@@ -27,6 +27,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.ignite.internal.close.ManuallyCloseable;
 import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.metrics.sources.ThreadPoolMetricSource;
 import org.apache.ignite.internal.thread.StripedExecutor;
 import org.apache.ignite.internal.worker.CriticalWorker;
 import org.apache.ignite.internal.worker.CriticalWorkerRegistry;
@@ -44,6 +45,8 @@ class CriticalStripedExecutors implements ManuallyCloseable {
 
     private final List<CriticalWorker> registeredWorkers = new CopyOnWriteArrayList<>();
 
+    private final List<ThreadPoolMetricSource> metricSources = new CopyOnWriteArrayList<>();
+
     private final AtomicBoolean closeGuard = new AtomicBoolean();
 
     CriticalStripedExecutors(
@@ -55,7 +58,14 @@ class CriticalStripedExecutors implements ManuallyCloseable {
     ) {
         this.workerRegistry = workerRegistry;
 
-        var factory = new CriticalStripedThreadPoolExecutorFactory(nodeName, poolNamePrefix, log, workerRegistry, registeredWorkers);
+        var factory = new CriticalStripedThreadPoolExecutorFactory(
+                nodeName,
+                poolNamePrefix,
+                log,
+                workerRegistry,
+                registeredWorkers,
+                metricSources
+        );
 
         executorByChannelTypeId = StripedExecutorByChannelTypeId.of(channelTypeRegistry, factory);
     }
@@ -75,6 +85,11 @@ class CriticalStripedExecutors implements ManuallyCloseable {
         );
     }
 
+    /** Returns metric sources of the executors, one per {@link ChannelType}. */
+    List<ThreadPoolMetricSource> metricSources() {
+        return metricSources;
+    }
+
     /**
      * Returns executor to execute a command on a stripe with the given index.
      *
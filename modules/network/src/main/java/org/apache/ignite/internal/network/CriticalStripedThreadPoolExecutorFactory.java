@@ -21,6 +21,7 @@ import static org.apache.ignite.internal.thread.ThreadOperation.NOTHING_ALLOWED;
 
 import java.util.List;
 import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.metrics.sources.ThreadPoolMetricSource;
 import org.apache.ignite.internal.worker.CriticalStripedThreadPoolExecutor;
 import org.apache.ignite.internal.worker.CriticalWorker;
 import org.apache.ignite.internal.worker.CriticalWorkerRegistry;
@@ -43,18 +44,22 @@ class CriticalStripedThreadPoolExecutorFactory {
 
     private final List<CriticalWorker> registeredWorkers;
 
+    private final List<ThreadPoolMetricSource> metricSources;
+
     CriticalStripedThreadPoolExecutorFactory(
             String nodeName,
             String poolNamePrefix,
             IgniteLogger log,
             CriticalWorkerRegistry workerRegistry,
-            List<CriticalWorker> registeredWorkers
+            List<CriticalWorker> registeredWorkers,
+            List<ThreadPoolMetricSource> metricSources
     ) {
         this.nodeName = nodeName;
         this.poolNamePrefix = poolNamePrefix;
         this.log = log;
         this.workerRegistry = workerRegistry;
         this.registeredWorkers = registeredWorkers;
+        this.metricSources = metricSources;
     }
 
     CriticalStripedThreadPoolExecutor create(ChannelType channelType) {
@@ -69,6 +74,8 @@ class CriticalStripedThreadPoolExecutorFactory {
             registeredWorkers.add(worker);
         }
 
+        metricSources.add(new ThreadPoolMetricSource(poolName, executor.stripeExecutors()));
+
         return executor;
     }
 
@@ -55,6 +55,7 @@ import org.apache.ignite.internal.lang.IgniteSystemProperties;
 import org.apache.ignite.internal.lang.NodeStoppingException;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metrics.sources.ThreadPoolMetricSource;
 import org.apache.ignite.internal.network.message.ClassDescriptorMessage;
 import org.apache.ignite.internal.network.message.InvokeRequest;
 import org.apache.ignite.internal.network.message.InvokeResponse;
@@ -79,6 +80,9 @@ import org.jetbrains.annotations.TestOnly;
 public class DefaultMessagingService extends AbstractMessagingService {
     private static final IgniteLogger LOG = Loggers.forClass(DefaultMessagingService.class);
 
+    /** Name of the thread pool that sends outbound messages. */
+    private static final String OUTBOUND_POOL_NAME = "MessagingService-outbound";
+
     /** Network messages factory. */
     private final NetworkMessagesFactory factory;
 
@@ -112,6 +116,9 @@ public class DefaultMessagingService extends AbstractMessagingService {
     /** Executors for inbound messages. */
     private final CriticalStripedExecutors inboundExecutors;
 
+    /** Metric sources of the thread pools of the service. */
+    private final List<ThreadPoolMetricSource> threadPoolMetricSources;
+
     /** Network timeout worker thread. */
     private final TimeoutWorker timeoutWorker;
 
@@ -160,7 +167,7 @@ public class DefaultMessagingService extends AbstractMessagingService {
         this.failureProcessor = failureProcessor;
 
         outboundExecutor = new CriticalSingleThreadExecutor(
-                IgniteMessageServiceThreadFactory.create(nodeName, "MessagingService-outbound", LOG, NOTHING_ALLOWED)
+                IgniteMessageServiceThreadFactory.create(nodeName, OUTBOUND_POOL_NAME, LOG, NOTHING_ALLOWED)
         );
 
         inboundExecutors = new CriticalStripedExecutors(
@@ -171,6 +178,9 @@ public class DefaultMessagingService extends AbstractMessagingService {
                 LOG
         );
 
+        threadPoolMetricSources = new ArrayList<>(inboundExecutors.metricSources());
+        threadPoolMetricSources.add(new ThreadPoolMetricSource(OUTBOUND_POOL_NAME, List.of(outboundExecutor)));
+
         timeoutWorker = new TimeoutWorker(
                 LOG,
                 nodeName,
@@ -690,6 +700,11 @@ public class DefaultMessagingService extends AbstractMessagingService {
         dropMessagesPredicate = null;
     }
 
+    /** Returns metric sources of the thread pools that send and handle the messages. */
+    public List<ThreadPoolMetricSource> threadPoolMetricSources() {
+        return List.copyOf(threadPoolMetricSources);
+    }
+
     @TestOnly
     public ConnectionManager connectionManager() {
         return connectionManager;
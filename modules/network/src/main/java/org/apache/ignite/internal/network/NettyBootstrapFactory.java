@@ -26,8 +26,8 @@ import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollMode;
 import io.netty.util.concurrent.EventExecutor;
 import java.util.ArrayList;
 import java.util.List;
@@ -39,8 +39,8 @@ import org.apache.ignite.internal.network.configuration.NetworkConfiguration;
 import org.apache.ignite.internal.network.configuration.NetworkView;
 import org.apache.ignite.internal.network.configuration.OutboundView;
 import org.apache.ignite.internal.network.netty.ChannelEventLoopsSource;
-import org.apache.ignite.internal.network.netty.NamedNioEventLoopGroup;
 import org.apache.ignite.internal.network.netty.NamedNioEventLoopGroup.NetworkThread;
+import org.apache.ignite.internal.network.netty.NettyTransport;
 import org.jetbrains.annotations.TestOnly;
 
 /**
@@ -53,6 +53,9 @@ public class NettyBootstrapFactory implements IgniteComponent, ChannelEventLoops
     /** Prefix for event loop group names. */
     private final String eventLoopGroupNamePrefix;
 
+    /** Transport used by all event loop groups and channels, resolved on start. */
+    private NettyTransport transport;
+
     /** Server boss socket channel handler event loop group. */
     private EventLoopGroup bossGroup;
 
@@ -89,12 +92,30 @@ public class NettyBootstrapFactory implements IgniteComponent, ChannelEventLoops
         Bootstrap clientBootstrap = new Bootstrap();
 
         clientBootstrap.group(clientWorkerGroup)
-                .channel(NioSocketChannel.class)
+                .channel(transport.socketChannelClass())
                 // See createServerBootstrap for netty configuration details.
                 .option(ChannelOption.SO_KEEPALIVE, clientConfiguration.soKeepAlive())
                 .option(ChannelOption.SO_LINGER, clientConfiguration.soLinger())
                 .option(ChannelOption.TCP_NODELAY, clientConfiguration.tcpNoDelay());
 
+        if (clientConfiguration.soSndBuf() > 0) {
+            clientBootstrap.option(ChannelOption.SO_SNDBUF, clientConfiguration.soSndBuf());
+        }
+
+        if (clientConfiguration.soRcvBuf() > 0) {
+            clientBootstrap.option(ChannelOption.SO_RCVBUF, clientConfiguration.soRcvBuf());
+        }
+
+        if (transport == NettyTransport.EPOLL) {
+            NetworkView networkView = networkConfiguration.value();
+
+            clientBootstrap.option(EpollChannelOption.EPOLL_MODE, epollMode(networkView));
+
+            if (networkView.epollBusyPollMicros() > 0) {
+                clientBootstrap.option(EpollChannelOption.SO_BUSY_POLL, networkView.epollBusyPollMicros());
+            }
+        }
+
         return clientBootstrap;
     }
 
@@ -108,7 +129,7 @@ public class NettyBootstrapFactory implements IgniteComponent, ChannelEventLoops
         ServerBootstrap serverBootstrap = new ServerBootstrap();
 
         serverBootstrap.group(bossGroup, workerGroup)
-                .channel(NioServerSocketChannel.class)
+                .channel(transport.serverSocketChannelClass())
                 /*
                  * The maximum queue length for incoming connection indications (a request to connect) is set
                  * to the backlog parameter. If a connection indication arrives when the queue is full,
@@ -140,9 +161,36 @@ public class NettyBootstrapFactory implements IgniteComponent, ChannelEventLoops
                  */
                 .childOption(ChannelOption.TCP_NODELAY, serverConfiguration.tcpNoDelay());
 
+        /*
+         * Socket buffer sizes. Larger buffers allow more data in flight on high bandwidth-delay links, zero keeps the OS defaults
+         * (which may be auto-tuned by the kernel). Receive buffer is set on the server socket so that it applies to the TCP window
+         * advertised during the handshake of accepted connections.
+         */
+        if (serverConfiguration.soSndBuf() > 0) {
+            serverBootstrap.childOption(ChannelOption.SO_SNDBUF, serverConfiguration.soSndBuf());
+        }
+
+        if (serverConfiguration.soRcvBuf() > 0) {
+            serverBootstrap.option(ChannelOption.SO_RCVBUF, serverConfiguration.soRcvBuf());
+        }
+
+        if (transport == NettyTransport.EPOLL) {
+            NetworkView networkView = networkConfiguration.value();
+
+            serverBootstrap.childOption(EpollChannelOption.EPOLL_MODE, epollMode(networkView));
+
+            if (networkView.epollBusyPollMicros() > 0) {
+                serverBootstrap.childOption(EpollChannelOption.SO_BUSY_POLL, networkView.epollBusyPollMicros());
+            }
+        }
+
         return serverBootstrap;
     }
 
+    private static EpollMode epollMode(NetworkView networkView) {
+        return networkView.epollEdgeTriggered() ? EpollMode.EDGE_TRIGGERED : EpollMode.LEVEL_TRIGGERED;
+    }
+
     /**
      * Returns all event loop groups managed by this factory.
      */
@@ -153,9 +201,11 @@ public class NettyBootstrapFactory implements IgniteComponent, ChannelEventLoops
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> startAsync(ComponentContext componentContext) {
-        bossGroup = NamedNioEventLoopGroup.create(eventLoopGroupNamePrefix + "-srv-accept");
-        workerGroup = NamedNioEventLoopGroup.create(eventLoopGroupNamePrefix + "-srv-worker");
-        clientWorkerGroup = NamedNioEventLoopGroup.create(eventLoopGroupNamePrefix + "-client");
+        transport = NettyTransport.resolve(networkConfiguration.value().transport());
+
+        bossGroup = transport.createEventLoopGroup(eventLoopGroupNamePrefix + "-srv-accept");
+        workerGroup = transport.createEventLoopGroup(eventLoopGroupNamePrefix + "-srv-worker");
+        clientWorkerGroup = transport.createEventLoopGroup(eventLoopGroupNamePrefix + "-client");
 
         this.channelEventLoops = List.copyOf(eventLoopsAt(workerGroup, clientWorkerGroup));
 
@@ -209,6 +259,13 @@ public class NettyBootstrapFactory implements IgniteComponent, ChannelEventLoops
         return channelEventLoops;
     }
 
+    /**
+     * Returns the transport used by this factory.
+     */
+    public NettyTransport transport() {
+        return transport;
+    }
+
     /**
      * Returns worker event loop group.
      */
@@ -21,6 +21,7 @@ import org.apache.ignite.internal.network.annotations.MessageGroup;
 import org.apache.ignite.internal.network.message.ClassDescriptorListMessage;
 import org.apache.ignite.internal.network.message.ClassDescriptorMessage;
 import org.apache.ignite.internal.network.message.ClusterNodeMessage;
+import org.apache.ignite.internal.network.message.CompressedMessage;
 import org.apache.ignite.internal.network.message.FieldDescriptorMessage;
 import org.apache.ignite.internal.network.message.InvokeRequest;
 import org.apache.ignite.internal.network.message.InvokeResponse;
@@ -101,4 +102,9 @@ public class NetworkMessageTypes {
      * Type for {@link ProbeMessage}.
      */
     public static final short PROBE_MESSAGE = 12;
+
+    /**
+     * Type for {@link CompressedMessage}.
+     */
+    public static final short COMPRESSED_MESSAGE = 13;
 }
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.compression;
+
+import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+
+/**
+ * Codec based on the JDK {@link Deflater} and {@link Inflater}, doesn't require any additional dependencies.
+ */
+public class DeflateMessageCompressionCodec implements MessageCompressionCodec {
+    /** Codec ID. */
+    public static final byte ID = 1;
+
+    /** Codec name used in the configuration. */
+    public static final String NAME = "DEFLATE";
+
+    private final int level;
+
+    /**
+     * Constructor.
+     *
+     * @param level Compression level, from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}.
+     */
+    public DeflateMessageCompressionCodec(int level) {
+        this.level = level;
+    }
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public byte[] compress(byte[] src, int len) {
+        Deflater deflater = new Deflater(level, true);
+
+        try {
+            deflater.setInput(src, 0, len);
+            deflater.finish();
+
+            // Incompressible data may grow a little, a few extra bytes per 16K block are enough for the raw deflate format.
+            byte[] dst = new byte[len + (len >>> 12) + 64];
+            int written = 0;
+
+            while (!deflater.finished()) {
+                if (written == dst.length) {
+                    dst = Arrays.copyOf(dst, dst.length * 2);
+                }
+
+                written += deflater.deflate(dst, written, dst.length - written);
+            }
+
+            return Arrays.copyOf(dst, written);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] src, int originalLength) {
+        Inflater inflater = new Inflater(true);
+
+        try {
+            inflater.setInput(src);
+
+            byte[] dst = new byte[originalLength];
+            int read = 0;
+
+            while (read < originalLength && !inflater.finished()) {
+                int n = inflater.inflate(dst, read, originalLength - read);
+
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+
+                read += n;
+            }
+
+            if (read != originalLength) {
+                throw new IgniteInternalException(
+                        INTERNAL_ERR,
+                        "Unexpected length of decompressed message [expected=" + originalLength + ", actual=" + read + ']'
+                );
+            }
+
+            return dst;
+        } catch (DataFormatException e) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Failed to decompress message", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.compression;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.network.ChannelType;
+import org.apache.ignite.internal.network.ChannelTypeRegistry;
+import org.apache.ignite.internal.network.NetworkMessagesFactory;
+import org.apache.ignite.internal.network.configuration.CompressionView;
+import org.apache.ignite.internal.network.message.CompressedMessage;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compression policy of a node: which channel types are compressed, which codec is used and starting from which message size.
+ */
+public class MessageCompression {
+    /** Policy that never compresses anything. */
+    public static final MessageCompression DISABLED = new MessageCompression(
+            new DeflateMessageCompressionCodec(Deflater.BEST_SPEED),
+            Integer.MAX_VALUE,
+            Set.of(),
+            new NetworkCompressionMetricSource()
+    );
+
+    /** Codecs used to decompress incoming messages, by codec ID. */
+    private static final Map<Byte, MessageCompressionCodec> DECOMPRESSION_CODECS = Map.of(
+            DeflateMessageCompressionCodec.ID, new DeflateMessageCompressionCodec(Deflater.DEFAULT_COMPRESSION)
+    );
+
+    private static final NetworkMessagesFactory MESSAGE_FACTORY = new NetworkMessagesFactory();
+
+    private final MessageCompressionCodec codec;
+
+    private final int thresholdBytes;
+
+    private final Set<Short> channelTypeIds;
+
+    private final NetworkCompressionMetricSource metricSource;
+
+    /**
+     * Constructor.
+     *
+     * @param codec Codec used to compress outgoing messages.
+     * @param thresholdBytes Minimal serialized size of a message to compress.
+     * @param channelTypeIds IDs of the channel types to compress.
+     * @param metricSource Compression metric source.
+     */
+    public MessageCompression(
+            MessageCompressionCodec codec,
+            int thresholdBytes,
+            Set<Short> channelTypeIds,
+            NetworkCompressionMetricSource metricSource
+    ) {
+        this.codec = codec;
+        this.thresholdBytes = thresholdBytes;
+        this.channelTypeIds = channelTypeIds;
+        this.metricSource = metricSource;
+    }
+
+    /**
+     * Creates a compression policy from the configuration.
+     *
+     * @param configuration Compression configuration.
+     * @param channelTypeRegistry Registry used to resolve the configured channel type names.
+     * @param metricSource Compression metric source.
+     * @return Compression policy.
+     */
+    public static MessageCompression create(
+            CompressionView configuration,
+            ChannelTypeRegistry channelTypeRegistry,
+            NetworkCompressionMetricSource metricSource
+    ) {
+        List<String> channelNames = Arrays.asList(configuration.channels());
+
+        Set<Short> channelTypeIds = channelTypeRegistry.getAll().stream()
+                .filter(channelType -> channelNames.contains(channelType.name()))
+                .map(ChannelType::id)
+                .collect(toUnmodifiableSet());
+
+        assert DeflateMessageCompressionCodec.NAME.equals(configuration.codec()) : configuration.codec();
+
+        return new MessageCompression(
+                new DeflateMessageCompressionCodec(configuration.level()),
+                configuration.thresholdBytes(),
+                channelTypeIds,
+                metricSource
+        );
+    }
+
+    /**
+     * Returns {@code true} if this node wants messages of the given channel type to be compressed.
+     *
+     * @param channelTypeId Channel type ID.
+     */
+    public boolean enabledFor(short channelTypeId) {
+        return channelTypeIds.contains(channelTypeId);
+    }
+
+    /** Returns the minimal serialized size of a message to compress. */
+    public int thresholdBytes() {
+        return thresholdBytes;
+    }
+
+    /**
+     * Compresses a serialized message.
+     *
+     * @param serialized Serialized message.
+     * @param len Serialized message length.
+     * @return Compressed message or {@code null} if compression doesn't reduce the size of the message.
+     */
+    public @Nullable CompressedMessage compress(byte[] serialized, int len) {
+        long start = System.nanoTime();
+
+        byte[] compressed = codec.compress(serialized, len);
+
+        long duration = System.nanoTime() - start;
+
+        if (compressed.length >= len) {
+            metricSource.onIncompressible(duration);
+
+            return null;
+        }
+
+        metricSource.onCompressed(len, compressed.length, duration);
+
+        return MESSAGE_FACTORY.compressedMessage()
+                .codecId(codec.id())
+                .originalSize(len)
+                .payload(compressed)
+                .build();
+    }
+
+    /**
+     * Decompresses a message compressed by any node.
+     *
+     * @param message Compressed message.
+     * @return Serialized message.
+     */
+    public static byte[] decompress(CompressedMessage message) {
+        MessageCompressionCodec codec = DECOMPRESSION_CODECS.get(message.codecId());
+
+        if (codec == null) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Unknown compression codec [id=" + message.codecId() + ']');
+        }
+
+        return codec.decompress(message.payload(), message.originalSize());
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.compression;
+
+/**
+ * Codec used to compress serialized network messages. Codecs are identified on the wire by their {@link #id()}.
+ */
+public interface MessageCompressionCodec {
+    /** Returns the ID of the codec, unique among all codecs. */
+    byte id();
+
+    /**
+     * Compresses bytes.
+     *
+     * @param src Source array.
+     * @param len Number of bytes to compress, starting from the beginning of the array.
+     * @return Compressed bytes.
+     */
+    byte[] compress(byte[] src, int len);
+
+    /**
+     * Decompresses bytes.
+     *
+     * @param src Compressed bytes.
+     * @param originalLength Length of the original, uncompressed, data.
+     * @return Decompressed bytes.
+     */
+    byte[] decompress(byte[] src, int originalLength);
+}
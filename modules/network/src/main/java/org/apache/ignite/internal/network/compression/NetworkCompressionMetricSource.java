@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.compression;
+
+import java.util.List;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.DoubleGauge;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.Metric;
+
+/** Metric source, which provides metrics of the compression of messages sent to other nodes. */
+public class NetworkCompressionMetricSource extends AbstractMetricSource<NetworkCompressionMetricSource.Holder> {
+    public static final String NAME = "network.compression";
+
+    /** Constructor. */
+    public NetworkCompressionMetricSource() {
+        super(NAME);
+    }
+
+    /**
+     * Records a compression of a message.
+     *
+     * @param uncompressedBytes Serialized size of the message.
+     * @param compressedBytes Compressed size of the message.
+     * @param durationNanos Time spent on compression.
+     */
+    public void onCompressed(int uncompressedBytes, int compressedBytes, long durationNanos) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.compressedMessages.increment();
+            h.uncompressedBytes.add(uncompressedBytes);
+            h.compressedBytes.add(compressedBytes);
+            h.compressionTime.add(durationNanos);
+        }
+    }
+
+    /**
+     * Records a message that was above the compression threshold but was sent uncompressed because compression didn't reduce its size.
+     *
+     * @param durationNanos Time spent on the compression attempt.
+     */
+    public void onIncompressible(long durationNanos) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.incompressibleMessages.increment();
+            h.compressionTime.add(durationNanos);
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder. */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final LongAdderMetric compressedMessages = new LongAdderMetric("CompressedMessages", "Number of compressed messages");
+
+        private final LongAdderMetric incompressibleMessages = new LongAdderMetric(
+                "IncompressibleMessages",
+                "Number of messages above the compression threshold that were sent uncompressed because they did not shrink"
+        );
+
+        private final LongAdderMetric uncompressedBytes = new LongAdderMetric(
+                "UncompressedBytes",
+                "Total size of the compressed messages before compression in bytes"
+        );
+
+        private final LongAdderMetric compressedBytes = new LongAdderMetric(
+                "CompressedBytes",
+                "Total size of the compressed messages after compression in bytes"
+        );
+
+        private final DoubleGauge compressionRatio = new DoubleGauge(
+                "CompressionRatio",
+                "Ratio of the uncompressed size of the compressed messages to their compressed size",
+                () -> {
+                    long compressed = compressedBytes.value();
+
+                    return compressed == 0 ? 0 : (double) uncompressedBytes.value() / compressed;
+                }
+        );
+
+        private final LongAdderMetric compressionTime = new LongAdderMetric(
+                "CompressionTimeNanos",
+                "Total time spent on compression in nanoseconds"
+        );
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return List.of(
+                    compressedMessages,
+                    incompressibleMessages,
+                    uncompressedBytes,
+                    compressedBytes,
+                    compressionRatio,
+                    compressionTime
+            );
+        }
+    }
+}
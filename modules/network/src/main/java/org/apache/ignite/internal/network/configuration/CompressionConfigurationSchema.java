@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.configuration;
+
+import org.apache.ignite.configuration.annotation.Config;
+import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.OneOf;
+import org.apache.ignite.configuration.validation.Range;
+
+/**
+ * Configuration of the compression of large messages sent between nodes. Compression is negotiated during the handshake and is only
+ * used on a connection if both sides enable it for its channel type.
+ */
+@Config
+public class CompressionConfigurationSchema {
+    /** Names of the channel types (for example {@code Default} or {@code FileTransfer}) to compress, compression is disabled if empty. */
+    @Value(hasDefault = true)
+    public final String[] channels = new String[0];
+
+    /** Compression codec. */
+    @OneOf("DEFLATE")
+    @Value(hasDefault = true)
+    public final String codec = "DEFLATE";
+
+    /** Messages which serialized size is below this threshold are sent uncompressed. */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public final int thresholdBytes = 64 * 1024;
+
+    /** Compression level, from 1 (best speed) to 9 (best compression). */
+    @Range(min = 1, max = 9)
+    @Value(hasDefault = true)
+    public final int level = 1;
+}
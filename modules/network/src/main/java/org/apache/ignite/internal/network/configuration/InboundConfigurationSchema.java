@@ -48,4 +48,14 @@ public class InboundConfigurationSchema {
     /** TCP no delay flag. */
     @Value(hasDefault = true)
     public final boolean tcpNoDelay = true;
+
+    /** Socket send buffer size in bytes, {@code 0} to use the OS default. */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public final int soSndBuf = 0;
+
+    /** Socket receive buffer size in bytes, {@code 0} to use the OS default. */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public final int soRcvBuf = 0;
 }
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.network.configuration;
 import org.apache.ignite.configuration.annotation.Config;
 import org.apache.ignite.configuration.annotation.ConfigValue;
 import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.OneOf;
 import org.apache.ignite.configuration.validation.Range;
 
 /**
@@ -56,6 +57,26 @@ public class NetworkConfigurationSchema {
     @Value(hasDefault = true)
     public final long shutdownTimeoutMillis = 15_000;
 
+    /**
+     * Netty transport: {@code NIO} for JDK selectors, {@code EPOLL} for the native Linux transport or {@code AUTO} to use the native
+     * transport whenever it is available. Falls back to {@code NIO} if the native transport can't be loaded.
+     */
+    @OneOf({"AUTO", "NIO", "EPOLL"})
+    @Value(hasDefault = true)
+    public final String transport = "NIO";
+
+    /** Whether edge-triggered mode is used by the native epoll transport, level-triggered mode is used otherwise. */
+    @Value(hasDefault = true)
+    public final boolean epollEdgeTriggered = true;
+
+    /**
+     * Approximate time in microseconds to busy poll on a socket read when the native epoll transport is used ({@code SO_BUSY_POLL}),
+     * {@code 0} to disable busy polling.
+     */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public final int epollBusyPollMicros = 0;
+
     /** Server configuration. */
     @ConfigValue
     public InboundConfigurationSchema inbound;
@@ -80,4 +101,8 @@ public class NetworkConfigurationSchema {
     /** File transferring configuration. */
     @ConfigValue
     public FileTransferConfigurationSchema fileTransfer;
+
+    /** Message compression configuration. */
+    @ConfigValue
+    public CompressionConfigurationSchema compression;
 }
@@ -57,6 +57,7 @@ import org.apache.ignite.internal.network.ClusterIdSupplier;
 import org.apache.ignite.internal.network.NettyBootstrapFactory;
 import org.apache.ignite.internal.network.NetworkMessagesFactory;
 import org.apache.ignite.internal.network.RecipientLeftException;
+import org.apache.ignite.internal.network.compression.MessageCompression;
 import org.apache.ignite.internal.network.configuration.NetworkView;
 import org.apache.ignite.internal.network.configuration.SslConfigurationSchema;
 import org.apache.ignite.internal.network.configuration.SslView;
@@ -148,6 +149,8 @@ public class ConnectionManager implements ChannelCreationListener {
 
     private final IgniteProductVersionSource productVersionSource;
 
+    private final MessageCompression compression;
+
     /** {@code null} if SSL is not {@link SslConfigurationSchema#enabled}. */
     private final @Nullable SslContext clientSslContext;
 
@@ -163,6 +166,7 @@ public class ConnectionManager implements ChannelCreationListener {
      * @param clusterIdSupplier Supplier of cluster ID.
      * @param channelTypeRegistry {@link ChannelType} registry.
      * @param productVersionSource Source of product version.
+     * @param compression Message compression policy.
      */
     public ConnectionManager(
             NetworkView networkConfiguration,
@@ -173,7 +177,8 @@ public class ConnectionManager implements ChannelCreationListener {
             StaleIdDetector staleIdDetector,
             ClusterIdSupplier clusterIdSupplier,
             ChannelTypeRegistry channelTypeRegistry,
-            IgniteProductVersionSource productVersionSource
+            IgniteProductVersionSource productVersionSource,
+            MessageCompression compression
     ) {
         this(
                 networkConfiguration,
@@ -185,7 +190,8 @@ public class ConnectionManager implements ChannelCreationListener {
                 clusterIdSupplier,
                 null,
                 channelTypeRegistry,
-                productVersionSource
+                productVersionSource,
+                compression
         );
     }
 
@@ -202,6 +208,7 @@ public class ConnectionManager implements ChannelCreationListener {
      * @param clientHandshakeManagerFactory Factory for {@link RecoveryClientHandshakeManager} instances.
      * @param channelTypeRegistry {@link ChannelType} registry.
      * @param productVersionSource Source of product version.
+     * @param compression Message compression policy.
      */
     public ConnectionManager(
             NetworkView networkConfiguration,
@@ -213,7 +220,8 @@ public class ConnectionManager implements ChannelCreationListener {
             ClusterIdSupplier clusterIdSupplier,
             @Nullable RecoveryClientHandshakeManagerFactory clientHandshakeManagerFactory,
             ChannelTypeRegistry channelTypeRegistry,
-            IgniteProductVersionSource productVersionSource
+            IgniteProductVersionSource productVersionSource,
+            MessageCompression compression
     ) {
         this.serializationService = serializationService;
         this.nodeId = nodeId;
@@ -223,6 +231,7 @@ public class ConnectionManager implements ChannelCreationListener {
         this.clientHandshakeManagerFactory = clientHandshakeManagerFactory;
         this.channelTypeRegistry = channelTypeRegistry;
         this.productVersionSource = productVersionSource;
+        this.compression = compression;
 
         SslView ssl = networkConfiguration.ssl();
 
@@ -535,7 +544,8 @@ public class ConnectionManager implements ChannelCreationListener {
                     clusterIdSupplier,
                     this,
                     stopping::get,
-                    productVersionSource
+                    productVersionSource,
+                    compression
             );
         }
 
@@ -559,7 +569,8 @@ public class ConnectionManager implements ChannelCreationListener {
                 clusterIdSupplier,
                 this,
                 stopping::get,
-                productVersionSource
+                productVersionSource,
+                compression
         );
     }
 
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.network.netty;
 
+import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
+
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
@@ -24,11 +26,14 @@ import io.netty.util.Attribute;
 import io.netty.util.AttributeKey;
 import java.nio.ByteBuffer;
 import java.util.List;
+import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.network.compression.MessageCompression;
 import org.apache.ignite.internal.network.direct.DirectMessageReader;
 import org.apache.ignite.internal.network.message.ClassDescriptorListMessage;
+import org.apache.ignite.internal.network.message.CompressedMessage;
 import org.apache.ignite.internal.network.serialization.MessageDeserializer;
 import org.apache.ignite.internal.network.serialization.MessageReader;
 import org.apache.ignite.internal.network.serialization.PerSessionSerializationService;
@@ -135,6 +140,10 @@ public class InboundDecoder extends ByteToMessageDecoder {
 
                     NetworkMessage message = deserializer.getMessage();
 
+                    if (message instanceof CompressedMessage) {
+                        message = decompress((CompressedMessage) message);
+                    }
+
                     if (message instanceof ClassDescriptorListMessage) {
                         onClassDescriptorMessage((ClassDescriptorListMessage) message);
                     } else {
@@ -169,6 +178,31 @@ public class InboundDecoder extends ByteToMessageDecoder {
         return readBytes;
     }
 
+    private NetworkMessage decompress(CompressedMessage compressedMessage) {
+        ByteBuffer buffer = ByteBuffer.wrap(MessageCompression.decompress(compressedMessage));
+
+        var reader = new DirectMessageReader(serializationService.serializationRegistry(), ConnectionManager.DIRECT_PROTOCOL_VERSION);
+
+        reader.setBuffer(buffer);
+
+        short groupType = reader.readHeaderShort();
+        short messageType = reader.readHeaderShort();
+
+        MessageDeserializer<NetworkMessage> deserializer = serializationService.createMessageDeserializer(groupType, messageType);
+
+        reader.setCurrentReadClass(deserializer.klass());
+
+        // The whole message is in the buffer, so it must be read in one go.
+        if (!deserializer.readMessage(reader) || buffer.hasRemaining()) {
+            throw new IgniteInternalException(
+                    INTERNAL_ERR,
+                    "Malformed compressed message [groupType=" + groupType + ", messageType=" + messageType + ']'
+            );
+        }
+
+        return deserializer.getMessage();
+    }
+
     private void onClassDescriptorMessage(ClassDescriptorListMessage msg) {
         serializationService.mergeDescriptors(msg.messages());
     }
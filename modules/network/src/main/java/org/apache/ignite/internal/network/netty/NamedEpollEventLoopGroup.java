@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import java.util.concurrent.ThreadFactory;
+import org.apache.ignite.internal.network.netty.NamedNioEventLoopGroup.NetworkThread;
+
+/**
+ * Named netty event loop backed by the native epoll transport. Threads are the same {@link NetworkThread}s that are used by
+ * {@link NamedNioEventLoopGroup}.
+ */
+public class NamedEpollEventLoopGroup extends EpollEventLoopGroup {
+    /**
+     * Constructor.
+     *
+     * @param threadFactory Thread factory.
+     */
+    private NamedEpollEventLoopGroup(ThreadFactory threadFactory) {
+        super(0, threadFactory);
+    }
+
+    /**
+     * Creates event loop. Must only be called if {@link io.netty.channel.epoll.Epoll#isAvailable()} returns {@code true}.
+     *
+     * @param namePrefix Tread name prefix.
+     * @return Event loop.
+     */
+    public static EpollEventLoopGroup create(String namePrefix) {
+        return new NamedEpollEventLoopGroup(NamedNioEventLoopGroup.threadFactory(namePrefix));
+    }
+}
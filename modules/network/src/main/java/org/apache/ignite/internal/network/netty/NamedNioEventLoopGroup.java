@@ -48,7 +48,17 @@ public class NamedNioEventLoopGroup extends NioEventLoopGroup {
      * @return Event loop.
      */
     public static NioEventLoopGroup create(String namePrefix) {
-        var factory = new DefaultThreadFactory(namePrefix, Thread.MAX_PRIORITY) {
+        return new NamedNioEventLoopGroup(threadFactory(namePrefix));
+    }
+
+    /**
+     * Creates a factory of {@link NetworkThread}s with the given name prefix.
+     *
+     * @param namePrefix Tread name prefix.
+     * @return Thread factory.
+     */
+    static ThreadFactory threadFactory(String namePrefix) {
+        return new DefaultThreadFactory(namePrefix, Thread.MAX_PRIORITY) {
             /** Thread index. */
             private final AtomicInteger nextId = new AtomicInteger();
 
@@ -58,7 +68,6 @@ public class NamedNioEventLoopGroup extends NioEventLoopGroup {
                 return new NetworkThread(threadGroup, r, namePrefix + '-' + nextId.incrementAndGet());
             }
         };
-        return new NamedNioEventLoopGroup(factory);
     }
 
     /**
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+
+/**
+ * Netty transport used for the event loops and channels of a node.
+ */
+public enum NettyTransport {
+    /** JDK NIO selectors, available on every platform. */
+    NIO {
+        @Override
+        public EventLoopGroup createEventLoopGroup(String namePrefix) {
+            return NamedNioEventLoopGroup.create(namePrefix);
+        }
+
+        @Override
+        public Class<? extends SocketChannel> socketChannelClass() {
+            return NioSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> serverSocketChannelClass() {
+            return NioServerSocketChannel.class;
+        }
+    },
+
+    /** Native Linux epoll transport, avoids the JDK selector overhead and supports additional socket options. */
+    EPOLL {
+        @Override
+        public EventLoopGroup createEventLoopGroup(String namePrefix) {
+            return NamedEpollEventLoopGroup.create(namePrefix);
+        }
+
+        @Override
+        public Class<? extends SocketChannel> socketChannelClass() {
+            return EpollSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> serverSocketChannelClass() {
+            return EpollServerSocketChannel.class;
+        }
+    };
+
+    /** Configuration value that selects the native transport whenever it is available. */
+    public static final String AUTO = "AUTO";
+
+    private static final IgniteLogger LOG = Loggers.forClass(NettyTransport.class);
+
+    /**
+     * Creates an event loop group for this transport.
+     *
+     * @param namePrefix Thread name prefix.
+     * @return Event loop group.
+     */
+    public abstract EventLoopGroup createEventLoopGroup(String namePrefix);
+
+    /** Returns the class of client socket channels for this transport. */
+    public abstract Class<? extends SocketChannel> socketChannelClass();
+
+    /** Returns the class of server socket channels for this transport. */
+    public abstract Class<? extends ServerSocketChannel> serverSocketChannelClass();
+
+    /**
+     * Resolves the transport to use for the configured value. Falls back to {@link #NIO} if the native transport is requested but
+     * can't be loaded on the current platform.
+     *
+     * @param configured Configured transport name: {@code AUTO}, {@code NIO} or {@code EPOLL}.
+     * @return Transport to use.
+     */
+    public static NettyTransport resolve(String configured) {
+        if (NIO.name().equals(configured)) {
+            return NIO;
+        }
+
+        if (Epoll.isAvailable()) {
+            return EPOLL;
+        }
+
+        if (EPOLL.name().equals(configured)) {
+            LOG.warn("Native epoll transport is not available, falling back to NIO [reason={}].", Epoll.unavailabilityCause().getMessage());
+        }
+
+        return NIO;
+    }
+}
@@ -28,11 +28,14 @@ import java.util.List;
 import org.apache.ignite.internal.network.NetworkMessage;
 import org.apache.ignite.internal.network.NetworkMessagesFactory;
 import org.apache.ignite.internal.network.OutNetworkObject;
+import org.apache.ignite.internal.network.compression.MessageCompression;
 import org.apache.ignite.internal.network.direct.DirectMessageWriter;
 import org.apache.ignite.internal.network.message.ClassDescriptorListMessage;
 import org.apache.ignite.internal.network.message.ClassDescriptorMessage;
+import org.apache.ignite.internal.network.message.CompressedMessage;
 import org.apache.ignite.internal.network.serialization.MessageSerializer;
 import org.apache.ignite.internal.network.serialization.PerSessionSerializationService;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * An encoder for the outbound messages that uses {@link DirectMessageWriter}.
@@ -48,6 +51,9 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
     /** Serialization registry. */
     private final PerSessionSerializationService serializationService;
 
+    /** Compression policy, {@code null} until compression is negotiated for the channel during the handshake. */
+    private volatile @Nullable MessageCompression compression;
+
     /**
      * Constructor.
      *
@@ -57,9 +63,18 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
         this.serializationService = serializationService;
     }
 
+    /**
+     * Enables compression of the messages that are big enough according to the given policy.
+     *
+     * @param compression Compression policy.
+     */
+    public void enableCompression(MessageCompression compression) {
+        this.compression = compression;
+    }
+
     @Override
     protected void encode(ChannelHandlerContext ctx, OutNetworkObject msg, List<Object> out) throws Exception {
-        out.add(new NetworkMessageChunkedInput(msg, serializationService));
+        out.add(new NetworkMessageChunkedInput(msg, serializationService, compression));
     }
 
     /**
@@ -67,10 +82,13 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
      */
     private static class NetworkMessageChunkedInput implements ChunkedInput<ByteBuf> {
         /** Network message. */
-        private final NetworkMessage msg;
+        private NetworkMessage msg;
 
         /** Message serializer. */
-        private final MessageSerializer<NetworkMessage> serializer;
+        private MessageSerializer<NetworkMessage> serializer;
+
+        /** Already serialized message, if the message was serialized upfront to decide whether it should be compressed. */
+        private @Nullable ByteBuffer serializedMsg;
 
         private final MessageSerializer<ClassDescriptorListMessage> descriptorSerializer;
 
@@ -89,10 +107,12 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
          *
          * @param outObject            Out network object.
          * @param serializationService Serialization service.
+         * @param compression          Compression policy, {@code null} if compression is disabled.
          */
         private NetworkMessageChunkedInput(
                 OutNetworkObject outObject,
-                PerSessionSerializationService serializationService
+                PerSessionSerializationService serializationService,
+                @Nullable MessageCompression compression
         ) {
             this.serializationService = serializationService;
             this.msg = outObject.networkMessage();
@@ -123,6 +143,43 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
 
             this.serializer = serializationService.createMessageSerializer(msg.groupType(), msg.messageType());
             this.writer = new DirectMessageWriter(serializationService.serializationRegistry(), ConnectionManager.DIRECT_PROTOCOL_VERSION);
+
+            if (compression != null) {
+                compressIfNeeded(compression);
+            }
+        }
+
+        /**
+         * Serializes the message upfront and replaces it with a compressed one if it is above the compression threshold. Messages that
+         * are not compressed are written from the serialized bytes, so they are not serialized twice.
+         */
+        private void compressIfNeeded(MessageCompression compression) {
+            ByteBuffer buf = ByteBuffer.allocate(IO_BUFFER_CAPACITY);
+
+            writer.setBuffer(buf);
+
+            while (!serializer.writeMessage(msg, writer)) {
+                ByteBuffer newBuf = ByteBuffer.allocate(buf.capacity() * 2);
+
+                newBuf.put(buf.flip());
+
+                buf = newBuf;
+
+                writer.setBuffer(buf);
+            }
+
+            writer.reset();
+
+            int len = buf.position();
+
+            CompressedMessage compressed = len >= compression.thresholdBytes() ? compression.compress(buf.array(), len) : null;
+
+            if (compressed == null) {
+                serializedMsg = buf.flip();
+            } else {
+                msg = compressed;
+                serializer = serializationService.createMessageSerializer(compressed.groupType(), compressed.messageType());
+            }
         }
 
         @Override
@@ -163,6 +220,14 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
                     } else {
                         break;
                     }
+                } else if (serializedMsg != null) {
+                    int len = Math.min(byteBuffer.remaining(), serializedMsg.remaining());
+
+                    byteBuffer.put(serializedMsg.array(), serializedMsg.position(), len);
+                    serializedMsg.position(serializedMsg.position() + len);
+
+                    finished = !serializedMsg.hasRemaining();
+                    break;
                 } else {
                     finished = serializer.writeMessage(msg, writer);
                     break;
@@ -41,6 +41,7 @@ import org.apache.ignite.internal.network.ClusterIdSupplier;
 import org.apache.ignite.internal.network.NetworkMessage;
 import org.apache.ignite.internal.network.NetworkMessagesFactory;
 import org.apache.ignite.internal.network.OutNetworkObject;
+import org.apache.ignite.internal.network.compression.MessageCompression;
 import org.apache.ignite.internal.network.handshake.ChannelAlreadyExistsException;
 import org.apache.ignite.internal.network.handshake.HandshakeException;
 import org.apache.ignite.internal.network.handshake.HandshakeManager;
@@ -50,6 +51,7 @@ import org.apache.ignite.internal.network.netty.ChannelKey;
 import org.apache.ignite.internal.network.netty.HandshakeHandler;
 import org.apache.ignite.internal.network.netty.MessageHandler;
 import org.apache.ignite.internal.network.netty.NettySender;
+import org.apache.ignite.internal.network.netty.OutboundEncoder;
 import org.apache.ignite.internal.network.netty.PipelineUtils;
 import org.apache.ignite.internal.network.recovery.message.HandshakeFinishMessage;
 import org.apache.ignite.internal.network.recovery.message.HandshakeRejectedMessage;
@@ -87,6 +89,8 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
 
     private final IgniteProductVersionSource productVersionSource;
 
+    private final MessageCompression compression;
+
     /** Connection id. */
     private final short connectionId;
 
@@ -121,6 +125,7 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
      * @param recoveryDescriptorProvider Recovery descriptor provider.
      * @param stopping Defines whether the corresponding connection manager is stopping.
      * @param productVersionSource Source of product version.
+     * @param compression Compression policy of the local node.
      */
     public RecoveryClientHandshakeManager(
             ClusterNode localNode,
@@ -131,7 +136,8 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
             ClusterIdSupplier clusterIdSupplier,
             ChannelCreationListener channelCreationListener,
             BooleanSupplier stopping,
-            IgniteProductVersionSource productVersionSource
+            IgniteProductVersionSource productVersionSource,
+            MessageCompression compression
     ) {
         this.localNode = localNode;
         this.connectionId = connectionId;
@@ -141,6 +147,7 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
         this.clusterIdSupplier = clusterIdSupplier;
         this.stopping = stopping;
         this.productVersionSource = productVersionSource;
+        this.compression = compression;
 
         localHandshakeCompleteFuture.whenComplete((nettySender, throwable) -> {
             if (throwable != null) {
@@ -223,6 +230,10 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
 
             recoveryDescriptor.acknowledge(receivedCount);
 
+            if (msg.compressionEnabled()) {
+                ctx.pipeline().get(OutboundEncoder.class).enableCompression(compression);
+            }
+
             if (recoveryDescriptor.unacknowledgedCount() == 0) {
                 finishHandshake();
 
@@ -461,6 +472,7 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
                 .clientNode(clusterNodeToMessage(localNode))
                 .receivedCount(descriptor.receivedCount())
                 .connectionId(connectionId)
+                .compressionEnabled(compression.enabledFor(connectionId))
                 .build();
 
         ChannelFuture sendFuture = ctx.channel().writeAndFlush(new OutNetworkObject(response, emptyList(), false));
@@ -37,6 +37,7 @@ import org.apache.ignite.internal.network.ClusterIdSupplier;
 import org.apache.ignite.internal.network.NetworkMessage;
 import org.apache.ignite.internal.network.NetworkMessagesFactory;
 import org.apache.ignite.internal.network.OutNetworkObject;
+import org.apache.ignite.internal.network.compression.MessageCompression;
 import org.apache.ignite.internal.network.handshake.HandshakeException;
 import org.apache.ignite.internal.network.handshake.HandshakeManager;
 import org.apache.ignite.internal.network.netty.ChannelCreationListener;
@@ -46,6 +47,7 @@ import org.apache.ignite.internal.network.netty.HandshakeHandler;
 import org.apache.ignite.internal.network.netty.MessageHandler;
 import org.apache.ignite.internal.network.netty.NettySender;
 import org.apache.ignite.internal.network.netty.NettyUtils;
+import org.apache.ignite.internal.network.netty.OutboundEncoder;
 import org.apache.ignite.internal.network.netty.PipelineUtils;
 import org.apache.ignite.internal.network.recovery.message.HandshakeFinishMessage;
 import org.apache.ignite.internal.network.recovery.message.HandshakeRejectedMessage;
@@ -89,6 +91,9 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
     /** Count of messages received by the remote node. */
     private long receivedCount;
 
+    /** Whether the remote node wants messages on this connection to be compressed. */
+    private boolean remoteCompressionEnabled;
+
     /** Recovery descriptor provider. */
     private final RecoveryDescriptorProvider recoveryDescriptorProvider;
 
@@ -103,6 +108,8 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
 
     private final IgniteProductVersionSource productVersionSource;
 
+    private final MessageCompression compression;
+
     /** Recovery descriptor. */
     private RecoveryDescriptor recoveryDescriptor;
 
@@ -114,6 +121,7 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
      * @param recoveryDescriptorProvider Recovery descriptor provider.
      * @param stopping Defines whether the corresponding connection manager is stopping.
      * @param productVersionSource Source of product version.
+     * @param compression Compression policy of the local node.
      */
     public RecoveryServerHandshakeManager(
             ClusterNode localNode,
@@ -124,7 +132,8 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
             ClusterIdSupplier clusterIdSupplier,
             ChannelCreationListener channelCreationListener,
             BooleanSupplier stopping,
-            IgniteProductVersionSource productVersionSource
+            IgniteProductVersionSource productVersionSource,
+            MessageCompression compression
     ) {
         this.localNode = localNode;
         this.messageFactory = messageFactory;
@@ -134,6 +143,7 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
         this.clusterIdSupplier = clusterIdSupplier;
         this.stopping = stopping;
         this.productVersionSource = productVersionSource;
+        this.compression = compression;
 
         this.handshakeCompleteFuture.whenComplete((nettySender, throwable) -> {
             if (throwable != null) {
@@ -227,6 +237,7 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
         this.remoteNode = message.clientNode().asClusterNode();
         this.receivedCount = message.receivedCount();
         this.remoteChannelId = message.connectionId();
+        this.remoteCompressionEnabled = message.compressionEnabled();
 
         ChannelKey channelKey = new ChannelKey(remoteNode.name(), remoteNode.id(), remoteChannelId);
         switchEventLoopIfNeeded(channel, channelKey, channelEventLoopsSource, () -> tryAcquireDescriptorAndFinishHandshake(message));
@@ -379,8 +390,16 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
     private void handshake(RecoveryDescriptor descriptor) {
         PipelineUtils.afterHandshake(ctx.pipeline(), descriptor, createMessageHandler(), messageFactory);
 
+        boolean compressionEnabled = remoteCompressionEnabled && compression.enabledFor(remoteChannelId);
+
+        // Enabled before anything is sent, the client is able to decompress messages even before it receives the finish message.
+        if (compressionEnabled) {
+            ctx.pipeline().get(OutboundEncoder.class).enableCompression(compression);
+        }
+
         HandshakeFinishMessage response = messageFactory.handshakeFinishMessage()
                 .receivedCount(descriptor.receivedCount())
+                .compressionEnabled(compressionEnabled)
                 .build();
 
         CompletableFuture<Void> sendFuture = NettyUtils.toCompletableFuture(
@@ -33,4 +33,7 @@ public interface HandshakeFinishMessage extends InternalMessage {
      * @return Number of received messages.
      */
     long receivedCount();
+
+    /** Whether messages on this connection are compressed, which requires both the client and the server to enable compression. */
+    boolean compressionEnabled();
 }
@@ -43,4 +43,7 @@ public interface HandshakeStartResponseMessage extends InternalMessage {
      * @return Number of received messages.
      */
     long receivedCount();
+
+    /** Whether the client wants messages on this connection to be compressed. */
+    boolean compressionEnabled();
 }
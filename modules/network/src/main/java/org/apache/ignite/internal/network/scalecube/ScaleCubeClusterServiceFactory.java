@@ -55,6 +55,8 @@ import org.apache.ignite.internal.network.NetworkMessagesFactory;
 import org.apache.ignite.internal.network.NodeFinder;
 import org.apache.ignite.internal.network.NodeFinderFactory;
 import org.apache.ignite.internal.network.TopologyEventHandler;
+import org.apache.ignite.internal.network.compression.MessageCompression;
+import org.apache.ignite.internal.network.compression.NetworkCompressionMetricSource;
 import org.apache.ignite.internal.network.configuration.ClusterMembershipView;
 import org.apache.ignite.internal.network.configuration.NetworkConfiguration;
 import org.apache.ignite.internal.network.configuration.NetworkView;
@@ -109,6 +111,50 @@ public class ScaleCubeClusterServiceFactory {
             FailureProcessor failureProcessor,
             ChannelTypeRegistry channelTypeRegistry,
             IgniteProductVersionSource productVersionSource
+    ) {
+        return createClusterService(
+                consistentId,
+                networkConfiguration,
+                nettyBootstrapFactory,
+                serializationRegistry,
+                staleIds,
+                clusterIdSupplier,
+                criticalWorkerRegistry,
+                failureProcessor,
+                channelTypeRegistry,
+                productVersionSource,
+                new NetworkCompressionMetricSource()
+        );
+    }
+
+    /**
+     * Creates a new {@link ClusterService} using the provided context. The created network will not be in the "started" state.
+     *
+     * @param consistentId Consistent ID (aka name) of the local node associated with the service to create.
+     * @param networkConfiguration  Network configuration.
+     * @param nettyBootstrapFactory Bootstrap factory.
+     * @param serializationRegistry Registry used for serialization.
+     * @param staleIds Used to update/detect whether a node has left the physical topology.
+     * @param clusterIdSupplier Supplier for cluster ID.
+     * @param criticalWorkerRegistry Used to register critical threads managed by the new service and its components.
+     * @param failureProcessor Failure processor that is used to handle critical errors.
+     * @param channelTypeRegistry {@link ChannelTypeRegistry} registry.
+     * @param productVersionSource Source of product version.
+     * @param compressionMetricSource Metric source of the message compression.
+     * @return New cluster service.
+     */
+    public ClusterService createClusterService(
+            String consistentId,
+            NetworkConfiguration networkConfiguration,
+            NettyBootstrapFactory nettyBootstrapFactory,
+            MessageSerializationRegistry serializationRegistry,
+            StaleIds staleIds,
+            ClusterIdSupplier clusterIdSupplier,
+            CriticalWorkerRegistry criticalWorkerRegistry,
+            FailureProcessor failureProcessor,
+            ChannelTypeRegistry channelTypeRegistry,
+            IgniteProductVersionSource productVersionSource,
+            NetworkCompressionMetricSource compressionMetricSource
     ) {
         var topologyService = new ScaleCubeTopologyService();
 
@@ -162,7 +208,8 @@ public class ScaleCubeClusterServiceFactory {
                         staleIds,
                         clusterIdSupplier,
                         channelTypeRegistry,
-                        productVersionSource
+                        productVersionSource,
+                        MessageCompression.create(configView.compression(), channelTypeRegistry, compressionMetricSource)
                 );
                 this.connectionMgr = connectionMgr;
 
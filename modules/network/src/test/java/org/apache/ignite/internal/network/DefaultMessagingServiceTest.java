@@ -60,6 +60,7 @@ import org.apache.ignite.internal.configuration.testframework.ConfigurationExten
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.failure.FailureProcessor;
 import org.apache.ignite.internal.manager.ComponentContext;
+import org.apache.ignite.internal.network.compression.MessageCompression;
 import org.apache.ignite.internal.network.configuration.NetworkConfiguration;
 import org.apache.ignite.internal.network.messages.AllTypesMessageImpl;
 import org.apache.ignite.internal.network.messages.InstantContainer;
@@ -571,7 +572,8 @@ class DefaultMessagingServiceTest extends BaseIgniteAbstractTest {
                 clusterIdSupplier,
                 clientHandshakeManagerFactoryAdding(beforeHandshake, bootstrapFactory, staleIdDetector, clusterIdSupplier),
                 channelTypeRegistry,
-                new DefaultIgniteProductVersionSource()
+                new DefaultIgniteProductVersionSource(),
+                MessageCompression.DISABLED
         );
         connectionManager.start();
         connectionManager.setLocalNode(node);
@@ -605,7 +607,8 @@ class DefaultMessagingServiceTest extends BaseIgniteAbstractTest {
                         clusterIdSupplier,
                         channel -> {},
                         () -> false,
-                        new DefaultIgniteProductVersionSource()
+                        new DefaultIgniteProductVersionSource(),
+                        MessageCompression.DISABLED
                 ) {
                     @Override
                     protected void finishHandshake() {
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static java.util.Collections.emptyList;
+import static org.apache.ignite.internal.network.utils.ClusterServiceTestUtils.defaultSerializationRegistry;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.network.OutNetworkObject;
+import org.apache.ignite.internal.network.compression.DeflateMessageCompressionCodec;
+import org.apache.ignite.internal.network.compression.MessageCompression;
+import org.apache.ignite.internal.network.compression.NetworkCompressionMetricSource;
+import org.apache.ignite.internal.network.messages.TestMessage;
+import org.apache.ignite.internal.network.messages.TestMessagesFactory;
+import org.apache.ignite.internal.network.serialization.MessageSerializationRegistry;
+import org.apache.ignite.internal.network.serialization.PerSessionSerializationService;
+import org.apache.ignite.internal.network.serialization.SerializationService;
+import org.apache.ignite.internal.network.serialization.UserObjectSerializationContext;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the compression of messages by {@link OutboundEncoder} and their decompression by {@link InboundDecoder}.
+ */
+public class MessageCompressionTest extends BaseIgniteAbstractTest {
+    private static final int THRESHOLD = 1024;
+
+    private final MessageSerializationRegistry registry = defaultSerializationRegistry();
+
+    private final TestMessagesFactory messageFactory = new TestMessagesFactory();
+
+    private final NetworkCompressionMetricSource metricSource = new NetworkCompressionMetricSource();
+
+    private MetricSet metricSet;
+
+    @BeforeEach
+    void enableMetrics() {
+        metricSet = metricSource.enable();
+
+        assertNotNull(metricSet);
+    }
+
+    @Test
+    public void testLargeMessageIsCompressed() {
+        TestMessage msg = messageFactory.testMessage().msg("a".repeat(100_000)).map(Map.of(1, "b".repeat(10_000))).build();
+
+        int sentBytes = sendAndReceive(msg, true);
+
+        assertThat(sentBytes, lessThan(10_000));
+        assertEquals(1, metricValue("CompressedMessages"));
+        assertThat(metricValue("UncompressedBytes"), greaterThan(110_000L));
+        assertThat(metricValue("CompressedBytes"), lessThan((long) sentBytes));
+    }
+
+    @Test
+    public void testSmallMessageIsNotCompressed() {
+        TestMessage msg = messageFactory.testMessage().msg("a".repeat(THRESHOLD / 2)).build();
+
+        sendAndReceive(msg, true);
+
+        assertEquals(0, metricValue("CompressedMessages"));
+        assertEquals(0, metricValue("IncompressibleMessages"));
+    }
+
+    @Test
+    public void testCompressionDisabled() {
+        TestMessage msg = messageFactory.testMessage().msg("a".repeat(100_000)).build();
+
+        int sentBytes = sendAndReceive(msg, false);
+
+        assertThat(sentBytes, greaterThan(100_000));
+        assertEquals(0, metricValue("CompressedMessages"));
+    }
+
+    /**
+     * Sends the message through an encoder and a decoder and checks that it is received intact.
+     *
+     * @return Number of bytes sent over the wire.
+     */
+    private int sendAndReceive(NetworkMessage msg, boolean compressionEnabled) {
+        var serializationService = new SerializationService(registry, mock(UserObjectSerializationContext.class));
+
+        var encoder = new OutboundEncoder(new PerSessionSerializationService(serializationService));
+
+        if (compressionEnabled) {
+            encoder.enableCompression(new MessageCompression(
+                    new DeflateMessageCompressionCodec(Deflater.BEST_SPEED),
+                    THRESHOLD,
+                    Set.of((short) 0),
+                    metricSource
+            ));
+        }
+
+        var outChannel = new EmbeddedChannel(new ChunkedWriteHandler(), encoder);
+        var inChannel = new EmbeddedChannel(new InboundDecoder(new PerSessionSerializationService(serializationService)));
+
+        outChannel.writeAndFlush(new OutNetworkObject(msg, emptyList(), false));
+
+        int sentBytes = 0;
+
+        ByteBuf buf;
+
+        while ((buf = outChannel.readOutbound()) != null) {
+            sentBytes += buf.readableBytes();
+
+            inChannel.writeInbound(buf);
+        }
+
+        assertEquals(msg, inChannel.readInbound());
+        assertNull(inChannel.readInbound());
+
+        assertFalse(outChannel.finish());
+        assertFalse(inChannel.finish());
+
+        return sentBytes;
+    }
+
+    private long metricValue(String name) {
+        LongMetric metric = metricSet.get(name);
+
+        return metric.value();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.netty.channel.EventLoop;
+import io.netty.channel.epoll.Epoll;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.manager.ComponentContext;
+import org.apache.ignite.internal.network.NettyBootstrapFactory;
+import org.apache.ignite.internal.network.configuration.NetworkConfiguration;
+import org.apache.ignite.internal.network.netty.NamedNioEventLoopGroup.NetworkThread;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link NettyTransport}.
+ */
+@ExtendWith(ConfigurationExtension.class)
+public class NettyTransportTest extends BaseIgniteAbstractTest {
+    @InjectConfiguration
+    private NetworkConfiguration networkConfiguration;
+
+    @Test
+    public void testResolveNio() {
+        assertEquals(NettyTransport.NIO, NettyTransport.resolve("NIO"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {NettyTransport.AUTO, "EPOLL"})
+    public void testResolveNativeFallsBackToNio(String configured) {
+        NettyTransport expected = Epoll.isAvailable() ? NettyTransport.EPOLL : NettyTransport.NIO;
+
+        assertEquals(expected, NettyTransport.resolve(configured));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {NettyTransport.AUTO, "NIO", "EPOLL"})
+    public void testBootstrapFactoryUsesConfiguredTransport(String configured) throws Exception {
+        assertThat(networkConfiguration.transport().update(configured), willCompleteSuccessfully());
+        assertThat(networkConfiguration.inbound().soRcvBuf().update(64 * 1024), willCompleteSuccessfully());
+        assertThat(networkConfiguration.outbound().soSndBuf().update(64 * 1024), willCompleteSuccessfully());
+
+        var bootstrapFactory = new NettyBootstrapFactory(networkConfiguration, "test");
+
+        assertThat(bootstrapFactory.startAsync(new ComponentContext()), willCompleteSuccessfully());
+
+        try {
+            assertEquals(NettyTransport.resolve(configured), bootstrapFactory.transport());
+
+            for (EventLoop eventLoop : bootstrapFactory.channelEventLoops()) {
+                assertThat(CompletableFuture.supplyAsync(Thread::currentThread, eventLoop).get(), instanceOf(NetworkThread.class));
+            }
+        } finally {
+            assertThat(bootstrapFactory.stopAsync(new ComponentContext()), willCompleteSuccessfully());
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.nio.ByteBuffer;
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Class responsible for pages storage and handling.
@@ -75,4 +76,11 @@ public interface PageMemory extends PageIdAllocator, PageSupport {
      * Returns a registry to obtain {@link PageIo} instances for pages.
      */
     PageIoRegistry ioRegistry();
+
+    /**
+     * Returns the prefetcher that loads pages ahead of sequential scans, {@code null} if prefetching is not supported or disabled.
+     */
+    default @Nullable PagePrefetcher prefetcher() {
+        return null;
+    }
 }
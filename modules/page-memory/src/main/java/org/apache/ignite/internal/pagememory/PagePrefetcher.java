@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory;
+
+/**
+ * Loads pages into memory ahead of sequential scans, so that the scans do not block on page reads. Scans detect sequential traversal and
+ * submit tasks, that walk the pages ahead of the scan, with {@link #submit}, the tasks load the pages with {@link #load}.
+ */
+public interface PagePrefetcher {
+    /** Returns the number of leaf pages of a sequential B+tree scan to load ahead of the scan. */
+    int depth();
+
+    /**
+     * Submits a prefetch task for asynchronous execution.
+     *
+     * @param task Task.
+     * @return {@code false} if the task was rejected, because the prefetcher is overloaded or stopped.
+     */
+    boolean submit(Runnable task);
+
+    /**
+     * Loads pages into memory, skipping the pages that are already loaded. Pages are loaded in the order of their IDs, which is the order
+     * of their positions in the partition files. The array is sorted in place.
+     *
+     * @param groupId Group ID.
+     * @param pageIds Page IDs.
+     * @param count Number of page IDs in the array to load.
+     */
+    void load(int groupId, long[] pageIds, int count);
+
+    /**
+     * Records an access of a scan to a page that was requested to be prefetched, to track the prefetch hit rate.
+     *
+     * @param groupId Group ID.
+     * @param pageId Page ID.
+     */
+    void onAccess(int groupId, long pageId);
+}
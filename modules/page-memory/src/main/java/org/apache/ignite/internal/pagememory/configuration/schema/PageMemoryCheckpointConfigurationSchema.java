@@ -67,4 +67,11 @@ public class PageMemoryCheckpointConfigurationSchema {
     /** Use an asynchronous file I/O operations provider. */
     @Value(hasDefault = true)
     public boolean useAsyncFileIoFactory = true;
+
+    /**
+     * Use direct I/O, bypassing the OS page cache, for partition and delta files. Files on file systems without direct I/O support are
+     * accessed with the provider chosen by {@link #useAsyncFileIoFactory}.
+     */
+    @Value(hasDefault = true)
+    public boolean useDirectIo = false;
 }
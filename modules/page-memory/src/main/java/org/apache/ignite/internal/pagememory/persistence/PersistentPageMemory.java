@@ -80,9 +80,13 @@ import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metrics.HitRateMetric;
 import org.apache.ignite.internal.metrics.IntGauge;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.LongGauge;
 import org.apache.ignite.internal.pagememory.FullPageId;
 import org.apache.ignite.internal.pagememory.PageMemory;
+import org.apache.ignite.internal.pagememory.PagePrefetcher;
 import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryProfileConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryProfileView;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
@@ -161,6 +165,19 @@ public class PersistentPageMemory implements PageMemory {
 
     private final PersistentPageMemoryMetricSource metricSource;
 
+    /** Number of replaced pages. */
+    private final LongAdderMetric replacedPages = new LongAdderMetric(
+            "PagesReplaced",
+            "Number of pages evicted from the data region to load other pages."
+    );
+
+    /** Number of pages replaced in the last second. */
+    private final HitRateMetric pageReplacementRate = new HitRateMetric(
+            "PagesReplaceRate",
+            "Number of pages evicted from the data region to load other pages in the last second.",
+            1_000
+    );
+
     /** Page IO registry. */
     private final PageIoRegistry ioRegistry;
 
@@ -208,6 +225,9 @@ public class PersistentPageMemory implements PageMemory {
     /** Pages write throttle. */
     private volatile @Nullable PagesWriteThrottlePolicy writeThrottle;
 
+    /** Prefetcher of pages ahead of sequential scans, {@code null} if prefetching is disabled. */
+    private volatile @Nullable PagePrefetcher prefetcher;
+
     /**
      * Delayed page replacement (rotation with disk) tracker. Because other thread may require exactly the same page to be loaded from
      * store, reads are protected by locking.
@@ -290,6 +310,11 @@ public class PersistentPageMemory implements PageMemory {
         metricSource.addMetric(new IntGauge(
                 "MaxCheckpointBufferPages", "The capacity of checkpoint buffer in pages.", this::maxCheckpointBufferPages
         ));
+        metricSource.addMetric(new LongGauge(
+                "DirtyPages", "Number of pages modified since the last checkpoint.", this::dirtyPagesCount
+        ));
+        metricSource.addMetric(replacedPages);
+        metricSource.addMetric(pageReplacementRate);
     }
 
     /**
@@ -302,6 +327,20 @@ public class PersistentPageMemory implements PageMemory {
         this.writeThrottle = writeThrottle;
     }
 
+    /**
+     * Enables prefetching of pages ahead of sequential scans. Must be called before the memory is started.
+     *
+     * @param prefetcher Page prefetcher.
+     */
+    public void initPrefetching(PagePrefetcher prefetcher) {
+        this.prefetcher = prefetcher;
+    }
+
+    @Override
+    public @Nullable PagePrefetcher prefetcher() {
+        return prefetcher;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void start() throws IgniteInternalException {
@@ -1338,6 +1377,24 @@ public class PersistentPageMemory implements PageMemory {
         return res;
     }
 
+    /**
+     * Returns number of pages currently marked as dirty.
+     */
+    public long dirtyPagesCount() {
+        Segment[] segments = this.segments;
+        if (segments == null) {
+            return 0;
+        }
+
+        long res = 0;
+
+        for (Segment segment : segments) {
+            res += segment.dirtyPagesCntr.get();
+        }
+
+        return res;
+    }
+
     /**
      * Returns max dirty pages ratio among all segments.
      */
@@ -1661,7 +1718,12 @@ public class PersistentPageMemory implements PageMemory {
                 throw oomException("all pages are acquired");
             }
 
-            return pageReplacementPolicy.replace();
+            long relPtr = pageReplacementPolicy.replace();
+
+            replacedPages.increment();
+            pageReplacementRate.increment();
+
+            return relPtr;
         }
 
         /**
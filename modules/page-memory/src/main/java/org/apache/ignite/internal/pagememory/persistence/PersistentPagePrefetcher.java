@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence;
+
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageIndex;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metrics.DoubleGauge;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.pagememory.FullPageId;
+import org.apache.ignite.internal.pagememory.PagePrefetcher;
+
+/**
+ * {@link PagePrefetcher} of a {@link PersistentPageMemory} data region, which loads pages on a shared executor by acquiring and
+ * releasing them, so that the pages are read from the page store into the data region and stay there until they are evicted.
+ *
+ * <p>Prefetching is best effort: tasks are rejected when the executor queue is full, and failures to load pages, e.g. of a partition that
+ * is being destroyed, only stop the current task.
+ */
+public class PersistentPagePrefetcher implements PagePrefetcher {
+    private static final IgniteLogger LOG = Loggers.forClass(PersistentPagePrefetcher.class);
+
+    private final PersistentPageMemory pageMemory;
+
+    private final int depth;
+
+    private final Executor executor;
+
+    private final LongAdderMetric prefetchedPages = new LongAdderMetric(
+            "PrefetchedPages",
+            "Number of pages loaded into the data region ahead of sequential scans."
+    );
+
+    private final LongAdderMetric prefetchHits = new LongAdderMetric(
+            "PrefetchHits",
+            "Number of pages requested for prefetching, that were already loaded when a scan accessed them."
+    );
+
+    private final LongAdderMetric prefetchMisses = new LongAdderMetric(
+            "PrefetchMisses",
+            "Number of pages requested for prefetching, that were not loaded yet when a scan accessed them."
+    );
+
+    /**
+     * Constructor.
+     *
+     * @param pageMemory Page memory of the data region.
+     * @param depth Number of leaf pages of a sequential B+tree scan to load ahead of the scan.
+     * @param executor Executor of prefetch tasks.
+     * @param metricSource Metric source of the data region, the prefetch metrics are added to it.
+     */
+    public PersistentPagePrefetcher(
+            PersistentPageMemory pageMemory,
+            int depth,
+            Executor executor,
+            PersistentPageMemoryMetricSource metricSource
+    ) {
+        assert depth > 0 : depth;
+
+        this.pageMemory = pageMemory;
+        this.depth = depth;
+        this.executor = executor;
+
+        metricSource.addMetric(prefetchedPages);
+        metricSource.addMetric(prefetchHits);
+        metricSource.addMetric(prefetchMisses);
+        metricSource.addMetric(new DoubleGauge(
+                "PrefetchHitRate",
+                "Ratio of the pages requested for prefetching, that were already loaded when a scan accessed them.",
+                this::hitRate
+        ));
+    }
+
+    @Override
+    public int depth() {
+        return depth;
+    }
+
+    @Override
+    public boolean submit(Runnable task) {
+        try {
+            executor.execute(task);
+
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void load(int groupId, long[] pageIds, int count) {
+        Arrays.sort(pageIds, 0, count);
+
+        for (int i = 0; i < count; i++) {
+            long pageId = pageIds[i];
+
+            // Meta pages are never read through the page memory.
+            if ((i > 0 && pageId == pageIds[i - 1]) || pageIndex(pageId) == 0) {
+                continue;
+            }
+
+            if (pageMemory.hasLoadedPage(new FullPageId(pageId, groupId))) {
+                continue;
+            }
+
+            try {
+                long page = pageMemory.acquirePage(groupId, pageId);
+
+                pageMemory.releasePage(groupId, pageId, page);
+            } catch (IgniteInternalCheckedException | RuntimeException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Failed to prefetch page [groupId={}, pageId={}]", e, groupId, pageId);
+                }
+
+                return;
+            }
+
+            prefetchedPages.increment();
+        }
+    }
+
+    @Override
+    public void onAccess(int groupId, long pageId) {
+        if (pageMemory.hasLoadedPage(new FullPageId(pageId, groupId))) {
+            prefetchHits.increment();
+        } else {
+            prefetchMisses.increment();
+        }
+    }
+
+    private double hitRate() {
+        long hits = prefetchHits.value();
+        long total = hits + prefetchMisses.value();
+
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
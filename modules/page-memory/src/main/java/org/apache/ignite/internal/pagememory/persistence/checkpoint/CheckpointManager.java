@@ -94,6 +94,7 @@ public class CheckpointManager {
      * @param dataRegions Data regions.
      * @param ioRegistry Page IO registry.
      * @param pageSize Page size in bytes.
+     * @param metricSource Checkpoint metric source.
      * @throws IgniteInternalCheckedException If failed.
      */
     public CheckpointManager(
@@ -107,7 +108,8 @@ public class CheckpointManager {
             PageIoRegistry ioRegistry,
             LogSyncer logSyncer,
             // TODO: IGNITE-17017 Move to common config
-            int pageSize
+            int pageSize,
+            CheckpointMetricSource metricSource
     ) throws IgniteInternalCheckedException {
         this.filePageStoreManager = filePageStoreManager;
 
@@ -141,7 +143,8 @@ public class CheckpointManager {
                 checkpointConfig.compactionThreads(),
                 filePageStoreManager,
                 pageSize,
-                failureManager
+                failureManager,
+                metricSource
         );
 
         checkpointer = new Checkpointer(
@@ -154,7 +157,8 @@ public class CheckpointManager {
                 compactor,
                 pageSize,
                 checkpointConfig,
-                logSyncer
+                logSyncer,
+                metricSource
         );
 
         checkpointTimeoutLock = new CheckpointTimeoutLock(
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.checkpoint;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.AtomicLongMetric;
+import org.apache.ignite.internal.metrics.HistogramMetric;
+import org.apache.ignite.internal.metrics.HitRateMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.LongGauge;
+import org.apache.ignite.internal.metrics.Metric;
+import org.apache.ignite.internal.pagememory.persistence.compaction.CompactionMetricsTracker;
+
+/**
+ * Metric source of the checkpointer and the delta file compactor, which publishes the phases of checkpoints, tracked by
+ * {@link CheckpointMetricsTracker}, and the compaction rounds, tracked by {@link CompactionMetricsTracker}. Only checkpoints that
+ * write pages are accounted, skipped checkpoints are only logged.
+ */
+public class CheckpointMetricSource extends AbstractMetricSource<CheckpointMetricSource.Holder> {
+    /** Supplier of the number of delta files waiting for compaction. */
+    private final LongSupplier pendingDeltaFiles;
+
+    /**
+     * Constructor.
+     *
+     * @param name Metric source name.
+     * @param pendingDeltaFiles Supplier of the number of delta files waiting for compaction.
+     */
+    public CheckpointMetricSource(String name, LongSupplier pendingDeltaFiles) {
+        super(name);
+
+        this.pendingDeltaFiles = pendingDeltaFiles;
+    }
+
+    /**
+     * Records a finished checkpoint.
+     *
+     * @param tracker Metrics tracker of the checkpoint.
+     * @param pages Number of pages written by the checkpoint.
+     */
+    void onCheckpointEnd(CheckpointMetricsTracker tracker, int pages) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.checkpoints.increment();
+            h.checkpointedPages.add(pages);
+            h.lastCheckpointPages.value(pages);
+
+            addDuration(h.totalTime, tracker.checkpointDuration(MILLISECONDS));
+            addDuration(h.beforeWriteLockTime, tracker.beforeWriteLockDuration(MILLISECONDS));
+            addDuration(h.writeLockWaitTime, tracker.writeLockWaitDuration(MICROSECONDS));
+            addDuration(h.listenersExecuteTime, tracker.onMarkCheckpointBeginDuration(MICROSECONDS));
+            addDuration(h.writeLockHoldTime, tracker.writeLockHoldDuration(MICROSECONDS));
+            addDuration(h.splitAndSortPagesTime, tracker.splitAndSortCheckpointPagesDuration(MILLISECONDS));
+            addDuration(h.pagesWriteTime, tracker.pagesWriteDuration(MILLISECONDS));
+            addDuration(h.fsyncTime, tracker.fsyncDuration(MILLISECONDS));
+            addDuration(h.replicatorLogSyncTime, tracker.replicatorLogSyncDuration(MILLISECONDS));
+            addDuration(h.waitPageReplacementTime, tracker.waitPageReplacementDuration(MILLISECONDS));
+        }
+    }
+
+    /**
+     * Records a finished compaction round.
+     *
+     * @param tracker Metrics tracker of the compaction round.
+     */
+    public void onCompactionEnd(CompactionMetricsTracker tracker) {
+        Holder h = holder();
+
+        if (h != null) {
+            int pages = tracker.dataPagesWritten();
+
+            h.compactedPages.add(pages);
+            h.compactedPagesRate.add(pages);
+            addDuration(h.compactionTime, tracker.totalDuration(MILLISECONDS));
+        }
+    }
+
+    /** Adds a duration to a histogram, durations of the phases that were started but not finished are negative and skipped. */
+    private static void addDuration(HistogramMetric histogram, long duration) {
+        if (duration >= 0) {
+            histogram.add(duration);
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder(pendingDeltaFiles);
+    }
+
+    /** Holder. */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final LongAdderMetric checkpoints = new LongAdderMetric("Checkpoints", "Number of checkpoints that wrote pages.");
+
+        private final LongAdderMetric checkpointedPages = new LongAdderMetric(
+                "CheckpointedPages",
+                "Number of pages written by checkpoints."
+        );
+
+        private final AtomicLongMetric lastCheckpointPages = new AtomicLongMetric(
+                "LastCheckpointPages",
+                "Number of pages written by the last checkpoint."
+        );
+
+        private final HistogramMetric totalTime = new HistogramMetric(
+                "TotalTime",
+                "Histogram of the total duration of checkpoints in milliseconds."
+        );
+
+        private final HistogramMetric beforeWriteLockTime = new HistogramMetric(
+                "BeforeWriteLockTime",
+                "Histogram of the time from the start of a checkpoint to the checkpoint write lock request in milliseconds."
+        );
+
+        private final HistogramMetric writeLockWaitTime = new HistogramMetric(
+                "WriteLockWaitTime",
+                "Histogram of the time spent waiting for the checkpoint write lock in microseconds."
+        );
+
+        private final HistogramMetric listenersExecuteTime = new HistogramMetric(
+                "ListenersExecuteTime",
+                "Histogram of the time spent by checkpoint listeners under the checkpoint write lock in microseconds."
+        );
+
+        private final HistogramMetric writeLockHoldTime = new HistogramMetric(
+                "WriteLockHoldTime",
+                "Histogram of the time the checkpoint write lock was held in microseconds."
+        );
+
+        private final HistogramMetric splitAndSortPagesTime = new HistogramMetric(
+                "SplitAndSortPagesTime",
+                "Histogram of the time spent splitting and sorting dirty pages in milliseconds."
+        );
+
+        private final HistogramMetric pagesWriteTime = new HistogramMetric(
+                "PagesWriteTime",
+                "Histogram of the time spent writing dirty pages to delta files in milliseconds."
+        );
+
+        private final HistogramMetric fsyncTime = new HistogramMetric(
+                "FsyncTime",
+                "Histogram of the time spent syncing delta files in milliseconds."
+        );
+
+        private final HistogramMetric replicatorLogSyncTime = new HistogramMetric(
+                "ReplicatorLogSyncTime",
+                "Histogram of the time spent syncing the replication log in milliseconds."
+        );
+
+        private final HistogramMetric waitPageReplacementTime = new HistogramMetric(
+                "WaitPageReplacementTime",
+                "Histogram of the time spent waiting for page replacements to complete in milliseconds."
+        );
+
+        private final LongAdderMetric compactedPages = new LongAdderMetric(
+                "CompactedPages",
+                "Number of pages merged from delta files to partition files."
+        );
+
+        private final HitRateMetric compactedPagesRate = new HitRateMetric(
+                "CompactedPagesRate",
+                "Number of pages merged from delta files to partition files in the last second.",
+                1_000
+        );
+
+        private final HistogramMetric compactionTime = new HistogramMetric(
+                "CompactionTime",
+                "Histogram of the duration of delta file compaction rounds in milliseconds."
+        );
+
+        private final List<Metric> metrics;
+
+        private Holder(LongSupplier pendingDeltaFiles) {
+            var pendingDeltaFilesGauge = new LongGauge(
+                    "PendingDeltaFiles",
+                    "Number of delta files waiting to be merged to partition files.",
+                    pendingDeltaFiles
+            );
+
+            metrics = List.of(
+                    checkpoints,
+                    checkpointedPages,
+                    lastCheckpointPages,
+                    totalTime,
+                    beforeWriteLockTime,
+                    writeLockWaitTime,
+                    listenersExecuteTime,
+                    writeLockHoldTime,
+                    splitAndSortPagesTime,
+                    pagesWriteTime,
+                    fsyncTime,
+                    replicatorLogSyncTime,
+                    waitPageReplacementTime,
+                    pendingDeltaFilesGauge,
+                    compactedPages,
+                    compactedPagesRate,
+                    compactionTime
+            );
+        }
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return metrics;
+        }
+    }
+}
@@ -180,6 +180,9 @@ public class Checkpointer extends IgniteWorker {
 
     private final LogSyncer logSyncer;
 
+    /** Checkpoint metric source. */
+    private final CheckpointMetricSource metricSource;
+
     /**
      * Constructor.
      *
@@ -193,6 +196,7 @@ public class Checkpointer extends IgniteWorker {
      * @param pageSize Page size.
      * @param checkpointConfig Checkpoint configuration.
      * @param logSyncer Write-ahead log synchronizer.
+     * @param metricSource Checkpoint metric source.
      */
     Checkpointer(
             String igniteInstanceName,
@@ -204,7 +208,8 @@ public class Checkpointer extends IgniteWorker {
             Compactor compactor,
             int pageSize,
             PageMemoryCheckpointConfiguration checkpointConfig,
-            LogSyncer logSyncer
+            LogSyncer logSyncer,
+            CheckpointMetricSource metricSource
     ) {
         super(LOG, igniteInstanceName, "checkpoint-thread");
 
@@ -217,6 +222,7 @@ public class Checkpointer extends IgniteWorker {
         this.compactor = compactor;
         this.failureManager = failureManager;
         this.logSyncer = logSyncer;
+        this.metricSource = metricSource;
 
         scheduledCheckpointProgress = new CheckpointProgressImpl(MILLISECONDS.toNanos(nextCheckpointInterval()));
 
@@ -406,6 +412,8 @@ public class Checkpointer extends IgniteWorker {
             tracker.onCheckpointEnd();
 
             if (chp.hasDelta()) {
+                metricSource.onCheckpointEnd(tracker, chp.dirtyPagesSize);
+
                 if (log.isInfoEnabled()) {
                     float totalDurationInSeconds = tracker.checkpointDuration(MILLISECONDS) / 1000.0f;
                     float avgWriteSpeedInBytes = ((long) pageSize * chp.dirtyPagesSize) / totalDurationInSeconds;
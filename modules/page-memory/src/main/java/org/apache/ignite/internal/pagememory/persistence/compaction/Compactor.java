@@ -42,6 +42,7 @@ import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
 import org.apache.ignite.internal.pagememory.persistence.PartitionProcessingCounterMap;
 import org.apache.ignite.internal.pagememory.persistence.WriteSpeedFormatter;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricSource;
 import org.apache.ignite.internal.pagememory.persistence.store.DeltaFilePageStoreIo;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
@@ -92,6 +93,9 @@ public class Compactor extends IgniteWorker {
     /** Failure processor. */
     private final FailureManager failureManager;
 
+    /** Checkpoint metric source, which also accounts compaction rounds. */
+    private final CheckpointMetricSource metricSource;
+
     /**
      * Creates new ignite worker with given parameters.
      *
@@ -101,6 +105,7 @@ public class Compactor extends IgniteWorker {
      * @param filePageStoreManager File page store manager.
      * @param pageSize Page size in bytes.
      * @param failureManager Failure processor that is used to handle critical errors.
+     * @param metricSource Checkpoint metric source, which also accounts compaction rounds.
      */
     public Compactor(
             IgniteLogger log,
@@ -108,12 +113,14 @@ public class Compactor extends IgniteWorker {
             ConfigurationValue<Integer> threads,
             FilePageStoreManager filePageStoreManager,
             int pageSize,
-            FailureManager failureManager
+            FailureManager failureManager,
+            CheckpointMetricSource metricSource
     ) {
         super(log, igniteInstanceName, "compaction-thread");
 
         this.filePageStoreManager = filePageStoreManager;
         this.failureManager = failureManager;
+        this.metricSource = metricSource;
 
         int threadCount = threads.value();
 
@@ -287,6 +294,8 @@ public class Compactor extends IgniteWorker {
 
             tracker.onCompactionEnd();
 
+            metricSource.onCompactionEnd(tracker);
+
             if (LOG.isInfoEnabled()) {
                 float totalDurationInSeconds = tracker.totalDuration(MILLISECONDS) / 1000.0f;
                 float avgWriteSpeedInBytes = ((long) pageSize * tracker.dataPagesWritten()) / totalDurationInSeconds;
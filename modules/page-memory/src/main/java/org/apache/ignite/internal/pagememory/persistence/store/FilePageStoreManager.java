@@ -274,6 +274,13 @@ public class FilePageStoreManager implements PageReadWriteManager {
         return groupPageStores.getAll();
     }
 
+    /**
+     * Returns the number of delta files of all page stores, which are not yet merged to the partition files.
+     */
+    public long deltaFileCount() {
+        return allPageStores().mapToLong(groupPartitionPageStore -> groupPartitionPageStore.pageStore().deltaFileCount()).sum();
+    }
+
     /**
      * Returns partition file page store for the corresponding parameters.
      *
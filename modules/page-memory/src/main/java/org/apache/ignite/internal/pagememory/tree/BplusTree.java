@@ -36,6 +36,7 @@ import static org.apache.ignite.internal.util.ArrayUtils.set;
 import static org.apache.ignite.internal.util.StringUtils.hexLong;
 
 import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongArrays;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -48,6 +49,7 @@ import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.lang.IgniteInternalException;
@@ -55,6 +57,7 @@ import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.lang.IgniteTuple3;
 import org.apache.ignite.internal.pagememory.CorruptedDataStructureException;
 import org.apache.ignite.internal.pagememory.PageMemory;
+import org.apache.ignite.internal.pagememory.PagePrefetcher;
 import org.apache.ignite.internal.pagememory.datastructure.DataStructure;
 import org.apache.ignite.internal.pagememory.io.IoVersions;
 import org.apache.ignite.internal.pagememory.io.PageIo;
@@ -198,6 +201,9 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
     /** Number of retries. */
     private static final int LOCK_RETRIES = getInteger(IGNITE_BPLUS_TREE_LOCK_RETRIES, 1000);
 
+    /** Number of leaf pages a cursor has to move to by forward links in a row to start prefetching pages ahead of it. */
+    private static final int SEQUENTIAL_SCAN_THRESHOLD = 2;
+
     /** Flag that the tree is destroyed. */
     private final AtomicBoolean destroyed = new AtomicBoolean(false);
 
@@ -5756,6 +5762,76 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
      */
     public abstract T getRow(BplusIo<L> io, long pageAddr, int idx, @Nullable Object x) throws IgniteInternalCheckedException;
 
+    /**
+     * Collects IDs of the pages referenced by the rows of a leaf page, which a sequential scan of the tree is going to read, so that they
+     * are prefetched along with the leaf page. Does nothing by default.
+     *
+     * @param io Leaf IO.
+     * @param pageAddr Leaf page address.
+     * @param cnt Number of rows in the leaf page.
+     * @param pageIds Consumer of the page IDs.
+     */
+    protected void collectPrefetchPageIds(BplusIo<L> io, long pageAddr, int cnt, LongConsumer pageIds) {
+        // No-op.
+    }
+
+    /**
+     * Loads leaf pages starting from the given one, following the forward links, and the pages referenced by their rows into memory.
+     * Executed by the {@link PagePrefetcher} asynchronously to a sequential scan of the tree.
+     *
+     * @param prefetcher Page prefetcher.
+     * @param pageId First leaf page ID.
+     * @param depth Max number of leaf pages to load.
+     */
+    private void prefetchLeaves(PagePrefetcher prefetcher, long pageId, int depth) {
+        var pageIds = new LongArrayList();
+
+        long leafId = pageId;
+
+        try {
+            for (int i = 0; i < depth && leafId != 0L && !destroyed.get(); i++) {
+                prefetcher.load(grpId, new long[] {leafId}, 1);
+
+                long page = acquirePage(leafId);
+
+                long fwdId;
+
+                try {
+                    long pageAddr = readLock(leafId, page);
+
+                    // The page has been reused, the scan is going to reinitialize.
+                    if (pageAddr == 0L) {
+                        return;
+                    }
+
+                    try {
+                        BplusIo<L> io = io(pageAddr);
+
+                        if (!io.isLeaf()) {
+                            return;
+                        }
+
+                        pageIds.clear();
+
+                        collectPrefetchPageIds(io, pageAddr, io.getCount(pageAddr), pageIds::add);
+
+                        fwdId = io.getForward(pageAddr, partId);
+                    } finally {
+                        readUnlock(leafId, page, pageAddr);
+                    }
+                } finally {
+                    releasePage(leafId, page);
+                }
+
+                prefetcher.load(grpId, pageIds.elements(), pageIds.size());
+
+                leafId = fwdId;
+            }
+        } catch (IgniteInternalCheckedException | RuntimeException ignored) {
+            // Prefetching is best effort, the scan itself is going to read the pages and handle the failure.
+        }
+    }
+
     /**
      * Abstract forward cursor.
      */
@@ -5778,6 +5854,15 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         /** Cached value for retrieving diagnosing info in case of failure. */
         public GetCursor getCursor;
 
+        /** Number of leaf pages the cursor moved to by forward links in a row. */
+        private int sequentialPages;
+
+        /** Number of leaf pages the cursor has to move to before submitting the next prefetch task. */
+        private int pagesUntilPrefetch;
+
+        /** Whether pages ahead of the cursor have been requested for prefetching. */
+        private boolean prefetching;
+
         /**
          * Constructor.
          *
@@ -5975,6 +6060,13 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
                 }
 
                 long pageId = nextPageId;
+
+                PagePrefetcher prefetcher = pageMem.prefetcher();
+
+                if (prefetcher != null && prefetching) {
+                    prefetcher.onAccess(grpId, pageId);
+                }
+
                 long page = acquirePage(pageId);
                 try {
                     long pageAddr = readLock(pageId, page); // Doing explicit null check.
@@ -5987,7 +6079,13 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
                     try {
                         BplusIo<L> io = io(pageAddr);
 
-                        if (fillFromBuffer(pageAddr, io, -1, io.getCount(pageAddr))) {
+                        boolean found = fillFromBuffer(pageAddr, io, -1, io.getCount(pageAddr));
+
+                        if (prefetcher != null) {
+                            prefetchForward(prefetcher);
+                        }
+
+                        if (found) {
                             return true;
                         }
 
@@ -6008,6 +6106,27 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
             return reinitialize();
         }
 
+        /**
+         * Submits a task loading the leaf pages after the current one, once the cursor has moved to enough leaf pages in a row. Subsequent
+         * tasks are submitted after the cursor consumes a half of the prefetched pages, so the pages are loaded while the cursor reads the
+         * other half.
+         *
+         * @param prefetcher Page prefetcher.
+         */
+        private void prefetchForward(PagePrefetcher prefetcher) {
+            if (nextPageId == 0L || ++sequentialPages < SEQUENTIAL_SCAN_THRESHOLD || --pagesUntilPrefetch > 0) {
+                return;
+            }
+
+            long pageId = nextPageId;
+            int depth = prefetcher.depth();
+
+            if (prefetcher.submit(() -> prefetchLeaves(prefetcher, pageId, depth))) {
+                prefetching = true;
+                pagesUntilPrefetch = Math.max(depth / 2, 1);
+            }
+        }
+
         /**
          * Updates lower bound.
          *
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.metrics.DoubleMetric;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.pagememory.FullPageId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+/** Tests for {@link PersistentPagePrefetcher}. */
+public class PersistentPagePrefetcherTest {
+    private static final int GROUP_ID = 1;
+
+    private final PersistentPageMemory pageMemory = mock(PersistentPageMemory.class);
+
+    private final PersistentPageMemoryMetricSource metricSource = new PersistentPageMemoryMetricSource("test");
+
+    private PersistentPagePrefetcher prefetcher;
+
+    private MetricSet metricSet;
+
+    @BeforeEach
+    void setUp() {
+        prefetcher = new PersistentPagePrefetcher(pageMemory, 8, Runnable::run, metricSource);
+
+        metricSet = metricSource.enable();
+    }
+
+    @Test
+    void testLoadSortsAndSkipsPages() throws Exception {
+        long loaded = pageId(0, FLAG_DATA, 2);
+        long first = pageId(0, FLAG_DATA, 1);
+        long second = pageId(0, FLAG_DATA, 3);
+        long meta = pageId(0, FLAG_DATA, 0);
+
+        when(pageMemory.hasLoadedPage(new FullPageId(loaded, GROUP_ID))).thenReturn(true);
+
+        long[] pageIds = {second, loaded, meta, first, second};
+
+        prefetcher.load(GROUP_ID, pageIds, pageIds.length);
+
+        InOrder inOrder = inOrder(pageMemory);
+
+        inOrder.verify(pageMemory).acquirePage(GROUP_ID, first);
+        inOrder.verify(pageMemory).acquirePage(GROUP_ID, second);
+
+        verify(pageMemory, never()).acquirePage(GROUP_ID, loaded);
+        verify(pageMemory, never()).acquirePage(GROUP_ID, meta);
+
+        assertEquals(2, metricSet.<LongMetric>get("PrefetchedPages").value());
+    }
+
+    @Test
+    void testLoadStopsOnFailure() throws Exception {
+        long first = pageId(0, FLAG_DATA, 1);
+        long second = pageId(0, FLAG_DATA, 2);
+
+        when(pageMemory.acquirePage(GROUP_ID, first)).thenThrow(new IgniteInternalCheckedException("Partition is destroyed"));
+
+        prefetcher.load(GROUP_ID, new long[] {first, second}, 2);
+
+        verify(pageMemory, never()).acquirePage(GROUP_ID, second);
+        verify(pageMemory, never()).releasePage(anyInt(), anyLong(), anyLong());
+
+        assertEquals(0, metricSet.<LongMetric>get("PrefetchedPages").value());
+    }
+
+    @Test
+    void testHitRate() {
+        long hit = pageId(0, FLAG_DATA, 1);
+        long miss = pageId(0, FLAG_DATA, 2);
+
+        when(pageMemory.hasLoadedPage(new FullPageId(hit, GROUP_ID))).thenReturn(true);
+
+        prefetcher.onAccess(GROUP_ID, hit);
+        prefetcher.onAccess(GROUP_ID, hit);
+        prefetcher.onAccess(GROUP_ID, hit);
+        prefetcher.onAccess(GROUP_ID, miss);
+
+        assertEquals(3, metricSet.<LongMetric>get("PrefetchHits").value());
+        assertEquals(1, metricSet.<LongMetric>get("PrefetchMisses").value());
+        assertEquals(0.75, metricSet.<DoubleMetric>get("PrefetchHitRate").value());
+    }
+
+    @Test
+    void testRejectedTask() {
+        Executor executor = mock(Executor.class);
+
+        PersistentPagePrefetcher prefetcher = new PersistentPagePrefetcher(
+                pageMemory,
+                8,
+                executor,
+                new PersistentPageMemoryMetricSource("rejected")
+        );
+
+        assertTrue(prefetcher.submit(() -> {}));
+
+        verify(executor).execute(any());
+
+        doThrow(RejectedExecutionException.class).when(executor).execute(any());
+
+        assertFalse(prefetcher.submit(() -> {}));
+    }
+}
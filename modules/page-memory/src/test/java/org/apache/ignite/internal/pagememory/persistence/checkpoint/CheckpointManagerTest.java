@@ -89,7 +89,8 @@ public class CheckpointManagerTest extends BaseIgniteAbstractTest {
                 List.of(dataRegion),
                 mock(PageIoRegistry.class),
                 mock(LogSyncer.class),
-                1024
+                1024,
+                new CheckpointMetricSource("test", () -> 0)
         );
 
         assertDoesNotThrow(checkpointManager::start);
@@ -201,7 +202,8 @@ public class CheckpointManagerTest extends BaseIgniteAbstractTest {
                 List.of(),
                 mock(PageIoRegistry.class),
                 mock(LogSyncer.class),
-                1024
+                1024,
+                new CheckpointMetricSource("test", () -> 0)
         ));
 
         PersistentPageMemory pageMemory = mock(PersistentPageMemory.class);
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.checkpoint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.metrics.HistogramMetric;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.pagememory.persistence.compaction.CompactionMetricsTracker;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link CheckpointMetricSource}. */
+public class CheckpointMetricSourceTest {
+    private final AtomicLong pendingDeltaFiles = new AtomicLong();
+
+    private final CheckpointMetricSource metricSource = new CheckpointMetricSource("checkpoint", pendingDeltaFiles::get);
+
+    @Test
+    void testCheckpoint() {
+        MetricSet metricSet = metricSource.enable();
+
+        CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
+
+        tracker.onCheckpointStart();
+        tracker.onWriteLockWaitStart();
+        tracker.onWriteLockWaitEnd();
+        tracker.onPagesWriteStart();
+        tracker.onPagesWriteEnd();
+        // Fsync is started but not finished, its duration must be skipped.
+        tracker.onFsyncStart();
+        tracker.onCheckpointEnd();
+
+        metricSource.onCheckpointEnd(tracker, 10);
+        metricSource.onCheckpointEnd(tracker, 5);
+
+        assertEquals(2, metricSet.<LongMetric>get("Checkpoints").value());
+        assertEquals(15, metricSet.<LongMetric>get("CheckpointedPages").value());
+        assertEquals(5, metricSet.<LongMetric>get("LastCheckpointPages").value());
+
+        assertEquals(2, metricSet.<HistogramMetric>get("TotalTime").snapshot().count());
+        assertEquals(2, metricSet.<HistogramMetric>get("PagesWriteTime").snapshot().count());
+        assertEquals(0, metricSet.<HistogramMetric>get("FsyncTime").snapshot().count());
+    }
+
+    @Test
+    void testCompaction() {
+        MetricSet metricSet = metricSource.enable();
+
+        pendingDeltaFiles.set(3);
+
+        assertEquals(3, metricSet.<LongMetric>get("PendingDeltaFiles").value());
+
+        CompactionMetricsTracker tracker = new CompactionMetricsTracker();
+
+        tracker.onDataPageWritten();
+        tracker.onDataPageWritten();
+        tracker.onCompactionEnd();
+
+        metricSource.onCompactionEnd(tracker);
+
+        assertEquals(2, metricSet.<LongMetric>get("CompactedPages").value());
+        assertEquals(2, metricSet.<LongMetric>get("CompactedPagesRate").value());
+        assertEquals(1, metricSet.<HistogramMetric>get("CompactionTime").snapshot().count());
+    }
+
+    @Test
+    void testDisabled() {
+        CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
+
+        tracker.onCheckpointStart();
+        tracker.onCheckpointEnd();
+
+        metricSource.onCheckpointEnd(tracker, 10);
+
+        MetricSet metricSet = metricSource.enable();
+
+        assertEquals(0, metricSet.<LongMetric>get("Checkpoints").value());
+    }
+}
@@ -120,7 +120,8 @@ public class CheckpointerTest extends BaseIgniteAbstractTest {
                 mock(Compactor.class),
                 PAGE_SIZE,
                 checkpointConfig,
-                mock(LogSyncer.class)
+                mock(LogSyncer.class),
+                new CheckpointMetricSource("test", () -> 0)
         );
 
         assertNull(checkpointer.runner());
@@ -154,7 +155,8 @@ public class CheckpointerTest extends BaseIgniteAbstractTest {
                 mock(Compactor.class),
                 PAGE_SIZE,
                 checkpointConfig,
-                mock(LogSyncer.class)
+                mock(LogSyncer.class),
+                new CheckpointMetricSource("test", () -> 0)
         ));
 
         assertNull(checkpointer.lastCheckpointProgress());
@@ -259,7 +261,8 @@ public class CheckpointerTest extends BaseIgniteAbstractTest {
                 mock(Compactor.class),
                 PAGE_SIZE,
                 checkpointConfig,
-                mock(LogSyncer.class)
+                mock(LogSyncer.class),
+                new CheckpointMetricSource("test", () -> 0)
         );
 
         CompletableFuture<?> waitCheckpointEventFuture = runAsync(checkpointer::waitCheckpointEvent);
@@ -289,7 +292,8 @@ public class CheckpointerTest extends BaseIgniteAbstractTest {
                 mock(Compactor.class),
                 PAGE_SIZE,
                 checkpointConfig,
-                mock(LogSyncer.class)
+                mock(LogSyncer.class),
+                new CheckpointMetricSource("test", () -> 0)
         ));
 
         ((CheckpointProgressImpl) checkpointer.scheduledProgress())
@@ -380,7 +384,8 @@ public class CheckpointerTest extends BaseIgniteAbstractTest {
                 compactor,
                 PAGE_SIZE,
                 checkpointConfig,
-                mockLogSyncer
+                mockLogSyncer,
+                new CheckpointMetricSource("test", () -> 0)
         ));
 
         assertDoesNotThrow(checkpointer::doCheckpoint);
@@ -411,7 +416,8 @@ public class CheckpointerTest extends BaseIgniteAbstractTest {
                 compactor,
                 PAGE_SIZE,
                 checkpointConfig,
-                mock(LogSyncer.class)
+                mock(LogSyncer.class),
+                new CheckpointMetricSource("test", () -> 0)
         ));
 
         assertDoesNotThrow(checkpointer::doCheckpoint);
@@ -437,7 +443,8 @@ public class CheckpointerTest extends BaseIgniteAbstractTest {
                 mock(Compactor.class),
                 PAGE_SIZE,
                 checkpointConfig,
-                mock(LogSyncer.class)
+                mock(LogSyncer.class),
+                new CheckpointMetricSource("test", () -> 0)
         );
 
         // Checks case 0 deviation.
@@ -479,7 +486,8 @@ public class CheckpointerTest extends BaseIgniteAbstractTest {
                 mock(Compactor.class),
                 PAGE_SIZE,
                 checkpointConfig,
-                mock(LogSyncer.class)
+                mock(LogSyncer.class),
+                new CheckpointMetricSource("test", () -> 0)
         );
 
         GroupPartitionId groupPartitionId = new GroupPartitionId(0, 0);
@@ -46,6 +46,7 @@ import org.apache.ignite.configuration.ConfigurationValue;
 import org.apache.ignite.internal.failure.FailureManager;
 import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricSource;
 import org.apache.ignite.internal.pagememory.persistence.store.DeltaFilePageStoreIo;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
@@ -68,7 +69,8 @@ public class CompactorTest extends BaseIgniteAbstractTest {
                 threadsConfig(1),
                 mock(FilePageStoreManager.class),
                 PAGE_SIZE,
-                mock(FailureManager.class)
+                mock(FailureManager.class),
+                new CheckpointMetricSource("test", () -> 0)
         );
 
         assertNull(compactor.runner());
@@ -102,7 +104,8 @@ public class CompactorTest extends BaseIgniteAbstractTest {
                 threadsConfig(1),
                 mock(FilePageStoreManager.class),
                 PAGE_SIZE,
-                mock(FailureManager.class));
+                mock(FailureManager.class),
+                new CheckpointMetricSource("test", () -> 0));
 
         FilePageStore filePageStore = mock(FilePageStore.class);
         DeltaFilePageStoreIo deltaFilePageStoreIo = mock(DeltaFilePageStoreIo.class);
@@ -154,7 +157,8 @@ public class CompactorTest extends BaseIgniteAbstractTest {
                 threadsConfig(1),
                 filePageStoreManager,
                 PAGE_SIZE,
-                mock(FailureManager.class)));
+                mock(FailureManager.class),
+                new CheckpointMetricSource("test", () -> 0)));
 
         doAnswer(answer -> {
             assertSame(filePageStore, answer.getArgument(0));
@@ -186,7 +190,8 @@ public class CompactorTest extends BaseIgniteAbstractTest {
                 threadsConfig(1),
                 mock(FilePageStoreManager.class),
                 PAGE_SIZE,
-                mock(FailureManager.class)));
+                mock(FailureManager.class),
+                new CheckpointMetricSource("test", () -> 0)));
 
         doNothing().when(compactor).waitDeltaFiles();
 
@@ -211,7 +216,8 @@ public class CompactorTest extends BaseIgniteAbstractTest {
                 threadsConfig(1),
                 mock(FilePageStoreManager.class),
                 PAGE_SIZE,
-                mock(FailureManager.class)));
+                mock(FailureManager.class),
+                new CheckpointMetricSource("test", () -> 0)));
 
         CompletableFuture<?> waitDeltaFilesFuture = runAsync(compactor::waitDeltaFiles);
 
@@ -230,7 +236,8 @@ public class CompactorTest extends BaseIgniteAbstractTest {
                 threadsConfig(1),
                 mock(FilePageStoreManager.class),
                 PAGE_SIZE,
-                mock(FailureManager.class)));
+                mock(FailureManager.class),
+                new CheckpointMetricSource("test", () -> 0)));
 
         assertFalse(compactor.isCancelled());
 
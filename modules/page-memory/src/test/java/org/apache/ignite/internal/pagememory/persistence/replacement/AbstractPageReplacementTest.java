@@ -64,6 +64,7 @@ import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemoryMetricSource;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricSource;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
 import org.apache.ignite.internal.pagememory.persistence.store.DeltaFilePageStoreIo;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
@@ -148,7 +149,8 @@ public abstract class AbstractPageReplacementTest extends IgniteAbstractTest {
                 dataRegionList,
                 ioRegistry,
                 mock(LogSyncer.class),
-                PAGE_SIZE
+                PAGE_SIZE,
+                new CheckpointMetricSource("test", () -> 0)
         );
 
         CompletableFuture<Void> changeFuture = storageProfileCfg.change(change -> change
@@ -63,6 +63,7 @@ import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemoryMetricSource;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricSource;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
@@ -149,7 +150,8 @@ public class PageMemoryThrottlingTest extends IgniteAbstractTest {
                 dataRegions,
                 ioRegistry,
                 () -> {},
-                PAGE_SIZE
+                PAGE_SIZE,
+                new CheckpointMetricSource("test", () -> 0)
         );
 
         var aiPersistProfileConfig = (PersistentPageMemoryProfileConfiguration) fixConfiguration(profileConfig);
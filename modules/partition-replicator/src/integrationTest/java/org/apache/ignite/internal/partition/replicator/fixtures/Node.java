@@ -487,7 +487,7 @@ public class Node {
             }
         };
 
-        threadPoolsManager = new ThreadPoolsManager(name);
+        threadPoolsManager = new ThreadPoolsManager(name, new NoOpMetricManager());
 
         LongSupplier partitionIdleSafeTimePropagationPeriodMsSupplier = () -> 10L;
 
@@ -757,7 +757,8 @@ public class Node {
                 partitionsLogStorageFactory,
                 partitionReplicaLifecycleManager,
                 minTimeCollectorService,
-                systemDistributedConfiguration
+                systemDistributedConfiguration,
+                new NoOpMetricManager()
         ) {
 
             @Override
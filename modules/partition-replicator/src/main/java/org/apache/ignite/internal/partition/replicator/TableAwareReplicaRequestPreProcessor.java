@@ -26,8 +26,10 @@ import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.partition.replicator.network.replication.BuildIndexReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.GetEstimatedSizeRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyReplicaRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.ReadRowChangesReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ScanCloseReplicaRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.ScanSplitPointsReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.schemacompat.SchemaCompatibilityValidator;
 import org.apache.ignite.internal.replicator.message.ReadOnlyDirectReplicaRequest;
 import org.apache.ignite.internal.replicator.message.ReplicaRequest;
@@ -92,7 +94,8 @@ public class TableAwareReplicaRequestPreProcessor {
                 + "; request " + request;
 
         assert txTs == null
-                ? request instanceof GetEstimatedSizeRequest || request instanceof ScanCloseReplicaRequest
+                ? request instanceof GetEstimatedSizeRequest || request instanceof ReadRowChangesReplicaRequest
+                || request instanceof ScanCloseReplicaRequest || request instanceof ScanSplitPointsReplicaRequest
                 || request instanceof BuildIndexReplicaRequest || request instanceof TableWriteIntentSwitchReplicaRequest
                 : opTs.compareTo(txTs) >= 0 :
                 "Invalid request timestamps [request=" + request + ']';
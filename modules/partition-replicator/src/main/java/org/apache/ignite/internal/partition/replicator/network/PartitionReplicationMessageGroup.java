@@ -40,6 +40,7 @@ import org.apache.ignite.internal.partition.replicator.network.raft.SnapshotMvDa
 import org.apache.ignite.internal.partition.replicator.network.raft.SnapshotMvDataResponse.ResponseEntry;
 import org.apache.ignite.internal.partition.replicator.network.raft.SnapshotTxDataRequest;
 import org.apache.ignite.internal.partition.replicator.network.raft.SnapshotTxDataResponse;
+import org.apache.ignite.internal.partition.replicator.network.replication.BinaryRowListMessage;
 import org.apache.ignite.internal.partition.replicator.network.replication.BinaryRowMessage;
 import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
 import org.apache.ignite.internal.partition.replicator.network.replication.BuildIndexReplicaRequest;
@@ -50,13 +51,17 @@ import org.apache.ignite.internal.partition.replicator.network.replication.ReadO
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyMultiRowPkReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyScanRetrieveBatchReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlySingleRowPkReplicaRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.ReadRowChangesReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteMultiRowPkReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteMultiRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteScanRetrieveBatchReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteSingleRowPkReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteSingleRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteSwapRowReplicaRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.RowChangeBatchMessage;
+import org.apache.ignite.internal.partition.replicator.network.replication.RowChangeMessage;
 import org.apache.ignite.internal.partition.replicator.network.replication.ScanCloseReplicaRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.ScanSplitPointsReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.UpdateMinimumActiveTxBeginTimeReplicaRequest;
 
 /**
@@ -210,6 +215,31 @@ public interface PartitionReplicationMessageGroup {
      */
     short CHANGE_PEERS_AND_LEARNERS_ASYNC_REPLICA_REQUEST = 28;
 
+    /**
+     * Message type for {@link BinaryRowListMessage}.
+     */
+    short BINARY_ROW_LIST_MESSAGE = 29;
+
+    /**
+     * Message type for {@link ReadRowChangesReplicaRequest}.
+     */
+    short READ_ROW_CHANGES_REQUEST = 30;
+
+    /**
+     * Message type for {@link RowChangeMessage}.
+     */
+    short ROW_CHANGE_MESSAGE = 31;
+
+    /**
+     * Message type for {@link RowChangeBatchMessage}.
+     */
+    short ROW_CHANGE_BATCH_MESSAGE = 32;
+
+    /**
+     * Message type for {@link ScanSplitPointsReplicaRequest}.
+     */
+    short SCAN_SPLIT_POINTS_REQUEST = 33;
+
     /**
      * Message types for partition replicator module RAFT commands.
      *
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.partition.replicator.network.replication;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.network.annotations.Transferable;
+import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessageGroup;
+import org.apache.ignite.internal.replicator.message.ReplicaResultMessage;
+import org.apache.ignite.internal.schema.BinaryRow;
+
+/**
+ * Message for transferring a list of {@link BinaryRow}s, which may contain {@code null}s, as a replica request result.
+ */
+@Transferable(PartitionReplicationMessageGroup.BINARY_ROW_LIST_MESSAGE)
+public interface BinaryRowListMessage extends NetworkMessage, ReplicaResultMessage {
+    /** Rows, {@code null} elements stand for absent rows. */
+    List<BinaryRowMessage> rows();
+
+    @Override
+    default List<BinaryRow> toResult() {
+        List<BinaryRowMessage> rows = rows();
+
+        var result = new ArrayList<BinaryRow>(rows.size());
+
+        for (BinaryRowMessage row : rows) {
+            result.add(row == null ? null : row.asBinaryRow());
+        }
+
+        return result;
+    }
+}
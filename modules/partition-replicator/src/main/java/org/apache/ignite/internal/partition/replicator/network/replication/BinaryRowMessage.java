@@ -21,6 +21,7 @@ import java.nio.ByteBuffer;
 import org.apache.ignite.internal.network.NetworkMessage;
 import org.apache.ignite.internal.network.annotations.Transferable;
 import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessageGroup;
+import org.apache.ignite.internal.replicator.message.ReplicaResultMessage;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowImpl;
 
@@ -28,7 +29,7 @@ import org.apache.ignite.internal.schema.BinaryRowImpl;
  * Message for transferring a {@link BinaryRow}.
  */
 @Transferable(PartitionReplicationMessageGroup.BINARY_ROW_MESSAGE)
-public interface BinaryRowMessage extends NetworkMessage {
+public interface BinaryRowMessage extends NetworkMessage, ReplicaResultMessage {
     ByteBuffer binaryTuple();
 
     int schemaVersion();
@@ -36,4 +37,9 @@ public interface BinaryRowMessage extends NetworkMessage {
     default BinaryRow asBinaryRow() {
         return new BinaryRowImpl(schemaVersion(), binaryTuple());
     }
+
+    @Override
+    default BinaryRow toResult() {
+        return asBinaryRow();
+    }
 }
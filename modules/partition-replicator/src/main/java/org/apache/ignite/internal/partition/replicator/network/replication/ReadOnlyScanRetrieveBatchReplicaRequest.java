@@ -21,6 +21,7 @@ import java.util.UUID;
 import org.apache.ignite.internal.network.annotations.Transferable;
 import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessageGroup;
 import org.apache.ignite.internal.replicator.message.TableAware;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Scan retrieve batch replica request.
@@ -34,4 +35,10 @@ public interface ReadOnlyScanRetrieveBatchReplicaRequest extends ScanRetrieveBat
     // TODO: remove override after @Nullable is removed from the super-interface method, see IGNITE-24120.
     @Override
     UUID coordinatorId();
+
+    /** Lower bound of row ids to scan, inclusive, {@code null} to scan from the beginning of the partition. */
+    @Nullable UUID lowerRowId();
+
+    /** Upper bound of row ids to scan, exclusive, {@code null} to scan to the end of the partition. */
+    @Nullable UUID upperRowId();
 }
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.partition.replicator.network.replication;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessagesFactory;
+import org.apache.ignite.internal.replicator.listener.ReplicaListener;
+import org.apache.ignite.internal.replicator.message.ReplicaResultMessage;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Conversion of partition replica request results to network messages, see {@link ReplicaListener#toResultMessage}.
+ *
+ * <p>Rows sent as messages are written by the message serializer straight from their tuple buffers into the network buffers, while
+ * marshalling them as user objects would copy them into intermediate arrays on both sides of the connection.
+ *
+ * <p>Hence a row read by a remote replica request is copied exactly once on each side: the serializer copies its tuple into the network
+ * buffer and the deserializer copies it into the heap array which backs the received row. No counter of copied bytes is kept, because
+ * the bytes copied per read always equal the size of the read tuples. Both copies are required: the row is read from page memory which
+ * is unlocked once the read completes, and the received row outlives the network buffer, as it ends up in user-visible tuples.
+ */
+public class ReplicaResultMessageUtils {
+    private static final PartitionReplicationMessagesFactory PARTITION_REPLICATION_MESSAGES_FACTORY =
+            new PartitionReplicationMessagesFactory();
+
+    /**
+     * Converts a result to a network message if it is a {@link BinaryRow} or a non-empty list of {@link BinaryRow}s and {@code null}s.
+     * Results that are already {@link ReplicaResultMessage}s are returned as is.
+     *
+     * @param result Result of a replica request.
+     * @return Result message or {@code null} if the result can't be converted.
+     */
+    public static @Nullable NetworkMessage toResultMessage(@Nullable Object result) {
+        if (result instanceof ReplicaResultMessage) {
+            return (NetworkMessage) result;
+        }
+
+        if (result instanceof BinaryRow) {
+            return toBinaryRowMessage((BinaryRow) result);
+        }
+
+        if (result instanceof List && !((List<?>) result).isEmpty()) {
+            return toBinaryRowListMessage((List<?>) result);
+        }
+
+        return null;
+    }
+
+    private static BinaryRowMessage toBinaryRowMessage(BinaryRow row) {
+        return PARTITION_REPLICATION_MESSAGES_FACTORY.binaryRowMessage()
+                .binaryTuple(row.tupleSlice())
+                .schemaVersion(row.schemaVersion())
+                .build();
+    }
+
+    private static @Nullable BinaryRowListMessage toBinaryRowListMessage(List<?> list) {
+        var rows = new ArrayList<BinaryRowMessage>(list.size());
+        boolean hasRows = false;
+
+        for (Object element : list) {
+            if (element == null) {
+                rows.add(null);
+            } else if (element instanceof BinaryRow) {
+                rows.add(toBinaryRowMessage((BinaryRow) element));
+
+                hasRows = true;
+            } else {
+                return null;
+            }
+        }
+
+        // A list of nulls only doesn't tell what the elements are, so it is left to the marshaller.
+        return hasRows ? PARTITION_REPLICATION_MESSAGES_FACTORY.binaryRowListMessage().rows(rows).build() : null;
+    }
+}
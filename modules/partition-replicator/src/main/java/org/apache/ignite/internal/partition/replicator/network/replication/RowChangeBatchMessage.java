@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.partition.replicator.network.replication;
+
+import java.util.List;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.network.annotations.Transferable;
+import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessageGroup;
+import org.apache.ignite.internal.replicator.message.ReplicaResultMessage;
+
+/**
+ * Result of a {@link ReadRowChangesReplicaRequest}, the message is returned as the result as is.
+ */
+@Transferable(PartitionReplicationMessageGroup.ROW_CHANGE_BATCH_MESSAGE)
+public interface RowChangeBatchMessage extends NetworkMessage, ReplicaResultMessage {
+    /** Changes in the order of their commit timestamps. */
+    List<RowChangeMessage> changes();
+
+    /** Timestamp up to which (inclusive) all changes of the partition are returned by this and the previous requests. */
+    HybridTimestamp position();
+
+    @Override
+    default RowChangeBatchMessage toResult() {
+        return this;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.partition.replicator.network.replication;
+
+import static org.apache.ignite.internal.raft.util.OptimizedMarshaller.NO_POOL;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.network.MessageSerializationRegistryImpl;
+import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.network.serialization.MessageSerializationRegistry;
+import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessageGroup;
+import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessagesSerializationRegistryInitializer;
+import org.apache.ignite.internal.raft.util.OptimizedMarshaller;
+import org.apache.ignite.internal.replicator.message.ReplicaMessagesFactory;
+import org.apache.ignite.internal.replicator.message.ReplicaMessagesSerializationRegistryInitializer;
+import org.apache.ignite.internal.replicator.message.ReplicaResponse;
+import org.apache.ignite.internal.replicator.message.ReplicaResultMessage;
+import org.apache.ignite.internal.replicator.message.TimestampAwareReplicaResponse;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.BinaryRowImpl;
+import org.junit.jupiter.api.Test;
+
+/** For {@link ReplicaResultMessageUtils} testing. */
+public class ReplicaResultMessageUtilsTest {
+    private static final BinaryRow ROW_1 = new BinaryRowImpl(1, ByteBuffer.wrap(new byte[]{1, 2, 3}));
+
+    private static final BinaryRow ROW_2 = new BinaryRowImpl(2, ByteBuffer.wrap(new byte[]{4, 5}));
+
+    private final ReplicaMessagesFactory replicaMessagesFactory = new ReplicaMessagesFactory();
+
+    private final MessageSerializationRegistry registry = new MessageSerializationRegistryImpl();
+
+    {
+        new ReplicaMessagesSerializationRegistryInitializer().registerFactories(registry);
+        new PartitionReplicationMessagesSerializationRegistryInitializer().registerFactories(registry);
+    }
+
+    private final OptimizedMarshaller marshaller = new OptimizedMarshaller(registry, NO_POOL);
+
+    @Test
+    void testRow() {
+        NetworkMessage message = ReplicaResultMessageUtils.toResultMessage(ROW_1);
+
+        assertThat(message, is(instanceOf(BinaryRowMessage.class)));
+        assertEquals(ROW_1, ((ReplicaResultMessage) message).toResult());
+    }
+
+    @Test
+    void testRowList() {
+        NetworkMessage message = ReplicaResultMessageUtils.toResultMessage(Arrays.asList(ROW_1, null, ROW_2));
+
+        assertThat(message, is(instanceOf(BinaryRowListMessage.class)));
+        assertThat((List<?>) ((ReplicaResultMessage) message).toResult(), contains(is(ROW_1), is(nullValue()), is(ROW_2)));
+    }
+
+    @Test
+    void testNotConvertible() {
+        assertNull(ReplicaResultMessageUtils.toResultMessage(null));
+        assertNull(ReplicaResultMessageUtils.toResultMessage(true));
+        assertNull(ReplicaResultMessageUtils.toResultMessage(List.of()));
+        assertNull(ReplicaResultMessageUtils.toResultMessage(Arrays.asList(null, null)));
+        assertNull(ReplicaResultMessageUtils.toResultMessage(List.of(ROW_1, 1)));
+    }
+
+    @Test
+    void testRowSerialization() {
+        NetworkMessage message = ReplicaResultMessageUtils.toResultMessage(ROW_1);
+
+        assertThat(message.groupType(), is(PartitionReplicationMessageGroup.GROUP_TYPE));
+        assertThat(message.messageType(), is(PartitionReplicationMessageGroup.BINARY_ROW_MESSAGE));
+
+        BinaryRowMessage received = marshalAndUnmarshal(message);
+
+        assertEquals(ROW_1, received.toResult());
+    }
+
+    @Test
+    void testRowListSerialization() {
+        NetworkMessage message = ReplicaResultMessageUtils.toResultMessage(Arrays.asList(ROW_1, null, ROW_2));
+
+        assertThat(message.groupType(), is(PartitionReplicationMessageGroup.GROUP_TYPE));
+        assertThat(message.messageType(), is(PartitionReplicationMessageGroup.BINARY_ROW_LIST_MESSAGE));
+
+        BinaryRowListMessage received = marshalAndUnmarshal(message);
+
+        assertThat(received.toResult(), contains(is(ROW_1), is(nullValue()), is(ROW_2)));
+    }
+
+    @Test
+    void testReplicaResponseSerialization() {
+        ReplicaResponse response = replicaMessagesFactory.replicaResponse()
+                .resultMessage(ReplicaResultMessageUtils.toResultMessage(Arrays.asList(ROW_1, null, ROW_2)))
+                .build();
+
+        ReplicaResponse received = marshalAndUnmarshal(response);
+
+        assertNull(received.result());
+        assertThat(received.resultMessage(), is(instanceOf(BinaryRowListMessage.class)));
+        assertThat((List<?>) received.resultValue(), contains(is(ROW_1), is(nullValue()), is(ROW_2)));
+    }
+
+    @Test
+    void testTimestampAwareReplicaResponseSerialization() {
+        HybridTimestamp timestamp = HybridTimestamp.hybridTimestamp(System.currentTimeMillis());
+
+        TimestampAwareReplicaResponse response = replicaMessagesFactory.timestampAwareReplicaResponse()
+                .resultMessage(ReplicaResultMessageUtils.toResultMessage(ROW_2))
+                .timestamp(timestamp)
+                .build();
+
+        TimestampAwareReplicaResponse received = marshalAndUnmarshal(response);
+
+        assertNull(received.result());
+        assertEquals(timestamp, received.timestamp());
+        assertEquals(ROW_2, received.resultValue());
+    }
+
+    @Test
+    void testReplicaResponseWithoutResultMessageSerialization() {
+        ReplicaResponse received = marshalAndUnmarshal(replicaMessagesFactory.replicaResponse().build());
+
+        assertNull(received.resultMessage());
+        assertNull(received.resultValue());
+    }
+
+    private <T extends NetworkMessage> T marshalAndUnmarshal(NetworkMessage message) {
+        byte[] bytes = marshaller.marshall(message);
+
+        return marshaller.unmarshall(ByteBuffer.wrap(bytes).order(OptimizedMarshaller.ORDER));
+    }
+}
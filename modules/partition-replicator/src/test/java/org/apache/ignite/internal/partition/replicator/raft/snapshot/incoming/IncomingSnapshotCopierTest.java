@@ -107,6 +107,7 @@ import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.storage.impl.TestMvPartitionStorage;
 import org.apache.ignite.internal.storage.impl.TestMvTableStorage;
 import org.apache.ignite.internal.storage.lease.LeaseInfo;
+import org.apache.ignite.internal.table.distributed.StorageUpdateHandler;
 import org.apache.ignite.internal.table.distributed.gc.GcUpdateHandler;
 import org.apache.ignite.internal.table.distributed.gc.MvGc;
 import org.apache.ignite.internal.table.distributed.index.IndexUpdateHandler;
@@ -405,6 +406,7 @@ public class IncomingSnapshotCopierTest extends BaseIgniteAbstractTest {
                 mvGc,
                 indexUpdateHandler,
                 mock(GcUpdateHandler.class),
+                mock(StorageUpdateHandler.class),
                 mock(FullStateTransferIndexChooser.class),
                 new DummySchemaManagerImpl(SCHEMA),
                 lowWatermark
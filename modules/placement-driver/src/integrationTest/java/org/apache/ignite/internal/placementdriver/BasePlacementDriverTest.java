@@ -82,7 +82,11 @@ abstract class BasePlacementDriverTest extends IgniteAbstractTest {
         return grpPart0;
     }
 
-    protected static @Nullable Lease leaseFromBytes(byte[] bytes, ReplicationGroupId groupId) {
+    protected static @Nullable Lease leaseFromBytes(byte @Nullable [] bytes, ReplicationGroupId groupId) {
+        if (bytes == null) {
+            return null;
+        }
+
         LeaseBatch leaseBatch = LeaseBatch.fromBytes(ByteBuffer.wrap(bytes).order(LITTLE_ENDIAN));
 
         return leaseBatch.leases().stream()
@@ -20,7 +20,8 @@ package org.apache.ignite.internal.placementdriver;
 import static java.util.concurrent.CompletableFuture.allOf;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.ignite.internal.metastorage.impl.StandaloneMetaStorageManager.configureCmgManagerToStartMetastorage;
-import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.PLACEMENTDRIVER_LEASES_KEY;
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.leasesKey;
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.leasesShard;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.testNodeName;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
@@ -513,7 +514,7 @@ public class MultiActorPlacementDriverTest extends BasePlacementDriverTest {
         var leaseRenewRef = new AtomicReference<Lease>();
 
         assertTrue(waitForCondition(() -> {
-            var fut = metaStorageManager.get(PLACEMENTDRIVER_LEASES_KEY);
+            var fut = metaStorageManager.get(leasesKey(leasesShard(grpPart)));
 
             Lease leaseRenew = leaseFromBytes(fut.join().value(), grpPart);
 
@@ -551,7 +552,7 @@ public class MultiActorPlacementDriverTest extends BasePlacementDriverTest {
                 return false;
             }
 
-            CompletableFuture<Entry> msFur = metaStorageManager.get(PLACEMENTDRIVER_LEASES_KEY).exceptionally(ex -> {
+            CompletableFuture<Entry> msFur = metaStorageManager.get(leasesKey(leasesShard(grpPart))).exceptionally(ex -> {
                 log.info("Meta storage is unavailable", ex);
 
                 return null;
@@ -592,7 +593,7 @@ public class MultiActorPlacementDriverTest extends BasePlacementDriverTest {
         AtomicReference<Lease> leaseRef = new AtomicReference<>();
 
         assertTrue(waitForCondition(() -> {
-            var leaseFut = metaStorageManager.get(PLACEMENTDRIVER_LEASES_KEY);
+            var leaseFut = metaStorageManager.get(leasesKey(leasesShard(grpPartId)));
 
             var leaseEntry = leaseFut.join();
 
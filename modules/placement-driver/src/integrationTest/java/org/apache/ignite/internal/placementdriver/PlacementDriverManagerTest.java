@@ -23,7 +23,8 @@ import static org.apache.ignite.internal.distributionzones.rebalance.RebalanceUt
 import static org.apache.ignite.internal.lang.ByteArray.fromString;
 import static org.apache.ignite.internal.metastorage.impl.StandaloneMetaStorageManager.configureCmgManagerToStartMetastorage;
 import static org.apache.ignite.internal.partitiondistribution.PartitionDistributionUtils.calculateAssignmentForPartition;
-import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.PLACEMENTDRIVER_LEASES_KEY;
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.leasesKey;
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.leasesShard;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.testNodeName;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
@@ -353,14 +354,14 @@ public class PlacementDriverManagerTest extends BasePlacementDriverTest {
 
         checkLeaseCreated(grpPart0, false);
 
-        CompletableFuture<Entry> leaseFut = metaStorageManager.get(PLACEMENTDRIVER_LEASES_KEY);
+        CompletableFuture<Entry> leaseFut = metaStorageManager.get(leasesKey(leasesShard(grpPart0)));
 
         Lease lease = leaseFromBytes(sync(leaseFut).value(), grpPart0);
 
         assertNotNull(lease);
 
         assertTrue(waitForCondition(() -> {
-            CompletableFuture<Entry> fut = metaStorageManager.get(PLACEMENTDRIVER_LEASES_KEY);
+            CompletableFuture<Entry> fut = metaStorageManager.get(leasesKey(leasesShard(grpPart0)));
 
             Lease leaseRenew = leaseFromBytes(sync(fut).value(), grpPart0);
 
@@ -390,7 +391,7 @@ public class PlacementDriverManagerTest extends BasePlacementDriverTest {
         metaStorageManager.put(fromString(STABLE_ASSIGNMENTS_PREFIX + grpPart0), Assignments.toBytes(assignments, assignmentsTimestamp));
 
         assertTrue(waitForCondition(() -> {
-            CompletableFuture<Entry> fut = metaStorageManager.get(PLACEMENTDRIVER_LEASES_KEY);
+            CompletableFuture<Entry> fut = metaStorageManager.get(leasesKey(leasesShard(grpPart0)));
 
             Lease lease = leaseFromBytes(sync(fut).value(), grpPart0);
 
@@ -403,7 +404,7 @@ public class PlacementDriverManagerTest extends BasePlacementDriverTest {
         metaStorageManager.put(fromString(STABLE_ASSIGNMENTS_PREFIX + grpPart0), Assignments.toBytes(assignments, assignmentsTimestamp));
 
         assertTrue(waitForCondition(() -> {
-            CompletableFuture<Entry> fut = metaStorageManager.get(PLACEMENTDRIVER_LEASES_KEY);
+            CompletableFuture<Entry> fut = metaStorageManager.get(leasesKey(leasesShard(grpPart0)));
 
             Lease lease = leaseFromBytes(sync(fut).value(), grpPart0);
 
@@ -565,12 +566,12 @@ public class PlacementDriverManagerTest extends BasePlacementDriverTest {
         );
 
         assertTrue(waitForCondition(() -> {
-            CompletableFuture<Entry> fut = metaStorageManager.get(PLACEMENTDRIVER_LEASES_KEY);
-            Entry entry = sync(fut);
+            Entry entry0 = sync(metaStorageManager.get(leasesKey(leasesShard(groupIds.get(0)))));
+            Entry entry1 = sync(metaStorageManager.get(leasesKey(leasesShard(groupIds.get(1)))));
 
             // Only lease from grpPart0 should be removed.
-            return leaseFromBytes(entry.value(), groupIds.get(0)) == null
-                    && leaseFromBytes(entry.value(), groupIds.get(1)) != null;
+            return leaseFromBytes(entry0.value(), groupIds.get(0)) == null
+                    && leaseFromBytes(entry1.value(), groupIds.get(1)) != null;
 
         }, 10_000));
     }
@@ -690,7 +691,7 @@ public class PlacementDriverManagerTest extends BasePlacementDriverTest {
         AtomicReference<Lease> leaseRef = new AtomicReference<>();
 
         assertTrue(waitForCondition(() -> {
-            CompletableFuture<Entry> leaseFut = metaStorageManager.get(PLACEMENTDRIVER_LEASES_KEY);
+            CompletableFuture<Entry> leaseFut = metaStorageManager.get(leasesKey(leasesShard(grpPartId)));
 
             Entry leaseEntry = sync(leaseFut);
 
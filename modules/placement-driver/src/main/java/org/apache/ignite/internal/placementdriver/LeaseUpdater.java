@@ -22,12 +22,14 @@ import static java.util.Objects.requireNonNullElse;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.ignite.internal.hlc.HybridTimestamp.NULL_HYBRID_TIMESTAMP;
 import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
+import static org.apache.ignite.internal.metastorage.dsl.Conditions.and;
 import static org.apache.ignite.internal.metastorage.dsl.Conditions.notExists;
 import static org.apache.ignite.internal.metastorage.dsl.Conditions.or;
 import static org.apache.ignite.internal.metastorage.dsl.Conditions.value;
 import static org.apache.ignite.internal.metastorage.dsl.Operations.noop;
 import static org.apache.ignite.internal.metastorage.dsl.Operations.put;
-import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.PLACEMENTDRIVER_LEASES_KEY;
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.leasesKey;
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.leasesShard;
 import static org.apache.ignite.internal.placementdriver.leases.Lease.emptyLease;
 import static org.apache.ignite.internal.util.CollectionUtils.union;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
@@ -37,10 +39,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -57,6 +57,8 @@ import org.apache.ignite.internal.lang.NodeStoppingException;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.metastorage.MetaStorageManager;
+import org.apache.ignite.internal.metastorage.dsl.Condition;
+import org.apache.ignite.internal.metastorage.dsl.Operation;
 import org.apache.ignite.internal.network.ClusterService;
 import org.apache.ignite.internal.network.NetworkMessage;
 import org.apache.ignite.internal.network.NetworkMessageHandler;
@@ -246,11 +248,13 @@ public class LeaseUpdater {
 
         leaseNegotiator.cancelAgreement(grpId);
 
+        int shard = leasesShard(grpId);
+
         Leases leasesCurrent = leaseTracker.leasesCurrent();
 
-        Collection<Lease> currentLeases = leasesCurrent.leaseByGroupId().values();
+        Collection<Lease> currentLeases = leasesCurrent.leaseByGroupId(shard).values();
 
-        ByteArray key = PLACEMENTDRIVER_LEASES_KEY;
+        ByteArray key = leasesKey(shard);
 
         IgniteTuple3<List<Lease>, Boolean, Boolean> renewedLeasesTup = replaceProlongableLeaseInCollection(currentLeases, deniedLease);
 
@@ -262,7 +266,7 @@ public class LeaseUpdater {
             return nullCompletedFuture();
         } else {
             return msManager.invoke(
-                    or(notExists(key), value(key).eq(leasesCurrent.leasesBytes())),
+                    or(notExists(key), value(key).eq(leasesCurrent.shardBytes(shard))),
                     put(key, new LeaseBatch(renewedLeasesTup.get1()).bytes()),
                     noop()
             ).thenApply(res -> {
@@ -539,8 +543,6 @@ public class LeaseUpdater {
                 }
             }
 
-            ByteArray key = PLACEMENTDRIVER_LEASES_KEY;
-
             if (shouldLogLeaseStatistics()) {
                 LOG.info(
                         "Leases updated (printed once per {} iteration(s)): [inCurrentIteration={}, active={}, "
@@ -553,39 +555,59 @@ public class LeaseUpdater {
                 );
             }
 
-            // This condition allows to skip the meta storage invoke when there are no leases to update (renewedLeases.isEmpty()).
-            // However there is the case when we need to save empty leases collection: when the assignments are empty and
-            // leasesCurrent (those that reflect the meta storage state) is not empty. The negation of this condition gives us
-            // the condition to skip the update and the result is:
-            // !(emptyAssignments && !leasesCurrent.isEmpty()) == (!emptyAssignments || leasesCurrent.isEmpty())
-            boolean emptyAssignments = aggregatedStableAndPendingAssignmentsByGroups.isEmpty();
-            if (renewedLeases.isEmpty() && (!emptyAssignments || leasesCurrent.leaseByGroupId().isEmpty())) {
-                LOG.debug("No leases to update found.");
-                return;
+            // Only the shards that contain new, renewed or removed leases are written to the meta storage, the other shards are left
+            // intact. The prolongable leases of the written shards are prolonged in advance, because the shards are rewritten anyway.
+            Map<Integer, List<Lease>> leasesByChangedShard = new HashMap<>();
+
+            for (Lease lease : renewedLeases.values()) {
+                leasesByChangedShard.computeIfAbsent(leasesShard(lease.replicationGroupId()), shard -> new ArrayList<>()).add(lease);
             }
 
-            leasesCurrent.leaseByGroupId().forEach(renewedLeases::putIfAbsent);
+            Set<ReplicationGroupId> removedLeaseGroupIds = new HashSet<>();
 
-            for (Iterator<Entry<ReplicationGroupId, Lease>> iter = renewedLeases.entrySet().iterator(); iter.hasNext(); ) {
-                Map.Entry<ReplicationGroupId, Lease> entry = iter.next();
-                ReplicationGroupId groupId = entry.getKey();
-                Lease lease = entry.getValue();
+            for (Lease lease : leasesCurrent.leaseByGroupId().values()) {
+                ReplicationGroupId groupId = lease.replicationGroupId();
 
-                if (clockService.before(lease.getExpirationTime(), currentTime)
+                if (!renewedLeases.containsKey(groupId)
+                        && clockService.before(lease.getExpirationTime(), currentTime)
                         && !groupsAmongCurrentStableAndPendingAssignments.contains(groupId)) {
-                    iter.remove();
-                } else if (prolongableLeaseGroupIds.contains(groupId)) {
-                    entry.setValue(prolongLease(lease, newExpirationTimestamp));
+                    removedLeaseGroupIds.add(groupId);
+
+                    leasesByChangedShard.computeIfAbsent(leasesShard(groupId), shard -> new ArrayList<>());
                 }
             }
 
-            byte[] renewedValue = new LeaseBatch(renewedLeases.values()).bytes();
+            if (leasesByChangedShard.isEmpty()) {
+                LOG.debug("No leases to update found.");
+                return;
+            }
 
-            msManager.invoke(
-                    or(notExists(key), value(key).eq(leasesCurrent.leasesBytes())),
-                    put(key, renewedValue),
-                    noop()
-            ).whenComplete((success, e) -> {
+            Condition condition = null;
+            List<Operation> operations = new ArrayList<>(leasesByChangedShard.size());
+
+            for (Map.Entry<Integer, List<Lease>> entry : leasesByChangedShard.entrySet()) {
+                int shard = entry.getKey();
+                List<Lease> shardLeases = entry.getValue();
+
+                for (Lease lease : leasesCurrent.leaseByGroupId(shard).values()) {
+                    ReplicationGroupId groupId = lease.replicationGroupId();
+
+                    if (renewedLeases.containsKey(groupId) || removedLeaseGroupIds.contains(groupId)) {
+                        continue;
+                    }
+
+                    shardLeases.add(prolongableLeaseGroupIds.contains(groupId) ? prolongLease(lease, newExpirationTimestamp) : lease);
+                }
+
+                ByteArray key = leasesKey(shard);
+
+                Condition shardCondition = or(notExists(key), value(key).eq(leasesCurrent.shardBytes(shard)));
+
+                condition = condition == null ? shardCondition : and(condition, shardCondition);
+                operations.add(put(key, new LeaseBatch(shardLeases).bytes()));
+            }
+
+            msManager.invoke(condition, operations, List.of()).whenComplete((success, e) -> {
                 if (e != null) {
                     if (!hasCause(e, NodeStoppingException.class)) {
                         failureProcessor.process(new FailureContext(e, "Lease update invocation failed"));
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.placementdriver;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.apache.ignite.internal.util.IgniteUtils.inBusyLock;
@@ -66,9 +67,22 @@ import org.jetbrains.annotations.TestOnly;
 public class PlacementDriverManager implements IgniteComponent {
     private static final IgniteLogger LOG = Loggers.forClass(PlacementDriverManager.class);
 
-    private static final String PLACEMENTDRIVER_LEASES_KEY_STRING = "placementdriver.leases";
+    private static final String PLACEMENTDRIVER_LEASES_KEY_PREFIX_STRING = "placementdriver.leases.";
 
-    public static final ByteArray PLACEMENTDRIVER_LEASES_KEY = ByteArray.fromString(PLACEMENTDRIVER_LEASES_KEY_STRING);
+    /** Prefix of the keys of the lease shards, see {@link #leasesKey(int)}. */
+    public static final ByteArray PLACEMENTDRIVER_LEASES_KEY_PREFIX = ByteArray.fromString(PLACEMENTDRIVER_LEASES_KEY_PREFIX_STRING);
+
+    /**
+     * Key the leases of all replication groups were stored under as a single batch before the leases were sharded. The leases found
+     * under the key on recovery are moved to the shards, see {@link LeaseTracker#startTrack(long)}.
+     */
+    public static final ByteArray PLACEMENTDRIVER_LEGACY_LEASES_KEY = ByteArray.fromString("placementdriver.leases");
+
+    /**
+     * Number of the shards the leases are distributed among. Every shard is stored under its own Meta storage key, so a lease update
+     * rewrites only the shards of the changed leases instead of the leases of all replication groups.
+     */
+    public static final int LEASE_SHARDS = 32;
 
     /** Busy lock to stop synchronously. */
     private final IgniteSpinBusyLock busyLock = new IgniteSpinBusyLock();
@@ -345,4 +359,39 @@ public class PlacementDriverManager implements IgniteComponent {
             }
         };
     }
+
+    /**
+     * Returns the shard of the leases, which the lease of a replication group belongs to. The shard is computed from the hash code of
+     * the group id, so it is the same on all nodes.
+     *
+     * @param groupId Replication group id.
+     * @return Shard index.
+     */
+    public static int leasesShard(ReplicationGroupId groupId) {
+        int hash = groupId.hashCode();
+
+        return Math.floorMod(hash ^ (hash >>> 16), LEASE_SHARDS);
+    }
+
+    /**
+     * Returns the Meta storage key of a shard of the leases.
+     *
+     * @param shard Shard index.
+     * @return Key of the shard.
+     */
+    public static ByteArray leasesKey(int shard) {
+        return ByteArray.fromString(PLACEMENTDRIVER_LEASES_KEY_PREFIX_STRING + shard);
+    }
+
+    /**
+     * Returns the shard index by the Meta storage key of the shard.
+     *
+     * @param key Key of the shard, see {@link #leasesKey(int)}.
+     * @return Shard index.
+     */
+    public static int leasesShardByKey(byte[] key) {
+        int prefixLength = PLACEMENTDRIVER_LEASES_KEY_PREFIX.length();
+
+        return Integer.parseInt(new String(key, prefixLength, key.length - prefixLength, UTF_8));
+    }
 }
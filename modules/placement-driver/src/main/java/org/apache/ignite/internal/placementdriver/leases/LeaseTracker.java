@@ -18,16 +18,25 @@
 package org.apache.ignite.internal.placementdriver.leases;
 
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
-import static java.util.Collections.emptyMap;
 import static java.util.concurrent.CompletableFuture.allOf;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.ignite.internal.hlc.HybridTimestamp.MIN_VALUE;
-import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.PLACEMENTDRIVER_LEASES_KEY;
+import static org.apache.ignite.internal.metastorage.dsl.Conditions.and;
+import static org.apache.ignite.internal.metastorage.dsl.Conditions.notExists;
+import static org.apache.ignite.internal.metastorage.dsl.Conditions.value;
+import static org.apache.ignite.internal.metastorage.dsl.Operations.put;
+import static org.apache.ignite.internal.metastorage.dsl.Operations.remove;
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.PLACEMENTDRIVER_LEASES_KEY_PREFIX;
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.PLACEMENTDRIVER_LEGACY_LEASES_KEY;
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.leasesKey;
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.leasesShard;
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.leasesShardByKey;
 import static org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEvent.PRIMARY_REPLICA_ELECTED;
 import static org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEvent.PRIMARY_REPLICA_EXPIRED;
 import static org.apache.ignite.internal.placementdriver.leases.Lease.emptyLease;
 import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+import static org.apache.ignite.internal.util.ExceptionUtils.hasCause;
 import static org.apache.ignite.internal.util.IgniteUtils.inBusyLock;
 import static org.apache.ignite.internal.util.IgniteUtils.inBusyLockAsync;
 import static org.apache.ignite.lang.ErrorGroups.Common.NODE_STOPPING_ERR;
@@ -35,8 +44,10 @@ import static org.apache.ignite.lang.ErrorGroups.Common.NODE_STOPPING_ERR;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -46,6 +57,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.ignite.internal.event.AbstractEventProducer;
 import org.apache.ignite.internal.hlc.ClockService;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.lang.ByteArray;
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.lang.IgniteStringFormatter;
 import org.apache.ignite.internal.lang.NodeStoppingException;
@@ -56,6 +68,8 @@ import org.apache.ignite.internal.metastorage.EntryEvent;
 import org.apache.ignite.internal.metastorage.MetaStorageManager;
 import org.apache.ignite.internal.metastorage.WatchEvent;
 import org.apache.ignite.internal.metastorage.WatchListener;
+import org.apache.ignite.internal.metastorage.dsl.Condition;
+import org.apache.ignite.internal.metastorage.dsl.Operation;
 import org.apache.ignite.internal.network.ClusterNodeResolver;
 import org.apache.ignite.internal.placementdriver.LeasePlacementDriver;
 import org.apache.ignite.internal.placementdriver.PrimaryReplicaAwaitException;
@@ -64,6 +78,7 @@ import org.apache.ignite.internal.placementdriver.ReplicaMeta;
 import org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEvent;
 import org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEventParameters;
 import org.apache.ignite.internal.replicator.ReplicationGroupId;
+import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.apache.ignite.internal.util.PendingIndependentComparableValuesTracker;
 import org.apache.ignite.network.ClusterNode;
@@ -71,7 +86,8 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Class tracks cluster leases in memory.
- * At first, the class state recoveries from Vault, then updates on watch's listener.
+ * At first, the class state recoveries from Vault, then updates on watch's listener. Only the lease shards changed by a watch event are
+ * decoded, the leases of the other shards are reused.
  */
 public class LeaseTracker extends AbstractEventProducer<PrimaryReplicaEvent, PrimaryReplicaEventParameters> implements
         LeasePlacementDriver {
@@ -88,7 +104,7 @@ public class LeaseTracker extends AbstractEventProducer<PrimaryReplicaEvent, Pri
     private final AtomicBoolean stopGuard = new AtomicBoolean();
 
     /** Leases cache. */
-    private volatile Leases leases = new Leases(emptyMap(), BYTE_EMPTY_ARRAY);
+    private volatile Leases leases = Leases.empty();
 
     /** Map of primary replica waiters. */
     private final Map<ReplicationGroupId, PendingIndependentComparableValuesTracker<HybridTimestamp, ReplicaMeta>> primaryReplicaWaiters
@@ -120,11 +136,15 @@ public class LeaseTracker extends AbstractEventProducer<PrimaryReplicaEvent, Pri
     /**
      * Recovers state from Vault and subscribes to future updates.
      *
+     * <p>The leases stored under {@link PlacementDriverManager#PLACEMENTDRIVER_LEGACY_LEASES_KEY} before the leases were sharded are
+     * recovered along with the shards, so that no lease which may still be valid is ignored, and are moved to the shards by a conditional
+     * update that removes the legacy key.
+     *
      * @param recoveryRevision Revision from {@link MetaStorageManager#recoveryFinishedFuture()}.
      */
     public void startTrack(long recoveryRevision) {
         inBusyLock(busyLock, () -> {
-            msManager.registerExactWatch(PLACEMENTDRIVER_LEASES_KEY, updateListener);
+            msManager.registerPrefixWatch(PLACEMENTDRIVER_LEASES_KEY_PREFIX, updateListener);
 
             loadLeasesBusyAsync(recoveryRevision);
         });
@@ -178,51 +198,74 @@ public class LeaseTracker extends AbstractEventProducer<PrimaryReplicaEvent, Pri
                 List<CompletableFuture<?>> fireEventFutures = new ArrayList<>();
                 List<Lease> expiredLeases = new ArrayList<>();
 
+                Leases previousLeases = leases;
+
+                Map<ReplicationGroupId, Lease> previousLeasesMap = previousLeases.leaseByGroupId();
+                Map<ReplicationGroupId, Lease>[] leasesByShard = previousLeases.leasesByShardCopy();
+                byte[][] shardsBytes = previousLeases.shardsBytesCopy();
+
+                // Only the shards from the event are decoded, the leases of the other shards are kept as is.
+                Map<ReplicationGroupId, Lease> leasesMap = new HashMap<>(previousLeasesMap);
+
                 for (EntryEvent entry : event.entryEvents()) {
                     Entry msEntry = entry.newEntry();
 
-                    byte[] leasesBytes = msEntry.value();
-                    Map<ReplicationGroupId, Lease> leasesMap = new HashMap<>();
+                    int shard = leasesShardByKey(msEntry.key());
 
-                    LeaseBatch leaseBatch = LeaseBatch.fromBytes(ByteBuffer.wrap(leasesBytes).order(LITTLE_ENDIAN));
+                    Map<ReplicationGroupId, Lease> shardLeasesMap = new HashMap<>();
 
-                    Map<ReplicationGroupId, Lease> previousLeasesMap = leases.leaseByGroupId();
+                    if (msEntry.empty() || msEntry.tombstone()) {
+                        shardsBytes[shard] = BYTE_EMPTY_ARRAY;
+                    } else {
+                        byte[] shardBytes = msEntry.value();
+
+                        LeaseBatch leaseBatch = LeaseBatch.fromBytes(ByteBuffer.wrap(shardBytes).order(LITTLE_ENDIAN));
 
-                    for (Lease lease : leaseBatch.leases()) {
-                        ReplicationGroupId grpId = lease.replicationGroupId();
+                        for (Lease lease : leaseBatch.leases()) {
+                            ReplicationGroupId grpId = lease.replicationGroupId();
 
-                        leasesMap.put(grpId, lease);
+                            shardLeasesMap.put(grpId, lease);
+                            leasesMap.put(grpId, lease);
 
-                        if (lease.isAccepted()) {
-                            primaryReplicaWaiters
-                                    .computeIfAbsent(grpId, groupId -> new PendingIndependentComparableValuesTracker<>(MIN_VALUE))
-                                    .update(lease.getExpirationTime(), lease);
+                            if (lease.isAccepted()) {
+                                primaryReplicaWaiters
+                                        .computeIfAbsent(grpId, groupId -> new PendingIndependentComparableValuesTracker<>(MIN_VALUE))
+                                        .update(lease.getExpirationTime(), lease);
 
-                            if (needFireEventReplicaBecomePrimary(previousLeasesMap.get(grpId), lease)) {
-                                fireEventFutures.add(fireEventPrimaryReplicaElected(event.revision(), lease));
+                                if (needFireEventReplicaBecomePrimary(previousLeasesMap.get(grpId), lease)) {
+                                    fireEventFutures.add(fireEventPrimaryReplicaElected(event.revision(), lease));
+                                }
                             }
-                        }
 
-                        if (needToFireEventReplicaExpired(grpId, lease)) {
-                            expiredLeases.add(leases.leaseByGroupId().get(grpId));
+                            if (needToFireEventReplicaExpired(grpId, lease)) {
+                                expiredLeases.add(previousLeasesMap.get(grpId));
+                            }
                         }
+
+                        shardsBytes[shard] = shardBytes;
                     }
 
-                    for (ReplicationGroupId grpId : leases.leaseByGroupId().keySet()) {
-                        if (!leasesMap.containsKey(grpId)) {
+                    for (Map.Entry<ReplicationGroupId, Lease> previousShardEntry : leasesByShard[shard].entrySet()) {
+                        ReplicationGroupId grpId = previousShardEntry.getKey();
+
+                        if (!shardLeasesMap.containsKey(grpId)) {
+                            leasesMap.remove(grpId, previousShardEntry.getValue());
+
                             tryRemoveTracker(grpId);
 
                             if (needToFireEventReplicaExpired(grpId, null)) {
-                                expiredLeases.add(leases.leaseByGroupId().get(grpId));
+                                expiredLeases.add(previousLeasesMap.get(grpId));
                             }
                         }
                     }
 
-                    leases = new Leases(leasesMap, leasesBytes);
+                    leasesByShard[shard] = shardLeasesMap;
+                }
+
+                leases = new Leases(leasesMap, leasesByShard, shardsBytes);
 
-                    for (Lease expiredLease : expiredLeases) {
-                        fireEventPrimaryReplicaExpired(event.revision(), expiredLease);
-                    }
+                for (Lease expiredLease : expiredLeases) {
+                    fireEventPrimaryReplicaExpired(event.revision(), expiredLease);
                 }
 
                 return allOf(fireEventFutures.toArray(CompletableFuture[]::new));
@@ -345,31 +388,140 @@ public class LeaseTracker extends AbstractEventProducer<PrimaryReplicaEvent, Pri
     }
 
     private void loadLeasesBusyAsync(long recoveryRevision) {
-        Entry entry = msManager.getLocally(PLACEMENTDRIVER_LEASES_KEY, recoveryRevision);
+        Map<ReplicationGroupId, Lease> leasesMap = new HashMap<>();
+        Map<ReplicationGroupId, Lease>[] leasesByShard = Leases.emptyShards();
+        byte[][] shardsBytes = Leases.emptyShardBytes();
+
+        try (Cursor<Entry> cursor = msManager.prefixLocally(PLACEMENTDRIVER_LEASES_KEY_PREFIX, recoveryRevision)) {
+            for (Entry entry : cursor) {
+                if (entry.empty() || entry.tombstone()) {
+                    continue;
+                }
+
+                int shard = leasesShardByKey(entry.key());
 
-        if (entry.empty() || entry.tombstone()) {
-            leases = new Leases(Map.of(), BYTE_EMPTY_ARRAY);
-        } else {
-            byte[] leasesBytes = entry.value();
+                byte[] shardBytes = entry.value();
 
-            LeaseBatch leaseBatch = LeaseBatch.fromBytes(ByteBuffer.wrap(leasesBytes).order(LITTLE_ENDIAN));
+                LeaseBatch leaseBatch = LeaseBatch.fromBytes(ByteBuffer.wrap(shardBytes).order(LITTLE_ENDIAN));
 
-            Map<ReplicationGroupId, Lease> leasesMap = new HashMap<>();
+                Map<ReplicationGroupId, Lease> shardLeasesMap = new HashMap<>();
 
-            leaseBatch.leases().forEach(lease -> {
+                leaseBatch.leases().forEach(lease -> {
+                    ReplicationGroupId grpId = lease.replicationGroupId();
+
+                    shardLeasesMap.put(grpId, lease);
+                    leasesMap.put(grpId, lease);
+
+                    if (lease.isAccepted()) {
+                        getOrCreatePrimaryReplicaWaiter(grpId).update(lease.getExpirationTime(), lease);
+                    }
+                });
+
+                leasesByShard[shard] = shardLeasesMap;
+                shardsBytes[shard] = shardBytes;
+            }
+        }
+
+        Entry legacyEntry = msManager.getLocally(PLACEMENTDRIVER_LEGACY_LEASES_KEY, recoveryRevision);
+
+        boolean legacyLeasesPresent = !legacyEntry.empty() && !legacyEntry.tombstone();
+
+        if (legacyLeasesPresent) {
+            LeaseBatch legacyBatch = LeaseBatch.fromBytes(ByteBuffer.wrap(legacyEntry.value()).order(LITTLE_ENDIAN));
+
+            for (Lease lease : legacyBatch.leases()) {
                 ReplicationGroupId grpId = lease.replicationGroupId();
+                int shard = leasesShard(grpId);
+
+                // A shard present in the metastore has been written from the leases including the legacy ones, so it supersedes them.
+                if (shardsBytes[shard].length > 0) {
+                    continue;
+                }
+
+                if (leasesByShard[shard].isEmpty()) {
+                    leasesByShard[shard] = new HashMap<>();
+                }
 
+                leasesByShard[shard].put(grpId, lease);
                 leasesMap.put(grpId, lease);
 
                 if (lease.isAccepted()) {
                     getOrCreatePrimaryReplicaWaiter(grpId).update(lease.getExpirationTime(), lease);
                 }
+            }
+        }
+
+        leases = new Leases(leasesMap, leasesByShard, shardsBytes);
+
+        LOG.info("Leases cache recovered [leases={}]", leases);
+
+        if (legacyLeasesPresent) {
+            migrateLegacyLeasesBusy(legacyEntry.value()).whenComplete((res, e) -> {
+                if (e != null && !hasCause(e, NodeStoppingException.class)) {
+                    LOG.warn("Failed to move the leases from the legacy key to the shards.", e);
+                }
             });
+        }
+    }
+
+    /**
+     * Moves the leases stored under the legacy key to the shards which are absent in the metastore and removes the legacy key, in a single
+     * invoke conditioned on the legacy leases and on the absence of the written shards. The shards present in the metastore are left as
+     * is, because they have been written from the leases of this tracker, which include the legacy ones. If the invoke fails, either
+     * another node has moved the leases or a shard has been written concurrently, so the migration is retried while the legacy key exists.
+     *
+     * @param legacyBytes Leases stored under the legacy key.
+     * @return Future that completes when the legacy key is removed.
+     */
+    private CompletableFuture<Void> migrateLegacyLeasesBusy(byte[] legacyBytes) {
+        LeaseBatch legacyBatch = LeaseBatch.fromBytes(ByteBuffer.wrap(legacyBytes).order(LITTLE_ENDIAN));
+
+        Map<Integer, List<Lease>> legacyLeasesByShard = new HashMap<>();
 
-            leases = new Leases(leasesMap, leasesBytes);
+        for (Lease lease : legacyBatch.leases()) {
+            legacyLeasesByShard.computeIfAbsent(leasesShard(lease.replicationGroupId()), shard -> new ArrayList<>()).add(lease);
         }
 
-        LOG.info("Leases cache recovered [leases={}]", leases);
+        Set<ByteArray> shardKeys = new HashSet<>();
+
+        legacyLeasesByShard.keySet().forEach(shard -> shardKeys.add(leasesKey(shard)));
+
+        return msManager.getAll(shardKeys)
+                .thenCompose(shardEntries -> {
+                    Condition condition = value(PLACEMENTDRIVER_LEGACY_LEASES_KEY).eq(legacyBytes);
+                    List<Operation> operations = new ArrayList<>();
+
+                    for (Map.Entry<Integer, List<Lease>> shardLeases : legacyLeasesByShard.entrySet()) {
+                        ByteArray key = leasesKey(shardLeases.getKey());
+                        Entry shardEntry = shardEntries.get(key);
+
+                        if (shardEntry != null && !shardEntry.empty() && !shardEntry.tombstone()) {
+                            continue;
+                        }
+
+                        condition = and(condition, notExists(key));
+                        operations.add(put(key, new LeaseBatch(shardLeases.getValue()).bytes()));
+                    }
+
+                    operations.add(remove(PLACEMENTDRIVER_LEGACY_LEASES_KEY));
+
+                    return msManager.invoke(condition, operations, List.of());
+                })
+                .thenCompose(success -> {
+                    if (success) {
+                        LOG.info("Leases moved from the legacy key to the shards [shards={}].", legacyLeasesByShard.keySet());
+
+                        return nullCompletedFuture();
+                    }
+
+                    return msManager.get(PLACEMENTDRIVER_LEGACY_LEASES_KEY).thenCompose(legacyEntry -> {
+                        if (legacyEntry.empty() || legacyEntry.tombstone()) {
+                            return nullCompletedFuture();
+                        }
+
+                        return inBusyLockAsync(busyLock, () -> migrateLegacyLeasesBusy(legacyEntry.value()));
+                    });
+                });
     }
 
     /**
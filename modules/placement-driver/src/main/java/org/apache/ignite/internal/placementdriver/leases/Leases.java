@@ -17,31 +17,52 @@
 
 package org.apache.ignite.internal.placementdriver.leases;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableMap;
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.LEASE_SHARDS;
+import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
 
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.ignite.internal.replicator.ReplicationGroupId;
 import org.apache.ignite.internal.tostring.IgniteToStringExclude;
 import org.apache.ignite.internal.tostring.S;
 
-/** Leases received from the metastore. */
+/**
+ * Leases received from the metastore. The leases are stored in the metastore by shards, see
+ * {@link org.apache.ignite.internal.placementdriver.PlacementDriverManager#leasesShard}, the serialized shards are kept to update them
+ * conditionally.
+ */
 public class Leases {
+    private static final Leases EMPTY = new Leases(emptyMap(), emptyShards(), emptyShardBytes());
+
     private final Map<ReplicationGroupId, Lease> leaseByGroupId;
 
     @IgniteToStringExclude
-    private final byte[] leasesBytes;
+    private final Map<ReplicationGroupId, Lease>[] leasesByShard;
+
+    @IgniteToStringExclude
+    private final byte[][] shardsBytes;
 
     /**
      * The constructor.
      *
      * @param leaseByGroupId Leases by group map.
-     * @param leasesBytes Serialized leases.
+     * @param leasesByShard Leases by group maps of the shards.
+     * @param shardsBytes Serialized shards, an empty array for the shards that are absent in the metastore.
      */
-    public Leases(Map<ReplicationGroupId, Lease> leaseByGroupId, byte[] leasesBytes) {
+    Leases(Map<ReplicationGroupId, Lease> leaseByGroupId, Map<ReplicationGroupId, Lease>[] leasesByShard, byte[][] shardsBytes) {
         assert leaseByGroupId != null;
+        assert leasesByShard.length == LEASE_SHARDS && shardsBytes.length == LEASE_SHARDS;
 
         this.leaseByGroupId = leaseByGroupId;
-        this.leasesBytes = leasesBytes;
+        this.leasesByShard = leasesByShard;
+        this.shardsBytes = shardsBytes;
+    }
+
+    /** Returns leases without any lease in the metastore. */
+    public static Leases empty() {
+        return EMPTY;
     }
 
     /** Returns leases grouped by replication group. */
@@ -49,9 +70,43 @@ public class Leases {
         return unmodifiableMap(leaseByGroupId);
     }
 
-    /** Returns an array of byte leases from the metastore. */
-    public byte[] leasesBytes() {
-        return leasesBytes;
+    /** Returns leases of a shard grouped by replication group. */
+    public Map<ReplicationGroupId, Lease> leaseByGroupId(int shard) {
+        return unmodifiableMap(leasesByShard[shard]);
+    }
+
+    /** Returns the serialized shard from the metastore, an empty array if the shard is absent. */
+    public byte[] shardBytes(int shard) {
+        return shardsBytes[shard];
+    }
+
+    /** Returns a copy of the leases by group maps of the shards, for building the next leases. */
+    Map<ReplicationGroupId, Lease>[] leasesByShardCopy() {
+        return Arrays.copyOf(leasesByShard, LEASE_SHARDS);
+    }
+
+    /** Returns a copy of the serialized shards, for building the next leases. */
+    byte[][] shardsBytesCopy() {
+        return Arrays.copyOf(shardsBytes, LEASE_SHARDS);
+    }
+
+    /** Returns leases by group maps of the shards, all shards are empty. */
+    @SuppressWarnings("unchecked")
+    static Map<ReplicationGroupId, Lease>[] emptyShards() {
+        Map<ReplicationGroupId, Lease>[] shards = new Map[LEASE_SHARDS];
+
+        Arrays.fill(shards, emptyMap());
+
+        return shards;
+    }
+
+    /** Returns serialized shards, all shards are absent. */
+    static byte[][] emptyShardBytes() {
+        byte[][] shardsBytes = new byte[LEASE_SHARDS][];
+
+        Arrays.fill(shardsBytes, BYTE_EMPTY_ARRAY);
+
+        return shardsBytes;
     }
 
     @Override
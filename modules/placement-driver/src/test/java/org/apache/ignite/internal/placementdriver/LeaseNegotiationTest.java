@@ -17,12 +17,13 @@
 
 package org.apache.ignite.internal.placementdriver;
 
-import static java.util.Collections.emptyList;
 import static java.util.UUID.randomUUID;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.apache.ignite.internal.distributionzones.rebalance.RebalanceUtil.stablePartAssignmentsKey;
 import static org.apache.ignite.internal.partitiondistribution.Assignment.forPeer;
-import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.PLACEMENTDRIVER_LEASES_KEY;
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.LEASE_SHARDS;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willSucceedFast;
@@ -40,12 +41,14 @@ import static org.mockito.Mockito.when;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
+import java.util.stream.IntStream;
 import org.apache.ignite.internal.cluster.management.topology.api.LogicalNode;
 import org.apache.ignite.internal.cluster.management.topology.api.LogicalTopologyEventListener;
 import org.apache.ignite.internal.cluster.management.topology.api.LogicalTopologyService;
@@ -442,19 +445,16 @@ public class LeaseNegotiationTest extends BaseIgniteAbstractTest {
     }
 
     private Collection<Lease> getAllLeasesFromMs() {
-        CompletableFuture<Entry> f = metaStorageManager.get(PLACEMENTDRIVER_LEASES_KEY);
+        Set<ByteArray> keys = IntStream.range(0, LEASE_SHARDS).mapToObj(PlacementDriverManager::leasesKey).collect(toSet());
 
-        assertThat(f, willSucceedFast());
-
-        Entry e = f.join();
+        CompletableFuture<Map<ByteArray, Entry>> f = metaStorageManager.getAll(keys);
 
-        if (e.empty()) {
-            return emptyList();
-        }
-
-        LeaseBatch leases = LeaseBatch.fromBytes(ByteBuffer.wrap(e.value()).order(ByteOrder.LITTLE_ENDIAN));
+        assertThat(f, willSucceedFast());
 
-        return leases.leases();
+        return f.join().values().stream()
+                .filter(e -> !e.empty() && !e.tombstone())
+                .flatMap(e -> LeaseBatch.fromBytes(ByteBuffer.wrap(e.value()).order(ByteOrder.LITTLE_ENDIAN)).leases().stream())
+                .collect(toList());
     }
 
     private void waitForAcceptedLease() throws InterruptedException {
@@ -18,27 +18,40 @@
 package org.apache.ignite.internal.placementdriver;
 
 import static java.util.UUID.randomUUID;
-import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.PLACEMENTDRIVER_LEASES_KEY;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.PLACEMENTDRIVER_LEGACY_LEASES_KEY;
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.leasesKey;
+import static org.apache.ignite.internal.placementdriver.PlacementDriverManager.leasesShard;
 import static org.apache.ignite.internal.util.CompletableFutures.falseCompletedFuture;
+import static org.apache.ignite.internal.util.CompletableFutures.trueCompletedFuture;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.ignite.internal.hlc.HybridClockImpl;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.hlc.TestClockService;
+import org.apache.ignite.internal.lang.ByteArray;
 import org.apache.ignite.internal.metastorage.Entry;
 import org.apache.ignite.internal.metastorage.EntryEvent;
 import org.apache.ignite.internal.metastorage.MetaStorageManager;
 import org.apache.ignite.internal.metastorage.WatchEvent;
 import org.apache.ignite.internal.metastorage.WatchListener;
+import org.apache.ignite.internal.metastorage.dsl.Condition;
+import org.apache.ignite.internal.metastorage.dsl.Operation;
+import org.apache.ignite.internal.metastorage.dsl.OperationType;
 import org.apache.ignite.internal.metastorage.impl.EntryImpl;
 import org.apache.ignite.internal.network.ClusterNodeResolver;
 import org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEvent;
@@ -46,8 +59,10 @@ import org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEventParam
 import org.apache.ignite.internal.placementdriver.leases.Lease;
 import org.apache.ignite.internal.placementdriver.leases.LeaseBatch;
 import org.apache.ignite.internal.placementdriver.leases.LeaseTracker;
+import org.apache.ignite.internal.placementdriver.leases.Leases;
 import org.apache.ignite.internal.replicator.TablePartitionId;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.util.Cursor;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -65,12 +80,11 @@ public class LeaseTrackerTest extends BaseIgniteAbstractTest {
                     listenerRef.set(lsnr);
                     return null;
                 }
-        ).when(msManager).registerExactWatch(any(), any());
+        ).when(msManager).registerPrefixWatch(any(), any());
 
-        byte[] leasesKeyBytes = PLACEMENTDRIVER_LEASES_KEY.bytes();
-        Entry emptyEntry = EntryImpl.empty(leasesKeyBytes);
-
-        when(msManager.getLocally(any(), anyLong())).thenAnswer(invocation -> emptyEntry);
+        when(msManager.prefixLocally(any(), anyLong())).thenAnswer(invocation -> Cursor.fromIterable(List.of()));
+        when(msManager.getLocally(any(), anyLong()))
+                .thenAnswer(invocation -> EntryImpl.empty(invocation.<ByteArray>getArgument(0).bytes()));
 
         HybridClockImpl clock = new HybridClockImpl();
 
@@ -90,6 +104,10 @@ public class LeaseTrackerTest extends BaseIgniteAbstractTest {
         TablePartitionId partId0 = new TablePartitionId(0, 0);
         TablePartitionId partId1 = new TablePartitionId(0, 1);
 
+        // Both leases are written to the same shard, the tracker relies on the shard keys rather than on the hashes of the group ids.
+        byte[] leasesKeyBytes = leasesKey(leasesShard(partId0)).bytes();
+        Entry emptyEntry = EntryImpl.empty(leasesKeyBytes);
+
         HybridTimestamp startTime = new HybridTimestamp(1, 0);
         HybridTimestamp expirationTime = new HybridTimestamp(1000, 0);
 
@@ -117,4 +135,148 @@ public class LeaseTrackerTest extends BaseIgniteAbstractTest {
         listenerRef.get().onUpdate(new WatchEvent(new EntryEvent(emptyEntry, emptyEntry)));
         assertNull(parametersRef.get());
     }
+
+    @Test
+    public void testIncrementalShardUpdate() {
+        AtomicReference<WatchListener> listenerRef = new AtomicReference<>();
+        MetaStorageManager msManager = mock(MetaStorageManager.class);
+
+        doAnswer(
+                invocation -> {
+                    listenerRef.set(invocation.getArgument(1));
+                    return null;
+                }
+        ).when(msManager).registerPrefixWatch(any(), any());
+
+        HybridClockImpl clock = new HybridClockImpl();
+
+        TablePartitionId partId0 = new TablePartitionId(0, 0);
+        TablePartitionId partId1 = partitionOfAnotherShard(partId0);
+
+        HybridTimestamp startTime = new HybridTimestamp(1, 0);
+        HybridTimestamp expirationTime = new HybridTimestamp(1000, 0);
+
+        Lease lease0 = new Lease("node0", randomUUID(), startTime, expirationTime, partId0).acceptLease(new HybridTimestamp(2000, 0));
+        Lease lease1 = new Lease("node1", randomUUID(), startTime, expirationTime, partId1).acceptLease(new HybridTimestamp(2000, 0));
+
+        int shard0 = leasesShard(partId0);
+        int shard1 = leasesShard(partId1);
+
+        Entry shard0Entry = new EntryImpl(leasesKey(shard0).bytes(), new LeaseBatch(List.of(lease0)).bytes(), 0, clock.now());
+        Entry shard1Entry = new EntryImpl(leasesKey(shard1).bytes(), new LeaseBatch(List.of(lease1)).bytes(), 0, clock.now());
+
+        when(msManager.prefixLocally(any(), anyLong())).thenAnswer(invocation -> Cursor.fromIterable(List.of(shard0Entry, shard1Entry)));
+        when(msManager.getLocally(any(), anyLong()))
+                .thenAnswer(invocation -> EntryImpl.empty(invocation.<ByteArray>getArgument(0).bytes()));
+
+        LeaseTracker leaseTracker = new LeaseTracker(msManager, mock(ClusterNodeResolver.class), new TestClockService(clock));
+        leaseTracker.startTrack(0L);
+
+        Leases recovered = leaseTracker.leasesCurrent();
+
+        assertEquals(2, recovered.leaseByGroupId().size());
+        assertArrayEquals(shard0Entry.value(), recovered.shardBytes(shard0));
+        assertArrayEquals(shard1Entry.value(), recovered.shardBytes(shard1));
+
+        AtomicReference<PrimaryReplicaEventParameters> electedRef = new AtomicReference<>();
+        leaseTracker.listen(PrimaryReplicaEvent.PRIMARY_REPLICA_ELECTED, p -> {
+            electedRef.set(p);
+            return falseCompletedFuture();
+        });
+
+        // Only the shard of partId1 is updated, the lease of partId0 must be kept as is.
+        Lease newLease1 = new Lease("node0", randomUUID(), new HybridTimestamp(3000, 0), new HybridTimestamp(4000, 0), partId1)
+                .acceptLease(new HybridTimestamp(5000, 0));
+
+        Entry newShard1Entry = new EntryImpl(leasesKey(shard1).bytes(), new LeaseBatch(List.of(newLease1)).bytes(), 1, clock.now());
+
+        listenerRef.get().onUpdate(new WatchEvent(new EntryEvent(shard1Entry, newShard1Entry)));
+
+        Leases updated = leaseTracker.leasesCurrent();
+
+        assertEquals(lease0.getStartTime(), leaseTracker.getLease(partId0).getStartTime());
+        assertEquals(newLease1.getStartTime(), leaseTracker.getLease(partId1).getStartTime());
+        assertArrayEquals(shard0Entry.value(), updated.shardBytes(shard0));
+        assertArrayEquals(newShard1Entry.value(), updated.shardBytes(shard1));
+        assertTrue(updated.leaseByGroupId(shard0).containsKey(partId0));
+
+        assertNotNull(electedRef.get());
+        assertEquals(partId1, electedRef.get().groupId());
+    }
+
+    @Test
+    public void testLegacyLeasesMigration() {
+        MetaStorageManager msManager = mock(MetaStorageManager.class);
+        HybridClockImpl clock = new HybridClockImpl();
+
+        TablePartitionId partId0 = new TablePartitionId(0, 0);
+        TablePartitionId partId1 = partitionOfAnotherShard(partId0);
+
+        int shard0 = leasesShard(partId0);
+        int shard1 = leasesShard(partId1);
+
+        HybridTimestamp startTime = new HybridTimestamp(1, 0);
+        HybridTimestamp expirationTime = new HybridTimestamp(1000, 0);
+
+        Lease legacyLease0 = new Lease("node0", randomUUID(), startTime, expirationTime, partId0).acceptLease(new HybridTimestamp(2000, 0));
+        Lease legacyLease1 = new Lease("node1", randomUUID(), startTime, expirationTime, partId1).acceptLease(new HybridTimestamp(2000, 0));
+
+        // The shard of partId1 has already been written after the upgrade, so it supersedes the legacy lease of the group.
+        Lease lease1 = new Lease("node0", randomUUID(), new HybridTimestamp(3000, 0), new HybridTimestamp(4000, 0), partId1)
+                .acceptLease(new HybridTimestamp(5000, 0));
+
+        byte[] legacyBytes = new LeaseBatch(List.of(legacyLease0, legacyLease1)).bytes();
+        Entry legacyEntry = new EntryImpl(PLACEMENTDRIVER_LEGACY_LEASES_KEY.bytes(), legacyBytes, 0, clock.now());
+        Entry shard1Entry = new EntryImpl(leasesKey(shard1).bytes(), new LeaseBatch(List.of(lease1)).bytes(), 1, clock.now());
+
+        when(msManager.prefixLocally(any(), anyLong())).thenAnswer(invocation -> Cursor.fromIterable(List.of(shard1Entry)));
+        when(msManager.getLocally(any(), anyLong())).thenReturn(legacyEntry);
+        when(msManager.getAll(any())).thenReturn(completedFuture(Map.of(
+                leasesKey(shard0), EntryImpl.empty(leasesKey(shard0).bytes()),
+                leasesKey(shard1), shard1Entry
+        )));
+
+        AtomicReference<List<Operation>> operationsRef = new AtomicReference<>();
+
+        when(msManager.invoke(any(Condition.class), anyList(), anyList())).thenAnswer(invocation -> {
+            operationsRef.set(invocation.getArgument(1));
+
+            return trueCompletedFuture();
+        });
+
+        LeaseTracker leaseTracker = new LeaseTracker(msManager, mock(ClusterNodeResolver.class), new TestClockService(clock));
+        leaseTracker.startTrack(0L);
+
+        // The legacy lease is recovered for the absent shard only.
+        assertEquals(legacyLease0.getStartTime(), leaseTracker.getLease(partId0).getStartTime());
+        assertEquals(lease1.getStartTime(), leaseTracker.getLease(partId1).getStartTime());
+        assertTrue(leaseTracker.leasesCurrent().leaseByGroupId(shard0).containsKey(partId0));
+
+        // The legacy lease of the absent shard is moved to the shard and the legacy key is removed.
+        List<Operation> operations = operationsRef.get();
+
+        assertNotNull(operations);
+        assertEquals(2, operations.size());
+
+        assertEquals(OperationType.PUT, operations.get(0).type());
+        assertEquals(ByteBuffer.wrap(leasesKey(shard0).bytes()), operations.get(0).key());
+
+        byte[] shard0Bytes = new byte[operations.get(0).value().remaining()];
+        operations.get(0).value().duplicate().get(shard0Bytes);
+
+        assertArrayEquals(new LeaseBatch(List.of(legacyLease0)).bytes(), shard0Bytes);
+
+        assertEquals(OperationType.REMOVE, operations.get(1).type());
+        assertEquals(ByteBuffer.wrap(PLACEMENTDRIVER_LEGACY_LEASES_KEY.bytes()), operations.get(1).key());
+    }
+
+    private static TablePartitionId partitionOfAnotherShard(TablePartitionId groupId) {
+        for (int partId = groupId.partitionId() + 1; ; partId++) {
+            TablePartitionId candidate = new TablePartitionId(groupId.tableId(), partId);
+
+            if (leasesShard(candidate) != leasesShard(groupId)) {
+                return candidate;
+            }
+        }
+    }
 }
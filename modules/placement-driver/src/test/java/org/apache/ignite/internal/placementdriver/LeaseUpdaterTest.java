@@ -17,7 +17,6 @@
 
 package org.apache.ignite.internal.placementdriver;
 
-import static java.util.Collections.emptyMap;
 import static java.util.UUID.randomUUID;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.toSet;
@@ -25,7 +24,6 @@ import static org.apache.ignite.internal.distributionzones.rebalance.RebalanceUt
 import static org.apache.ignite.internal.distributionzones.rebalance.RebalanceUtil.STABLE_ASSIGNMENTS_PREFIX_BYTES;
 import static org.apache.ignite.internal.distributionzones.rebalance.RebalanceUtil.pendingPartAssignmentsQueueKey;
 import static org.apache.ignite.internal.distributionzones.rebalance.RebalanceUtil.stablePartAssignmentsKey;
-import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
 import static org.apache.ignite.internal.util.CompletableFutures.trueCompletedFuture;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -34,6 +32,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -108,7 +107,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 public class LeaseUpdaterTest extends BaseIgniteAbstractTest {
     private static final PlacementDriverMessagesFactory PLACEMENT_DRIVER_MESSAGES_FACTORY = new PlacementDriverMessagesFactory();
     /** Empty leases. */
-    private final Leases leases = new Leases(emptyMap(), BYTE_EMPTY_ARRAY);
+    private final Leases leases = Leases.empty();
     /** Cluster nodes. */
     private final LogicalNode stableNode = new LogicalNode(randomUUID(), "test-node-stable", NetworkAddress.from("127.0.0.1:10000"));
     private final LogicalNode pendingNode = new LogicalNode(randomUUID(), "test-node-pending", NetworkAddress.from("127.0.0.1:10001"));
@@ -165,12 +164,13 @@ public class LeaseUpdaterTest extends BaseIgniteAbstractTest {
 
         when(topologyService.logicalTopologyOnLeader()).thenReturn(completedFuture(new LogicalTopologySnapshot(1, List.of(stableNode))));
 
-        lenient().when(metaStorageManager.invoke(any(Condition.class), any(Operation.class), any(Operation.class)))
+        lenient().when(metaStorageManager.invoke(any(Condition.class), anyList(), anyList()))
                 .thenAnswer(invocation -> {
                     Consumer<Lease> leaseConsumer = renewLeaseConsumer;
 
                     if (leaseConsumer != null) {
-                        OperationImpl op = invocation.getArgument(1);
+                        List<Operation> ops = invocation.getArgument(1);
+                        OperationImpl op = (OperationImpl) ops.get(0);
 
                         Lease lease = LeaseBatch.fromBytes(op.value().order(ByteOrder.LITTLE_ENDIAN)).leases().iterator()
                                 .next();
@@ -81,6 +81,7 @@ enum class code : underlying_t {
     COLUMN_NOT_FOUND = 0x20004,
     SCHEMA_VERSION_MISMATCH = 0x20005,
     UNSUPPORTED_PARTITION_TYPE = 0x20006,
+    CHANGES_NOT_RETAINED = 0x20007,
 
     // Client group. Group code: 3
     CONNECTION = 0x30001,
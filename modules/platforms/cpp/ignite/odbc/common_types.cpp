@@ -136,6 +136,7 @@ sql_state error_code_to_sql_state(error::code code) {
             return sql_state::S42S22_COLUMN_NOT_FOUND;
         case error::code::SCHEMA_VERSION_MISMATCH:
         case error::code::UNSUPPORTED_PARTITION_TYPE:
+        case error::code::CHANGES_NOT_RETAINED:
             return sql_state::SHY000_GENERAL_ERROR;
 
         // Client group. Group code: 3
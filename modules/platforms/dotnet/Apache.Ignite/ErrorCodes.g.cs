@@ -162,6 +162,9 @@ namespace Apache.Ignite
 
             /// <summary> UnsupportedPartitionType error. </summary>
             public const int UnsupportedPartitionType = (GroupCode << 16) | (6 & 0xFFFF);
+
+            /// <summary> ChangesNotRetained error. </summary>
+            public const int ChangesNotRetained = (GroupCode << 16) | (7 & 0xFFFF);
         }
 
         /// <summary> Client errors. </summary>
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.LongStream;
 import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.HistogramMetric;
 import org.apache.ignite.internal.metrics.Metric;
 import org.apache.ignite.internal.metrics.MetricSet;
 import org.apache.ignite.internal.metrics.MetricSource;
@@ -83,16 +84,13 @@ public class RaftMetricSource implements MetricSource {
     }
 
     private Map<String, Metric> createMetrics() {
-        long[] bounds = {10L, 20L, 30L, 40L, 50L};
-
         var metrics = new HashMap<String, Metric>();
 
         // jraft-fsmcaller-disruptor
         metrics.put("raft.fsmcaller.disruptor.Batch",
-                new DistributionMetric(
+                new HistogramMetric(
                         "raft.fsmcaller.disruptor.Batch",
-                        "The histogram of the batch size to handle in the state machine for partitions",
-                        bounds
+                        "The histogram of the batch size to handle in the state machine for partitions"
                 ));
         metrics.put("raft.fsmcaller.disruptor.Stripes",
                 new DistributionMetric(
@@ -103,10 +101,9 @@ public class RaftMetricSource implements MetricSource {
 
         // jraft-nodeimpl-disruptor
         metrics.put("raft.nodeimpl.disruptor.Batch",
-                new DistributionMetric(
+                new HistogramMetric(
                         "raft.nodeimpl.disruptor.Batch",
-                        "The histogram of the batch size to handle node operations for partitions",
-                        bounds
+                        "The histogram of the batch size to handle node operations for partitions"
                 ));
         metrics.put("raft.nodeimpl.disruptor.Stripes",
                 new DistributionMetric(
@@ -117,10 +114,9 @@ public class RaftMetricSource implements MetricSource {
 
         // jraft-readonlyservice-disruptor
         metrics.put("raft.readonlyservice.disruptor.Batch",
-                new DistributionMetric(
+                new HistogramMetric(
                         "raft.readonlyservice.disruptor.Batch",
-                        "The histogram of the batch size to handle readonly operations for partitions",
-                        bounds
+                        "The histogram of the batch size to handle readonly operations for partitions"
                 ));
         metrics.put("raft.readonlyservice.disruptor.Stripes",
                 new DistributionMetric(
@@ -131,10 +127,9 @@ public class RaftMetricSource implements MetricSource {
 
         // jraft-logmanager-disruptor
         metrics.put("raft.logmanager.disruptor.Batch",
-                new DistributionMetric(
+                new HistogramMetric(
                         "raft.logmanager.disruptor.Batch",
-                        "The histogram of the batch size to handle in the log for partitions",
-                        bounds
+                        "The histogram of the batch size to handle in the log for partitions"
                 ));
         metrics.put("raft.logmanager.disruptor.Stripes",
                 new DistributionMetric(
@@ -154,7 +149,7 @@ public class RaftMetricSource implements MetricSource {
      */
     public DisruptorMetrics disruptorMetrics(String name) {
         return new DisruptorMetrics(
-                (DistributionMetric) metrics.get(name + ".Batch"),
+                (HistogramMetric) metrics.get(name + ".Batch"),
                 (DistributionMetric) metrics.get(name + ".Stripes")
         );
     }
@@ -173,10 +168,10 @@ public class RaftMetricSource implements MetricSource {
      * Striped disruptor metrics.
      */
     public class DisruptorMetrics {
-        private final DistributionMetric batchSizeHistogramMetric;
+        private final HistogramMetric batchSizeHistogramMetric;
         private final DistributionMetric stripeHistogramMetric;
 
-        DisruptorMetrics(DistributionMetric averageBatchSizeMetric, DistributionMetric stripeHistogramMetric) {
+        DisruptorMetrics(HistogramMetric averageBatchSizeMetric, DistributionMetric stripeHistogramMetric) {
             this.batchSizeHistogramMetric = averageBatchSizeMetric;
             this.stripeHistogramMetric = stripeHistogramMetric;
         }
@@ -29,6 +29,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -38,6 +39,7 @@ import org.apache.ignite.internal.manager.ComponentContext;
 import org.apache.ignite.internal.raft.storage.LogStorageFactory;
 import org.apache.ignite.internal.rocksdb.LoggingRocksDbFlushListener;
 import org.apache.ignite.internal.rocksdb.RocksUtils;
+import org.apache.ignite.internal.rocksdb.metrics.RocksDbMetricSource;
 import org.apache.ignite.internal.thread.NamedThreadFactory;
 import org.apache.ignite.raft.jraft.option.RaftOptions;
 import org.apache.ignite.raft.jraft.storage.LogStorage;
@@ -57,6 +59,7 @@ import org.rocksdb.Env;
 import org.rocksdb.Priority;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.Statistics;
 import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.rocksdb.util.SizeUnit;
@@ -93,6 +96,12 @@ public class DefaultLogStorageFactory implements LogStorageFactory {
 
     private AbstractEventListener flushListener;
 
+    /** Database statistics. */
+    private Statistics statistics;
+
+    /** Metric source of the database. */
+    private final RocksDbMetricSource metricSource;
+
     private final boolean fsync;
 
     /**
@@ -127,6 +136,11 @@ public class DefaultLogStorageFactory implements LogStorageFactory {
         this.logPath = logPath;
         this.fsync = fsync;
 
+        metricSource = new RocksDbMetricSource(
+                RocksDbMetricSource.NAME_PREFIX + "log." + factoryName.replace(' ', '-'),
+                List.of("configuration", "data")
+        );
+
         executorService = Executors.newSingleThreadExecutor(
                 NamedThreadFactory.create(nodeName, "raft-shared-log-storage-pool", LOG)
         );
@@ -155,6 +169,10 @@ public class DefaultLogStorageFactory implements LogStorageFactory {
 
         this.dbOptions = createDbOptions();
 
+        this.statistics = RocksDbMetricSource.createStatistics();
+
+        dbOptions.setStatistics(statistics);
+
         this.writeOptions = new WriteOptions().setSync(dbOptions.useFsync());
 
         this.cfOption = createColumnFamilyOptions();
@@ -184,6 +202,8 @@ public class DefaultLogStorageFactory implements LogStorageFactory {
             assert (columnFamilyHandles.size() == 2);
             this.confHandle = columnFamilyHandles.get(0);
             this.dataHandle = columnFamilyHandles.get(1);
+
+            metricSource.attach(db, statistics, Map.of("configuration", confHandle, "data", dataHandle));
         } catch (Exception e) {
             closeRocksResources();
 
@@ -205,12 +225,15 @@ public class DefaultLogStorageFactory implements LogStorageFactory {
     }
 
     private void closeRocksResources() {
+        metricSource.detach();
+
         // RocksUtils will handle nulls so we are good.
         List<AbstractNativeReference> closables = new ArrayList<>();
         closables.add(confHandle);
         closables.add(dataHandle);
         closables.add(db);
         closables.add(dbOptions);
+        closables.add(statistics);
         closables.add(cfOption);
         closables.add(flushListener);
         closables.add(writeOptions);
@@ -218,6 +241,11 @@ public class DefaultLogStorageFactory implements LogStorageFactory {
         RocksUtils.closeAll(closables);
     }
 
+    /** Returns the metric source of the database shared by the log storages. */
+    public RocksDbMetricSource metricSource() {
+        return metricSource;
+    }
+
     @Override
     public LogStorage createLogStorage(String raftNodeStorageId, RaftOptions raftOptions) {
         // raftOptions is ignored as fsync status is passed via dbOptions.
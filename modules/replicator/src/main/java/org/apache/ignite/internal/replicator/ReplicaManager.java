@@ -406,7 +406,7 @@ public class ReplicaManager extends AbstractEventProducer<LocalReplicaEvent, Loc
                 NetworkMessage msg;
 
                 if (ex == null) {
-                    msg = prepareReplicaResponse(sendTimestamp, res);
+                    msg = prepareReplicaResponse(sendTimestamp, res, replica.listener());
                 } else {
                     if (indicatesUnexpectedProblem(ex)) {
                         throttledLog.warn("Failed to process replica request [request={}].", ex, request);
@@ -432,7 +432,7 @@ public class ReplicaManager extends AbstractEventProducer<LocalReplicaEvent, Loc
                         LOG.debug("Sending delayed response for replica request [request={}]", request);
 
                         if (ex0 == null) {
-                            msg0 = prepareReplicaResponse(sendTimestamp, new ReplicaResult(res0, null));
+                            msg0 = prepareReplicaResponse(sendTimestamp, new ReplicaResult(res0, null), replica.listener());
                         } else {
                             LOG.warn("Failed to process delayed response [request={}]", ex0, request);
 
@@ -1040,20 +1040,26 @@ public class ReplicaManager extends AbstractEventProducer<LocalReplicaEvent, Loc
     }
 
     /**
-     * Prepares replica response.
+     * Prepares replica response. Results that the listener can convert to messages are sent as such, to avoid marshalling them as user
+     * objects.
      */
-    private NetworkMessage prepareReplicaResponse(boolean sendTimestamp, ReplicaResult result) {
+    private NetworkMessage prepareReplicaResponse(boolean sendTimestamp, ReplicaResult result, ReplicaListener listener) {
+        NetworkMessage resultMessage = listener.toResultMessage(result.result());
+        Object resultObject = resultMessage == null ? result.result() : null;
+
         if (sendTimestamp) {
             HybridTimestamp commitTs = result.applyResult().commitTimestamp();
             return REPLICA_MESSAGES_FACTORY
                     .timestampAwareReplicaResponse()
-                    .result(result.result())
+                    .result(resultObject)
+                    .resultMessage(resultMessage)
                     .timestamp(commitTs == null ? clockService.current() : commitTs)
                     .build();
         } else {
             return REPLICA_MESSAGES_FACTORY
                     .replicaResponse()
-                    .result(result.result())
+                    .result(resultObject)
+                    .resultMessage(resultMessage)
                     .build();
         }
     }
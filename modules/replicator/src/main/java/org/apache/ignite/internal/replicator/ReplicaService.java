@@ -119,7 +119,7 @@ public class ReplicaService {
     }
 
     private <R> CompletableFuture<R> sendToReplica(String targetNodeConsistentId, ReplicaRequest req) {
-        return (CompletableFuture<R>) sendToReplicaRaw(targetNodeConsistentId, req).thenApply(res -> res.result());
+        return (CompletableFuture<R>) sendToReplicaRaw(targetNodeConsistentId, req).thenApply(ReplicaResponse::resultValue);
     }
 
     /**
@@ -272,7 +272,7 @@ public class ReplicaService {
      * @see ReplicationTimeoutException If the response could not be received due to a timeout.
      */
     public <R> CompletableFuture<R> invoke(ClusterNode node, ReplicaRequest request) {
-        return invokeRaw(node, request).thenApply(r -> (R) r.result());
+        return invokeRaw(node, request).thenApply(r -> (R) r.resultValue());
     }
 
     /**
@@ -19,9 +19,13 @@ package org.apache.ignite.internal.replicator.listener;
 
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.network.NetworkMessage;
 import org.apache.ignite.internal.raft.service.RaftCommandRunner;
 import org.apache.ignite.internal.replicator.ReplicaResult;
 import org.apache.ignite.internal.replicator.message.ReplicaRequest;
+import org.apache.ignite.internal.replicator.message.ReplicaResponse;
+import org.apache.ignite.internal.replicator.message.ReplicaResultMessage;
+import org.jetbrains.annotations.Nullable;
 
 /** Replica listener. */
 public interface ReplicaListener {
@@ -34,6 +38,17 @@ public interface ReplicaListener {
      */
     CompletableFuture<ReplicaResult> invoke(ReplicaRequest request, UUID senderId);
 
+    /**
+     * Converts a result of {@link #invoke} to a {@link ReplicaResultMessage}, which is sent in {@link ReplicaResponse#resultMessage()}
+     * without being marshalled as a user object.
+     *
+     * @param result Result of the request.
+     * @return Result message or {@code null} if the result should be marshalled.
+     */
+    default @Nullable NetworkMessage toResultMessage(@Nullable Object result) {
+        return null;
+    }
+
     /** Returns Raft-client. */
     RaftCommandRunner raftClient();
 
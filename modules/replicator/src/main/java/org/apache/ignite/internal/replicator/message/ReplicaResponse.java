@@ -30,4 +30,19 @@ public interface ReplicaResponse extends NetworkMessage {
     @Nullable
     @Marshallable
     Object result();
+
+    /**
+     * Result converted to a {@link ReplicaResultMessage}, {@code null} if the result is sent in {@link #result()}.
+     */
+    @Nullable
+    NetworkMessage resultMessage();
+
+    /**
+     * Returns the result of the request, regardless of whether it was sent in {@link #result()} or {@link #resultMessage()}.
+     */
+    default @Nullable Object resultValue() {
+        NetworkMessage resultMessage = resultMessage();
+
+        return resultMessage == null ? result() : ((ReplicaResultMessage) resultMessage).toResult();
+    }
 }
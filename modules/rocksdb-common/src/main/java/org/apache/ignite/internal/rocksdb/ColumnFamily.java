@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.rocksdb;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
 import org.jetbrains.annotations.Nullable;
 import org.rocksdb.ColumnFamilyDescriptor;
@@ -121,6 +122,18 @@ public class ColumnFamily {
         return db.get(cfHandle, key);
     }
 
+    /**
+     * Gets the values associated with the keys from this column family in a single batched lookup.
+     *
+     * @param keys Keys.
+     * @return Values in the order of the keys, {@code null} for the absent keys.
+     * @throws RocksDBException If failed.
+     * @see RocksDB#multiGetAsList(List, List)
+     */
+    public List<byte @Nullable []> multiGet(List<byte[]> keys) throws RocksDBException {
+        return db.multiGetAsList(Collections.nCopies(keys.size(), cfHandle), keys);
+    }
+
     /**
      * Puts a key-value pair into this column family.
      *
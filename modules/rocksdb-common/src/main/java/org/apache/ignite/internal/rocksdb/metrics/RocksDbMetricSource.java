@@ -0,0 +1,317 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.rocksdb.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.LongGauge;
+import org.apache.ignite.internal.metrics.Metric;
+import org.jetbrains.annotations.Nullable;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.Statistics;
+import org.rocksdb.StatsLevel;
+import org.rocksdb.TickerType;
+
+/**
+ * Metric source, which provides metrics of a RocksDB instance: memtable size, compaction debt and number of L0 files, both for the
+ * whole database and for the named column families, and write stalls, block cache hits and misses and bytes read and written, taken
+ * from the {@link Statistics} of the database.
+ *
+ * <p>The database is not known when the source is created, it is {@link #attach attached} after the database is opened and must be
+ * {@link #detach detached} before the database is closed. Metrics of a detached source are zeros.
+ *
+ * <p>Values are sampled lazily: reading a metric samples all the values of the source at once, unless they were sampled less than
+ * {@link #SAMPLE_INTERVAL_MILLIS} ago, so that the cost of the native calls is paid at most once per interval no matter how often
+ * and how many metrics the exporters read.
+ */
+public class RocksDbMetricSource extends AbstractMetricSource<RocksDbMetricSource.Holder> {
+    /** Prefix of the source names. */
+    public static final String NAME_PREFIX = "rocksdb.";
+
+    /** Minimum interval between two samples of the values. */
+    public static final long SAMPLE_INTERVAL_MILLIS = 1_000;
+
+    private static final long SAMPLE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(SAMPLE_INTERVAL_MILLIS);
+
+    /** Properties of the whole database, summed across all column families. */
+    private static final Property[] DB_PROPERTIES = {
+            new Property("MemtableSize", "rocksdb.cur-size-all-mem-tables", "Approximate size of active and unflushed memtables in bytes"),
+            new Property(
+                    "PendingCompactionBytes",
+                    "rocksdb.estimate-pending-compaction-bytes",
+                    "Estimated number of bytes compaction needs to rewrite to bring all levels down under their target sizes"
+            ),
+            new Property("L0Files", "rocksdb.num-files-at-level0", "Number of SST files at level 0"),
+            new Property("LiveSstFilesSize", "rocksdb.live-sst-files-size", "Total size of the SST files of the current version in bytes"),
+            new Property("EstimatedKeys", "rocksdb.estimate-num-keys", "Estimated number of keys")
+    };
+
+    /** Properties of the database, which are not related to a column family. */
+    private static final Property[] DB_WIDE_PROPERTIES = {
+            new Property("RunningCompactions", "rocksdb.num-running-compactions", "Number of currently running compactions"),
+            new Property("RunningFlushes", "rocksdb.num-running-flushes", "Number of currently running flushes"),
+            new Property(
+                    "DelayedWriteRate",
+                    "rocksdb.actual-delayed-write-rate",
+                    "Current rate of delayed writes in bytes per second, 0 if writes are not delayed"
+            )
+    };
+
+    /** Properties reported for every named column family. */
+    private static final Property[] CF_PROPERTIES = {
+            DB_PROPERTIES[0],
+            DB_PROPERTIES[1],
+            DB_PROPERTIES[2],
+            DB_PROPERTIES[3]
+    };
+
+    /** Tickers of the database statistics. */
+    private static final Ticker[] TICKERS = {
+            new Ticker("WriteStallMicros", TickerType.STALL_MICROS, "Total time writes were stalled in microseconds"),
+            new Ticker("BlockCacheHits", TickerType.BLOCK_CACHE_HIT, "Number of block cache hits"),
+            new Ticker("BlockCacheMisses", TickerType.BLOCK_CACHE_MISS, "Number of block cache misses"),
+            new Ticker("BytesRead", TickerType.BYTES_READ, "Number of bytes read by point lookups"),
+            new Ticker("BytesWritten", TickerType.BYTES_WRITTEN, "Number of bytes written by writes"),
+            new Ticker("CompactionBytesRead", TickerType.COMPACT_READ_BYTES, "Number of bytes read by compactions"),
+            new Ticker("CompactionBytesWritten", TickerType.COMPACT_WRITE_BYTES, "Number of bytes written by compactions"),
+            new Ticker("FlushBytesWritten", TickerType.FLUSH_WRITE_BYTES, "Number of bytes written by flushes")
+    };
+
+    /** Names of the column families, which metrics are reported separately. */
+    private final List<String> columnFamilyNames;
+
+    /** Database, {@code null} if the source is detached. Guarded by {@code this}. */
+    private @Nullable RocksDB db;
+
+    /** Statistics of the database. Guarded by {@code this}. */
+    private @Nullable Statistics statistics;
+
+    /** Handles of the named column families, {@code null} for the missing ones. Guarded by {@code this}. */
+    private final ColumnFamilyHandle[] columnFamilies;
+
+    /** Last sampled values. */
+    private volatile long[] values;
+
+    /** Time of the last sample, {@link System#nanoTime()}. */
+    private volatile long sampleTime;
+
+    /** Whether the values have been sampled at least once since the last change of the database. */
+    private volatile boolean sampled;
+
+    /**
+     * Constructor.
+     *
+     * @param name Source name, {@link #NAME_PREFIX} followed by the name of the database.
+     * @param columnFamilyNames Names of the column families, which metrics are reported separately. They are used in metric names,
+     *      and are not required to match the names of the column families in the database.
+     */
+    public RocksDbMetricSource(String name, List<String> columnFamilyNames) {
+        super(name);
+
+        this.columnFamilyNames = List.copyOf(columnFamilyNames);
+        this.columnFamilies = new ColumnFamilyHandle[columnFamilyNames.size()];
+        this.values = new long[valueCount()];
+    }
+
+    /**
+     * Creates statistics to collect for a database and to pass to {@link #attach}. The statistics must be set to the options of the
+     * database before it is opened and closed after the database is closed.
+     *
+     * <p>Statistics are collected at the level that excludes detailed timers, which are the only expensive part of them.
+     */
+    public static Statistics createStatistics() {
+        Statistics statistics = new Statistics();
+
+        statistics.setStatsLevel(StatsLevel.EXCEPT_DETAILED_TIMERS);
+
+        return statistics;
+    }
+
+    /**
+     * Attaches the source to an opened database.
+     *
+     * @param db Database.
+     * @param statistics Statistics of the database, {@code null} if the database collects no statistics.
+     * @param columnFamilies Handles of the named column families by their names passed to the constructor.
+     */
+    public synchronized void attach(RocksDB db, @Nullable Statistics statistics, Map<String, ColumnFamilyHandle> columnFamilies) {
+        this.db = db;
+        this.statistics = statistics;
+
+        for (int i = 0; i < columnFamilyNames.size(); i++) {
+            this.columnFamilies[i] = columnFamilies.get(columnFamilyNames.get(i));
+        }
+
+        sampled = false;
+    }
+
+    /** Detaches the source from the database. Must be called before the database is closed. */
+    public synchronized void detach() {
+        db = null;
+        statistics = null;
+
+        for (int i = 0; i < columnFamilies.length; i++) {
+            columnFamilies[i] = null;
+        }
+
+        sampled = false;
+    }
+
+    private int valueCount() {
+        return DB_PROPERTIES.length + DB_WIDE_PROPERTIES.length + TICKERS.length + CF_PROPERTIES.length * columnFamilyNames.size();
+    }
+
+    private long value(int idx) {
+        if (!sampled || System.nanoTime() - sampleTime >= SAMPLE_INTERVAL_NANOS) {
+            sample();
+        }
+
+        return values[idx];
+    }
+
+    private synchronized void sample() {
+        long now = System.nanoTime();
+
+        // Another thread could have sampled the values while this one was waiting for the lock.
+        if (sampled && now - sampleTime < SAMPLE_INTERVAL_NANOS) {
+            return;
+        }
+
+        long[] newValues = new long[values.length];
+
+        RocksDB db = this.db;
+
+        if (db != null) {
+            int idx = 0;
+
+            for (Property property : DB_PROPERTIES) {
+                newValues[idx++] = aggregatedProperty(db, property.property);
+            }
+
+            for (Property property : DB_WIDE_PROPERTIES) {
+                newValues[idx++] = property(db, null, property.property);
+            }
+
+            for (Ticker ticker : TICKERS) {
+                newValues[idx++] = statistics == null ? 0 : statistics.getTickerCount(ticker.type);
+            }
+
+            for (ColumnFamilyHandle cf : columnFamilies) {
+                for (Property property : CF_PROPERTIES) {
+                    newValues[idx++] = cf == null ? 0 : property(db, cf, property.property);
+                }
+            }
+        }
+
+        values = newValues;
+        sampleTime = now;
+        sampled = true;
+    }
+
+    private static long aggregatedProperty(RocksDB db, String property) {
+        try {
+            return db.getAggregatedLongProperty(property);
+        } catch (RocksDBException e) {
+            // The property is not supported by the database, there is nothing to report.
+            return 0;
+        }
+    }
+
+    private static long property(RocksDB db, @Nullable ColumnFamilyHandle cf, String property) {
+        try {
+            return cf == null ? db.getLongProperty(property) : db.getLongProperty(cf, property);
+        } catch (RocksDBException e) {
+            // The property is not supported by the database, there is nothing to report.
+            return 0;
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder. */
+    protected class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final List<Metric> metrics = new ArrayList<>(valueCount());
+
+        private Holder() {
+            for (Property property : DB_PROPERTIES) {
+                addGauge(property.metricName, property.description);
+            }
+
+            for (Property property : DB_WIDE_PROPERTIES) {
+                addGauge(property.metricName, property.description);
+            }
+
+            for (Ticker ticker : TICKERS) {
+                addGauge(ticker.metricName, ticker.description);
+            }
+
+            for (String cfName : columnFamilyNames) {
+                for (Property property : CF_PROPERTIES) {
+                    addGauge(cfName + '.' + property.metricName, property.description + " of the " + cfName + " column family");
+                }
+            }
+        }
+
+        private void addGauge(String name, String description) {
+            int idx = metrics.size();
+
+            metrics.add(new LongGauge(name, description, () -> value(idx)));
+        }
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return metrics;
+        }
+    }
+
+    private static class Property {
+        final String metricName;
+
+        final String property;
+
+        final String description;
+
+        Property(String metricName, String property, String description) {
+            this.metricName = metricName;
+            this.property = property;
+            this.description = description;
+        }
+    }
+
+    private static class Ticker {
+        final String metricName;
+
+        final TickerType type;
+
+        final String description;
+
+        Ticker(String metricName, TickerType type, String description) {
+            this.metricName = metricName;
+            this.type = type;
+            this.description = description;
+        }
+    }
+}
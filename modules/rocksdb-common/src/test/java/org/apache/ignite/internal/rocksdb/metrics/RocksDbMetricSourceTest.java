@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.rocksdb.metrics;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.rocksdb.RocksDB.DEFAULT_COLUMN_FAMILY;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.testframework.WorkDirectory;
+import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.DBOptions;
+import org.rocksdb.FlushOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.Statistics;
+
+/** Tests for {@link RocksDbMetricSource}. */
+@ExtendWith(WorkDirectoryExtension.class)
+class RocksDbMetricSourceTest extends BaseIgniteAbstractTest {
+    @WorkDirectory
+    private Path workDir;
+
+    @Test
+    void testMetrics() throws Exception {
+        var metricSource = new RocksDbMetricSource(RocksDbMetricSource.NAME_PREFIX + "test", List.of("data", "missing"));
+
+        MetricSet metricSet = metricSource.enable();
+
+        assertThat(metricSet.<LongMetric>get("BytesWritten").value(), is(0L));
+
+        List<ColumnFamilyDescriptor> descriptors = List.of(new ColumnFamilyDescriptor(DEFAULT_COLUMN_FAMILY));
+        List<ColumnFamilyHandle> handles = new ArrayList<>();
+
+        try (
+                Statistics statistics = RocksDbMetricSource.createStatistics();
+                DBOptions options = new DBOptions().setCreateIfMissing(true).setStatistics(statistics);
+                RocksDB db = RocksDB.open(options, workDir.toString(), descriptors, handles);
+                FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)
+        ) {
+            ColumnFamilyHandle handle = handles.get(0);
+
+            try {
+                for (int i = 0; i < 100; i++) {
+                    db.put(handle, ("key" + i).getBytes(UTF_8), ("value" + i).getBytes(UTF_8));
+                }
+
+                db.flush(flushOptions, handle);
+
+                metricSource.attach(db, statistics, Map.of("data", handle));
+
+                assertThat(metricSet.<LongMetric>get("BytesWritten").value(), is(greaterThan(0L)));
+                assertThat(metricSet.<LongMetric>get("FlushBytesWritten").value(), is(greaterThan(0L)));
+                assertThat(metricSet.<LongMetric>get("L0Files").value(), is(1L));
+                assertThat(metricSet.<LongMetric>get("LiveSstFilesSize").value(), is(greaterThan(0L)));
+                assertThat(metricSet.<LongMetric>get("data.L0Files").value(), is(1L));
+                assertThat(metricSet.<LongMetric>get("missing.L0Files").value(), is(0L));
+
+                metricSource.detach();
+
+                assertThat(metricSet.<LongMetric>get("BytesWritten").value(), is(0L));
+                assertThat(metricSet.<LongMetric>get("data.L0Files").value(), is(0L));
+            } finally {
+                handle.close();
+            }
+        }
+    }
+}
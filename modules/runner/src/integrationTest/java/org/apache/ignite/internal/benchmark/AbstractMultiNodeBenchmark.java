@@ -75,6 +75,9 @@ public class AbstractMultiNodeBenchmark {
     @Param({"false"})
     private boolean fsync;
 
+    @Param({"NIO"})
+    private String networkTransport;
+
     @Nullable
     protected String clusterConfiguration() {
         return "ignite {}";
@@ -203,14 +206,16 @@ public class AbstractMultiNodeBenchmark {
         String configTemplate = "ignite {\n"
                 + "  \"network\": {\n"
                 + "    \"port\":{},\n"
+                + "    \"transport\": \"" + networkTransport() + "\",\n"
                 + "    \"nodeFinder\":{\n"
                 + "      \"netClusterNodes\": [ {} ]\n"
                 + "    }\n"
                 + "  },\n"
                 + "  storage.profiles: {"
                 + "        " + DEFAULT_STORAGE_PROFILE + ".engine: aipersist, "
-                + "        " + DEFAULT_STORAGE_PROFILE + ".sizeBytes: 2073741824 " // Avoid page replacement.
+                + "        " + DEFAULT_STORAGE_PROFILE + ".sizeBytes: " + storageProfileSizeBytes()
                 + "  },\n"
+                + "  storage.engines.aipersist: { " + aipersistConfiguration() + " },\n"
                 + "  clientConnector: { port:{} },\n"
                 + "  clientConnector.sendServerExceptionStackTraceToClient: true\n"
                 + "  rest.port: {},\n"
@@ -269,6 +274,21 @@ public class AbstractMultiNodeBenchmark {
         return fsync;
     }
 
+    /** Network transport of the started nodes, run with {@code -p networkTransport=NIO,EPOLL} to compare the transports. */
+    protected String networkTransport() {
+        return networkTransport;
+    }
+
+    /** Size of the data region of the default storage profile, the default one is big enough to avoid page replacement. */
+    protected long storageProfileSizeBytes() {
+        return 2073741824;
+    }
+
+    /** Properties of the aipersist storage engine of the started nodes, e.g. {@code "prefetchDepth: 16"}. */
+    protected String aipersistConfiguration() {
+        return "";
+    }
+
     protected int nodes() {
         return 3;
     }
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmark;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.util.SubscriptionUtils;
+import org.apache.ignite.sql.IgniteSql;
+import org.apache.ignite.table.DataStreamerItem;
+import org.apache.ignite.table.DataStreamerOptions;
+import org.apache.ignite.table.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of full scans of a table, that is several times bigger than the data region, with and without prefetching of the pages
+ * ahead of the scans. Every scan evicts the pages loaded by the previous one, so the pages are read from the partition files (or the OS
+ * page cache, drop it between the iterations to measure reads from the disk).
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(1)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class SqlColdScanBenchmark extends AbstractMultiNodeBenchmark {
+    private static final int TABLE_SIZE = 1_000_000;
+
+    private static final long REGION_SIZE = 256L * 1024 * 1024;
+
+    private static final String PAYLOAD = "a".repeat(1000);
+
+    @Param({"0", "16", "64"})
+    private int prefetchDepth;
+
+    private IgniteSql sql;
+
+    /** Fills the table with data. */
+    @Setup
+    public void setUp() throws Exception {
+        try {
+            sql = publicIgnite.sql();
+
+            sql.executeScript(
+                    "CREATE ZONE single_partition_zone (replicas 1, partitions 1) STORAGE PROFILES ['default'];"
+                            + "CREATE TABLE test (id INT PRIMARY KEY, val VARCHAR(1000)) ZONE single_partition_zone;"
+            );
+
+            CompletableFuture<?> result = publicIgnite.tables().table("test")
+                    .recordView()
+                    .streamData(SubscriptionUtils.fromIterable(() -> IntStream.range(0, TABLE_SIZE)
+                            .mapToObj(i -> DataStreamerItem.of(Tuple.create()
+                                    .set("id", i)
+                                    .set("val", PAYLOAD))
+                            ).iterator()), DataStreamerOptions.DEFAULT);
+
+            result.get(15, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            nodeTearDown();
+
+            throw e;
+        }
+    }
+
+    /** Measures a full scan of the table, that reads every row. */
+    @Benchmark
+    public void fullScan(Blackhole bh) {
+        try (var rs = sql.execute(null, "SELECT /*+ NO_INDEX */ COUNT(*) FROM test WHERE val <> 'b'")) {
+            while (rs.hasNext()) {
+                bh.consume(rs.next());
+            }
+        }
+    }
+
+    /**
+     * Benchmark's entry point.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + SqlColdScanBenchmark.class.getSimpleName() + ".*")
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Override
+    protected long storageProfileSizeBytes() {
+        return REGION_SIZE;
+    }
+
+    @Override
+    protected String aipersistConfiguration() {
+        return "prefetchDepth: " + prefetchDepth;
+    }
+
+    @Override
+    protected int nodes() {
+        return 1;
+    }
+
+    @Override
+    protected void createTable(String tableName) {
+        // NO-OP
+    }
+}
@@ -380,7 +380,7 @@ public class ItIgniteNodeRestartTest extends BaseIgniteRestartTest {
         NetworkConfiguration networkConfiguration = nodeCfgMgr.configurationRegistry()
                 .getConfiguration(NetworkExtensionConfiguration.KEY).network();
 
-        var threadPoolsManager = new ThreadPoolsManager(name);
+        var threadPoolsManager = new ThreadPoolsManager(name, new NoOpMetricManager());
 
         var failureProcessor = new NoOpFailureManager();
 
@@ -793,7 +793,8 @@ public class ItIgniteNodeRestartTest extends BaseIgniteRestartTest {
                 partitionsLogStorageFactory,
                 partitionReplicaLifecycleListener,
                 minTimeCollectorService,
-                systemDistributedConfiguration
+                systemDistributedConfiguration,
+                metricManager
         );
 
         var indexManager = new IndexManager(
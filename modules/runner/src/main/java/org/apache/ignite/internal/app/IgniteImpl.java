@@ -181,6 +181,7 @@ import org.apache.ignite.internal.network.MessagingService;
 import org.apache.ignite.internal.network.NettyBootstrapFactory;
 import org.apache.ignite.internal.network.NettyWorkersRegistrar;
 import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.network.compression.NetworkCompressionMetricSource;
 import org.apache.ignite.internal.network.configuration.NetworkConfiguration;
 import org.apache.ignite.internal.network.configuration.NetworkExtensionConfiguration;
 import org.apache.ignite.internal.network.recovery.VaultStaleIds;
@@ -205,6 +206,7 @@ import org.apache.ignite.internal.raft.configuration.RaftExtensionConfiguration;
 import org.apache.ignite.internal.raft.server.impl.GroupStoragesContextResolver;
 import org.apache.ignite.internal.raft.storage.GroupStoragesDestructionIntents;
 import org.apache.ignite.internal.raft.storage.LogStorageFactory;
+import org.apache.ignite.internal.raft.storage.impl.DefaultLogStorageFactory;
 import org.apache.ignite.internal.raft.storage.impl.VaultGroupStoragesDestructionIntents;
 import org.apache.ignite.internal.raft.storage.impl.VolatileLogStorageFactoryCreator;
 import org.apache.ignite.internal.raft.util.SharedLogStorageFactoryUtils;
@@ -230,6 +232,7 @@ import org.apache.ignite.internal.rest.node.NodeManagementRestFactory;
 import org.apache.ignite.internal.rest.recovery.DisasterRecoveryFactory;
 import org.apache.ignite.internal.rest.recovery.system.SystemDisasterRecoveryFactory;
 import org.apache.ignite.internal.rest.sql.SqlQueryRestFactory;
+import org.apache.ignite.internal.rocksdb.metrics.RocksDbMetricSource;
 import org.apache.ignite.internal.schema.SchemaManager;
 import org.apache.ignite.internal.schema.SchemaSyncService;
 import org.apache.ignite.internal.schema.configuration.GcConfiguration;
@@ -267,7 +270,6 @@ import org.apache.ignite.internal.table.distributed.schema.ThreadLocalPartitionC
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
 import org.apache.ignite.internal.thread.NamedThreadFactory;
 import org.apache.ignite.internal.threading.PublicApiThreadingIgniteCatalog;
-import org.apache.ignite.internal.tx.LockManager;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.configuration.TransactionConfiguration;
 import org.apache.ignite.internal.tx.configuration.TransactionExtensionConfiguration;
@@ -280,6 +282,7 @@ import org.apache.ignite.internal.tx.impl.TransactionIdGenerator;
 import org.apache.ignite.internal.tx.impl.TransactionInflights;
 import org.apache.ignite.internal.tx.impl.TxManagerImpl;
 import org.apache.ignite.internal.tx.message.TxMessageGroup;
+import org.apache.ignite.internal.tx.metrics.LockManagerMetricSource;
 import org.apache.ignite.internal.tx.storage.state.rocksdb.TxStateRocksDbSharedStorage;
 import org.apache.ignite.internal.util.CollectionUtils;
 import org.apache.ignite.internal.vault.VaultManager;
@@ -428,6 +431,12 @@ public class IgniteImpl implements Ignite {
     /** Metric messaging. */
     private final MetricMessaging metricMessaging;
 
+    /** Metric source of the compression of messages sent to other nodes. */
+    private final NetworkCompressionMetricSource networkCompressionMetricSource;
+
+    /** Metric source of the lock manager. */
+    private final LockManagerMetricSource lockManagerMetricSource;
+
     private final IgniteDeployment deploymentManager;
 
     private final DistributionZoneManager distributionZoneManager;
@@ -524,11 +533,11 @@ public class IgniteImpl implements Ignite {
 
         lifecycleManager = new LifecycleManager(name);
 
-        threadPoolsManager = new ThreadPoolsManager(name);
+        metricManager = new MetricManagerImpl();
 
-        vaultMgr = new VaultManager(new PersistentVaultService(vaultPath(workDir)));
+        threadPoolsManager = new ThreadPoolsManager(name, metricManager);
 
-        metricManager = new MetricManagerImpl();
+        vaultMgr = new VaultManager(new PersistentVaultService(vaultPath(workDir)));
 
         ConfigurationModules modules = loadConfigurationModules(serviceProviderClassLoader);
 
@@ -599,6 +608,8 @@ public class IgniteImpl implements Ignite {
                 failureManager
         );
 
+        networkCompressionMetricSource = new NetworkCompressionMetricSource();
+
         clusterSvc = new ScaleCubeClusterServiceFactory().createClusterService(
                 name,
                 networkConfiguration,
@@ -609,7 +620,8 @@ public class IgniteImpl implements Ignite {
                 criticalWorkerRegistry,
                 failureManager,
                 ChannelTypeRegistryProvider.loadByServiceLoader(serviceProviderClassLoader),
-                new DefaultIgniteProductVersionSource()
+                new DefaultIgniteProductVersionSource(),
+                networkCompressionMetricSource
         );
 
         clock = new HybridClockImpl(failureManager);
@@ -647,6 +659,10 @@ public class IgniteImpl implements Ignite {
                 true
         );
 
+        registerLogStorageMetrics(partitionsLogStorageFactory);
+        registerLogStorageMetrics(msLogStorageFactory);
+        registerLogStorageMetrics(cmgLogStorageFactory);
+
         RaftGroupOptionsConfigurer cmgRaftConfigurer =
                 RaftGroupOptionsConfigHelper.configureProperties(cmgLogStorageFactory, cmgWorkDir.metaPath());
 
@@ -762,6 +778,8 @@ public class IgniteImpl implements Ignite {
                 threadPoolsManager.commonScheduler()
         );
 
+        registerRocksDbMetrics(storage.metricSource());
+
         metaStorageMgr = new MetaStorageManagerImpl(
                 clusterSvc,
                 cmgMgr,
@@ -941,6 +959,7 @@ public class IgniteImpl implements Ignite {
 
         systemViewManager = new SystemViewManagerImpl(name, catalogManager, failureManager);
         nodeAttributesCollector.register(systemViewManager);
+        systemViewManager.register(threadPoolsManager);
         logicalTopology.addEventListener(systemViewManager);
         systemViewManager.register(catalogManager);
 
@@ -1010,7 +1029,9 @@ public class IgniteImpl implements Ignite {
 
         var transactionInflights = new TransactionInflights(placementDriverMgr.placementDriver(), clockService);
 
-        LockManager lockMgr = new HeapLockManager(systemConfiguration);
+        HeapLockManager lockMgr = new HeapLockManager(systemConfiguration);
+
+        lockManagerMetricSource = lockMgr.metricSource();
 
         // TODO: IGNITE-19344 - use nodeId that is validated on join (and probably generated differently).
         txManager = new TxManagerImpl(
@@ -1115,7 +1136,8 @@ public class IgniteImpl implements Ignite {
                 partitionsLogStorageFactory,
                 partitionReplicaLifecycleManager,
                 minTimeCollectorService,
-                systemDistributedConfiguration
+                systemDistributedConfiguration,
+                metricManager
         );
 
         disasterRecoveryManager = new DisasterRecoveryManager(
@@ -1199,7 +1221,13 @@ public class IgniteImpl implements Ignite {
 
         ComputeConfiguration computeCfg = nodeConfigRegistry.getConfiguration(ComputeExtensionConfiguration.KEY).compute();
         InMemoryComputeStateMachine stateMachine = new InMemoryComputeStateMachine(computeCfg, name);
-        ComputeExecutorImpl computeExecutor = new ComputeExecutorImpl(this, stateMachine, computeCfg, clusterSvc.topologyService());
+        ComputeExecutorImpl computeExecutor = new ComputeExecutorImpl(
+                this,
+                stateMachine,
+                computeCfg,
+                clusterSvc.topologyService(),
+                metricManager
+        );
 
         computeComponent = new ComputeComponentImpl(
                 name,
@@ -1421,6 +1449,11 @@ public class IgniteImpl implements Ignite {
             metricManager.registerSource(osMetrics);
             metricManager.enable(osMetrics);
 
+            metricManager.registerSource(networkCompressionMetricSource);
+            ((DefaultMessagingService) clusterSvc.messagingService()).threadPoolMetricSources().forEach(metricManager::registerSource);
+            metricManager.registerSource(txManager.metricSource());
+            metricManager.registerSource(lockManagerMetricSource);
+
             // Start the components that are required to join the cluster.
             // TODO https://issues.apache.org/jira/browse/IGNITE-22570
             CompletableFuture<Void> componentsStartFuture = lifecycleManager.startComponentsAsync(
@@ -1616,6 +1649,18 @@ public class IgniteImpl implements Ignite {
         return awaitSelfInLogicalTopologyFuture;
     }
 
+    private void registerLogStorageMetrics(LogStorageFactory logStorageFactory) {
+        // Logit log storage is not based on RocksDB.
+        if (logStorageFactory instanceof DefaultLogStorageFactory) {
+            registerRocksDbMetrics(((DefaultLogStorageFactory) logStorageFactory).metricSource());
+        }
+    }
+
+    private void registerRocksDbMetrics(RocksDbMetricSource metricSource) {
+        metricManager.registerSource(metricSource);
+        metricManager.enable(metricSource);
+    }
+
     private void checkSelfInTopology(
             LogicalTopologySnapshot logicalTopologySnapshot,
             CompletableFuture<Void> awaitSelfInLogicalTopologyFuture,
@@ -25,26 +25,44 @@ import static org.apache.ignite.internal.thread.ThreadOperation.STORAGE_WRITE;
 import static org.apache.ignite.internal.thread.ThreadOperation.TX_STATE_STORAGE_ACCESS;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadPoolExecutor;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.manager.ComponentContext;
 import org.apache.ignite.internal.manager.IgniteComponent;
+import org.apache.ignite.internal.metrics.MetricManager;
+import org.apache.ignite.internal.metrics.sources.ThreadPoolMetricSource;
+import org.apache.ignite.internal.metrics.sources.ThreadPoolMetricSource.StripeState;
+import org.apache.ignite.internal.systemview.api.SystemView;
+import org.apache.ignite.internal.systemview.api.SystemViewProvider;
+import org.apache.ignite.internal.systemview.api.SystemViews;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
+import org.apache.ignite.internal.thread.InstrumentedThreadPoolExecutor;
 import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.apache.ignite.internal.type.NativeTypes;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.internal.util.SubscriptionUtils;
 
 /**
  * Component that hosts thread pools which do not belong to a certain component and which are global to an Ignite instance.
+ *
+ * <p>The component also exposes the {@code THREAD_POOLS} system view, which shows the state of every stripe of the thread pools that
+ * have a {@link ThreadPoolMetricSource} registered in the metric manager.
  */
-public class ThreadPoolsManager implements IgniteComponent {
+public class ThreadPoolsManager implements IgniteComponent, SystemViewProvider {
     private static final IgniteLogger LOG = Loggers.forClass(ThreadPoolsManager.class);
 
+    private static final String TABLE_IO_POOL_NAME = "tableManager-io";
+
+    private static final String PARTITION_OPERATIONS_POOL_NAME = "partition-operations";
+
+    private final MetricManager metricManager;
+
     /**
      * Separate executor for IO operations like partition storage initialization, partition raft group meta data persisting,
      * index storage creation...
@@ -58,26 +76,37 @@ public class ThreadPoolsManager implements IgniteComponent {
 
     private final ScheduledExecutorService commonScheduler;
 
+    private final List<ThreadPoolMetricSource> metricSources;
+
     /**
      * Constructor.
+     *
+     * @param nodeName Node name.
+     * @param metricManager Metric manager to register the metric sources of the thread pools.
      */
-    public ThreadPoolsManager(String nodeName) {
+    public ThreadPoolsManager(String nodeName, MetricManager metricManager) {
+        this.metricManager = metricManager;
+
         int cpus = Runtime.getRuntime().availableProcessors();
 
-        tableIoExecutor = new ThreadPoolExecutor(
+        var tableIoExecutor = new InstrumentedThreadPoolExecutor(
                 Math.min(cpus * 3, 25),
                 Integer.MAX_VALUE,
                 100,
                 MILLISECONDS,
                 new LinkedBlockingQueue<>(),
-                IgniteThreadFactory.create(nodeName, "tableManager-io", LOG, STORAGE_READ, STORAGE_WRITE));
+                IgniteThreadFactory.create(nodeName, TABLE_IO_POOL_NAME, LOG, STORAGE_READ, STORAGE_WRITE));
 
         int partitionsOperationsThreads = Math.min(cpus * 3, 25);
-        partitionOperationsExecutor = Executors.newFixedThreadPool(
+        var partitionOperationsExecutor = new InstrumentedThreadPoolExecutor(
+                partitionsOperationsThreads,
                 partitionsOperationsThreads,
+                0,
+                MILLISECONDS,
+                new LinkedBlockingQueue<>(),
                 IgniteThreadFactory.create(
                         nodeName,
-                        "partition-operations",
+                        PARTITION_OPERATIONS_POOL_NAME,
                         LOG,
                         STORAGE_READ,
                         STORAGE_WRITE,
@@ -86,17 +115,28 @@ public class ThreadPoolsManager implements IgniteComponent {
                 )
         );
 
+        this.tableIoExecutor = tableIoExecutor;
+        this.partitionOperationsExecutor = partitionOperationsExecutor;
+
+        metricSources = List.of(
+                new ThreadPoolMetricSource(TABLE_IO_POOL_NAME, List.of(tableIoExecutor)),
+                new ThreadPoolMetricSource(PARTITION_OPERATIONS_POOL_NAME, List.of(partitionOperationsExecutor))
+        );
+
         commonScheduler = Executors.newSingleThreadScheduledExecutor(NamedThreadFactory.create(nodeName, "common-scheduler", LOG));
     }
 
     @Override
     public CompletableFuture<Void> startAsync(ComponentContext componentContext) {
-        // No-op.
+        metricSources.forEach(metricManager::registerSource);
+
         return nullCompletedFuture();
     }
 
     @Override
     public CompletableFuture<Void> stopAsync(ComponentContext componentContext) {
+        metricSources.forEach(metricManager::unregisterSource);
+
         IgniteUtils.shutdownAndAwaitTermination(tableIoExecutor, 10, SECONDS);
         IgniteUtils.shutdownAndAwaitTermination(partitionOperationsExecutor, 10, SECONDS);
         IgniteUtils.shutdownAndAwaitTermination(commonScheduler, 10, SECONDS);
@@ -124,4 +164,29 @@ public class ThreadPoolsManager implements IgniteComponent {
     public ScheduledExecutorService commonScheduler() {
         return commonScheduler;
     }
+
+    @Override
+    public List<SystemView<?>> systemViews() {
+        return List.of(threadPoolsView());
+    }
+
+    private SystemView<?> threadPoolsView() {
+        Iterable<StripeState> stripes = () -> metricManager.metricSources().stream()
+                .filter(ThreadPoolMetricSource.class::isInstance)
+                .map(ThreadPoolMetricSource.class::cast)
+                .flatMap(source -> source.snapshot().stream())
+                .iterator();
+
+        return SystemViews.<StripeState>nodeViewBuilder()
+                .name("THREAD_POOLS")
+                .nodeNameColumnAlias("NODE_NAME")
+                .<String>addColumn("POOL_NAME", NativeTypes.stringOf(Short.MAX_VALUE), StripeState::poolName)
+                .<Integer>addColumn("STRIPE", NativeTypes.INT32, StripeState::stripe)
+                .<Integer>addColumn("THREADS", NativeTypes.INT32, StripeState::poolSize)
+                .<Integer>addColumn("ACTIVE_THREADS", NativeTypes.INT32, StripeState::activeCount)
+                .<Integer>addColumn("QUEUE_SIZE", NativeTypes.INT32, StripeState::queueSize)
+                .<Long>addColumn("COMPLETED_TASKS", NativeTypes.INT64, StripeState::completedTaskCount)
+                .dataProvider(SubscriptionUtils.fromIterable(stripes))
+                .build();
+    }
 }
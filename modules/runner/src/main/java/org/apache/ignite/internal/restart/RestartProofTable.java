@@ -17,11 +17,14 @@
 
 package org.apache.ignite.internal.restart;
 
+import java.util.concurrent.Flow.Publisher;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.internal.table.TableViewInternal;
 import org.apache.ignite.internal.table.distributed.schema.SchemaVersionsImpl;
 import org.apache.ignite.internal.wrapper.Wrapper;
 import org.apache.ignite.internal.wrapper.Wrappers;
+import org.apache.ignite.table.ChangeEvent;
+import org.apache.ignite.table.ChangeStreamOptions;
 import org.apache.ignite.table.KeyValueView;
 import org.apache.ignite.table.QualifiedName;
 import org.apache.ignite.table.RecordView;
@@ -130,6 +133,11 @@ class RestartProofTable implements Table, Wrapper {
         );
     }
 
+    @Override
+    public Publisher<ChangeEvent> changes(ChangeStreamOptions options) {
+        return attachmentLock.attached(ignite -> tableCache.actualFor(ignite).changes(options));
+    }
+
     @Override
     public <T> T unwrap(Class<T> classToUnwrap) {
         return attachmentLock.attached(ignite -> Wrappers.unwrap(tableCache.actualFor(ignite), classToUnwrap));
@@ -315,6 +315,28 @@ public class ItAggregatesTest extends BaseSqlIntegrationTest {
         assertEquals("Ilya", val);
     }
 
+    @ParameterizedTest
+    @MethodSource("provideRules")
+    public void testApproxCountDistinct(String[] rules) {
+        assertQuery("SELECT APPROX_COUNT_DISTINCT(a), APPROX_COUNT_DISTINCT(s) FROM test_a_b_s")
+                .disableRules(rules)
+                .returns(4L, 3L)
+                .check();
+
+        assertQuery("SELECT a, APPROX_COUNT_DISTINCT(b) FROM test_a_b_s GROUP BY a ORDER BY a")
+                .disableRules(rules)
+                .returns(10, 1L)
+                .returns(11, 2L)
+                .returns(12, 1L)
+                .returns(13, 1L)
+                .check();
+
+        assertQuery("SELECT APPROX_COUNT_DISTINCT(a) FROM test_a_b_s WHERE a > 100")
+                .disableRules(rules)
+                .returns(0L)
+                .check();
+    }
+
     @Test
     public void testColocatedAggregate() {
         String sql = "SELECT val1, count(val2) FROM t1_colo_val1 GROUP BY val1";
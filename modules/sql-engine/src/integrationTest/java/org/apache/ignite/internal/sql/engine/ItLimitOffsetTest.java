@@ -25,6 +25,7 @@ import java.util.Arrays;
 import java.util.List;
 import org.apache.ignite.internal.sql.BaseSqlIntegrationTest;
 import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.sql.engine.util.QueryChecker;
 import org.apache.ignite.lang.ErrorGroups.Sql;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -139,6 +140,48 @@ public class ItLimitOffsetTest extends BaseSqlIntegrationTest {
         assertQuery("SELECT (SELECT pk FROM test ORDER BY pk LIMIT 1 OFFSET 10)").returns(new Object[]{null}).check();
     }
 
+    /** Check that limit pushed down to index scans of the source fragments returns the first rows in the index order. */
+    @Test
+    public void testLimitOffsetOverSortedIndex() {
+        sql("CREATE INDEX test_col0_idx ON test USING SORTED (col0 DESC)");
+
+        for (long i = 0; i < 100; ++i) {
+            sql(String.format("INSERT INTO test VALUES(%d, %d);", i, i));
+        }
+
+        assertQuery("SELECT col0 FROM test ORDER BY col0 DESC LIMIT 3 OFFSET 2")
+                .matches(QueryChecker.containsIndexScan("PUBLIC", "TEST", "TEST_COL0_IDX"))
+                .ordered()
+                .returns(97)
+                .returns(96)
+                .returns(95)
+                .check();
+
+        assertQuery("SELECT col0 FROM test ORDER BY col0 DESC LIMIT ? OFFSET ?")
+                .withParams(2, 10)
+                .ordered()
+                .returns(89)
+                .returns(88)
+                .check();
+    }
+
+    /** Check that the sum of offset and limit pushed to the source fragments does not overflow. */
+    @Test
+    public void testLimitOffsetSumOverflow() {
+        for (long i = 0; i < 10; ++i) {
+            sql(String.format("INSERT INTO test VALUES(%d, %d);", i, i));
+        }
+
+        assertQuery("SELECT count(*) FROM (SELECT * FROM test LIMIT " + Long.MAX_VALUE + " OFFSET 1)")
+                .returns(9L)
+                .check();
+
+        assertQuery("SELECT count(*) FROM (SELECT * FROM test LIMIT ? OFFSET ?)")
+                .withParams(Long.MAX_VALUE, 2L)
+                .returns(8L)
+                .check();
+    }
+
     /**
      * Check query with specified limit and offset.
      *
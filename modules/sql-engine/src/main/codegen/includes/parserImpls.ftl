@@ -929,7 +929,7 @@ Boolean SqlKillNoWait():
 }
 
 /**
- * Parses an EXPLAIN PLAN statement.
+ * Parses an EXPLAIN PLAN or EXPLAIN ANALYZE statement.
  */
 SqlNode SqlIgniteExplain() :
 {
@@ -940,26 +940,33 @@ SqlNode SqlIgniteExplain() :
     final SqlExplainFormat format;
 }
 {
-    <EXPLAIN> { s = span(); } <PLAN>
-    [ detailLevel = ExplainDetailLevel() ]
-    depth = ExplainDepth()
+    <EXPLAIN> { s = span(); }
     (
-        LOOKAHEAD(2)
-        <AS> <XML> { format = SqlExplainFormat.XML; }
-    |
-        LOOKAHEAD(2)
-        <AS> <JSON> { format = SqlExplainFormat.JSON; }
-    |
-        <AS> <DOT_FORMAT> { format = SqlExplainFormat.DOT; }
+        <ANALYZE> stmt = SqlQueryOrDml() {
+            return new IgniteSqlExplainAnalyze(s.end(this), stmt, nDynamicParams);
+        }
     |
-        { format = SqlExplainFormat.TEXT; }
+        <PLAN>
+        [ detailLevel = ExplainDetailLevel() ]
+        depth = ExplainDepth()
+        (
+            LOOKAHEAD(2)
+            <AS> <XML> { format = SqlExplainFormat.XML; }
+        |
+            LOOKAHEAD(2)
+            <AS> <JSON> { format = SqlExplainFormat.JSON; }
+        |
+            <AS> <DOT_FORMAT> { format = SqlExplainFormat.DOT; }
+        |
+            { format = SqlExplainFormat.TEXT; }
+        )
+        <FOR> stmt = SqlQueryOrDml() {
+            return new SqlExplain(s.end(this),
+                stmt,
+                detailLevel.symbol(SqlParserPos.ZERO),
+                depth.symbol(SqlParserPos.ZERO),
+                format.symbol(SqlParserPos.ZERO),
+                nDynamicParams);
+        }
     )
-    <FOR> stmt = SqlQueryOrDml() {
-        return new SqlExplain(s.end(this),
-            stmt,
-            detailLevel.symbol(SqlParserPos.ZERO),
-            depth.symbol(SqlParserPos.ZERO),
-            format.symbol(SqlParserPos.ZERO),
-            nDynamicParams);
-    }
 }
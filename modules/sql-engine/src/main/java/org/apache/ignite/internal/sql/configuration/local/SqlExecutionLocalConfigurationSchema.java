@@ -28,4 +28,9 @@ public class SqlExecutionLocalConfigurationSchema {
     @Value(hasDefault = true)
     @Range(min = 1)
     public final int threadCount = 4;
+
+    /** Duration in milliseconds, starting from which a completed query is written to the event log as a slow one, 0 to disable. */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final long slowQueryThresholdMillis = 10_000;
 }
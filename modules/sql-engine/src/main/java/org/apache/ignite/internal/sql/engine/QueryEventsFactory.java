@@ -17,14 +17,22 @@
 
 package org.apache.ignite.internal.sql.engine;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apache.ignite.internal.util.ExceptionUtils.unwrapCause;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.apache.ignite.internal.eventlog.api.Event;
 import org.apache.ignite.internal.eventlog.api.IgniteEvents;
 import org.apache.ignite.internal.eventlog.event.EventUser;
+import org.apache.ignite.internal.sql.engine.exec.FragmentStatistics;
+import org.apache.ignite.internal.sql.engine.exec.FragmentStatistics.OperatorStatistics;
 import org.apache.ignite.internal.sql.engine.exec.fsm.QueryInfo;
+import org.apache.ignite.internal.sql.engine.message.OperatorStatisticsMessage;
+import org.apache.ignite.internal.sql.engine.message.QueryStatisticsMessage;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * SQL query event factory.
@@ -72,6 +80,101 @@ public class QueryEventsFactory {
                 .build();
     }
 
+    /**
+     * Creates new {@link IgniteEvents#QUERY_SLOW} event.
+     *
+     * <p>Statistics of the remote fragments are only available if the query was slow by the time it was closed, and the nodes of the
+     * fragments responded in time.
+     */
+    public Event makeSlowQueryEvent(
+            QueryInfo queryInfo,
+            @Nullable String plan,
+            List<FragmentStatistics> fragments,
+            List<QueryStatisticsMessage> remoteFragments,
+            EventUser user,
+            long finishTime
+    ) {
+        Map<String, Object> fields = IgniteUtils.newLinkedHashMap(12);
+
+        fillCommonFields(fields, queryInfo);
+
+        fields.put(FieldNames.START_TIME, queryInfo.startTime().toEpochMilli());
+
+        SqlQueryType queryType = queryInfo.queryType();
+
+        fields.put(FieldNames.TYPE, queryType == null ? null : queryType.name());
+        fields.put(FieldNames.DURATION, finishTime - queryInfo.startTime().toEpochMilli());
+        fields.put(FieldNames.PLAN, plan);
+
+        List<Map<String, Object>> fragmentsFields = new ArrayList<>(fragments.size() + remoteFragments.size());
+
+        for (FragmentStatistics fragment : fragments) {
+            List<OperatorStatistics> operators = fragment.operators();
+            List<Map<String, Object>> operatorsFields = new ArrayList<>(operators.size());
+
+            for (OperatorStatistics operator : operators) {
+                operatorsFields.add(operatorFields(operator.name(), operator.rows(), operator.timeNanos()));
+            }
+
+            fragmentsFields.add(fragmentFields(
+                    fragment.fragmentId(), localNode, fragment.rowsScanned(), fragment.bytesSent(), fragment.bytesReceived(),
+                    operatorsFields
+            ));
+        }
+
+        for (QueryStatisticsMessage fragment : remoteFragments) {
+            List<OperatorStatisticsMessage> operators = fragment.operators();
+            List<Map<String, Object>> operatorsFields = new ArrayList<>(operators.size());
+
+            for (OperatorStatisticsMessage operator : operators) {
+                operatorsFields.add(operatorFields(operator.name(), operator.rows(), operator.timeNanos()));
+            }
+
+            fragmentsFields.add(fragmentFields(
+                    fragment.fragmentId(), fragment.nodeName(), fragment.rowsScanned(), fragment.bytesSent(), fragment.bytesReceived(),
+                    operatorsFields
+            ));
+        }
+
+        fields.put(FieldNames.FRAGMENTS, fragmentsFields);
+
+        return IgniteEvents.QUERY_SLOW.builder()
+                .user(user)
+                .timestamp(finishTime)
+                .fields(fields)
+                .build();
+    }
+
+    private static Map<String, Object> fragmentFields(
+            long fragmentId,
+            String nodeName,
+            long rowsScanned,
+            long bytesSent,
+            long bytesReceived,
+            List<Map<String, Object>> operatorsFields
+    ) {
+        Map<String, Object> fragmentFields = IgniteUtils.newLinkedHashMap(6);
+
+        fragmentFields.put(FieldNames.FRAGMENT_ID, fragmentId);
+        fragmentFields.put(FieldNames.FRAGMENT_NODE, nodeName);
+        fragmentFields.put(FieldNames.FRAGMENT_ROWS_SCANNED, rowsScanned);
+        fragmentFields.put(FieldNames.FRAGMENT_BYTES_SENT, bytesSent);
+        fragmentFields.put(FieldNames.FRAGMENT_BYTES_RECEIVED, bytesReceived);
+        fragmentFields.put(FieldNames.FRAGMENT_OPERATORS, operatorsFields);
+
+        return fragmentFields;
+    }
+
+    private static Map<String, Object> operatorFields(String name, long rows, long timeNanos) {
+        Map<String, Object> operatorFields = IgniteUtils.newLinkedHashMap(3);
+
+        operatorFields.put(FieldNames.OPERATOR_NAME, name);
+        operatorFields.put(FieldNames.OPERATOR_ROWS, rows);
+        operatorFields.put(FieldNames.OPERATOR_TIME, NANOSECONDS.toMicros(timeNanos));
+
+        return operatorFields;
+    }
+
     private void fillCommonFields(Map<String, Object> fields, QueryInfo queryInfo) {
         fields.put(FieldNames.INITIATOR, localNode);
         fields.put(FieldNames.ID, queryInfo.id());
@@ -97,5 +200,19 @@ public class QueryEventsFactory {
         static final String START_TIME = "startTime";
         static final String TYPE = "type";
         static final String ERROR = "errorMessage";
+
+        // Slow query event fields.
+        static final String DURATION = "durationMillis";
+        static final String PLAN = "plan";
+        static final String FRAGMENTS = "fragments";
+        static final String FRAGMENT_ID = "fragmentId";
+        static final String FRAGMENT_NODE = "nodeName";
+        static final String FRAGMENT_ROWS_SCANNED = "rowsScanned";
+        static final String FRAGMENT_BYTES_SENT = "bytesSent";
+        static final String FRAGMENT_BYTES_RECEIVED = "bytesReceived";
+        static final String FRAGMENT_OPERATORS = "operators";
+        static final String OPERATOR_NAME = "name";
+        static final String OPERATOR_ROWS = "rows";
+        static final String OPERATOR_TIME = "timeMicros";
     }
 }
@@ -19,13 +19,19 @@ package org.apache.ignite.internal.sql.engine;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Instant;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.sql.engine.exec.FragmentStatistics;
+import org.apache.ignite.internal.sql.engine.message.QueryStatisticsMessage;
 import org.apache.ignite.internal.sql.engine.tx.QueryTransactionContext;
 import org.apache.ignite.internal.sql.engine.tx.QueryTransactionWrapper;
 import org.apache.ignite.internal.util.ArrayUtils;
@@ -39,6 +45,8 @@ import org.jetbrains.annotations.Nullable;
  */
 public final class SqlOperationContext {
     private final Set<String> excludedNodes = ConcurrentHashMap.newKeySet();
+    private final Queue<FragmentStatistics> fragmentStatistics = new ConcurrentLinkedQueue<>();
+    private final Queue<QueryStatisticsMessage> remoteFragmentStatistics = new ConcurrentLinkedQueue<>();
 
     private final UUID queryId;
     private final ZoneId timeZoneId;
@@ -50,6 +58,8 @@ public final class SqlOperationContext {
     private final @Nullable String defaultSchemaName;
     private final @Nullable Consumer<QueryTransactionWrapper> txUsedListener;
     private final @Nullable Consumer<Throwable> errorListener;
+    private final boolean operatorStatisticsTracked;
+    private final @Nullable Instant slowQueryTime;
 
     /**
      * Private constructor, used by a builder.
@@ -63,7 +73,9 @@ public final class SqlOperationContext {
             @Nullable QueryCancel cancel,
             @Nullable String defaultSchemaName,
             @Nullable Consumer<QueryTransactionWrapper> txUsedListener,
-            @Nullable Consumer<Throwable> errorListener
+            @Nullable Consumer<Throwable> errorListener,
+            boolean operatorStatisticsTracked,
+            @Nullable Instant slowQueryTime
     ) {
         this.queryId = queryId;
         this.timeZoneId = timeZoneId;
@@ -74,6 +86,8 @@ public final class SqlOperationContext {
         this.defaultSchemaName = defaultSchemaName;
         this.txUsedListener = txUsedListener;
         this.errorListener = errorListener;
+        this.operatorStatisticsTracked = operatorStatisticsTracked;
+        this.slowQueryTime = slowQueryTime;
     }
 
     public static Builder builder() {
@@ -162,6 +176,44 @@ public final class SqlOperationContext {
         return excludedNodes.isEmpty() ? null : excludedNodes::contains;
     }
 
+    /**
+     * Returns {@code true} if rows produced and time spent by the operators of the fragments executed on the local node must be collected,
+     * e.g. for the slow query log.
+     */
+    public boolean operatorStatisticsTracked() {
+        return operatorStatisticsTracked;
+    }
+
+    /**
+     * Returns the time, starting from which the operation is written to the slow query log. Statistics of the remote fragments of the
+     * operation are collected only if it is closed after this time.
+     *
+     * <p>May be null on remote side or if the slow query log is disabled.
+     */
+    public @Nullable Instant slowQueryTime() {
+        return slowQueryTime;
+    }
+
+    /** Registers execution statistics of a fragment of the operation executed on the local node. */
+    public void registerFragmentStatistics(FragmentStatistics statistics) {
+        fragmentStatistics.add(statistics);
+    }
+
+    /** Returns execution statistics of the fragments of the operation executed on the local node. */
+    public List<FragmentStatistics> fragmentStatistics() {
+        return List.copyOf(fragmentStatistics);
+    }
+
+    /** Registers execution statistics of a fragment of the operation executed on a remote node. */
+    public void registerRemoteFragmentStatistics(QueryStatisticsMessage statistics) {
+        remoteFragmentStatistics.add(statistics);
+    }
+
+    /** Returns execution statistics of the fragments of the operation executed on remote nodes. */
+    public List<QueryStatisticsMessage> remoteFragmentStatistics() {
+        return List.copyOf(remoteFragmentStatistics);
+    }
+
     /**
      * Query context builder.
      */
@@ -177,6 +229,8 @@ public final class SqlOperationContext {
         private @Nullable Consumer<Throwable> errorListener;
         private @Nullable QueryCancel cancel;
         private @Nullable String defaultSchemaName;
+        private boolean operatorStatisticsTracked;
+        private @Nullable Instant slowQueryTime;
 
         public Builder cancel(@Nullable QueryCancel cancel) {
             this.cancel = requireNonNull(cancel);
@@ -223,6 +277,16 @@ public final class SqlOperationContext {
             return this;
         }
 
+        public Builder operatorStatisticsTracked(boolean operatorStatisticsTracked) {
+            this.operatorStatisticsTracked = operatorStatisticsTracked;
+            return this;
+        }
+
+        public Builder slowQueryTime(@Nullable Instant slowQueryTime) {
+            this.slowQueryTime = slowQueryTime;
+            return this;
+        }
+
         /** Creates new context. */
         public SqlOperationContext build() {
             return new SqlOperationContext(
@@ -234,7 +298,9 @@ public final class SqlOperationContext {
                     cancel,
                     defaultSchemaName,
                     txUsedListener,
-                    errorListener
+                    errorListener,
+                    operatorStatisticsTracked,
+                    slowQueryTime
             );
         }
     }
@@ -48,6 +48,7 @@ import org.apache.ignite.internal.lang.NodeStoppingException;
 import org.apache.ignite.internal.lowwatermark.LowWatermark;
 import org.apache.ignite.internal.manager.ComponentContext;
 import org.apache.ignite.internal.metrics.MetricManager;
+import org.apache.ignite.internal.metrics.sources.ThreadPoolMetricSource;
 import org.apache.ignite.internal.network.ClusterService;
 import org.apache.ignite.internal.placementdriver.PlacementDriver;
 import org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEvent;
@@ -78,6 +79,7 @@ import org.apache.ignite.internal.sql.engine.exec.fsm.QueryInfo;
 import org.apache.ignite.internal.sql.engine.exec.kill.KillCommandHandler;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ExecutionDistributionProviderImpl;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingServiceImpl;
+import org.apache.ignite.internal.sql.engine.exec.mapping.NodeLoadTracker;
 import org.apache.ignite.internal.sql.engine.message.MessageServiceImpl;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareServiceImpl;
@@ -86,6 +88,7 @@ import org.apache.ignite.internal.sql.engine.prepare.QueryPlan;
 import org.apache.ignite.internal.sql.engine.prepare.pruning.PartitionPrunerImpl;
 import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManager;
 import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManagerImpl;
+import org.apache.ignite.internal.sql.engine.sql.ParameterizedResult;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 import org.apache.ignite.internal.sql.engine.sql.ParserServiceImpl;
 import org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManager;
@@ -96,6 +99,8 @@ import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.cache.CacheFactory;
 import org.apache.ignite.internal.sql.engine.util.cache.CaffeineCacheFactory;
 import org.apache.ignite.internal.sql.metrics.SqlClientMetricSource;
+import org.apache.ignite.internal.sql.metrics.SqlMappingMetricSource;
+import org.apache.ignite.internal.sql.metrics.SqlQueryMetricSource;
 import org.apache.ignite.internal.storage.DataStorageManager;
 import org.apache.ignite.internal.systemview.api.SystemView;
 import org.apache.ignite.internal.systemview.api.SystemViewManager;
@@ -256,13 +261,22 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
     public synchronized CompletableFuture<Void> startAsync(ComponentContext componentContext) {
         var nodeName = clusterSrvc.topologyService().localMember().name();
 
-        taskExecutor = registerService(new QueryTaskExecutorImpl(nodeName, nodeCfg.execution().threadCount().value(), failureManager));
+        var taskExecutorImpl = new QueryTaskExecutorImpl(nodeName, nodeCfg.execution().threadCount().value(), failureManager);
+        taskExecutor = registerService(taskExecutorImpl);
         var mailboxRegistry = registerService(new MailboxRegistryImpl());
 
         SqlClientMetricSource sqlClientMetricSource = new SqlClientMetricSource(this::openedCursors);
         metricManager.registerSource(sqlClientMetricSource);
         metricManager.enable(sqlClientMetricSource);
 
+        SqlQueryMetricSource sqlQueryMetricSource = new SqlQueryMetricSource();
+        metricManager.registerSource(sqlQueryMetricSource);
+        metricManager.enable(sqlQueryMetricSource);
+
+        var loadTracker = new NodeLoadTracker();
+        metricManager.registerSource(loadTracker.metricSource());
+        metricManager.enable(loadTracker.metricSource());
+
         var prepareSvc = registerService(PrepareServiceImpl.create(
                 nodeName,
                 CACHE_FACTORY,
@@ -313,7 +327,8 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 clusterCfg.planner().estimatedNumberOfQueries().value(),
                 partitionPruner,
                 () -> logicalTopologyService.localLogicalTopology().version(),
-                new ExecutionDistributionProviderImpl(placementDriver, systemViewManager)
+                new ExecutionDistributionProviderImpl(placementDriver, systemViewManager),
+                loadTracker
         );
 
         placementDriver.listen(PrimaryReplicaEvent.PRIMARY_REPLICA_EXPIRED, mappingService::onPrimaryReplicaExpired);
@@ -338,6 +353,8 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 new ExpressionFactoryImpl<>(
                         Commons.typeFactory(), COMPILED_EXPRESSIONS_CACHE_SIZE, CACHE_FACTORY
                 ),
+                sqlQueryMetricSource,
+                loadTracker,
                 EXECUTION_SERVICE_SHUTDOWN_TIMEOUT
         ));
 
@@ -355,7 +372,9 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 executionSrvc,
                 txTracker,
                 new QueryIdGenerator(nodeName.hashCode()),
-                eventLog
+                eventLog,
+                sqlQueryMetricSource,
+                () -> nodeCfg.execution().slowQueryThresholdMillis().value()
         ));
 
         queriesViewProvider.init(queryExecutor);
@@ -367,6 +386,8 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
 
         services.forEach(LifecycleAware::start);
 
+        metricManager.registerSource(taskExecutorImpl.metricSource());
+
         killCommandHandler.register(new SqlQueryKillHandler());
 
         return nullCompletedFuture();
@@ -382,6 +403,9 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
         busyLock.block();
 
         metricManager.unregisterSource(SqlClientMetricSource.NAME);
+        metricManager.unregisterSource(SqlQueryMetricSource.NAME);
+        metricManager.unregisterSource(SqlMappingMetricSource.NAME);
+        metricManager.unregisterSource(ThreadPoolMetricSource.NAME_PREFIX + QueryTaskExecutorImpl.POOL_NAME);
 
         List<LifecycleAware> services = new ArrayList<>(this.services);
 
@@ -467,6 +491,11 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
 
         ParsedResult parsedResult = queryExecutor.lookupParsedResultInCache(sql);
 
+        if (parsedResult instanceof ParameterizedResult) {
+            // Metadata of the dynamic parameters must describe the parameters of the statement as it was specified by the user.
+            parsedResult = ((ParameterizedResult) parsedResult).source();
+        }
+
         CompletableFuture<ParsedResult> start = parsedResult != null
                 ? completedFuture(parsedResult)
                 : CompletableFuture.supplyAsync(() -> parseAndCache(sql), taskExecutor);
@@ -102,6 +102,8 @@ public class ExecutionContext<RowT> implements DataContext {
 
     private final ZoneId timeZoneId;
 
+    private final FragmentStatistics statistics;
+
     private SharedState sharedState = new SharedState();
 
     /**
@@ -118,6 +120,7 @@ public class ExecutionContext<RowT> implements DataContext {
      * @param txAttributes Transaction attributes.
      * @param timeZoneId Session time-zone ID.
      * @param inBufSize Default execution nodes' internal buffer size. Negative value means default value.
+     * @param statistics Execution statistics of the fragment.
      */
     @SuppressWarnings("AssignmentOrReturnOfFieldWithMutableType")
     public ExecutionContext(
@@ -131,7 +134,8 @@ public class ExecutionContext<RowT> implements DataContext {
             Map<String, Object> params,
             TxAttributes txAttributes,
             ZoneId timeZoneId,
-            int inBufSize
+            int inBufSize,
+            FragmentStatistics statistics
     ) {
         this.expressionFactory = expressionFactory;
         this.executor = executor;
@@ -144,6 +148,7 @@ public class ExecutionContext<RowT> implements DataContext {
         this.txAttributes = txAttributes;
         this.timeZoneId = timeZoneId;
         this.inBufSize = inBufSize < 0 ? Commons.IN_BUFFER_SIZE : inBufSize;
+        this.statistics = statistics;
 
         assert this.inBufSize > 0 : this.inBufSize;
 
@@ -189,6 +194,11 @@ public class ExecutionContext<RowT> implements DataContext {
         return description;
     }
 
+    /** Returns execution statistics of the fragment. */
+    public FragmentStatistics statistics() {
+        return statistics;
+    }
+
     /**
      * Get remote nodes for the given exchange id.
      *
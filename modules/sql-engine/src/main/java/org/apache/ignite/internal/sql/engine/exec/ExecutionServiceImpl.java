@@ -31,6 +31,7 @@ import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -93,6 +94,7 @@ import org.apache.ignite.internal.sql.engine.exec.mapping.FragmentDescription;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappedFragment;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingParameters;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingService;
+import org.apache.ignite.internal.sql.engine.exec.mapping.NodeLoadTracker;
 import org.apache.ignite.internal.sql.engine.exec.rel.AbstractNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.AsyncRootNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.Outbox;
@@ -101,6 +103,7 @@ import org.apache.ignite.internal.sql.engine.message.MessageService;
 import org.apache.ignite.internal.sql.engine.message.QueryCloseMessage;
 import org.apache.ignite.internal.sql.engine.message.QueryStartRequest;
 import org.apache.ignite.internal.sql.engine.message.QueryStartResponse;
+import org.apache.ignite.internal.sql.engine.message.QueryStatisticsMessage;
 import org.apache.ignite.internal.sql.engine.message.SqlQueryMessageGroup;
 import org.apache.ignite.internal.sql.engine.message.SqlQueryMessagesFactory;
 import org.apache.ignite.internal.sql.engine.prepare.DdlPlan;
@@ -124,6 +127,7 @@ import org.apache.ignite.internal.sql.engine.tx.QueryTransactionWrapper;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.IteratorToDataCursorAdapter;
 import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.internal.sql.metrics.SqlQueryMetricSource;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.util.AsyncCursor;
 import org.apache.ignite.internal.util.CompletableFutures;
@@ -141,6 +145,9 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
     private static final SqlQueryMessagesFactory FACTORY = new SqlQueryMessagesFactory();
     private static final List<InternalSqlRow> APPLIED_ANSWER = List.of(new InternalSqlRowSingleBoolean(true));
     private static final List<InternalSqlRow> NOT_APPLIED_ANSWER = List.of(new InternalSqlRowSingleBoolean(false));
+    /** Time to wait for the execution statistics of remote fragments of EXPLAIN ANALYZE command once the query is closed. */
+    private static final long STATISTICS_COLLECTION_TIMEOUT_MILLIS = 10_000;
+
     private static final FragmentDescription DUMMY_DESCRIPTION = new FragmentDescription(
             0, true, Long2ObjectMaps.emptyMap(), null, null, null
     );
@@ -182,8 +189,14 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
 
     private final ExpressionFactory<RowT> expressionFactory;
 
+    private final SqlQueryMetricSource metricSource;
+
+    private final NodeLoadTracker loadTracker;
+
     private final boolean enabledColocation = IgniteSystemProperties.enabledColocation();
 
+    private volatile long statisticsCollectionTimeout = STATISTICS_COLLECTION_TIMEOUT_MILLIS;
+
     /**
      * Constructor.
      *
@@ -197,6 +210,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
      * @param implementorFactory Relational node implementor factory.
      * @param clockService Clock service.
      * @param killCommandHandler Kill command handler.
+     * @param metricSource Query metric source.
+     * @param loadTracker Tracker of the load of the nodes, which is fed with the acknowledgements of the started fragments.
      * @param shutdownTimeout Shutdown timeout.
      */
     public ExecutionServiceImpl(
@@ -213,6 +228,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             ClockService clockService,
             KillCommandHandler killCommandHandler,
             ExpressionFactory<RowT> expressionFactory,
+            SqlQueryMetricSource metricSource,
+            NodeLoadTracker loadTracker,
             long shutdownTimeout
     ) {
         this.localNode = topSrvc.localMember();
@@ -228,6 +245,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
         this.clockService = clockService;
         this.killCommandHandler = killCommandHandler;
         this.expressionFactory = expressionFactory;
+        this.metricSource = metricSource;
+        this.loadTracker = loadTracker;
         this.shutdownTimeout = shutdownTimeout;
     }
 
@@ -249,6 +268,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
      * @param tableFunctionRegistry Table function registry.
      * @param clockService Clock service.
      * @param killCommandHandler Kill command handler.
+     * @param metricSource Query metric source.
+     * @param loadTracker Tracker of the load of the nodes, which is fed with the acknowledgements of the started fragments.
      * @param shutdownTimeout Shutdown timeout.
      * @return An execution service.
      */
@@ -268,6 +289,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             ClockService clockService,
             KillCommandHandler killCommandHandler,
             ExpressionFactory<RowT> expressionFactory,
+            SqlQueryMetricSource metricSource,
+            NodeLoadTracker loadTracker,
             long shutdownTimeout
     ) {
         return new ExecutionServiceImpl<>(
@@ -290,6 +313,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                 clockService,
                 killCommandHandler,
                 expressionFactory,
+                metricSource,
+                loadTracker,
                 shutdownTimeout
         );
     }
@@ -301,6 +326,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
         messageService.register((n, m) -> onMessage(n, (QueryStartResponse) m), SqlQueryMessageGroup.QUERY_START_RESPONSE);
         messageService.register((n, m) -> onMessage(n, (QueryCloseMessage) m), SqlQueryMessageGroup.QUERY_CLOSE_MESSAGE);
         messageService.register((n, m) -> onMessage(n, (ErrorMessage) m), SqlQueryMessageGroup.ERROR_MESSAGE);
+        messageService.register((n, m) -> onMessage(n, (QueryStatisticsMessage) m), SqlQueryMessageGroup.QUERY_STATISTICS_MESSAGE);
     }
 
     @TestOnly
@@ -308,12 +334,21 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
         return ddlCmdHnd;
     }
 
+    /** Sets the time to wait for the execution statistics of remote fragments of EXPLAIN ANALYZE command. */
+    @TestOnly
+    public void statisticsCollectionTimeout(long timeoutMillis) {
+        this.statisticsCollectionTimeout = timeoutMillis;
+    }
+
     private CompletableFuture<AsyncDataCursor<InternalSqlRow>> executeQuery(
             SqlOperationContext operationContext,
-            MultiStepPlan plan
+            MultiStepPlan plan,
+            @Nullable Queue<QueryStatisticsMessage> statistics
     ) {
         ExecutionId executionid = nextExecutionId(operationContext.queryId());
-        DistributedQueryManager queryManager = new DistributedQueryManager(executionid, localNode.name(), true, operationContext);
+        DistributedQueryManager queryManager = new DistributedQueryManager(
+                executionid, localNode.name(), operationContext, statistics
+        );
 
         DistributedQueryManager old = queryManagerMap.put(executionid, queryManager);
 
@@ -361,13 +396,14 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
     }
 
     private static SqlOperationContext createOperationContext(
-            UUID queryId, ZoneId timeZoneId, Object[] params, HybridTimestamp operationTime
+            UUID queryId, ZoneId timeZoneId, Object[] params, HybridTimestamp operationTime, boolean operatorStatisticsTracked
     ) {
         return SqlOperationContext.builder()
                 .queryId(queryId)
                 .parameters(params)
                 .timeZoneId(timeZoneId)
                 .operationTime(operationTime)
+                .operatorStatisticsTracked(operatorStatisticsTracked)
                 .build();
     }
 
@@ -398,8 +434,12 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
 
                 assert plan instanceof MultiStepPlan : plan.getClass();
 
-                return executeQuery(operationContext, (MultiStepPlan) plan);
+                return executeQuery(operationContext, (MultiStepPlan) plan, null);
             case EXPLAIN:
+                if (((ExplainPlan) plan).analyze()) {
+                    return executeExplainAnalyze(operationContext, (ExplainPlan) plan);
+                }
+
                 return completedFuture(executeExplain((ExplainPlan) plan));
             case DDL:
                 return completedFuture(executeDdl(operationContext, (DdlPlan) plan));
@@ -439,6 +479,12 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             ExecutablePlan plan
     ) {
         ExecutionId executionId = nextExecutionId(operationContext.queryId());
+        FragmentStatistics statistics = new FragmentStatistics(
+                DUMMY_DESCRIPTION.fragmentId(), metricSource, operationContext.operatorStatisticsTracked()
+        );
+
+        operationContext.registerFragmentStatistics(statistics);
+
         ExecutionContext<RowT> ectx = new ExecutionContext<>(
                 expressionFactory,
                 taskExecutor,
@@ -450,7 +496,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                 Commons.parametersMap(operationContext.parameters()),
                 TxAttributes.dummy(),
                 operationContext.timeZoneId(),
-                -1
+                -1,
+                statistics
         );
 
         QueryTransactionContext txContext = operationContext.txContext();
@@ -527,6 +574,50 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
         return new IteratorToDataCursorAdapter<>(List.of(res).iterator());
     }
 
+    private CompletableFuture<AsyncDataCursor<InternalSqlRow>> executeExplainAnalyze(
+            SqlOperationContext operationContext,
+            ExplainPlan plan
+    ) {
+        ExplainablePlan explicandum = plan.plan();
+        Queue<QueryStatisticsMessage> statistics = new ConcurrentLinkedQueue<>();
+        long startTime = System.nanoTime();
+
+        CompletableFuture<AsyncDataCursor<InternalSqlRow>> cursorFut = explicandum instanceof MultiStepPlan
+                ? executeQuery(operationContext, (MultiStepPlan) explicandum, statistics)
+                : completedFuture(executeExecutablePlan(operationContext, (ExecutablePlan) explicandum));
+
+        return cursorFut
+                .thenCompose(cursor -> {
+                    QueryCancel queryCancel = operationContext.cancel();
+
+                    if (queryCancel != null) {
+                        queryCancel.add(timeout -> cursor.cancelAsync(timeout ? CancellationReason.TIMEOUT : CancellationReason.CANCEL));
+                    }
+
+                    // The plan is built once the query is closed, i.e. once the statistics of all the fragments are collected.
+                    return drain(cursor, 0).thenCompose(rows -> cursor.closeAsync().thenApply(none -> rows));
+                })
+                .thenApply(rows -> {
+                    String planString = ExplainAnalyzeUtils.toString(
+                            explicandum.explain(), List.copyOf(statistics), rows, System.nanoTime() - startTime
+                    );
+
+                    InternalSqlRow res = new InternalSqlRowSingleString(planString);
+
+                    return new IteratorToDataCursorAdapter<>(List.of(res).iterator());
+                });
+    }
+
+    /** Fetches all rows from the cursor and returns the number of fetched rows. */
+    private CompletableFuture<Long> drain(AsyncCursor<InternalSqlRow> cursor, long fetched) {
+        return cursor.requestNextAsync(Commons.IN_BUFFER_SIZE)
+                .thenComposeAsync(batch -> {
+                    long rows = fetched + batch.items().size();
+
+                    return batch.hasMore() ? drain(cursor, rows) : completedFuture(rows);
+                }, taskExecutor);
+    }
+
     private void onMessage(String nodeName, QueryStartRequest msg) {
         assert nodeName != null && msg != null;
 
@@ -552,7 +643,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
         DistributedQueryManager dqm = queryManagerMap.get(new ExecutionId(msg.queryId(), msg.executionToken()));
 
         if (dqm != null) {
-            dqm.acknowledgeFragment(nodeName, msg.fragmentId(), msg.error());
+            dqm.acknowledgeFragment(nodeName, msg.fragmentId(), msg.queueSize(), msg.error());
         }
     }
 
@@ -579,13 +670,23 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
         }
     }
 
+    private void onMessage(String nodeName, QueryStatisticsMessage msg) {
+        assert nodeName != null && msg != null;
+
+        DistributedQueryManager dqm = queryManagerMap.get(new ExecutionId(msg.queryId(), msg.executionToken()));
+
+        if (dqm != null) {
+            dqm.onStatistics(nodeName, msg);
+        }
+    }
+
     private void onMessage(String nodeName, QueryCloseMessage msg) {
         assert nodeName != null && msg != null;
 
         DistributedQueryManager dqm = queryManagerMap.get(new ExecutionId(msg.queryId(), msg.executionToken()));
 
         if (dqm != null) {
-            dqm.close(CancellationReason.CANCEL);
+            dqm.onCloseRequested(msg.collectStatistics());
         }
     }
 
@@ -644,10 +745,10 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
     private DistributedQueryManager getOrCreateQueryManager(String coordinatorNodeName, QueryStartRequest msg) {
         return queryManagerMap.computeIfAbsent(new ExecutionId(msg.queryId(), msg.executionToken()), key -> {
             SqlOperationContext operationContext = createOperationContext(
-                    key.queryId(), ZoneId.of(msg.timeZoneId()), msg.parameters(), msg.operationTime()
+                    key.queryId(), ZoneId.of(msg.timeZoneId()), msg.parameters(), msg.operationTime(), msg.operatorStatisticsTracked()
             );
 
-            return new DistributedQueryManager(key, coordinatorNodeName, operationContext);
+            return new DistributedQueryManager(key, coordinatorNodeName, operationContext, msg.collectStatistics());
         });
     }
 
@@ -795,6 +896,20 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
 
         private final Map<RemoteFragmentKey, CompletableFuture<Void>> remoteFragmentInitCompletion = new HashMap<>();
 
+        /** Whether the execution statistics of the fragments must be collected by the coordinator once the query is closed. */
+        private final boolean collectStatistics;
+
+        /** Whether the query is closed on request of another node, which is the coordinator for the remote fragments. */
+        private volatile boolean closeRequested;
+
+        /** Whether the coordinator requested the execution statistics of the fragments when closing the query, e.g. a slow one. */
+        private volatile boolean statisticsRequested;
+
+        /** Collected execution statistics of the fragments, available on the coordinator only. */
+        private final @Nullable Queue<QueryStatisticsMessage> statistics;
+
+        private final Map<RemoteFragmentKey, CompletableFuture<Void>> remoteStatisticsCompletion = new ConcurrentHashMap<>();
+
         private final Queue<AbstractNode<RowT>> localFragments = new ConcurrentLinkedQueue<>();
 
         private final @Nullable CompletableFuture<AsyncRootNode<RowT, InternalSqlRow>> root;
@@ -802,18 +917,25 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
         /** Mutex for {@link #remoteFragmentInitCompletion} modifications. */
         private final Object initMux = new Object();
 
+        /** Time the fragments started to be sent to the nodes, in nanoseconds. */
+        private volatile long fragmentsSentAt;
+
         private volatile Long rootFragmentId = null;
 
         private DistributedQueryManager(
                 ExecutionId executionId,
                 String coordinatorNodeName,
                 boolean coordinator,
-                SqlOperationContext ctx
+                SqlOperationContext ctx,
+                boolean collectStatistics,
+                @Nullable Queue<QueryStatisticsMessage> statistics
         ) {
             this.executionId = executionId;
             this.ctx = ctx;
             this.coordinator = coordinator;
             this.coordinatorNodeName = coordinatorNodeName;
+            this.collectStatistics = collectStatistics;
+            this.statistics = statistics;
 
             if (coordinator) {
                 var root = new CompletableFuture<AsyncRootNode<RowT, InternalSqlRow>>();
@@ -830,8 +952,22 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             }
         }
 
-        private DistributedQueryManager(ExecutionId executionId, String coordinatorNodeName, SqlOperationContext ctx) {
-            this(executionId, coordinatorNodeName, false, ctx);
+        private DistributedQueryManager(
+                ExecutionId executionId,
+                String coordinatorNodeName,
+                SqlOperationContext ctx,
+                @Nullable Queue<QueryStatisticsMessage> statistics
+        ) {
+            this(executionId, coordinatorNodeName, true, ctx, statistics != null, statistics);
+        }
+
+        private DistributedQueryManager(
+                ExecutionId executionId,
+                String coordinatorNodeName,
+                SqlOperationContext ctx,
+                boolean collectStatistics
+        ) {
+            this(executionId, coordinatorNodeName, false, ctx, collectStatistics, null);
         }
 
         private List<AbstractNode<?>> localFragments() {
@@ -852,14 +988,18 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                     .catalogVersion(catalogVersion)
                     .timeZoneId(ctx.timeZoneId().getId())
                     .operationTime(ctx.operationTime())
+                    .collectStatistics(collectStatistics)
+                    .operatorStatisticsTracked(ctx.operatorStatisticsTracked())
                     .timestamp(clockService.now())
                     .build();
 
             return messageService.send(targetNodeName, request);
         }
 
-        private void acknowledgeFragment(String nodeName, long fragmentId, @Nullable Throwable ex) {
-            if (ex != null) {
+        private void acknowledgeFragment(String nodeName, long fragmentId, int queueSize, @Nullable Throwable ex) {
+            if (ex == null) {
+                loadTracker.onFragmentStarted(nodeName, System.nanoTime() - fragmentsSentAt, queueSize);
+            } else {
                 Long rootFragmentId0 = rootFragmentId;
 
                 if (rootFragmentId0 != null && fragmentId == rootFragmentId0) {
@@ -873,9 +1013,30 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                 }
             }
 
+            if ((collectStatistics || ctx.operatorStatisticsTracked()) && ex == null && !localNode.name().equals(nodeName)) {
+                // Statistics of the fragment are sent by the remote node once the fragment is closed, if they are requested. The future
+                // must be registered before the initialisation is completed, because the query is closed only after all fragments are
+                // initialised.
+                remoteStatisticsCompletion.put(new RemoteFragmentKey(nodeName, fragmentId), new CompletableFuture<>());
+            }
+
             remoteFragmentInitCompletion.get(new RemoteFragmentKey(nodeName, fragmentId)).complete(null);
         }
 
+        private void onStatistics(String nodeName, QueryStatisticsMessage msg) {
+            if (statistics != null) {
+                statistics.add(msg);
+            }
+
+            ctx.registerRemoteFragmentStatistics(msg);
+
+            CompletableFuture<Void> completion = remoteStatisticsCompletion.get(new RemoteFragmentKey(nodeName, msg.fragmentId()));
+
+            if (completion != null) {
+                completion.complete(null);
+            }
+        }
+
         private void onError(RemoteFragmentExecutionException ex) {
             root.thenAccept(root -> {
                 root.onError(ex);
@@ -888,6 +1049,10 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             remoteFragmentInitCompletion.entrySet().stream()
                     .filter(e -> nodeName.equals(e.getKey().nodeName()))
                     .forEach(e -> e.getValue().completeExceptionally(new NodeLeftException(nodeName)));
+
+            remoteStatisticsCompletion.entrySet().stream()
+                    .filter(e -> nodeName.equals(e.getKey().nodeName()))
+                    .forEach(e -> e.getValue().completeExceptionally(new NodeLeftException(nodeName)));
         }
 
         private CompletableFuture<Void> executeFragment(IgniteRel treeRoot, ResolvedDependencies deps, ExecutionContext<RowT> ectx) {
@@ -920,6 +1085,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                             .queryId(ectx.queryId())
                             .executionToken(ectx.executionToken())
                             .fragmentId(ectx.fragmentId())
+                            .queueSize(taskExecutor.queueSize())
                             .build()
             );
 
@@ -931,6 +1097,12 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
         }
 
         private ExecutionContext<RowT> createContext(String initiatorNodeName, FragmentDescription desc, TxAttributes txAttributes) {
+            FragmentStatistics statistics = new FragmentStatistics(
+                    desc.fragmentId(), metricSource, collectStatistics || ctx.operatorStatisticsTracked()
+            );
+
+            ctx.registerFragmentStatistics(statistics);
+
             return new ExecutionContext<>(
                     expressionFactory,
                     taskExecutor,
@@ -942,7 +1114,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                     Commons.parametersMap(ctx.parameters()),
                     txAttributes,
                     ctx.timeZoneId(),
-                    -1
+                    -1,
+                    statistics
             );
         }
 
@@ -1054,6 +1227,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
 
             List<CompletableFuture<?>> resultsOfFragmentSending = new ArrayList<>();
 
+            fragmentsSentAt = System.nanoTime();
+
             // start remote execution
             for (MappedFragment mappedFragment : mappedFragments) {
                 Fragment fragment = mappedFragment.fragment();
@@ -1198,14 +1373,18 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             CompletableFuture<Void> stage;
 
             if (coordinator) {
+                boolean remoteStatisticsRequested = statistics != null || slowQuery();
+
                 stage = start.thenCompose(ignored -> closeRootNode(reason))
-                        .thenCompose(ignored -> awaitFragmentInitialisationAndClose());
+                        .thenCompose(ignored -> awaitFragmentInitialisationAndClose(remoteStatisticsRequested))
+                        .thenCompose(ignored -> awaitStatistics(remoteStatisticsRequested));
             } else {
                 stage = start.thenCompose(ignored -> messageService.send(coordinatorNodeName, FACTORY.queryCloseMessage()
                                 .queryId(executionId.queryId())
                                 .executionToken(executionId.executionToken())
                                 .build()))
-                        .thenCompose(ignored -> closeLocalFragments());
+                        .thenCompose(ignored -> closeLocalFragments())
+                        .thenCompose(ignored -> sendStatistics());
             }
 
             stage.whenComplete((r, e) -> {
@@ -1240,7 +1419,66 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             );
         }
 
-        private CompletableFuture<Void> awaitFragmentInitialisationAndClose() {
+        /** Closes the query on request of another node, which may also request the execution statistics of the local fragments. */
+        private void onCloseRequested(boolean collectStatistics) {
+            statisticsRequested = collectStatistics;
+            closeRequested = true;
+
+            close(CancellationReason.CANCEL);
+        }
+
+        /** Returns {@code true} if the query has been running long enough to be written to the slow query log. */
+        private boolean slowQuery() {
+            Instant slowQueryTime = ctx.slowQueryTime();
+
+            return slowQueryTime != null && clockService.current().getPhysical() >= slowQueryTime.toEpochMilli();
+        }
+
+        /**
+         * Sends the execution statistics of the local fragments to the coordinator, if they were requested. Fragments closed on the
+         * initiative of this node, e.g. because of an error, are closed before the coordinator can request their statistics, so
+         * these are sent whenever the operators are tracked.
+         */
+        private CompletableFuture<Void> sendStatistics() {
+            if (!collectStatistics && !statisticsRequested && (closeRequested || !ctx.operatorStatisticsTracked())) {
+                return nullCompletedFuture();
+            }
+
+            List<CompletableFuture<?>> sendFuts = new ArrayList<>();
+
+            for (AbstractNode<?> node : localFragments) {
+                FragmentStatistics fragmentStatistics = node.context().statistics();
+
+                sendFuts.add(messageService.send(
+                        coordinatorNodeName,
+                        ExplainAnalyzeUtils.toMessage(executionId, localNode.name(), fragmentStatistics)
+                ));
+            }
+
+            return CompletableFutures.allOf(sendFuts);
+        }
+
+        /** Collects the execution statistics of the local fragments and awaits the statistics of the remote ones, if requested. */
+        private CompletableFuture<Void> awaitStatistics(boolean remoteStatisticsRequested) {
+            if (statistics != null) {
+                for (AbstractNode<?> node : localFragments) {
+                    statistics.add(ExplainAnalyzeUtils.toMessage(executionId, localNode.name(), node.context().statistics()));
+                }
+            }
+
+            if (!remoteStatisticsRequested) {
+                return nullCompletedFuture();
+            }
+
+            return CompletableFuture.allOf(remoteStatisticsCompletion.values().toArray(new CompletableFuture[0]))
+                    .completeOnTimeout(null, statisticsCollectionTimeout, TimeUnit.MILLISECONDS)
+                    .handle((none, t) -> {
+                        // Statistics of the fragments of the nodes that have left the cluster are not available, and that is fine.
+                        return null;
+                    });
+        }
+
+        private CompletableFuture<Void> awaitFragmentInitialisationAndClose(boolean remoteStatisticsRequested) {
             Map<String, List<CompletableFuture<?>>> requestsPerNode = new HashMap<>();
 
             synchronized (initMux) {
@@ -1274,6 +1512,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                                             FACTORY.queryCloseMessage()
                                                     .queryId(executionId.queryId())
                                                     .executionToken(executionId.executionToken())
+                                                    .collectStatistics(remoteStatisticsRequested)
                                                     .build()
                                     );
                                 })
@@ -1323,6 +1562,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                     CompletableFuture<BatchedResult<InternalSqlRow>> fut = cursor.requestNextAsync(rows);
 
                     fut.thenAccept(batch -> {
+                        metricSource.onRowsReturned(batch.items().size());
+
                         if (!batch.hasMore()) {
                             DistributedQueryManager.this.close(CancellationReason.CLOSE);
                         }
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.ignite.internal.sql.engine.exec.FragmentStatistics.OperatorStatistics;
+import org.apache.ignite.internal.sql.engine.message.OperatorStatisticsMessage;
+import org.apache.ignite.internal.sql.engine.message.QueryStatisticsMessage;
+import org.apache.ignite.internal.sql.engine.message.SqlQueryMessagesFactory;
+
+/** Set of utility methods used during EXPLAIN ANALYZE evaluation. */
+public final class ExplainAnalyzeUtils {
+    private static final SqlQueryMessagesFactory FACTORY = new SqlQueryMessagesFactory();
+
+    private static final int NEXT_OPERATOR_INDENT = 2;
+    private static final int OPERATOR_ATTRIBUTES_INDENT = 2 * NEXT_OPERATOR_INDENT;
+
+    private ExplainAnalyzeUtils() {
+        throw new AssertionError("Should not be called");
+    }
+
+    /**
+     * Converts execution statistics of a fragment to a message, operators of the fragment are listed in depth-first order.
+     *
+     * @param executionId ID of the query execution.
+     * @param nodeName Name of the node the fragment was executed on.
+     * @param statistics Statistics of the fragment.
+     * @return Statistics message.
+     */
+    public static QueryStatisticsMessage toMessage(ExecutionId executionId, String nodeName, FragmentStatistics statistics) {
+        List<OperatorStatisticsMessage> operators = new ArrayList<>();
+
+        for (OperatorStatistics root : statistics.roots()) {
+            collectOperators(root, 0, operators);
+        }
+
+        return FACTORY.queryStatisticsMessage()
+                .queryId(executionId.queryId())
+                .executionToken(executionId.executionToken())
+                .fragmentId(statistics.fragmentId())
+                .nodeName(nodeName)
+                .rowsScanned(statistics.rowsScanned())
+                .bytesSent(statistics.bytesSent())
+                .bytesReceived(statistics.bytesReceived())
+                .operators(operators)
+                .build();
+    }
+
+    private static void collectOperators(OperatorStatistics operator, int depth, List<OperatorStatisticsMessage> operators) {
+        operators.add(FACTORY.operatorStatisticsMessage()
+                .name(operator.name())
+                .depth(depth)
+                .rows(operator.rows())
+                .timeNanos(operator.timeNanos())
+                .batches(operator.batches())
+                .bufferedRows(operator.bufferedRows())
+                .build());
+
+        for (OperatorStatistics input : operator.inputs()) {
+            collectOperators(input, depth + 1, operators);
+        }
+    }
+
+    /**
+     * Appends execution statistics of a query to its plan for EXPLAIN ANALYZE command output.
+     *
+     * <p>Every fragment is printed once per node it was executed on, so a skew of the data across the nodes can be seen
+     * by comparing the instances of the same fragment.
+     *
+     * @param plan Plan of the query, as printed by EXPLAIN command.
+     * @param fragments Statistics of the fragments of the query.
+     * @param rows Number of rows returned by the query.
+     * @param durationNanos Time of the query execution in nanoseconds.
+     * @return Plan with the execution statistics.
+     */
+    public static String toString(String plan, List<QueryStatisticsMessage> fragments, long rows, long durationNanos) {
+        StringBuilder sb = new StringBuilder(plan);
+
+        if (sb.length() > 0 && sb.charAt(sb.length() - 1) != '\n') {
+            sb.append(System.lineSeparator());
+        }
+
+        sb.append("Execution statistics").append(System.lineSeparator());
+        appendAttribute(sb, OPERATOR_ATTRIBUTES_INDENT, "rows", rows);
+        appendAttribute(sb, OPERATOR_ATTRIBUTES_INDENT, "time", formatNanos(durationNanos));
+
+        List<QueryStatisticsMessage> sorted = new ArrayList<>(fragments);
+
+        sorted.sort(Comparator.comparingLong(QueryStatisticsMessage::fragmentId).thenComparing(QueryStatisticsMessage::nodeName));
+
+        for (QueryStatisticsMessage fragment : sorted) {
+            int indent = NEXT_OPERATOR_INDENT;
+
+            spaces(sb, indent).append("Fragment#").append(fragment.fragmentId()).append(System.lineSeparator());
+            appendAttribute(sb, indent + OPERATOR_ATTRIBUTES_INDENT, "node", fragment.nodeName());
+            appendAttribute(sb, indent + OPERATOR_ATTRIBUTES_INDENT, "rows scanned", fragment.rowsScanned());
+            appendAttribute(sb, indent + OPERATOR_ATTRIBUTES_INDENT, "bytes sent", fragment.bytesSent());
+            appendAttribute(sb, indent + OPERATOR_ATTRIBUTES_INDENT, "bytes received", fragment.bytesReceived());
+
+            List<OperatorStatisticsMessage> operators = fragment.operators();
+
+            for (int i = 0; i < operators.size(); i++) {
+                OperatorStatisticsMessage operator = operators.get(i);
+                int operatorIndent = indent + NEXT_OPERATOR_INDENT * (operator.depth() + 1);
+                int attributesIndent = operatorIndent + OPERATOR_ATTRIBUTES_INDENT;
+
+                spaces(sb, operatorIndent).append(operator.name()).append(System.lineSeparator());
+
+                long rowsIn = inputRows(operators, i);
+
+                if (rowsIn >= 0) {
+                    appendAttribute(sb, attributesIndent, "rows in", rowsIn);
+                }
+
+                appendAttribute(sb, attributesIndent, "rows out", operator.rows());
+                appendAttribute(sb, attributesIndent, "time", formatNanos(operator.timeNanos()));
+
+                if (operator.batches() > 0) {
+                    appendAttribute(sb, attributesIndent, "batches", operator.batches());
+                }
+
+                if (operator.bufferedRows() > 0) {
+                    appendAttribute(sb, attributesIndent, "buffered rows", operator.bufferedRows());
+                }
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /** Returns the number of rows produced by the inputs of the operator at the given position, or -1 if it has no inputs. */
+    private static long inputRows(List<OperatorStatisticsMessage> operators, int idx) {
+        int depth = operators.get(idx).depth();
+        long rows = -1;
+
+        for (int i = idx + 1; i < operators.size() && operators.get(i).depth() > depth; i++) {
+            OperatorStatisticsMessage input = operators.get(i);
+
+            if (input.depth() == depth + 1) {
+                rows = Math.max(rows, 0) + input.rows();
+            }
+        }
+
+        return rows;
+    }
+
+    private static void appendAttribute(StringBuilder sb, int indent, String name, Object value) {
+        spaces(sb, indent).append(name).append(": ").append(value).append(System.lineSeparator());
+    }
+
+    private static StringBuilder spaces(StringBuilder sb, int count) {
+        for (int i = 0; i < count; i++) {
+            sb.append(' ');
+        }
+
+        return sb;
+    }
+
+    private static String formatNanos(long nanos) {
+        return BigDecimal.valueOf(nanos).movePointLeft(6).setScale(3, RoundingMode.HALF_UP) + "ms";
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.internal.sql.metrics.SqlQueryMetricSource;
+
+/**
+ * Execution statistics of a query fragment on the local node: rows produced and time spent by the operators of the fragment, rows
+ * scanned from storages and bytes of rows exchanged with other fragments.
+ *
+ * <p>Node-wide counters are propagated to the {@link SqlQueryMetricSource} as they are collected. Statistics of the operators are only
+ * collected if they are {@link #operatorsTracked() tracked}, i.e. requested by EXPLAIN ANALYZE or the slow query log, because counting
+ * every row and timing every task adds overhead to the execution.
+ */
+public class FragmentStatistics {
+    private final long fragmentId;
+
+    private final SqlQueryMetricSource metricSource;
+
+    private final boolean operatorsTracked;
+
+    private final Queue<OperatorStatistics> operators = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder rowsScanned = new LongAdder();
+
+    private final LongAdder bytesSent = new LongAdder();
+
+    private final LongAdder bytesReceived = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param fragmentId Fragment ID.
+     * @param metricSource Metric source to propagate the node-wide counters to.
+     * @param operatorsTracked Whether rows produced and time spent by the operators of the fragment are collected.
+     */
+    public FragmentStatistics(long fragmentId, SqlQueryMetricSource metricSource, boolean operatorsTracked) {
+        this.fragmentId = fragmentId;
+        this.metricSource = metricSource;
+        this.operatorsTracked = operatorsTracked;
+    }
+
+    /** Returns fragment ID. */
+    public long fragmentId() {
+        return fragmentId;
+    }
+
+    /** Returns {@code true} if rows produced and time spent by the operators of the fragment are collected. */
+    public boolean operatorsTracked() {
+        return operatorsTracked;
+    }
+
+    /**
+     * Creates statistics of an operator of the fragment.
+     *
+     * @param name Name of the operator.
+     * @return Statistics of the operator.
+     */
+    public OperatorStatistics registerOperator(String name) {
+        OperatorStatistics statistics = new OperatorStatistics(name);
+
+        operators.add(statistics);
+
+        return statistics;
+    }
+
+    /** Returns statistics of the operators of the fragment in the order of their creation. */
+    public List<OperatorStatistics> operators() {
+        return List.copyOf(operators);
+    }
+
+    /** Returns statistics of the operators of the fragment, which are not inputs of other operators of the fragment. */
+    public List<OperatorStatistics> roots() {
+        List<OperatorStatistics> operators = operators();
+        Set<OperatorStatistics> inputs = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (OperatorStatistics operator : operators) {
+            inputs.addAll(operator.inputs());
+        }
+
+        List<OperatorStatistics> roots = new ArrayList<>();
+
+        for (OperatorStatistics operator : operators) {
+            if (!inputs.contains(operator)) {
+                roots.add(operator);
+            }
+        }
+
+        return roots;
+    }
+
+    /** Records rows read from a storage by a scan of the fragment. */
+    public void onRowsScanned(long rows) {
+        rowsScanned.add(rows);
+
+        metricSource.onRowsScanned(rows);
+    }
+
+    /** Records bytes of rows sent to other fragments. */
+    public void onBytesSent(long bytes) {
+        bytesSent.add(bytes);
+
+        metricSource.onBytesSent(bytes);
+    }
+
+    /** Records bytes of rows received from other fragments. */
+    public void onBytesReceived(long bytes) {
+        bytesReceived.add(bytes);
+
+        metricSource.onBytesReceived(bytes);
+    }
+
+    /** Returns the number of rows read from storages by the scans of the fragment. */
+    public long rowsScanned() {
+        return rowsScanned.sum();
+    }
+
+    /** Returns the number of bytes of rows sent to other fragments. */
+    public long bytesSent() {
+        return bytesSent.sum();
+    }
+
+    /** Returns the number of bytes of rows received from other fragments. */
+    public long bytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    /**
+     * Statistics of an operator of the fragment.
+     *
+     * <p>Operators of a fragment are executed by a single thread at a time, so the counters are updated without atomic operations and
+     * are only published for the readers by the volatile writes.
+     */
+    public static class OperatorStatistics {
+        private final String name;
+
+        private volatile long rows;
+
+        private volatile long timeNanos;
+
+        private volatile long batches;
+
+        private volatile long bufferedRows;
+
+        private volatile List<OperatorStatistics> inputs = List.of();
+
+        private OperatorStatistics(String name) {
+            this.name = name;
+        }
+
+        /** Returns name of the operator. */
+        public String name() {
+            return name;
+        }
+
+        /** Records rows produced by the operator. */
+        @SuppressWarnings("NonAtomicOperationOnVolatileField")
+        public void onRows(long rows) {
+            this.rows += rows;
+        }
+
+        /** Records time spent executing the tasks of the operator. */
+        @SuppressWarnings("NonAtomicOperationOnVolatileField")
+        public void onTime(long nanos) {
+            this.timeNanos += nanos;
+        }
+
+        /** Records batches exchanged by the operator with other fragments. */
+        @SuppressWarnings("NonAtomicOperationOnVolatileField")
+        public void onBatches(long batches) {
+            this.batches += batches;
+        }
+
+        /** Records the number of rows or hash table entries currently held in memory by the operator. */
+        public void onBufferedRows(long rows) {
+            if (rows > bufferedRows) {
+                bufferedRows = rows;
+            }
+        }
+
+        /** Sets statistics of the input operators. */
+        public void inputs(List<OperatorStatistics> inputs) {
+            this.inputs = List.copyOf(inputs);
+        }
+
+        /** Returns the number of rows produced by the operator. */
+        public long rows() {
+            return rows;
+        }
+
+        /**
+         * Returns time spent executing the tasks of the operator in nanoseconds. It includes the time the consumers of the operator
+         * spent processing the rows pushed to them from these tasks.
+         */
+        public long timeNanos() {
+            return timeNanos;
+        }
+
+        /** Returns the number of batches requested from other fragments by an inbox or sent to other fragments by an outbox. */
+        public long batches() {
+            return batches;
+        }
+
+        /** Returns the peak number of rows or hash table entries held in memory by the operator. */
+        public long bufferedRows() {
+            return bufferedRows;
+        }
+
+        /** Returns statistics of the input operators. */
+        public List<OperatorStatistics> inputs() {
+            return inputs;
+        }
+    }
+}
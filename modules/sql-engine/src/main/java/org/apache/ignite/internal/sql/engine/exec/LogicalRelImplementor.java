@@ -581,7 +581,8 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
                 partitionProvider,
                 filters,
                 prj,
-                requiredColumns == null ? null : requiredColumns.toBitSet()
+                requiredColumns == null ? null : requiredColumns.toBitSet(),
+                rel.parallelism()
         );
     }
 
@@ -58,4 +58,11 @@ public interface QueryTaskExecutor extends LifecycleAware, Executor {
      *         {@code false} if the timeout elapsed before termination
      */
     boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Returns the number of tasks waiting for execution.
+     *
+     * @return Size of the task queue.
+     */
+    int queueSize();
 }
@@ -24,17 +24,16 @@ import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.failure.FailureContext;
 import org.apache.ignite.internal.failure.FailureManager;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metrics.sources.ThreadPoolMetricSource;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
 import org.apache.ignite.internal.thread.StripedThreadPoolExecutor;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.IgniteException;
-import org.jetbrains.annotations.TestOnly;
 
 /**
  * Implementation of query task executor for any SQL related execution stage.
@@ -44,10 +43,15 @@ public class QueryTaskExecutorImpl implements QueryTaskExecutor {
 
     private static final UUID QUERY_ID_STUB = UUID.randomUUID();
 
+    /** Name of the thread pool that executes the query tasks. */
+    public static final String POOL_NAME = "sql-execution-pool";
+
     private final String nodeName;
 
     private volatile StripedThreadPoolExecutor stripedThreadPoolExecutor;
 
+    private volatile ThreadPoolMetricSource metricSource;
+
     private final int concurrencyLevel;
 
     private final FailureManager failureManager;
@@ -70,10 +74,17 @@ public class QueryTaskExecutorImpl implements QueryTaskExecutor {
     public void start() {
         this.stripedThreadPoolExecutor = new StripedThreadPoolExecutor(
                 concurrencyLevel,
-                IgniteThreadFactory.create(nodeName, "sql-execution-pool", LOG, NOTHING_ALLOWED),
+                IgniteThreadFactory.create(nodeName, POOL_NAME, LOG, NOTHING_ALLOWED),
                 false,
                 0
         );
+
+        this.metricSource = new ThreadPoolMetricSource(POOL_NAME, stripedThreadPoolExecutor.stripeExecutors());
+    }
+
+    /** Returns metric source of the thread pool, which is available once the executor is started. */
+    public ThreadPoolMetricSource metricSource() {
+        return metricSource;
     }
 
     /** {@inheritDoc} */
@@ -140,13 +151,13 @@ public class QueryTaskExecutorImpl implements QueryTaskExecutor {
         return stripedThreadPoolExecutor.awaitTermination(timeout, unit);
     }
 
-    /** Returns the task queue size used by this executor. */
-    @TestOnly
+    /** {@inheritDoc} */
+    @Override
     public int queueSize() {
         int totalQueueSize = 0;
 
         for (int i = 0; i < concurrencyLevel; i++) {
-            totalQueueSize += ((ThreadPoolExecutor) stripedThreadPoolExecutor.stripeExecutor(i)).getQueue().size();
+            totalQueueSize += stripedThreadPoolExecutor.stripeExecutor(i).getQueue().size();
         }
 
         return totalQueueSize;
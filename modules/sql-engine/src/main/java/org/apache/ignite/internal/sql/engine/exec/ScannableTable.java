@@ -48,6 +48,28 @@ public interface ScannableTable {
             @Nullable BitSet requiredColumns
     );
 
+    /**
+     * Performs a scan over a partition of the table split into the given number of ranges, which are scanned concurrently. Rows are
+     * produced in no particular order. By default, the partition is scanned as a whole.
+     *
+     * @param ctx  Execution context.
+     * @param partWithConsistencyToken  Partition.
+     * @param rowFactory  Row factory.
+     * @param requiredColumns  Required columns.
+     * @param splits  Desired number of concurrently scanned ranges of the partition.
+     * @return  A publisher that produces rows.
+     * @param <RowT>  A type of row.
+     */
+    default <RowT> Publisher<RowT> scan(
+            ExecutionContext<RowT> ctx,
+            PartitionWithConsistencyToken partWithConsistencyToken,
+            RowFactory<RowT> rowFactory,
+            @Nullable BitSet requiredColumns,
+            int splits
+    ) {
+        return scan(ctx, partWithConsistencyToken, rowFactory, requiredColumns);
+    }
+
     /**
      * Performs range scan using the given index.
      *
@@ -21,8 +21,10 @@ import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
 import static org.apache.ignite.internal.storage.index.SortedIndexStorage.GREATER_OR_EQUAL;
 import static org.apache.ignite.internal.storage.index.SortedIndexStorage.LESS_OR_EQUAL;
 
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
@@ -34,6 +36,7 @@ import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.exp.RangeCondition;
 import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.util.SubscriptionUtils;
 import org.apache.ignite.internal.util.subscription.TransformingPublisher;
 import org.apache.ignite.internal.utils.PrimaryReplica;
 import org.jetbrains.annotations.Nullable;
@@ -92,6 +95,57 @@ public class ScannableTableImpl implements ScannableTable {
         return new TransformingPublisher<>(pub, item -> rowConverter.toRow(ctx, item, rowFactory));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Only read-only scans are split: split points are requested from the replica, which serves the scan, and every range between
+     * them is scanned by its own cursor. Read-write scans are not split.
+     */
+    @Override
+    public <RowT> Publisher<RowT> scan(
+            ExecutionContext<RowT> ctx,
+            PartitionWithConsistencyToken partWithConsistencyToken,
+            RowFactory<RowT> rowFactory,
+            @Nullable BitSet requiredColumns,
+            int splits
+    ) {
+        TxAttributes txAttributes = ctx.txAttributes();
+
+        if (splits <= 1 || !txAttributes.readOnly()) {
+            return scan(ctx, partWithConsistencyToken, rowFactory, requiredColumns);
+        }
+
+        int partId = partWithConsistencyToken.partId();
+        HybridTimestamp readTime = txAttributes.time();
+
+        assert readTime != null;
+
+        CompletableFuture<List<Publisher<BinaryRow>>> ranges = internalTable.scanSplitPoints(partId, ctx.localNode(), splits)
+                .thenApply(splitPoints -> {
+                    var publishers = new ArrayList<Publisher<BinaryRow>>(splitPoints.size() + 1);
+                    UUID lower = null;
+
+                    for (UUID upper : splitPoints) {
+                        publishers.add(internalTable.scan(partId, txAttributes.id(), readTime, ctx.localNode(), lower, upper,
+                                txAttributes.coordinatorId()));
+
+                        lower = upper;
+                    }
+
+                    publishers.add(internalTable.scan(partId, txAttributes.id(), readTime, ctx.localNode(), lower, null,
+                            txAttributes.coordinatorId()));
+
+                    return publishers;
+                });
+
+        TableRowConverter rowConverter = converterFactory.create(requiredColumns, partId);
+
+        return new TransformingPublisher<>(
+                SubscriptionUtils.merge(ctx.bufferSize(), ranges),
+                item -> rowConverter.toRow(ctx, item, rowFactory)
+        );
+    }
+
     /** {@inheritDoc} */
     @Override
     public <RowT> Publisher<RowT> indexRangeScan(
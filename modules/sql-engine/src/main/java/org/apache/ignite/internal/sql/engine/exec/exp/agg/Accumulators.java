@@ -90,6 +90,12 @@ public class Accumulators {
             case "LITERAL_AGG":
                 assert call.rexList.size() == 1 : "Incorrect number of pre-operands for LiteralAgg: " + call + ", input: " + inputType;
                 return LiteralVal.newAccumulator(call.rexList.get(0).getType());
+            case "APPROX_COUNT_DISTINCT":
+                return ApproxCountDistinct.FACTORY;
+            case "$APPROX_COUNT_DISTINCT_MAP":
+                return ApproxCountDistinct.MAP_FACTORY;
+            case "$APPROX_COUNT_DISTINCT_REDUCE":
+                return ApproxCountDistinct.REDUCE_FACTORY;
             default:
                 throw new AssertionError(call.getAggregation().getName());
         }
@@ -518,6 +524,78 @@ public class Accumulators {
         }
     }
 
+    /**
+     * {@code APPROX_COUNT_DISTINCT} accumulator, which estimates the number of distinct non-null values with a {@link HyperLogLog}
+     * sketch. On the MAP phase the accumulator returns the serialized sketch, on the REDUCE phase it merges the sketches of the MAP phase.
+     */
+    public static class ApproxCountDistinct implements Accumulator {
+        public static final Supplier<Accumulator> FACTORY = () -> new ApproxCountDistinct(false, false);
+
+        public static final Supplier<Accumulator> MAP_FACTORY = () -> new ApproxCountDistinct(false, true);
+
+        public static final Supplier<Accumulator> REDUCE_FACTORY = () -> new ApproxCountDistinct(true, false);
+
+        /** Whether the arguments are serialized sketches. */
+        private final boolean mergeSketches;
+
+        /** Whether the result is a serialized sketch instead of the estimate. */
+        private final boolean returnSketch;
+
+        private ApproxCountDistinct(boolean mergeSketches, boolean returnSketch) {
+            this.mergeSketches = mergeSketches;
+            this.returnSketch = returnSketch;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void add(AccumulatorsState state, Object... args) {
+            assert args.length == 1 : args.length;
+
+            Object in = args[0];
+
+            if (in == null) {
+                return;
+            }
+
+            HyperLogLog sketch = (HyperLogLog) state.get();
+
+            if (sketch == null) {
+                sketch = new HyperLogLog();
+                state.set(sketch);
+            }
+
+            if (mergeSketches) {
+                sketch.merge(HyperLogLog.fromBytes(((ByteString) in).getBytes()));
+            } else {
+                sketch.add(in);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void end(AccumulatorsState state, AccumulatorsState result) {
+            HyperLogLog sketch = (HyperLogLog) state.get();
+
+            if (sketch == null) {
+                sketch = new HyperLogLog();
+            }
+
+            result.set(returnSketch ? new ByteString(sketch.toBytes()) : sketch.estimate());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public List<RelDataType> argumentTypes(IgniteTypeFactory typeFactory) {
+            return List.of(typeFactory.createTypeWithNullability(typeFactory.createSqlType(mergeSketches ? VARBINARY : ANY), true));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RelDataType returnType(IgniteTypeFactory typeFactory) {
+            return typeFactory.createSqlType(returnSketch ? VARBINARY : BIGINT);
+        }
+    }
+
     /** Wraps another sum accumulator and returns {@code null} if there was updates. */
     public static class Sum implements Accumulator {
         private final Accumulator acc;
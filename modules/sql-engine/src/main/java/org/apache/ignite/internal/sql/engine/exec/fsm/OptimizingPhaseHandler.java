@@ -20,16 +20,22 @@ package org.apache.ignite.internal.sql.engine.exec.fsm;
 import static org.apache.ignite.internal.sql.engine.exec.fsm.ValidationHelper.validateDynamicParameters;
 import static org.apache.ignite.internal.sql.engine.exec.fsm.ValidationHelper.validateParsedStatement;
 import static org.apache.ignite.lang.ErrorGroups.Sql.RUNTIME_ERR;
+import static org.apache.ignite.lang.ErrorGroups.Sql.STMT_VALIDATION_ERR;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.sql.engine.SqlOperationContext;
 import org.apache.ignite.internal.sql.engine.SqlQueryType;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
+import org.apache.ignite.internal.sql.engine.prepare.QueryPlan;
+import org.apache.ignite.internal.sql.engine.sql.ParameterizedResult;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 import org.apache.ignite.internal.sql.engine.tx.QueryTransactionContext;
 import org.apache.ignite.internal.sql.engine.tx.QueryTransactionWrapper;
+import org.apache.ignite.internal.util.ExceptionUtils;
 import org.apache.ignite.sql.SqlException;
 
 /** Validates parsed AST acquired on the previous phase and submit optimization task to {@link PrepareService}. */
@@ -45,31 +51,22 @@ class OptimizingPhaseHandler implements ExecutionPhaseHandler {
 
         assert result != null : "Query is expected to be parsed at this phase";
 
-        validateParsedStatement(query.properties, result);
-        validateDynamicParameters(result.dynamicParamsCount(), query.params, true);
+        ParsedResult source = result instanceof ParameterizedResult ? ((ParameterizedResult) result).source() : result;
+
+        validateParsedStatement(query.properties, source);
+        validateDynamicParameters(source.dynamicParamsCount(), query.params, true);
         ensureStatementMatchesTx(result.queryType(), query.txContext);
 
         HybridTimestamp operationTime = query.executor.deriveOperationTime(query.txContext);
 
-        String schemaName = query.properties.defaultSchema();
-        ZoneId timeZoneId = query.properties.timeZoneId();
+        Object[] params = result instanceof ParameterizedResult ? ((ParameterizedResult) result).parameters(query.params) : query.params;
 
-        SqlOperationContext operationContext = SqlOperationContext.builder()
-                .queryId(query.id)
-                .cancel(query.cancel)
-                .parameters(query.params)
-                .timeZoneId(timeZoneId)
-                .defaultSchemaName(schemaName)
-                .operationTime(operationTime)
-                .txContext(query.txContext)
-                .txUsedListener(tx -> query.usedTransaction = tx)
-                .errorHandler(query::setError)
-                .build();
+        SqlOperationContext operationContext = createOperationContext(query, operationTime, params);
 
         query.operationContext = operationContext;
 
         CompletableFuture<Void> awaitFuture = query.executor.waitForMetadata(operationTime)
-                .thenCompose(none -> query.executor.prepare(result, operationContext)
+                .thenCompose(none -> prepare(query, result, source, operationContext)
                         .thenAccept(plan -> {
                             if (query.txContext.explicitTx() == null) {
                                 // in case of implicit tx we have to update observable time to prevent tx manager to start
@@ -84,6 +81,62 @@ class OptimizingPhaseHandler implements ExecutionPhaseHandler {
         return Result.proceedAfter(awaitFuture);
     }
 
+    private static SqlOperationContext createOperationContext(Query query, HybridTimestamp operationTime, Object[] params) {
+        String schemaName = query.properties.defaultSchema();
+        ZoneId timeZoneId = query.properties.timeZoneId();
+        Instant slowQueryTime = query.executor.slowQueryTime(query.createdAt);
+
+        return SqlOperationContext.builder()
+                .queryId(query.id)
+                .cancel(query.cancel)
+                .parameters(params)
+                .timeZoneId(timeZoneId)
+                .defaultSchemaName(schemaName)
+                .operationTime(operationTime)
+                .txContext(query.txContext)
+                .txUsedListener(tx -> query.usedTransaction = tx)
+                .errorHandler(query::setError)
+                .operatorStatisticsTracked(slowQueryTime != null)
+                .slowQueryTime(slowQueryTime)
+                .build();
+    }
+
+    /**
+     * Prepares a plan of the statement. If the statement's literals were replaced with dynamic parameters, and the statement fails
+     * validation, prepares the original statement instead: a parameter may be rejected where the literal is accepted, e.g. when it is
+     * compared with a column of an incompatible type, and the user should get the same result as if there was no replacement.
+     */
+    private static CompletableFuture<QueryPlan> prepare(
+            Query query,
+            ParsedResult result,
+            ParsedResult source,
+            SqlOperationContext operationContext
+    ) {
+        CompletableFuture<QueryPlan> planFuture = query.executor.prepare(result, operationContext);
+
+        if (result == source) {
+            return planFuture;
+        }
+
+        return planFuture.handle((plan, err) -> {
+            if (err == null) {
+                return CompletableFuture.completedFuture(plan);
+            }
+
+            Throwable cause = ExceptionUtils.unwrapCause(err);
+
+            if (!(cause instanceof SqlException) || ((SqlException) cause).code() != STMT_VALIDATION_ERR) {
+                return CompletableFuture.<QueryPlan>failedFuture(err);
+            }
+
+            SqlOperationContext sourceContext = createOperationContext(query, operationContext.operationTime(), query.params);
+
+            query.operationContext = sourceContext;
+
+            return query.executor.prepare(source, sourceContext);
+        }).thenCompose(Function.identity());
+    }
+
     /** Checks that the statement is allowed within an external/script transaction. */
     private static void ensureStatementMatchesTx(SqlQueryType queryType, QueryTransactionContext txContext) {
         QueryTransactionWrapper txWrapper = txContext.explicitTx();
@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.sql.engine.util.Commons.isMultiStatemen
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.sql.engine.SqlQueryType;
+import org.apache.ignite.internal.sql.engine.sql.LiteralParameterizer;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 
 /** Parses the query string and populate {@link Query query state} with results. */
@@ -61,6 +62,9 @@ class ParsingPhaseHandler implements ExecutionPhaseHandler {
                     result = query.executor.parse(query.sql);
                 }
 
+                // Statements which differ only in literals should share a plan.
+                result = LiteralParameterizer.parameterize(result);
+
                 if (result.queryType().supportsParseResultCaching()) {
                     query.executor.updateParsedResultCache(query.sql, result);
                 }
@@ -19,7 +19,9 @@ package org.apache.ignite.internal.sql.engine.exec.fsm;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+import static org.apache.ignite.lang.ErrorGroups.Sql.EXECUTION_CANCELLED_ERR;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -32,6 +34,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.CatalogService;
@@ -56,6 +59,7 @@ import org.apache.ignite.internal.sql.engine.exec.ExecutionService;
 import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
 import org.apache.ignite.internal.sql.engine.exec.TransactionalOperationTracker;
 import org.apache.ignite.internal.sql.engine.prepare.DdlPlan;
+import org.apache.ignite.internal.sql.engine.prepare.ExplainablePlan;
 import org.apache.ignite.internal.sql.engine.prepare.KeyValueGetPlan;
 import org.apache.ignite.internal.sql.engine.prepare.KeyValueModifyPlan;
 import org.apache.ignite.internal.sql.engine.prepare.MultiStepPlan;
@@ -67,12 +71,15 @@ import org.apache.ignite.internal.sql.engine.tx.QueryTransactionContext;
 import org.apache.ignite.internal.sql.engine.tx.QueryTransactionWrapper;
 import org.apache.ignite.internal.sql.engine.util.cache.Cache;
 import org.apache.ignite.internal.sql.engine.util.cache.CacheFactory;
+import org.apache.ignite.internal.sql.metrics.SqlQueryMetricSource;
 import org.apache.ignite.internal.util.ArrayUtils;
 import org.apache.ignite.internal.util.CompletableFutures;
+import org.apache.ignite.internal.util.ExceptionUtils;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.CancelHandleHelper;
 import org.apache.ignite.lang.CancellationToken;
+import org.apache.ignite.lang.IgniteException;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -99,6 +106,10 @@ public class QueryExecutor implements LifecycleAware {
 
     private final QueryEventsFactory eventsFactory;
 
+    private final SqlQueryMetricSource metricSource;
+
+    private final LongSupplier slowQueryThresholdMillis;
+
     /**
      * Creates executor.
      *
@@ -116,6 +127,9 @@ public class QueryExecutor implements LifecycleAware {
      * @param transactionalOperationTracker Tracker to track usage of transactions by query.
      * @param idGenerator Id generator used to provide cluster-wide unique query id.
      * @param eventLog Event log.
+     * @param metricSource Query metric source.
+     * @param slowQueryThresholdMillis Supplier of the duration in milliseconds, starting from which a completed query is logged as a
+     *      slow one, non-positive value disables the slow query log.
      */
     public QueryExecutor(
             String nodeId,
@@ -131,7 +145,9 @@ public class QueryExecutor implements LifecycleAware {
             ExecutionService executionService,
             TransactionalOperationTracker transactionalOperationTracker,
             QueryIdGenerator idGenerator,
-            EventLog eventLog
+            EventLog eventLog,
+            SqlQueryMetricSource metricSource,
+            LongSupplier slowQueryThresholdMillis
     ) {
         this.queryToParsedResultCache = cacheFactory.create(parsedResultsCacheSize);
         this.parserService = parserService;
@@ -146,6 +162,8 @@ public class QueryExecutor implements LifecycleAware {
         this.idGenerator = idGenerator;
         this.eventLog = eventLog;
         this.eventsFactory = new QueryEventsFactory(nodeId);
+        this.metricSource = metricSource;
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
     }
 
     /**
@@ -483,6 +501,16 @@ public class QueryExecutor implements LifecycleAware {
         executor.execute(runnable);
     }
 
+    /**
+     * Returns the time, starting from which the query created at the given time is logged as a slow one, or {@code null} if the slow
+     * query log is disabled.
+     */
+    @Nullable Instant slowQueryTime(Instant createdAt) {
+        long threshold = slowQueryThresholdMillis.getAsLong();
+
+        return threshold > 0 ? createdAt.plusMillis(threshold) : null;
+    }
+
     HybridTimestamp deriveOperationTime(QueryTransactionContext txContext) {
         QueryTransactionWrapper txWrapper = txContext.explicitTx();
 
@@ -498,7 +526,14 @@ public class QueryExecutor implements LifecycleAware {
     }
 
     CompletableFuture<QueryPlan> prepare(ParsedResult result, SqlOperationContext operationContext) {
-        return prepareService.prepareAsync(result, operationContext);
+        long start = System.nanoTime();
+
+        return prepareService.prepareAsync(result, operationContext)
+                .whenComplete((plan, err) -> {
+                    if (err == null) {
+                        metricSource.onQueryPlanned(NANOSECONDS.toMicros(System.nanoTime() - start));
+                    }
+                });
     }
 
     HybridTimestamp deriveMinimalRequiredTime(QueryPlan plan) {
@@ -547,6 +582,8 @@ public class QueryExecutor implements LifecycleAware {
     private void trackQuery(Query query, @Nullable CancellationToken cancellationToken) {
         Query old = runningQueries.put(query.id, query);
 
+        metricSource.onQueryStarted();
+
         eventLog.log(IgniteEventType.QUERY_STARTED.name(),
                 () -> eventsFactory.makeStartEvent(new QueryInfo(query), EventUser.system()));
 
@@ -559,6 +596,8 @@ public class QueryExecutor implements LifecycleAware {
 
             long finishTime = clockService.current().getPhysical();
 
+            onQueryFinished(query, finishTime);
+
             eventLog.log(IgniteEventType.QUERY_FINISHED.name(),
                     () -> eventsFactory.makeFinishEvent(new QueryInfo(query), EventUser.system(), finishTime));
         });
@@ -568,6 +607,35 @@ public class QueryExecutor implements LifecycleAware {
         }
     }
 
+    private void onQueryFinished(Query query, long finishTime) {
+        long durationMillis = finishTime - query.createdAt.toEpochMilli();
+        Throwable error = query.error.get();
+
+        metricSource.onQueryFinished(durationMillis, error != null, error != null && isCancellation(error));
+
+        long threshold = slowQueryThresholdMillis.getAsLong();
+
+        if (threshold > 0 && durationMillis >= threshold) {
+            QueryPlan plan = query.plan;
+            SqlOperationContext operationContext = query.operationContext;
+
+            eventLog.log(IgniteEventType.QUERY_SLOW.name(), () -> eventsFactory.makeSlowQueryEvent(
+                    new QueryInfo(query),
+                    plan instanceof ExplainablePlan ? ((ExplainablePlan) plan).explain() : null,
+                    operationContext == null ? List.of() : operationContext.fragmentStatistics(),
+                    operationContext == null ? List.of() : operationContext.remoteFragmentStatistics(),
+                    EventUser.system(),
+                    finishTime
+            ));
+        }
+    }
+
+    private static boolean isCancellation(Throwable error) {
+        Throwable cause = ExceptionUtils.unwrapCause(error);
+
+        return cause instanceof IgniteException && ((IgniteException) cause).code() == EXECUTION_CANCELLED_ERR;
+    }
+
     /** Returns list of queries registered on server at the moment. */
     public List<QueryInfo> runningQueries() {
         return runningQueries.values().stream()
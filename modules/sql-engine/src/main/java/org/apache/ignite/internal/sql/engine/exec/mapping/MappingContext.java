@@ -17,10 +17,12 @@
 
 package org.apache.ignite.internal.sql.engine.exec.mapping;
 
+import java.util.Comparator;
 import java.util.List;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.ignite.internal.sql.engine.exec.mapping.largecluster.LargeClusterFactory;
 import org.apache.ignite.internal.sql.engine.exec.mapping.smallcluster.SmallClusterFactory;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A context that encloses information necessary during mapping.
@@ -32,12 +34,24 @@ class MappingContext {
 
     private final ExecutionTargetFactory targetFactory;
 
-    MappingContext(String localNode, List<String> nodes, RelOptCluster cluster) {
+    /**
+     * Constructor.
+     *
+     * @param localNode Name of the local node.
+     * @param nodes Nodes available for mapping.
+     * @param cluster Cluster of the fragments.
+     * @param nodeOrder Order of preference of the nodes for targets with several options or {@code null} for the default order.
+     */
+    MappingContext(String localNode, List<String> nodes, RelOptCluster cluster, @Nullable Comparator<String> nodeOrder) {
         this.localNode = localNode;
         this.nodes = nodes;
         this.cluster = cluster;
 
-        this.targetFactory = nodes.size() > 64 ? new LargeClusterFactory(nodes) : new SmallClusterFactory(nodes);
+        if (nodes.size() > 64) {
+            this.targetFactory = new LargeClusterFactory(nodes, nodeOrder);
+        } else {
+            this.targetFactory = nodeOrder == null ? new SmallClusterFactory(nodes) : new SmallClusterFactory(nodes, nodeOrder);
+        }
     }
 
     public RelOptCluster cluster() {
@@ -49,6 +49,7 @@ import org.apache.ignite.internal.placementdriver.PlacementDriver;
 import org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEventParameters;
 import org.apache.ignite.internal.replicator.TablePartitionId;
 import org.apache.ignite.internal.replicator.ZonePartitionId;
+import org.apache.ignite.internal.sql.engine.exec.mapping.NodeLoadTracker.LoadSnapshot;
 import org.apache.ignite.internal.sql.engine.prepare.Fragment;
 import org.apache.ignite.internal.sql.engine.prepare.MultiStepPlan;
 import org.apache.ignite.internal.sql.engine.prepare.PlanId;
@@ -81,6 +82,7 @@ public class MappingServiceImpl implements MappingService {
     private final PartitionPruner partitionPruner;
     private final LongSupplier logicalTopologyVerSupplier;
     private final ExecutionDistributionProvider distributionProvider;
+    private final NodeLoadTracker loadTracker;
 
     private final boolean enabledColocation = IgniteSystemProperties.enabledColocation();
 
@@ -94,6 +96,7 @@ public class MappingServiceImpl implements MappingService {
      * @param partitionPruner Partition pruner.
      * @param logicalTopologyVerSupplier Logical topology version supplier.
      * @param distributionProvider Execution distribution provider.
+     * @param loadTracker Tracker of the load of the nodes, which is used to map read-only fragments to the least loaded replicas.
      */
     public MappingServiceImpl(
             String localNodeName,
@@ -102,7 +105,8 @@ public class MappingServiceImpl implements MappingService {
             int cacheSize,
             PartitionPruner partitionPruner,
             LongSupplier logicalTopologyVerSupplier,
-            ExecutionDistributionProvider distributionProvider
+            ExecutionDistributionProvider distributionProvider,
+            NodeLoadTracker loadTracker
     ) {
         this.localNodeName = localNodeName;
         this.clock = clock;
@@ -111,6 +115,7 @@ public class MappingServiceImpl implements MappingService {
         this.partitionPruner = partitionPruner;
         this.logicalTopologyVerSupplier = logicalTopologyVerSupplier;
         this.distributionProvider = distributionProvider;
+        this.loadTracker = loadTracker;
     }
 
     /** Called when the primary replica has expired. */
@@ -140,7 +145,7 @@ public class MappingServiceImpl implements MappingService {
 
         CompletableFuture<MappedFragments> mappedFragments;
         if (nodeExclusionFilter != null) {
-            mappedFragments = mapFragments(template, mapOnBackups, nodeExclusionFilter);
+            mappedFragments = mapFragments(template, mapOnBackups, nodeExclusionFilter, loadSnapshot(mapOnBackups), false);
         } else {
             mappedFragments = mappingsCache.compute(
                     new MappingsCacheKey(multiStepPlan.id(), mapOnBackups),
@@ -156,6 +161,9 @@ public class MappingServiceImpl implements MappingService {
             FragmentsTemplate template,
             boolean mapOnBackups
     ) {
+        LoadSnapshot loadSnapshot = loadSnapshot(mapOnBackups);
+        long loadVersion = loadSnapshot == null ? 0 : loadSnapshot.version();
+
         if (val == null) {
             IntSet tableOrZoneIds = new IntOpenHashSet();
             boolean topologyAware = false;
@@ -173,18 +181,36 @@ public class MappingServiceImpl implements MappingService {
 
             long topVer = topologyAware ? logicalTopologyVerSupplier.getAsLong() : Long.MAX_VALUE;
 
-            return new MappingsCacheValue(topVer, tableOrZoneIds, mapFragments(template, mapOnBackups, null));
+            return new MappingsCacheValue(
+                    topVer, loadVersion, tableOrZoneIds, mapFragments(template, mapOnBackups, null, loadSnapshot, false)
+            );
         }
 
         long topologyVer = logicalTopologyVerSupplier.getAsLong();
 
         if (val.topologyVersion < topologyVer) {
-            return new MappingsCacheValue(topologyVer, val.tabelOrZoneIds, mapFragments(template, mapOnBackups, null));
+            return new MappingsCacheValue(
+                    topologyVer, loadVersion, val.tabelOrZoneIds, mapFragments(template, mapOnBackups, null, loadSnapshot, false)
+            );
+        }
+
+        if (val.loadVersion != loadVersion) {
+            return new MappingsCacheValue(
+                    val.topologyVersion, loadVersion, val.tabelOrZoneIds, mapFragments(template, mapOnBackups, null, loadSnapshot, true)
+            );
         }
 
         return val;
     }
 
+    /**
+     * Returns the load levels of the nodes to map the fragments with. Only read-only fragments, which may be executed on any replica,
+     * take the load into account, the others are mapped to the primary replicas.
+     */
+    private @Nullable LoadSnapshot loadSnapshot(boolean mapOnBackups) {
+        return mapOnBackups ? loadTracker.snapshot() : null;
+    }
+
     CompletableFuture<DistributionHolder> composeDistributions(
             Set<IgniteSystemView> views,
             Set<IgniteTable> tables,
@@ -236,7 +262,9 @@ public class MappingServiceImpl implements MappingService {
     private CompletableFuture<MappedFragments> mapFragments(
             FragmentsTemplate template,
             boolean mapOnBackups,
-            @Nullable Predicate<String> nodeExclusionFilter
+            @Nullable Predicate<String> nodeExclusionFilter,
+            @Nullable LoadSnapshot loadSnapshot,
+            boolean remapping
     ) {
         Set<IgniteSystemView> views = template.fragments.stream().flatMap(fragment -> fragment.systemViews().stream())
                 .collect(Collectors.toSet());
@@ -250,7 +278,10 @@ public class MappingServiceImpl implements MappingService {
             Int2ObjectMap<ExecutionTarget> targetsById = new Int2ObjectOpenHashMap<>();
 
             MappingContext context = new MappingContext(
-                    localNodeName, assignments.nodes(nodeExclusionFilter), template.cluster
+                    localNodeName,
+                    assignments.nodes(nodeExclusionFilter),
+                    template.cluster,
+                    loadSnapshot == null ? null : loadSnapshot.nodeOrder()
             );
 
             ExecutionTargetFactory targetFactory = context.targetFactory();
@@ -328,6 +359,8 @@ public class MappingServiceImpl implements MappingService {
                 targetNodes.addAll(mappedFragment.nodes());
             }
 
+            loadTracker.metricSource().onMapping(loadSnapshot != null && loadSnapshot.loadedNodes() > 0, remapping);
+
             return new MappedFragments(mappedFragmentsList, targetNodes);
         });
     }
@@ -403,11 +436,18 @@ public class MappingServiceImpl implements MappingService {
 
     private static class MappingsCacheValue {
         private final long topologyVersion;
+        private final long loadVersion;
         private final IntSet tabelOrZoneIds;
         private final CompletableFuture<MappedFragments> mappedFragments;
 
-        MappingsCacheValue(long topologyVersion, IntSet tabelOrZoneIds, CompletableFuture<MappedFragments> mappedFragments) {
+        MappingsCacheValue(
+                long topologyVersion,
+                long loadVersion,
+                IntSet tabelOrZoneIds,
+                CompletableFuture<MappedFragments> mappedFragments
+        ) {
             this.topologyVersion = topologyVersion;
+            this.loadVersion = loadVersion;
             this.tabelOrZoneIds = tabelOrZoneIds;
             this.mappedFragments = mappedFragments;
         }
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.mapping;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.apache.ignite.internal.sql.metrics.SqlMappingMetricSource;
+import org.jetbrains.annotations.TestOnly;
+
+/**
+ * Tracks the load of the nodes executing query fragments, which is used to map read-only fragments to the least loaded replicas.
+ *
+ * <p>The load of a node is estimated from the fragments started on it by the queries of this node: the moving average of the time from
+ * sending a fragment to the acknowledgement of its start, which includes the time the fragment waited in the task queue of the node,
+ * and the size of that queue reported with the acknowledgement. The estimates are periodically turned into a {@link LoadSnapshot} of
+ * load levels, where nodes within a factor of two of the least loaded node share the level {@code 0} and every next level is twice as
+ * loaded. Nodes without recent estimates are assumed to be not loaded, so they get fragments again once the signals of their load
+ * expire.
+ */
+public class NodeLoadTracker {
+    /** Time after which the load estimate of a node is discarded. */
+    private static final long SIGNAL_TTL_NANOS = SECONDS.toNanos(10);
+
+    /** Minimal interval between the recalculations of the snapshot. */
+    private static final long REFRESH_INTERVAL_NANOS = MILLISECONDS.toNanos(500);
+
+    /** Weight of a new latency sample in the moving average. */
+    private static final double LATENCY_WEIGHT = 0.2;
+
+    /** Latency below which the nodes are considered equally loaded, it hides the noise of fast local acknowledgements. */
+    private static final long MIN_LATENCY_MICROS = 100;
+
+    private final LongSupplier nanoTime;
+
+    private final Map<String, NodeLoad> loads = new ConcurrentHashMap<>();
+
+    private final SqlMappingMetricSource metricSource;
+
+    private final Object refreshMux = new Object();
+
+    private volatile LoadSnapshot snapshot;
+
+    /** Constructor. */
+    public NodeLoadTracker() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nanoTime Source of the monotonic time in nanoseconds.
+     */
+    @TestOnly
+    NodeLoadTracker(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+
+        snapshot = new LoadSnapshot(0, Object2IntMaps.emptyMap(), nanoTime.getAsLong());
+        metricSource = new SqlMappingMetricSource(() -> snapshot.loadedNodes());
+    }
+
+    /** Returns the metric source of the mapping decisions. */
+    public SqlMappingMetricSource metricSource() {
+        return metricSource;
+    }
+
+    /**
+     * Records a fragment started on a node.
+     *
+     * @param nodeName Name of the node.
+     * @param latencyNanos Time from sending the fragment to the acknowledgement of its start in nanoseconds.
+     * @param queueSize Size of the task queue of the node reported with the acknowledgement.
+     */
+    public void onFragmentStarted(String nodeName, long latencyNanos, int queueSize) {
+        loads.computeIfAbsent(nodeName, k -> new NodeLoad()).update(latencyNanos, queueSize, nanoTime.getAsLong());
+    }
+
+    /**
+     * Returns the current snapshot of the load levels of the nodes, recalculating it, if the previous one is outdated.
+     *
+     * @return Snapshot of the load levels.
+     */
+    public LoadSnapshot snapshot() {
+        LoadSnapshot snapshot0 = snapshot;
+        long now = nanoTime.getAsLong();
+
+        if (now - snapshot0.createdAt < REFRESH_INTERVAL_NANOS) {
+            return snapshot0;
+        }
+
+        synchronized (refreshMux) {
+            snapshot0 = snapshot;
+
+            if (now - snapshot0.createdAt < REFRESH_INTERVAL_NANOS) {
+                return snapshot0;
+            }
+
+            Object2IntMap<String> levels = calculateLevels(now);
+
+            // Keep the version, if the levels are the same, so the mappings calculated with the previous snapshot remain valid.
+            long version = levels.equals(snapshot0.levels) ? snapshot0.version : snapshot0.version + 1;
+
+            snapshot0 = new LoadSnapshot(version, levels, now);
+            snapshot = snapshot0;
+
+            return snapshot0;
+        }
+    }
+
+    private Object2IntMap<String> calculateLevels(long now) {
+        Object2LongMap<String> scores = new Object2LongOpenHashMap<>();
+        long minScore = Long.MAX_VALUE;
+
+        for (Map.Entry<String, NodeLoad> entry : loads.entrySet()) {
+            NodeLoad load = entry.getValue();
+
+            long score = load.score(now);
+
+            if (score < 0) {
+                loads.remove(entry.getKey(), load);
+            } else {
+                scores.put(entry.getKey(), score);
+                minScore = Math.min(minScore, score);
+            }
+        }
+
+        Object2IntMap<String> levels = new Object2IntOpenHashMap<>();
+
+        for (Object2LongMap.Entry<String> entry : scores.object2LongEntrySet()) {
+            int level = 63 - Long.numberOfLeadingZeros(entry.getLongValue() / minScore);
+
+            if (level > 0) {
+                levels.put(entry.getKey(), level);
+            }
+        }
+
+        return levels;
+    }
+
+    /** Immutable load levels of the nodes. */
+    public static class LoadSnapshot {
+        private final long version;
+
+        private final Object2IntMap<String> levels;
+
+        private final long createdAt;
+
+        private LoadSnapshot(long version, Object2IntMap<String> levels, long createdAt) {
+            this.version = version;
+            this.levels = levels;
+            this.createdAt = createdAt;
+        }
+
+        /** Returns the version of the snapshot, which changes only when the load levels change. */
+        public long version() {
+            return version;
+        }
+
+        /** Returns the load level of the node, {@code 0} for the least loaded nodes and the nodes without recent load estimates. */
+        public int level(String nodeName) {
+            return levels.getInt(nodeName);
+        }
+
+        /** Returns the number of nodes with the load level above {@code 0}. */
+        public int loadedNodes() {
+            return levels.size();
+        }
+
+        /** Returns the order of the nodes from the least loaded to the most loaded one, nodes with the same level are ordered by name. */
+        public Comparator<String> nodeOrder() {
+            return Comparator.<String>comparingInt(this::level).thenComparing(Comparator.naturalOrder());
+        }
+    }
+
+    /** Load estimate of a node. */
+    private static class NodeLoad {
+        private double latencyMicros = -1;
+
+        private int queueSize;
+
+        private long updatedAt;
+
+        synchronized void update(long latencyNanos, int queueSize, long now) {
+            double sample = NANOSECONDS.toMicros(latencyNanos);
+
+            latencyMicros = latencyMicros < 0 ? sample : latencyMicros + LATENCY_WEIGHT * (sample - latencyMicros);
+            this.queueSize = queueSize;
+            updatedAt = now;
+        }
+
+        /** Returns the score of the load or {@code -1}, if the estimate is expired. */
+        synchronized long score(long now) {
+            if (now - updatedAt > SIGNAL_TTL_NANOS) {
+                return -1;
+            }
+
+            // Every task waiting in the queue is expected to delay a new fragment by about the same time.
+            return Math.max((long) latencyMicros, MIN_LATENCY_MICROS) * (1 + queueSize);
+        }
+    }
+}
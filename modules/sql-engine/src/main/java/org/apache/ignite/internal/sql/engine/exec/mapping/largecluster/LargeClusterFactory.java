@@ -21,6 +21,7 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.util.BitSet;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.apache.ignite.internal.partitiondistribution.Assignment;
@@ -29,6 +30,7 @@ import org.apache.ignite.internal.sql.engine.exec.NodeWithConsistencyToken;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ExecutionTarget;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ExecutionTargetFactory;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingException;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A factory that able to create targets for cluster with up to 64 nodes.
@@ -39,13 +41,24 @@ public class LargeClusterFactory implements ExecutionTargetFactory {
 
     /** Constructor. */
     public LargeClusterFactory(List<String> nodes) {
-        this.nodes = nodes;
+        this(nodes, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nodes Nodes available for mapping.
+     * @param nodeOrder Order of preference of the nodes, a target with several options is finalised to the first of them. If
+     *         {@code null}, the order of the given list is used.
+     */
+    public LargeClusterFactory(List<String> nodes, @Nullable Comparator<String> nodeOrder) {
+        this.nodes = nodeOrder == null ? nodes : nodes.stream().sorted(nodeOrder).collect(Collectors.toList());
 
         nodeNameToId = new Object2IntOpenHashMap<>(nodes.size());
         nodeNameToId.defaultReturnValue(-1);
 
         int idx = 0;
-        for (String name : nodes) {
+        for (String name : this.nodes) {
             int ret = nodeNameToId.putIfAbsent(name, idx++);
             assert ret == -1 : "invalid node";
         }
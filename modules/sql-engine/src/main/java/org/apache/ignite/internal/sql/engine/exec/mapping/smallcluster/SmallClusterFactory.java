@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.util.IgniteUtils.isPow2;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.apache.ignite.internal.partitiondistribution.Assignment;
@@ -40,12 +41,22 @@ public class SmallClusterFactory implements ExecutionTargetFactory {
 
     /** Constructor. */
     public SmallClusterFactory(List<String> nodes) {
+        this(nodes, Comparator.naturalOrder());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nodes Nodes available for mapping.
+     * @param nodeOrder Order of preference of the nodes, a target with several options is finalised to the first of them.
+     */
+    public SmallClusterFactory(List<String> nodes, Comparator<String> nodeOrder) {
         if (nodes.size() > 64) {
             throw new IllegalArgumentException("Supported up to 64 nodes, but was " + nodes.size());
         }
 
         // to make mapping stable
-        this.nodes = nodes.stream().sorted().collect(Collectors.toList());
+        this.nodes = nodes.stream().sorted(nodeOrder).collect(Collectors.toList());
 
         nodeNameToId = new Object2LongOpenHashMap<>(nodes.size());
 
@@ -20,9 +20,12 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import java.util.ArrayList;
 import java.util.List;
 import org.apache.ignite.internal.lang.RunnableX;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.FragmentStatistics;
+import org.apache.ignite.internal.sql.engine.exec.FragmentStatistics.OperatorStatistics;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.util.IgniteUtils;
 
@@ -47,6 +50,11 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
 
     private final ExecutionContext<RowT> ctx;
 
+    private final OperatorStatistics statistics;
+
+    /** Whether rows produced and time spent by the node are collected, see {@link FragmentStatistics#operatorsTracked()}. */
+    private final boolean statisticsTracked;
+
     /** For debug purpose. */
     private volatile Thread thread;
 
@@ -65,6 +73,8 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
     protected AbstractNode(ExecutionContext<RowT> ctx) {
         this.ctx = ctx;
         this.inBufSize = ctx.bufferSize();
+        this.statistics = ctx.statistics().registerOperator(operatorName());
+        this.statisticsTracked = ctx.statistics().operatorsTracked();
     }
 
     /** {@inheritDoc} */
@@ -78,6 +88,16 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
     public void register(List<Node<RowT>> sources) {
         this.sources = sources;
 
+        List<OperatorStatistics> inputs = new ArrayList<>(sources.size());
+
+        for (Node<RowT> source : sources) {
+            if (source instanceof AbstractNode) {
+                inputs.add(((AbstractNode<RowT>) source).statistics);
+            }
+        }
+
+        statistics.inputs(inputs);
+
         for (int i = 0; i < sources.size(); i++) {
             sources.get(i).onRegister(requestDownstream(i));
         }
@@ -128,14 +148,38 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
 
             checkState();
 
-            task.run();
+            if (!statisticsTracked) {
+                task.run();
+
+                return;
+            }
+
+            long start = System.nanoTime();
+
+            try {
+                task.run();
+            } finally {
+                statistics.onTime(System.nanoTime() - start);
+            }
         }, this::onError);
     }
 
     /** {@inheritDoc} */
     @Override
     public void onRegister(Downstream<RowT> downstream) {
-        this.downstream = downstream;
+        this.downstream = statisticsTracked ? new CountingDownstream<>(downstream, statistics) : downstream;
+    }
+
+    /** Returns execution statistics of the node. */
+    protected OperatorStatistics statistics() {
+        return statistics;
+    }
+
+    /** Returns name of the operator implemented by the node, which is used in the execution statistics. */
+    private String operatorName() {
+        String name = getClass().getSimpleName();
+
+        return name.isEmpty() ? getClass().getName() : name;
     }
 
     /**
@@ -192,4 +236,33 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
     public Downstream<RowT> downstream() {
         return downstream;
     }
+
+    /** Downstream, which counts the rows pushed by the node. */
+    private static class CountingDownstream<RowT> implements Downstream<RowT> {
+        private final Downstream<RowT> delegate;
+
+        private final OperatorStatistics statistics;
+
+        CountingDownstream(Downstream<RowT> delegate, OperatorStatistics statistics) {
+            this.delegate = delegate;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public void push(RowT row) throws Exception {
+            statistics.onRows(1);
+
+            delegate.push(row);
+        }
+
+        @Override
+        public void end() throws Exception {
+            delegate.end();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            delegate.onError(e);
+        }
+    }
 }
@@ -135,6 +135,8 @@ public abstract class AbstractRightMaterializedJoinNode<RowT> extends AbstractNo
 
         waitingRight = NOT_WAITING;
 
+        statistics().onBufferedRows(materializedSize());
+
         join();
     }
 
@@ -149,4 +151,7 @@ public abstract class AbstractRightMaterializedJoinNode<RowT> extends AbstractNo
     protected abstract void join() throws Exception;
 
     protected abstract void pushRight(RowT row) throws Exception;
+
+    /** Returns the number of rows or hash table entries the right input is materialized into. */
+    protected abstract int materializedSize();
 }
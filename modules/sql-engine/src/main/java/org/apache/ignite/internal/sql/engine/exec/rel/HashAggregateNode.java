@@ -135,6 +135,14 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
         waiting = NOT_WAITING;
 
+        long groups = 0;
+
+        for (Grouping grouping : groupings) {
+            groups += grouping.groups.size();
+        }
+
+        statistics().onBufferedRows(groups);
+
         flush();
     }
 
@@ -840,6 +840,11 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
         };
     }
 
+    @Override
+    protected int materializedSize() {
+        return hashStore.size();
+    }
+
     @Override
     protected void pushRight(RowT row) throws Exception {
         assert downstream() != null;
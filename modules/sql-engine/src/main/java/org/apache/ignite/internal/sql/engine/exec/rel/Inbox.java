@@ -169,11 +169,16 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
         boolean waitingBefore = source.check() == State.WAITING;
 
         List<RowT> rows0 = new ArrayList<>(rows.size());
+        long bytes = 0;
 
         for (BinaryTupleMessage row : rows) {
+            bytes += row.tuple().remaining();
+
             rows0.add(rowFactory.create(row.asBinaryTuple()));
         }
 
+        context().statistics().onBytesReceived(bytes);
+
         source.onBatchReceived(batchId, last, rows0);
 
         if (requested > 0 && waitingBefore && source.check() != State.WAITING) {
@@ -352,6 +357,8 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
     }
 
     private void requestBatches(String nodeName, int cnt, @Nullable SharedState state) {
+        statistics().onBatches(cnt);
+
         exchange.request(nodeName, executionId(), srcFragmentId, exchangeId, cnt, state)
                 .whenComplete((ignored, ex) -> {
                     if (ex != null) {
@@ -62,6 +62,11 @@ public abstract class NestedLoopJoinNode<RowT> extends AbstractRightMaterialized
         super.rewindInternal();
     }
 
+    @Override
+    protected int materializedSize() {
+        return rightMaterialized.size();
+    }
+
     @Override
     protected void pushRight(RowT row) throws Exception {
         assert downstream() != null;
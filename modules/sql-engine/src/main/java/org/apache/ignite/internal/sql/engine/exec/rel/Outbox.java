@@ -19,6 +19,7 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
@@ -236,18 +237,26 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         RowHandler<RowT> handler = context().rowHandler();
 
         List<BinaryTupleMessage> rows0 = new ArrayList<>(rows.size());
+        long bytes = 0;
 
         for (RowT row : rows) {
             BinaryTuple tuple = handler.toBinaryTuple(row);
+            ByteBuffer buffer = tuple.byteBuffer();
+
+            bytes += buffer.remaining();
 
             rows0.add(
                     TABLE_MESSAGES_FACTORY.binaryTupleMessage()
                             .elementCount(tuple.elementCount())
-                            .tuple(tuple.byteBuffer())
+                            .tuple(buffer)
                             .build()
             );
         }
 
+        statistics().onRows(rows.size());
+        statistics().onBatches(1);
+        context().statistics().onBytesSent(bytes);
+
         exchange.sendBatch(nodeName, executionId(), targetFragmentId, exchangeId, batchId, last, rows0)
                 .whenComplete((ignored, ex) -> {
                     if (ex == null) {
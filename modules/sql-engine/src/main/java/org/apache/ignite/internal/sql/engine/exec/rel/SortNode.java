@@ -145,6 +145,8 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         waiting = NOT_WAITING;
 
+        statistics().onBufferedRows(rows.size());
+
         flush();
     }
 
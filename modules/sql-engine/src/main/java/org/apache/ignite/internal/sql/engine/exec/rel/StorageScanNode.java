@@ -122,6 +122,7 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
     private void push() throws Exception {
         if (requested > 0 && !inBuff.isEmpty()) {
             int processed = 0;
+            int scanned = 0;
             inLoop = true;
             try {
                 while (requested > 0 && !inBuff.isEmpty()) {
@@ -134,6 +135,8 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
 
                     RowT row = inBuff.poll();
 
+                    scanned++;
+
                     if (filters != null && !filters.test(row)) {
                         continue;
                     }
@@ -147,6 +150,8 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
                 }
             } finally {
                 inLoop = false;
+
+                context().statistics().onRowsScanned(scanned);
             }
         }
 
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
@@ -48,6 +49,9 @@ public class TableScanNode<RowT> extends StorageScanNode<RowT> {
 
     private final @Nullable BitSet requiredColumns;
 
+    /** Number of concurrent scans. */
+    private final int parallelism;
+
     /**
      * Constructor.
      *
@@ -59,6 +63,7 @@ public class TableScanNode<RowT> extends StorageScanNode<RowT> {
      * @param filters Optional filter to filter out rows.
      * @param rowTransformer Optional projection function.
      * @param requiredColumns Optional set of column of interest.
+     * @param parallelism Number of concurrent scans, partitions are scanned one by one if it is {@code 1}.
      */
     public TableScanNode(
             ExecutionContext<RowT> ctx,
@@ -67,14 +72,18 @@ public class TableScanNode<RowT> extends StorageScanNode<RowT> {
             PartitionProvider<RowT> partitionProvider,
             @Nullable Predicate<RowT> filters,
             @Nullable Function<RowT, RowT> rowTransformer,
-            @Nullable BitSet requiredColumns
+            @Nullable BitSet requiredColumns,
+            int parallelism
     ) {
         super(ctx, filters, rowTransformer);
 
+        assert parallelism > 0 : parallelism;
+
         this.table = table;
         this.partitionProvider = partitionProvider;
         this.rowFactory = rowFactory;
         this.requiredColumns = requiredColumns;
+        this.parallelism = parallelism;
     }
 
     /** {@inheritDoc} */
@@ -82,9 +91,32 @@ public class TableScanNode<RowT> extends StorageScanNode<RowT> {
     protected Publisher<RowT> scan() {
         List<PartitionWithConsistencyToken> partitions = partitionProvider.getPartitions(context());
 
-        Iterator<Publisher<? extends RowT>> it = new TransformingIterator<>(
-                partitions.iterator(), p -> table.scan(context(), p, rowFactory, requiredColumns));
+        if (parallelism == 1 || partitions.isEmpty()) {
+            Iterator<Publisher<? extends RowT>> it = new TransformingIterator<>(
+                    partitions.iterator(), p -> table.scan(context(), p, rowFactory, requiredColumns));
+
+            return SubscriptionUtils.concat(it);
+        }
+
+        // Partitions are distributed between the concurrent scans, if there are fewer partitions than scans, the partitions are split.
+        int streams = Math.min(parallelism, partitions.size());
+        int splits = (parallelism + partitions.size() - 1) / partitions.size();
+
+        List<Publisher<? extends RowT>> publishers = new ArrayList<>(streams);
+
+        for (int i = 0; i < streams; i++) {
+            List<PartitionWithConsistencyToken> streamPartitions = new ArrayList<>();
+
+            for (int j = i; j < partitions.size(); j += streams) {
+                streamPartitions.add(partitions.get(j));
+            }
+
+            Iterator<Publisher<? extends RowT>> it = new TransformingIterator<>(
+                    streamPartitions.iterator(), p -> table.scan(context(), p, rowFactory, requiredColumns, splits));
+
+            publishers.add(SubscriptionUtils.concat(it));
+        }
 
-        return SubscriptionUtils.concat(it);
+        return SubscriptionUtils.merge(inBufSize, publishers);
     }
 }
@@ -34,7 +34,9 @@ public enum IgniteHint {
     /** Disables index usage. **/
     NO_INDEX(true),
     /** Forces index usage. */
-    FORCE_INDEX(true);
+    FORCE_INDEX(true),
+    /** Forces the number of concurrent scans of a table on every node. */
+    SCAN_PARALLELISM(true);
 
     private final boolean paramSupport;
 
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.message;
+
+import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.network.annotations.Transferable;
+
+/**
+ * Execution statistics of an operator of a query fragment, a part of {@link QueryStatisticsMessage}.
+ */
+@Transferable(value = SqlQueryMessageGroup.OPERATOR_STATISTICS_MESSAGE)
+public interface OperatorStatisticsMessage extends NetworkMessage {
+    /** Returns name of the operator. */
+    String name();
+
+    /** Returns depth of the operator in the tree of the fragment, roots of the fragment have zero depth. */
+    int depth();
+
+    /** Returns the number of rows produced by the operator. */
+    long rows();
+
+    /** Returns time spent executing the tasks of the operator in nanoseconds. */
+    long timeNanos();
+
+    /** Returns the number of batches requested from other fragments by an inbox or sent to other fragments by an outbox. */
+    long batches();
+
+    /** Returns the peak number of rows or hash table entries held in memory by the operator. */
+    long bufferedRows();
+}
@@ -37,4 +37,7 @@ public interface QueryCloseMessage extends NetworkMessage, Serializable {
      * Get execution token.
      */
     int executionToken();
+
+    /** Whether the execution statistics of the fragments must be sent to the initiator once they are closed. */
+    boolean collectStatistics();
 }
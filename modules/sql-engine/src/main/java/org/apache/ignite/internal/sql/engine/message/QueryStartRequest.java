@@ -65,4 +65,13 @@ public interface QueryStartRequest extends TimestampAware, ExecutionContextAware
 
     /** Time of the operation. */
     HybridTimestamp operationTime();
+
+    /** Whether the execution statistics of the fragment must be sent to the initiator once the fragment is closed. */
+    boolean collectStatistics();
+
+    /**
+     * Whether rows produced and time spent by the operators of the fragment are collected, so that the initiator can request the
+     * statistics with {@link QueryCloseMessage#collectStatistics()} if the query turns out to be slow.
+     */
+    boolean operatorStatisticsTracked();
 }
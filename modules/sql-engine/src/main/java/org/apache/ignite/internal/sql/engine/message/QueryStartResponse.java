@@ -45,6 +45,11 @@ public interface QueryStartResponse extends NetworkMessage, Serializable {
      */
     long fragmentId();
 
+    /**
+     * Get size of the task queue of the node, which started the fragment, at the moment of the response.
+     */
+    int queueSize();
+
     /**
      * Get error.
      */
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.message;
+
+import java.util.List;
+import org.apache.ignite.internal.network.annotations.Transferable;
+
+/**
+ * Execution statistics of a query fragment, which is sent by a remote node to the initiator of the query once the fragment is
+ * closed, if the statistics were requested by {@link QueryStartRequest#collectStatistics()} or
+ * {@link QueryCloseMessage#collectStatistics()}.
+ */
+@Transferable(value = SqlQueryMessageGroup.QUERY_STATISTICS_MESSAGE)
+public interface QueryStatisticsMessage extends ExecutionContextAwareMessage {
+    /** Returns name of the node the fragment was executed on. */
+    String nodeName();
+
+    /** Returns the number of rows read from storages by the scans of the fragment. */
+    long rowsScanned();
+
+    /** Returns the number of bytes of rows sent to other fragments. */
+    long bytesSent();
+
+    /** Returns the number of bytes of rows received from other fragments. */
+    long bytesReceived();
+
+    /** Returns statistics of the operators of the fragment in depth-first order. */
+    List<OperatorStatisticsMessage> operators();
+}
@@ -46,4 +46,10 @@ public final class SqlQueryMessageGroup {
 
     /** See {@link CancelOperationResponse} for the details. */
     public static final short OPERATION_CANCEL_RESPONSE = 7;
+
+    /** See {@link QueryStatisticsMessage} for the details. */
+    public static final short QUERY_STATISTICS_MESSAGE = 8;
+
+    /** See {@link OperatorStatisticsMessage} for the details. */
+    public static final short OPERATOR_STATISTICS_MESSAGE = 9;
 }
@@ -25,12 +25,13 @@ import org.apache.ignite.sql.ColumnType;
  * CacheKey.
  * The class uses to distinguish different query plans which could be various for the same query text but different context. As example such
  * context could be schema name, dynamic parameters, and so on...
+ *
+ * <p>The key does not include a catalog version, thus a plan survives changes of the catalog, which do not affect the objects the plan
+ * depends on. A cached plan is revalidated against the actual catalog version on lookup.
  */
 public class CacheKey {
     static final ColumnType[] EMPTY_CLASS_ARRAY = {};
 
-    private final int catalogVersion;
-
     private final String schemaName;
 
     private final String query;
@@ -44,15 +45,13 @@ public class CacheKey {
     /**
      * Constructor.
      *
-     * @param catalogVersion Catalog version.
      * @param schemaName Schema name.
      * @param query      Query string.
      * @param contextKey Optional context key to differ queries with and without/different flags, having an impact on result plan (like
      *                   LOCAL flag)
      * @param paramTypes Types of all dynamic parameters, no any type can be {@code null}.
      */
-    public CacheKey(int catalogVersion, String schemaName, String query, Object contextKey, ColumnType[] paramTypes) {
-        this.catalogVersion = catalogVersion;
+    public CacheKey(String schemaName, String query, Object contextKey, ColumnType[] paramTypes) {
         this.schemaName = schemaName;
         this.query = query;
         this.contextKey = contextKey;
@@ -71,9 +70,6 @@ public class CacheKey {
 
         CacheKey cacheKey = (CacheKey) o;
 
-        if (catalogVersion != cacheKey.catalogVersion) {
-            return false;
-        }
         if (!schemaName.equals(cacheKey.schemaName)) {
             return false;
         }
@@ -90,8 +86,7 @@ public class CacheKey {
     @Override
     public int hashCode() {
         if (hashCode == 0) {
-            int result = catalogVersion;
-            result = 31 * result + schemaName.hashCode();
+            int result = schemaName.hashCode();
             result = 31 * result + query.hashCode();
             result = 31 * result + (contextKey != null ? contextKey.hashCode() : 0);
             result = 31 * result + Arrays.deepHashCode(paramTypes);
@@ -36,10 +36,12 @@ public class ExplainPlan implements QueryPlan {
 
     private final PlanId id;
     private final ExplainablePlan plan;
+    private final boolean analyze;
 
-    ExplainPlan(PlanId id, ExplainablePlan plan) {
+    ExplainPlan(PlanId id, ExplainablePlan plan, boolean analyze) {
         this.id = id;
         this.plan = plan;
+        this.analyze = analyze;
     }
 
     /** {@inheritDoc} */
@@ -69,4 +71,9 @@ public class ExplainPlan implements QueryPlan {
     public ExplainablePlan plan() {
         return plan;
     }
+
+    /** Returns {@code true} if the plan must be executed to print the execution statistics along with the plan (EXPLAIN ANALYZE). */
+    public boolean analyze() {
+        return analyze;
+    }
 }
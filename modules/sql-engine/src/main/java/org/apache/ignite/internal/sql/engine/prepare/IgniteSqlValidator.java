@@ -1199,6 +1199,10 @@ public class IgniteSqlValidator extends SqlValidatorImpl {
     }
 
     private void validateAggregateFunction(SqlCall call, SqlAggFunction aggFunction) {
+        if (aggFunction == IgniteSqlOperatorTable.APPROX_COUNT_DISTINCT) {
+            return;
+        }
+
         if (!SqlKind.AGGREGATE.contains(aggFunction.kind)) {
             throw newValidationError(call,
                     IgniteResource.INSTANCE.unsupportedAggregationFunction(aggFunction.getName()));
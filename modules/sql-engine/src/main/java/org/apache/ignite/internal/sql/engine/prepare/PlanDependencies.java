@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.prepare;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.IntSets;
+import java.util.List;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.schema.Table;
+import org.apache.ignite.internal.sql.engine.schema.IgniteDataSource;
+import org.apache.ignite.internal.sql.engine.schema.IgniteIndex;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchemas;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Catalog objects a physical plan depends on: the tables and system views the plan reads or modifies, and the indexes of these tables.
+ *
+ * <p>A plan prepared for one catalog version remains valid in another catalog version, if every table of the plan is resolved by the
+ * same name to the table with the same ID and version, and the table has the same set of indexes. Thus, altering, renaming or
+ * re-creating a table, as well as creating or dropping its index, makes the plan stale, while changes of other objects don't.
+ */
+final class PlanDependencies {
+    private final Int2ObjectMap<TableDependency> tables;
+
+    private PlanDependencies(Int2ObjectMap<TableDependency> tables) {
+        this.tables = tables;
+    }
+
+    /**
+     * Collects the dependencies of the given physical plan.
+     *
+     * @param root Root of the physical plan.
+     * @return Dependencies of the plan.
+     */
+    static PlanDependencies collect(RelNode root) {
+        Int2ObjectMap<TableDependency> tables = new Int2ObjectOpenHashMap<>();
+
+        collect(root, tables);
+
+        return new PlanDependencies(tables);
+    }
+
+    private static void collect(RelNode rel, Int2ObjectMap<TableDependency> tables) {
+        RelOptTable table = rel.getTable();
+
+        if (table != null) {
+            IgniteDataSource dataSource = table.unwrapOrThrow(IgniteDataSource.class);
+
+            tables.computeIfAbsent(dataSource.id(), id -> new TableDependency(table.getQualifiedName(), dataSource));
+        }
+
+        for (RelNode input : rel.getInputs()) {
+            collect(input, tables);
+        }
+    }
+
+    /**
+     * Checks whether the plan remains valid in the catalog version of the given schemas.
+     *
+     * @param schemas Schemas of the catalog version to check the dependencies against.
+     * @return {@code true} if none of the dependencies of the plan is changed in the given catalog version.
+     */
+    boolean actual(IgniteSchemas schemas) {
+        for (TableDependency table : tables.values()) {
+            if (!table.actual(schemas.root())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static class TableDependency {
+        private final List<String> qualifiedName;
+
+        private final int id;
+
+        private final int version;
+
+        private final IntSet indexes;
+
+        TableDependency(List<String> qualifiedName, IgniteDataSource dataSource) {
+            this.qualifiedName = qualifiedName;
+            this.id = dataSource.id();
+            this.version = dataSource.version();
+            this.indexes = indexIds(dataSource);
+        }
+
+        boolean actual(SchemaPlus root) {
+            IgniteDataSource dataSource = resolve(root);
+
+            return dataSource != null
+                    && dataSource.id() == id
+                    && dataSource.version() == version
+                    && indexIds(dataSource).equals(indexes);
+        }
+
+        private @Nullable IgniteDataSource resolve(SchemaPlus root) {
+            assert qualifiedName.size() == 2 : qualifiedName;
+
+            SchemaPlus schema = root.getSubSchema(qualifiedName.get(0));
+
+            if (schema == null) {
+                return null;
+            }
+
+            Table table = schema.getTable(qualifiedName.get(1));
+
+            return table instanceof IgniteDataSource ? (IgniteDataSource) table : null;
+        }
+
+        private static IntSet indexIds(IgniteDataSource dataSource) {
+            if (!(dataSource instanceof IgniteTable)) {
+                return IntSets.EMPTY_SET;
+            }
+
+            IntSet ids = new IntOpenHashSet();
+
+            for (IgniteIndex index : ((IgniteTable) dataSource).indexes().values()) {
+                ids.add(index.id());
+            }
+
+            return ids;
+        }
+    }
+}
@@ -55,6 +55,7 @@ import org.apache.ignite.internal.sql.engine.rule.FilterSpoolMergeToHashIndexSpo
 import org.apache.ignite.internal.sql.engine.rule.FilterSpoolMergeToSortedIndexSpoolRule;
 import org.apache.ignite.internal.sql.engine.rule.HashAggregateConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.HashJoinConverterRule;
+import org.apache.ignite.internal.sql.engine.rule.LimitExchangeTransposeRule;
 import org.apache.ignite.internal.sql.engine.rule.LogicalScanConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.MergeJoinConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.NestedLoopJoinConverterRule;
@@ -230,6 +231,7 @@ public enum PlannerPhase {
                                     .anyInputs()).toRule(),
 
             SortExchangeTransposeRule.INSTANCE,
+            LimitExchangeTransposeRule.INSTANCE,
 
             CoreRules.UNION_MERGE,
             CoreRules.MINUS_MERGE,
@@ -35,6 +35,8 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeField;
 import org.apache.calcite.schema.SchemaPlus;
@@ -66,7 +68,9 @@ import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
 import org.apache.ignite.internal.sql.engine.rel.IgniteSelectCount;
 import org.apache.ignite.internal.sql.engine.schema.IgniteSchemas;
 import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManager;
+import org.apache.ignite.internal.sql.engine.sql.IgniteSqlExplainAnalyze;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlKill;
+import org.apache.ignite.internal.sql.engine.sql.ParameterizedResult;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 import org.apache.ignite.internal.sql.engine.util.Cloner;
 import org.apache.ignite.internal.sql.engine.util.Commons;
@@ -226,14 +230,23 @@ public class PrepareServiceImpl implements PrepareService {
         boolean explicitTx = operationContext.txContext() != null && operationContext.txContext().explicitTx() != null;
 
         long timestamp = operationContext.operationTime().longValue();
-        int catalogVersion = schemaManager.catalogVersion(timestamp); 
+        int catalogVersion = schemaManager.catalogVersion(timestamp);
 
-        CacheKey key = createCacheKey(parsedResult, catalogVersion, schemaName, operationContext.parameters());
+        if (parsedResult instanceof ParameterizedResult) {
+            sqlPlanCacheMetricSource.onParameterizedLookup();
+        }
+
+        CacheKey key = createCacheKey(parsedResult, schemaName, operationContext.parameters());
 
         CompletableFuture<QueryPlan> planFuture = cache.get(key);
 
         if (planFuture != null) {
-            return planFuture.thenApply((plan) -> {
+            return revalidate(
+                    key,
+                    planFuture,
+                    catalogVersion,
+                    () -> preparePlan(parsedResult, operationContext, schemaName, explicitTx, timestamp)
+            ).thenApply((plan) -> {
                 // We assume that non-multi-step plans is always better then a multi-step plan.
                 // or fast query optimization is disabled return a regular plan.
                 if (!(plan instanceof MultiStepPlan)) {
@@ -251,6 +264,16 @@ public class PrepareServiceImpl implements PrepareService {
             });
         }
 
+        return preparePlan(parsedResult, operationContext, schemaName, explicitTx, timestamp);
+    }
+
+    private CompletableFuture<QueryPlan> preparePlan(
+            ParsedResult parsedResult,
+            SqlOperationContext operationContext,
+            String schemaName,
+            boolean explicitTx,
+            long timestamp
+    ) {
         IgniteSchemas rootSchema = schemaManager.schemas(timestamp);
         assert rootSchema != null : "Root schema does not exist";
 
@@ -329,6 +352,7 @@ public class PrepareServiceImpl implements PrepareService {
         assert parsedTree instanceof SqlExplain : parsedTree.getClass().getCanonicalName();
 
         SqlNode explicandum = ((SqlExplain) parsedTree).getExplicandum();
+        boolean analyze = parsedTree instanceof IgniteSqlExplainAnalyze;
 
         SqlQueryType queryType = Commons.getQueryType(explicandum);
 
@@ -361,7 +385,7 @@ public class PrepareServiceImpl implements PrepareService {
         return result.thenApply(plan -> {
             assert plan instanceof ExplainablePlan : plan == null ? "<null>" : plan.getClass().getCanonicalName();
 
-            return new ExplainPlan(nextPlanId(), (ExplainablePlan) plan);
+            return new ExplainPlan(nextPlanId(), (ExplainablePlan) plan, analyze);
         });
     }
 
@@ -404,7 +428,7 @@ public class PrepareServiceImpl implements PrepareService {
             // Use parameter metadata to compute a cache key.
             CacheKey key = createCacheKeyFromParameterMetadata(stmt.parsedResult, ctx, stmt.parameterMetadata);
 
-            CompletableFuture<QueryPlan> planFut = cache.get(key, k -> CompletableFuture.supplyAsync(() -> {
+            Function<CacheKey, CompletableFuture<QueryPlan>> planSupplier = k -> CompletableFuture.supplyAsync(() -> {
                 IgnitePlanner planner = ctx.planner();
 
                 ValidationResult validated = stmt.value;
@@ -432,9 +456,11 @@ public class PrepareServiceImpl implements PrepareService {
                 logPlan(parsedResult.originalQuery(), plan);
 
                 return plan;
-            }, planningPool));
+            }, planningPool);
 
-            return planFut;
+            CompletableFuture<QueryPlan> planFut = cache.get(key, planSupplier);
+
+            return revalidate(key, planFut, ctx.catalogVersion(), () -> replan(key, planSupplier));
         });
     }
 
@@ -531,7 +557,7 @@ public class PrepareServiceImpl implements PrepareService {
             // Use parameter metadata to compute a cache key.
             CacheKey key = createCacheKeyFromParameterMetadata(stmt.parsedResult, ctx, stmt.parameterMetadata);
 
-            CompletableFuture<QueryPlan> planFut = cache.get(key, k -> CompletableFuture.supplyAsync(() -> {
+            Function<CacheKey, CompletableFuture<QueryPlan>> planSupplier = k -> CompletableFuture.supplyAsync(() -> {
                 IgnitePlanner planner = ctx.planner();
 
                 SqlNode validatedNode = stmt.value;
@@ -555,12 +581,139 @@ public class PrepareServiceImpl implements PrepareService {
                 logPlan(parsedResult.originalQuery(), plan);
 
                 return plan;
-            }, planningPool));
+            }, planningPool);
+
+            CompletableFuture<QueryPlan> planFut = cache.get(key, planSupplier);
 
-            return planFut;
+            return revalidate(key, planFut, ctx.catalogVersion(), () -> replan(key, planSupplier));
         });
     }
 
+    /**
+     * Checks whether the cached plan may be used in the given catalog version.
+     *
+     * <p>A plan prepared for another catalog version is reused, if none of the tables and indexes the plan depends on is changed
+     * since then. Such a plan is bound to the given catalog version, and replaces the cached one, if the given version is newer. Otherwise,
+     * the stale plan is removed from the cache, and a new plan is prepared.
+     *
+     * @param key Key of the cached plan.
+     * @param planFuture Cached plan.
+     * @param catalogVersion Catalog version the plan is requested for.
+     * @param replan Supplier of a new plan.
+     * @return Plan valid in the given catalog version.
+     */
+    private CompletableFuture<QueryPlan> revalidate(
+            CacheKey key,
+            CompletableFuture<QueryPlan> planFuture,
+            int catalogVersion,
+            Supplier<CompletableFuture<QueryPlan>> replan
+    ) {
+        return planFuture.thenCompose(plan -> {
+            int planCatalogVersion = catalogVersion(plan);
+
+            if (planCatalogVersion == catalogVersion) {
+                return CompletableFuture.completedFuture(plan);
+            }
+
+            if (PlanDependencies.collect(planRoot(plan)).actual(schemaManager.schemas(catalogVersion))) {
+                QueryPlan actualPlan = rebind(plan, catalogVersion);
+
+                if (catalogVersion > planCatalogVersion) {
+                    cache.compute(key, (k, v) -> v == planFuture ? CompletableFuture.completedFuture(actualPlan) : v);
+                }
+
+                sqlPlanCacheMetricSource.onPlanRevalidated();
+
+                return CompletableFuture.completedFuture(actualPlan);
+            }
+
+            cache.compute(key, (k, v) -> v == planFuture ? null : v);
+
+            sqlPlanCacheMetricSource.onPlanInvalidated();
+
+            return replan.get();
+        });
+    }
+
+    /** Prepares a new plan and caches it instead of the stale one. */
+    private CompletableFuture<QueryPlan> replan(CacheKey key, Function<CacheKey, CompletableFuture<QueryPlan>> planSupplier) {
+        CompletableFuture<QueryPlan> planFut = planSupplier.apply(key);
+
+        cache.put(key, planFut);
+
+        return planFut;
+    }
+
+    private static int catalogVersion(QueryPlan plan) {
+        if (plan instanceof MultiStepPlan) {
+            return ((MultiStepPlan) plan).catalogVersion();
+        } else if (plan instanceof KeyValueGetPlan) {
+            return ((KeyValueGetPlan) plan).catalogVersion();
+        } else if (plan instanceof KeyValueModifyPlan) {
+            return ((KeyValueModifyPlan) plan).catalogVersion();
+        }
+
+        throw new AssertionError("Unexpected cached plan: " + plan.getClass().getName());
+    }
+
+    private static IgniteRel planRoot(QueryPlan plan) {
+        if (plan instanceof MultiStepPlan) {
+            return ((MultiStepPlan) plan).root();
+        } else if (plan instanceof KeyValueGetPlan) {
+            return ((KeyValueGetPlan) plan).lookupNode();
+        } else if (plan instanceof KeyValueModifyPlan) {
+            return ((KeyValueModifyPlan) plan).modifyNode();
+        }
+
+        throw new AssertionError("Unexpected cached plan: " + plan.getClass().getName());
+    }
+
+    /** Creates a copy of the given plan bound to the given catalog version. */
+    private QueryPlan rebind(QueryPlan plan, int catalogVersion) {
+        if (plan instanceof KeyValueGetPlan) {
+            KeyValueGetPlan kvPlan = (KeyValueGetPlan) plan;
+
+            return new KeyValueGetPlan(
+                    nextPlanId(), catalogVersion, kvPlan.lookupNode(), kvPlan.metadata(), kvPlan.parameterMetadata()
+            );
+        } else if (plan instanceof KeyValueModifyPlan) {
+            KeyValueModifyPlan kvPlan = (KeyValueModifyPlan) plan;
+
+            return new KeyValueModifyPlan(
+                    nextPlanId(), catalogVersion, kvPlan.modifyNode(), kvPlan.metadata(), kvPlan.parameterMetadata()
+            );
+        }
+
+        assert plan instanceof MultiStepPlan : plan.getClass().getName();
+
+        MultiStepPlan multiStepPlan = (MultiStepPlan) plan;
+        QueryPlan fastPlan = multiStepPlan.fastPlan();
+
+        if (fastPlan != null) {
+            assert fastPlan instanceof SelectCountPlan : fastPlan.getClass().getName();
+
+            SelectCountPlan selectCountPlan = (SelectCountPlan) fastPlan;
+
+            fastPlan = new SelectCountPlan(
+                    nextPlanId(),
+                    catalogVersion,
+                    selectCountPlan.selectCountNode(),
+                    selectCountPlan.metadata(),
+                    selectCountPlan.parameterMetadata()
+            );
+        }
+
+        return new MultiStepPlan(
+                nextPlanId(),
+                multiStepPlan.type(),
+                multiStepPlan.root(),
+                multiStepPlan.metadata(),
+                multiStepPlan.parameterMetadata(),
+                catalogVersion,
+                fastPlan
+        );
+    }
+
     private @Nullable QueryPlan tryOptimizeFast(
             ValidStatement<ValidationResult> stmt,
             PlanningContext planningContext
@@ -606,9 +759,7 @@ public class PrepareServiceImpl implements PrepareService {
         return plan;
     }
 
-    private static CacheKey createCacheKey(
-            ParsedResult parsedResult, int catalogVersion, String schemaName, Object[] params
-    ) {
+    private static CacheKey createCacheKey(ParsedResult parsedResult, String schemaName, Object[] params) {
         ColumnType[] paramTypes = new ColumnType[params.length];
 
         int idx = 0;
@@ -622,14 +773,13 @@ public class PrepareServiceImpl implements PrepareService {
             paramTypes[idx++] = columnType;
         }
 
-        return new CacheKey(catalogVersion, schemaName, parsedResult.normalizedQuery(), true /* distributed */, paramTypes);
+        return new CacheKey(schemaName, parsedResult.normalizedQuery(), true /* distributed */, paramTypes);
     }
 
     private static CacheKey createCacheKeyFromParameterMetadata(ParsedResult parsedResult, PlanningContext ctx,
             ParameterMetadata parameterMetadata) {
 
         boolean distributed = distributionPresent(ctx.config().getTraitDefs());
-        int catalogVersion = ctx.catalogVersion();
         ColumnType[] paramTypes;
 
         List<ParameterType> parameterTypes = parameterMetadata.parameterTypes();
@@ -645,7 +795,7 @@ public class PrepareServiceImpl implements PrepareService {
             paramTypes = result;
         }
 
-        return new CacheKey(catalogVersion, ctx.schemaName(), parsedResult.normalizedQuery(), distributed, paramTypes);
+        return new CacheKey(ctx.schemaName(), parsedResult.normalizedQuery(), distributed, paramTypes);
     }
 
     private static ResultSetMetadata resultSetMetadata(
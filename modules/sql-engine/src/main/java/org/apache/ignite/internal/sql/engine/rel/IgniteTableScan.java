@@ -28,6 +28,7 @@ import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.hint.RelHint;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -36,8 +37,20 @@ import org.jetbrains.annotations.Nullable;
 public class IgniteTableScan extends ProjectableFilterableTableScan implements SourceAwareIgniteRel {
     private static final String REL_TYPE_NAME = "TableScan";
 
+    /** Number of rows of a table, which is scanned by a single scan on every node. */
+    public static final long ROWS_PER_SCAN = 1_000_000;
+
+    /** Maximal number of concurrent scans of a table on every node, derived from the size of the table. */
+    public static final int MAX_DERIVED_PARALLELISM = 8;
+
+    /** Maximal number of concurrent scans of a table on every node, which can be forced by a hint. */
+    public static final int MAX_PARALLELISM = 64;
+
     private final long sourceId;
 
+    /** Number of concurrent scans forced by a hint, {@code 0} if it is derived from the size of the table. */
+    private final int hintedParallelism;
+
     /**
      * Constructor used for deserialization.
      *
@@ -52,6 +65,9 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
         } else {
             sourceId = -1;
         }
+
+        Object parallelismObj = input.get("parallelism");
+        hintedParallelism = parallelismObj == null ? 0 : ((Number) parallelismObj).intValue();
     }
 
     /**
@@ -66,7 +82,7 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
             RelTraitSet traits,
             RelOptTable tbl
     ) {
-        this(cluster, traits, tbl, List.of(), null, null, null);
+        this(cluster, traits, tbl, List.of(), null, null, null, 0);
     }
 
     /**
@@ -79,6 +95,7 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
      * @param proj            Projects.
      * @param cond            Filters.
      * @param requiredColumns Participating columns.
+     * @param hintedParallelism Number of concurrent scans forced by a hint, {@code 0} to derive it from the size of the table.
      */
     public IgniteTableScan(
             RelOptCluster cluster,
@@ -87,9 +104,10 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
             List<RelHint> hints,
             @Nullable List<RexNode> proj,
             @Nullable RexNode cond,
-            @Nullable ImmutableBitSet requiredColumns
+            @Nullable ImmutableBitSet requiredColumns,
+            int hintedParallelism
     ) {
-        this(-1L, cluster, traits, hints, tbl, proj, cond, requiredColumns);
+        this(-1L, cluster, traits, hints, tbl, proj, cond, requiredColumns, hintedParallelism);
     }
 
     /**
@@ -103,6 +121,7 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
      * @param proj            Projects.
      * @param cond            Filters.
      * @param requiredColumns Participating columns.
+     * @param hintedParallelism Number of concurrent scans forced by a hint, {@code 0} to derive it from the size of the table.
      */
     public IgniteTableScan(
             long sourceId,
@@ -112,10 +131,12 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
             RelOptTable tbl,
             @Nullable List<RexNode> proj,
             @Nullable RexNode cond,
-            @Nullable ImmutableBitSet requiredColumns
+            @Nullable ImmutableBitSet requiredColumns,
+            int hintedParallelism
     ) {
         super(cluster, traits, hints, tbl, proj, cond, requiredColumns);
         this.sourceId = sourceId;
+        this.hintedParallelism = hintedParallelism;
     }
 
     /** {@inheritDoc} */
@@ -124,11 +145,31 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
         return sourceId;
     }
 
+    /**
+     * Returns the number of concurrent scans of the table on every node the table is scanned on. It is either forced by the
+     * {@code SCAN_PARALLELISM} hint or derived from the estimated number of rows of the table: a single scan for every
+     * {@link #ROWS_PER_SCAN} rows, but no more than {@link #MAX_DERIVED_PARALLELISM}.
+     */
+    public int parallelism() {
+        if (hintedParallelism > 0) {
+            return hintedParallelism;
+        }
+
+        Double rowCount = getTable().unwrapOrThrow(IgniteTable.class).getStatistic().getRowCount();
+
+        if (rowCount == null) {
+            return 1;
+        }
+
+        return (int) Math.max(1, Math.min(MAX_DERIVED_PARALLELISM, rowCount.longValue() / ROWS_PER_SCAN));
+    }
+
     /** {@inheritDoc} */
     @Override
     protected RelWriter explainTerms0(RelWriter pw) {
         return super.explainTerms0(pw)
-                .itemIf("sourceId", sourceId, sourceId != -1);
+                .itemIf("sourceId", sourceId, sourceId != -1)
+                .itemIf("parallelism", hintedParallelism, hintedParallelism > 0);
     }
 
     /** {@inheritDoc} */
@@ -140,19 +181,22 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
     /** {@inheritDoc} */
     @Override
     public IgniteRel clone(long sourceId) {
-        return new IgniteTableScan(sourceId, getCluster(), getTraitSet(), getHints(), getTable(), projects, condition, requiredColumns);
+        return new IgniteTableScan(sourceId, getCluster(), getTraitSet(), getHints(), getTable(), projects, condition, requiredColumns,
+                hintedParallelism);
     }
 
     /** {@inheritDoc} */
     @Override
     public IgniteRel clone(RelOptCluster cluster, List<IgniteRel> inputs) {
-        return new IgniteTableScan(sourceId, cluster, getTraitSet(), getHints(), getTable(), projects, condition, requiredColumns);
+        return new IgniteTableScan(sourceId, cluster, getTraitSet(), getHints(), getTable(), projects, condition, requiredColumns,
+                hintedParallelism);
     }
 
     /** {@inheritDoc} */
     @Override
     public IgniteTableScan withHints(List<RelHint> hintList) {
-        return new IgniteTableScan(sourceId, getCluster(), getTraitSet(), hintList, getTable(), projects, condition, requiredColumns);
+        return new IgniteTableScan(sourceId, getCluster(), getTraitSet(), hintList, getTable(), projects, condition, requiredColumns,
+                hintedParallelism);
     }
 
     /** {@inheritDoc} */
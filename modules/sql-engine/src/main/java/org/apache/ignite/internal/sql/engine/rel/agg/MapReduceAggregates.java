@@ -71,7 +71,9 @@ public class MapReduceAggregates {
             "ANY",
             "AVG",
             "SINGLE_VALUE",
-            "ANY_VALUE"
+            "ANY_VALUE",
+            "LITERAL_AGG",
+            "APPROX_COUNT_DISTINCT"
     );
 
     /**
@@ -364,6 +366,10 @@ public class MapReduceAggregates {
                 return createCountAgg(call, reduceArgumentOffset);
             case "AVG":
                 return createAvgAgg(cluster, call, reduceArgumentOffset, input, canBeNull);
+            case "LITERAL_AGG":
+                return createLiteralAgg(call, reduceArgumentOffset);
+            case "APPROX_COUNT_DISTINCT":
+                return createApproxCountDistinctAgg(cluster, call, reduceArgumentOffset);
             default:
                 return createSimpleAgg(call, reduceArgumentOffset);
         }
@@ -487,6 +493,62 @@ public class MapReduceAggregates {
         return new MapReduceAgg(argList, call, reduceCall, USE_INPUT_FIELD);
     }
 
+    private static MapReduceAgg createLiteralAgg(AggregateCall call, int reduceArgumentOffset) {
+        IntList argList = IntList.of(reduceArgumentOffset);
+
+        // LITERAL_AGG has no arguments, so REDUCE phase ignores results of MAP phase and returns the same literal.
+        AggregateCall reduceCall = AggregateCall.create(
+                call.getAggregation(),
+                call.isDistinct(),
+                call.isApproximate(),
+                call.ignoreNulls(),
+                call.rexList,
+                ImmutableList.of(),
+                // there is no filtering on REDUCE phase
+                -1,
+                call.distinctKeys,
+                call.collation,
+                call.type,
+                call.name);
+
+        return new MapReduceAgg(argList, call, reduceCall, USE_INPUT_FIELD);
+    }
+
+    private static MapReduceAgg createApproxCountDistinctAgg(RelOptCluster cluster, AggregateCall call, int reduceArgumentOffset) {
+        IntList argList = IntList.of(reduceArgumentOffset);
+        RelDataTypeFactory tf = cluster.getTypeFactory();
+
+        // MAP phase produces a sketch of the values of every node, REDUCE phase merges the sketches.
+        AggregateCall mapCall = AggregateCall.create(
+                IgniteSqlOperatorTable.APPROX_COUNT_DISTINCT_MAP,
+                call.isDistinct(),
+                call.isApproximate(),
+                call.ignoreNulls(),
+                ImmutableList.of(),
+                call.getArgList(),
+                call.filterArg,
+                null,
+                call.collation,
+                tf.createSqlType(SqlTypeName.VARBINARY),
+                "APPROX_COUNT_DISTINCT_" + reduceArgumentOffset + "_MAP");
+
+        AggregateCall reduceCall = AggregateCall.create(
+                IgniteSqlOperatorTable.APPROX_COUNT_DISTINCT_REDUCE,
+                false,
+                call.isApproximate(),
+                call.ignoreNulls(),
+                ImmutableList.of(),
+                argList,
+                // there is no filtering on REDUCE phase
+                -1,
+                null,
+                call.collation,
+                call.type,
+                call.name);
+
+        return new MapReduceAgg(argList, mapCall, reduceCall, USE_INPUT_FIELD);
+    }
+
     /**
      * Produces intermediate expressions that modify results of MAP/REDUCE aggregate.
      * For example: after splitting a function into a MAP aggregate and REDUCE aggregate it is necessary to add casts to
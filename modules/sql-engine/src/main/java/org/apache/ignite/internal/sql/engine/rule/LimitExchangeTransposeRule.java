@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.rule;
+
+import static org.apache.ignite.internal.sql.engine.trait.IgniteDistributions.single;
+import static org.apache.ignite.internal.sql.engine.trait.TraitUtils.distribution;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.plan.volcano.RelSubset;
+import org.apache.calcite.rel.RelDistribution.Type;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.ignite.internal.sql.engine.rel.IgniteExchange;
+import org.apache.ignite.internal.sql.engine.rel.IgniteLimit;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
+import org.immutables.value.Value;
+
+/**
+ * A rule that pushes a copy of {@link IgniteLimit} node under {@link IgniteExchange}.
+ *
+ * <p>Every source fragment needs at most {@code offset + fetch} rows to produce the result, so the pushed limit fetches that many
+ * rows and has no offset, while the original limit is kept on top of the exchange. The pushed limit stops requesting rows from its
+ * input once enough rows are produced, thus a scan, which already provides the required collation, is not read till the end, and
+ * the rest of the rows are not sent to the root fragment.
+ *
+ * <p>The limit is pushed only when {@code offset + fetch} is known at planning time, i.e. there is no offset or both offset and
+ * fetch are literals. The sum is capped by {@link Long#MAX_VALUE}.
+ */
+@Value.Enclosing
+public class LimitExchangeTransposeRule extends RelRule<LimitExchangeTransposeRule.Config> {
+    public static final RelOptRule INSTANCE = Config.INSTANCE.toRule();
+
+    private LimitExchangeTransposeRule(Config cfg) {
+        super(cfg);
+    }
+
+    @Override
+    public boolean matches(RelOptRuleCall call) {
+        IgniteLimit limit = call.rel(0);
+        IgniteExchange exchange = call.rel(1);
+
+        return (limit.offset() == null || limit.offset() instanceof RexLiteral && limit.fetch() instanceof RexLiteral)
+                && hashAlike(distribution(exchange.getInput()))
+                && exchange.distribution() == single()
+                && !limited(exchange.getInput());
+    }
+
+    private static boolean hashAlike(IgniteDistribution distribution) {
+        return distribution.getType() == Type.HASH_DISTRIBUTED
+                || distribution.getType() == Type.RANDOM_DISTRIBUTED;
+    }
+
+    /** Returns {@code true} if the number of rows of the input is already limited by a sort or a limit below the exchange. */
+    private static boolean limited(RelNode input) {
+        List<RelNode> rels = input instanceof RelSubset ? ((RelSubset) input).getRelList() : List.of(input);
+
+        for (RelNode rel : rels) {
+            if (rel instanceof IgniteLimit && ((IgniteLimit) rel).fetch() != null
+                    || rel instanceof Sort && ((Sort) rel).fetch != null) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+        IgniteLimit limit = call.rel(0);
+        IgniteExchange exchange = call.rel(1);
+
+        RelOptCluster cluster = limit.getCluster();
+        RelNode input = exchange.getInput();
+
+        IgniteLimit sourceLimit = new IgniteLimit(
+                cluster,
+                input.getTraitSet(),
+                input,
+                null,
+                sourceFetch(cluster.getRexBuilder(), limit.offset(), limit.fetch())
+        );
+
+        call.transformTo(
+                limit.copy(
+                        limit.getTraitSet(),
+                        List.of(exchange.copy(exchange.getTraitSet(), List.of(sourceLimit)))
+                )
+        );
+    }
+
+    /** Returns the number of rows a source fragment should produce: {@code offset + fetch} capped by {@link Long#MAX_VALUE}. */
+    private static RexNode sourceFetch(RexBuilder rexBuilder, RexNode offset, RexNode fetch) {
+        if (offset == null) {
+            return fetch;
+        }
+
+        BigDecimal sum = ((RexLiteral) offset).getValueAs(BigDecimal.class).add(((RexLiteral) fetch).getValueAs(BigDecimal.class));
+
+        return rexBuilder.makeExactLiteral(sum.min(BigDecimal.valueOf(Long.MAX_VALUE)), fetch.getType());
+    }
+
+    /** Configuration. */
+    @SuppressWarnings({"ClassNameSameAsAncestorName", "InnerClassFieldHidesOuterClassField"})
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        Config INSTANCE = ImmutableLimitExchangeTransposeRule.Config.of()
+                .withDescription("LimitExchangeTransposeRule")
+                .withOperandSupplier(o0 ->
+                        o0.operand(IgniteLimit.class)
+                                // Only a limit with fetch reduces the number of rows of the source fragments.
+                                .predicate(limit -> limit.fetch() != null)
+                                .oneInput(o1 ->
+                                        o1.operand(IgniteExchange.class)
+                                                .anyInputs()))
+                .as(Config.class);
+
+        /** {@inheritDoc} */
+        @Override
+        default LimitExchangeTransposeRule toRule() {
+            return new LimitExchangeTransposeRule(this);
+        }
+    }
+}
@@ -17,7 +17,10 @@
 
 package org.apache.ignite.internal.sql.engine.rule;
 
+import static org.apache.ignite.lang.ErrorGroups.Sql.STMT_VALIDATION_ERR;
+
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptPlanner;
@@ -26,6 +29,7 @@ import org.apache.calcite.rel.PhysicalNode;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelCollations;
 import org.apache.calcite.rel.RelDistribution;
+import org.apache.calcite.rel.hint.RelHint;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexLocalRef;
 import org.apache.calcite.rex.RexNode;
@@ -33,6 +37,7 @@ import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.calcite.util.mapping.IntPair;
 import org.apache.calcite.util.mapping.Mapping;
 import org.apache.calcite.util.mapping.Mappings;
+import org.apache.ignite.internal.sql.engine.hint.IgniteHint;
 import org.apache.ignite.internal.sql.engine.rel.IgniteConvention;
 import org.apache.ignite.internal.sql.engine.rel.IgniteIndexScan;
 import org.apache.ignite.internal.sql.engine.rel.IgniteSystemViewScan;
@@ -45,6 +50,8 @@ import org.apache.ignite.internal.sql.engine.schema.IgniteIndex;
 import org.apache.ignite.internal.sql.engine.schema.IgniteIndex.Type;
 import org.apache.ignite.internal.sql.engine.schema.IgniteSystemView;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.util.HintUtils;
+import org.apache.ignite.sql.SqlException;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -134,7 +141,7 @@ public abstract class LogicalScanConverterRule<T extends ProjectableFilterableTa
                             .replace(distribution);
 
                     return new IgniteTableScan(rel.getCluster(), traits, rel.getTable(), rel.getHints(),
-                        rel.projects(), rel.condition(), rel.requiredColumns());
+                        rel.projects(), rel.condition(), rel.requiredColumns(), hintedParallelism(rel));
                 }
             };
 
@@ -210,4 +217,32 @@ public abstract class LogicalScanConverterRule<T extends ProjectableFilterableTa
 
         return Mappings.createIdentity(tableRowSize);
     }
+
+    /**
+     * Returns the number of concurrent scans forced by the {@code SCAN_PARALLELISM} hint, {@code 0} if there is no such hint. The last hint
+     * wins if there are several of them.
+     */
+    private static int hintedParallelism(IgniteLogicalTableScan rel) {
+        List<RelHint> hints = HintUtils.hints(rel, EnumSet.of(IgniteHint.SCAN_PARALLELISM));
+
+        if (hints.isEmpty()) {
+            return 0;
+        }
+
+        List<String> options = hints.get(hints.size() - 1).listOptions;
+        int parallelism;
+
+        try {
+            parallelism = options.size() == 1 ? Integer.parseInt(options.get(0)) : 0;
+        } catch (NumberFormatException e) {
+            parallelism = 0;
+        }
+
+        if (parallelism < 1 || parallelism > IgniteTableScan.MAX_PARALLELISM) {
+            throw new SqlException(STMT_VALIDATION_ERR, "Hint " + IgniteHint.SCAN_PARALLELISM + " expects a single integer parameter "
+                    + "between 1 and " + IgniteTableScan.MAX_PARALLELISM + ", but was " + options + '.');
+        }
+
+        return parallelism;
+    }
 }
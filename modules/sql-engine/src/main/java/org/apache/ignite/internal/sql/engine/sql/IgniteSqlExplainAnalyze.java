@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.sql;
+
+import org.apache.calcite.sql.SqlExplain;
+import org.apache.calcite.sql.SqlExplainFormat;
+import org.apache.calcite.sql.SqlExplainLevel;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlWriter;
+import org.apache.calcite.sql.parser.SqlParserPos;
+
+/**
+ * Parse tree for {@code EXPLAIN ANALYZE} statement, which executes the query and prints its plan along with the execution statistics.
+ */
+public class IgniteSqlExplainAnalyze extends SqlExplain {
+    /** Constructor. */
+    public IgniteSqlExplainAnalyze(SqlParserPos pos, SqlNode explicandum, int dynamicParameterCount) {
+        super(
+                pos,
+                explicandum,
+                SqlExplainLevel.EXPPLAN_ATTRIBUTES.symbol(SqlParserPos.ZERO),
+                Depth.PHYSICAL.symbol(SqlParserPos.ZERO),
+                SqlExplainFormat.TEXT.symbol(SqlParserPos.ZERO),
+                dynamicParameterCount
+        );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SqlNode clone(SqlParserPos pos) {
+        return new IgniteSqlExplainAnalyze(pos, getExplicandum(), getDynamicParamCount());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void unparse(SqlWriter writer, int leftPrec, int rightPrec) {
+        writer.keyword("EXPLAIN");
+        writer.keyword("ANALYZE");
+        writer.newlineAndIndent();
+
+        getExplicandum().unparse(writer, getOperator().getLeftPrec(), getOperator().getRightPrec());
+    }
+}
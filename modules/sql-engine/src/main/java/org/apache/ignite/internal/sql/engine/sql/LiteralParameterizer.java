@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.sql;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.calcite.sql.SqlBasicCall;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlDelete;
+import org.apache.calcite.sql.SqlDynamicParam;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlNumericLiteral;
+import org.apache.calcite.sql.SqlSelect;
+import org.apache.calcite.sql.SqlUpdate;
+import org.apache.calcite.sql.util.SqlBasicVisitor;
+import org.apache.ignite.internal.sql.engine.SqlQueryType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Replaces literals of a statement with dynamic parameters, so statements which differ only in these literals, like
+ * {@code SELECT * FROM t WHERE id = 5} and {@code SELECT * FROM t WHERE id = 7}, have the same normalized query and share a plan.
+ *
+ * <p>Only exact integer literals compared with a column in a {@code WHERE} clause of a query, update or delete are replaced. Such a
+ * replacement changes neither the type of the result set nor the semantic of the statement, and the planner treats a dynamic parameter
+ * in a condition the same way as a literal, when it derives partition pruning metadata, index bounds or key lookups.
+ */
+public final class LiteralParameterizer {
+    private static final Set<SqlKind> COMPARISONS = EnumSet.of(
+            SqlKind.EQUALS,
+            SqlKind.NOT_EQUALS,
+            SqlKind.LESS_THAN,
+            SqlKind.LESS_THAN_OR_EQUAL,
+            SqlKind.GREATER_THAN,
+            SqlKind.GREATER_THAN_OR_EQUAL
+    );
+
+    private static final BigDecimal MIN_INT = BigDecimal.valueOf(Integer.MIN_VALUE);
+
+    private static final BigDecimal MAX_INT = BigDecimal.valueOf(Integer.MAX_VALUE);
+
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private LiteralParameterizer() {
+    }
+
+    /**
+     * Replaces literals of the given statement with dynamic parameters.
+     *
+     * <p>Statements with dynamic parameters specified by the user are left as is, because a normalized query doesn't preserve indexes
+     * of dynamic parameters, thus literals at the positions of user parameters would be indistinguishable from each other.
+     *
+     * @param parsedResult Result of the parse.
+     * @return Result of the parse with literals replaced with dynamic parameters, or the given result, if there is nothing to replace.
+     */
+    public static ParsedResult parameterize(ParsedResult parsedResult) {
+        SqlQueryType queryType = parsedResult.queryType();
+
+        if ((queryType != SqlQueryType.QUERY && queryType != SqlQueryType.DML) || parsedResult.dynamicParamsCount() != 0) {
+            return parsedResult;
+        }
+
+        SqlNode parsedTree = parsedResult.parsedTree();
+        List<Object> literals = parameterize(parsedTree);
+
+        if (literals.isEmpty()) {
+            return parsedResult;
+        }
+
+        return new ParameterizedResult(
+                parsedResult,
+                ParserServiceImpl.normalizedQuery(parsedTree),
+                parsedTree,
+                literals.toArray()
+        );
+    }
+
+    /**
+     * Replaces literals of the given syntax tree with dynamic parameters in place.
+     *
+     * @param parsedTree Syntax tree without dynamic parameters.
+     * @return Values of the replaced literals in the order of indexes of dynamic parameters they were replaced with.
+     */
+    static List<Object> parameterize(SqlNode parsedTree) {
+        List<Object> literals = new ArrayList<>();
+
+        parsedTree.accept(new SqlBasicVisitor<Void>() {
+            @Override
+            public Void visit(SqlCall call) {
+                if (call instanceof SqlSelect) {
+                    replaceInCondition(((SqlSelect) call).getWhere(), literals);
+                } else if (call instanceof SqlUpdate) {
+                    replaceInCondition(((SqlUpdate) call).getCondition(), literals);
+                } else if (call instanceof SqlDelete) {
+                    replaceInCondition(((SqlDelete) call).getCondition(), literals);
+                }
+
+                return super.visit(call);
+            }
+        });
+
+        return literals;
+    }
+
+    private static void replaceInCondition(@Nullable SqlNode condition, List<Object> literals) {
+        if (!(condition instanceof SqlBasicCall)) {
+            return;
+        }
+
+        SqlBasicCall call = (SqlBasicCall) condition;
+        SqlKind kind = call.getKind();
+
+        if (kind == SqlKind.AND || kind == SqlKind.OR || kind == SqlKind.NOT) {
+            for (SqlNode operand : call.getOperandList()) {
+                replaceInCondition(operand, literals);
+            }
+        } else if (COMPARISONS.contains(kind) && call.operandCount() == 2) {
+            SqlNode left = call.operand(0);
+            SqlNode right = call.operand(1);
+
+            if (left instanceof SqlIdentifier) {
+                replaceLiteral(call, 1, right, literals);
+            } else if (right instanceof SqlIdentifier) {
+                replaceLiteral(call, 0, left, literals);
+            }
+        }
+    }
+
+    private static void replaceLiteral(SqlBasicCall call, int idx, SqlNode operand, List<Object> literals) {
+        if (!(operand instanceof SqlNumericLiteral)) {
+            return;
+        }
+
+        SqlNumericLiteral literal = (SqlNumericLiteral) operand;
+
+        if (!literal.isExact() || !literal.isInteger()) {
+            return;
+        }
+
+        BigDecimal value = literal.bigDecimalValue();
+
+        assert value != null : literal;
+
+        // Keep the type the validator would derive for the literal: INTEGER or BIGINT. Wider literals are DECIMAL and left as is.
+        Object param;
+        if (value.compareTo(MIN_INT) >= 0 && value.compareTo(MAX_INT) <= 0) {
+            param = value.intValue();
+        } else if (value.compareTo(MIN_LONG) >= 0 && value.compareTo(MAX_LONG) <= 0) {
+            param = value.longValue();
+        } else {
+            return;
+        }
+
+        call.setOperand(idx, new SqlDynamicParam(literals.size(), literal.getParserPosition()));
+
+        literals.add(param);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.sql;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.ignite.internal.sql.engine.SqlQueryType;
+
+/**
+ * Result of the parse, which literals were replaced with dynamic parameters by the {@link LiteralParameterizer}.
+ *
+ * <p>Dynamic parameters the literals were replaced with follow the dynamic parameters of the original statement, thus values of
+ * the parameters to execute the statement with are the values of the original parameters followed by the values of the
+ * replaced literals.
+ */
+public class ParameterizedResult implements ParsedResult {
+    private final ParsedResult source;
+
+    private final String normalizedQuery;
+
+    private final Object[] literals;
+
+    private final AtomicReference<SqlNode> holder;
+
+    ParameterizedResult(ParsedResult source, String normalizedQuery, SqlNode parsedTree, Object[] literals) {
+        this.source = source;
+        this.normalizedQuery = normalizedQuery;
+        this.literals = literals;
+        this.holder = new AtomicReference<>(parsedTree);
+    }
+
+    /** Returns the result of the parse the literals were replaced in. */
+    public ParsedResult source() {
+        return source;
+    }
+
+    /** Returns the number of the replaced literals. */
+    public int literalsCount() {
+        return literals.length;
+    }
+
+    /**
+     * Returns values of the dynamic parameters to execute the statement with.
+     *
+     * @param params Values of the dynamic parameters of the original statement.
+     * @return Values of the given parameters followed by the values of the replaced literals.
+     */
+    public Object[] parameters(Object[] params) {
+        if (literals.length == 0) {
+            return params;
+        }
+
+        Object[] result = Arrays.copyOf(params, params.length + literals.length);
+
+        System.arraycopy(literals, 0, result, params.length, literals.length);
+
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SqlQueryType queryType() {
+        return source.queryType();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String originalQuery() {
+        return source.originalQuery();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String normalizedQuery() {
+        return normalizedQuery;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int dynamicParamsCount() {
+        return source.dynamicParamsCount() + literals.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SqlNode parsedTree() {
+        // Syntax tree is mutable, thus the tree the literals were replaced in is used only once, and every following invocation
+        // replaces literals in a new tree of the original statement.
+        SqlNode ast = holder.getAndSet(null);
+
+        if (ast != null) {
+            return ast;
+        }
+
+        ast = source.parsedTree();
+
+        List<Object> replaced = LiteralParameterizer.parameterize(ast);
+
+        assert replaced.size() == literals.length : "Unexpected number of replaced literals [expected=" + literals.length
+                + ", actual=" + replaced.size() + ']';
+
+        return ast;
+    }
+}
@@ -128,9 +128,7 @@ public class ParserServiceImpl implements ParserService {
     private static ParsedResult prepareSingleResult(String originalQuery, SqlNode parsedTree, int dynamicParamsCount) {
         SqlQueryType queryType = Commons.getQueryType(parsedTree);
 
-        SqlPrettyWriter w = new SqlPrettyWriter(NORMALIZED_SQL_WRITER_CONFIG);
-        parsedTree.unparse(w, 0, 0);
-        String normalizedQuery = w.toString();
+        String normalizedQuery = normalizedQuery(parsedTree);
 
         assert queryType != null : normalizedQuery;
 
@@ -158,6 +156,14 @@ public class ParserServiceImpl implements ParserService {
         );
     }
 
+    /** Returns the query string of the given syntax tree in a normal form. */
+    static String normalizedQuery(SqlNode parsedTree) {
+        SqlPrettyWriter w = new SqlPrettyWriter(NORMALIZED_SQL_WRITER_CONFIG);
+        parsedTree.unparse(w, 0, 0);
+
+        return w.toString();
+    }
+
     static class ParsedResultImpl implements ParsedResult {
         private final SqlQueryType queryType;
         private final String originalQuery;
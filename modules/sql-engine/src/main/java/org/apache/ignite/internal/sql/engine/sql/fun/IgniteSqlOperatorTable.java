@@ -30,6 +30,7 @@ import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.sql.SqlOperator;
 import org.apache.calcite.sql.SqlOperatorBinding;
 import org.apache.calcite.sql.fun.SqlAbstractTimeFunction;
+import org.apache.calcite.sql.fun.SqlBasicAggFunction;
 import org.apache.calcite.sql.fun.SqlInternalOperators;
 import org.apache.calcite.sql.fun.SqlLibraryOperators;
 import org.apache.calcite.sql.fun.SqlMinMaxAggFunction;
@@ -448,6 +449,30 @@ public class IgniteSqlOperatorTable extends ReflectiveSqlOperatorTable {
     public static final SqlAggFunction SOME =
             new SqlMinMaxAggFunction("SOME", SqlKind.MAX, OperandTypes.BOOLEAN.and(NOT_CUSTOM_TYPE));
 
+    /**
+     * {@code APPROX_COUNT_DISTINCT} aggregate function, which estimates the number of distinct non-null values with a HyperLogLog
+     * sketch.
+     */
+    public static final SqlAggFunction APPROX_COUNT_DISTINCT =
+            SqlBasicAggFunction.create("APPROX_COUNT_DISTINCT", SqlKind.OTHER_FUNCTION, ReturnTypes.BIGINT, OperandTypes.ANY);
+
+    /**
+     * MAP phase of {@code APPROX_COUNT_DISTINCT}, which returns a serialized sketch of the values.
+     *
+     * <p>Note: System function, cannot be used by user.
+     */
+    public static final SqlAggFunction APPROX_COUNT_DISTINCT_MAP =
+            SqlBasicAggFunction.create("$APPROX_COUNT_DISTINCT_MAP", SqlKind.OTHER_FUNCTION,
+                    ReturnTypes.explicit(SqlTypeName.VARBINARY), OperandTypes.ANY);
+
+    /**
+     * REDUCE phase of {@code APPROX_COUNT_DISTINCT}, which merges the sketches returned by the MAP phase.
+     *
+     * <p>Note: System function, cannot be used by user.
+     */
+    public static final SqlAggFunction APPROX_COUNT_DISTINCT_REDUCE =
+            SqlBasicAggFunction.create("$APPROX_COUNT_DISTINCT_REDUCE", SqlKind.OTHER_FUNCTION, ReturnTypes.BIGINT, OperandTypes.BINARY);
+
     /**
      * The <code>CURRENT_TIMESTAMP [(<i>precision</i>)]</code> function.
      */
@@ -736,6 +761,9 @@ public class IgniteSqlOperatorTable extends ReflectiveSqlOperatorTable {
 
         // Aggregate functions.
         definedOperatorsBuilder.add(SqlInternalOperators.LITERAL_AGG);
+        definedOperatorsBuilder.add(APPROX_COUNT_DISTINCT);
+        definedOperatorsBuilder.add(APPROX_COUNT_DISTINCT_MAP);
+        definedOperatorsBuilder.add(APPROX_COUNT_DISTINCT_REDUCE);
 
         // Current time functions.
         definedOperatorsBuilder.add(CURRENT_TIMESTAMP);
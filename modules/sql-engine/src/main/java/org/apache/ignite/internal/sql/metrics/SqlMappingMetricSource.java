@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.metrics;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.LongGauge;
+import org.apache.ignite.internal.metrics.Metric;
+
+/**
+ * Metric source, which provides metrics of mapping of query fragments to nodes: number of computed mappings, mappings that took the load
+ * of the nodes into account and number of nodes considered loaded.
+ */
+public class SqlMappingMetricSource extends AbstractMetricSource<SqlMappingMetricSource.Holder> {
+    public static final String NAME = "sql.mapping";
+
+    /** Supplier of the number of nodes considered loaded. */
+    private final LongSupplier loadedNodes;
+
+    /**
+     * Constructor.
+     *
+     * @param loadedNodes Supplier of the number of nodes considered loaded.
+     */
+    public SqlMappingMetricSource(LongSupplier loadedNodes) {
+        super(NAME);
+
+        this.loadedNodes = loadedNodes;
+    }
+
+    /**
+     * Records a computed mapping of the fragments of a query.
+     *
+     * @param loadAware Whether the mapping avoided nodes considered loaded.
+     * @param remapping Whether the mapping replaced a cached one because the load of the nodes changed.
+     */
+    public void onMapping(boolean loadAware, boolean remapping) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.mappings.increment();
+
+            if (loadAware) {
+                h.loadAwareMappings.increment();
+            }
+
+            if (remapping) {
+                h.loadRemappings.increment();
+            }
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder(loadedNodes);
+    }
+
+    /** Holder. */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final LongAdderMetric mappings = new LongAdderMetric(
+                "Mappings",
+                "Number of computed mappings of query fragments to nodes."
+        );
+
+        private final LongAdderMetric loadAwareMappings = new LongAdderMetric(
+                "LoadAwareMappings",
+                "Number of mappings of read-only query fragments computed while some of the nodes were considered loaded."
+        );
+
+        private final LongAdderMetric loadRemappings = new LongAdderMetric(
+                "LoadRemappings",
+                "Number of cached mappings of read-only query fragments recomputed because the load of the nodes changed."
+        );
+
+        private final List<Metric> metrics;
+
+        private Holder(LongSupplier loadedNodes) {
+            var loadedNodesGauge = new LongGauge(
+                    "LoadedNodes",
+                    "Number of nodes avoided by read-only query fragments because they are at least twice as loaded as the others.",
+                    loadedNodes
+            );
+
+            metrics = List.of(mappings, loadAwareMappings, loadRemappings, loadedNodesGauge);
+        }
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return metrics;
+        }
+    }
+}
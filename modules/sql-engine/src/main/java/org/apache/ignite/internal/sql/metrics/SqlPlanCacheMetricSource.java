@@ -50,6 +50,33 @@ public class SqlPlanCacheMetricSource extends AbstractMetricSource<SqlPlanCacheM
         }
     }
 
+    /** Records a cached plan, which is reused after a change of the catalog, because the objects the plan depends on are not changed. */
+    public void onPlanRevalidated() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.cachePlanRevalidations.increment();
+        }
+    }
+
+    /** Records a cached plan, which is removed from the cache, because the objects the plan depends on are changed. */
+    public void onPlanInvalidated() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.cachePlanInvalidations.increment();
+        }
+    }
+
+    /** Records a lookup of a plan for a query, which literals were replaced with dynamic parameters. */
+    public void onParameterizedLookup() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.parameterizedLookups.increment();
+        }
+    }
+
     @Override
     protected Holder createHolder() {
         return new Holder();
@@ -59,10 +86,16 @@ public class SqlPlanCacheMetricSource extends AbstractMetricSource<SqlPlanCacheM
     protected static class Holder implements AbstractMetricSource.Holder<Holder> {
         private final AtomicLongMetric cachePlanHits = new AtomicLongMetric("Hits", "Cache plan hits");
         private final AtomicLongMetric cachePlanMisses = new AtomicLongMetric("Misses", "Cache plan misses");
+        private final AtomicLongMetric cachePlanRevalidations = new AtomicLongMetric(
+                "Revalidations", "Cached plans reused after a change of the catalog objects they do not depend on");
+        private final AtomicLongMetric cachePlanInvalidations = new AtomicLongMetric(
+                "Invalidations", "Cached plans removed after a change of the catalog objects they depend on");
+        private final AtomicLongMetric parameterizedLookups = new AtomicLongMetric(
+                "ParameterizedLookups", "Cache plan lookups of queries with literals replaced by dynamic parameters");
 
         @Override
         public Iterable<Metric> metrics() {
-            return List.of(cachePlanHits, cachePlanMisses);
+            return List.of(cachePlanHits, cachePlanMisses, cachePlanRevalidations, cachePlanInvalidations, parameterizedLookups);
         }
     }
 }
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.metrics;
+
+import java.util.List;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.HistogramMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.Metric;
+
+/**
+ * Metric source, which provides metrics of SQL queries executed by the node: number of started and completed queries, planning and
+ * execution time, rows scanned by the local fragments and returned to clients, and bytes exchanged between fragments.
+ */
+public class SqlQueryMetricSource extends AbstractMetricSource<SqlQueryMetricSource.Holder> {
+    public static final String NAME = "sql.queries";
+
+    /** Constructor. */
+    public SqlQueryMetricSource() {
+        super(NAME);
+    }
+
+    /** Records a query registered by the node. */
+    public void onQueryStarted() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.started.increment();
+        }
+    }
+
+    /**
+     * Records a completed query.
+     *
+     * @param durationMillis Time from the registration of the query to its completion in milliseconds.
+     * @param failed Whether the query completed with an error.
+     * @param cancelled Whether the query was cancelled.
+     */
+    public void onQueryFinished(long durationMillis, boolean failed, boolean cancelled) {
+        Holder h = holder();
+
+        if (h != null) {
+            if (cancelled) {
+                h.cancelled.increment();
+            } else if (failed) {
+                h.failed.increment();
+            } else {
+                h.succeeded.increment();
+            }
+
+            h.executionTime.add(Math.max(durationMillis, 0));
+        }
+    }
+
+    /**
+     * Records preparation of a query plan.
+     *
+     * @param durationMicros Time spent preparing the plan, including the plan cache lookup, in microseconds.
+     */
+    public void onQueryPlanned(long durationMicros) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.planningTime.add(Math.max(durationMicros, 0));
+        }
+    }
+
+    /** Records rows read from storages by scans of the local fragments. */
+    public void onRowsScanned(long rows) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.rowsScanned.add(rows);
+        }
+    }
+
+    /** Records rows returned to clients by queries initiated on the node. */
+    public void onRowsReturned(long rows) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.rowsReturned.add(rows);
+        }
+    }
+
+    /** Records bytes of rows sent by the local fragments to other fragments. */
+    public void onBytesSent(long bytes) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.bytesSent.add(bytes);
+        }
+    }
+
+    /** Records bytes of rows received by the local fragments from other fragments. */
+    public void onBytesReceived(long bytes) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.bytesReceived.add(bytes);
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder. */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final LongAdderMetric started = new LongAdderMetric("Started", "Number of queries started on the node.");
+
+        private final LongAdderMetric succeeded = new LongAdderMetric("Succeeded", "Number of queries completed successfully.");
+
+        private final LongAdderMetric failed = new LongAdderMetric("Failed", "Number of queries completed with an error.");
+
+        private final LongAdderMetric cancelled = new LongAdderMetric("Cancelled", "Number of cancelled queries.");
+
+        private final HistogramMetric planningTime = new HistogramMetric(
+                "PlanningTime",
+                "Histogram of the query planning time, including the plan cache lookup, in microseconds."
+        );
+
+        private final HistogramMetric executionTime = new HistogramMetric(
+                "ExecutionTime",
+                "Histogram of the query execution time, from registration of a query to its completion, in milliseconds."
+        );
+
+        private final LongAdderMetric rowsScanned = new LongAdderMetric(
+                "RowsScanned",
+                "Number of rows read from storages by query fragments executed on the node."
+        );
+
+        private final LongAdderMetric rowsReturned = new LongAdderMetric(
+                "RowsReturned",
+                "Number of rows returned to clients by queries started on the node."
+        );
+
+        private final LongAdderMetric bytesSent = new LongAdderMetric(
+                "BytesSent",
+                "Number of bytes of rows sent by query fragments executed on the node."
+        );
+
+        private final LongAdderMetric bytesReceived = new LongAdderMetric(
+                "BytesReceived",
+                "Number of bytes of rows received by query fragments executed on the node."
+        );
+
+        private final List<Metric> metrics = List.of(
+                started,
+                succeeded,
+                failed,
+                cancelled,
+                planningTime,
+                executionTime,
+                rowsScanned,
+                rowsReturned,
+                bytesSent,
+                bytesReceived
+        );
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return metrics;
+        }
+    }
+}
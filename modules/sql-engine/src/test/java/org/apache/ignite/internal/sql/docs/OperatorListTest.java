@@ -270,6 +270,9 @@ public class OperatorListTest extends BaseIgniteAbstractTest {
 
         ops.add(SqlStdOperatorTable.EVERY);
         ops.add(SqlStdOperatorTable.SOME);
+        ops.add(IgniteSqlOperatorTable.APPROX_COUNT_DISTINCT);
+        ops.internal(IgniteSqlOperatorTable.APPROX_COUNT_DISTINCT_MAP);
+        ops.internal(IgniteSqlOperatorTable.APPROX_COUNT_DISTINCT_REDUCE);
 
         ops.internal(SqlInternalOperators.LITERAL_AGG);
 
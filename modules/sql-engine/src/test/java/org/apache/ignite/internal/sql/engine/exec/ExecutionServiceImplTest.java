@@ -48,6 +48,8 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -106,6 +108,7 @@ import org.apache.ignite.internal.sql.engine.exec.exp.func.TableFunctionRegistry
 import org.apache.ignite.internal.sql.engine.exec.kill.KillCommandHandler;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingServiceImpl;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingServiceImplTest.TestExecutionDistributionProvider;
+import org.apache.ignite.internal.sql.engine.exec.mapping.NodeLoadTracker;
 import org.apache.ignite.internal.sql.engine.exec.rel.AbstractNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox;
 import org.apache.ignite.internal.sql.engine.exec.rel.Node;
@@ -124,6 +127,7 @@ import org.apache.ignite.internal.sql.engine.message.QueryBatchRequestMessage;
 import org.apache.ignite.internal.sql.engine.message.QueryStartRequest;
 import org.apache.ignite.internal.sql.engine.message.QueryStartResponse;
 import org.apache.ignite.internal.sql.engine.message.QueryStartResponseImpl;
+import org.apache.ignite.internal.sql.engine.message.QueryStatisticsMessage;
 import org.apache.ignite.internal.sql.engine.message.SqlQueryMessagesFactory;
 import org.apache.ignite.internal.sql.engine.prepare.DdlPlan;
 import org.apache.ignite.internal.sql.engine.prepare.KeyValueGetPlan;
@@ -147,6 +151,7 @@ import org.apache.ignite.internal.sql.engine.util.cache.Cache;
 import org.apache.ignite.internal.sql.engine.util.cache.CacheFactory;
 import org.apache.ignite.internal.sql.engine.util.cache.CaffeineCacheFactory;
 import org.apache.ignite.internal.sql.engine.util.cache.StatsCounter;
+import org.apache.ignite.internal.sql.metrics.SqlQueryMetricSource;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
 import org.apache.ignite.internal.testframework.IgniteTestUtils;
 import org.apache.ignite.internal.testframework.failure.FailureManagerExtension;
@@ -818,6 +823,199 @@ public class ExecutionServiceImplTest extends BaseIgniteAbstractTest {
         assertThat(debugInfo3, equalTo(expectedOnNonCoordinator));
     }
 
+    /**
+     * EXPLAIN ANALYZE executes the query and returns its plan with the statistics of every fragment instance, including the ones
+     * executed on the remote nodes.
+     */
+    @Test
+    public void explainAnalyzeReturnsStatisticsOfRemoteFragments() throws InterruptedException {
+        ExecutionService execService = executionServices.get(0);
+        SqlOperationContext ctx = createContext();
+        QueryPlan plan = prepare("EXPLAIN ANALYZE SELECT * FROM test_tbl", ctx);
+
+        String analyzedPlan = analyzedPlan(await(execService.executePlan(plan, ctx)));
+
+        String nl = System.lineSeparator();
+
+        assertThat(analyzedPlan, containsString("Execution statistics" + nl + "    rows: 9" + nl));
+
+        for (String nodeName : nodeNames) {
+            assertThat(fragmentStatistics(analyzedPlan, 1, nodeName), containsString(
+                    "    Outbox" + nl + "        rows in: 3" + nl + "        rows out: 3" + nl
+            ));
+        }
+
+        // The result is returned once the query is closed, hence no fragments are left on the coordinator.
+        assertThat(executionServices.get(0).localFragments(ctx.queryId()), hasSize(0));
+
+        assertTrue(waitForCondition(
+                () -> executionServices.stream().map(es -> es.localFragments(ctx.queryId()).size())
+                        .mapToInt(i -> i).sum() == 0, TIMEOUT_IN_MS));
+    }
+
+    /**
+     * EXPLAIN ANALYZE result must not be returned until the statistics of the remote fragments, which are sent on close of the
+     * fragments after the last batch was delivered, arrive at the coordinator.
+     */
+    @Test
+    public void explainAnalyzeAwaitsStatisticsOfRemoteFragments() throws InterruptedException {
+        ExecutionService execService = executionServices.get(0);
+        SqlOperationContext ctx = createContext();
+        QueryPlan plan = prepare("EXPLAIN ANALYZE SELECT * FROM test_tbl", ctx);
+
+        String delayedNode = nodeNames.get(2);
+        CountDownLatch statisticsSentLatch = new CountDownLatch(1);
+        CountDownLatch continueLatch = new CountDownLatch(1);
+
+        testCluster.node(nodeNames.get(0)).interceptor((senderNodeName, msg, original) -> {
+            if (msg instanceof QueryStatisticsMessage && delayedNode.equals(senderNodeName)) {
+                statisticsSentLatch.countDown();
+
+                ForkJoinPool.commonPool().execute(() -> {
+                    try {
+                        continueLatch.await(TIMEOUT_IN_MS, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException ignore) {
+                        // No-op.
+                    }
+
+                    original.onMessage(senderNodeName, msg);
+                });
+            } else {
+                original.onMessage(senderNodeName, msg);
+            }
+
+            return nullCompletedFuture();
+        });
+
+        CompletableFuture<AsyncDataCursor<InternalSqlRow>> resultFut = execService.executePlan(plan, ctx);
+
+        assertTrue(statisticsSentLatch.await(TIMEOUT_IN_MS, TimeUnit.MILLISECONDS));
+        assertFalse(resultFut.isDone());
+
+        continueLatch.countDown();
+
+        String analyzedPlan = analyzedPlan(await(resultFut));
+
+        assertThat(fragmentStatistics(analyzedPlan, 1, delayedNode), containsString("Outbox"));
+    }
+
+    /**
+     * Statistics of the remote fragments are awaited no longer than the timeout, the plan is returned without the statistics
+     * which have not arrived in time.
+     */
+    @Test
+    public void explainAnalyzeDoesNotAwaitStatisticsLongerThanTimeout() throws InterruptedException {
+        long statisticsTimeout = 500;
+
+        ExecutionServiceImpl<?> execService = executionServices.get(0);
+        SqlOperationContext ctx = createContext();
+        QueryPlan plan = prepare("EXPLAIN ANALYZE SELECT * FROM test_tbl", ctx);
+
+        execService.statisticsCollectionTimeout(statisticsTimeout);
+
+        String lostNode = nodeNames.get(2);
+
+        testCluster.node(nodeNames.get(0)).interceptor((senderNodeName, msg, original) -> {
+            if (!(msg instanceof QueryStatisticsMessage && lostNode.equals(senderNodeName))) {
+                original.onMessage(senderNodeName, msg);
+            }
+
+            return nullCompletedFuture();
+        });
+
+        long start = System.nanoTime();
+
+        String analyzedPlan = analyzedPlan(await(execService.executePlan(plan, ctx)));
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= statisticsTimeout);
+
+        String nl = System.lineSeparator();
+
+        assertThat(analyzedPlan, containsString("Execution statistics" + nl + "    rows: 9" + nl));
+        assertThat(fragmentStatistics(analyzedPlan, 1, nodeNames.get(1)), containsString("Outbox"));
+        assertFalse(analyzedPlan.contains("node: " + lostNode), analyzedPlan);
+
+        assertTrue(waitForCondition(
+                () -> executionServices.stream().map(es -> es.localFragments(ctx.queryId()).size())
+                        .mapToInt(i -> i).sum() == 0, TIMEOUT_IN_MS));
+    }
+
+    /**
+     * Statistics of the remote fragments of a query, which is slow by the time it is closed, are collected for the slow query log.
+     */
+    @Test
+    public void slowQueryCollectsStatisticsOfRemoteFragments() throws InterruptedException {
+        ExecutionService execService = executionServices.get(0);
+        SqlOperationContext ctx = operationContext()
+                .operatorStatisticsTracked(true)
+                .slowQueryTime(Instant.EPOCH)
+                .build();
+        QueryPlan plan = prepare("SELECT * FROM test_tbl", ctx);
+
+        AsyncCursor<InternalSqlRow> cursor = await(execService.executePlan(plan, ctx));
+
+        BatchedResult<?> res = await(cursor.requestNextAsync(9));
+        assertNotNull(res);
+        assertEquals(9, res.items().size());
+
+        await(cursor.closeAsync());
+
+        List<QueryStatisticsMessage> remoteStatistics = ctx.remoteFragmentStatistics();
+
+        assertThat(
+                remoteStatistics.stream().map(QueryStatisticsMessage::nodeName).collect(Collectors.toSet()),
+                equalTo(Set.of(nodeNames.get(1), nodeNames.get(2)))
+        );
+
+        for (QueryStatisticsMessage statistics : remoteStatistics) {
+            assertEquals(1, statistics.fragmentId());
+            assertEquals("Outbox", statistics.operators().get(0).name());
+            assertEquals(3, statistics.operators().get(0).rows());
+        }
+    }
+
+    /**
+     * Statistics of the remote fragments of a query, which completes before it is considered slow, are not requested.
+     */
+    @Test
+    public void fastQueryDoesNotCollectStatisticsOfRemoteFragments() throws InterruptedException {
+        ExecutionService execService = executionServices.get(0);
+        SqlOperationContext ctx = operationContext()
+                .operatorStatisticsTracked(true)
+                .slowQueryTime(Instant.now().plus(1, ChronoUnit.DAYS))
+                .build();
+        QueryPlan plan = prepare("SELECT * FROM test_tbl", ctx);
+
+        Queue<QueryStatisticsMessage> receivedStatistics = new ConcurrentLinkedQueue<>();
+
+        testCluster.node(nodeNames.get(0)).interceptor((senderNodeName, msg, original) -> {
+            if (msg instanceof QueryStatisticsMessage) {
+                receivedStatistics.add((QueryStatisticsMessage) msg);
+            }
+
+            original.onMessage(senderNodeName, msg);
+
+            return nullCompletedFuture();
+        });
+
+        AsyncCursor<InternalSqlRow> cursor = await(execService.executePlan(plan, ctx));
+
+        BatchedResult<?> res = await(cursor.requestNextAsync(9));
+        assertNotNull(res);
+        assertEquals(9, res.items().size());
+
+        await(cursor.closeAsync());
+
+        assertThat(ctx.fragmentStatistics(), hasSize(2));
+
+        assertTrue(waitForCondition(
+                () -> executionServices.stream().map(es -> es.localFragments(ctx.queryId()).size())
+                        .mapToInt(i -> i).sum() == 0, TIMEOUT_IN_MS));
+
+        assertThat(receivedStatistics, hasSize(0));
+        assertThat(ctx.remoteFragmentStatistics(), hasSize(0));
+    }
+
     /**
      * Test ensures that there are no unexpected errors when a timeout occurs during the mapping phase.
      *
@@ -1077,6 +1275,8 @@ public class ExecutionServiceImplTest extends BaseIgniteAbstractTest {
                 new ExpressionFactoryImpl<>(
                         Commons.typeFactory(), 1024, CaffeineCacheFactory.INSTANCE
                 ),
+                new SqlQueryMetricSource(),
+                new NodeLoadTracker(),
                 SHUTDOWN_TIMEOUT
         );
 
@@ -1098,7 +1298,7 @@ public class ExecutionServiceImplTest extends BaseIgniteAbstractTest {
         LongSupplier topologyVerSupplier = () -> Long.MAX_VALUE;
 
         return new MappingServiceImpl(nodeName, clock, cacheFactory, 0, partitionPruner, topologyVerSupplier,
-                new TestExecutionDistributionProvider(logicalNodes, () -> mappingException));
+                new TestExecutionDistributionProvider(logicalNodes, () -> mappingException), new NodeLoadTracker());
     }
 
     private SqlOperationContext createContext() {
@@ -1123,6 +1323,30 @@ public class ExecutionServiceImplTest extends BaseIgniteAbstractTest {
         return await(prepareService.prepareAsync(parsedResult, ctx));
     }
 
+    private static String analyzedPlan(AsyncCursor<InternalSqlRow> cursor) {
+        BatchedResult<InternalSqlRow> res = await(cursor.requestNextAsync(1));
+
+        assertNotNull(res);
+        assertThat(res.items(), hasSize(1));
+
+        return (String) res.items().get(0).get(0);
+    }
+
+    /** Returns the part of EXPLAIN ANALYZE output with the statistics of the given fragment executed on the given node. */
+    private static String fragmentStatistics(String analyzedPlan, long fragmentId, String nodeName) {
+        String nl = System.lineSeparator();
+        String header = "Fragment#" + fragmentId + nl + "      node: " + nodeName + nl;
+
+        int start = analyzedPlan.indexOf(header);
+
+        assertTrue(start >= 0, "Statistics of the fragment not found [fragmentId=" + fragmentId + ", node=" + nodeName + "]: "
+                + analyzedPlan);
+
+        int end = analyzedPlan.indexOf("Fragment#", start + header.length());
+
+        return analyzedPlan.substring(start, end < 0 ? analyzedPlan.length() : end);
+    }
+
     private static void awaitContextCancellation(List<AbstractNode<?>> nodes) throws InterruptedException {
         boolean success = waitForCondition(
                 () -> {
@@ -1517,6 +1741,11 @@ public class ExecutionServiceImplTest extends BaseIgniteAbstractTest {
             return executor.awaitTermination(timeout, unit);
         }
 
+        @Override
+        public int queueSize() {
+            return queue.size();
+        }
+
         private Runnable wrapTask(Runnable task) {
             return () -> {
                 try {
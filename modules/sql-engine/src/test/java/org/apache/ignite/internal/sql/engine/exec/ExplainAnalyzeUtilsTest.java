@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.UUID;
+import org.apache.ignite.internal.sql.engine.exec.FragmentStatistics.OperatorStatistics;
+import org.apache.ignite.internal.sql.engine.message.OperatorStatisticsMessage;
+import org.apache.ignite.internal.sql.engine.message.QueryStatisticsMessage;
+import org.apache.ignite.internal.sql.metrics.SqlQueryMetricSource;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link ExplainAnalyzeUtils}. */
+public class ExplainAnalyzeUtilsTest {
+    private final ExecutionId executionId = new ExecutionId(UUID.randomUUID(), 0);
+
+    @Test
+    void testToMessage() {
+        QueryStatisticsMessage message = ExplainAnalyzeUtils.toMessage(executionId, "node1", fragmentStatistics(1, 10));
+
+        assertEquals(1, message.fragmentId());
+        assertEquals("node1", message.nodeName());
+        assertEquals(10, message.rowsScanned());
+
+        List<OperatorStatisticsMessage> operators = message.operators();
+
+        assertEquals(3, operators.size());
+
+        assertEquals("Outbox", operators.get(0).name());
+        assertEquals(0, operators.get(0).depth());
+        assertEquals(3, operators.get(0).batches());
+
+        assertEquals("HashJoin", operators.get(1).name());
+        assertEquals(1, operators.get(1).depth());
+        assertEquals(4, operators.get(1).rows());
+        assertEquals(5, operators.get(1).bufferedRows());
+
+        assertEquals("Scan", operators.get(2).name());
+        assertEquals(2, operators.get(2).depth());
+    }
+
+    @Test
+    void testToString() {
+        List<QueryStatisticsMessage> fragments = List.of(
+                ExplainAnalyzeUtils.toMessage(executionId, "node2", fragmentStatistics(1, 20)),
+                ExplainAnalyzeUtils.toMessage(executionId, "node1", fragmentStatistics(1, 10))
+        );
+
+        String result = ExplainAnalyzeUtils.toString("Plan", fragments, 8, 1_500_000);
+
+        assertThat(result, containsString("Plan" + System.lineSeparator() + "Execution statistics"));
+        assertThat(result, containsString("time: 1.500ms"));
+        assertThat(result, containsString("rows scanned: 10"));
+        assertThat(result, containsString("rows scanned: 20"));
+        assertThat(result, containsString("buffered rows: 5"));
+        assertThat(result, containsString("batches: 3"));
+
+        // Rows produced by the scan are consumed by the join.
+        assertThat(result, containsString("      HashJoin" + System.lineSeparator()
+                + "          rows in: 10" + System.lineSeparator()
+                + "          rows out: 4"));
+
+        // Instances of the fragment are sorted by the node name.
+        assertThat(result.indexOf("node: node1"), lessThan(result.indexOf("node: node2")));
+    }
+
+    private static FragmentStatistics fragmentStatistics(long fragmentId, long rowsScanned) {
+        FragmentStatistics statistics = new FragmentStatistics(fragmentId, new SqlQueryMetricSource(), true);
+
+        OperatorStatistics scan = statistics.registerOperator("Scan");
+        OperatorStatistics join = statistics.registerOperator("HashJoin");
+        OperatorStatistics outbox = statistics.registerOperator("Outbox");
+
+        join.inputs(List.of(scan));
+        outbox.inputs(List.of(join));
+
+        scan.onRows(rowsScanned);
+        join.onRows(4);
+        join.onBufferedRows(5);
+        join.onBufferedRows(2);
+        outbox.onRows(4);
+        outbox.onBatches(3);
+
+        statistics.onRowsScanned(rowsScanned);
+
+        return statistics;
+    }
+}
@@ -42,6 +42,7 @@ import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.TypeUtils;
 import org.apache.ignite.internal.sql.engine.util.cache.CaffeineCacheFactory;
+import org.apache.ignite.internal.sql.metrics.SqlQueryMetricSource;
 import org.apache.ignite.internal.testframework.IgniteAbstractTest;
 import org.apache.ignite.internal.type.NativeType;
 import org.apache.ignite.internal.type.NativeTypes;
@@ -126,7 +127,8 @@ public class RuntimeSortedIndexTest extends IgniteAbstractTest {
                         Map.of(),
                         null,
                         SqlQueryProcessor.DEFAULT_TIME_ZONE_ID,
-                        -1
+                        -1,
+                        new FragmentStatistics(0, new SqlQueryMetricSource(), false)
                 ),
                 RelCollations.of(ImmutableIntList.copyOf(idxCols)),
                 (o1, o2) -> {
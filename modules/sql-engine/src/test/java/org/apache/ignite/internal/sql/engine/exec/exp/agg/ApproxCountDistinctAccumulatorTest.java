@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.exp.agg;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import org.apache.calcite.avatica.util.ByteString;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.Accumulators.ApproxCountDistinct;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@code APPROX_COUNT_DISTINCT(EXPR)} and its MAP/REDUCE phases.
+ */
+public class ApproxCountDistinctAccumulatorTest extends BaseIgniteAbstractTest {
+
+    @Test
+    public void exactForSmallCardinality() {
+        StatefulAccumulator accumulator = new StatefulAccumulator(ApproxCountDistinct.FACTORY);
+
+        accumulator.add(1);
+        accumulator.add(2L);
+        accumulator.add(2L);
+        accumulator.add(null);
+        accumulator.add("a");
+        accumulator.add("a");
+        accumulator.add(new BigDecimal("1.10"));
+        accumulator.add(new BigDecimal("1.1"));
+        accumulator.add(new UUID(1, 2));
+
+        assertEquals(5L, accumulator.end());
+    }
+
+    @Test
+    public void estimateForLargeCardinality() {
+        StatefulAccumulator accumulator = new StatefulAccumulator(ApproxCountDistinct.FACTORY);
+
+        int count = 100_000;
+
+        for (int i = 0; i < count; i++) {
+            accumulator.add(i);
+            accumulator.add(i);
+        }
+
+        long estimate = (long) accumulator.end();
+
+        assertTrue(Math.abs(estimate - count) < count * 0.05, "estimate=" + estimate);
+    }
+
+    @Test
+    public void mapReduce() {
+        StatefulAccumulator single = new StatefulAccumulator(ApproxCountDistinct.FACTORY);
+        StatefulAccumulator reduce = new StatefulAccumulator(ApproxCountDistinct.REDUCE_FACTORY);
+
+        for (int node = 0; node < 3; node++) {
+            StatefulAccumulator map = new StatefulAccumulator(ApproxCountDistinct.MAP_FACTORY);
+
+            // Sets of values of the nodes overlap.
+            for (int i = node * 1_000; i < node * 1_000 + 5_000; i++) {
+                map.add(i);
+                single.add(i);
+            }
+
+            Object sketch = map.end();
+
+            assertInstanceOf(ByteString.class, sketch);
+
+            reduce.add(sketch);
+        }
+
+        assertEquals(single.end(), reduce.end());
+    }
+
+    @Test
+    public void serialization() {
+        HyperLogLog sketch = new HyperLogLog();
+
+        for (int i = 0; i < 10_000; i++) {
+            sketch.add(i);
+
+            if (i == 10) {
+                assertEquals(sketch.estimate(), HyperLogLog.fromBytes(sketch.toBytes()).estimate());
+            }
+        }
+
+        HyperLogLog copy = HyperLogLog.fromBytes(sketch.toBytes());
+
+        assertEquals(sketch.estimate(), copy.estimate());
+        assertArrayEquals(sketch.toBytes(), copy.toBytes());
+    }
+
+    @Test
+    public void empty() {
+        assertEquals(0L, new StatefulAccumulator(ApproxCountDistinct.FACTORY).end());
+
+        StatefulAccumulator map = new StatefulAccumulator(ApproxCountDistinct.MAP_FACTORY);
+
+        map.add((Object) null);
+
+        StatefulAccumulator reduce = new StatefulAccumulator(ApproxCountDistinct.REDUCE_FACTORY);
+
+        reduce.add(map.end());
+        reduce.add((Object) null);
+
+        assertEquals(0L, reduce.end());
+    }
+}
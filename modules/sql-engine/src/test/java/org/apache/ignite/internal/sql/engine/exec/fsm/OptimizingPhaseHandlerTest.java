@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.fsm;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.sql.engine.SqlOperationContext;
+import org.apache.ignite.internal.sql.engine.framework.TestBuilders;
+import org.apache.ignite.internal.sql.engine.framework.TestCluster;
+import org.apache.ignite.internal.sql.engine.framework.TestNode;
+import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
+import org.apache.ignite.internal.sql.engine.prepare.QueryPlan;
+import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.sql.SqlException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link OptimizingPhaseHandler}. */
+public class OptimizingPhaseHandlerTest extends BaseIgniteAbstractTest {
+    private static final String NODE_NAME = "N1";
+
+    private final AtomicInteger prepareCalls = new AtomicInteger();
+
+    private TestCluster cluster;
+    private TestNode gatewayNode;
+
+    @BeforeEach
+    void startCluster() {
+        cluster = TestBuilders.cluster()
+                .nodes(NODE_NAME)
+                .prepareServiceDecorator(CountingPrepareService::new)
+                .build();
+
+        cluster.start();
+
+        gatewayNode = cluster.node(NODE_NAME);
+
+        gatewayNode.initSchema("CREATE TABLE t (id INT PRIMARY KEY, val INT)");
+
+        prepareCalls.set(0);
+    }
+
+    @AfterEach
+    void stopCluster() throws Exception {
+        cluster.stop();
+    }
+
+    @Test
+    void invalidStatementIsPreparedOnce() {
+        assertThrows(
+                SqlException.class,
+                () -> gatewayNode.executeQuery("SELECT missing FROM t"),
+                "Column 'MISSING' not found"
+        );
+
+        assertEquals(1, prepareCalls.get());
+    }
+
+    @Test
+    void invalidStatementWithoutReplaceableLiteralsIsPreparedOnce() {
+        assertThrows(
+                SqlException.class,
+                () -> gatewayNode.executeQuery("SELECT * FROM t WHERE missing = 'a'"),
+                "Column 'MISSING' not found"
+        );
+
+        assertEquals(1, prepareCalls.get());
+    }
+
+    private class CountingPrepareService implements PrepareService {
+        private final PrepareService delegate;
+
+        CountingPrepareService(PrepareService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public CompletableFuture<QueryPlan> prepareAsync(ParsedResult parsedResult, SqlOperationContext ctx) {
+            prepareCalls.incrementAndGet();
+
+            return delegate.prepareAsync(parsedResult, ctx);
+        }
+
+        @Override
+        public void start() {
+            delegate.start();
+        }
+
+        @Override
+        public void stop() throws Exception {
+            delegate.stop();
+        }
+    }
+}
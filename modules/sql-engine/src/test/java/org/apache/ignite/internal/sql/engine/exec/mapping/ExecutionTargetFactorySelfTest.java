@@ -27,6 +27,7 @@ import static org.hamcrest.Matchers.iterableWithSize;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -79,6 +80,18 @@ public class ExecutionTargetFactorySelfTest {
         assertThat(f.resolveNodes(f.partitioned(assignmentFromPrimaries(NODE_SET))), equalTo(NODE_SET));
     }
 
+    @Test
+    void nodeOrder() throws Exception {
+        Comparator<String> order = Comparator.<String, Boolean>comparing(SINGLE_NODE_SET::contains).reversed()
+                .thenComparing(Comparator.naturalOrder());
+
+        for (ExecutionTargetFactory f : List.of(new SmallClusterFactory(ALL_NODES, order), new LargeClusterFactory(ALL_NODES, order))) {
+            // Targets with several options are finalised to the most preferred node.
+            assertThat(f.resolveNodes(f.oneOf(NODE_SET)), equalTo(SINGLE_NODE_SET));
+            assertColocated(f, f.oneOf(NODE_SET2), f.oneOf(NODE_SET2), equalTo(List.of("node2")));
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("clusterFactory")
     void emptyTargets(ExecutionTargetFactory f) {
@@ -153,7 +153,8 @@ public class MappingServiceImplTest extends BaseIgniteAbstractTest {
                 100,
                 PARTITION_PRUNER,
                 logicalTopologyVerSupplier,
-                execProvider
+                execProvider,
+                new NodeLoadTracker()
         ));
 
         List<MappedFragment> defaultMapping = await(mappingService.map(PLAN, PARAMS));
@@ -222,7 +223,8 @@ public class MappingServiceImplTest extends BaseIgniteAbstractTest {
                 100,
                 PARTITION_PRUNER,
                 logicalTopologyVerSupplier,
-                execProvider
+                execProvider,
+                new NodeLoadTracker()
         ));
 
         List<MappedFragment> tableOnlyMapping = await(mappingService.map(PLAN, PARAMS));
@@ -284,7 +286,8 @@ public class MappingServiceImplTest extends BaseIgniteAbstractTest {
                 100,
                 PARTITION_PRUNER,
                 logicalTopologyVerSupplier,
-                execProvider
+                execProvider,
+                new NodeLoadTracker()
         ));
 
         List<MappedFragment> mappedFragments = await(mappingService.map(PLAN, PARAMS));
@@ -331,7 +334,8 @@ public class MappingServiceImplTest extends BaseIgniteAbstractTest {
                 100,
                 PARTITION_PRUNER,
                 logicalTopologyVerSupplier,
-                execProvider
+                execProvider,
+                new NodeLoadTracker()
         ));
 
         List<MappedFragment> mappedFragments = await(mappingService.map(PLAN, PARAMS));
@@ -364,7 +368,8 @@ public class MappingServiceImplTest extends BaseIgniteAbstractTest {
                 cacheSize,
                 PARTITION_PRUNER,
                 logicalTopologyVerSupplier,
-                execProvider
+                execProvider,
+                new NodeLoadTracker()
         );
     }
 
@@ -208,7 +208,8 @@ final class MappingTestRunner {
                 0,
                 partitionPruner,
                 snapshot::version,
-                executionDistributionProvider
+                executionDistributionProvider,
+                new NodeLoadTracker()
         );
 
         List<MappedFragment> mappedFragments;
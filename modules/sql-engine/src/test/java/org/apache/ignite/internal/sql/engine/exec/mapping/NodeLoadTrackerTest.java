@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.mapping;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.sql.engine.exec.mapping.NodeLoadTracker.LoadSnapshot;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link NodeLoadTracker}. */
+public class NodeLoadTrackerTest {
+    private final AtomicLong time = new AtomicLong();
+
+    private final NodeLoadTracker tracker = new NodeLoadTracker(time::get);
+
+    @Test
+    void testLevels() {
+        tracker.onFragmentStarted("N1", MILLISECONDS.toNanos(1), 0);
+        tracker.onFragmentStarted("N2", MILLISECONDS.toNanos(1), 1);
+        tracker.onFragmentStarted("N3", MILLISECONDS.toNanos(1), 7);
+        tracker.onFragmentStarted("N4", MILLISECONDS.toNanos(30), 0);
+
+        LoadSnapshot snapshot = refresh();
+
+        assertEquals(0, snapshot.level("N1"));
+        assertEquals(1, snapshot.level("N2"));
+        assertEquals(3, snapshot.level("N3"));
+        assertEquals(4, snapshot.level("N4"));
+        assertEquals(0, snapshot.level("N5"));
+        assertEquals(3, snapshot.loadedNodes());
+
+        List<String> nodes = new ArrayList<>(List.of("N4", "N3", "N2", "N1", "N5"));
+
+        nodes.sort(snapshot.nodeOrder());
+
+        assertEquals(List.of("N1", "N5", "N2", "N3", "N4"), nodes);
+    }
+
+    @Test
+    void testSmallDifferencesAreIgnored() {
+        tracker.onFragmentStarted("N1", MILLISECONDS.toNanos(1), 0);
+        tracker.onFragmentStarted("N2", MILLISECONDS.toNanos(1) + 500_000, 0);
+        // Latencies below the threshold are considered equal.
+        tracker.onFragmentStarted("N3", 10_000, 0);
+        tracker.onFragmentStarted("N4", 50_000, 0);
+
+        LoadSnapshot snapshot = refresh();
+
+        assertEquals(0, snapshot.level("N3"));
+        assertEquals(0, snapshot.level("N4"));
+        assertEquals(3, snapshot.level("N1"));
+        assertEquals(3, snapshot.level("N2"));
+    }
+
+    @Test
+    void testVersion() {
+        LoadSnapshot initial = tracker.snapshot();
+
+        tracker.onFragmentStarted("N1", MILLISECONDS.toNanos(1), 0);
+        tracker.onFragmentStarted("N2", MILLISECONDS.toNanos(1), 3);
+
+        // The snapshot is not recalculated until the refresh interval passes.
+        assertSame(initial, tracker.snapshot());
+
+        LoadSnapshot loaded = refresh();
+
+        assertNotEquals(initial.version(), loaded.version());
+
+        // The version is kept while the levels stay the same.
+        tracker.onFragmentStarted("N2", MILLISECONDS.toNanos(1), 4);
+
+        assertEquals(loaded.version(), refresh().version());
+
+        tracker.onFragmentStarted("N2", MILLISECONDS.toNanos(1), 0);
+
+        assertNotEquals(loaded.version(), refresh().version());
+    }
+
+    @Test
+    void testExpiration() {
+        tracker.onFragmentStarted("N1", MILLISECONDS.toNanos(1), 0);
+        tracker.onFragmentStarted("N2", MILLISECONDS.toNanos(1), 3);
+
+        assertEquals(2, refresh().level("N2"));
+
+        time.addAndGet(SECONDS.toNanos(5));
+
+        tracker.onFragmentStarted("N1", MILLISECONDS.toNanos(1), 0);
+
+        time.addAndGet(SECONDS.toNanos(6));
+
+        // The signal of N2 is expired, so the node is considered not loaded and gets fragments again.
+        LoadSnapshot snapshot = tracker.snapshot();
+
+        assertEquals(0, snapshot.level("N2"));
+        assertEquals(0, snapshot.loadedNodes());
+    }
+
+    @Test
+    void testMetrics() {
+        MetricSet metricSet = tracker.metricSource().enable();
+
+        tracker.onFragmentStarted("N1", MILLISECONDS.toNanos(1), 0);
+        tracker.onFragmentStarted("N2", MILLISECONDS.toNanos(1), 3);
+
+        refresh();
+
+        tracker.metricSource().onMapping(false, false);
+        tracker.metricSource().onMapping(true, false);
+        tracker.metricSource().onMapping(true, true);
+
+        assertEquals(3, metricSet.<LongMetric>get("Mappings").value());
+        assertEquals(2, metricSet.<LongMetric>get("LoadAwareMappings").value());
+        assertEquals(1, metricSet.<LongMetric>get("LoadRemappings").value());
+        assertEquals(1, metricSet.<LongMetric>get("LoadedNodes").value());
+    }
+
+    private LoadSnapshot refresh() {
+        time.addAndGet(SECONDS.toNanos(1));
+
+        return tracker.snapshot();
+    }
+}
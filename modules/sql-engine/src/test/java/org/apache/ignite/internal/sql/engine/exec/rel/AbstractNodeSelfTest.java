@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
@@ -30,8 +31,12 @@ import java.util.function.Consumer;
 import org.apache.ignite.internal.lang.RunnableX;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionId;
+import org.apache.ignite.internal.sql.engine.exec.FragmentStatistics;
+import org.apache.ignite.internal.sql.metrics.SqlQueryMetricSource;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 
 /**
@@ -45,6 +50,7 @@ public class AbstractNodeSelfTest extends BaseIgniteAbstractTest {
 
         when(ctx.executionId()).thenReturn(new ExecutionId(UUID.randomUUID(), 1));
         when(ctx.fragmentId()).thenReturn(1L);
+        when(ctx.statistics()).thenReturn(new FragmentStatistics(1L, new SqlQueryMetricSource(), true));
 
         SimpleNode<Object[]> node = new SimpleNode<>(ctx);
 
@@ -76,6 +82,7 @@ public class AbstractNodeSelfTest extends BaseIgniteAbstractTest {
 
         when(ctx.executionId()).thenReturn(new ExecutionId(UUID.randomUUID(), 1));
         when(ctx.fragmentId()).thenReturn(1L);
+        when(ctx.statistics()).thenReturn(new FragmentStatistics(1L, new SqlQueryMetricSource(), true));
 
         SimpleNode<Object[]> node = new SimpleNode<>(ctx);
 
@@ -113,6 +120,29 @@ public class AbstractNodeSelfTest extends BaseIgniteAbstractTest {
         verify(ctx, times(3)).execute(any(RunnableX.class), any(Consumer.class));
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testRowsAreCountedOnlyIfTracked(boolean tracked) throws Exception {
+        ExecutionContext<Object[]> ctx = Mockito.mock(ExecutionContext.class);
+
+        when(ctx.statistics()).thenReturn(new FragmentStatistics(1L, new SqlQueryMetricSource(), tracked));
+
+        SimpleNode<Object[]> node = new SimpleNode<>(ctx);
+        Downstream<Object[]> downstream = Mockito.mock(Downstream.class);
+
+        node.onRegister(downstream);
+
+        node.downstream().push(new Object[0]);
+        node.downstream().push(new Object[0]);
+
+        verify(downstream, times(2)).push(any());
+        assertEquals(tracked ? 2 : 0, node.statistics().rows());
+
+        if (!tracked) {
+            assertSame(downstream, node.downstream());
+        }
+    }
+
     private static class SimpleNode<T> extends AbstractNode<T> implements Downstream<T> {
 
         private final AtomicInteger callCount = new AtomicInteger();
@@ -226,7 +226,7 @@ public class TableScanNodeExecutionTest extends AbstractExecutionTest<Object[]>
             ScannableTableImpl scanableTable = new ScannableTableImpl(internalTable, rf -> rowConverter);
             PartitionProvider<Object[]> partitionProvider = PartitionProvider.fromPartitions(partsWithConsistencyTokens);
             TableScanNode<Object[]> scanNode = new TableScanNode<>(ctx, rowFactory, scanableTable,
-                    partitionProvider, null, null, null);
+                    partitionProvider, null, null, null, 1);
 
             RootNode<Object[]> root = new RootNode<>(ctx);
 
@@ -268,7 +268,22 @@ public class TableScanNodeExecutionTest extends AbstractExecutionTest<Object[]>
         checkTableScan(bufferSize, 1, 2 * bufferSize);
     }
 
+    @Test
+    public void tableScanNodeWithParallelism() {
+        int bufferSize = 10;
+
+        checkTableScan(bufferSize, 1, 0, 4);
+        checkTableScan(bufferSize, 1, 25, 4);
+        checkTableScan(bufferSize, 3, 25, 4);
+        checkTableScan(bufferSize, 4, 25, 4);
+        checkTableScan(bufferSize, 9, 25, 4);
+    }
+
     private void checkTableScan(int bufferSize, int partitionsCount, int partDataSize) {
+        checkTableScan(bufferSize, partitionsCount, partDataSize, 1);
+    }
+
+    private void checkTableScan(int bufferSize, int partitionsCount, int partDataSize, int parallelism) {
         ExecutionContext<Object[]> ctx = executionContext(bufferSize);
 
         List<PartitionWithConsistencyToken> partitions = IntStream.range(0, partitionsCount)
@@ -279,7 +294,8 @@ public class TableScanNodeExecutionTest extends AbstractExecutionTest<Object[]>
         RowFactory<Object[]> rowFactory = ctx.rowHandler().factory(schema);
 
         ScannableTable scannableTable = TestBuilders.tableScan(DataProvider.fromRow(new Object[]{42}, partDataSize));
-        TableScanNode<Object[]> scanNode = new TableScanNode<>(ctx, rowFactory, scannableTable, c -> partitions, null, null, null);
+        TableScanNode<Object[]> scanNode = new TableScanNode<>(
+                ctx, rowFactory, scannableTable, c -> partitions, null, null, null, parallelism);
         RootNode<Object[]> rootNode = new RootNode<>(ctx);
 
         rootNode.register(scanNode);
@@ -99,6 +99,7 @@ import org.apache.ignite.internal.sql.engine.exec.ExecutableTable;
 import org.apache.ignite.internal.sql.engine.exec.ExecutableTableRegistry;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionId;
+import org.apache.ignite.internal.sql.engine.exec.FragmentStatistics;
 import org.apache.ignite.internal.sql.engine.exec.PartitionWithConsistencyToken;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutor;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
@@ -112,6 +113,8 @@ import org.apache.ignite.internal.sql.engine.exec.mapping.ColocationGroup;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ExecutionDistributionProvider;
 import org.apache.ignite.internal.sql.engine.exec.mapping.FragmentDescription;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingServiceImpl;
+import org.apache.ignite.internal.sql.engine.exec.mapping.NodeLoadTracker;
+import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareServiceImpl;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.DdlSqlToCommandConverter;
 import org.apache.ignite.internal.sql.engine.prepare.pruning.PartitionPrunerImpl;
@@ -135,6 +138,7 @@ import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.EmptyCacheFactory;
 import org.apache.ignite.internal.sql.engine.util.cache.CaffeineCacheFactory;
+import org.apache.ignite.internal.sql.metrics.SqlQueryMetricSource;
 import org.apache.ignite.internal.systemview.SystemViewManagerImpl;
 import org.apache.ignite.internal.systemview.api.SystemView;
 import org.apache.ignite.internal.thread.NamedThreadFactory;
@@ -367,6 +371,16 @@ public class TestBuilders {
          */
         ClusterBuilder catalogManagerDecorator(Function<CatalogManager, CatalogManager> decorator);
 
+        /**
+         * A decorator to wrap {@link PrepareService} instance which will be used in the test cluster.
+         *
+         * <p>May be used to track or delay preparation of queries.
+         *
+         * @param decorator A decorator function which accepts original service and returns decorated one.
+         * @return {@code this} for chaining.
+         */
+        ClusterBuilder prepareServiceDecorator(Function<PrepareService, PrepareService> decorator);
+
         /**
          * Sets desired handlers for operation cancellation.
          *
@@ -629,7 +643,8 @@ public class TestBuilders {
                     Commons.parametersMap(dynamicParams),
                     TxAttributes.fromTx(new NoOpTransaction(node.name(), false)),
                     SqlQueryProcessor.DEFAULT_TIME_ZONE_ID,
-                    -1
+                    -1,
+                    new FragmentStatistics(description.fragmentId(), new SqlQueryMetricSource(), true)
             );
         }
     }
@@ -643,6 +658,7 @@ public class TestBuilders {
 
         private long planningTimeout = TimeUnit.SECONDS.toMillis(15);
         private Function<CatalogManager, CatalogManager> catalogManagerDecorator = Function.identity();
+        private Function<PrepareService, PrepareService> prepareServiceDecorator = Function.identity();
         private OperationKillHandler @Nullable [] killHandlers = null;
 
         private @Nullable DefaultDataProvider defaultDataProvider = null;
@@ -667,6 +683,14 @@ public class TestBuilders {
             return this;
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public ClusterBuilder prepareServiceDecorator(Function<PrepareService, PrepareService> decorator) {
+            this.prepareServiceDecorator = Objects.requireNonNull(decorator);
+
+            return this;
+        }
+
         /** {@inheritDoc} */
         @Override
         public ClusterBuilder operationKillHandlers(OperationKillHandler... handlers) {
@@ -736,9 +760,9 @@ public class TestBuilders {
 
             ConcurrentMap<String, Long> tablesSize = new ConcurrentHashMap<>();
             var schemaManager = createSqlSchemaManager(catalogManager, tablesSize);
-            var prepareService = new PrepareServiceImpl(clusterName, 0, CaffeineCacheFactory.INSTANCE,
-                    new DdlSqlToCommandConverter(), planningTimeout, PLANNING_THREAD_COUNT,
-                    new NoOpMetricManager(), schemaManager);
+            PrepareService prepareService = prepareServiceDecorator.apply(new PrepareServiceImpl(clusterName, 0,
+                    CaffeineCacheFactory.INSTANCE, new DdlSqlToCommandConverter(), planningTimeout, PLANNING_THREAD_COUNT,
+                    new NoOpMetricManager(), schemaManager));
 
             Map<String, List<String>> systemViewsByNode = new HashMap<>();
 
@@ -814,7 +838,8 @@ public class TestBuilders {
                                 0,
                                 partitionPruner,
                                 () -> 1L,
-                                executionProvider
+                                executionProvider,
+                                new NodeLoadTracker()
                         );
 
                         systemViewManager.register(() -> systemViews);
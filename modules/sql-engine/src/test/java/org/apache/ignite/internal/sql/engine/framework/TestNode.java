@@ -78,6 +78,7 @@ import org.apache.ignite.internal.sql.engine.exec.fsm.QueryIdGenerator;
 import org.apache.ignite.internal.sql.engine.exec.fsm.QueryInfo;
 import org.apache.ignite.internal.sql.engine.exec.kill.KillCommandHandler;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingService;
+import org.apache.ignite.internal.sql.engine.exec.mapping.NodeLoadTracker;
 import org.apache.ignite.internal.sql.engine.message.MessageService;
 import org.apache.ignite.internal.sql.engine.message.MessageServiceImpl;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
@@ -89,6 +90,7 @@ import org.apache.ignite.internal.sql.engine.tx.QueryTransactionContext;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.EmptyCacheFactory;
 import org.apache.ignite.internal.sql.engine.util.cache.CaffeineCacheFactory;
+import org.apache.ignite.internal.sql.metrics.SqlQueryMetricSource;
 import org.apache.ignite.internal.systemview.api.SystemViewManager;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.util.ArrayUtils;
@@ -187,6 +189,8 @@ public class TestNode implements LifecycleAware {
             }
         }
 
+        SqlQueryMetricSource metricSource = new SqlQueryMetricSource();
+
         ExecutionService executionService = registerService(ExecutionServiceImpl.create(
                 topologyService,
                 messageService,
@@ -205,6 +209,8 @@ public class TestNode implements LifecycleAware {
                 new ExpressionFactoryImpl<>(
                         Commons.typeFactory(), 1024, CaffeineCacheFactory.INSTANCE
                 ),
+                metricSource,
+                new NodeLoadTracker(),
                 5_000
         ));
 
@@ -246,7 +252,9 @@ public class TestNode implements LifecycleAware {
                     public void log(String type, Supplier<Event> eventProvider) {
                         // No-op.
                     }
-                }
+                },
+                metricSource,
+                () -> 0
         ));
     }
 
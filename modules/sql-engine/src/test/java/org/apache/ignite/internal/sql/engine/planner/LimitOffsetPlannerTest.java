@@ -19,6 +19,8 @@ package org.apache.ignite.internal.sql.engine.planner;
 
 import static org.apache.ignite.internal.sql.engine.util.RexUtils.doubleFromRex;
 
+import java.util.List;
+import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.util.ImmutableIntList;
 import org.apache.ignite.internal.sql.engine.framework.TestBuilders;
 import org.apache.ignite.internal.sql.engine.framework.TestBuilders.TableBuilder;
@@ -107,13 +109,32 @@ public class LimitOffsetPlannerTest extends AbstractPlannerTest {
                                         .and(s -> s.fetch == null)
                                         .and(s -> s.offset == null))))));
 
-        // Simple case without ordering.
+        // Simple case without ordering, source fragments return no more than OFFSET + FETCH rows.
         assertPlan("SELECT * FROM TEST OFFSET 10 ROWS FETCH FIRST 5 ROWS ONLY", publicSchema,
                 isInstanceOf(IgniteLimit.class)
                         .and(s -> doubleFromRex(s.fetch(), -1) == 5)
                         .and(s -> doubleFromRex(s.offset(), -1) == 10)
-                        .and(input(isInstanceOf(IgniteExchange.class)))
+                        .and(input(isInstanceOf(IgniteExchange.class)
+                                .and(input(isInstanceOf(IgniteLimit.class)
+                                        .and(l -> doubleFromRex(l.fetch(), -1) == 15)
+                                        .and(l -> l.offset() == null)
+                                        .and(input(isInstanceOf(IgniteTableScan.class)))))))
                         .and(hasChildThat(isInstanceOf(IgniteSort.class)).negate()));
+
+        // The number of rows returned by source fragments is capped by Long.MAX_VALUE.
+        assertPlan("SELECT * FROM TEST LIMIT " + Long.MAX_VALUE + " OFFSET 1", publicSchema,
+                isInstanceOf(IgniteLimit.class)
+                        .and(input(isInstanceOf(IgniteExchange.class)
+                                .and(input(isInstanceOf(IgniteLimit.class)
+                                        .and(l -> ((RexLiteral) l.fetch()).getValueAs(Long.class) == Long.MAX_VALUE)
+                                        .and(l -> l.offset() == null))))));
+
+        // OFFSET + FETCH is not known at planning time, so the limit is not pushed to source fragments.
+        assertPlan("SELECT * FROM TEST LIMIT ? OFFSET ?", publicSchema,
+                isInstanceOf(IgniteLimit.class)
+                        .and(input(isInstanceOf(IgniteExchange.class)
+                                .and(input(isInstanceOf(IgniteTableScan.class))))),
+                List.of(Long.MAX_VALUE, 1L));
         // Check that Sort node is not eliminated by aggregation and Exchange node is not eliminated by distribution
         // required by parent nodes.
         assertPlan("SELECT * FROM TEST UNION (SELECT * FROM TEST ORDER BY ID LIMIT 10)", publicSchema,
@@ -169,10 +190,14 @@ public class LimitOffsetPlannerTest extends AbstractPlannerTest {
         publicSchema = createSchemaWithTable(IgniteDistributions.random(), "ID");
 
         // Sort node is not required, since collation of the Limit node equals to the index collation.
+        // Index scans stop after OFFSET + FETCH rows.
         assertPlan("SELECT * FROM TEST ORDER BY ID LIMIT 10 OFFSET 10", publicSchema,
                 isInstanceOf(IgniteLimit.class)
                     .and(input(isInstanceOf(IgniteExchange.class)
-                        .and(input(isInstanceOf(IgniteIndexScan.class)))))
+                        .and(input(isInstanceOf(IgniteLimit.class)
+                                .and(l -> doubleFromRex(l.fetch(), -1) == 20)
+                                .and(l -> l.offset() == null)
+                                .and(input(isInstanceOf(IgniteIndexScan.class)))))))
                     .and(hasChildThat(isInstanceOf(IgniteSort.class)).negate()));
 
         publicSchema = createSchemaWithTable(IgniteDistributions.random(), "ID", "VAL");
@@ -181,7 +206,8 @@ public class LimitOffsetPlannerTest extends AbstractPlannerTest {
         assertPlan("SELECT * FROM TEST ORDER BY ID LIMIT 10 OFFSET 10", publicSchema,
                 isInstanceOf(IgniteLimit.class)
                     .and(input(isInstanceOf(IgniteExchange.class)
-                        .and(input(isInstanceOf(IgniteIndexScan.class)))))
+                        .and(input(isInstanceOf(IgniteLimit.class)
+                                .and(input(isInstanceOf(IgniteIndexScan.class)))))))
                     .and(hasChildThat(isInstanceOf(IgniteSort.class)).negate()));
 
         publicSchema = createSchemaWithTable(IgniteDistributions.single());
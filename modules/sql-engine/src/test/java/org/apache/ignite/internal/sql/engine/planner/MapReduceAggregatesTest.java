@@ -43,6 +43,7 @@ import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
 import org.apache.ignite.internal.sql.engine.rel.IgniteValues;
 import org.apache.ignite.internal.sql.engine.rel.agg.MapReduceAggregates;
 import org.apache.ignite.internal.sql.engine.rel.agg.MapReduceAggregates.AggregateRelBuilder;
+import org.apache.ignite.internal.sql.engine.sql.fun.IgniteSqlOperatorTable;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.junit.jupiter.api.Test;
@@ -91,6 +92,47 @@ public class MapReduceAggregatesTest {
         assertEquals(Pair.of(mappedGroupSet, List.of(mappedGroupSet)), reduceGroups, "group sets on REDUCE phase");
     }
 
+    /**
+     * Checks that {@code APPROX_COUNT_DISTINCT} builds sketches on MAP phase and merges them on REDUCE phase.
+     */
+    @Test
+    public void testApproxCountDistinct() {
+        IgniteTypeFactory typeFactory = Commons.typeFactory();
+
+        RelDataType rowType = typeFactory.builder().add("f1", SqlTypeName.INTEGER)
+                .add("f2", SqlTypeName.VARCHAR)
+                .build();
+
+        RelOptCluster cluster = Commons.emptyCluster();
+        RelTraitSet traitSet = RelTraitSet.createEmpty();
+
+        LogicalValues values = new LogicalValues(cluster, traitSet, rowType, ImmutableList.of());
+
+        ImmutableBitSet groupSet = ImmutableBitSet.of(0);
+        AggregateCall aggregateCall = AggregateCall.create(IgniteSqlOperatorTable.APPROX_COUNT_DISTINCT,
+                false, false, false, ImmutableList.of(), List.of(1), -1, null,
+                RelCollations.EMPTY,
+                typeFactory.createSqlType(SqlTypeName.BIGINT),
+                "approx");
+
+        LogicalAggregate aggregate = new LogicalAggregate(cluster, traitSet, List.of(), values,
+                groupSet, List.of(groupSet), List.of(aggregateCall));
+
+        GroupSetCollector collect = new GroupSetCollector(rowType);
+
+        MapReduceAggregates.buildAggregates(aggregate, collect, Mappings.createIdentity(2));
+
+        AggregateCall mapCall = collect.collectedAggregateCalls.get(0).get(0);
+        AggregateCall reduceCall = collect.collectedAggregateCalls.get(1).get(0);
+
+        assertEquals(IgniteSqlOperatorTable.APPROX_COUNT_DISTINCT_MAP, mapCall.getAggregation());
+        assertEquals(List.of(1), mapCall.getArgList());
+        assertEquals(SqlTypeName.VARBINARY, mapCall.getType().getSqlTypeName());
+
+        assertEquals(IgniteSqlOperatorTable.APPROX_COUNT_DISTINCT_REDUCE, reduceCall.getAggregation());
+        assertEquals(aggregateCall.getType(), reduceCall.getType());
+    }
+
     private static AggregateCall newCall(IgniteTypeFactory typeFactory, List<Integer> args) {
         return AggregateCall.create(SqlStdOperatorTable.COUNT,
                 false, false, false, ImmutableList.of(), args, -1, null,
@@ -101,6 +143,7 @@ public class MapReduceAggregatesTest {
 
     private static class GroupSetCollector implements AggregateRelBuilder {
         private final List<Pair<ImmutableBitSet, List<ImmutableBitSet>>> collectedGroupSets = new ArrayList<>();
+        private final List<List<AggregateCall>> collectedAggregateCalls = new ArrayList<>();
         private final RelDataType rowType;
 
         GroupSetCollector(RelDataType rowType) {
@@ -115,6 +158,7 @@ public class MapReduceAggregatesTest {
                 List<AggregateCall> aggregateCalls) {
 
             collectedGroupSets.add(Pair.of(groupSet, groupSets));
+            collectedAggregateCalls.add(aggregateCalls);
 
             return createOutExpr(cluster, input);
         }
@@ -133,6 +177,7 @@ public class MapReduceAggregatesTest {
                 RelDataType outputType) {
 
             collectedGroupSets.add(Pair.of(groupSet, groupSets));
+            collectedAggregateCalls.add(aggregateCalls);
 
             return createOutExpr(cluster, input);
         }
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.planner.hints;
+
+import static org.apache.ignite.internal.sql.engine.util.SqlTestUtils.assertThrowsSqlException;
+
+import java.util.function.UnaryOperator;
+import org.apache.ignite.internal.sql.engine.framework.TestBuilders.TableBuilder;
+import org.apache.ignite.internal.sql.engine.planner.AbstractPlannerTest;
+import org.apache.ignite.internal.sql.engine.rel.IgniteTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.lang.ErrorGroups.Sql;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Planner tests for scan parallelism hint usages.
+ */
+public class ScanParallelismHintPlannerTest extends AbstractPlannerTest {
+    private static IgniteSchema SCHEMA;
+
+    private static final String SMALL_TBL = "SMALL_TBL";
+
+    private static final String BIG_TBL = "BIG_TBL";
+
+    private static final String HUGE_TBL = "HUGE_TBL";
+
+    @BeforeAll
+    public static void setup() {
+        SCHEMA = createSchemaFrom(
+                createSimpleTable(SMALL_TBL, 100),
+                createSimpleTable(BIG_TBL, 5_000_000),
+                createSimpleTable(HUGE_TBL, 100_000_000)
+        );
+    }
+
+    @Test
+    public void testDerivedParallelism() throws Exception {
+        assertParallelism("SELECT * FROM " + SMALL_TBL, 1);
+        assertParallelism("SELECT * FROM " + BIG_TBL, 5);
+
+        // Derived parallelism is capped.
+        assertParallelism("SELECT * FROM " + HUGE_TBL, 8);
+    }
+
+    @Test
+    public void testHintedParallelism() throws Exception {
+        assertParallelism("SELECT /*+ SCAN_PARALLELISM('4') */ * FROM " + SMALL_TBL, 4);
+        assertParallelism("SELECT /*+ SCAN_PARALLELISM('1') */ * FROM " + HUGE_TBL, 1);
+        assertParallelism("SELECT /*+ SCAN_PARALLELISM('32') */ * FROM " + HUGE_TBL, 32);
+
+        // The last hint wins.
+        assertParallelism("SELECT /*+ SCAN_PARALLELISM('2'), SCAN_PARALLELISM('3') */ * FROM " + SMALL_TBL, 3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"'0'", "'65'", "'abc'", "'1', '2'"})
+    public void testWrongParameter(String params) {
+        assertThrowsSqlException(
+                Sql.STMT_VALIDATION_ERR,
+                "Hint SCAN_PARALLELISM expects a single integer parameter",
+                () -> physicalPlan("SELECT /*+ SCAN_PARALLELISM(" + params + ") */ * FROM " + SMALL_TBL, SCHEMA)
+        );
+    }
+
+    private void assertParallelism(String sql, int parallelism) throws Exception {
+        assertPlan(sql, SCHEMA, nodeOrAnyChild(isInstanceOf(IgniteTableScan.class).and(scan -> scan.parallelism() == parallelism)));
+    }
+
+    private static UnaryOperator<TableBuilder> createSimpleTable(String name, int sz) {
+        return t -> t.name(name)
+                .size(sz)
+                .distribution(IgniteDistributions.single())
+                .addKeyColumn("ID", NativeTypes.INT32)
+                .addColumn("VAL1", NativeTypes.STRING);
+    }
+}
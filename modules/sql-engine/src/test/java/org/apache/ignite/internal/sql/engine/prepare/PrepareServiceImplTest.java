@@ -20,6 +20,7 @@ package org.apache.ignite.internal.sql.engine.prepare;
 import static org.apache.ignite.internal.sql.engine.util.SqlTestUtils.assertThrowsSqlException;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.assertThrowsWithCause;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.await;
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.sameInstance;
@@ -37,11 +38,17 @@ import static org.mockito.Mockito.verify;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.tools.Frameworks;
 import org.apache.ignite.internal.hlc.HybridClockImpl;
 import org.apache.ignite.internal.metrics.MetricManagerImpl;
 import org.apache.ignite.internal.sql.SqlCommon;
@@ -51,7 +58,11 @@ import org.apache.ignite.internal.sql.engine.framework.PredefinedSchemaManager;
 import org.apache.ignite.internal.sql.engine.framework.TestBuilders;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.DdlSqlToCommandConverter;
 import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchemas;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManager;
+import org.apache.ignite.internal.sql.engine.sql.LiteralParameterizer;
+import org.apache.ignite.internal.sql.engine.sql.ParameterizedResult;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 import org.apache.ignite.internal.sql.engine.sql.ParserServiceImpl;
 import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
@@ -368,6 +379,88 @@ public class PrepareServiceImplTest extends BaseIgniteAbstractTest {
         ));
     }
 
+    @Test
+    public void statementsWithDifferentLiteralsSharePlan() {
+        PrepareService service = createPlannerService();
+
+        ParameterizedResult first = (ParameterizedResult) LiteralParameterizer.parameterize(parse("SELECT * FROM t WHERE c = 5"));
+        ParameterizedResult second = (ParameterizedResult) LiteralParameterizer.parameterize(parse("SELECT * FROM t WHERE c = 7"));
+
+        QueryPlan firstPlan = await(service.prepareAsync(first, createContext(first.parameters(new Object[0]))));
+        QueryPlan secondPlan = await(service.prepareAsync(second, createContext(second.parameters(new Object[0]))));
+
+        assertSame(firstPlan, secondPlan);
+    }
+
+    @Test
+    public void planIsReusedAfterUnrelatedCatalogChange() {
+        IgniteTable table = TestBuilders.table()
+                .name("T")
+                .addColumn("C", NativeTypes.INT32)
+                .distribution(IgniteDistributions.single())
+                .build();
+
+        IgniteTable otherTable = TestBuilders.table()
+                .name("T2")
+                .addColumn("C", NativeTypes.INT32)
+                .distribution(IgniteDistributions.single())
+                .build();
+
+        VersionedSchemaManager schemaManager = new VersionedSchemaManager(new IgniteSchema("PUBLIC", 0, List.of(table)));
+
+        PrepareService service = createPlannerService(schemaManager, CaffeineCacheFactory.INSTANCE, 1000);
+
+        MultiStepPlan plan = (MultiStepPlan) await(service.prepareAsync(parse("SELECT * FROM t"), createContext()));
+
+        assertEquals(0, plan.catalogVersion());
+
+        schemaManager.addVersion(new IgniteSchema("PUBLIC", 1, List.of(table, otherTable)));
+
+        MultiStepPlan revalidatedPlan = (MultiStepPlan) await(service.prepareAsync(parse("SELECT * FROM t"), createContext()));
+
+        assertEquals(1, revalidatedPlan.catalogVersion());
+        assertSame(plan.root(), revalidatedPlan.root());
+
+        // Plan bound to the actual catalog version replaces the stale one.
+        assertSame(revalidatedPlan, await(service.prepareAsync(parse("SELECT * FROM t"), createContext())));
+    }
+
+    @Test
+    public void planIsInvalidatedAfterChangeOfTable() {
+        IgniteTable table = TestBuilders.table()
+                .name("T")
+                .addColumn("C", NativeTypes.INT32)
+                .distribution(IgniteDistributions.single())
+                .build();
+
+        // Table with the same name, but different ID emulates re-creation of the table.
+        IgniteTable recreatedTable = TestBuilders.table()
+                .name("T")
+                .addColumn("C", NativeTypes.INT32)
+                .distribution(IgniteDistributions.single())
+                .build();
+
+        VersionedSchemaManager schemaManager = new VersionedSchemaManager(new IgniteSchema("PUBLIC", 0, List.of(table)));
+
+        PrepareService service = createPlannerService(schemaManager, CaffeineCacheFactory.INSTANCE, 1000);
+
+        MultiStepPlan plan = (MultiStepPlan) await(service.prepareAsync(parse("SELECT * FROM t"), createContext()));
+
+        schemaManager.addVersion(new IgniteSchema("PUBLIC", 1, List.of(recreatedTable)));
+
+        MultiStepPlan newPlan = (MultiStepPlan) await(service.prepareAsync(parse("SELECT * FROM t"), createContext()));
+
+        assertEquals(1, newPlan.catalogVersion());
+        assertNotSame(plan.root(), newPlan.root());
+        RelNode scan = newPlan.root();
+
+        while (scan.getTable() == null) {
+            scan = scan.getInput(0);
+        }
+
+        assertEquals(recreatedTable.id(), scan.getTable().unwrapOrThrow(IgniteTable.class).id());
+    }
+
     private static Stream<Arguments> parameterTypes() {
         int noScale = ColumnMetadata.UNDEFINED_SCALE;
         int noPrecision = ColumnMetadata.UNDEFINED_PRECISION;
@@ -430,9 +523,13 @@ public class PrepareServiceImplTest extends BaseIgniteAbstractTest {
     }
 
     private static PrepareServiceImpl createPlannerService(IgniteSchema schemas, CacheFactory cacheFactory, int timeoutMillis) {
+        return createPlannerService(new PredefinedSchemaManager(schemas), cacheFactory, timeoutMillis);
+    }
+
+    private static PrepareServiceImpl createPlannerService(SqlSchemaManager schemaManager, CacheFactory cacheFactory, int timeoutMillis) {
         PrepareServiceImpl service = new PrepareServiceImpl("test", 1000, cacheFactory,
                 mock(DdlSqlToCommandConverter.class), timeoutMillis, 2, mock(MetricManagerImpl.class),
-                new PredefinedSchemaManager(schemas));
+                schemaManager);
 
         createdServices.add(service);
 
@@ -440,4 +537,50 @@ public class PrepareServiceImplTest extends BaseIgniteAbstractTest {
 
         return service;
     }
+
+    /** Schema manager, which latest catalog version is changed by a test. */
+    private static class VersionedSchemaManager implements SqlSchemaManager {
+        private final Map<Integer, IgniteSchemas> schemas = new ConcurrentHashMap<>();
+
+        private volatile int latestVersion = -1;
+
+        VersionedSchemaManager(IgniteSchema schema) {
+            addVersion(schema);
+        }
+
+        void addVersion(IgniteSchema schema) {
+            SchemaPlus root = Frameworks.createRootSchema(false);
+
+            root.add(schema.getName(), schema);
+
+            schemas.put(schema.catalogVersion(), new IgniteSchemas(root, schema.catalogVersion()));
+
+            latestVersion = schema.catalogVersion();
+        }
+
+        @Override
+        public IgniteSchemas schemas(int catalogVersion) {
+            return schemas.get(catalogVersion);
+        }
+
+        @Override
+        public IgniteSchemas schemas(long timestamp) {
+            return schemas.get(latestVersion);
+        }
+
+        @Override
+        public int catalogVersion(long timestamp) {
+            return latestVersion;
+        }
+
+        @Override
+        public IgniteTable table(int catalogVersion, int tableId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Void> schemaReadyFuture(int catalogVersion) {
+            return nullCompletedFuture();
+        }
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.sql;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import org.apache.calcite.sql.SqlNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests to verify {@link LiteralParameterizer}.
+ */
+public class LiteralParameterizerTest {
+    private static final Object[] NO_PARAMS = new Object[0];
+
+    @Test
+    void statementsWithDifferentLiteralsHaveSameNormalizedQuery() {
+        ParameterizedResult first = parameterize("SELECT * FROM t WHERE id = 5");
+        ParameterizedResult second = parameterize("SELECT * FROM t WHERE 7 = id");
+        ParameterizedResult third = parameterize("SELECT * FROM t WHERE id = 7");
+
+        assertEquals(first.normalizedQuery(), third.normalizedQuery());
+        assertNotEquals(first.normalizedQuery(), second.normalizedQuery());
+
+        assertEquals(1, first.dynamicParamsCount());
+        assertArrayEquals(new Object[]{5}, first.parameters(NO_PARAMS));
+        assertArrayEquals(new Object[]{7}, second.parameters(NO_PARAMS));
+        assertArrayEquals(new Object[]{7}, third.parameters(NO_PARAMS));
+    }
+
+    @Test
+    void literalsAreReplacedInConditionsOfAllQueryBlocks() {
+        ParameterizedResult result = parameterize(
+                "SELECT * FROM t WHERE a IN (SELECT a FROM t2 WHERE c > 3) AND (c = 4 OR NOT c < 5000000000)"
+        );
+
+        assertEquals(3, result.dynamicParamsCount());
+        assertArrayEquals(new Object[]{4, 5_000_000_000L, 3}, result.parameters(NO_PARAMS));
+    }
+
+    @Test
+    void literalsAreReplacedInConditionsOfDml() {
+        ParameterizedResult update = parameterize("UPDATE t SET a = 1 WHERE id = 2");
+
+        assertArrayEquals(new Object[]{2}, update.parameters(NO_PARAMS));
+        assertThat(update.normalizedQuery(), containsString("= 1"));
+
+        ParameterizedResult delete = parameterize("DELETE FROM t WHERE id = 3");
+
+        assertArrayEquals(new Object[]{3}, delete.parameters(NO_PARAMS));
+    }
+
+    @Test
+    void everyTreeHasLiteralsReplaced() {
+        ParameterizedResult result = parameterize("SELECT * FROM t WHERE id = 5");
+
+        SqlNode firstCall = result.parsedTree();
+        SqlNode secondCall = result.parsedTree();
+
+        assertNotSame(firstCall, secondCall);
+        assertEquals(firstCall.toString(), secondCall.toString());
+        assertThat(secondCall.toString(), containsString("?"));
+        assertThat(secondCall.toString(), not(containsString("5")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "SELECT 1, a FROM t WHERE a = b",
+            "SELECT * FROM t WHERE id = 1.5",
+            "SELECT * FROM t WHERE id = 'a'",
+            "SELECT * FROM t WHERE 1 = 1",
+            "SELECT * FROM t WHERE id + 1 = 2",
+            "SELECT * FROM t WHERE id = 99999999999999999999",
+            "SELECT * FROM t ORDER BY a LIMIT 10",
+            "INSERT INTO t VALUES (1, 2)",
+    })
+    void statementWithoutReplaceableLiteralsIsNotChanged(String sql) {
+        ParsedResult source = new ParserServiceImpl().parse(sql);
+        ParsedResult result = LiteralParameterizer.parameterize(source);
+
+        assertThat(result, sameInstance(source));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "SELECT * FROM t WHERE id = ? AND a = 1",
+            "EXPLAIN PLAN FOR SELECT * FROM t WHERE id = 1",
+            "CREATE TABLE t (id INT PRIMARY KEY)",
+    })
+    void statementIsNotParameterized(String sql) {
+        ParsedResult source = new ParserServiceImpl().parse(sql);
+
+        assertThat(LiteralParameterizer.parameterize(source), sameInstance(source));
+    }
+
+    private static ParameterizedResult parameterize(String sql) {
+        ParsedResult result = LiteralParameterizer.parameterize(new ParserServiceImpl().parse(sql));
+
+        assertThat(result, instanceOf(ParameterizedResult.class));
+
+        return (ParameterizedResult) result;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.calcite.sql.SqlExplain;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlNode;
+import org.junit.jupiter.api.Test;
+
+/** Tests for EXPLAIN ANALYZE SQL statement. */
+public class SqlExplainAnalyzeParserTest extends AbstractParserTest {
+    @Test
+    public void explainAnalyze() {
+        SqlNode sqlNode = parse("EXPLAIN ANALYZE SELECT a FROM t WHERE a = ?");
+
+        IgniteSqlExplainAnalyze explain = assertInstanceOf(IgniteSqlExplainAnalyze.class, sqlNode);
+
+        assertEquals(SqlKind.SELECT, explain.getExplicandum().getKind());
+        assertEquals(1, explain.getDynamicParamCount());
+
+        String unparsed = unparse(explain);
+
+        assertTrue(unparsed.startsWith("EXPLAIN ANALYZE"), unparsed);
+        assertEquals(unparsed, unparse(explain.clone(explain.getParserPosition())));
+        assertInstanceOf(IgniteSqlExplainAnalyze.class, parse(unparsed));
+    }
+
+    @Test
+    public void explainAnalyzeDml() {
+        SqlNode sqlNode = parse("EXPLAIN ANALYZE INSERT INTO t VALUES (1)");
+
+        IgniteSqlExplainAnalyze explain = assertInstanceOf(IgniteSqlExplainAnalyze.class, sqlNode);
+
+        assertEquals(SqlKind.INSERT, explain.getExplicandum().getKind());
+    }
+
+    @Test
+    public void explainPlanIsNotAnalyzed() {
+        SqlNode sqlNode = parse("EXPLAIN PLAN FOR SELECT 1");
+
+        SqlExplain explain = assertInstanceOf(SqlExplain.class, sqlNode);
+
+        assertFalse(explain instanceof IgniteSqlExplainAnalyze);
+    }
+
+    @Test
+    public void analyzeIsNotReserved() {
+        SqlNode sqlNode = parse("SELECT analyze FROM t");
+
+        assertEquals(SqlKind.SELECT, sqlNode.getKind());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.apache.ignite.internal.metrics.HistogramMetric;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.sql.engine.exec.FragmentStatistics;
+import org.apache.ignite.internal.sql.engine.exec.FragmentStatistics.OperatorStatistics;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link SqlQueryMetricSource}. */
+public class SqlQueryMetricSourceTest {
+    private final SqlQueryMetricSource metricSource = new SqlQueryMetricSource();
+
+    @Test
+    void testQueries() {
+        MetricSet metricSet = metricSource.enable();
+
+        metricSource.onQueryStarted();
+        metricSource.onQueryStarted();
+        metricSource.onQueryStarted();
+
+        metricSource.onQueryPlanned(100);
+
+        metricSource.onQueryFinished(10, false, false);
+        metricSource.onQueryFinished(20, true, false);
+        metricSource.onQueryFinished(30, true, true);
+
+        assertEquals(3, metricSet.<LongMetric>get("Started").value());
+        assertEquals(1, metricSet.<LongMetric>get("Succeeded").value());
+        assertEquals(1, metricSet.<LongMetric>get("Failed").value());
+        assertEquals(1, metricSet.<LongMetric>get("Cancelled").value());
+
+        assertEquals(1, metricSet.<HistogramMetric>get("PlanningTime").snapshot().count());
+        assertEquals(3, metricSet.<HistogramMetric>get("ExecutionTime").snapshot().count());
+    }
+
+    @Test
+    void testFragmentStatistics() {
+        MetricSet metricSet = metricSource.enable();
+
+        FragmentStatistics statistics = new FragmentStatistics(1, metricSource, true);
+
+        OperatorStatistics scan = statistics.registerOperator("Scan");
+        OperatorStatistics outbox = statistics.registerOperator("Outbox");
+
+        scan.onRows(3);
+        scan.onTime(1_000);
+        outbox.onRows(3);
+
+        statistics.onRowsScanned(5);
+        statistics.onBytesSent(64);
+        statistics.onBytesReceived(32);
+
+        metricSource.onRowsReturned(3);
+
+        assertEquals(5, statistics.rowsScanned());
+        assertEquals(64, statistics.bytesSent());
+        assertEquals(32, statistics.bytesReceived());
+
+        List<OperatorStatistics> operators = statistics.operators();
+
+        assertEquals(2, operators.size());
+        assertEquals("Scan", operators.get(0).name());
+        assertEquals(3, operators.get(0).rows());
+        assertEquals(1_000, operators.get(0).timeNanos());
+        assertEquals("Outbox", operators.get(1).name());
+
+        assertEquals(5, metricSet.<LongMetric>get("RowsScanned").value());
+        assertEquals(3, metricSet.<LongMetric>get("RowsReturned").value());
+        assertEquals(64, metricSet.<LongMetric>get("BytesSent").value());
+        assertEquals(32, metricSet.<LongMetric>get("BytesReceived").value());
+    }
+
+    @Test
+    void testDisabled() {
+        metricSource.onQueryStarted();
+        metricSource.onRowsScanned(10);
+
+        MetricSet metricSet = metricSource.enable();
+
+        assertEquals(0, metricSet.<LongMetric>get("Started").value());
+        assertEquals(0, metricSet.<LongMetric>get("RowsScanned").value());
+    }
+}
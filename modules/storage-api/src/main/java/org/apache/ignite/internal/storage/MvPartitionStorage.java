@@ -245,6 +245,19 @@ public interface MvPartitionStorage extends ManuallyCloseable {
      */
     PartitionTimestampCursor scan(HybridTimestamp timestamp) throws StorageException;
 
+    /**
+     * Scans a range of row ids of the partition and returns a cursor of values at the given timestamp. Behaves like
+     * {@link #scan(HybridTimestamp)}, but only returns rows with ids in the given range, which allows to split a scan of a partition into
+     * several independent scans.
+     *
+     * @param timestamp Timestamp. Can't be {@code null}.
+     * @param lowerBound Lower bound of row ids, inclusive.
+     * @param upperBound Upper bound of row ids, exclusive, {@code null} if the range is not bounded from above.
+     * @return Cursor.
+     * @throws StorageException If failed to read data from the storage.
+     */
+    PartitionTimestampCursor scan(HybridTimestamp timestamp, RowId lowerBound, @Nullable RowId upperBound) throws StorageException;
+
     /**
      * Returns a row id, existing in the storage, that's greater or equal than the lower bound. {@code null} if not found.
      *
@@ -134,6 +134,13 @@ public class ThreadAssertingMvPartitionStorage implements MvPartitionStorage, Wr
         return new ThreadAssertingPartitionTimestampCursor(partitionStorage.scan(timestamp));
     }
 
+    @Override
+    public PartitionTimestampCursor scan(HybridTimestamp timestamp, RowId lowerBound, @Nullable RowId upperBound) throws StorageException {
+        assertThreadAllowsToRead();
+
+        return new ThreadAssertingPartitionTimestampCursor(partitionStorage.scan(timestamp, lowerBound, upperBound));
+    }
+
     @Override
     public @Nullable RowId closestRowId(RowId lowerBound) throws StorageException {
         assertThreadAllowsToRead();
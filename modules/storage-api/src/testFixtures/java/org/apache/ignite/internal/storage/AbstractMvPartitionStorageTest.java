@@ -50,6 +50,7 @@ import org.apache.ignite.internal.lang.IgniteBiTuple;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.lease.LeaseInfo;
 import org.apache.ignite.internal.util.Cursor;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -1173,6 +1174,34 @@ public abstract class AbstractMvPartitionStorageTest extends BaseMvPartitionStor
         assertNull(storage.closestRowId(rowId2.increment()));
     }
 
+    @ParameterizedTest
+    @EnumSource(ScanTimestampProvider.class)
+    void testScanRange(ScanTimestampProvider tsProvider) {
+        RowId rowId0 = new RowId(PARTITION_ID, 1, 0);
+        RowId rowId1 = new RowId(PARTITION_ID, 2, 0);
+        RowId rowId2 = new RowId(PARTITION_ID, 3, 0);
+
+        for (RowId rowId : List.of(rowId0, rowId1, rowId2)) {
+            addWrite(rowId, binaryRow, txId);
+            commitWrite(rowId, clock.now());
+        }
+
+        HybridTimestamp timestamp = tsProvider.scanTimestamp(clock);
+
+        assertEquals(List.of(rowId0, rowId1, rowId2), scanRowIds(timestamp, RowId.lowestRowId(PARTITION_ID), null));
+        assertEquals(List.of(rowId1, rowId2), scanRowIds(timestamp, rowId1, null));
+        assertEquals(List.of(rowId1), scanRowIds(timestamp, rowId0.increment(), rowId2));
+        assertEquals(List.of(rowId0), scanRowIds(timestamp, RowId.lowestRowId(PARTITION_ID), rowId1));
+        assertEquals(List.of(), scanRowIds(timestamp, rowId2.increment(), null));
+        assertEquals(List.of(), scanRowIds(timestamp, rowId1, rowId1));
+    }
+
+    private List<RowId> scanRowIds(HybridTimestamp timestamp, RowId lowerBound, @Nullable RowId upperBound) {
+        try (PartitionTimestampCursor cursor = storage.scan(timestamp, lowerBound, upperBound)) {
+            return cursor.stream().map(ReadResult::rowId).collect(toList());
+        }
+    }
+
     @Test
     public void addWriteCommittedAddsCommittedVersion() {
         RowId rowId = new RowId(PARTITION_ID);
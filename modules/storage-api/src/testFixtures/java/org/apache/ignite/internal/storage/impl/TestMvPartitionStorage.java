@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFu
 
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.NavigableMap;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
 import java.util.UUID;
@@ -494,7 +495,18 @@ public class TestMvPartitionStorage implements MvPartitionStorage {
     public PartitionTimestampCursor scan(HybridTimestamp timestamp) {
         checkStorageClosedOrInProcessOfRebalance();
 
-        Iterator<VersionChain> iterator = map.values().iterator();
+        return scan(map, timestamp);
+    }
+
+    @Override
+    public PartitionTimestampCursor scan(HybridTimestamp timestamp, RowId lowerBound, @Nullable RowId upperBound) {
+        checkStorageClosedOrInProcessOfRebalance();
+
+        return scan(upperBound == null ? map.tailMap(lowerBound) : map.subMap(lowerBound, upperBound), timestamp);
+    }
+
+    private PartitionTimestampCursor scan(NavigableMap<RowId, VersionChain> chains, HybridTimestamp timestamp) {
+        Iterator<VersionChain> iterator = chains.values().iterator();
 
         pendingCursors.incrementAndGet();
 
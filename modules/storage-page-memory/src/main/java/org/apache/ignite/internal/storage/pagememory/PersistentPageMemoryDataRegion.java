@@ -27,6 +27,7 @@ import static org.apache.ignite.internal.util.Constants.MiB;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
@@ -44,6 +45,7 @@ import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemoryMetricSource;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPagePrefetcher;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
@@ -100,6 +102,10 @@ class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory>
 
     private PersistentPageMemoryMetricSource metricSource;
 
+    private final @Nullable Executor prefetchExecutor;
+
+    private final int prefetchDepth;
+
     /**
      * Constructor.
      *
@@ -111,6 +117,8 @@ class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory>
      * @param partitionMetaManager Partition meta information manager.
      * @param checkpointManager Checkpoint manager.
      * @param pageSize Page size in bytes.
+     * @param prefetchExecutor Executor of page prefetch tasks, {@code null} if prefetching is disabled.
+     * @param prefetchDepth Number of leaf pages of a sequential B+tree scan to load ahead of the scan.
      */
     PersistentPageMemoryDataRegion(
             MetricManager metricManager,
@@ -120,7 +128,9 @@ class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory>
             FilePageStoreManager filePageStoreManager,
             PartitionMetaManager partitionMetaManager,
             CheckpointManager checkpointManager,
-            int pageSize
+            int pageSize,
+            @Nullable Executor prefetchExecutor,
+            int prefetchDepth
     ) {
         this.metricManager = metricManager;
         this.cfg = cfg;
@@ -131,6 +141,8 @@ class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory>
         this.filePageStoreManager = filePageStoreManager;
         this.partitionMetaManager = partitionMetaManager;
         this.checkpointManager = checkpointManager;
+        this.prefetchExecutor = prefetchExecutor;
+        this.prefetchDepth = prefetchDepth;
 
         metricSource = new PersistentPageMemoryMetricSource("storage." + ENGINE_NAME + "." + cfg.value().name());
     }
@@ -156,6 +168,10 @@ class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory>
 
         initThrottling(pageMemory);
 
+        if (prefetchExecutor != null && prefetchDepth > 0) {
+            pageMemory.initPrefetching(new PersistentPagePrefetcher(pageMemory, prefetchDepth, prefetchExecutor, metricSource));
+        }
+
         pageMemory.start();
 
         metricManager.registerSource(metricSource);
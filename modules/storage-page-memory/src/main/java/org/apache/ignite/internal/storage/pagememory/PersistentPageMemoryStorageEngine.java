@@ -34,6 +34,7 @@ import org.apache.ignite.internal.components.LongJvmPauseDetector;
 import org.apache.ignite.internal.configuration.SystemLocalConfiguration;
 import org.apache.ignite.internal.failure.FailureManager;
 import org.apache.ignite.internal.fileio.AsyncFileIoFactory;
+import org.apache.ignite.internal.fileio.DirectFileIoFactory;
 import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
 import org.apache.ignite.internal.hlc.HybridClock;
@@ -47,6 +48,7 @@ import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricSource;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
 import org.apache.ignite.internal.pagememory.tree.BplusTree;
 import org.apache.ignite.internal.storage.StorageException;
@@ -79,6 +81,9 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
 
     public static final String THROTTLING_MIN_DIRTY_PAGES_SYSTEM_PROPERTY = "aipersistThrottlingMinDirtyPages";
 
+    /** Max number of prefetch tasks waiting for execution, further tasks are rejected and their scans read the pages themselves. */
+    private static final int PREFETCH_QUEUE_SIZE = 1024;
+
     private static final IgniteLogger LOG = Loggers.forClass(PersistentPageMemoryStorageEngine.class);
 
     private final String igniteInstanceName;
@@ -109,8 +114,14 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
     @Nullable
     private volatile CheckpointManager checkpointManager;
 
+    @Nullable
+    private volatile CheckpointMetricSource checkpointMetricSource;
+
     private volatile ExecutorService destructionExecutor;
 
+    /** Executor of page prefetch tasks, {@code null} if prefetching is disabled. */
+    private volatile @Nullable ExecutorService prefetchExecutor;
+
     private final FailureManager failureManager;
 
     private final LogSyncer logSyncer;
@@ -175,6 +186,10 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
                     ? new AsyncFileIoFactory()
                     : new RandomAccessFileIoFactory();
 
+            if (engineConfig.checkpoint().useDirectIo().value()) {
+                fileIoFactory = new DirectFileIoFactory(fileIoFactory);
+            }
+
             filePageStoreManager = createFilePageStoreManager(igniteInstanceName, storagePath, fileIoFactory, pageSize, failureManager);
 
             filePageStoreManager.start();
@@ -184,6 +199,18 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
 
         partitionMetaManager = new PartitionMetaManager(ioRegistry, pageSize, StoragePartitionMeta.FACTORY);
 
+        FilePageStoreManager filePageStoreManager = this.filePageStoreManager;
+
+        var checkpointMetricSource = new CheckpointMetricSource(
+                "storage." + ENGINE_NAME + ".checkpoint",
+                filePageStoreManager::deltaFileCount
+        );
+
+        metricManager.registerSource(checkpointMetricSource);
+        metricManager.enable(checkpointMetricSource);
+
+        this.checkpointMetricSource = checkpointMetricSource;
+
         try {
             checkpointManager = new CheckpointManager(
                     igniteInstanceName,
@@ -195,7 +222,8 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
                     regions.values(),
                     ioRegistry,
                     logSyncer,
-                    pageSize
+                    pageSize,
+                    checkpointMetricSource
             );
 
             checkpointManager.start();
@@ -203,6 +231,24 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
             throw new StorageException("Error starting checkpoint manager", e);
         }
 
+        int prefetchDepth = engineConfig.prefetchDepth().value();
+
+        if (prefetchDepth > 0) {
+            int prefetchThreads = engineConfig.prefetchThreads().value();
+
+            ThreadPoolExecutor prefetchExecutor = new ThreadPoolExecutor(
+                    prefetchThreads,
+                    prefetchThreads,
+                    30,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(PREFETCH_QUEUE_SIZE),
+                    NamedThreadFactory.create(igniteInstanceName, "persistent-page-prefetch", LOG)
+            );
+            prefetchExecutor.allowCoreThreadTimeOut(true);
+
+            this.prefetchExecutor = prefetchExecutor;
+        }
+
         // TODO: IGNITE-17066 Add handling deleting/updating data regions configuration
         storageConfig.profiles().value().stream().forEach(p -> {
             if (p instanceof PersistentPageMemoryProfileView) {
@@ -230,14 +276,20 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
             Stream<AutoCloseable> closeRegions = regions.values().stream().map(region -> region::stop);
 
             ExecutorService destructionExecutor = this.destructionExecutor;
+            ExecutorService prefetchExecutor = this.prefetchExecutor;
             CheckpointManager checkpointManager = this.checkpointManager;
             FilePageStoreManager filePageStoreManager = this.filePageStoreManager;
+            CheckpointMetricSource checkpointMetricSource = this.checkpointMetricSource;
 
             Stream<AutoCloseable> resources = Stream.of(
+                    prefetchExecutor == null
+                            ? null
+                            : (AutoCloseable) () -> shutdownAndAwaitTermination(prefetchExecutor, 30, TimeUnit.SECONDS),
                     destructionExecutor == null
                             ? null
                             : (AutoCloseable) () -> shutdownAndAwaitTermination(destructionExecutor, 30, TimeUnit.SECONDS),
                     checkpointManager == null ? null : (AutoCloseable) checkpointManager::stop,
+                    checkpointMetricSource == null ? null : (AutoCloseable) () -> metricManager.unregisterSource(checkpointMetricSource),
                     filePageStoreManager == null ? null : (AutoCloseable) filePageStoreManager::stop
             );
 
@@ -331,7 +383,9 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
                 filePageStoreManager,
                 partitionMetaManager,
                 checkpointManager,
-                pageSize
+                pageSize,
+                prefetchExecutor,
+                engineConfig.prefetchDepth().value()
         );
 
         dataRegion.start();
@@ -37,6 +37,19 @@ public class PersistentPageMemoryStorageEngineConfigurationSchema {
     @Value(hasDefault = true)
     public int pageSizeBytes = 16 * 1024;
 
+    /**
+     * Number of leaf pages of a sequential B+tree scan, that are loaded into memory ahead of the scan along with the row versions they
+     * reference. {@code 0} disables prefetching.
+     */
+    @Range(min = 0, max = 1024)
+    @Value(hasDefault = true)
+    public int prefetchDepth = 0;
+
+    /** Number of threads loading pages ahead of sequential scans. */
+    @Range(min = 1)
+    @Value(hasDefault = true)
+    public int prefetchThreads = 4;
+
     /* Checkpoint configuration for persistent data regions. */
     @ConfigValue
     public PageMemoryCheckpointConfigurationSchema checkpoint;
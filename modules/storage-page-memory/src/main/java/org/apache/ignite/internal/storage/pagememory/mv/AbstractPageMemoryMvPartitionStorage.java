@@ -561,9 +561,22 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
             throwExceptionIfStorageNotInRunnableState();
 
             if (lookingForLatestVersion(timestamp)) {
-                return new LatestVersionsCursor(this);
+                return new LatestVersionsCursor(this, null, null);
             } else {
-                return new TimestampCursor(this, timestamp);
+                return new TimestampCursor(this, timestamp, null, null);
+            }
+        });
+    }
+
+    @Override
+    public PartitionTimestampCursor scan(HybridTimestamp timestamp, RowId lowerBound, @Nullable RowId upperBound) throws StorageException {
+        return busy(() -> {
+            throwExceptionIfStorageNotInRunnableState();
+
+            if (lookingForLatestVersion(timestamp)) {
+                return new LatestVersionsCursor(this, lowerBound, upperBound);
+            } else {
+                return new TimestampCursor(this, timestamp, lowerBound, upperBound);
             }
         });
     }
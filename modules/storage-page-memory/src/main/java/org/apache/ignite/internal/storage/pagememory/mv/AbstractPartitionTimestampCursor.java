@@ -36,6 +36,12 @@ abstract class AbstractPartitionTimestampCursor implements PartitionTimestampCur
 
     private final VersionChainTree versionChainTree;
 
+    /** Lower bound of row ids, inclusive, {@code null} if the scan starts from the beginning of the partition. */
+    private final @Nullable RowId lowerBound;
+
+    /** Upper bound of row ids, exclusive, {@code null} if the scan continues to the end of the partition. */
+    private final @Nullable RowId upperBound;
+
     private @Nullable Cursor<ReadResult> cursor;
 
     private boolean iterationExhausted;
@@ -44,9 +50,15 @@ abstract class AbstractPartitionTimestampCursor implements PartitionTimestampCur
 
     private @Nullable RowId currentRowId;
 
-    AbstractPartitionTimestampCursor(AbstractPageMemoryMvPartitionStorage storage) {
+    AbstractPartitionTimestampCursor(
+            AbstractPageMemoryMvPartitionStorage storage,
+            @Nullable RowId lowerBound,
+            @Nullable RowId upperBound
+    ) {
         this.storage = storage;
         this.versionChainTree = storage.renewableState.versionChainTree();
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
     }
 
     @Override
@@ -77,6 +89,12 @@ abstract class AbstractPartitionTimestampCursor implements PartitionTimestampCur
 
                 RowId rowId = result.rowId();
 
+                if (upperBound != null && rowId.compareTo(upperBound) >= 0) {
+                    iterationExhausted = true;
+
+                    return false;
+                }
+
                 if (result.isEmpty() && !result.isWriteIntent()) {
                     continue;
                 }
@@ -153,7 +171,9 @@ abstract class AbstractPartitionTimestampCursor implements PartitionTimestampCur
         }
 
         try {
-            cursor = versionChainTree.find(null, null, new TreeRowMapClosure<>() {
+            VersionChainKey lower = lowerBound == null ? null : new VersionChainKey(lowerBound);
+
+            cursor = versionChainTree.find(lower, null, new TreeRowMapClosure<>() {
                 @Override
                 public ReadResult map(VersionChain treeRow) {
                     return findRowVersion(treeRow);
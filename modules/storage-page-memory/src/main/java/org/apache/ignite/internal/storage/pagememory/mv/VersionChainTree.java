@@ -17,7 +17,11 @@
 
 package org.apache.ignite.internal.storage.pagememory.mv;
 
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.NULL_LINK;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.reuse.ReuseList;
@@ -87,4 +91,18 @@ public class VersionChainTree extends BplusTree<VersionChainKey, VersionChain> {
 
         return versionChainIo.getRow(pageAddr, idx, partId);
     }
+
+    /** Collects the pages of the newest row versions, which are read by the scans of the latest versions. */
+    @Override
+    protected void collectPrefetchPageIds(BplusIo<VersionChainKey> io, long pageAddr, int cnt, LongConsumer pageIds) {
+        VersionChainIo versionChainIo = (VersionChainIo) io;
+
+        for (int i = 0; i < cnt; i++) {
+            long headLink = versionChainIo.headLink(pageAddr, i, partId);
+
+            if (headLink != NULL_LINK) {
+                pageIds.accept(pageId(headLink));
+            }
+        }
+    }
 }
@@ -153,6 +153,18 @@ public interface VersionChainIo {
         return Long.compare(getLong(pageAddr, offset + ROW_ID_LSB_OFFSET), rowId.leastSignificantBits());
     }
 
+    /**
+     * Reads the link to the newest row version of a version chain from the page.
+     *
+     * @param pageAddr Page address.
+     * @param idx Element's index.
+     * @param partitionId Partition id to enrich read partitionless links.
+     * @return Head link.
+     */
+    default long headLink(long pageAddr, int idx, int partitionId) {
+        return readPartitionless(partitionId, pageAddr, offset(idx) + HEAD_LINK_OFFSET);
+    }
+
     /**
      * Reads a version chain from the page.
      *
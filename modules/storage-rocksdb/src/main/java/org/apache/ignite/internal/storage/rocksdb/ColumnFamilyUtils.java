@@ -51,6 +51,9 @@ public class ColumnFamilyUtils {
     /** Name of the Column Family that stores garbage collection queue. */
     private static final String GC_QUEUE_CF_NAME = "cf-gc";
 
+    /** Name of the Column Family that stores references to the latest committed version of every row. */
+    private static final String LATEST_COMMITTED_CF_NAME = "cf-latest";
+
     /** Name of the Column Family that stores hash index data. */
     private static final String HASH_INDEX_CF_NAME = "cf-hash";
 
@@ -63,6 +66,7 @@ public class ColumnFamilyUtils {
             PARTITION_CF_NAME.getBytes(UTF_8),
             DATA_CF_NAME.getBytes(UTF_8),
             GC_QUEUE_CF_NAME.getBytes(UTF_8),
+            LATEST_COMMITTED_CF_NAME.getBytes(UTF_8),
             HASH_INDEX_CF_NAME.getBytes(UTF_8)
     );
 
@@ -74,7 +78,7 @@ public class ColumnFamilyUtils {
 
     /** Utility enum to describe a type of the column family - meta or partition. */
     public enum ColumnFamilyType {
-        META, PARTITION, GC_QUEUE, DATA, HASH_INDEX, SORTED_INDEX, UNKNOWN;
+        META, PARTITION, GC_QUEUE, DATA, LATEST_COMMITTED, HASH_INDEX, SORTED_INDEX, UNKNOWN;
 
         /**
          * Determines column family type by its name.
@@ -91,6 +95,8 @@ public class ColumnFamilyUtils {
                 return GC_QUEUE;
             } else if (DATA_CF_NAME.equals(cfName)) {
                 return DATA;
+            } else if (LATEST_COMMITTED_CF_NAME.equals(cfName)) {
+                return LATEST_COMMITTED;
             } else if (HASH_INDEX_CF_NAME.equals(cfName)) {
                 return HASH_INDEX;
             } else if (cfName.startsWith(SORTED_INDEX_CF_PREFIX)) {
@@ -23,9 +23,12 @@ import static org.apache.ignite.internal.hlc.HybridTimestamp.HYBRID_TIMESTAMP_SI
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.DATA_ID_SIZE;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.MAX_KEY_SIZE;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.ROW_ID_OFFSET;
+import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.ROW_PREFIX_SIZE;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.deserializeRow;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.getFromBatchAndDb;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.isTombstone;
+import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.latestCommittedTimestamp;
+import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.readTimestampDesc;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.readTimestampNatural;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.wrapIterator;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbMvPartitionStorage.invalid;
@@ -324,11 +327,33 @@ class GarbageCollector {
         if (isCurrentValueTombstone(it)) {
             // This is a tombstone, we need to delete it.
             batch.delete(helper.partCf, dataIdKeyBuffer);
+
+            if (helper.latestCommittedCf != null) {
+                removeLatestCommittedReference(batch, dataIdKeyBuffer);
+            }
         }
 
         return true;
     }
 
+    /**
+     * Removes the reference to the latest committed version of the row, if it points to the tombstone that is being deleted.
+     *
+     * @param batch Write batch.
+     * @param tombstoneKeyBuffer Key of the tombstone in the partition column family.
+     */
+    private void removeLatestCommittedReference(WriteBatchWithIndex batch, ByteBuffer tombstoneKeyBuffer) throws RocksDBException {
+        byte[] rowKey = new byte[ROW_PREFIX_SIZE];
+
+        tombstoneKeyBuffer.duplicate().position(0).get(rowKey);
+
+        byte[] latestCommittedValue = getFromBatchAndDb(db, batch, helper.latestCommittedCf, readOpts, rowKey);
+
+        if (latestCommittedValue != null && latestCommittedTimestamp(latestCommittedValue).equals(readTimestampDesc(tombstoneKeyBuffer))) {
+            batch.delete(helper.latestCommittedCf, rowKey);
+        }
+    }
+
     /**
      * Checks if there is a row ID for garbage collection and returns this row's data ID key if it exists.
      * There might already be no row in the data column family, because GC can be run in parallel.
@@ -80,6 +80,9 @@ public final class PartitionDataHelper implements ManuallyCloseable {
 
     static final int DATA_ID_WITH_TX_STATE_SIZE = DATA_ID_SIZE + TX_STATE_SIZE;
 
+    /** Size of the value in the latest committed versions column family (Commit Timestamp + Data ID). */
+    static final int LATEST_COMMITTED_VALUE_SIZE = HYBRID_TIMESTAMP_SIZE + DATA_ID_SIZE;
+
     /** Thread-local write batch for {@link MvPartitionStorage#runConsistently(WriteClosure)}. */
     static final ThreadLocal<ThreadLocalState> THREAD_LOCAL_STATE = new ThreadLocal<>();
 
@@ -101,6 +104,9 @@ public final class PartitionDataHelper implements ManuallyCloseable {
 
     final ColumnFamilyHandle dataCf;
 
+    /** Column family with references to the latest committed versions of rows, {@code null} if the references are not maintained. */
+    final @Nullable ColumnFamilyHandle latestCommittedCf;
+
     /** Read options for regular scans. */
     final ReadOptions upperBoundReadOpts;
 
@@ -115,11 +121,18 @@ public final class PartitionDataHelper implements ManuallyCloseable {
     /** Prefix for finding the ending of the partition. */
     private final byte[] partitionEndPrefix;
 
-    PartitionDataHelper(int tableId, int partitionId, ColumnFamilyHandle partCf, ColumnFamilyHandle dataCf) {
+    PartitionDataHelper(
+            int tableId,
+            int partitionId,
+            ColumnFamilyHandle partCf,
+            ColumnFamilyHandle dataCf,
+            @Nullable ColumnFamilyHandle latestCommittedCf
+    ) {
         this.tableId = tableId;
         this.partitionId = partitionId;
         this.partCf = partCf;
         this.dataCf = dataCf;
+        this.latestCommittedCf = latestCommittedCf;
 
         this.partitionStartPrefix = compositeKey(tableId, partitionId);
         this.partitionEndPrefix = incrementPrefix(partitionStartPrefix);
@@ -277,6 +290,25 @@ public final class PartitionDataHelper implements ManuallyCloseable {
                 : writeBatch.getFromBatchAndDB(db, cfHandle, readOptions, key);
     }
 
+    /**
+     * Creates a value for the latest committed versions column family: commit timestamp, followed by the Data ID of that version.
+     */
+    static byte[] latestCommittedValue(HybridTimestamp commitTimestamp, byte[] dataId) {
+        assert dataId.length == DATA_ID_SIZE : dataId.length;
+
+        return allocate(LATEST_COMMITTED_VALUE_SIZE).order(KEY_BYTE_ORDER)
+                .putLong(commitTimestamp.longValue())
+                .put(dataId)
+                .array();
+    }
+
+    /**
+     * Reads the commit timestamp from a value of the latest committed versions column family.
+     */
+    static HybridTimestamp latestCommittedTimestamp(byte[] latestCommittedValue) {
+        return hybridTimestamp(ByteBuffer.wrap(latestCommittedValue).order(KEY_BYTE_ORDER).getLong(0));
+    }
+
     /**
      * Converts an internal serialized presentation of a binary row into its Java Object counterpart.
      */
@@ -21,6 +21,7 @@ import static java.lang.ThreadLocal.withInitial;
 import static java.nio.ByteBuffer.allocate;
 import static java.nio.ByteBuffer.allocateDirect;
 import static java.util.Arrays.copyOf;
+import static org.apache.ignite.internal.hlc.HybridTimestamp.HYBRID_TIMESTAMP_SIZE;
 import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.DATA_ID_SIZE;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.DATA_ID_WITH_TX_STATE_SIZE;
@@ -31,6 +32,8 @@ import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.THR
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.deserializeRow;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.getFromBatchAndDb;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.isTombstone;
+import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.latestCommittedTimestamp;
+import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.latestCommittedValue;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.putTimestampDesc;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.readTimestampDesc;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.requireWriteBatch;
@@ -96,7 +99,7 @@ import org.rocksdb.WriteBatchWithIndex;
 /**
  * Multi-versioned partition storage implementation based on RocksDB.
  *
- * <p>It uses two RocksDB Column Families to store partition data: one for managing transaction state of rows and the other for
+ * <p>It uses two main RocksDB Column Families to store partition data: one for managing transaction state of rows and the other for
  * storing actual row data. We call these Column Families "Partition CF" and "Data CF" respectfully.
  *
  * <p>Partition Column Family has the following format:
@@ -133,6 +136,20 @@ import org.rocksdb.WriteBatchWithIndex;
  * | Row data |
  * }</pre>
  *
+ * <p>If enabled in the storage profile, latest committed version of every row is also referenced from the "Latest Committed CF", so that
+ * reads of the latest data don't require a seek in the Partition CF. This Column Family is updated in the same write batch as the
+ * Partition CF.
+ *
+ * <p>Key:
+ * <pre>{@code
+ * | Table ID (4 bytes, BE) | Partition ID (2 bytes, BE) | Row ID (16 bytes, BE) |
+ * }</pre>
+ *
+ * <p>Value:
+ * <pre>{@code
+ * | Commit Timestamp (8 bytes, BE) | Data ID (24 bytes, BE) |
+ * }</pre>
+ *
  * <p>BE means Big Endian, meaning that lexicographical bytes order matches a natural order of partitions.
  *
  * <p>DESC means that timestamps are sorted from newest to oldest (N2O).
@@ -230,7 +247,13 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         meta = tableStorage.metaCfHandle();
 
         int tableId = tableStorage.getTableId();
-        helper = new PartitionDataHelper(tableId, partitionId, tableStorage.partitionCfHandle(), tableStorage.dataCfHandle());
+        helper = new PartitionDataHelper(
+                tableId,
+                partitionId,
+                tableStorage.partitionCfHandle(),
+                tableStorage.dataCfHandle(),
+                tableStorage.latestCommittedLookupEnabled() ? tableStorage.latestCommittedCfHandle() : null
+        );
         gc = new GarbageCollector(helper, db, readOpts, tableStorage.gcQueueHandle());
 
         lastAppliedIndexAndTermKey = createKey(PARTITION_META_PREFIX, tableId, partitionId);
@@ -646,6 +669,11 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
                 // Add timestamp to the key, and put the value back into the storage.
                 writeBatch.put(helper.partCf, dataIdKey, dataId);
 
+                if (helper.latestCommittedCf != null) {
+                    // Commit timestamp of a write intent is always greater than timestamps of all committed versions of the row.
+                    writeBatch.put(helper.latestCommittedCf, uncommittedDataIdKey, latestCommittedValue(timestamp, dataId));
+                }
+
                 updateEstimatedSize(isNewValueTombstone, addResult);
 
                 return null;
@@ -679,6 +707,10 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
                 writeBatch.put(helper.partCf, dataIdKey, dataId.array());
 
+                if (helper.latestCommittedCf != null) {
+                    updateLatestCommitted(writeBatch, rowId, commitTimestamp, dataId.array(), addResult);
+                }
+
                 // TODO IGNITE-16913 Add proper way to write row bytes into array without allocations.
                 if (row != null) {
                     writeBatch.put(helper.dataCf, helper.createPayloadKey(dataId), serializeBinaryRow(row));
@@ -693,6 +725,34 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         });
     }
 
+    /**
+     * Updates the reference to the latest committed version of the row, unless a newer version has already been written. Versions
+     * written by this method are not guaranteed to come in commit order, unlike the ones from {@link #commitWrite}.
+     */
+    private void updateLatestCommitted(
+            WriteBatchWithIndex writeBatch,
+            RowId rowId,
+            HybridTimestamp commitTimestamp,
+            byte[] dataId,
+            AddResult gcQueueAddResult
+    ) throws RocksDBException {
+        byte[] rowKey = createUncommittedDataIdKey(rowId);
+
+        byte[] existingValue = writeBatch.getFromBatchAndDB(db, helper.latestCommittedCf, readOpts, rowKey);
+
+        if (existingValue == null) {
+            // Older versions without a reference may only be left by previous versions of the storage. Newer versions may exist as
+            // well in that case, so the row is left to the version chain lookup.
+            if (gcQueueAddResult != AddResult.WAS_EMPTY) {
+                return;
+            }
+        } else if (latestCommittedTimestamp(existingValue).compareTo(commitTimestamp) > 0) {
+            return;
+        }
+
+        writeBatch.put(helper.latestCommittedCf, rowKey, latestCommittedValue(commitTimestamp, dataId));
+    }
+
     private static void updateEstimatedSize(boolean isNewValueTombstone, AddResult gcQueueAddResult) throws RocksDBException {
         if (isNewValueTombstone) {
             if (gcQueueAddResult == AddResult.WAS_VALUE) {
@@ -719,6 +779,14 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
                         String.format("RowId partition [%d] is not equal to storage partition [%d].", rowId.partitionId(), partitionId));
             }
 
+            if (helper.latestCommittedCf != null) {
+                ReadResult latestCommitted = tryReadLatestCommitted(rowId, timestamp);
+
+                if (latestCommitted != null) {
+                    return latestCommitted;
+                }
+            }
+
             try (
                     // Set next partition as an upper bound.
                     RocksIterator baseIterator = db.newIterator(helper.partCf, helper.upperBoundReadOpts);
@@ -733,6 +801,59 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         });
     }
 
+    /**
+     * Reads the row using point lookups only, if the latest committed version of the row is the answer: there's no write intent and
+     * the version was committed not later than the requested timestamp.
+     *
+     * @param rowId Row id.
+     * @param timestamp Timestamp.
+     * @return Read result or {@code null} if the version chain must be walked instead.
+     */
+    private @Nullable ReadResult tryReadLatestCommitted(RowId rowId, HybridTimestamp timestamp) {
+        assert helper.latestCommittedCf != null;
+
+        byte[] rowKey = createUncommittedDataIdKey(rowId);
+
+        try {
+            byte[] latestCommittedValue;
+
+            if (lookingForLatestVersions(timestamp)) {
+                // Write intent must be checked first. Its commit replaces the latest committed version atomically, so reading in this
+                // order never combines the absence of a write intent with an outdated reference.
+                if (getFromBatchAndDb(db, helper.partCf, readOpts, rowKey) != null) {
+                    return null;
+                }
+
+                latestCommittedValue = getFromBatchAndDb(db, helper.latestCommittedCf, readOpts, rowKey);
+
+                if (latestCommittedValue == null) {
+                    return null;
+                }
+            } else {
+                // Reads of the past skip the write intent lookup if the reference is newer than the requested timestamp. The reference
+                // may only be outdated here by a concurrent commit, and all commits that are not later than the requested timestamp are
+                // applied before the read.
+                latestCommittedValue = getFromBatchAndDb(db, helper.latestCommittedCf, readOpts, rowKey);
+
+                if (latestCommittedValue == null || latestCommittedTimestamp(latestCommittedValue).compareTo(timestamp) > 0) {
+                    return null;
+                }
+
+                if (getFromBatchAndDb(db, helper.partCf, readOpts, rowKey) != null) {
+                    return null;
+                }
+            }
+
+            ByteBuffer dataId = ByteBuffer.wrap(latestCommittedValue, HYBRID_TIMESTAMP_SIZE, DATA_ID_SIZE)
+                    .slice()
+                    .order(KEY_BYTE_ORDER);
+
+            return wrapCommittedValue(rowId, dataId, latestCommittedTimestamp(latestCommittedValue));
+        } catch (RocksDBException e) {
+            throw new IgniteRocksDbException("Failed to read a row from storage: " + createStorageInfo(), e);
+        }
+    }
+
     private static boolean lookingForLatestVersions(HybridTimestamp timestamp) {
         return timestamp == HybridTimestamp.MAX_VALUE;
     }
@@ -1007,9 +1128,25 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
             throwExceptionIfStorageInProgressOfRebalance(state.get(), this::createStorageInfo);
 
             if (lookingForLatestVersions(timestamp)) {
-                return new ScanLatestVersionsCursor();
+                return new ScanLatestVersionsCursor(null, null);
+            } else {
+                return new ScanByTimestampCursor(timestamp, null, null);
+            }
+        });
+    }
+
+    @Override
+    public PartitionTimestampCursor scan(HybridTimestamp timestamp, RowId lowerBound, @Nullable RowId upperBound) throws StorageException {
+        Objects.requireNonNull(timestamp, "timestamp is null");
+        Objects.requireNonNull(lowerBound, "lowerBound is null");
+
+        return busy(() -> {
+            throwExceptionIfStorageInProgressOfRebalance(state.get(), this::createStorageInfo);
+
+            if (lookingForLatestVersions(timestamp)) {
+                return new ScanLatestVersionsCursor(lowerBound, upperBound);
             } else {
-                return new ScanByTimestampCursor(timestamp);
+                return new ScanByTimestampCursor(timestamp, lowerBound, upperBound);
             }
         });
     }
@@ -1127,6 +1264,10 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         writeBatch.deleteRange(helper.partCf, helper.partitionStartPrefix(), helper.partitionEndPrefix());
         writeBatch.deleteRange(helper.dataCf, helper.partitionStartPrefix(), helper.partitionEndPrefix());
 
+        if (helper.latestCommittedCf != null) {
+            writeBatch.deleteRange(helper.latestCommittedCf, helper.partitionStartPrefix(), helper.partitionEndPrefix());
+        }
+
         gc.deleteQueue(writeBatch);
     }
 
@@ -1320,13 +1461,30 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         // The thing is, we need this buffer to preserve its content between invocations of "hasNext" method.
         final ByteBuffer seekKeyBuf = allocate(MAX_KEY_SIZE).order(KEY_BYTE_ORDER).putInt(tableId).putShort((short) partitionId);
 
+        /** Upper bound of row ids, exclusive, {@code null} if the scan continues to the end of the partition. */
+        private final @Nullable RowId upperBound;
+
         RowId currentRowId;
 
         /** Cached value for {@link #next()} method. Also optimizes the code of {@link #hasNext()}. */
         protected ReadResult next;
 
+        BasePartitionTimestampCursor(@Nullable RowId lowerBound, @Nullable RowId upperBound) {
+            this.upperBound = upperBound;
+
+            // Lower bound replaces the zero row id, so that the first seek starts from it.
+            if (lowerBound != null) {
+                setKeyBuffer(seekKeyBuf, lowerBound, null);
+            }
+        }
+
         protected abstract boolean hasNextBusy();
 
+        /** Returns {@code true} if the row id is beyond the upper bound of the scan. */
+        boolean outOfRange(RowId rowId) {
+            return upperBound != null && rowId.compareTo(upperBound) >= 0;
+        }
+
         @Override
         public boolean hasNext() {
             return busy(() -> {
@@ -1386,6 +1544,10 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
     }
 
     private final class ScanLatestVersionsCursor extends BasePartitionTimestampCursor {
+        private ScanLatestVersionsCursor(@Nullable RowId lowerBound, @Nullable RowId upperBound) {
+            super(lowerBound, upperBound);
+        }
+
         @Override
         public boolean hasNextBusy() {
             // Fast-path for consecutive invocations.
@@ -1435,6 +1597,10 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
                 RowId rowId = getRowId(currentKeyBuffer);
 
+                if (outOfRange(rowId)) {
+                    return false;
+                }
+
                 // Copy actual row id into a "seekKeyBuf" buffer.
                 seekKeyBuf.putLong(ROW_ID_OFFSET, normalize(rowId.mostSignificantBits()));
                 seekKeyBuf.putLong(ROW_ID_OFFSET + Long.BYTES, normalize(rowId.leastSignificantBits()));
@@ -1494,7 +1660,9 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
     private final class ScanByTimestampCursor extends BasePartitionTimestampCursor {
         private final HybridTimestamp timestamp;
 
-        private ScanByTimestampCursor(HybridTimestamp timestamp) {
+        private ScanByTimestampCursor(HybridTimestamp timestamp, @Nullable RowId lowerBound, @Nullable RowId upperBound) {
+            super(lowerBound, upperBound);
+
             this.timestamp = timestamp;
         }
 
@@ -1528,6 +1696,10 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
                 RowId rowId = getRowId(directBuffer);
 
+                if (outOfRange(rowId)) {
+                    return false;
+                }
+
                 setKeyBuffer(seekKeyBuf, rowId, timestamp);
 
                 // Seek to current row id + timestamp.
@@ -1646,6 +1818,10 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         writeBatch.deleteRange(helper.partCf, helper.partitionStartPrefix(), helper.partitionEndPrefix());
         writeBatch.deleteRange(helper.dataCf, helper.partitionStartPrefix(), helper.partitionEndPrefix());
 
+        if (helper.latestCommittedCf != null) {
+            writeBatch.deleteRange(helper.latestCommittedCf, helper.partitionStartPrefix(), helper.partitionEndPrefix());
+        }
+
         gc.deleteQueue(writeBatch);
     }
 
@@ -33,6 +33,7 @@ import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.failure.FailureProcessor;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
 import org.apache.ignite.internal.storage.configurations.StorageProfileView;
@@ -61,14 +62,17 @@ public class RocksDbStorageEngine implements StorageEngine {
 
         final SharedRocksDbInstance rocksDbInstance;
 
-        RocksDbStorage(RocksDbStorageProfile profile, SharedRocksDbInstance rocksDbInstance) {
+        final MetricManager metricManager;
+
+        RocksDbStorage(RocksDbStorageProfile profile, SharedRocksDbInstance rocksDbInstance, MetricManager metricManager) {
             this.profile = profile;
             this.rocksDbInstance = rocksDbInstance;
+            this.metricManager = metricManager;
         }
 
         @Override
         public void close() throws Exception {
-            closeAllManually(rocksDbInstance::stop, profile::stop);
+            closeAllManually(() -> metricManager.unregisterSource(rocksDbInstance.metricSource), rocksDbInstance::stop, profile::stop);
         }
     }
 
@@ -88,6 +92,8 @@ public class RocksDbStorageEngine implements StorageEngine {
 
     private final FailureProcessor failureProcessor;
 
+    private final MetricManager metricManager;
+
     /**
      * Mapping from the storage profile name to the shared RocksDB instance.
      */
@@ -104,6 +110,8 @@ public class RocksDbStorageEngine implements StorageEngine {
      * @param logSyncer Write-ahead log synchronizer.
      * @param scheduledPool Common scheduled thread pool. Needed only for asynchronous start of scheduled operations without
      *         performing blocking, long or IO operations.
+     * @param failureProcessor Failure processor.
+     * @param metricManager Metric manager, RocksDB instances of the storage profiles register their metric sources there.
      */
     public RocksDbStorageEngine(
             String nodeName,
@@ -111,7 +119,8 @@ public class RocksDbStorageEngine implements StorageEngine {
             Path storagePath,
             LogSyncer logSyncer,
             ScheduledExecutorService scheduledPool,
-            FailureProcessor failureProcessor
+            FailureProcessor failureProcessor,
+            MetricManager metricManager
     ) {
         this.storageConfiguration = storageConfiguration;
         this.engineConfig = ((RocksDbStorageEngineExtensionConfiguration) storageConfiguration.engines()).rocksdb();
@@ -119,6 +128,7 @@ public class RocksDbStorageEngine implements StorageEngine {
         this.logSyncer = logSyncer;
         this.scheduledPool = scheduledPool;
         this.failureProcessor = failureProcessor;
+        this.metricManager = metricManager;
 
         threadPool = Executors.newFixedThreadPool(
                 Runtime.getRuntime().availableProcessors(),
@@ -176,7 +186,13 @@ public class RocksDbStorageEngine implements StorageEngine {
 
         SharedRocksDbInstance rocksDbInstance = newRocksDbInstance(profileName, profile);
 
-        RocksDbStorage previousStorage = storageByProfileName.put(profileName, new RocksDbStorage(profile, rocksDbInstance));
+        metricManager.registerSource(rocksDbInstance.metricSource);
+        metricManager.enable(rocksDbInstance.metricSource);
+
+        RocksDbStorage previousStorage = storageByProfileName.put(
+                profileName,
+                new RocksDbStorage(profile, rocksDbInstance, metricManager)
+        );
 
         assert previousStorage == null : "Storage already exists for profile: " + profileName;
     }
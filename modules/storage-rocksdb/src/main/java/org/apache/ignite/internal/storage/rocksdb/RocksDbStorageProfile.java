@@ -72,6 +72,13 @@ public class RocksDbStorageProfile {
         IgniteUtils.closeAll(writeBufferManager, cache);
     }
 
+    /**
+     * Returns {@code true} if references to the latest committed versions of rows are maintained.
+     */
+    public boolean latestCommittedLookupEnabled() {
+        return storageProfileConfig.latestCommittedLookupEnabled();
+    }
+
     /**
      * Returns write buffer manager associated with the profile.
      */
@@ -146,6 +146,20 @@ public class RocksDbTableStorage implements MvTableStorage {
         return rocksDb.dataCf.handle();
     }
 
+    /**
+     * Returns a column family handle for latest committed versions CF.
+     */
+    ColumnFamilyHandle latestCommittedCfHandle() {
+        return rocksDb.latestCommittedCf.handle();
+    }
+
+    /**
+     * Returns {@code true} if references to the latest committed versions of rows are maintained in the latest committed versions CF.
+     */
+    boolean latestCommittedLookupEnabled() {
+        return rocksDb.latestCommittedLookupEnabled;
+    }
+
     /**
      * Returns a future to wait next flush operation from the current point in time. Uses {@link RocksDB#getLatestSequenceNumber()} to
      * achieve this.
@@ -36,4 +36,11 @@ public class RocksDbProfileConfigurationSchema extends StorageProfileConfigurati
     @Value(hasDefault = true)
     @Range(min = 1)
     public long writeBufferSizeBytes = 64 * 1024 * 1024;
+
+    /**
+     * Whether references to the latest committed versions of rows are maintained, so that reads of the latest data are served with
+     * point lookups instead of seeks. Costs an additional read and write on every commit.
+     */
+    @Value(hasDefault = true)
+    public boolean latestCommittedLookupEnabled = false;
 }
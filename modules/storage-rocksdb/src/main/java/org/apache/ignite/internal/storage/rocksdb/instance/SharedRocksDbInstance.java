@@ -46,6 +46,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.ignite.internal.lang.ByteArray;
 import org.apache.ignite.internal.rocksdb.ColumnFamily;
 import org.apache.ignite.internal.rocksdb.flush.RocksDbFlusher;
+import org.apache.ignite.internal.rocksdb.metrics.RocksDbMetricSource;
 import org.apache.ignite.internal.storage.StorageClosedException;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.rocksdb.IgniteRocksDbException;
@@ -111,6 +112,9 @@ public final class SharedRocksDbInstance {
     /** Rocks DB instance. */
     public final RocksDB db;
 
+    /** Metric source of the instance. */
+    public final RocksDbMetricSource metricSource;
+
     /** Meta information instance that wraps {@link ColumnFamily} instance for meta column family. */
     public final RocksDbMetaStorage meta;
 
@@ -123,6 +127,12 @@ public final class SharedRocksDbInstance {
     /** Column Family for storing binary rows. */
     public final ColumnFamily dataCf;
 
+    /** Column Family for references to the latest committed versions of rows, see {@link #partitionCf}. */
+    public final ColumnFamily latestCommittedCf;
+
+    /** Whether {@link #latestCommittedCf} is maintained. If not, it is empty. */
+    public final boolean latestCommittedLookupEnabled;
+
     /** Column Family for Hash Index data. */
     private final ColumnFamily hashIndexCf;
 
@@ -144,10 +154,13 @@ public final class SharedRocksDbInstance {
             IgniteSpinBusyLock busyLock,
             RocksDbFlusher flusher,
             RocksDB db,
+            RocksDbMetricSource metricSource,
             RocksDbMetaStorage meta,
             ColumnFamily partitionCf,
             ColumnFamily gcQueueCf,
             ColumnFamily dataCf,
+            ColumnFamily latestCommittedCf,
+            boolean latestCommittedLookupEnabled,
             ColumnFamily hashIndexCf,
             List<ColumnFamily> sortedIndexCfs,
             List<AutoCloseable> resources
@@ -158,11 +171,14 @@ public final class SharedRocksDbInstance {
 
         this.flusher = flusher;
         this.db = db;
+        this.metricSource = metricSource;
 
         this.meta = meta;
         this.partitionCf = partitionCf;
         this.gcQueueCf = gcQueueCf;
         this.dataCf = dataCf;
+        this.latestCommittedCf = latestCommittedCf;
+        this.latestCommittedLookupEnabled = latestCommittedLookupEnabled;
         this.hashIndexCf = hashIndexCf;
 
         this.resources = new ArrayList<>(resources);
@@ -371,6 +387,7 @@ public final class SharedRocksDbInstance {
             deleteByPrefix(writeBatch, partitionCf, tableIdBytes);
             deleteByPrefix(writeBatch, dataCf, tableIdBytes);
             deleteByPrefix(writeBatch, gcQueueCf, tableIdBytes);
+            deleteByPrefix(writeBatch, latestCommittedCf, tableIdBytes);
             deleteByPrefix(writeBatch, hashIndexCf, tableIdBytes);
 
             deleteByPrefix(writeBatch, meta.columnFamily(), metaPrefix(PARTITION_META_PREFIX, tableIdBytes));
@@ -19,6 +19,12 @@ package org.apache.ignite.internal.storage.rocksdb.instance;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
+import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.ColumnFamilyType.DATA;
+import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.ColumnFamilyType.GC_QUEUE;
+import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.ColumnFamilyType.HASH_INDEX;
+import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.ColumnFamilyType.LATEST_COMMITTED;
+import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.ColumnFamilyType.META;
+import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.ColumnFamilyType.PARTITION;
 import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.toStringName;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 
@@ -26,11 +32,15 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import org.apache.ignite.internal.failure.FailureProcessor;
 import org.apache.ignite.internal.rocksdb.ColumnFamily;
 import org.apache.ignite.internal.rocksdb.flush.RocksDbFlusher;
+import org.apache.ignite.internal.rocksdb.metrics.RocksDbMetricSource;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils;
 import org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.ColumnFamilyType;
@@ -50,12 +60,17 @@ import org.rocksdb.DBOptions;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.Statistics;
 
 /**
  * Single-use class to create {@link SharedRocksDbInstance} fully initialized instances.
  * Contains a boilerplate code for reading/creating the DB.
  */
 public class SharedRocksDbInstanceCreator {
+    /** Types of the column families, which metrics are reported separately. Sorted index column families are created dynamically. */
+    private static final List<ColumnFamilyType> METRIC_CF_TYPES = List.of(META, PARTITION, GC_QUEUE, DATA, LATEST_COMMITTED, HASH_INDEX);
+
     private final FailureProcessor failureProcessor;
 
     /** List of resources that must be closed if DB creation failed in the process. */
@@ -93,6 +108,8 @@ public class SharedRocksDbInstanceCreator {
 
             List<ColumnFamilyHandle> cfHandles = new ArrayList<>(cfDescriptors.size());
 
+            Statistics statistics = add(RocksDbMetricSource.createStatistics());
+
             DBOptions dbOptions = add(new DBOptions()
                     .setCreateIfMissing(true)
                     .setCreateMissingColumnFamilies(true)
@@ -102,6 +119,7 @@ public class SharedRocksDbInstanceCreator {
                     .setWriteBufferManager(profile.writeBufferManager())
                     // Don't flush on shutdown to speed up node shutdown as on recovery we'll apply commands from log.
                     .setAvoidFlushDuringShutdown(true)
+                    .setStatistics(statistics)
             );
 
             RocksDB db = add(RocksDB.open(dbOptions, path.toAbsolutePath().toString(), cfDescriptors, cfHandles));
@@ -111,14 +129,22 @@ public class SharedRocksDbInstanceCreator {
             ColumnFamily partitionCf = null;
             ColumnFamily gcQueueCf = null;
             ColumnFamily dataCf = null;
+            ColumnFamily latestCommittedCf = null;
             ColumnFamily hashIndexCf = null;
             var sortedIndexCfs = new ArrayList<ColumnFamily>();
+            var metricCfs = new HashMap<String, ColumnFamilyHandle>();
 
             // Read all existing Column Families from the db and parse them according to type: meta, partition data or index.
             for (ColumnFamilyHandle cfHandle : cfHandles) {
                 ColumnFamily cf = ColumnFamily.wrap(db, cfHandle);
 
-                switch (ColumnFamilyType.fromCfName(cf.name())) {
+                ColumnFamilyType cfType = ColumnFamilyType.fromCfName(cf.name());
+
+                if (METRIC_CF_TYPES.contains(cfType)) {
+                    metricCfs.put(metricCfName(cfType), cfHandle);
+                }
+
+                switch (cfType) {
                     case META:
                         meta = new RocksDbMetaStorage(cf);
 
@@ -139,6 +165,11 @@ public class SharedRocksDbInstanceCreator {
 
                         break;
 
+                    case LATEST_COMMITTED:
+                        latestCommittedCf = cf;
+
+                        break;
+
                     case HASH_INDEX:
                         hashIndexCf = cf;
 
@@ -154,18 +185,37 @@ public class SharedRocksDbInstanceCreator {
                 }
             }
 
+            requireNonNull(latestCommittedCf, "latestCommittedCf");
+
+            if (!profile.latestCommittedLookupEnabled()) {
+                clearColumnFamily(db, latestCommittedCf);
+            }
+
             flusher.init(db, cfHandles);
 
+            var metricSource = new RocksDbMetricSource(
+                    RocksDbMetricSource.NAME_PREFIX + "storage." + profile.name(),
+                    METRIC_CF_TYPES.stream().map(SharedRocksDbInstanceCreator::metricCfName).collect(toList())
+            );
+
+            metricSource.attach(db, statistics, metricCfs);
+
+            // Detaches the metric source before the column families and the database are closed.
+            resources.add(metricSource::detach);
+
             return new SharedRocksDbInstance(
                     engine,
                     path,
                     busyLock,
                     flusher,
                     db,
+                    metricSource,
                     requireNonNull(meta, "meta"),
                     requireNonNull(partitionCf, "partitionCf"),
                     requireNonNull(gcQueueCf, "gcQueueCf"),
                     requireNonNull(dataCf, "dataCf"),
+                    latestCommittedCf,
+                    profile.latestCommittedLookupEnabled(),
                     requireNonNull(hashIndexCf, "hashIndexCf"),
                     sortedIndexCfs,
                     resources // Trusts the inner class to copy the resources!!
@@ -185,6 +235,34 @@ public class SharedRocksDbInstanceCreator {
         }
     }
 
+    /**
+     * Removes all data from the column family. Used to drop references to the latest committed versions of rows left by a previous run
+     * with the lookups enabled, because they are not updated while the lookups are disabled and would become outdated otherwise.
+     */
+    private static void clearColumnFamily(RocksDB db, ColumnFamily cf) throws RocksDBException {
+        byte[] firstKey;
+        byte[] lastKey;
+
+        try (RocksIterator it = db.newIterator(cf.handle())) {
+            it.seekToFirst();
+
+            if (!it.isValid()) {
+                it.status();
+
+                return;
+            }
+
+            firstKey = it.key();
+
+            it.seekToLast();
+
+            lastKey = it.key();
+        }
+
+        db.deleteRange(cf.handle(), firstKey, lastKey);
+        db.delete(cf.handle(), lastKey);
+    }
+
     /**
      * Returns a list of CF descriptors present in the RocksDB instance.
      */
@@ -200,6 +278,15 @@ public class SharedRocksDbInstanceCreator {
             // will be created automatically.
             if (existingNames.isEmpty()) {
                 existingNames = ColumnFamilyUtils.DEFAULT_CF_NAMES;
+            } else {
+                // Databases created by older versions may lack some of the mandatory column families, they will be created as well.
+                existingNames = new ArrayList<>(existingNames);
+
+                for (byte[] defaultCfName : ColumnFamilyUtils.DEFAULT_CF_NAMES) {
+                    if (existingNames.stream().noneMatch(existingName -> Arrays.equals(existingName, defaultCfName))) {
+                        existingNames.add(defaultCfName);
+                    }
+                }
             }
         }
 
@@ -221,6 +308,10 @@ public class SharedRocksDbInstanceCreator {
             case PARTITION:
                 return add(defaultCfOptions().useCappedPrefixExtractor(PartitionDataHelper.ROW_PREFIX_SIZE));
 
+            case LATEST_COMMITTED:
+                // Only point lookups by full row keys are performed, whole key bloom filter is enough.
+                return add(defaultCfOptions());
+
             case HASH_INDEX:
                 return add(defaultCfOptions().useCappedPrefixExtractor(RocksDbHashIndexStorage.FIXED_PREFIX_LENGTH));
 
@@ -245,6 +336,10 @@ public class SharedRocksDbInstanceCreator {
                 .useCappedPrefixExtractor(AbstractRocksDbIndexStorage.PREFIX_WITH_IDS_LENGTH);
     }
 
+    private static String metricCfName(ColumnFamilyType cfType) {
+        return cfType.name().toLowerCase(Locale.ROOT);
+    }
+
     private <T extends AutoCloseable> T add(T value) {
         resources.add(value);
 
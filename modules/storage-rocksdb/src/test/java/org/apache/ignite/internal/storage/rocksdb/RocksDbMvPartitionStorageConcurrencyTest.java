@@ -25,6 +25,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.failure.FailureProcessor;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.storage.AbstractMvPartitionStorageConcurrencyTest;
 import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
 import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
@@ -63,7 +64,8 @@ public class RocksDbMvPartitionStorageConcurrencyTest extends AbstractMvPartitio
                 workDir,
                 mock(LogSyncer.class),
                 scheduledExecutor,
-                mock(FailureProcessor.class)
+                mock(FailureProcessor.class),
+                mock(MetricManager.class)
         );
 
         engine.start();
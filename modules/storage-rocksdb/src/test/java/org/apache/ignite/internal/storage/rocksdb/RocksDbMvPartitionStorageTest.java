@@ -18,6 +18,12 @@
 package org.apache.ignite.internal.storage.rocksdb;
 
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.DEFAULT_PARTITION_COUNT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 import java.nio.file.Path;
@@ -25,9 +31,12 @@ import java.util.concurrent.ScheduledExecutorService;
 import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.failure.FailureProcessor;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.storage.AbstractMvPartitionStorageTest;
 import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
 import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.storage.gc.GcEntry;
 import org.apache.ignite.internal.storage.index.StorageIndexDescriptorSupplier;
 import org.apache.ignite.internal.testframework.ExecutorServiceExtension;
 import org.apache.ignite.internal.testframework.InjectExecutorService;
@@ -36,7 +45,9 @@ import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.rocksdb.RocksIterator;
 
 /**
  * Storage test implementation for {@link RocksDbMvPartitionStorage}.
@@ -63,7 +74,8 @@ public class RocksDbMvPartitionStorageTest extends AbstractMvPartitionStorageTes
                 workDir,
                 mock(LogSyncer.class),
                 scheduledExecutor,
-                mock(FailureProcessor.class)
+                mock(FailureProcessor.class),
+                mock(MetricManager.class)
         );
 
         engine.start();
@@ -94,4 +106,74 @@ public class RocksDbMvPartitionStorageTest extends AbstractMvPartitionStorageTes
         // before calling addWriteCommitted(). For RocksDbMvPartitionStorage, it is not that cheap to check whether
         // there is a write intent in the storage, so we do not require it to throw this optional exception.
     }
+
+    @Test
+    void testReadLatestCommittedVersionWrittenOutOfOrder() {
+        HybridTimestamp olderTs = clock.now();
+        HybridTimestamp newerTs = clock.now();
+
+        addWriteCommitted(ROW_ID, TABLE_ROW2, newerTs);
+        addWriteCommitted(ROW_ID, TABLE_ROW, olderTs);
+
+        assertThat(read(ROW_ID, HybridTimestamp.MAX_VALUE), is(TABLE_ROW2));
+        assertThat(read(ROW_ID, clock.now()), is(TABLE_ROW2));
+        assertThat(read(ROW_ID, olderTs), is(TABLE_ROW));
+    }
+
+    @Test
+    void testReadWriteIntentOverLatestCommittedVersion() {
+        addAndCommit(TABLE_ROW);
+
+        addWrite(ROW_ID, TABLE_ROW2, newTransactionId());
+
+        assertTrue(storage.read(ROW_ID, HybridTimestamp.MAX_VALUE).isWriteIntent());
+        assertTrue(storage.read(ROW_ID, clock.now()).isWriteIntent());
+    }
+
+    @Test
+    void testLatestCommittedReferenceIsWrittenOnlyIfEnabled() {
+        addAndCommit(TABLE_ROW);
+
+        try (RocksIterator it = table.db().newIterator(table.latestCommittedCfHandle())) {
+            it.seekToFirst();
+
+            assertEquals(table.latestCommittedLookupEnabled(), it.isValid());
+        }
+    }
+
+    @Test
+    void testGcOfTombstoneRemovesLatestCommittedReference() {
+        addAndCommit(TABLE_ROW);
+        addAndCommit(null);
+
+        HybridTimestamp lowWatermark = clock.now();
+
+        while (true) {
+            boolean vacuumed = storage.runConsistently(locker -> {
+                GcEntry gcEntry = storage.peek(lowWatermark);
+
+                if (gcEntry == null) {
+                    return false;
+                }
+
+                locker.lock(gcEntry.getRowId());
+
+                storage.vacuum(gcEntry);
+
+                return true;
+            });
+
+            if (!vacuumed) {
+                break;
+            }
+        }
+
+        assertThat(read(ROW_ID, HybridTimestamp.MAX_VALUE), is(nullValue()));
+
+        try (RocksIterator it = table.db().newIterator(table.latestCommittedCfHandle())) {
+            it.seekToFirst();
+
+            assertFalse(it.isValid());
+        }
+    }
 }
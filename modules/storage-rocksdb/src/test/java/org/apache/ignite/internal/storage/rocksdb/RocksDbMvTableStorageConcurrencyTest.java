@@ -25,6 +25,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.failure.FailureProcessor;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.storage.AbstractMvTableStorageConcurrencyTest;
 import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
@@ -58,7 +59,8 @@ class RocksDbMvTableStorageConcurrencyTest extends AbstractMvTableStorageConcurr
                 workDir,
                 mock(LogSyncer.class),
                 scheduledExecutor,
-                mock(FailureProcessor.class)
+                mock(FailureProcessor.class),
+                mock(MetricManager.class)
         );
 
         engine.start();
@@ -34,6 +34,7 @@ import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.failure.FailureProcessor;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.storage.AbstractMvTableStorageTest;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.RowId;
@@ -74,7 +75,8 @@ public class RocksDbMvTableStorageTest extends AbstractMvTableStorageTest {
                 workDir,
                 mock(LogSyncer.class),
                 scheduledExecutor,
-                mock(FailureProcessor.class)
+                mock(FailureProcessor.class),
+                mock(MetricManager.class)
         );
 
         engine.start();
@@ -90,6 +90,9 @@ public class ItCriteriaQueryTest extends ClusterPerClassIntegrationTest {
     /** Table with quoted name. */
     private static final String QUOTED_TABLE_NAME = quoteIfNeeded("TaBleName");
 
+    /** Table with a length limited primary key. */
+    private static final String SHORT_KEY_TABLE_NAME = "short_key_tbl";
+
     private static final String COLUMN_NAME = "colUmn";
 
     private static final String QUOTED_COLUMN_NAME = quoteIfNeeded(COLUMN_NAME);
@@ -118,6 +121,14 @@ public class ItCriteriaQueryTest extends ClusterPerClassIntegrationTest {
                 new Object[]{2, "name2", 20.0d, "hash2".getBytes()}
         );
 
+        sql(format("CREATE TABLE {} (id VARCHAR(5) PRIMARY KEY, val INT)", SHORT_KEY_TABLE_NAME));
+
+        insertData(
+                SHORT_KEY_TABLE_NAME,
+                List.of("id", "val"),
+                new Object[]{"key1", 1}
+        );
+
         sql(format("CREATE TABLE {} (id INT PRIMARY KEY, {} VARCHAR)", QUOTED_TABLE_NAME, QUOTED_COLUMN_NAME));
 
         insertData(
@@ -456,6 +467,31 @@ public class ItCriteriaQueryTest extends ClusterPerClassIntegrationTest {
                 () -> await(view.queryAsync(null, columnValue("id1", equalTo(2)))), "Unexpected column name: ID1");
     }
 
+    private static Stream<Arguments> shortKeyViews() {
+        Table table = CLUSTER.aliveNode().tables().table(SHORT_KEY_TABLE_NAME);
+        Table clientTable = CLIENT.tables().table(SHORT_KEY_TABLE_NAME);
+
+        return Stream.of(
+                Arguments.of(table.recordView()),
+                Arguments.of(clientTable.recordView())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("shortKeyViews")
+    void testKeyLookupWithOverlongKey(CriteriaQuerySource<Tuple> view) {
+        try (Cursor<Tuple> cur = view.query(null, columnValue("id", equalTo("key1")))) {
+            assertThat(mapToTupleList(cur, identity()), containsInAnyOrder(
+                    allOf(tupleValue("id", is("key1")), tupleValue("val", is(1)))
+            ));
+        }
+
+        // The key can't be marshalled, so the query falls back to SQL, which finds no rows.
+        try (Cursor<Tuple> cur = view.query(null, columnValue("id", equalTo("too long key")))) {
+            assertThat(mapToTupleList(cur, identity()), empty());
+        }
+    }
+
     private static Stream<Arguments> testRecordViewWithQuotes() {
         Table table = CLUSTER.aliveNode().tables().table(QUOTED_TABLE_NAME);
         Table clientTable = CLIENT.tables().table(QUOTED_TABLE_NAME);
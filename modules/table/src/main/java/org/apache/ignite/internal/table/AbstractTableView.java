@@ -24,6 +24,7 @@ import static org.apache.ignite.internal.table.criteria.CriteriaExceptionMapperU
 import static org.apache.ignite.internal.table.distributed.TableUtils.isDirectFlowApplicableTx;
 import static org.apache.ignite.internal.util.ExceptionUtils.isOrCausedBy;
 import static org.apache.ignite.internal.util.ExceptionUtils.unwrapCause;
+import static org.apache.ignite.internal.util.StringUtils.nullOrBlank;
 import static org.apache.ignite.internal.util.ViewUtils.sync;
 
 import java.util.List;
@@ -39,7 +40,11 @@ import org.apache.ignite.internal.partition.replicator.schemacompat.InternalSche
 import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.marshaller.TupleMarshallerImpl;
+import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.table.criteria.CriteriaKeyLookupUtil;
 import org.apache.ignite.internal.table.criteria.CursorAdapter;
+import org.apache.ignite.internal.table.criteria.KeyLookupAsyncCursor;
 import org.apache.ignite.internal.table.criteria.QueryCriteriaAsyncCursor;
 import org.apache.ignite.internal.table.criteria.SqlSerializer;
 import org.apache.ignite.internal.table.criteria.SqlSerializer.Builder;
@@ -47,10 +52,12 @@ import org.apache.ignite.internal.table.distributed.schema.SchemaVersions;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.lang.AsyncCursor;
 import org.apache.ignite.lang.Cursor;
+import org.apache.ignite.lang.MarshallerException;
 import org.apache.ignite.sql.IgniteSql;
 import org.apache.ignite.sql.ResultSetMetadata;
 import org.apache.ignite.sql.SqlRow;
 import org.apache.ignite.sql.Statement;
+import org.apache.ignite.table.Tuple;
 import org.apache.ignite.table.criteria.Criteria;
 import org.apache.ignite.table.criteria.CriteriaQueryOptions;
 import org.apache.ignite.table.criteria.CriteriaQuerySource;
@@ -205,6 +212,36 @@ abstract class AbstractTableView<R> implements CriteriaQuerySource<R> {
         return null;
     }
 
+    /**
+     * Create conversion function for rows found by primary key lookups to criteria query objects.
+     *
+     * @param schema Schema.
+     * @return Conversion function.
+     */
+    protected abstract Function<Row, R> keyLookupMapper(SchemaDescriptor schema);
+
+    /**
+     * Returns the key row to look up, if the criteria restricts each primary key column, and only them, by an equality condition.
+     *
+     * @param criteria Criteria.
+     * @param schema Schema.
+     * @return Key row or {@code null} if the criteria requires the SQL engine.
+     */
+    private static @Nullable Row keyLookupRow(Criteria criteria, SchemaDescriptor schema) {
+        Tuple key = CriteriaKeyLookupUtil.keyTuple(criteria, schema.keyColumns(), Column::name, c -> c.type().spec().asColumnType());
+
+        if (key == null) {
+            return null;
+        }
+
+        try {
+            return new TupleMarshallerImpl(schema).marshalKey(key);
+        } catch (MarshallerException e) {
+            // E.g. a string longer than the column, which SQL compares without an error.
+            return null;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public Cursor<R> query(@Nullable Transaction tx, @Nullable Criteria criteria, @Nullable String indexName, CriteriaQueryOptions opts) {
@@ -224,6 +261,14 @@ abstract class AbstractTableView<R> implements CriteriaQuerySource<R> {
         CompletableFuture<AsyncCursor<R>> future = doOperation(tx, (schemaVersion) -> {
             SchemaDescriptor schema = rowConverter.registry().schema(schemaVersion);
 
+            Row keyRow = criteria == null || !nullOrBlank(indexName) ? null : keyLookupRow(criteria, schema);
+
+            if (keyRow != null) {
+                return tbl.get(keyRow, (InternalTransaction) tx).<AsyncCursor<R>>thenApply(binaryRow -> new KeyLookupAsyncCursor<>(
+                        binaryRow == null ? null : keyLookupMapper(schema).apply(rowConverter.resolveRow(binaryRow, schemaVersion))
+                ));
+            }
+
             SqlSerializer ser = new Builder()
                     .tableName(tbl.name())
                     .columns(
@@ -33,6 +33,7 @@ import org.apache.ignite.internal.schema.BinaryTuple;
 import org.apache.ignite.internal.schema.BinaryTuplePrefix;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.table.distributed.changes.RowChangeBatch;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.tx.storage.state.TxStateStorage;
 import org.apache.ignite.internal.util.PendingComparableValuesTracker;
@@ -353,6 +354,40 @@ public interface InternalTable extends ManuallyCloseable {
         return scan(partId, txId, readTimestamp, recipientNode, null, null, null, 0, null, txCoordinatorId);
     }
 
+    /**
+     * Scans a range of row ids of the given partition with the proposed read timestamp, providing {@link Publisher} that reactively
+     * notifies about partition rows. Bounds of the ranges are obtained with {@link #scanSplitPoints}.
+     *
+     * @param partId The partition.
+     * @param txId Transaction id.
+     * @param readTimestamp Read timestamp.
+     * @param recipientNode Cluster node that will handle given get request.
+     * @param lowerRowId Lower bound of row ids, inclusive, {@code null} to scan from the beginning of the partition.
+     * @param upperRowId Upper bound of row ids, exclusive, {@code null} to scan to the end of the partition.
+     * @param txCoordinatorId Transaction coordinator inconsistent id.
+     * @return {@link Publisher} that reactively notifies about partition rows.
+     */
+    Publisher<BinaryRow> scan(
+            int partId,
+            UUID txId,
+            HybridTimestamp readTimestamp,
+            ClusterNode recipientNode,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId,
+            UUID txCoordinatorId
+    );
+
+    /**
+     * Returns row ids splitting the given partition into ranges of approximately equal size, which can be scanned independently.
+     *
+     * @param partId The partition.
+     * @param recipientNode Cluster node with a replica of the partition that will handle the request.
+     * @param splits Desired number of ranges.
+     * @return Future with row ids in ascending order, each of them is the lower bound of the next range and the upper bound of the
+     *         previous one. Holds fewer than {@code splits - 1} elements if the partition is too small to be split.
+     */
+    CompletableFuture<List<UUID>> scanSplitPoints(int partId, ClusterNode recipientNode, int splits);
+
     /**
      * Lookup rows corresponding to the given key given partition index, providing {@link Publisher}
      * that reactively notifies about partition rows.
@@ -541,6 +576,19 @@ public interface InternalTable extends ManuallyCloseable {
      */
     CompletableFuture<Long> estimatedSize();
 
+    /**
+     * Reads changes of a partition committed after the given timestamp from the primary replica of the partition.
+     *
+     * <p>The position of the returned batch is the timestamp, up to which the changes of the partition are read: no changes with lower
+     * or equal timestamps can be committed later. It is passed as the start timestamp of the next read.
+     *
+     * @param partId Partition ID.
+     * @param fromTimestamp Timestamp after which the changes are read (exclusive), {@code null} to only get the current position.
+     * @param batchSize Maximum number of changes to read, the changes of a transaction are never split between batches.
+     * @return Future with the batch of changes.
+     */
+    CompletableFuture<RowChangeBatch> readChanges(int partId, @Nullable HybridTimestamp fromTimestamp, int batchSize);
+
     /**
      * Returns the streamer receiver runner.
      *
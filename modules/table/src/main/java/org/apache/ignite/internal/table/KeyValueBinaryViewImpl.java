@@ -623,4 +623,10 @@ public class KeyValueBinaryViewImpl extends AbstractTableView<Entry<Tuple, Tuple
                 new SqlRowProjection(row, meta, columnNames(schema.valueColumns()))
         );
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Function<Row, Entry<Tuple, Tuple>> keyLookupMapper(SchemaDescriptor schema) {
+        return (row) -> new IgniteBiTuple<>(TableRow.keyTuple(row), TableRow.valueTuple(row));
+    }
 }
@@ -864,4 +864,17 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView<Entry<K, V>> imple
                 (V) valMarsh.readObject(new TupleReader(new SqlRowProjection(row, meta, columnNames(valCols))), null)
         );
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Function<Row, Entry<K, V>> keyLookupMapper(SchemaDescriptor schema) {
+        MarshallerSchema marshallerSchema = schema.marshallerSchema();
+        Marshaller keyMarsh = marshallers.getKeysMarshaller(marshallerSchema, keyMapper, false, true);
+        Marshaller valMarsh = marshallers.getValuesMarshaller(marshallerSchema, valueMapper, false, true);
+
+        return (row) -> new IgniteBiTuple<>(
+                (K) keyMarsh.readObject(new TupleReader(TableRow.keyTuple(row)), null),
+                (V) valMarsh.readObject(new TupleReader(TableRow.valueTuple(row)), null)
+        );
+    }
 }
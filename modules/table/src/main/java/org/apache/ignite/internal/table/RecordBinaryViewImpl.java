@@ -37,6 +37,7 @@ import java.util.function.Function;
 import org.apache.ignite.internal.marshaller.MarshallersProvider;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowEx;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.schema.marshaller.TupleMarshaller;
 import org.apache.ignite.internal.schema.row.Row;
@@ -612,4 +613,10 @@ public class RecordBinaryViewImpl extends AbstractTableView<Tuple> implements Re
         return doOperation(null,
                 schemaVersion -> this.tbl.updateAll(mapToBinary(rows, schemaVersion, deleted), deleted, partitionId));
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Function<Row, Tuple> keyLookupMapper(SchemaDescriptor schema) {
+        return TableRow::tuple;
+    }
 }
@@ -648,4 +648,12 @@ public class RecordViewImpl<R> extends AbstractTableView<R> implements RecordVie
 
         return (row) -> (R) marsh.readObject(new TupleReader(new SqlRowProjection(row, meta, columnNames(cols))), null);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Function<Row, R> keyLookupMapper(SchemaDescriptor schema) {
+        Marshaller marsh = marshallers.getRowMarshaller(schema.marshallerSchema(), mapper, false, true);
+
+        return (row) -> (R) marsh.readObject(new TupleReader(TableRow.tuple(row)), null);
+    }
 }
@@ -17,12 +17,18 @@
 
 package org.apache.ignite.internal.table;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apache.ignite.internal.hlc.HybridTimestamp.nullableHybridTimestamp;
+import static org.apache.ignite.internal.lang.IgniteExceptionMapperUtil.convertToPublicFuture;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow.Publisher;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.failure.FailureContext;
 import org.apache.ignite.internal.failure.FailureManager;
@@ -40,14 +46,19 @@ import org.apache.ignite.internal.storage.index.StorageHashIndexDescriptor;
 import org.apache.ignite.internal.storage.index.StorageSortedIndexDescriptor;
 import org.apache.ignite.internal.table.IndexWrapper.HashIndexWrapper;
 import org.apache.ignite.internal.table.IndexWrapper.SortedIndexWrapper;
+import org.apache.ignite.internal.table.changes.ChangesPublisher;
+import org.apache.ignite.internal.table.changes.PartitionChanges;
 import org.apache.ignite.internal.table.distributed.IndexLocker;
 import org.apache.ignite.internal.table.distributed.PartitionSet;
 import org.apache.ignite.internal.table.distributed.TableIndexStoragesSupplier;
 import org.apache.ignite.internal.table.distributed.TableSchemaAwareIndexStorage;
+import org.apache.ignite.internal.table.distributed.changes.RowChange;
 import org.apache.ignite.internal.table.distributed.schema.SchemaVersions;
 import org.apache.ignite.internal.table.partition.HashPartitionManagerImpl;
 import org.apache.ignite.internal.tx.LockManager;
 import org.apache.ignite.sql.IgniteSql;
+import org.apache.ignite.table.ChangeEvent;
+import org.apache.ignite.table.ChangeStreamOptions;
 import org.apache.ignite.table.KeyValueView;
 import org.apache.ignite.table.QualifiedName;
 import org.apache.ignite.table.RecordView;
@@ -208,6 +219,45 @@ public class TableImpl implements TableViewInternal {
         return new KeyValueBinaryViewImpl(tbl, schemaReg, schemaVersions, sql, marshallers);
     }
 
+    @Override
+    public Publisher<ChangeEvent> changes(ChangeStreamOptions options) {
+        Objects.requireNonNull(options, "options");
+
+        return new ChangesPublisher(completedFuture(tbl.partitions()), this::pollChanges, options, tbl.streamerFlushExecutor());
+    }
+
+    @Override
+    public CompletableFuture<PartitionChanges> pollChanges(int partition, long fromTimestamp, int limit) {
+        CompletableFuture<PartitionChanges> fut = tbl.readChanges(partition, nullableHybridTimestamp(fromTimestamp), limit)
+                .thenCompose(batch -> {
+                    // Rows are resolved to the latest of their schema versions, which might not be known locally yet.
+                    int schemaVersion = batch.changes().stream()
+                            .mapToInt(change -> change.row().schemaVersion())
+                            .max()
+                            .orElse(0);
+
+                    if (schemaVersion == 0) {
+                        return completedFuture(new PartitionChanges(List.of(), batch.position().longValue()));
+                    }
+
+                    SchemaRegistry registry = schemaReg;
+
+                    return registry.schemaAsync(schemaVersion).thenApply(schema -> {
+                        var events = new ArrayList<ChangeEvent>(batch.changes().size());
+
+                        for (RowChange change : batch.changes()) {
+                            Tuple row = TableRow.tuple(registry.resolve(change.row(), schema));
+
+                            events.add(ChangeEvent.of(change.type(), row, change.commitTimestamp().longValue(), partition));
+                        }
+
+                        return new PartitionChanges(events, batch.position().longValue());
+                    });
+                });
+
+        return convertToPublicFuture(fut);
+    }
+
     @Override
     public int partitionId(Tuple key) {
         Objects.requireNonNull(key);
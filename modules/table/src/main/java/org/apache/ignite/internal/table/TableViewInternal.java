@@ -17,10 +17,13 @@
 
 package org.apache.ignite.internal.table;
 
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.schema.ColumnsExtractor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.storage.index.StorageHashIndexDescriptor;
 import org.apache.ignite.internal.storage.index.StorageSortedIndexDescriptor;
+import org.apache.ignite.internal.table.changes.PartitionChanges;
 import org.apache.ignite.internal.table.distributed.PartitionSet;
 import org.apache.ignite.table.Table;
 import org.apache.ignite.table.Tuple;
@@ -83,6 +86,17 @@ public interface TableViewInternal extends Table {
      */
     <K> int partitionId(K key, Mapper<K> keyMapper);
 
+    /**
+     * Polls changes of a partition of the table for a change stream, see {@link #changes}.
+     *
+     * @param partition Partition ID.
+     * @param fromTimestamp Timestamp to return the changes committed after, {@link HybridTimestamp#NULL_HYBRID_TIMESTAMP} to only
+     *         return the current position of the partition.
+     * @param limit Maximum number of changes to return, the changes of a transaction are never split.
+     * @return Future with the changes.
+     */
+    CompletableFuture<PartitionChanges> pollChanges(int partition, long fromTimestamp, int limit);
+
     /**
      * Registers the index with given id in a table.
      *
@@ -19,11 +19,14 @@ package org.apache.ignite.internal.table.distributed;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Flow.Publisher;
 import org.apache.ignite.internal.table.PublicApiThreadingKeyValueView;
 import org.apache.ignite.internal.table.PublicApiThreadingRecordView;
 import org.apache.ignite.internal.table.partition.PublicApiThreadingPartitionManager;
 import org.apache.ignite.internal.thread.PublicApiThreading;
 import org.apache.ignite.internal.wrapper.Wrapper;
+import org.apache.ignite.table.ChangeEvent;
+import org.apache.ignite.table.ChangeStreamOptions;
 import org.apache.ignite.table.KeyValueView;
 import org.apache.ignite.table.QualifiedName;
 import org.apache.ignite.table.RecordView;
@@ -81,6 +84,11 @@ public class PublicApiThreadingTable implements Table, Wrapper {
         return new PublicApiThreadingKeyValueView<>(table.keyValueView(), asyncContinuationExecutor);
     }
 
+    @Override
+    public Publisher<ChangeEvent> changes(ChangeStreamOptions options) {
+        return table.changes(options);
+    }
+
     @Override
     public <T> T unwrap(Class<T> classToUnwrap) {
         return classToUnwrap.cast(table);
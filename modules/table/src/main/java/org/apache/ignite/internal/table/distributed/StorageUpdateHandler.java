@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.partition.replicator.network.TimedBinaryRow;
 import org.apache.ignite.internal.partition.replicator.raft.snapshot.PartitionDataStorage;
@@ -36,6 +37,7 @@ import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage.Locker;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.table.distributed.changes.PartitionChangeLog;
 import org.apache.ignite.internal.table.distributed.index.IndexUpdateHandler;
 import org.apache.ignite.internal.table.distributed.replicator.PendingRows;
 import org.apache.ignite.internal.util.Cursor;
@@ -58,6 +60,12 @@ public class StorageUpdateHandler {
     /** Replication configuration. */
     private final ReplicationConfiguration replicationConfiguration;
 
+    /**
+     * Log of the committed row versions, which serves the change stream polls. Created by the first poll, so that replicas nobody reads
+     * the changes from don't pay for it: the versions committed before are found by a scan of the storage, like after a reset of the log.
+     */
+    private final AtomicReference<PartitionChangeLog> changeLog = new AtomicReference<>();
+
     /**
      * The constructor.
      *
@@ -157,6 +165,12 @@ public class StorageUpdateHandler {
 
         if (commitTs != null) {
             storage.addWriteCommitted(rowId, row, commitTs);
+
+            PartitionChangeLog log = changeLog.get();
+
+            if (log != null) {
+                log.onCommitted(rowId, commitTs);
+            }
         } else {
             BinaryRow oldRow = storage.addWrite(rowId, row, txId, commitPartitionId.objectId(), commitPartitionId.partitionId());
 
@@ -456,7 +470,15 @@ public class StorageUpdateHandler {
             }
         }
 
-        rowIds.forEach(rowId -> storage.commitWrite(rowId, commitTimestamp));
+        PartitionChangeLog log = changeLog.get();
+
+        for (RowId rowId : rowIds) {
+            storage.commitWrite(rowId, commitTimestamp);
+
+            if (log != null) {
+                log.onCommitted(rowId, commitTimestamp);
+            }
+        }
     }
 
     /**
@@ -503,4 +525,26 @@ public class StorageUpdateHandler {
     public IndexUpdateHandler getIndexUpdateHandler() {
         return indexUpdateHandler;
     }
+
+    /** Returns log of the row versions committed to the partition, creating it on the first call. */
+    public PartitionChangeLog changeLog() {
+        PartitionChangeLog log = changeLog.get();
+
+        return log != null ? log : changeLog.updateAndGet(current -> current != null ? current : new PartitionChangeLog());
+    }
+
+    /** Drops the log of the row versions committed to the partition when the content of the storage is replaced, e.g. by a rebalance. */
+    public void resetChangeLog() {
+        changeLog.set(null);
+    }
+
+    /**
+     * Returns the minimum begin timestamp among the transactions with write intents tracked by the handler. Row versions of these
+     * transactions can still be committed with any timestamp after it.
+     *
+     * @return Begin timestamp or {@code null} if there are no tracked write intents.
+     */
+    public @Nullable HybridTimestamp minPendingTransactionBeginTimestamp() {
+        return pendingRows.minBeginTimestamp();
+    }
 }
@@ -137,6 +137,8 @@ import org.apache.ignite.internal.metastorage.MetaStorageManager;
 import org.apache.ignite.internal.metastorage.Revisions;
 import org.apache.ignite.internal.metastorage.WatchEvent;
 import org.apache.ignite.internal.metastorage.WatchListener;
+import org.apache.ignite.internal.metrics.MetricManager;
+import org.apache.ignite.internal.metrics.sources.ThreadPoolMetricSource;
 import org.apache.ignite.internal.network.MessagingService;
 import org.apache.ignite.internal.network.TopologyService;
 import org.apache.ignite.internal.network.serialization.MessageSerializationRegistry;
@@ -220,6 +222,7 @@ import org.apache.ignite.internal.table.distributed.schema.SchemaVersionsImpl;
 import org.apache.ignite.internal.table.distributed.storage.InternalTableImpl;
 import org.apache.ignite.internal.table.distributed.storage.NullStorageEngine;
 import org.apache.ignite.internal.table.distributed.storage.PartitionStorages;
+import org.apache.ignite.internal.table.metrics.TableMetricSource;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
 import org.apache.ignite.internal.tx.LockManager;
 import org.apache.ignite.internal.tx.TxManager;
@@ -449,6 +452,8 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
     private final TableAssignmentsService assignmentsService;
     private final ReliableCatalogVersions reliableCatalogVersions;
 
+    private final MetricManager metricManager;
+
     /**
      * Creates a new table manager.
      *
@@ -479,6 +484,7 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
      * @param partitionReplicaLifecycleManager Partition replica lifecycle manager.
      * @param minTimeCollectorService Collects minimum required timestamp for each partition.
      * @param systemDistributedConfiguration System distributed configuration.
+     * @param metricManager Metric manager to register table metric sources.
      */
     public TableManager(
             String nodeName,
@@ -517,7 +523,8 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
             LogSyncer logSyncer,
             PartitionReplicaLifecycleManager partitionReplicaLifecycleManager,
             MinimumRequiredTimeCollectorService minTimeCollectorService,
-            SystemDistributedConfiguration systemDistributedConfiguration
+            SystemDistributedConfiguration systemDistributedConfiguration,
+            MetricManager metricManager
     ) {
         this.topologyService = topologyService;
         this.replicaMgr = replicaMgr;
@@ -546,6 +553,7 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
         this.indexMetaStorage = indexMetaStorage;
         this.partitionReplicaLifecycleManager = partitionReplicaLifecycleManager;
         this.minTimeCollectorService = minTimeCollectorService;
+        this.metricManager = metricManager;
 
         this.executorInclinedSchemaSyncService = new ExecutorInclinedSchemaSyncService(schemaSyncService, partitionOperationsExecutor);
         this.executorInclinedPlacementDriver = new ExecutorInclinedPlacementDriver(placementDriver, partitionOperationsExecutor);
@@ -624,6 +632,8 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
         return inBusyLockAsync(busyLock, () -> {
             mvGc.start();
 
+            metricManager.registerSource(mvGc.metricSource());
+
             transactionStateResolver.start();
 
             fullStateTransferIndexChooser.start();
@@ -974,6 +984,7 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
                     mvGc,
                     partitionUpdateHandlers.indexUpdateHandler,
                     partitionUpdateHandlers.gcUpdateHandler,
+                    partitionUpdateHandlers.storageUpdateHandler,
                     fullStateTransferIndexChooser,
                     schemaManager.schemaRegistry(tableId),
                     lowWatermark
@@ -1575,6 +1586,8 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
             );
         }
 
+        metricManager.unregisterSource(ThreadPoolMetricSource.NAME_PREFIX + MvGc.POOL_NAME);
+
         int shutdownTimeoutSeconds = 10;
 
         try {
@@ -1711,6 +1724,8 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
                 () -> txCfg.value().readOnlyTimeoutMillis()
         );
 
+        metricManager.registerSource(internalTable.metricSource());
+
         return new TableImpl(
                 internalTable,
                 lockMgr,
@@ -1916,6 +1931,8 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
 
         InternalTable internalTable = table.internalTable();
 
+        metricManager.unregisterSource(TableMetricSource.NAME_PREFIX + tableId);
+
         if (!enabledColocation) {
             Set<ByteArray> assignmentKeys = IntStream.range(0, internalTable.partitions())
                     .mapToObj(p -> stablePartAssignmentsKey(new TablePartitionId(tableId, p)))
@@ -2501,6 +2518,7 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
                 mvGc,
                 partitionUpdateHandlers.indexUpdateHandler,
                 partitionUpdateHandlers.gcUpdateHandler,
+                partitionUpdateHandlers.storageUpdateHandler,
                 fullStateTransferIndexChooser,
                 schemaManager.schemaRegistry(replicaGrpId.tableId()),
                 lowWatermark
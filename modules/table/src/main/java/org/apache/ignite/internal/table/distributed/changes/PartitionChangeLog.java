@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.changes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * In-memory log of the row versions committed to a partition storage, ordered by their commit timestamps. It lets the primary replica
+ * serve change stream polls without scanning the partition: the log only keeps row IDs, the rows are read from the storage.
+ *
+ * <p>The log is complete since a timestamp: every row version committed after it is present in the log. Row versions committed before
+ * the log was created or {@link #reset} are only known to the storage, so the timestamp is initialized by the first read as the
+ * timestamp all the versions present in the storage are committed at or before. It moves forward as the oldest entries are evicted to keep
+ * the log within its capacity. Changes before the timestamp have to be read by a scan of the storage.
+ */
+public class PartitionChangeLog {
+    /** Default maximum number of entries of a log. */
+    public static final int DEFAULT_CAPACITY = 10_000;
+
+    private final int capacity;
+
+    private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>();
+
+    /** Number of entries, counted separately because the size of a skip list is computed by traversing it. Guarded by {@code this}. */
+    private int size;
+
+    /** Timestamp the log was initialized with by the first read, {@code null} before that. Guarded by {@code this}. */
+    private @Nullable HybridTimestamp initializedAt;
+
+    /** Commit timestamp of the last evicted entry. Guarded by {@code this}. */
+    private HybridTimestamp evictedUpTo = HybridTimestamp.MIN_VALUE;
+
+    /** Constructor. */
+    public PartitionChangeLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity Maximum number of entries of the log.
+     */
+    public PartitionChangeLog(int capacity) {
+        assert capacity > 0 : capacity;
+
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records a row version committed to the storage.
+     *
+     * @param rowId Row ID.
+     * @param commitTimestamp Commit timestamp of the version.
+     */
+    public synchronized void onCommitted(RowId rowId, HybridTimestamp commitTimestamp) {
+        if (!entries.add(new Entry(commitTimestamp, rowId))) {
+            return;
+        }
+
+        size++;
+
+        while (size > capacity) {
+            Entry evicted = entries.pollFirst();
+
+            assert evicted != null;
+
+            size--;
+
+            evictedUpTo = evicted.commitTimestamp;
+        }
+    }
+
+    /**
+     * Returns the timestamp since which the log is complete. The first call after the creation or a reset of the log initializes it.
+     *
+     * @param storageTimestamp Timestamp all row versions present in the storage are committed at or before, e.g. the current time of
+     *         the node clock.
+     * @return Timestamp every row version committed after which is present in the log.
+     */
+    public synchronized HybridTimestamp completeSince(HybridTimestamp storageTimestamp) {
+        if (initializedAt == null) {
+            initializedAt = storageTimestamp;
+        }
+
+        return HybridTimestamp.max(initializedAt, evictedUpTo);
+    }
+
+    /**
+     * Reads entries committed in a range of timestamps. The number of the entries is limited, but the entries with the same commit
+     * timestamp are either all returned or all skipped, so a reader can continue after the commit timestamp of the last returned entry.
+     *
+     * @param fromExclusive Lower bound of the commit timestamps, exclusive.
+     * @param toInclusive Upper bound of the commit timestamps, inclusive.
+     * @param limit Maximum number of entries to return, exceeded when needed to return all entries with the same commit timestamp.
+     * @return Entries in the order of their commit timestamps.
+     */
+    public List<Entry> read(HybridTimestamp fromExclusive, HybridTimestamp toInclusive, int limit) {
+        var result = new ArrayList<Entry>();
+
+        for (Entry entry : entries.subSet(new Entry(fromExclusive, null), false, new Entry(toInclusive, null), false)) {
+            if (result.size() >= limit && !entry.commitTimestamp.equals(result.get(result.size() - 1).commitTimestamp)) {
+                break;
+            }
+
+            result.add(entry);
+        }
+
+        return result;
+    }
+
+    /**
+     * Removes the entries committed at or before a timestamp, which can't be read anymore, e.g. the low watermark.
+     *
+     * @param timestamp Timestamp.
+     */
+    public synchronized void trim(HybridTimestamp timestamp) {
+        while (!entries.isEmpty() && entries.first().commitTimestamp.compareTo(timestamp) <= 0) {
+            entries.pollFirst();
+
+            size--;
+        }
+    }
+
+    /** Clears the log when the content of the storage is replaced, e.g. by a full state transfer. */
+    public synchronized void reset() {
+        entries.clear();
+
+        size = 0;
+        initializedAt = null;
+        evictedUpTo = HybridTimestamp.MIN_VALUE;
+    }
+
+    /** Returns the number of entries of the log. */
+    public synchronized int size() {
+        return size;
+    }
+
+    /** Entry of the log: row ID and commit timestamp of a row version. */
+    public static class Entry implements Comparable<Entry> {
+        private final HybridTimestamp commitTimestamp;
+
+        /** Row ID, {@code null} for the search bounds, which follow all entries with the same commit timestamp. */
+        private final @Nullable RowId rowId;
+
+        private Entry(HybridTimestamp commitTimestamp, @Nullable RowId rowId) {
+            this.commitTimestamp = commitTimestamp;
+            this.rowId = rowId;
+        }
+
+        /** Returns commit timestamp of the row version. */
+        public HybridTimestamp commitTimestamp() {
+            return commitTimestamp;
+        }
+
+        /** Returns row ID. */
+        public RowId rowId() {
+            assert rowId != null;
+
+            return rowId;
+        }
+
+        @Override
+        public int compareTo(Entry o) {
+            int cmp = commitTimestamp.compareTo(o.commitTimestamp);
+
+            if (cmp != 0) {
+                return cmp;
+            }
+
+            if (rowId == null || o.rowId == null) {
+                return rowId == o.rowId ? 0 : (rowId == null ? 1 : -1);
+            }
+
+            return rowId.compareTo(o.rowId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            return compareTo((Entry) o) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * commitTimestamp.hashCode() + (rowId == null ? 0 : rowId.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return S.toString(Entry.class, this);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.changes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.ReadResult;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.table.ChangeEventType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reader of the changes of a partition for change stream polls. Row IDs and commit timestamps of the changes are taken from the
+ * {@link PartitionChangeLog}, or found by a scan of the storage for the positions the log is not complete since. The rows and the types of
+ * the changes are read from the version chains of the rows in the storage.
+ */
+public class PartitionChangeReader {
+    private final int partitionId;
+
+    private final MvPartitionStorage storage;
+
+    private final Supplier<PartitionChangeLog> changeLog;
+
+    /**
+     * Constructor.
+     *
+     * @param partitionId Partition ID.
+     * @param storage Partition storage.
+     * @param changeLog Supplier of the change log of the partition, which may be replaced, e.g. by a rebalance.
+     */
+    public PartitionChangeReader(int partitionId, MvPartitionStorage storage, Supplier<PartitionChangeLog> changeLog) {
+        this.partitionId = partitionId;
+        this.storage = storage;
+        this.changeLog = changeLog;
+    }
+
+    /**
+     * Reads changes committed after a timestamp.
+     *
+     * @param fromTimestamp Timestamp to read the changes committed after, {@code null} to only return the current position.
+     * @param horizon Timestamp up to which (inclusive) the changes are final: no row version with a lower or equal commit timestamp can
+     *         be committed later.
+     * @param storageTimestamp Timestamp all row versions present in the storage are committed at or before, e.g. the current time of
+     *         the node clock.
+     * @param limit Maximum number of changes to return, exceeded when needed to return all changes with the same commit timestamp.
+     * @return Changes of the partition.
+     */
+    public RowChangeBatch read(
+            @Nullable HybridTimestamp fromTimestamp,
+            HybridTimestamp horizon,
+            HybridTimestamp storageTimestamp,
+            int limit
+    ) {
+        if (fromTimestamp == null || fromTimestamp.compareTo(horizon) >= 0) {
+            return new RowChangeBatch(List.of(), fromTimestamp == null ? horizon : fromTimestamp);
+        }
+
+        PartitionChangeLog log = changeLog.get();
+
+        if (fromTimestamp.compareTo(log.completeSince(storageTimestamp)) >= 0) {
+            List<PartitionChangeLog.Entry> entries = log.read(fromTimestamp, horizon, limit);
+
+            // Entries after the position could have been evicted during the read.
+            if (fromTimestamp.compareTo(log.completeSince(storageTimestamp)) >= 0) {
+                return readLogEntries(entries, horizon, limit);
+            }
+        }
+
+        return scan(fromTimestamp, horizon, limit);
+    }
+
+    private RowChangeBatch readLogEntries(List<PartitionChangeLog.Entry> entries, HybridTimestamp horizon, int limit) {
+        var changes = new ArrayList<RowChange>(entries.size());
+
+        for (PartitionChangeLog.Entry entry : entries) {
+            RowChange change = readChange(entry.rowId(), entry.commitTimestamp());
+
+            // The version could have been aborted or garbage collected.
+            if (change != null) {
+                changes.add(change);
+            }
+        }
+
+        HybridTimestamp position = entries.size() < limit ? horizon : entries.get(entries.size() - 1).commitTimestamp();
+
+        return new RowChangeBatch(changes, position);
+    }
+
+    private @Nullable RowChange readChange(RowId rowId, HybridTimestamp commitTimestamp) {
+        try (Cursor<ReadResult> versions = storage.scanVersions(rowId)) {
+            while (versions.hasNext()) {
+                ReadResult version = versions.next();
+
+                if (version.isWriteIntent()) {
+                    continue;
+                }
+
+                int cmp = commitTimestamp.compareTo(version.commitTimestamp());
+
+                if (cmp > 0) {
+                    return null;
+                }
+
+                if (cmp == 0) {
+                    return toChange(version, versions.hasNext() ? versions.next().binaryRow() : null);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Finds the changes by a scan of the version chains of all rows of the partition. Only the changes needed for the page are kept, the
+     * number of the scanned versions doesn't affect the memory used by the scan.
+     */
+    private RowChangeBatch scan(HybridTimestamp fromTimestamp, HybridTimestamp horizon, int limit) {
+        var changesByTimestamp = new TreeMap<HybridTimestamp, List<RowChange>>();
+        int count = 0;
+        boolean truncated = false;
+
+        for (RowId rowId = storage.closestRowId(RowId.lowestRowId(partitionId)); rowId != null; rowId = nextRowId(rowId)) {
+            try (Cursor<ReadResult> versions = storage.scanVersions(rowId)) {
+                ReadResult newer = null;
+
+                while (versions.hasNext()) {
+                    ReadResult version = versions.next();
+
+                    if (version.isWriteIntent()) {
+                        continue;
+                    }
+
+                    if (newer != null && newer.commitTimestamp().compareTo(horizon) <= 0) {
+                        count += add(changesByTimestamp, toChange(newer, version.binaryRow()));
+                    }
+
+                    newer = version.commitTimestamp().compareTo(fromTimestamp) > 0 ? version : null;
+
+                    if (newer == null) {
+                        break;
+                    }
+                }
+
+                if (newer != null && newer.commitTimestamp().compareTo(horizon) <= 0) {
+                    count += add(changesByTimestamp, toChange(newer, null));
+                }
+            }
+
+            // Drop the latest changes while the rest still fill the page.
+            while (!changesByTimestamp.isEmpty() && count - changesByTimestamp.lastEntry().getValue().size() >= limit) {
+                count -= changesByTimestamp.pollLastEntry().getValue().size();
+
+                truncated = true;
+            }
+        }
+
+        var changes = new ArrayList<RowChange>(count);
+
+        for (List<RowChange> sameTimestampChanges : changesByTimestamp.values()) {
+            changes.addAll(sameTimestampChanges);
+        }
+
+        return new RowChangeBatch(changes, truncated ? changesByTimestamp.lastKey() : horizon);
+    }
+
+    private static int add(TreeMap<HybridTimestamp, List<RowChange>> changesByTimestamp, @Nullable RowChange change) {
+        if (change == null) {
+            return 0;
+        }
+
+        changesByTimestamp.computeIfAbsent(change.commitTimestamp(), ts -> new ArrayList<>()).add(change);
+
+        return 1;
+    }
+
+    private @Nullable RowId nextRowId(RowId rowId) {
+        RowId next = rowId.increment();
+
+        return next == null ? null : storage.closestRowId(next);
+    }
+
+    /**
+     * Creates a change from a row version and the row of the previous version.
+     *
+     * @return Change or {@code null} for a removal of an absent row.
+     */
+    private static @Nullable RowChange toChange(ReadResult version, @Nullable BinaryRow previousRow) {
+        BinaryRow row = version.binaryRow();
+
+        if (row != null) {
+            return new RowChange(previousRow == null ? ChangeEventType.INSERT : ChangeEventType.UPDATE, version.commitTimestamp(), row);
+        }
+
+        return previousRow == null ? null : new RowChange(ChangeEventType.DELETE, version.commitTimestamp(), previousRow);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.changes;
+
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.table.ChangeEventType;
+
+/**
+ * Change of a row of a partition: a committed row version along with the type of the change, determined by the previous version.
+ */
+public class RowChange {
+    private final ChangeEventType type;
+
+    private final HybridTimestamp commitTimestamp;
+
+    private final BinaryRow row;
+
+    /**
+     * Constructor.
+     *
+     * @param type Change type.
+     * @param commitTimestamp Commit timestamp of the change.
+     * @param row New row, or the removed row for {@link ChangeEventType#DELETE}.
+     */
+    public RowChange(ChangeEventType type, HybridTimestamp commitTimestamp, BinaryRow row) {
+        this.type = type;
+        this.commitTimestamp = commitTimestamp;
+        this.row = row;
+    }
+
+    /** Returns change type. */
+    public ChangeEventType type() {
+        return type;
+    }
+
+    /** Returns commit timestamp of the change. */
+    public HybridTimestamp commitTimestamp() {
+        return commitTimestamp;
+    }
+
+    /** Returns new row, or the removed row for {@link ChangeEventType#DELETE}. */
+    public BinaryRow row() {
+        return row;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(RowChange.class, this);
+    }
+}
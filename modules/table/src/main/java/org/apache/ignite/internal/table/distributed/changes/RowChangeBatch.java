@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.changes;
+
+import java.util.List;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * Changes of a partition read by a single change stream poll.
+ */
+public class RowChangeBatch {
+    private final List<RowChange> changes;
+
+    private final HybridTimestamp position;
+
+    /**
+     * Constructor.
+     *
+     * @param changes Changes in the order of their commit timestamps.
+     * @param position Timestamp up to which (inclusive) all changes of the partition are returned by this and the previous polls.
+     */
+    public RowChangeBatch(List<RowChange> changes, HybridTimestamp position) {
+        this.changes = changes;
+        this.position = position;
+    }
+
+    /** Returns changes in the order of their commit timestamps. */
+    public List<RowChange> changes() {
+        return changes;
+    }
+
+    /** Returns timestamp up to which (inclusive) all changes of the partition are returned by this and the previous polls. */
+    public HybridTimestamp position() {
+        return position;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(RowChangeBatch.class, this);
+    }
+}
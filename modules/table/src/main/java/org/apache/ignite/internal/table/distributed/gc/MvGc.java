@@ -26,12 +26,12 @@ import static org.apache.ignite.internal.util.ExceptionUtils.unwrapCause;
 import static org.apache.ignite.internal.util.IgniteUtils.inBusyLockSafe;
 import static org.apache.ignite.internal.util.IgniteUtils.shutdownAndAwaitTermination;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
@@ -44,9 +44,11 @@ import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.lowwatermark.LowWatermark;
 import org.apache.ignite.internal.lowwatermark.event.ChangeLowWatermarkEventParameters;
+import org.apache.ignite.internal.metrics.sources.ThreadPoolMetricSource;
 import org.apache.ignite.internal.replicator.TablePartitionId;
 import org.apache.ignite.internal.schema.configuration.GcConfiguration;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
+import org.apache.ignite.internal.thread.InstrumentedThreadPoolExecutor;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.apache.ignite.internal.util.TrackerClosedException;
 import org.apache.ignite.lang.ErrorGroups.GarbageCollector;
@@ -60,6 +62,9 @@ import org.jetbrains.annotations.TestOnly;
 public class MvGc implements ManuallyCloseable {
     private static final IgniteLogger LOG = Loggers.forClass(MvGc.class);
 
+    /** Name of the garbage collection thread pool. */
+    public static final String POOL_NAME = "mv-gc";
+
     /** Node name. */
     private final String nodeName;
 
@@ -69,6 +74,9 @@ public class MvGc implements ManuallyCloseable {
     /** Garbage collection thread pool. */
     private volatile ExecutorService executor;
 
+    /** Metric source of the garbage collection thread pool. */
+    private volatile ThreadPoolMetricSource metricSource;
+
     /** Prevents double closing. */
     private final AtomicBoolean closeGuard = new AtomicBoolean();
 
@@ -103,19 +111,27 @@ public class MvGc implements ManuallyCloseable {
         inBusyLock(() -> {
             int threadCount = gcConfig.threads().value();
 
-            executor = new ThreadPoolExecutor(
+            var executor = new InstrumentedThreadPoolExecutor(
                     threadCount,
                     threadCount,
                     30,
                     TimeUnit.SECONDS,
                     new LinkedBlockingQueue<>(),
-                    IgniteThreadFactory.create(nodeName, "mv-gc", LOG, STORAGE_READ, STORAGE_WRITE)
+                    IgniteThreadFactory.create(nodeName, POOL_NAME, LOG, STORAGE_READ, STORAGE_WRITE)
             );
 
+            this.executor = executor;
+            metricSource = new ThreadPoolMetricSource(POOL_NAME, List.of(executor));
+
             lowWatermark.listen(LOW_WATERMARK_CHANGED, fromConsumer(this::onLwmChanged));
         });
     }
 
+    /** Returns metric source of the garbage collection thread pool, which is available once the garbage collector is started. */
+    public ThreadPoolMetricSource metricSource() {
+        return metricSource;
+    }
+
     /**
      * Adds storage for background garbage collection when updating a low watermark.
      *
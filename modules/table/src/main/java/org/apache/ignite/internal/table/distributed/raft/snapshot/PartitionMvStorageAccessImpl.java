@@ -42,6 +42,7 @@ import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.engine.MvPartitionMeta;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.storage.lease.LeaseInfo;
+import org.apache.ignite.internal.table.distributed.StorageUpdateHandler;
 import org.apache.ignite.internal.table.distributed.gc.GcUpdateHandler;
 import org.apache.ignite.internal.table.distributed.gc.MvGc;
 import org.apache.ignite.internal.table.distributed.index.IndexUpdateHandler;
@@ -62,6 +63,8 @@ public class PartitionMvStorageAccessImpl implements PartitionMvStorageAccess {
 
     private final GcUpdateHandler gcUpdateHandler;
 
+    private final StorageUpdateHandler storageUpdateHandler;
+
     private final FullStateTransferIndexChooser fullStateTransferIndexChooser;
 
     private final SchemaRegistry schemaRegistry;
@@ -76,6 +79,7 @@ public class PartitionMvStorageAccessImpl implements PartitionMvStorageAccess {
      * @param mvGc Garbage collector for multi-versioned storages and their indexes in the background.
      * @param indexUpdateHandler Index update handler.
      * @param gcUpdateHandler Gc update handler.
+     * @param storageUpdateHandler Storage update handler.
      * @param fullStateTransferIndexChooser Index chooser for full state transfer.
      * @param schemaRegistry Schema registry.
      * @param lowWatermark Low watermark.
@@ -86,6 +90,7 @@ public class PartitionMvStorageAccessImpl implements PartitionMvStorageAccess {
             MvGc mvGc,
             IndexUpdateHandler indexUpdateHandler,
             GcUpdateHandler gcUpdateHandler,
+            StorageUpdateHandler storageUpdateHandler,
             FullStateTransferIndexChooser fullStateTransferIndexChooser,
             SchemaRegistry schemaRegistry,
             LowWatermark lowWatermark
@@ -95,6 +100,7 @@ public class PartitionMvStorageAccessImpl implements PartitionMvStorageAccess {
         this.mvGc = mvGc;
         this.indexUpdateHandler = indexUpdateHandler;
         this.gcUpdateHandler = gcUpdateHandler;
+        this.storageUpdateHandler = storageUpdateHandler;
         this.fullStateTransferIndexChooser = fullStateTransferIndexChooser;
         this.schemaRegistry = schemaRegistry;
         this.lowWatermark = lowWatermark;
@@ -210,7 +216,9 @@ public class PartitionMvStorageAccessImpl implements PartitionMvStorageAccess {
     @Override
     public CompletableFuture<Void> startRebalance() {
         return mvGc.removeStorage(tablePartitionId())
-                .thenCompose(unused -> mvTableStorage.startRebalancePartition(partitionId()));
+                .thenCompose(unused -> mvTableStorage.startRebalancePartition(partitionId()))
+                // Row versions installed by the rebalance bypass the change log.
+                .thenRun(storageUpdateHandler::resetChangeLog);
     }
 
     @Override
@@ -55,9 +55,11 @@ import static org.apache.ignite.internal.util.IgniteUtils.inBusyLock;
 import static org.apache.ignite.internal.util.IgniteUtils.inBusyLockAsync;
 import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Replicator.CURSOR_CLOSE_ERR;
+import static org.apache.ignite.lang.ErrorGroups.Table.CHANGES_NOT_RETAINED_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Transactions.TX_ALREADY_FINISHED_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Transactions.TX_ALREADY_FINISHED_WITH_TIMEOUT_ERR;
 
+import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.BitSet;
@@ -94,6 +96,7 @@ import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.lowwatermark.LowWatermark;
 import org.apache.ignite.internal.network.ClusterNodeResolver;
+import org.apache.ignite.internal.network.NetworkMessage;
 import org.apache.ignite.internal.partition.replicator.FuturesCleanupResult;
 import org.apache.ignite.internal.partition.replicator.ReliableCatalogVersions;
 import org.apache.ignite.internal.partition.replicator.ReplicaPrimacy;
@@ -128,6 +131,7 @@ import org.apache.ignite.internal.partition.replicator.network.replication.ReadO
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyScanRetrieveBatchReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlySingleRowPkReplicaRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.ReadRowChangesReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteMultiRowPkReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteMultiRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteReplicaRequest;
@@ -135,8 +139,12 @@ import org.apache.ignite.internal.partition.replicator.network.replication.ReadW
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteSingleRowPkReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteSingleRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteSwapRowReplicaRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.ReplicaResultMessageUtils;
 import org.apache.ignite.internal.partition.replicator.network.replication.RequestType;
+import org.apache.ignite.internal.partition.replicator.network.replication.RowChangeBatchMessage;
+import org.apache.ignite.internal.partition.replicator.network.replication.RowChangeMessage;
 import org.apache.ignite.internal.partition.replicator.network.replication.ScanCloseReplicaRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.ScanSplitPointsReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.UpdateMinimumActiveTxBeginTimeReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.schema.ValidationSchemasSource;
 import org.apache.ignite.internal.partition.replicator.schemacompat.IncompatibleSchemaVersionException;
@@ -189,6 +197,9 @@ import org.apache.ignite.internal.table.distributed.SortedIndexLocker;
 import org.apache.ignite.internal.table.distributed.StorageUpdateHandler;
 import org.apache.ignite.internal.table.distributed.TableSchemaAwareIndexStorage;
 import org.apache.ignite.internal.table.distributed.TableUtils;
+import org.apache.ignite.internal.table.distributed.changes.PartitionChangeReader;
+import org.apache.ignite.internal.table.distributed.changes.RowChange;
+import org.apache.ignite.internal.table.distributed.changes.RowChangeBatch;
 import org.apache.ignite.internal.table.distributed.index.IndexMetaStorage;
 import org.apache.ignite.internal.table.distributed.replicator.handlers.BuildIndexReplicaRequestHandler;
 import org.apache.ignite.internal.tx.Lock;
@@ -355,6 +366,9 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
     private final VacuumTxStateReplicaRequestHandler vacuumTxStateReplicaRequestHandler;
     private final BuildIndexReplicaRequestHandler buildIndexReplicaRequestHandler;
 
+    /** Reader of the changes of the partition for table change streams. */
+    private final PartitionChangeReader changeReader;
+
     /**
      * The constructor.
      *
@@ -428,6 +442,8 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
         this.tableId = tableId;
         this.tableLockKey = new TablePartitionId(tableId, replicationGroupId.partitionId());
 
+        changeReader = new PartitionChangeReader(replicationGroupId.partitionId(), mvDataStorage, storageUpdateHandler::changeLog);
+
         this.schemaCompatValidator = new SchemaCompatibilityValidator(validationSchemasSource, catalogService, schemaSyncService);
 
         indexBuildingProcessor = new PartitionReplicaBuildIndexProcessor(busyLock, tableId, indexMetaStorage, catalogService);
@@ -527,6 +543,11 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
         }
     }
 
+    @Override
+    public @Nullable NetworkMessage toResultMessage(@Nullable Object result) {
+        return ReplicaResultMessageUtils.toResultMessage(result);
+    }
+
     /** Returns Raft-client. */
     @Override
     public RaftCommandRunner raftClient() {
@@ -575,6 +596,14 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
             return processGetEstimatedSizeRequest();
         }
 
+        if (request instanceof ReadRowChangesReplicaRequest) {
+            return processReadRowChangesRequest((ReadRowChangesReplicaRequest) request);
+        }
+
+        if (request instanceof ScanSplitPointsReplicaRequest) {
+            return processScanSplitPointsRequest((ScanSplitPointsReplicaRequest) request);
+        }
+
         if (request instanceof ChangePeersAndLearnersAsyncReplicaRequest) {
             return processChangePeersAndLearnersReplicaRequest((ChangePeersAndLearnersAsyncReplicaRequest) request);
         }
@@ -600,6 +629,113 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
         return completedFuture(mvDataStorage.estimatedSize());
     }
 
+    /**
+     * Reads changes of the partition for a table change stream. The changes are read up to a horizon, after which no row version can be
+     * committed with a lower timestamp: the horizon precedes the safe time, since commands with lower timestamps are all applied, and the
+     * begin timestamps of the transactions with write intents in the partition, since their commit timestamps follow the begin ones.
+     */
+    private CompletableFuture<RowChangeBatchMessage> processReadRowChangesRequest(ReadRowChangesReplicaRequest request) {
+        HybridTimestamp fromTimestamp = request.fromTimestamp();
+        HybridTimestamp lowWatermarkTimestamp = lowWatermark.getLowWatermark();
+
+        if (fromTimestamp != null && lowWatermarkTimestamp != null && fromTimestamp.compareTo(lowWatermarkTimestamp) < 0) {
+            return failedFuture(new IgniteInternalException(
+                    CHANGES_NOT_RETAINED_ERR,
+                    format("Changes are not retained before the low watermark [from={}, lowWatermark={}].", fromTimestamp,
+                            lowWatermarkTimestamp)
+            ));
+        }
+
+        // Safe time is read before the write intents, so that the transactions applied after the read commit after the safe time.
+        HybridTimestamp horizon = safeTime.current();
+        HybridTimestamp minPendingBeginTimestamp = storageUpdateHandler.minPendingTransactionBeginTimestamp();
+
+        if (minPendingBeginTimestamp != null && minPendingBeginTimestamp.compareTo(horizon) < 0) {
+            horizon = minPendingBeginTimestamp;
+        }
+
+        HybridTimestamp readHorizon = horizon;
+        HybridTimestamp storageTimestamp = HybridTimestamp.max(safeTime.current(), clockService.now());
+
+        return CompletableFuture.supplyAsync(() -> {
+            if (lowWatermarkTimestamp != null) {
+                storageUpdateHandler.changeLog().trim(lowWatermarkTimestamp);
+            }
+
+            RowChangeBatch batch = changeReader.read(fromTimestamp, readHorizon, storageTimestamp, request.batchSize());
+
+            var changes = new ArrayList<RowChangeMessage>(batch.changes().size());
+
+            for (RowChange change : batch.changes()) {
+                changes.add(PARTITION_REPLICATION_MESSAGES_FACTORY.rowChangeMessage()
+                        .changeType(change.type().ordinal())
+                        .commitTimestamp(change.commitTimestamp())
+                        .row(binaryRowMessage(change.row()))
+                        .build());
+            }
+
+            return PARTITION_REPLICATION_MESSAGES_FACTORY.rowChangeBatchMessage()
+                    .changes(changes)
+                    .position(batch.position())
+                    .build();
+        }, scanRequestExecutor);
+    }
+
+    private CompletableFuture<List<UUID>> processScanSplitPointsRequest(ScanSplitPointsReplicaRequest request) {
+        return CompletableFuture.supplyAsync(() -> scanSplitPoints(request.splits()), scanRequestExecutor);
+    }
+
+    /**
+     * Returns row ids splitting the partition into ranges for independent read-only scans. Most significant bits of generated row ids hold
+     * the time of the insertion of a row, so the range of the most significant bits between the lowest and the highest row id of the
+     * partition is split into equal parts, which hold approximately equal numbers of rows unless the insertion rate fluctuates a lot.
+     *
+     * @param splits Desired number of ranges.
+     * @return Row id UUIDs in ascending order, each of them is the lower bound of the next range. Might hold fewer than
+     *      {@code splits - 1} elements if the partition is small.
+     */
+    private List<UUID> scanSplitPoints(int splits) {
+        RowId lowest = mvDataStorage.closestRowId(RowId.lowestRowId(partId()));
+
+        if (lowest == null || splits <= 1) {
+            return List.of();
+        }
+
+        // Binary search of the highest most significant bits of the row ids, every probe is a single lookup in the storage.
+        long lo = lowest.mostSignificantBits();
+        long hi = Long.MAX_VALUE;
+
+        while (lo < hi) {
+            long mid = lo + ((hi - lo) >>> 1) + 1;
+
+            RowId closest = mvDataStorage.closestRowId(new RowId(partId(), mid, Long.MIN_VALUE));
+
+            if (closest == null) {
+                hi = mid - 1;
+            } else {
+                lo = closest.mostSignificantBits();
+            }
+        }
+
+        BigInteger min = BigInteger.valueOf(lowest.mostSignificantBits());
+        BigInteger range = BigInteger.valueOf(lo).subtract(min).add(BigInteger.ONE);
+
+        var splitPoints = new ArrayList<UUID>(splits - 1);
+        long previous = lowest.mostSignificantBits();
+
+        for (int i = 1; i < splits; i++) {
+            long msb = min.add(range.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(splits))).longValueExact();
+
+            if (msb > previous) {
+                splitPoints.add(new UUID(msb, Long.MIN_VALUE));
+
+                previous = msb;
+            }
+        }
+
+        return splitPoints;
+    }
+
     private CompletableFuture<Void> processChangePeersAndLearnersReplicaRequest(ChangePeersAndLearnersAsyncReplicaRequest request) {
         TablePartitionId replicaGrpId = (TablePartitionId) request.groupId().asReplicationGroupId();
 
@@ -843,7 +979,15 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
 
         return safeReadFuture
                 .thenCompose(
-                        unused -> retrieveExactEntriesUntilCursorEmpty(txId, request.coordinatorId(), readTimestamp, cursorId, batchCount)
+                        unused -> retrieveExactEntriesUntilCursorEmpty(
+                                txId,
+                                request.coordinatorId(),
+                                readTimestamp,
+                                request.lowerRowId() == null ? null : new RowId(partId(), request.lowerRowId()),
+                                request.upperRowId() == null ? null : new RowId(partId(), request.upperRowId()),
+                                cursorId,
+                                batchCount
+                        )
                 );
     }
 
@@ -853,6 +997,8 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
      * @param txId Transaction id is used for RW only.
      * @param txCoordinatorId Transaction coordinator id.
      * @param readTimestamp Timestamp of the moment when that moment when the data will be extracted.
+     * @param lowerBound Lower bound of row ids to scan, inclusive, {@code null} to scan from the beginning of the partition.
+     * @param upperBound Upper bound of row ids to scan, exclusive, {@code null} to scan to the end of the partition.
      * @param cursorId Cursor id.
      * @param count Amount of entries which sill be extracted.
      * @return Result future.
@@ -861,6 +1007,8 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
             UUID txId,
             UUID txCoordinatorId,
             @Nullable HybridTimestamp readTimestamp,
+            @Nullable RowId lowerBound,
+            @Nullable RowId upperBound,
             FullyQualifiedResourceId cursorId,
             int count
     ) {
@@ -869,7 +1017,7 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
                         cursorId,
                         txCoordinatorId,
                         () -> new CursorResource(
-                                mvDataStorage.scan(readTimestamp == null ? HybridTimestamp.MAX_VALUE : readTimestamp)
+                                scanPartition(readTimestamp == null ? HybridTimestamp.MAX_VALUE : readTimestamp, lowerBound, upperBound)
                         )
                 ).cursor();
 
@@ -903,7 +1051,15 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
             }
 
             if (rows.size() < count && cursor.hasNext()) {
-                return retrieveExactEntriesUntilCursorEmpty(txId, txCoordinatorId, readTimestamp, cursorId, count - rows.size())
+                return retrieveExactEntriesUntilCursorEmpty(
+                        txId,
+                        txCoordinatorId,
+                        readTimestamp,
+                        lowerBound,
+                        upperBound,
+                        cursorId,
+                        count - rows.size()
+                )
                         .thenApply(binaryRows -> {
                             rows.addAll(binaryRows);
 
@@ -928,7 +1084,7 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
             FullyQualifiedResourceId cursorId,
             int count
     ) {
-        return retrieveExactEntriesUntilCursorEmpty(txId, txCoordinatorId, null, cursorId, count).thenCompose(rows -> {
+        return retrieveExactEntriesUntilCursorEmpty(txId, txCoordinatorId, null, null, null, cursorId, count).thenCompose(rows -> {
             if (nullOrEmpty(rows)) {
                 return emptyListCompletedFuture();
             }
@@ -3506,6 +3662,14 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
         indexBuildingProcessor.onShutdown();
     }
 
+    private PartitionTimestampCursor scanPartition(HybridTimestamp timestamp, @Nullable RowId lowerBound, @Nullable RowId upperBound) {
+        if (lowerBound == null && upperBound == null) {
+            return mvDataStorage.scan(timestamp);
+        }
+
+        return mvDataStorage.scan(timestamp, lowerBound == null ? RowId.lowestRowId(partId()) : lowerBound, upperBound);
+    }
+
     private int partId() {
         return replicationGroupId.partitionId();
     }
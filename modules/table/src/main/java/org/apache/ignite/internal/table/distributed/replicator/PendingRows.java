@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.table.distributed.replicator;
 
+import static org.apache.ignite.internal.tx.TransactionIds.beginTimestamp;
+
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -25,7 +27,9 @@ import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.storage.RowId;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A container for rows that were inserted, updated or removed.
@@ -88,4 +92,23 @@ public class PendingRows {
         return pendingRows == null ? EMPTY_SET : pendingRows;
     }
 
+    /**
+     * Returns the minimum begin timestamp among the transactions with pending rows.
+     *
+     * @return Begin timestamp or {@code null} if there are no pending rows.
+     */
+    public @Nullable HybridTimestamp minBeginTimestamp() {
+        HybridTimestamp min = null;
+
+        for (UUID txId : txsPendingRowIds.keySet()) {
+            HybridTimestamp beginTimestamp = beginTimestamp(txId);
+
+            if (min == null || beginTimestamp.compareTo(min) < 0) {
+                min = beginTimestamp;
+            }
+        }
+
+        return min;
+    }
+
 }
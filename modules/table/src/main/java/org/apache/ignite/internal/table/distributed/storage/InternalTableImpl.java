@@ -45,6 +45,18 @@ import static org.apache.ignite.internal.partition.replicator.network.replicatio
 import static org.apache.ignite.internal.replicator.message.ReplicaMessageUtils.toReplicationGroupIdMessage;
 import static org.apache.ignite.internal.table.distributed.TableUtils.isDirectFlowApplicableTx;
 import static org.apache.ignite.internal.table.distributed.storage.RowBatch.allResultFutures;
+import static org.apache.ignite.internal.table.metrics.TableMetricSource.Operation.DELETE;
+import static org.apache.ignite.internal.table.metrics.TableMetricSource.Operation.DELETE_ALL;
+import static org.apache.ignite.internal.table.metrics.TableMetricSource.Operation.GET;
+import static org.apache.ignite.internal.table.metrics.TableMetricSource.Operation.GET_ALL;
+import static org.apache.ignite.internal.table.metrics.TableMetricSource.Operation.GET_AND_DELETE;
+import static org.apache.ignite.internal.table.metrics.TableMetricSource.Operation.GET_AND_PUT;
+import static org.apache.ignite.internal.table.metrics.TableMetricSource.Operation.GET_AND_REPLACE;
+import static org.apache.ignite.internal.table.metrics.TableMetricSource.Operation.INSERT;
+import static org.apache.ignite.internal.table.metrics.TableMetricSource.Operation.INSERT_ALL;
+import static org.apache.ignite.internal.table.metrics.TableMetricSource.Operation.PUT;
+import static org.apache.ignite.internal.table.metrics.TableMetricSource.Operation.PUT_ALL;
+import static org.apache.ignite.internal.table.metrics.TableMetricSource.Operation.REPLACE;
 import static org.apache.ignite.internal.util.CompletableFutures.completedOrFailedFuture;
 import static org.apache.ignite.internal.util.CompletableFutures.emptyListCompletedFuture;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
@@ -98,7 +110,10 @@ import org.apache.ignite.internal.partition.replicator.network.replication.ReadW
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteMultiRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteScanRetrieveBatchReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.RequestType;
+import org.apache.ignite.internal.partition.replicator.network.replication.RowChangeBatchMessage;
+import org.apache.ignite.internal.partition.replicator.network.replication.RowChangeMessage;
 import org.apache.ignite.internal.partition.replicator.network.replication.ScanCloseReplicaRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.ScanSplitPointsReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.SingleRowPkReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.SingleRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.SwapRowReplicaRequest;
@@ -122,7 +137,11 @@ import org.apache.ignite.internal.schema.BinaryTuplePrefix;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.table.StreamerReceiverRunner;
+import org.apache.ignite.internal.table.distributed.changes.RowChange;
+import org.apache.ignite.internal.table.distributed.changes.RowChangeBatch;
 import org.apache.ignite.internal.table.distributed.storage.PartitionScanPublisher.InflightBatchRequestTracker;
+import org.apache.ignite.internal.table.metrics.TableMetricSource;
+import org.apache.ignite.internal.table.metrics.TableMetricSource.Operation;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.tx.PendingTxPartitionEnlistment;
 import org.apache.ignite.internal.tx.TransactionIds;
@@ -135,6 +154,7 @@ import org.apache.ignite.internal.util.PendingComparableValuesTracker;
 import org.apache.ignite.internal.utils.PrimaryReplica;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.network.ClusterNode;
+import org.apache.ignite.table.ChangeEventType;
 import org.apache.ignite.table.QualifiedName;
 import org.apache.ignite.table.QualifiedNameHelper;
 import org.apache.ignite.tx.TransactionException;
@@ -157,6 +177,9 @@ public class InternalTableImpl implements InternalTable {
     /** Replica messages factory. */
     private static final ReplicaMessagesFactory REPLICA_MESSAGES_FACTORY = new ReplicaMessagesFactory();
 
+    /** Start time of an operation, which is not recorded to the table metrics. */
+    private static final long UNTRACKED_OPERATION_START = Long.MIN_VALUE;
+
     /** Partitions. */
     private final int partitions;
 
@@ -214,6 +237,9 @@ public class InternalTableImpl implements InternalTable {
     /** Default read-only transaction timeout. */
     private final Supplier<Long> defaultReadTxTimeout;
 
+    /** Metric source of key-value and record operations. */
+    private final TableMetricSource metricSource;
+
     /**
      * Constructor.
      *
@@ -270,6 +296,13 @@ public class InternalTableImpl implements InternalTable {
         this.streamerReceiverRunner = streamerReceiverRunner;
         this.defaultRwTxTimeout = defaultRwTxTimeout;
         this.defaultReadTxTimeout = defaultReadTxTimeout;
+
+        metricSource = new TableMetricSource(tableId);
+    }
+
+    /** Returns the metric source of key-value and record operations of the table. */
+    public TableMetricSource metricSource() {
+        return metricSource;
     }
 
     /** {@inheritDoc} */
@@ -306,6 +339,34 @@ public class InternalTableImpl implements InternalTable {
         this.tableName = QualifiedNameHelper.fromNormalized(tableName.schemaName(), newName);
     }
 
+    /**
+     * Records the operation in the table metrics once the future completes. The start time is meant to be taken in the argument list
+     * right before the operation future, so that the operation itself is measured.
+     *
+     * @param op Operation.
+     * @param rows Number of rows in the operation.
+     * @param startNanos Time the operation started, see {@link #operationStartNanos()}.
+     * @param fut Operation future.
+     * @return The operation future.
+     */
+    private <T> CompletableFuture<T> trackOperation(Operation op, int rows, long startNanos, CompletableFuture<T> fut) {
+        if (startNanos != UNTRACKED_OPERATION_START) {
+            fut.whenComplete((res, err) -> metricSource.onOperation(op, rows, System.nanoTime() - startNanos));
+        }
+
+        return fut;
+    }
+
+    /**
+     * Returns the start time of an operation, which is passed to {@link #trackOperation}. The clock is not read when the table metrics
+     * are disabled.
+     *
+     * @return Current time in terms of {@link System#nanoTime()} or {@link #UNTRACKED_OPERATION_START} if the metrics are disabled.
+     */
+    private long operationStartNanos() {
+        return metricSource.enabled() ? System.nanoTime() : UNTRACKED_OPERATION_START;
+    }
+
     /**
      * Enlists a single row into a transaction.
      *
@@ -678,7 +739,7 @@ public class InternalTableImpl implements InternalTable {
                     sneakyThrow(e);
                 }
 
-                return (R) r.result();
+                return (R) r.resultValue();
             });
         } else {
             if (write) { // Track only write requests from explicit transactions.
@@ -921,6 +982,10 @@ public class InternalTableImpl implements InternalTable {
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<BinaryRow> get(BinaryRowEx keyRow, @Nullable InternalTransaction tx) {
+        return trackOperation(GET, 1, operationStartNanos(), getInternal(keyRow, tx));
+    }
+
+    private CompletableFuture<BinaryRow> getInternal(BinaryRowEx keyRow, @Nullable InternalTransaction tx) {
         checkTransactionFinishStarted(tx);
 
         if (isDirectFlowApplicableTx(tx)) {
@@ -1019,6 +1084,10 @@ public class InternalTableImpl implements InternalTable {
             return emptyListCompletedFuture();
         }
 
+        return trackOperation(GET_ALL, keyRows.size(), operationStartNanos(), getAllInternal(keyRows, tx));
+    }
+
+    private CompletableFuture<List<BinaryRow>> getAllInternal(Collection<BinaryRowEx> keyRows, InternalTransaction tx) {
         if (isDirectFlowApplicableTx(tx) && isSinglePartitionBatch(keyRows)) {
             return evaluateReadOnlyPrimaryNode(
                     tx,
@@ -1154,7 +1223,7 @@ public class InternalTableImpl implements InternalTable {
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> upsert(BinaryRowEx row, @Nullable InternalTransaction tx) {
-        return enlistInTx(
+        return trackOperation(PUT, 1, operationStartNanos(), enlistInTx(
                 row,
                 tx,
                 (txo, groupId, enlistmentConsistencyToken) -> TABLE_MESSAGES_FACTORY.readWriteSingleRowReplicaRequest()
@@ -1172,19 +1241,19 @@ public class InternalTableImpl implements InternalTable {
                         .skipDelayedAck(txo.remote())
                         .build(),
                 (res, req) -> false
-        );
+        ));
     }
 
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> upsertAll(Collection<BinaryRowEx> rows, @Nullable InternalTransaction tx) {
-        return enlistInTx(
+        return trackOperation(PUT_ALL, rows.size(), operationStartNanos(), enlistInTx(
                 rows,
                 tx,
                 this::upsertAllInternal,
                 RowBatch::allResultFutures,
                 (res, req) -> false
-        );
+        ));
     }
 
     /** {@inheritDoc} */
@@ -1249,7 +1318,7 @@ public class InternalTableImpl implements InternalTable {
     public CompletableFuture<BinaryRow> getAndUpsert(BinaryRowEx row, InternalTransaction tx) {
         checkTransactionFinishStarted(tx);
 
-        return enlistInTx(
+        return trackOperation(GET_AND_PUT, 1, operationStartNanos(), enlistInTx(
                 row,
                 tx,
                 (txo, groupId, enlistmentConsistencyToken) -> TABLE_MESSAGES_FACTORY.readWriteSingleRowReplicaRequest()
@@ -1267,13 +1336,13 @@ public class InternalTableImpl implements InternalTable {
                         .skipDelayedAck(txo.remote())
                         .build(),
                 (res, req) -> false
-        );
+        ));
     }
 
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Boolean> insert(BinaryRowEx row, InternalTransaction tx) {
-        return enlistInTx(
+        return trackOperation(INSERT, 1, operationStartNanos(), enlistInTx(
                 row,
                 tx,
                 (txo, groupId, enlistmentConsistencyToken) -> TABLE_MESSAGES_FACTORY.readWriteSingleRowReplicaRequest()
@@ -1291,13 +1360,13 @@ public class InternalTableImpl implements InternalTable {
                         .skipDelayedAck(txo.remote())
                         .build(),
                 (res, req) -> !res
-        );
+        ));
     }
 
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<List<BinaryRow>> insertAll(Collection<BinaryRowEx> rows, InternalTransaction tx) {
-        return enlistInTx(
+        return trackOperation(INSERT_ALL, rows.size(), operationStartNanos(), enlistInTx(
                 rows,
                 tx,
                 (keyRows, txo, groupId, enlistmentConsistencyToken, full) ->
@@ -1320,7 +1389,7 @@ public class InternalTableImpl implements InternalTable {
                     // All values are null, this means nothing was deleted.
                     return true;
                 }
-        );
+        ));
     }
 
     private ReadWriteMultiRowReplicaRequest readWriteMultiRowReplicaRequest(
@@ -1354,7 +1423,7 @@ public class InternalTableImpl implements InternalTable {
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Boolean> replace(BinaryRowEx row, InternalTransaction tx) {
-        return enlistInTx(
+        return trackOperation(REPLACE, 1, operationStartNanos(), enlistInTx(
                 row,
                 tx,
                 (txo, groupId, enlistmentConsistencyToken) -> TABLE_MESSAGES_FACTORY.readWriteSingleRowReplicaRequest()
@@ -1372,7 +1441,7 @@ public class InternalTableImpl implements InternalTable {
                         .skipDelayedAck(txo.remote())
                         .build(),
                 (res, req) -> !res
-        );
+        ));
     }
 
     /** {@inheritDoc} */
@@ -1381,7 +1450,7 @@ public class InternalTableImpl implements InternalTable {
         assert oldRow.schemaVersion() == newRow.schemaVersion()
                 : "Mismatching schema versions: old " + oldRow.schemaVersion() + ", new " + newRow.schemaVersion();
 
-        return enlistInTx(
+        return trackOperation(REPLACE, 1, operationStartNanos(), enlistInTx(
                 newRow,
                 tx,
                 (txo, groupId, enlistmentConsistencyToken) -> TABLE_MESSAGES_FACTORY.readWriteSwapRowReplicaRequest()
@@ -1400,7 +1469,7 @@ public class InternalTableImpl implements InternalTable {
                         .skipDelayedAck(txo.remote())
                         .build(),
                 (res, req) -> !res
-        );
+        ));
     }
 
     /** {@inheritDoc} */
@@ -1408,7 +1477,7 @@ public class InternalTableImpl implements InternalTable {
     public CompletableFuture<BinaryRow> getAndReplace(BinaryRowEx row, InternalTransaction tx) {
         checkTransactionFinishStarted(tx);
 
-        return enlistInTx(
+        return trackOperation(GET_AND_REPLACE, 1, operationStartNanos(), enlistInTx(
                 row,
                 tx,
                 (txo, groupId, enlistmentConsistencyToken) -> TABLE_MESSAGES_FACTORY.readWriteSingleRowReplicaRequest()
@@ -1426,13 +1495,13 @@ public class InternalTableImpl implements InternalTable {
                         .skipDelayedAck(txo.remote())
                         .build(),
                 (res, req) -> res == null
-        );
+        ));
     }
 
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Boolean> delete(BinaryRowEx keyRow, InternalTransaction tx) {
-        return enlistInTx(
+        return trackOperation(DELETE, 1, operationStartNanos(), enlistInTx(
                 keyRow,
                 tx,
                 (txo, groupId, enlistmentConsistencyToken) -> TABLE_MESSAGES_FACTORY.readWriteSingleRowPkReplicaRequest()
@@ -1450,13 +1519,13 @@ public class InternalTableImpl implements InternalTable {
                         .skipDelayedAck(txo.remote())
                         .build(),
                 (res, req) -> !res
-        );
+        ));
     }
 
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Boolean> deleteExact(BinaryRowEx oldRow, InternalTransaction tx) {
-        return enlistInTx(
+        return trackOperation(DELETE, 1, operationStartNanos(), enlistInTx(
                 oldRow,
                 tx,
                 (txo, groupId, enlistmentConsistencyToken) -> TABLE_MESSAGES_FACTORY.readWriteSingleRowReplicaRequest()
@@ -1474,7 +1543,7 @@ public class InternalTableImpl implements InternalTable {
                         .skipDelayedAck(txo.remote())
                         .build(),
                 (res, req) -> !res
-        );
+        ));
     }
 
     /** {@inheritDoc} */
@@ -1482,7 +1551,7 @@ public class InternalTableImpl implements InternalTable {
     public CompletableFuture<BinaryRow> getAndDelete(BinaryRowEx row, InternalTransaction tx) {
         checkTransactionFinishStarted(tx);
 
-        return enlistInTx(
+        return trackOperation(GET_AND_DELETE, 1, operationStartNanos(), enlistInTx(
                 row,
                 tx,
                 (txo, groupId, enlistmentConsistencyToken) -> TABLE_MESSAGES_FACTORY.readWriteSingleRowPkReplicaRequest()
@@ -1500,13 +1569,13 @@ public class InternalTableImpl implements InternalTable {
                         .skipDelayedAck(txo.remote())
                         .build(),
                 (res, req) -> res == null
-        );
+        ));
     }
 
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<List<BinaryRow>> deleteAll(Collection<BinaryRowEx> rows, InternalTransaction tx) {
-        return enlistInTx(
+        return trackOperation(DELETE_ALL, rows.size(), operationStartNanos(), enlistInTx(
                 rows,
                 tx,
                 (keyRows0, txo, groupId, enlistmentConsistencyToken, full) ->
@@ -1522,7 +1591,7 @@ public class InternalTableImpl implements InternalTable {
                     // All values are null, this means nothing was deleted.
                     return true;
                 }
-        );
+        ));
     }
 
     /** {@inheritDoc} */
@@ -1531,7 +1600,7 @@ public class InternalTableImpl implements InternalTable {
             Collection<BinaryRowEx> rows,
             InternalTransaction tx
     ) {
-        return enlistInTx(
+        return trackOperation(DELETE_ALL, rows.size(), operationStartNanos(), enlistInTx(
                 rows,
                 tx,
                 (keyRows0, txo, groupId, enlistmentConsistencyToken, full) ->
@@ -1555,7 +1624,7 @@ public class InternalTableImpl implements InternalTable {
                     // All values are null, this means nothing was deleted.
                     return true;
                 }
-        );
+        ));
     }
 
     @Override
@@ -1569,7 +1638,21 @@ public class InternalTableImpl implements InternalTable {
             @Nullable BitSet columnsToInclude,
             UUID txCoordinatorId
     ) {
-        return readOnlyScan(partId, txId, readTimestamp, recipientNode, indexId, key, null, null, 0, columnsToInclude, txCoordinatorId);
+        return readOnlyScan(
+                partId,
+                txId,
+                readTimestamp,
+                recipientNode,
+                indexId,
+                key,
+                null,
+                null,
+                0,
+                columnsToInclude,
+                null,
+                null,
+                txCoordinatorId
+        );
     }
 
     @Override
@@ -1622,6 +1705,35 @@ public class InternalTableImpl implements InternalTable {
                 upperBound,
                 flags,
                 columnsToInclude,
+                null,
+                null,
+                txCoordinatorId
+        );
+    }
+
+    @Override
+    public Publisher<BinaryRow> scan(
+            int partId,
+            UUID txId,
+            HybridTimestamp readTimestamp,
+            ClusterNode recipientNode,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId,
+            UUID txCoordinatorId
+    ) {
+        return readOnlyScan(
+                partId,
+                txId,
+                readTimestamp,
+                recipientNode,
+                null,
+                null,
+                null,
+                null,
+                0,
+                null,
+                lowerRowId,
+                upperRowId,
                 txCoordinatorId
         );
     }
@@ -1678,12 +1790,16 @@ public class InternalTableImpl implements InternalTable {
             @Nullable BinaryTuplePrefix upperBound,
             int flags,
             @Nullable BitSet columnsToInclude,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId,
             UUID txCoordinatorId
     ) {
         validatePartitionIndex(partId);
 
         ReplicationGroupId replicationGroupId = targetReplicationGroupId(partId);
 
+        metricSource.onScan();
+
         return new PartitionScanPublisher<>(new ReadOnlyInflightBatchRequestTracker(transactionInflights, txId)) {
             @Override
             protected CompletableFuture<Collection<BinaryRow>> retrieveBatch(long scanId, int batchSize) {
@@ -1700,6 +1816,8 @@ public class InternalTableImpl implements InternalTable {
                         .upperBoundPrefix(binaryTupleMessage(upperBound))
                         .flags(flags)
                         .columnsToInclude(columnsToInclude)
+                        .lowerRowId(lowerRowId)
+                        .upperRowId(upperRowId)
                         .coordinatorId(txCoordinatorId)
                         .build();
 
@@ -1744,6 +1862,8 @@ public class InternalTableImpl implements InternalTable {
 
         InternalTransaction actualTx = startImplicitRwTxIfNeeded(tx);
 
+        metricSource.onScan();
+
         return new PartitionScanPublisher<>(READ_WRITE_INFLIGHT_BATCH_REQUEST_TRACKER) {
             @Override
             protected CompletableFuture<Collection<BinaryRow>> retrieveBatch(long scanId, int batchSize) {
@@ -1806,6 +1926,8 @@ public class InternalTableImpl implements InternalTable {
     ) {
         ReplicationGroupId replicationGroupId = targetReplicationGroupId(partId);
 
+        metricSource.onScan();
+
         return new PartitionScanPublisher<>(READ_WRITE_INFLIGHT_BATCH_REQUEST_TRACKER) {
             @Override
             protected CompletableFuture<Collection<BinaryRow>> retrieveBatch(long scanId, int batchSize) {
@@ -2231,6 +2353,51 @@ public class InternalTableImpl implements InternalTable {
                 .thenApply(v -> Arrays.stream(invokeFutures).mapToLong(f -> (Long) f.join()).sum());
     }
 
+    @Override
+    public CompletableFuture<List<UUID>> scanSplitPoints(int partId, ClusterNode recipientNode, int splits) {
+        validatePartitionIndex(partId);
+
+        ScanSplitPointsReplicaRequest request = TABLE_MESSAGES_FACTORY.scanSplitPointsReplicaRequest()
+                .groupId(serializeReplicationGroupId(targetReplicationGroupId(partId)))
+                .tableId(tableId)
+                .splits(splits)
+                .build();
+
+        return replicaSvc.invoke(recipientNode, request);
+    }
+
+    @Override
+    public CompletableFuture<RowChangeBatch> readChanges(int partId, @Nullable HybridTimestamp fromTimestamp, int batchSize) {
+        HybridTimestamp now = clockService.current();
+
+        ReplicationGroupId replicaGroupId = targetReplicationGroupId(partId);
+        ReplicationGroupIdMessage partitionIdMessage = serializeReplicationGroupId(replicaGroupId);
+
+        Function<ReplicaMeta, ReplicaRequest> requestFactory = replicaMeta ->
+                TABLE_MESSAGES_FACTORY.readRowChangesReplicaRequest()
+                        .groupId(partitionIdMessage)
+                        .tableId(tableId)
+                        .enlistmentConsistencyToken(enlistmentConsistencyToken(replicaMeta))
+                        .timestamp(now)
+                        .fromTimestamp(fromTimestamp)
+                        .batchSize(batchSize)
+                        .build();
+
+        return this.<RowChangeBatchMessage>sendToPrimaryWithRetry(replicaGroupId, now, 5, requestFactory)
+                .thenApply(InternalTableImpl::toRowChangeBatch);
+    }
+
+    private static RowChangeBatch toRowChangeBatch(RowChangeBatchMessage message) {
+        ChangeEventType[] types = ChangeEventType.values();
+        var changes = new ArrayList<RowChange>(message.changes().size());
+
+        for (RowChangeMessage change : message.changes()) {
+            changes.add(new RowChange(types[change.changeType()], change.commitTimestamp(), change.row().asBinaryRow()));
+        }
+
+        return new RowChangeBatch(changes, message.position());
+    }
+
     @Override
     public final ReplicationGroupId targetReplicationGroupId(int partitionIndex) {
         if (enabledColocation()) {
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.HistogramMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.Metric;
+
+/**
+ * Metric source, which provides metrics of key-value and record operations of a table issued by the local node. Operations of
+ * embedded views and of thin clients connected to the node are both accounted, since both go through the internal table.
+ *
+ * <p>The source is created per table and can be enabled or disabled per table through the metric manager. When the source is
+ * disabled, the only cost of an operation is a volatile read.
+ */
+public class TableMetricSource extends AbstractMetricSource<TableMetricSource.Holder> {
+    /** Prefix of the source name, followed by the table ID. */
+    public static final String NAME_PREFIX = "table.";
+
+    /** Bounds of the batch size histograms. */
+    private static final long[] BATCH_SIZE_BOUNDS = {1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1_024, 4_096, 16_384};
+
+    /** Table operation kinds. */
+    public enum Operation {
+        GET("Get", "single row reads", false),
+        GET_ALL("GetAll", "multi row reads", true),
+        PUT("Put", "single row upserts", false),
+        PUT_ALL("PutAll", "multi row upserts", true),
+        GET_AND_PUT("GetAndPut", "single row upserts returning the previous row", false),
+        INSERT("Insert", "single row inserts", false),
+        INSERT_ALL("InsertAll", "multi row inserts", true),
+        REPLACE("Replace", "single row replaces, including replaces of an exact row", false),
+        GET_AND_REPLACE("GetAndReplace", "single row replaces returning the previous row", false),
+        DELETE("Delete", "single row deletes, including deletes of an exact row", false),
+        GET_AND_DELETE("GetAndDelete", "single row deletes returning the deleted row", false),
+        DELETE_ALL("DeleteAll", "multi row deletes, including deletes of exact rows", true);
+
+        private final String metricName;
+
+        private final String description;
+
+        private final boolean batch;
+
+        Operation(String metricName, String description, boolean batch) {
+            this.metricName = metricName;
+            this.description = description;
+            this.batch = batch;
+        }
+    }
+
+    /** Cached array of operations. */
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    /**
+     * Constructor.
+     *
+     * @param tableId Table ID.
+     */
+    public TableMetricSource(int tableId) {
+        super(NAME_PREFIX + tableId);
+    }
+
+    /**
+     * Records a completed operation.
+     *
+     * @param op Operation.
+     * @param rows Number of rows in the batch, ignored for single row operations.
+     * @param durationNanos Time the operation took.
+     */
+    public void onOperation(Operation op, int rows, long durationNanos) {
+        Holder h = holder();
+
+        if (h != null) {
+            int idx = op.ordinal();
+
+            h.counts[idx].increment();
+            h.latencies[idx].add(durationNanos / 1_000);
+
+            if (op.batch) {
+                h.batchSizes[idx].add(rows);
+            }
+        }
+    }
+
+    /** Records a started scan or index lookup of a partition. */
+    public void onScan() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.scans.increment();
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder. */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final LongAdderMetric[] counts = new LongAdderMetric[OPERATIONS.length];
+
+        private final HistogramMetric[] latencies = new HistogramMetric[OPERATIONS.length];
+
+        private final DistributionMetric[] batchSizes = new DistributionMetric[OPERATIONS.length];
+
+        private final LongAdderMetric scans = new LongAdderMetric("Scans", "Number of started partition scans and index lookups");
+
+        private final List<Metric> metrics = new ArrayList<>();
+
+        private Holder() {
+            for (Operation op : OPERATIONS) {
+                int idx = op.ordinal();
+
+                counts[idx] = new LongAdderMetric(op.metricName + "s", "Number of " + op.description);
+                latencies[idx] = new HistogramMetric(
+                        op.metricName + "Time",
+                        "Histogram of the latency of " + op.description + " in microseconds"
+                );
+
+                metrics.add(counts[idx]);
+                metrics.add(latencies[idx]);
+
+                if (op.batch) {
+                    batchSizes[idx] = new DistributionMetric(
+                            op.metricName + "BatchSize",
+                            "Histogram of the number of rows in " + op.description,
+                            BATCH_SIZE_BOUNDS
+                    );
+
+                    metrics.add(batchSizes[idx]);
+                }
+            }
+
+            metrics.add(scans);
+        }
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return metrics;
+        }
+    }
+}
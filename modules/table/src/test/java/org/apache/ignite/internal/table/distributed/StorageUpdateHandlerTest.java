@@ -18,6 +18,8 @@
 package org.apache.ignite.internal.table.distributed;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doReturn;
@@ -51,6 +53,7 @@ import org.apache.ignite.internal.storage.index.StorageSortedIndexDescriptor.Sto
 import org.apache.ignite.internal.storage.index.impl.TestHashIndexStorage;
 import org.apache.ignite.internal.storage.index.impl.TestSortedIndexStorage;
 import org.apache.ignite.internal.storage.util.LockByRowId;
+import org.apache.ignite.internal.table.distributed.changes.PartitionChangeLog;
 import org.apache.ignite.internal.table.distributed.index.IndexUpdateHandler;
 import org.apache.ignite.internal.table.impl.DummyInternalTableImpl;
 import org.apache.ignite.internal.type.NativeTypes;
@@ -219,4 +222,40 @@ public class StorageUpdateHandlerTest extends BaseMvStoragesTest {
         assertEquals(row3, result3.binaryRow());
     }
 
+    @Test
+    void testChangeLogRecordsCommitsAfterItsCreation() {
+        TablePartitionId partitionId = new TablePartitionId(333, PARTITION_ID);
+
+        updateAndCommit(partitionId, binaryRow(new TestKey(1, "foo1"), new TestValue(2, "bar")));
+
+        PartitionChangeLog changeLog = storageUpdateHandler.changeLog();
+
+        assertEquals(0, changeLog.size());
+
+        updateAndCommit(partitionId, binaryRow(new TestKey(3, "foo3"), new TestValue(4, "baz")));
+
+        assertSame(changeLog, storageUpdateHandler.changeLog());
+        assertEquals(1, changeLog.size());
+
+        storageUpdateHandler.resetChangeLog();
+
+        assertNotSame(changeLog, storageUpdateHandler.changeLog());
+        assertEquals(0, storageUpdateHandler.changeLog().size());
+    }
+
+    private void updateAndCommit(TablePartitionId partitionId, BinaryRow row) {
+        UUID txUuid = UUID.randomUUID();
+
+        storageUpdateHandler.handleUpdateAll(
+                txUuid,
+                Map.of(UUID.randomUUID(), new TimedBinaryRow(row, null)),
+                partitionId,
+                true,
+                null,
+                null,
+                null
+        );
+
+        storageUpdateHandler.switchWriteIntents(txUuid, true, CLOCK.now(), null);
+    }
 }
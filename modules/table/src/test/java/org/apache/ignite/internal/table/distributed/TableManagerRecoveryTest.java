@@ -467,7 +467,8 @@ public class TableManagerRecoveryTest extends IgniteAbstractTest {
                 logSyncer,
                 partitionReplicaLifecycleManager,
                 minTimeCollectorService,
-                systemDistributedConfiguration
+                systemDistributedConfiguration,
+                mock(MetricManager.class)
         ) {
 
             @Override
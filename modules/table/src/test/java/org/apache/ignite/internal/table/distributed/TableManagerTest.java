@@ -901,7 +901,8 @@ public class TableManagerTest extends IgniteAbstractTest {
                 logSyncer,
                 partitionReplicaLifecycleManager,
                 new MinimumRequiredTimeCollectorServiceImpl(),
-                systemDistributedConfiguration
+                systemDistributedConfiguration,
+                mock(MetricManager.class)
         ) {
 
             @Override
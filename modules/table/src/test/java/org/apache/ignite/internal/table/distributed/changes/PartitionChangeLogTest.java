@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.changes;
+
+import static java.util.stream.Collectors.toList;
+import static org.apache.ignite.internal.hlc.HybridTimestamp.hybridTimestamp;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.table.distributed.changes.PartitionChangeLog.Entry;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+
+/** For {@link PartitionChangeLog} testing. */
+public class PartitionChangeLogTest extends BaseIgniteAbstractTest {
+    private static final int PARTITION_ID = 0;
+
+    @Test
+    void testReadRange() {
+        var log = new PartitionChangeLog();
+
+        log.onCommitted(new RowId(PARTITION_ID), hybridTimestamp(30));
+        log.onCommitted(new RowId(PARTITION_ID), hybridTimestamp(10));
+        log.onCommitted(new RowId(PARTITION_ID), hybridTimestamp(20));
+
+        assertThat(timestamps(log.read(hybridTimestamp(10), hybridTimestamp(30), 10)), contains(20L, 30L));
+        assertThat(timestamps(log.read(HybridTimestamp.MIN_VALUE, hybridTimestamp(20), 10)), contains(10L, 20L));
+        assertThat(log.read(hybridTimestamp(30), hybridTimestamp(40), 10), empty());
+    }
+
+    @Test
+    void testReadDoesNotSplitTimestamp() {
+        var log = new PartitionChangeLog();
+
+        log.onCommitted(new RowId(PARTITION_ID), hybridTimestamp(10));
+        log.onCommitted(new RowId(PARTITION_ID), hybridTimestamp(20));
+        log.onCommitted(new RowId(PARTITION_ID), hybridTimestamp(20));
+        log.onCommitted(new RowId(PARTITION_ID), hybridTimestamp(30));
+
+        assertThat(timestamps(log.read(HybridTimestamp.MIN_VALUE, hybridTimestamp(30), 2)), contains(10L, 20L, 20L));
+        assertThat(timestamps(log.read(HybridTimestamp.MIN_VALUE, hybridTimestamp(30), 1)), contains(10L));
+    }
+
+    @Test
+    void testDuplicateIsIgnored() {
+        var log = new PartitionChangeLog();
+
+        var rowId = new RowId(PARTITION_ID);
+
+        log.onCommitted(rowId, hybridTimestamp(10));
+        log.onCommitted(rowId, hybridTimestamp(10));
+
+        assertEquals(1, log.size());
+    }
+
+    @Test
+    void testEviction() {
+        var log = new PartitionChangeLog(2);
+
+        assertEquals(hybridTimestamp(5), log.completeSince(hybridTimestamp(5)));
+
+        log.onCommitted(new RowId(PARTITION_ID), hybridTimestamp(10));
+        log.onCommitted(new RowId(PARTITION_ID), hybridTimestamp(20));
+        log.onCommitted(new RowId(PARTITION_ID), hybridTimestamp(30));
+
+        assertEquals(2, log.size());
+        assertEquals(hybridTimestamp(10), log.completeSince(hybridTimestamp(100)));
+        assertThat(timestamps(log.read(HybridTimestamp.MIN_VALUE, hybridTimestamp(30), 10)), contains(20L, 30L));
+    }
+
+    @Test
+    void testTrimAndReset() {
+        var log = new PartitionChangeLog();
+
+        assertEquals(hybridTimestamp(5), log.completeSince(hybridTimestamp(5)));
+
+        log.onCommitted(new RowId(PARTITION_ID), hybridTimestamp(10));
+        log.onCommitted(new RowId(PARTITION_ID), hybridTimestamp(20));
+
+        log.trim(hybridTimestamp(10));
+
+        assertEquals(1, log.size());
+        assertThat(timestamps(log.read(HybridTimestamp.MIN_VALUE, hybridTimestamp(20), 10)), contains(20L));
+
+        log.reset();
+
+        assertEquals(0, log.size());
+        assertEquals(hybridTimestamp(50), log.completeSince(hybridTimestamp(50)));
+    }
+
+    private static List<Long> timestamps(List<Entry> entries) {
+        return entries.stream().map(entry -> entry.commitTimestamp().longValue()).collect(toList());
+    }
+}
@@ -56,6 +56,7 @@ import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.storage.impl.TestMvTableStorage;
+import org.apache.ignite.internal.table.distributed.StorageUpdateHandler;
 import org.apache.ignite.internal.table.distributed.gc.GcUpdateHandler;
 import org.apache.ignite.internal.table.distributed.gc.MvGc;
 import org.apache.ignite.internal.table.distributed.index.IndexUpdateHandler;
@@ -264,6 +265,7 @@ public class PartitionMvStorageAccessImplTest extends BaseIgniteAbstractTest {
                 mock(MvGc.class),
                 mock(IndexUpdateHandler.class),
                 mock(GcUpdateHandler.class),
+                mock(StorageUpdateHandler.class),
                 mock(FullStateTransferIndexChooser.class),
                 SCHEMA_REGISTRY,
                 mock(LowWatermark.class)
@@ -281,6 +283,7 @@ public class PartitionMvStorageAccessImplTest extends BaseIgniteAbstractTest {
                 mock(MvGc.class),
                 indexUpdateHandler,
                 mock(GcUpdateHandler.class),
+                mock(StorageUpdateHandler.class),
                 fullStateTransferIndexChooser,
                 SCHEMA_REGISTRY,
                 mock(LowWatermark.class)
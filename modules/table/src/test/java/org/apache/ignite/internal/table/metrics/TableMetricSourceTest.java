@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.metrics;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.HistogramMetric;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.table.metrics.TableMetricSource.Operation;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link TableMetricSource}. */
+public class TableMetricSourceTest {
+    @Test
+    void testOperations() {
+        var metricSource = new TableMetricSource(42);
+
+        assertEquals("table.42", metricSource.name());
+
+        MetricSet metricSet = metricSource.enable();
+
+        assertNotNull(metricSet);
+
+        metricSource.onOperation(Operation.GET, 1, MICROSECONDS.toNanos(10));
+        metricSource.onOperation(Operation.GET, 1, MILLISECONDS.toNanos(2));
+        metricSource.onOperation(Operation.PUT_ALL, 3, MICROSECONDS.toNanos(10));
+        metricSource.onOperation(Operation.INSERT, 1, MICROSECONDS.toNanos(10));
+        metricSource.onScan();
+
+        assertEquals(2, metricSet.<LongMetric>get("Gets").value());
+        assertEquals(1, metricSet.<LongMetric>get("PutAlls").value());
+        assertEquals(1, metricSet.<LongMetric>get("Inserts").value());
+        assertEquals(0, metricSet.<LongMetric>get("Puts").value());
+        assertEquals(0, metricSet.<LongMetric>get("Deletes").value());
+        assertEquals(1, metricSet.<LongMetric>get("Scans").value());
+
+        HistogramMetric.Snapshot getTime = metricSet.<HistogramMetric>get("GetTime").snapshot();
+
+        assertEquals(2, getTime.count());
+        assertEquals(2_000, getTime.max());
+
+        long[] putAllBatchSize = metricSet.<DistributionMetric>get("PutAllBatchSize").value();
+
+        assertEquals(1, putAllBatchSize[2]);
+
+        assertNull(metricSet.get("GetBatchSize"));
+    }
+
+    @Test
+    void testDisabled() {
+        var metricSource = new TableMetricSource(42);
+
+        metricSource.onOperation(Operation.DELETE_ALL, 10, 1);
+        metricSource.onScan();
+
+        MetricSet metricSet = metricSource.enable();
+
+        assertEquals(0, metricSet.<LongMetric>get("DeleteAlls").value());
+        assertEquals(0, metricSet.<HistogramMetric>get("DeleteAllTime").snapshot().count());
+    }
+}
@@ -60,6 +60,7 @@ import org.apache.ignite.internal.tx.LockMode;
 import org.apache.ignite.internal.tx.Waiter;
 import org.apache.ignite.internal.tx.event.LockEvent;
 import org.apache.ignite.internal.tx.event.LockEventParameters;
+import org.apache.ignite.internal.tx.metrics.LockManagerMetricSource;
 import org.apache.ignite.internal.util.CollectionUtils;
 import org.apache.ignite.internal.util.IgniteStripedReadWriteLock;
 import org.jetbrains.annotations.Nullable;
@@ -109,6 +110,9 @@ public class HeapLockManager extends AbstractEventProducer<LockEvent, LockEventP
     /** Coarse locks. */
     private final ConcurrentHashMap<Object, CoarseLockState> coarseMap = new ConcurrentHashMap<>();
 
+    /** Metric source. */
+    private final LockManagerMetricSource metricSource = new LockManagerMetricSource(lockTableSize::sum);
+
     /**
      * Creates an instance of {@link HeapLockManager} with a few slots eligible for tests which don't stress the lock manager too much.
      * Such a small instance is started way faster than a full-blown production ready instance with a lot of slots.
@@ -132,6 +136,11 @@ public class HeapLockManager extends AbstractEventProducer<LockEvent, LockEventP
         this.lockMapSize = lockMapSize;
     }
 
+    /** Returns the metric source of the lock manager. */
+    public LockManagerMetricSource metricSource() {
+        return metricSource;
+    }
+
     private static int intProperty(SystemLocalConfiguration systemProperties, String name, int defaultValue) {
         SystemPropertyView property = systemProperties.properties().value().get(name);
 
@@ -556,6 +565,8 @@ public class HeapLockManager extends AbstractEventProducer<LockEvent, LockEventP
 
                             track(txId, this);
 
+                            metricSource.onCoarseLockWait();
+
                             CompletableFuture<Lock> fut = new CompletableFuture<>();
                             IgniteBiTuple<Lock, CompletableFuture<Lock>> prev = slockWaiters.putIfAbsent(txId,
                                     new IgniteBiTuple<>(new Lock(lockKey, lockMode, txId), fut));
@@ -637,6 +648,8 @@ public class HeapLockManager extends AbstractEventProducer<LockEvent, LockEventP
          * @return Failed future.
          */
         CompletableFuture<Lock> notifyAndFail(UUID txId, UUID conflictedHolderId) {
+            metricSource.onCoarseLockConflict();
+
             CompletableFuture<Void> res = fireEvent(LOCK_CONFLICT, new LockEventParameters(txId, allLockHolderTxs()));
             // TODO: https://issues.apache.org/jira/browse/IGNITE-21153
             return failedFuture(coarseLockException(txId, conflictedHolderId, res.isCompletedExceptionally()));
@@ -821,6 +834,8 @@ public class HeapLockManager extends AbstractEventProducer<LockEvent, LockEventP
                     // Put to wait queue, track.
                     if (prev == null) {
                         track(waiter.txId, this);
+
+                        recordWait(waiter);
                     }
 
                     return new IgniteBiTuple<>(waiter.fut, waiter.lockMode());
@@ -872,11 +887,11 @@ public class HeapLockManager extends AbstractEventProducer<LockEvent, LockEventP
 
                 if (mode != null && !mode.isCompatible(intendedLockMode)) {
                     if (conflictFound(waiter.txId())) {
-                        waiter.fail(abandonedLockException(waiter.txId, tmp.txId));
+                        failWaiter(waiter, abandonedLockException(waiter.txId, tmp.txId));
 
                         return true;
                     } else if (!deadlockPreventionPolicy.usePriority() && deadlockPreventionPolicy.waitTimeout() == 0) {
-                        waiter.fail(lockException(waiter.txId, tmp.txId));
+                        failWaiter(waiter, lockException(waiter.txId, tmp.txId));
 
                         return true;
                     }
@@ -893,11 +908,11 @@ public class HeapLockManager extends AbstractEventProducer<LockEvent, LockEventP
                     if (skipFail) {
                         return false;
                     } else if (conflictFound(waiter.txId())) {
-                        waiter.fail(abandonedLockException(waiter.txId, tmp.txId));
+                        failWaiter(waiter, abandonedLockException(waiter.txId, tmp.txId));
 
                         return true;
                     } else if (deadlockPreventionPolicy.waitTimeout() == 0) {
-                        waiter.fail(lockException(waiter.txId, tmp.txId));
+                        failWaiter(waiter, lockException(waiter.txId, tmp.txId));
 
                         return true;
                     } else {
@@ -1034,6 +1049,35 @@ public class HeapLockManager extends AbstractEventProducer<LockEvent, LockEventP
             return toNotify;
         }
 
+        /**
+         * Fails the waiter because of a conflict with other transactions.
+         *
+         * @param waiter Waiter.
+         * @param e Lock exception.
+         */
+        private void failWaiter(WaiterImpl waiter, LockException e) {
+            waiter.fail(e);
+
+            metricSource.onLockConflict();
+        }
+
+        /**
+         * Records a waiter that has been put to the wait queue, and the time it waits, if metrics are enabled.
+         *
+         * @param waiter Waiter.
+         */
+        private void recordWait(WaiterImpl waiter) {
+            if (!metricSource.enabled()) {
+                return;
+            }
+
+            metricSource.onLockWait(waiters.size());
+
+            long waitStart = System.nanoTime();
+
+            waiter.fut.whenComplete((res, err) -> metricSource.onLockWaitFinished(System.nanoTime() - waitStart));
+        }
+
         /**
          * Makes the waiter fail after specified timeout (in milliseconds), if intended lock was not acquired within this timeout.
          *
@@ -1042,9 +1086,13 @@ public class HeapLockManager extends AbstractEventProducer<LockEvent, LockEventP
         private void setWaiterTimeout(WaiterImpl waiter) {
             delayedExecutor.execute(() -> {
                 if (!waiter.fut.isDone()) {
-                    waiter.fut.completeExceptionally(new LockException(ACQUIRE_LOCK_TIMEOUT_ERR, "Failed to acquire a lock due to "
-                            + "timeout [txId=" + waiter.txId() + ", waiter=" + waiter
+                    boolean timedOut = waiter.fut.completeExceptionally(new LockException(ACQUIRE_LOCK_TIMEOUT_ERR,
+                            "Failed to acquire a lock due to timeout [txId=" + waiter.txId() + ", waiter=" + waiter
                             + ", timeout=" + deadlockPreventionPolicy.waitTimeout() + ']'));
+
+                    if (timedOut) {
+                        metricSource.onLockWaitTimeout();
+                    }
                 }
             });
         }
@@ -147,7 +147,7 @@ public class ReadOnlyTransactionImpl extends IgniteAbstractTransactionImpl {
 
         txFuture.complete(null);
 
-        ((TxManagerImpl) txManager).completeReadOnlyTransactionFuture(new TxIdAndTimestamp(readTimestamp, id()), timeoutExceeded);
+        ((TxManagerImpl) txManager).completeReadOnlyTransactionFuture(commit, new TxIdAndTimestamp(readTimestamp, id()), timeoutExceeded);
 
         this.timeoutExceeded = timeoutExceeded;
 
@@ -225,7 +225,7 @@ public class TxCleanupRequestHandler {
             return;
         }
 
-        Object result = response.result();
+        Object result = response.resultValue();
 
         assert (result instanceof WriteIntentSwitchReplicatedInfo) :
                 "Unexpected type of cleanup replication response: [result=" + result + "].";
@@ -23,6 +23,7 @@ import static java.util.concurrent.CompletableFuture.failedFuture;
 import static java.util.concurrent.CompletableFuture.runAsync;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
 import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
@@ -100,6 +101,7 @@ import org.apache.ignite.internal.replicator.message.ReplicaResponse;
 import org.apache.ignite.internal.systemview.api.SystemView;
 import org.apache.ignite.internal.systemview.api.SystemViewProvider;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
+import org.apache.ignite.internal.tx.IncompatibleSchemaAbortException;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.tx.InternalTxOptions;
 import org.apache.ignite.internal.tx.LocalRwTxCounter;
@@ -117,6 +119,7 @@ import org.apache.ignite.internal.tx.configuration.TransactionConfiguration;
 import org.apache.ignite.internal.tx.impl.DeadlockPreventionPolicyImpl.TxIdComparators;
 import org.apache.ignite.internal.tx.impl.TransactionInflights.ReadWriteTxContext;
 import org.apache.ignite.internal.tx.message.WriteIntentSwitchReplicatedInfo;
+import org.apache.ignite.internal.tx.metrics.TransactionMetricSource;
 import org.apache.ignite.internal.tx.views.LocksViewProvider;
 import org.apache.ignite.internal.tx.views.TransactionsViewProvider;
 import org.apache.ignite.internal.util.CompletableFutures;
@@ -251,6 +254,8 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler, SystemVi
 
     private volatile int lockRetryCount = 0;
 
+    private final TransactionMetricSource metricSource = new TransactionMetricSource();
+
     /**
      * Test-only constructor.
      *
@@ -606,8 +611,13 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler, SystemVi
             timestampTracker.update(ts);
 
             finalState = COMMITTED;
+
+            // A one-phase transaction is committed by the only request it sends, so the commit takes the whole transaction lifetime.
+            metricSource.onReadWriteCommit(Math.max(0, clockService.current().getPhysical() - beginTimestamp(txId).getPhysical()));
         } else {
             finalState = ABORTED;
+
+            metricSource.onReadWriteRollback(timeoutExceeded);
         }
 
         updateTxMeta(txId, old ->
@@ -662,6 +672,7 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler, SystemVi
 
             decrementRwTxCount(txId);
 
+            // Transactions that enlisted nothing are not recorded to the metrics, since they are finished without any requests.
             return nullCompletedFuture();
         }
 
@@ -696,6 +707,8 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler, SystemVi
 
         ReadWriteTxContext txContext = transactionInflights.lockTxForNewUpdates(txId, enlistedGroups);
 
+        long finishStart = System.nanoTime();
+
         // Wait for commit acks first, then proceed with the finish request.
         return txContext.performFinish(commitIntent, commit ->
                 prepareFinish(
@@ -710,7 +723,44 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler, SystemVi
             if (localNodeId.equals(finishingStateMeta.txCoordinatorId())) {
                 decrementRwTxCount(txId);
             }
-        }).whenComplete((unused, throwable) -> transactionInflights.removeTxContext(txId));
+        }).whenComplete((unused, throwable) -> {
+            transactionInflights.removeTxContext(txId);
+
+            recordFinish(commitIntent, timeout, finishStart, throwable);
+        });
+    }
+
+    /**
+     * Records the outcome of a read-write transaction finish to the metrics.
+     *
+     * @param commitIntent Whether the transaction was requested to commit.
+     * @param timeout Whether the transaction is rolled back because its timeout was exceeded.
+     * @param finishStart Time the finish was started at, see {@link System#nanoTime()}.
+     * @param throwable Finish error, if any.
+     */
+    private void recordFinish(boolean commitIntent, boolean timeout, long finishStart, @Nullable Throwable throwable) {
+        if (throwable == null) {
+            if (commitIntent) {
+                metricSource.onReadWriteCommit(NANOSECONDS.toMillis(System.nanoTime() - finishStart));
+            } else {
+                metricSource.onReadWriteRollback(timeout);
+            }
+        } else {
+            Throwable cause = ExceptionUtils.unwrapCause(throwable);
+
+            if (cause instanceof IncompatibleSchemaAbortException) {
+                metricSource.onSchemaMismatchAbort();
+            } else if (commitIntent) {
+                metricSource.onOtherAbort();
+            } else {
+                metricSource.onReadWriteRollback(timeout);
+            }
+        }
+    }
+
+    /** Returns the metric source of the transaction manager. */
+    public TransactionMetricSource metricSource() {
+        return metricSource;
     }
 
     private void assertReplicationGroupType(ReplicationGroupId replicationGroupId) {
@@ -1126,9 +1176,11 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler, SystemVi
         return runAsync(runnable, writeIntentSwitchPool);
     }
 
-    void completeReadOnlyTransactionFuture(TxIdAndTimestamp txIdAndTimestamp, boolean timeoutExceeded) {
+    void completeReadOnlyTransactionFuture(boolean commit, TxIdAndTimestamp txIdAndTimestamp, boolean timeoutExceeded) {
         finishedTxs.add(1);
 
+        metricSource.onReadOnlyFinish(commit, timeoutExceeded);
+
         UUID txId = txIdAndTimestamp.getTxId();
 
         transactionInflights.markReadOnlyTxFinished(txId, timeoutExceeded);
@@ -1148,7 +1200,7 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler, SystemVi
         // Process directly sent response.
         ReplicaResponse response = (ReplicaResponse) message;
 
-        Object result = response.result();
+        Object result = response.resultValue();
 
         if (result instanceof UUID) {
             transactionInflights.removeInflight((UUID) result);
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.metrics;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.HistogramMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.LongGauge;
+import org.apache.ignite.internal.metrics.Metric;
+
+/** Metric source, which provides metrics of the lock manager. */
+public class LockManagerMetricSource extends AbstractMetricSource<LockManagerMetricSource.Holder> {
+    public static final String NAME = "lock.manager";
+
+    /** Bounds of the waiters queue depth histogram. */
+    private static final long[] QUEUE_DEPTH_BOUNDS = {1, 2, 4, 8, 16, 32, 64, 128};
+
+    private final LongSupplier lockTableSizeSupplier;
+
+    /**
+     * Constructor.
+     *
+     * @param lockTableSizeSupplier Supplier of the current number of keys in the lock table.
+     */
+    public LockManagerMetricSource(LongSupplier lockTableSizeSupplier) {
+        super(NAME);
+
+        this.lockTableSizeSupplier = Objects.requireNonNull(lockTableSizeSupplier);
+    }
+
+    /**
+     * Records a lock request that has to wait for other transactions.
+     *
+     * @param queueDepth Number of waiters of the key, including the new one.
+     */
+    public void onLockWait(int queueDepth) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.lockWaits.increment();
+            h.waitersQueueDepth.add(queueDepth);
+        }
+    }
+
+    /**
+     * Records the end of a wait for a lock, whether the lock was acquired or not.
+     *
+     * @param durationNanos Wait time.
+     */
+    public void onLockWaitFinished(long durationNanos) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.lockWaitTime.add(durationNanos / 1_000);
+        }
+    }
+
+    /** Records a lock request that was denied because of a conflict with other transactions. */
+    public void onLockConflict() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.lockConflicts.increment();
+        }
+    }
+
+    /** Records a lock request that failed because its wait timeout was exceeded. */
+    public void onLockWaitTimeout() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.lockWaitTimeouts.increment();
+        }
+    }
+
+    /** Records a coarse lock request that has to wait for other transactions. */
+    public void onCoarseLockWait() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.coarseLockWaits.increment();
+        }
+    }
+
+    /** Records a coarse lock request that was denied because of a conflict with other transactions. */
+    public void onCoarseLockConflict() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.coarseLockConflicts.increment();
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder. */
+    protected class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final LongGauge lockTableSize = new LongGauge(
+                "LockTableSize",
+                "Number of keys in the lock table",
+                lockTableSizeSupplier
+        );
+
+        private final LongAdderMetric lockWaits = new LongAdderMetric(
+                "LockWaits",
+                "Number of lock requests that had to wait for other transactions"
+        );
+
+        private final HistogramMetric lockWaitTime = new HistogramMetric(
+                "LockWaitTime",
+                "Histogram of the time lock requests wait for other transactions in microseconds"
+        );
+
+        private final DistributionMetric waitersQueueDepth = new DistributionMetric(
+                "WaitersQueueDepth",
+                "Histogram of the number of waiters of a key observed by lock requests that had to wait",
+                QUEUE_DEPTH_BOUNDS
+        );
+
+        private final LongAdderMetric lockConflicts = new LongAdderMetric(
+                "LockConflicts",
+                "Number of lock requests denied because of a conflict with other transactions"
+        );
+
+        private final LongAdderMetric lockWaitTimeouts = new LongAdderMetric(
+                "LockWaitTimeouts",
+                "Number of lock requests failed because the wait timeout was exceeded"
+        );
+
+        private final LongAdderMetric coarseLockWaits = new LongAdderMetric(
+                "CoarseLockWaits",
+                "Number of coarse lock requests that had to wait for other transactions"
+        );
+
+        private final LongAdderMetric coarseLockConflicts = new LongAdderMetric(
+                "CoarseLockConflicts",
+                "Number of coarse lock requests denied because of a conflict with other transactions"
+        );
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return List.of(
+                    lockTableSize,
+                    lockWaits,
+                    lockWaitTime,
+                    waitersQueueDepth,
+                    lockConflicts,
+                    lockWaitTimeouts,
+                    coarseLockWaits,
+                    coarseLockConflicts
+            );
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.metrics;
+
+import java.util.List;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.HistogramMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.Metric;
+
+/**
+ * Metric source, which provides metrics of transactions coordinated by the local node.
+ *
+ * <p>Counters are cumulative, exporters derive per-second rates from them.
+ */
+public class TransactionMetricSource extends AbstractMetricSource<TransactionMetricSource.Holder> {
+    public static final String NAME = "transactions";
+
+    /** Constructor. */
+    public TransactionMetricSource() {
+        super(NAME);
+    }
+
+    /**
+     * Records a committed read-write transaction.
+     *
+     * @param durationMillis Time the commit took.
+     */
+    public void onReadWriteCommit(long durationMillis) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.rwCommits.increment();
+            h.rwCommitTime.add(durationMillis);
+        }
+    }
+
+    /**
+     * Records a rolled back read-write transaction.
+     *
+     * @param timeoutExceeded Whether the transaction was rolled back because its timeout was exceeded.
+     */
+    public void onReadWriteRollback(boolean timeoutExceeded) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.rwRollbacks.increment();
+
+            if (timeoutExceeded) {
+                h.timeoutAborts.increment();
+            }
+        }
+    }
+
+    /** Records a read-write transaction that was aborted on commit because of incompatible schema changes. */
+    public void onSchemaMismatchAbort() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.rwRollbacks.increment();
+            h.schemaMismatchAborts.increment();
+        }
+    }
+
+    /** Records a read-write transaction that was requested to commit, but was aborted for a reason other than a schema change. */
+    public void onOtherAbort() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.rwRollbacks.increment();
+            h.otherAborts.increment();
+        }
+    }
+
+    /**
+     * Records a finished read-only transaction.
+     *
+     * @param commit Whether the transaction was committed.
+     * @param timeoutExceeded Whether the transaction was rolled back because its timeout was exceeded.
+     */
+    public void onReadOnlyFinish(boolean commit, boolean timeoutExceeded) {
+        Holder h = holder();
+
+        if (h != null) {
+            if (commit) {
+                h.roCommits.increment();
+            } else {
+                h.roRollbacks.increment();
+
+                if (timeoutExceeded) {
+                    h.timeoutAborts.increment();
+                }
+            }
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder. */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final LongAdderMetric rwCommits = new LongAdderMetric("RwCommits", "Number of committed read-write transactions");
+
+        private final LongAdderMetric rwRollbacks = new LongAdderMetric("RwRollbacks", "Number of rolled back read-write transactions");
+
+        private final LongAdderMetric roCommits = new LongAdderMetric("RoCommits", "Number of committed read-only transactions");
+
+        private final LongAdderMetric roRollbacks = new LongAdderMetric("RoRollbacks", "Number of rolled back read-only transactions");
+
+        private final HistogramMetric rwCommitTime = new HistogramMetric(
+                "RwCommitTime",
+                "Histogram of the time it takes to commit a read-write transaction in milliseconds"
+        );
+
+        private final LongAdderMetric timeoutAborts = new LongAdderMetric(
+                "TimeoutAborts",
+                "Number of transactions rolled back because their timeout was exceeded"
+        );
+
+        private final LongAdderMetric schemaMismatchAborts = new LongAdderMetric(
+                "SchemaMismatchAborts",
+                "Number of read-write transactions aborted on commit because of incompatible schema changes"
+        );
+
+        private final LongAdderMetric otherAborts = new LongAdderMetric(
+                "OtherAborts",
+                "Number of read-write transactions aborted on commit for other reasons, e.g. a conflict with another transaction or "
+                        + "an unavailable replica"
+        );
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return List.of(
+                    rwCommits,
+                    rwRollbacks,
+                    roCommits,
+                    roRollbacks,
+                    rwCommitTime,
+                    timeoutAborts,
+                    schemaMismatchAborts,
+                    otherAborts
+            );
+        }
+    }
+}
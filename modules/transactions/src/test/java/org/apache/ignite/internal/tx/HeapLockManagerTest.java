@@ -24,6 +24,7 @@ import static org.apache.ignite.internal.tx.impl.HeapLockManager.LOCK_MAP_SIZE_P
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.UUID;
@@ -31,6 +32,9 @@ import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.configuration.SystemLocalConfiguration;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.configuration.utils.SystemConfigurationPropertyCompatibilityChecker;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.LongGauge;
+import org.apache.ignite.internal.metrics.MetricSet;
 import org.apache.ignite.internal.tx.impl.HeapLockManager;
 import org.apache.ignite.internal.tx.impl.WaitDieDeadlockPreventionPolicy;
 import org.apache.ignite.internal.tx.test.TestTransactionIds;
@@ -117,6 +121,41 @@ public class HeapLockManagerTest extends AbstractLockManagerTest {
         assertTrue(lockManager.isEmpty());
     }
 
+    @Test
+    public void testMetrics() {
+        HeapLockManager lockManager = new HeapLockManager(16);
+        lockManager.start(new WaitDieDeadlockPreventionPolicy());
+
+        MetricSet metrics = lockManager.metricSource().enable();
+
+        UUID olderTx = TestTransactionIds.newTransactionId();
+        UUID youngerTx = TestTransactionIds.newTransactionId();
+
+        LockKey key = new LockKey(0, "test");
+
+        assertThat(lockManager.acquire(youngerTx, key, LockMode.X), willCompleteSuccessfully());
+        assertThat(metrics.<LongGauge>get("LockTableSize").value(), is(1L));
+
+        // Older transaction waits for the younger one.
+        CompletableFuture<Lock> waitFut = lockManager.acquire(olderTx, key, LockMode.X);
+
+        assertFalse(waitFut.isDone());
+        assertThat(metrics.<LongAdderMetric>get("LockWaits").value(), is(1L));
+
+        lockManager.releaseAll(youngerTx);
+
+        assertThat(waitFut, willCompleteSuccessfully());
+
+        // Younger transaction is not allowed to wait for the older one.
+        assertThat(lockManager.acquire(youngerTx, key, LockMode.X), willThrowWithCauseOrSuppressed(LockException.class));
+        assertThat(metrics.<LongAdderMetric>get("LockConflicts").value(), is(1L));
+
+        lockManager.releaseAll(olderTx);
+        lockManager.releaseAll(youngerTx);
+
+        assertThat(metrics.<LongGauge>get("LockTableSize").value(), is(0L));
+    }
+
     @Test
     public void testDefaultConfiguration() {
         assertThat(((HeapLockManager) lockManager).available(), is(DEFAULT_SLOTS));
@@ -77,6 +77,9 @@ import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.lang.IgniteSystemProperties;
 import org.apache.ignite.internal.lowwatermark.TestLowWatermark;
 import org.apache.ignite.internal.manager.ComponentContext;
+import org.apache.ignite.internal.metrics.HistogramMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
 import org.apache.ignite.internal.network.ClusterNodeImpl;
 import org.apache.ignite.internal.network.ClusterService;
 import org.apache.ignite.internal.placementdriver.PlacementDriver;
@@ -559,6 +562,46 @@ public class TxManagerTest extends IgniteAbstractTest {
         assertRollbackSucceeds();
     }
 
+    @Test
+    public void testFinishMetrics() {
+        MetricSet metrics = ((TxManagerImpl) txManager).metricSource().enable();
+
+        // Transactions that enlisted nothing are not recorded.
+        txManager.beginExplicitRw(hybridTimestampTracker, InternalTxOptions.defaults()).commit();
+
+        assertThat(metrics.<LongAdderMetric>get("RwCommits").value(), is(0L));
+        assertThat(metrics.<HistogramMetric>get("RwCommitTime").snapshot().count(), is(0L));
+
+        when(placementDriver.getPrimaryReplica(any(), any())).thenReturn(completedFuture(
+                new TestReplicaMetaImpl(LOCAL_NODE, hybridTimestamp(1), HybridTimestamp.MAX_VALUE)));
+        when(placementDriver.awaitPrimaryReplica(any(), any(), anyLong(), any())).thenReturn(completedFuture(
+                new TestReplicaMetaImpl(LOCAL_NODE, hybridTimestamp(1), HybridTimestamp.MAX_VALUE)));
+
+        when(replicaService.invoke(anyString(), any(TxFinishReplicaRequest.class)))
+                .thenReturn(completedFuture(new TransactionResult(TxState.COMMITTED, clockService.now())));
+
+        prepareTransaction().commit();
+
+        // One-phase commit.
+        InternalTransaction implicitTx = txManager.beginImplicitRw(hybridTimestampTracker);
+        txManager.finishFull(hybridTimestampTracker, implicitTx.id(), clockService.now(), true, false);
+
+        assertThat(metrics.<LongAdderMetric>get("RwCommits").value(), is(2L));
+        assertThat(metrics.<HistogramMetric>get("RwCommitTime").snapshot().count(), is(2L));
+
+        when(replicaService.invoke(anyString(), any(TxFinishReplicaRequest.class)))
+                .thenReturn(failedFuture(new MismatchingTransactionOutcomeInternalException(
+                        "Test exception",
+                        new TransactionResult(TxState.ABORTED, null)
+                )));
+
+        assertThrows(TransactionException.class, prepareTransaction()::commit);
+
+        assertThat(metrics.<LongAdderMetric>get("RwCommits").value(), is(2L));
+        assertThat(metrics.<LongAdderMetric>get("RwRollbacks").value(), is(1L));
+        assertThat(metrics.<LongAdderMetric>get("OtherAborts").value(), is(1L));
+    }
+
     @Test
     public void testPrimaryMissOnFirstCall() {
         // First call to the commit partition primary fails with PrimaryReplicaMissException,
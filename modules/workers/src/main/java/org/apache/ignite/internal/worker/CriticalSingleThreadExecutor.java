@@ -22,14 +22,14 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.thread.InstrumentedThreadPoolExecutor;
 
 /**
  * Single thread executor instrumented to be used as a {@link CriticalWorker} and being monitored by the {@link CriticalWorkerWatchdog}.
  * Must be registered with the watchdog explicitly.
  */
-public class CriticalSingleThreadExecutor extends ThreadPoolExecutor implements CriticalWorker {
+public class CriticalSingleThreadExecutor extends InstrumentedThreadPoolExecutor implements CriticalWorker {
 
     private volatile Thread lastSeenThread;
     private volatile long heartbeatNanos = NOT_MONITORED;
@@ -23,7 +23,6 @@ import static java.util.stream.Collectors.toUnmodifiableList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import org.apache.ignite.internal.thread.AbstractStripedThreadPoolExecutor;
@@ -33,7 +32,8 @@ import org.apache.ignite.internal.thread.StripedThreadPoolExecutor;
 /**
  * Same as {@link StripedThreadPoolExecutor}, but each stripe is a critical worker monitored for being blocked.
  */
-public class CriticalStripedThreadPoolExecutor extends AbstractStripedThreadPoolExecutor<ExecutorService> implements StripedExecutor {
+public class CriticalStripedThreadPoolExecutor extends AbstractStripedThreadPoolExecutor<CriticalSingleThreadExecutor>
+        implements StripedExecutor {
     private final List<CriticalWorker> workers;
 
     /**